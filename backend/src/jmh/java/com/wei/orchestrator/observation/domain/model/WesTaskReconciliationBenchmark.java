@@ -0,0 +1,167 @@
+package com.wei.orchestrator.observation.domain.model;
+
+import com.wei.orchestrator.observation.domain.event.WesTaskDiscoveredEvent;
+import com.wei.orchestrator.observation.domain.event.WesTaskStatusUpdatedEvent;
+import com.wei.orchestrator.observation.domain.model.valueobject.PollingInterval;
+import com.wei.orchestrator.observation.domain.model.valueobject.TaskEndpoint;
+import com.wei.orchestrator.wes.domain.model.PickingTask;
+import com.wei.orchestrator.wes.domain.model.valueobject.TaskStatus;
+import com.wei.orchestrator.wes.domain.model.valueobject.WesTaskChanges;
+import com.wei.orchestrator.wes.domain.model.valueobject.WesTaskId;
+import com.wei.orchestrator.wes.domain.port.WesPort;
+import com.wei.orchestrator.wes.infrastructure.adapter.dto.WesInventoryDto;
+import com.wei.orchestrator.wes.infrastructure.adapter.dto.WesTaskDto;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class WesTaskReconciliationBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int taskCount;
+
+    private List<PickingTask> allPickingTasks;
+    private WesPort wesPort;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        allPickingTasks = new ArrayList<>(taskCount);
+        List<WesTaskDto> externalWesTasks = new ArrayList<>(taskCount);
+
+        for (int i = 0; i < taskCount; i++) {
+            String wesTaskId = "WES-TASK-" + i;
+
+            if (i % 10 != 0) {
+                PickingTask pickingTask = new PickingTask();
+                pickingTask.setTaskId("TASK-" + i);
+                pickingTask.setWesTaskId(WesTaskId.of(wesTaskId));
+                pickingTask.setStatus(TaskStatus.IN_PROGRESS);
+                allPickingTasks.add(pickingTask);
+            }
+
+            WesTaskDto externalWesTask = new WesTaskDto();
+            externalWesTask.setTaskId(wesTaskId);
+            externalWesTask.setTaskType("PICKING");
+            externalWesTask.setOrderId("ORDER-" + i);
+            externalWesTask.setWarehouseId("WH001");
+            externalWesTask.setPriority(5);
+            externalWesTask.setStatus(i % 2 == 0 ? "COMPLETED" : "IN_PROGRESS");
+            externalWesTasks.add(externalWesTask);
+        }
+
+        wesPort = new FixedWesPort(externalWesTasks);
+    }
+
+    @Benchmark
+    public List<Object> hashIndexReconciliation() {
+        WesObserver wesObserver =
+                new WesObserver(
+                        "observer-bench",
+                        new TaskEndpoint("http://localhost:8080/api", "token"),
+                        new PollingInterval(60));
+        wesObserver.pollWesTaskStatus(wesPort, allPickingTasks);
+        return wesObserver.getDomainEvents();
+    }
+
+    @Benchmark
+    public List<Object> linearScanReconciliation() {
+        List<Object> domainEvents = new ArrayList<>();
+        List<WesTaskDto> externalWesTasks = wesPort.pollAllTasks();
+        List<String> existingWesTaskIds =
+                allPickingTasks.stream()
+                        .map(PickingTask::getWesTaskId)
+                        .map(WesTaskId::getValue)
+                        .toList();
+
+        for (WesTaskDto externalWesTask : externalWesTasks) {
+            String wesTaskId = externalWesTask.getTaskId();
+
+            if (!existingWesTaskIds.contains(wesTaskId)) {
+                domainEvents.add(new WesTaskDiscoveredEvent(externalWesTask));
+            } else {
+                PickingTask currentTask =
+                        allPickingTasks.stream()
+                                .filter(p -> p.getWesTaskId().getValue().equals(wesTaskId))
+                                .findFirst()
+                                .orElseThrow(
+                                        () -> new RuntimeException("Can not find by wes task id"));
+                TaskStatus currentStatus = currentTask.getStatus();
+                TaskStatus newStatus = TaskStatus.valueOf(externalWesTask.getStatus());
+
+                if (currentStatus != null && !currentStatus.equals(newStatus)) {
+                    domainEvents.add(
+                            new WesTaskStatusUpdatedEvent(currentTask.getTaskId(), newStatus));
+                }
+            }
+        }
+
+        return domainEvents;
+    }
+
+    private static class FixedWesPort implements WesPort {
+        private final List<WesTaskDto> tasks;
+
+        private FixedWesPort(List<WesTaskDto> tasks) {
+            this.tasks = tasks;
+        }
+
+        @Override
+        public List<WesTaskDto> pollAllTasks() {
+            return tasks;
+        }
+
+        @Override
+        public WesTaskChanges pollTaskChanges(String sinceCursor) {
+            return WesTaskChanges.fullSnapshot(tasks, null);
+        }
+
+        @Override
+        public WesTaskId submitPickingTask(PickingTask task) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Optional<TaskStatus> getTaskStatus(WesTaskId wesTaskId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void updateTaskPriority(WesTaskId wesTaskId, int priority) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void cancelTask(WesTaskId wesTaskId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<WesInventoryDto> getInventorySnapshot() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<WesInventoryDto> getInventoryBySku(String sku, String warehouseId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void streamInventorySnapshot(Consumer<WesInventoryDto> consumer) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
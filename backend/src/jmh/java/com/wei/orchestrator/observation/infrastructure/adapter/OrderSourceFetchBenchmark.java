@@ -0,0 +1,211 @@
+package com.wei.orchestrator.observation.infrastructure.adapter;
+
+import com.wei.orchestrator.observation.domain.model.valueobject.ObservationResult;
+import com.wei.orchestrator.observation.domain.model.valueobject.ObservedOrderItem;
+import com.wei.orchestrator.observation.domain.model.valueobject.SourceEndpoint;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OrderSourceFetchBenchmark {
+
+    @Param({"1", "10", "50"})
+    public int pendingOrders;
+
+    @Param({"3"})
+    public int itemsPerOrder;
+
+    private OrderSourceDataSourceRegistry registry;
+    private ExternalOrderSourceAdapter adapter;
+    private SourceEndpoint sourceEndpoint;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        registry = new OrderSourceDataSourceRegistry(4, 1, 5000, 60000, 1800000, 1000);
+        adapter = new ExternalOrderSourceAdapter(registry);
+        sourceEndpoint =
+                new SourceEndpoint(
+                        "jdbc:h2:mem:order-source-bench-"
+                                + UUID.randomUUID()
+                                + ";MODE=Oracle;DB_CLOSE_DELAY=-1",
+                        "sa",
+                        "");
+
+        try (Connection connection = registry.getDataSource(sourceEndpoint).getConnection()) {
+            createSchema(connection);
+            seedOrders(connection);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        registry.shutdown();
+    }
+
+    @Benchmark
+    public List<ObservationResult> singleQueryFetch() {
+        return adapter.fetchNewOrders(sourceEndpoint, null, 50).getOrders();
+    }
+
+    @Benchmark
+    public List<ObservationResult> perOrderItemFetch() throws SQLException {
+        List<ObservationResult> results = new ArrayList<>();
+
+        try (Connection connection = registry.getDataSource(sourceEndpoint).getConnection();
+                PreparedStatement statement =
+                        connection.prepareStatement(
+                                """
+                                SELECT order_id, customer_name, customer_email, shipping_address,
+                                       order_type, warehouse_id, status, scheduled_pickup_time,
+                                       created_at
+                                FROM orders
+                                WHERE status = 'NEW'
+                                ORDER BY created_at ASC
+                                FETCH FIRST 50 ROWS ONLY
+                                """);
+                ResultSet resultSet = statement.executeQuery()) {
+
+            while (resultSet.next()) {
+                String orderId = resultSet.getString("order_id");
+                List<ObservedOrderItem> items = fetchOrderItems(connection, orderId);
+                if (!items.isEmpty()) {
+                    Timestamp scheduledPickupTime = resultSet.getTimestamp("scheduled_pickup_time");
+                    results.add(
+                            new ObservationResult(
+                                    orderId,
+                                    resultSet.getString("customer_name"),
+                                    resultSet.getString("customer_email"),
+                                    resultSet.getString("shipping_address"),
+                                    resultSet.getString("order_type"),
+                                    resultSet.getString("warehouse_id"),
+                                    resultSet.getString("status"),
+                                    scheduledPickupTime != null
+                                            ? scheduledPickupTime.toLocalDateTime()
+                                            : null,
+                                    items,
+                                    resultSet.getTimestamp("created_at").toLocalDateTime()));
+                }
+            }
+        }
+
+        return results;
+    }
+
+    private List<ObservedOrderItem> fetchOrderItems(Connection connection, String orderId)
+            throws SQLException {
+        List<ObservedOrderItem> items = new ArrayList<>();
+
+        try (PreparedStatement statement =
+                connection.prepareStatement(
+                        """
+                        SELECT sku, product_name, quantity, price
+                        FROM order_items
+                        WHERE order_id = ?
+                        ORDER BY created_at
+                        """)) {
+            statement.setString(1, orderId);
+
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    items.add(
+                            new ObservedOrderItem(
+                                    resultSet.getString("sku"),
+                                    resultSet.getString("product_name"),
+                                    resultSet.getInt("quantity"),
+                                    resultSet.getBigDecimal("price")));
+                }
+            }
+        }
+
+        return items;
+    }
+
+    private void createSchema(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(
+                    """
+                    CREATE TABLE orders (
+                        order_id VARCHAR(36) PRIMARY KEY,
+                        customer_name VARCHAR(255) NOT NULL,
+                        customer_email VARCHAR(255),
+                        shipping_address VARCHAR(500),
+                        order_type VARCHAR(50),
+                        warehouse_id VARCHAR(50),
+                        status VARCHAR(50),
+                        scheduled_pickup_time TIMESTAMP,
+                        created_at TIMESTAMP,
+                        updated_at TIMESTAMP
+                    )
+                    """);
+            statement.execute(
+                    """
+                    CREATE TABLE order_items (
+                        order_item_id VARCHAR(36) PRIMARY KEY,
+                        order_id VARCHAR(36) NOT NULL,
+                        sku VARCHAR(100) NOT NULL,
+                        product_name VARCHAR(255) NOT NULL,
+                        quantity NUMBER(10) NOT NULL,
+                        price NUMBER(10,2),
+                        created_at TIMESTAMP
+                    )
+                    """);
+            statement.execute("CREATE INDEX idx_orders_created_at ON orders(created_at)");
+            statement.execute("CREATE INDEX idx_order_items_order_id ON order_items(order_id)");
+        }
+    }
+
+    private void seedOrders(Connection connection) throws SQLException {
+        LocalDateTime baseTime = LocalDateTime.of(2025, 1, 1, 8, 0);
+
+        try (PreparedStatement orderStatement =
+                        connection.prepareStatement(
+                                "INSERT INTO orders (order_id, customer_name, customer_email,"
+                                        + " shipping_address, order_type, warehouse_id, status,"
+                                        + " created_at) VALUES (?, 'Customer', 'c@example.com',"
+                                        + " 'Address', 'TYPE_A', 'WH001', 'NEW', ?)");
+                PreparedStatement itemStatement =
+                        connection.prepareStatement(
+                                "INSERT INTO order_items (order_item_id, order_id, sku,"
+                                        + " product_name, quantity, price, created_at) VALUES (?,"
+                                        + " ?, ?, 'Product', 1, 10.00, ?)")) {
+
+            for (int i = 0; i < pendingOrders; i++) {
+                String orderId = "order-" + i;
+                Timestamp createdAt = Timestamp.valueOf(baseTime.plusSeconds(i));
+
+                orderStatement.setString(1, orderId);
+                orderStatement.setTimestamp(2, createdAt);
+                orderStatement.executeUpdate();
+
+                for (int j = 0; j < itemsPerOrder; j++) {
+                    itemStatement.setString(1, UUID.randomUUID().toString());
+                    itemStatement.setString(2, orderId);
+                    itemStatement.setString(3, "SKU-" + j);
+                    itemStatement.setTimestamp(4, createdAt);
+                    itemStatement.executeUpdate();
+                }
+            }
+        }
+    }
+}
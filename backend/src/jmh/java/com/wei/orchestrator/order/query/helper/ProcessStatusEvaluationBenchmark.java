@@ -0,0 +1,181 @@
+package com.wei.orchestrator.order.query.helper;
+
+import com.wei.orchestrator.order.query.dto.OrderProcessStatusDto;
+import com.wei.orchestrator.shared.infrastructure.persistence.AuditRecordEntity;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProcessStatusEvaluationBenchmark {
+
+    private static final String[] EVENT_NAMES = {
+        "OrderScheduledEvent",
+        "OrderReadyForFulfillmentEvent",
+        "InventoryReservedEvent",
+        "ReservationFailedEvent",
+        "OrderReservedEvent",
+        "PickingTaskCreatedEvent",
+        "PickingTaskFailedEvent",
+        "WesTaskStatusUpdatedEvent",
+        "PickingTaskCompletedEvent",
+        "PickingTaskCanceledEvent",
+        "ReservationConsumedEvent",
+        "OrderCreatedEvent"
+    };
+
+    @Param({"10", "1000", "100000"})
+    public int recordsPerOrder;
+
+    private List<AuditRecordEntity> records;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        LocalDateTime baseTime = LocalDateTime.of(2025, 1, 1, 8, 0);
+        records = new ArrayList<>(recordsPerOrder);
+        for (int i = 0; i < recordsPerOrder; i++) {
+            AuditRecordEntity record = new AuditRecordEntity();
+            record.setRecordId("RECORD-" + i);
+            record.setEventName(EVENT_NAMES[random.nextInt(EVENT_NAMES.length)]);
+            record.setEventTimestamp(baseTime.plusSeconds(random.nextInt(86400)));
+            records.add(record);
+        }
+    }
+
+    @Benchmark
+    public List<OrderProcessStatusDto.ProcessStepDto> compiledSinglePass() {
+        return ProcessStepEngine.toStepDtos(ProcessStepEngine.evaluate(records));
+    }
+
+    @Benchmark
+    public List<OrderProcessStatusDto.ProcessStepDto> perStepMatchers() {
+        List<OrderProcessStatusDto.ProcessStepDto> steps = new ArrayList<>();
+        for (ProcessStep step : ProcessStep.values()) {
+            steps.add(step.createStepDto(step.filterEvents(records)));
+        }
+        return steps;
+    }
+
+    @Benchmark
+    public List<OrderProcessStatusDto.ProcessStepDto> legacyStreamScan() {
+        List<OrderProcessStatusDto.ProcessStepDto> steps = new ArrayList<>();
+        steps.add(legacySingle(1, "Order Scheduled", "OrderScheduledEvent"));
+        steps.add(legacySingle(2, "Fulfillment Started", "OrderReadyForFulfillmentEvent"));
+        steps.add(
+                legacySuccessOrFailure(
+                        3,
+                        "Inventory Reserved",
+                        "InventoryReservedEvent",
+                        "ReservationFailedEvent"));
+        steps.add(legacySingle(4, "Order Reserved", "OrderReservedEvent"));
+        steps.add(
+                legacySuccessOrFailure(
+                        5,
+                        "Picking Task Created",
+                        "PickingTaskCreatedEvent",
+                        "PickingTaskFailedEvent"));
+        steps.add(legacySingle(6, "Picking Task Processing", "WesTaskStatusUpdatedEvent"));
+        steps.add(legacyPickingCompleted(7, "Picking Task Submitted"));
+        steps.add(legacySingle(8, "Picking Completed", "ReservationConsumedEvent"));
+        return steps;
+    }
+
+    private OrderProcessStatusDto.ProcessStepDto legacySingle(
+            int stepNumber, String stepName, String eventName) {
+        return records.stream()
+                .filter(r -> r.getEventName().equals(eventName))
+                .toList()
+                .stream()
+                .max(Comparator.comparing(AuditRecordEntity::getEventTimestamp))
+                .map(
+                        last ->
+                                new OrderProcessStatusDto.ProcessStepDto(
+                                        stepNumber, stepName, "SUCCESS", last.getEventTimestamp()))
+                .orElseGet(
+                        () ->
+                                new OrderProcessStatusDto.ProcessStepDto(
+                                        stepNumber, stepName, "PENDING", null));
+    }
+
+    private OrderProcessStatusDto.ProcessStepDto legacySuccessOrFailure(
+            int stepNumber, String stepName, String successEvent, String failureEvent) {
+        List<AuditRecordEntity> filtered =
+                records.stream()
+                        .filter(
+                                r ->
+                                        r.getEventName().equals(successEvent)
+                                                || r.getEventName().equals(failureEvent))
+                        .toList();
+        return legacyOutcome(
+                stepNumber,
+                stepName,
+                filtered.stream()
+                        .filter(r -> r.getEventName().equals(failureEvent))
+                        .max(Comparator.comparing(AuditRecordEntity::getEventTimestamp)),
+                filtered.stream()
+                        .filter(r -> r.getEventName().equals(successEvent))
+                        .max(Comparator.comparing(AuditRecordEntity::getEventTimestamp)));
+    }
+
+    private OrderProcessStatusDto.ProcessStepDto legacyPickingCompleted(
+            int stepNumber, String stepName) {
+        List<String> allEventNames = records.stream().map(AuditRecordEntity::getEventName).toList();
+        List<AuditRecordEntity> filtered =
+                records.stream()
+                        .filter(
+                                r ->
+                                        r.getEventName().equals("PickingTaskCompletedEvent")
+                                                || (r.getEventName()
+                                                                .equals("PickingTaskFailedEvent")
+                                                        && allEventNames.contains(
+                                                                "PickingTaskCreatedEvent"))
+                                                || r.getEventName()
+                                                        .equals("PickingTaskCanceledEvent"))
+                        .toList();
+        return legacyOutcome(
+                stepNumber,
+                stepName,
+                filtered.stream()
+                        .filter(
+                                r ->
+                                        r.getEventName().equals("PickingTaskFailedEvent")
+                                                || r.getEventName()
+                                                        .equals("PickingTaskCanceledEvent"))
+                        .max(Comparator.comparing(AuditRecordEntity::getEventTimestamp)),
+                filtered.stream()
+                        .filter(r -> r.getEventName().equals("PickingTaskCompletedEvent"))
+                        .max(Comparator.comparing(AuditRecordEntity::getEventTimestamp)));
+    }
+
+    private static OrderProcessStatusDto.ProcessStepDto legacyOutcome(
+            int stepNumber,
+            String stepName,
+            Optional<AuditRecordEntity> lastFailure,
+            Optional<AuditRecordEntity> lastSuccess) {
+        if (lastFailure.isPresent()) {
+            return new OrderProcessStatusDto.ProcessStepDto(
+                    stepNumber, stepName, "FAILED", lastFailure.get().getEventTimestamp());
+        }
+        if (lastSuccess.isPresent()) {
+            return new OrderProcessStatusDto.ProcessStepDto(
+                    stepNumber, stepName, "SUCCESS", lastSuccess.get().getEventTimestamp());
+        }
+        return new OrderProcessStatusDto.ProcessStepDto(stepNumber, stepName, "PENDING", null);
+    }
+}
@@ -0,0 +1,117 @@
+package com.wei.orchestrator.shared.application.factory;
+
+import com.wei.orchestrator.inventory.domain.event.ReservationFailedEvent;
+import com.wei.orchestrator.order.domain.event.OrderReservedEvent;
+import com.wei.orchestrator.shared.domain.event.DomainEvent;
+import com.wei.orchestrator.shared.domain.model.AuditRecord;
+import com.wei.orchestrator.wes.domain.event.PickingTaskCompletedEvent;
+import java.lang.reflect.Method;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AuditRecordFactoryBenchmark {
+
+    private static final String[] LEGACY_PATTERNS = {
+        "Order", "PickingTask", "Inventory", "Reservation",
+        "ObservedOrder", "WesTask", "Discrepancy", "Adjustment",
+        "Transaction", "InventoryTransaction"
+    };
+
+    @Param({"OrderReservedEvent", "PickingTaskCompletedEvent", "ReservationFailedEvent"})
+    public String eventType;
+
+    private DomainEvent event;
+    private AuditRecordFactory auditRecordFactory;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        auditRecordFactory = new AuditRecordFactory();
+        event =
+                switch (eventType) {
+                    case "OrderReservedEvent" ->
+                            new OrderReservedEvent("ORDER-001", List.of("LINE-1", "LINE-2"));
+                    case "PickingTaskCompletedEvent" ->
+                            new PickingTaskCompletedEvent(
+                                    "TASK-001", "WES-TASK-001", "ORDER-001", LocalDateTime.now());
+                    case "ReservationFailedEvent" ->
+                            new ReservationFailedEvent(
+                                    "TX-001", "ORDER-001", "Out of stock", LocalDateTime.now());
+                    default -> throw new IllegalArgumentException(eventType);
+                };
+    }
+
+    @Benchmark
+    public void cachedDescriptorMetadata(Blackhole blackhole) throws Throwable {
+        AuditEventDescriptor descriptor = AuditEventDescriptor.of(event.getClass());
+        blackhole.consume(descriptor.getEventName());
+        blackhole.consume(descriptor.getContext());
+        blackhole.consume(descriptor.getAggregateType());
+        blackhole.consume(descriptor.aggregateIdOf(event));
+    }
+
+    @Benchmark
+    public void reflectiveScanMetadata(Blackhole blackhole) throws Exception {
+        blackhole.consume(event.getClass().getSimpleName());
+        blackhole.consume(legacyContext(event));
+        blackhole.consume(legacyAggregateType(event));
+        blackhole.consume(legacyAggregateId(event));
+    }
+
+    @Benchmark
+    public AuditRecord createAuditRecord() {
+        return auditRecordFactory.createAuditRecord(event);
+    }
+
+    private static String legacyContext(DomainEvent event) {
+        String packageName = event.getClass().getPackageName();
+        if (packageName.contains(".order.")) {
+            return "Order Context";
+        }
+        if (packageName.contains(".wes.")) {
+            return "WES Context";
+        }
+        if (packageName.contains(".inventory.")) {
+            return "Inventory Context";
+        }
+        if (packageName.contains(".observation.")) {
+            return "Observation Context";
+        }
+        return "Unknown Context";
+    }
+
+    private static String legacyAggregateType(DomainEvent event) {
+        String eventName = event.getClass().getSimpleName();
+        for (String pattern : LEGACY_PATTERNS) {
+            if (eventName.contains(pattern)) {
+                return pattern;
+            }
+        }
+        return "Unknown";
+    }
+
+    private static String legacyAggregateId(DomainEvent event) throws Exception {
+        for (Method method : event.getClass().getMethods()) {
+            if (method.getName().matches("get[A-Z]\\w+Id") && method.getParameterCount() == 0) {
+                Object id = method.invoke(event);
+                if (id != null) {
+                    return id.toString();
+                }
+            }
+        }
+        return "UNKNOWN";
+    }
+}
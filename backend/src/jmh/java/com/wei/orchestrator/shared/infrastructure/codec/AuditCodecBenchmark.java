@@ -0,0 +1,143 @@
+package com.wei.orchestrator.shared.infrastructure.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wei.orchestrator.inventory.domain.event.ReservationFailedEvent;
+import com.wei.orchestrator.order.domain.event.OrderReservedEvent;
+import com.wei.orchestrator.shared.application.factory.AuditRecordFactory;
+import com.wei.orchestrator.shared.domain.event.DomainEvent;
+import com.wei.orchestrator.shared.domain.model.AuditRecord;
+import com.wei.orchestrator.shared.domain.model.valueobject.EventMetadata;
+import com.wei.orchestrator.shared.infrastructure.json.AuditObjectMappers;
+import com.wei.orchestrator.wes.domain.event.PickingTaskCompletedEvent;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AuditCodecBenchmark {
+
+    private static final String LEGACY_ENCODING = "legacy-json";
+
+    @Param({
+        LEGACY_ENCODING,
+        "json",
+        "smile",
+        "smile-deflate",
+        "cbor",
+        "cbor-deflate"
+    })
+    public String encoding;
+
+    @Param({"OrderReservedEvent", "PickingTaskCompletedEvent", "ReservationFailedEvent"})
+    public String eventType;
+
+    private final ObjectMapper legacyMapper = AuditObjectMappers.json();
+
+    private AuditCodec codec;
+    private DomainEvent event;
+    private EventMetadata eventMetadata;
+    private String payload;
+    private byte[] encodedMetadata;
+    private byte[] encodedPayload;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        event = event();
+        AuditRecord record = new AuditRecordFactory().createAuditRecord(event);
+        eventMetadata = record.getEventMetadata();
+        payload = record.getPayload();
+
+        if (LEGACY_ENCODING.equals(encoding)) {
+            encodedMetadata = legacyMapper.writeValueAsBytes(eventMetadata);
+            encodedPayload = payload.getBytes(StandardCharsets.UTF_8);
+        } else {
+            String[] parts = encoding.split("-");
+            AuditCompression compression =
+                    parts.length > 1
+                            ? AuditCompression.valueOf(parts[1].toUpperCase())
+                            : AuditCompression.NONE;
+            codec = new JacksonAuditCodec(AuditCodecFormat.ofEncoding(parts[0]), compression, 0);
+            encodedMetadata = codec.encodeValue(eventMetadata);
+            encodedPayload = codec.encodeValue(event);
+        }
+
+        System.out.printf(
+                "%n%s/%s bytes per record: metadata=%d payload=%d total=%d%n",
+                encoding,
+                eventType,
+                encodedMetadata.length,
+                encodedPayload.length,
+                encodedMetadata.length + encodedPayload.length);
+    }
+
+    @Benchmark
+    public void encode(Blackhole blackhole) throws Exception {
+        if (codec == null) {
+            blackhole.consume(legacyMapper.writeValueAsString(eventMetadata));
+            blackhole.consume(legacyMapper.writeValueAsString(event));
+            return;
+        }
+        blackhole.consume(codec.encodeValue(eventMetadata));
+        blackhole.consume(codec.encodeValue(event));
+    }
+
+    @Benchmark
+    public void encodeViaJsonText(Blackhole blackhole) throws Exception {
+        if (codec == null) {
+            encode(blackhole);
+            return;
+        }
+        blackhole.consume(codec.encodeValue(eventMetadata));
+        blackhole.consume(codec.encodeJson(legacyMapper.writeValueAsString(event)));
+    }
+
+    @Benchmark
+    public void decode(Blackhole blackhole) throws Exception {
+        if (codec == null) {
+            blackhole.consume(legacyMapper.readValue(encodedMetadata, EventMetadata.class));
+            blackhole.consume(
+                    legacyMapper.readValue(
+                            new String(encodedPayload, StandardCharsets.UTF_8), Object.class));
+            return;
+        }
+        blackhole.consume(codec.decodeValue(encodedMetadata, EventMetadata.class));
+        blackhole.consume(codec.decodeValue(encodedPayload, Object.class));
+    }
+
+    @Benchmark
+    public void decodeViaJsonText(Blackhole blackhole) throws Exception {
+        if (codec == null) {
+            decode(blackhole);
+            return;
+        }
+        blackhole.consume(codec.decodeValue(encodedMetadata, EventMetadata.class));
+        blackhole.consume(legacyMapper.readValue(codec.decodeJson(encodedPayload), Object.class));
+    }
+
+    private DomainEvent event() {
+        return switch (eventType) {
+            case "OrderReservedEvent" ->
+                    new OrderReservedEvent("ORDER-001", List.of("LINE-1", "LINE-2"));
+            case "PickingTaskCompletedEvent" ->
+                    new PickingTaskCompletedEvent(
+                            "TASK-001", "WES-TASK-001", "ORDER-001", LocalDateTime.now());
+            case "ReservationFailedEvent" ->
+                    new ReservationFailedEvent(
+                            "TX-001", "ORDER-001", "Out of stock", LocalDateTime.now());
+            default -> throw new IllegalArgumentException(eventType);
+        };
+    }
+}
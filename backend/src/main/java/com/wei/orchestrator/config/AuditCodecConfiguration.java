@@ -0,0 +1,27 @@
+package com.wei.orchestrator.config;
+
+import com.wei.orchestrator.shared.infrastructure.codec.AuditCodec;
+import com.wei.orchestrator.shared.infrastructure.codec.AuditCodecFormat;
+import com.wei.orchestrator.shared.infrastructure.codec.AuditCompression;
+import com.wei.orchestrator.shared.infrastructure.codec.JacksonAuditCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class AuditCodecConfiguration {
+
+    @Value("${audit.codec.format:SMILE}")
+    private AuditCodecFormat format;
+
+    @Value("${audit.codec.compression:DEFLATE}")
+    private AuditCompression compression;
+
+    @Value("${audit.codec.compression-threshold:256}")
+    private int compressionThreshold;
+
+    @Bean
+    public AuditCodec auditCodec() {
+        return new JacksonAuditCodec(format, compression, compressionThreshold);
+    }
+}
@@ -0,0 +1,33 @@
+package com.wei.orchestrator.config;
+
+import com.wei.orchestrator.shared.infrastructure.metrics.ConnectionPoolMetricsRecorder;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ConnectionPoolMetricsConfiguration {
+
+    @Bean
+    public ConnectionPoolMetricsRecorder connectionPoolMetricsRecorder() {
+        return new ConnectionPoolMetricsRecorder();
+    }
+
+    @Bean
+    public static BeanPostProcessor connectionPoolMetricsPostProcessor(
+            ObjectProvider<ConnectionPoolMetricsRecorder> connectionPoolMetricsRecorder) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource
+                        && dataSource.getMetricRegistry() == null
+                        && dataSource.getMetricsTrackerFactory() == null) {
+                    dataSource.setMetricsTrackerFactory(connectionPoolMetricsRecorder.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -1,5 +1,7 @@
 package com.wei.orchestrator.config;
 
+import com.wei.orchestrator.shared.infrastructure.metrics.InstrumentedLockRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
 import javax.sql.DataSource;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -24,7 +26,7 @@ public class DistributedLockConfiguration {
     }
 
     @Bean
-    public LockRegistry lockRegistry(LockRepository lockRepository) {
-        return new JdbcLockRegistry(lockRepository);
+    public LockRegistry lockRegistry(LockRepository lockRepository, MeterRegistry meterRegistry) {
+        return new InstrumentedLockRegistry(new JdbcLockRegistry(lockRepository), meterRegistry);
     }
 }
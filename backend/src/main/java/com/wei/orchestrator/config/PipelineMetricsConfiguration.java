@@ -0,0 +1,207 @@
+package com.wei.orchestrator.config;
+
+import com.wei.orchestrator.observation.infrastructure.scheduler.ObserverScheduler;
+import com.wei.orchestrator.order.infrastructure.scheduler.OrderIngestionWorker;
+import com.wei.orchestrator.shared.infrastructure.archive.AuditArchive;
+import com.wei.orchestrator.shared.infrastructure.audit.BufferedAuditRecordWriter;
+import com.wei.orchestrator.shared.infrastructure.scheduler.AuditIndexBackfillWorker;
+import com.wei.orchestrator.shared.infrastructure.scheduler.AuditRetentionWorker;
+import com.wei.orchestrator.shared.infrastructure.scheduler.OutboxRelayWorker;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.function.ToDoubleFunction;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class PipelineMetricsConfiguration {
+
+    @Bean
+    public MeterBinder observerScheduleMeters(ObserverScheduler observerScheduler) {
+        return registry -> {
+            gauge(
+                    registry,
+                    "orchestrator.observer.scheduled",
+                    observerScheduler,
+                    scheduler -> scheduler.getScheduleMetrics().getScheduledObservers());
+            gauge(
+                    registry,
+                    "orchestrator.observer.in.flight",
+                    observerScheduler,
+                    scheduler -> scheduler.getScheduleMetrics().getInFlightPolls());
+            gauge(
+                    registry,
+                    "orchestrator.observer.lag.max",
+                    observerScheduler,
+                    scheduler -> scheduler.getScheduleMetrics().getMaxLagMillis());
+            counter(
+                    registry,
+                    "orchestrator.observer.fired",
+                    observerScheduler,
+                    scheduler -> scheduler.getScheduleMetrics().getFiredPolls());
+        };
+    }
+
+    @Bean
+    public MeterBinder orderIngestionMeters(OrderIngestionWorker orderIngestionWorker) {
+        return registry -> {
+            gauge(
+                    registry,
+                    "orchestrator.ingestion.queue.depth",
+                    orderIngestionWorker,
+                    worker -> worker.getMetrics().getQueueDepth());
+            gauge(
+                    registry,
+                    "orchestrator.ingestion.in.flight",
+                    orderIngestionWorker,
+                    worker -> worker.getMetrics().getInFlight());
+            gauge(
+                    registry,
+                    "orchestrator.ingestion.drain.rate",
+                    orderIngestionWorker,
+                    worker -> worker.getMetrics().getDrainRatePerSecond());
+            counter(
+                    registry,
+                    "orchestrator.ingestion.ingested",
+                    orderIngestionWorker,
+                    worker -> worker.getMetrics().getIngestedCount());
+            counter(
+                    registry,
+                    "orchestrator.ingestion.retried",
+                    orderIngestionWorker,
+                    worker -> worker.getMetrics().getRetriedCount());
+            counter(
+                    registry,
+                    "orchestrator.ingestion.failed",
+                    orderIngestionWorker,
+                    worker -> worker.getMetrics().getFailedCount());
+        };
+    }
+
+    @Bean
+    public MeterBinder outboxRelayMeters(OutboxRelayWorker outboxRelayWorker) {
+        return registry -> {
+            gauge(
+                    registry,
+                    "orchestrator.outbox.outstanding",
+                    outboxRelayWorker,
+                    worker -> worker.getMetrics().getOutstanding());
+            gauge(
+                    registry,
+                    "orchestrator.outbox.parked",
+                    outboxRelayWorker,
+                    worker -> worker.getMetrics().getParked());
+            gauge(
+                    registry,
+                    "orchestrator.outbox.active.workers",
+                    outboxRelayWorker,
+                    worker -> worker.getMetrics().getActiveWorkers());
+            counter(
+                    registry,
+                    "orchestrator.outbox.relayed",
+                    outboxRelayWorker,
+                    worker -> worker.getMetrics().getRelayedCount());
+            counter(
+                    registry,
+                    "orchestrator.outbox.retried",
+                    outboxRelayWorker,
+                    worker -> worker.getMetrics().getRetriedCount());
+            counter(
+                    registry,
+                    "orchestrator.outbox.failed",
+                    outboxRelayWorker,
+                    worker -> worker.getMetrics().getFailedCount());
+        };
+    }
+
+    @Bean
+    public MeterBinder auditWriterMeters(BufferedAuditRecordWriter auditRecordWriter) {
+        return registry -> {
+            gauge(
+                    registry,
+                    "orchestrator.audit.buffered",
+                    auditRecordWriter,
+                    writer -> writer.getMetrics().getBufferedRecords());
+            counter(
+                    registry,
+                    "orchestrator.audit.written",
+                    auditRecordWriter,
+                    writer -> writer.getMetrics().getWrittenCount());
+            counter(
+                    registry,
+                    "orchestrator.audit.failed",
+                    auditRecordWriter,
+                    writer -> writer.getMetrics().getFailedCount());
+            counter(
+                    registry,
+                    "orchestrator.audit.flushes",
+                    auditRecordWriter,
+                    writer -> writer.getMetrics().getFlushCount());
+            counter(
+                    registry,
+                    "orchestrator.audit.synchronous.fallbacks",
+                    auditRecordWriter,
+                    writer -> writer.getMetrics().getSynchronousFallbackCount());
+            counter(
+                    registry,
+                    "orchestrator.audit.projection.failures",
+                    auditRecordWriter,
+                    writer -> writer.getMetrics().getProjectionFailureCount());
+            gauge(
+                    registry,
+                    "orchestrator.audit.projection.backlog",
+                    auditRecordWriter,
+                    writer -> writer.getMetrics().getProjectionBacklog());
+        };
+    }
+
+    @Bean
+    public MeterBinder auditIndexBackfillMeters(AuditIndexBackfillWorker backfillWorker) {
+        return registry -> {
+            counter(
+                    registry,
+                    "orchestrator.audit.index.backfilled",
+                    backfillWorker,
+                    AuditIndexBackfillWorker::getBackfilledCount);
+            gauge(
+                    registry,
+                    "orchestrator.audit.index.backfill.completed",
+                    backfillWorker,
+                    worker -> worker.isCompleted() ? 1 : 0);
+        };
+    }
+
+    @Bean
+    public MeterBinder auditRetentionMeters(
+            AuditRetentionWorker retentionWorker, AuditArchive auditArchive) {
+        return registry -> {
+            counter(
+                    registry,
+                    "orchestrator.audit.retention.archived",
+                    retentionWorker,
+                    AuditRetentionWorker::getArchivedCount);
+            gauge(
+                    registry,
+                    "orchestrator.audit.archive.segments",
+                    auditArchive,
+                    AuditArchive::getSegmentCount);
+            gauge(
+                    registry,
+                    "orchestrator.audit.archive.records",
+                    auditArchive,
+                    AuditArchive::getArchivedRecordCount);
+        };
+    }
+
+    private static <T> void gauge(
+            MeterRegistry registry, String name, T source, ToDoubleFunction<T> value) {
+        Gauge.builder(name, source, value).register(registry);
+    }
+
+    private static <T> void counter(
+            MeterRegistry registry, String name, T source, ToDoubleFunction<T> value) {
+        FunctionCounter.builder(name, source, value).register(registry);
+    }
+}
@@ -1,8 +1,140 @@
 package com.wei.orchestrator.config;
 
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
 @Configuration
 @EnableScheduling
-public class SchedulingConfiguration {}
+public class SchedulingConfiguration {
+
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(@Value("${scheduler.pool-size:8}") int poolSize) {
+        return newTaskScheduler("scheduler-", poolSize);
+    }
+
+    @Bean
+    public ThreadPoolTaskScheduler observerHeartbeatScheduler() {
+        return newTaskScheduler("observer-heartbeat-", 1);
+    }
+
+    @Bean
+    public ThreadPoolTaskScheduler changeLogConsumerScheduler() {
+        return newTaskScheduler("change-log-consumer-", 1);
+    }
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService observerPollingExecutor(
+            @Value("${scheduler.observer.pool-size:8}") int poolSize,
+            @Value("${scheduler.observer.queue-capacity:256}") int queueCapacity) {
+        AtomicInteger threadSequence = new AtomicInteger();
+        ThreadPoolExecutor executor =
+                new ThreadPoolExecutor(
+                        poolSize,
+                        poolSize,
+                        60,
+                        TimeUnit.SECONDS,
+                        new ArrayBlockingQueue<>(queueCapacity),
+                        runnable -> {
+                            Thread thread =
+                                    new Thread(
+                                            runnable,
+                                            "observer-poll-" + threadSequence.incrementAndGet());
+                            thread.setDaemon(true);
+                            return thread;
+                        },
+                        new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService orderIngestionExecutor(
+            @Value("${order.ingestion.workers:4}") int workers,
+            @Value("${order.ingestion.max-in-flight:64}") int maxInFlight) {
+        AtomicInteger threadSequence = new AtomicInteger();
+        ThreadPoolExecutor executor =
+                new ThreadPoolExecutor(
+                        workers,
+                        workers,
+                        60,
+                        TimeUnit.SECONDS,
+                        new ArrayBlockingQueue<>(maxInFlight),
+                        runnable -> {
+                            Thread thread =
+                                    new Thread(
+                                            runnable,
+                                            "order-ingestion-" + threadSequence.incrementAndGet());
+                            thread.setDaemon(true);
+                            return thread;
+                        },
+                        new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService outboxRelayExecutor(
+            @Value("${domain-events.outbox.relay-workers:4}") int relayWorkers) {
+        AtomicInteger threadSequence = new AtomicInteger();
+        ThreadPoolExecutor executor =
+                new ThreadPoolExecutor(
+                        relayWorkers,
+                        relayWorkers,
+                        60,
+                        TimeUnit.SECONDS,
+                        new ArrayBlockingQueue<>(relayWorkers),
+                        runnable -> {
+                            Thread thread =
+                                    new Thread(
+                                            runnable,
+                                            "outbox-relay-" + threadSequence.incrementAndGet());
+                            thread.setDaemon(true);
+                            return thread;
+                        },
+                        new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService processStatusRebuildExecutor(
+            @Value("${order.process-status.rebuild.workers:4}") int workers) {
+        AtomicInteger threadSequence = new AtomicInteger();
+        ThreadPoolExecutor executor =
+                new ThreadPoolExecutor(
+                        workers,
+                        workers,
+                        60,
+                        TimeUnit.SECONDS,
+                        new ArrayBlockingQueue<>(workers * 2),
+                        runnable -> {
+                            Thread thread =
+                                    new Thread(
+                                            runnable,
+                                            "process-status-rebuild-"
+                                                    + threadSequence.incrementAndGet());
+                            thread.setDaemon(true);
+                            return thread;
+                        },
+                        new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private static ThreadPoolTaskScheduler newTaskScheduler(String threadNamePrefix, int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix(threadNamePrefix);
+        scheduler.setDaemon(true);
+        scheduler.setRemoveOnCancelPolicy(true);
+        return scheduler;
+    }
+}
@@ -3,6 +3,7 @@ package com.wei.orchestrator.inventory.application;
 import com.wei.orchestrator.inventory.application.command.ApplyAdjustmentCommand;
 import com.wei.orchestrator.inventory.application.command.DetectDiscrepancyCommand;
 import com.wei.orchestrator.inventory.application.translator.WesTranslator;
+import com.wei.orchestrator.inventory.domain.model.DiscrepancyDetection;
 import com.wei.orchestrator.inventory.domain.model.InventoryAdjustment;
 import com.wei.orchestrator.inventory.domain.model.InventoryTransaction;
 import com.wei.orchestrator.inventory.domain.model.valueobject.DiscrepancyLog;
@@ -15,9 +16,13 @@ import com.wei.orchestrator.observation.domain.model.valueobject.StockSnapshot;
 import com.wei.orchestrator.wes.domain.port.WesPort;
 import com.wei.orchestrator.wes.infrastructure.adapter.dto.WesInventoryDto;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -33,18 +38,21 @@ public class InventoryAdjustmentApplicationService {
     private final WesPort wesPort;
     private final InventoryPort inventoryPort;
     private final ApplicationEventPublisher eventPublisher;
+    private final int wesLookupMaxKeys;
 
     public InventoryAdjustmentApplicationService(
             InventoryAdjustmentRepository inventoryAdjustmentRepository,
             InventoryTransactionRepository inventoryTransactionRepository,
             WesPort wesPort,
             InventoryPort inventoryPort,
-            ApplicationEventPublisher eventPublisher) {
+            ApplicationEventPublisher eventPublisher,
+            @Value("${inventory.adjustment.wes-lookup-max-keys:50}") int wesLookupMaxKeys) {
         this.inventoryAdjustmentRepository = inventoryAdjustmentRepository;
         this.inventoryTransactionRepository = inventoryTransactionRepository;
         this.wesPort = wesPort;
         this.inventoryPort = inventoryPort;
         this.eventPublisher = eventPublisher;
+        this.wesLookupMaxKeys = wesLookupMaxKeys;
     }
 
     @Transactional
@@ -52,11 +60,12 @@ public class InventoryAdjustmentApplicationService {
         logger.info("Detecting inventory discrepancies for observer: {}", command.getObserverId());
 
         try {
-            List<StockSnapshot> wesSnapshots = getWesStockSnapshots();
-
             InventoryAdjustment adjustment =
-                    InventoryAdjustment.detectDiscrepancy(
-                            command.getInventorySnapshots(), wesSnapshots);
+                    command.isFullSnapshot()
+                            ? detectAgainstWesSnapshot(command.getInventorySnapshots())
+                            : InventoryAdjustment.detectDiscrepancy(
+                                    command.getInventorySnapshots(),
+                                    getWesStockSnapshots(command.getInventorySnapshots()));
 
             inventoryAdjustmentRepository.save(adjustment);
 
@@ -171,12 +180,56 @@ public class InventoryAdjustmentApplicationService {
         }
     }
 
-    private List<StockSnapshot> getWesStockSnapshots() {
+    private InventoryAdjustment detectAgainstWesSnapshot(List<StockSnapshot> inventorySnapshots) {
+        DiscrepancyDetection detection = InventoryAdjustment.beginDetection(inventorySnapshots);
+        streamWesInventory(
+                wesInventory -> detection.record(WesTranslator.toStockSnapshot(wesInventory)));
+        return detection.complete();
+    }
+
+    private List<StockSnapshot> getWesStockSnapshots(List<StockSnapshot> inventorySnapshots) {
+        Set<String> observedKeys = new HashSet<>(inventorySnapshots.size() * 2);
+        for (StockSnapshot snapshot : inventorySnapshots) {
+            observedKeys.add(snapshot.getWarehouseId() + ":" + snapshot.getSku());
+        }
+
+        List<StockSnapshot> wesSnapshots = new ArrayList<>(inventorySnapshots.size());
+        Consumer<WesInventoryDto> matcher =
+                wesInventory -> {
+                    String key = wesInventory.getWarehouseId() + ":" + wesInventory.getSku();
+                    if (observedKeys.remove(key)) {
+                        wesSnapshots.add(WesTranslator.toStockSnapshot(wesInventory));
+                    }
+                };
+        if (inventorySnapshots.size() <= wesLookupMaxKeys) {
+            lookupWesInventory(inventorySnapshots, matcher);
+        } else {
+            streamWesInventory(matcher);
+        }
+        logger.info(
+                "Matched {} WES inventory items against {} changed snapshots",
+                wesSnapshots.size(),
+                inventorySnapshots.size());
+        return wesSnapshots;
+    }
+
+    private void lookupWesInventory(
+            List<StockSnapshot> inventorySnapshots, Consumer<WesInventoryDto> consumer) {
         try {
-            List<WesInventoryDto> wesInventories = wesPort.getInventorySnapshot();
-            logger.info("Fetched {} inventory items from WES", wesInventories.size());
+            for (StockSnapshot snapshot : inventorySnapshots) {
+                wesPort.getInventoryBySku(snapshot.getSku(), snapshot.getWarehouseId())
+                        .forEach(consumer);
+            }
 
-            return WesTranslator.toStockSnapshots(wesInventories);
+        } catch (Exception e) {
+            logger.error("Failed to fetch WES inventory: {}", e.getMessage(), e);
+            throw new RuntimeException("Failed to fetch WES inventory: " + e.getMessage(), e);
+        }
+    }
+
+    private void streamWesInventory(Consumer<WesInventoryDto> consumer) {
+        try {
+            wesPort.streamInventorySnapshot(consumer);
 
         } catch (Exception e) {
             logger.error("Failed to fetch WES inventory snapshot: {}", e.getMessage(), e);
@@ -7,8 +7,14 @@ import java.util.List;
 public class DetectDiscrepancyCommand {
     private final String observerId;
     private final List<StockSnapshot> inventorySnapshots;
+    private final boolean fullSnapshot;
 
     public DetectDiscrepancyCommand(String observerId, List<StockSnapshot> inventorySnapshots) {
+        this(observerId, inventorySnapshots, true);
+    }
+
+    public DetectDiscrepancyCommand(
+            String observerId, List<StockSnapshot> inventorySnapshots, boolean fullSnapshot) {
         if (observerId == null || observerId.isBlank()) {
             throw new IllegalArgumentException("Observer ID cannot be null or blank");
         }
@@ -18,6 +24,7 @@ public class DetectDiscrepancyCommand {
 
         this.observerId = observerId;
         this.inventorySnapshots = new ArrayList<>(inventorySnapshots);
+        this.fullSnapshot = fullSnapshot;
     }
 
     public String getObserverId() {
@@ -27,4 +34,8 @@ public class DetectDiscrepancyCommand {
     public List<StockSnapshot> getInventorySnapshots() {
         return new ArrayList<>(inventorySnapshots);
     }
+
+    public boolean isFullSnapshot() {
+        return fullSnapshot;
+    }
 }
@@ -3,11 +3,10 @@ package com.wei.orchestrator.inventory.application.eventhandler;
 import com.wei.orchestrator.inventory.application.InventoryAdjustmentApplicationService;
 import com.wei.orchestrator.inventory.application.command.DetectDiscrepancyCommand;
 import com.wei.orchestrator.observation.domain.event.InventorySnapshotObservedEvent;
+import com.wei.orchestrator.shared.application.event.DomainEventDispatcher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
@@ -18,15 +17,22 @@ public class InventorySnapshotObservedEventHandler {
             LoggerFactory.getLogger(InventorySnapshotObservedEventHandler.class);
 
     private final InventoryAdjustmentApplicationService inventoryAdjustmentApplicationService;
+    private final DomainEventDispatcher domainEventDispatcher;
 
     public InventorySnapshotObservedEventHandler(
-            InventoryAdjustmentApplicationService inventoryAdjustmentApplicationService) {
+            InventoryAdjustmentApplicationService inventoryAdjustmentApplicationService,
+            DomainEventDispatcher domainEventDispatcher) {
         this.inventoryAdjustmentApplicationService = inventoryAdjustmentApplicationService;
+        this.domainEventDispatcher = domainEventDispatcher;
     }
 
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void handleInventorySnapshotObserved(InventorySnapshotObservedEvent event) {
+        domainEventDispatcher.dispatch(
+                event.getObserverId(), () -> processInventorySnapshotObserved(event));
+    }
+
+    private void processInventorySnapshotObserved(InventorySnapshotObservedEvent event) {
         logger.info(
                 "Handling inventory snapshot observed event for observer: {}",
                 event.getObserverId());
@@ -41,7 +47,8 @@ public class InventorySnapshotObservedEventHandler {
 
         try {
             DetectDiscrepancyCommand command =
-                    new DetectDiscrepancyCommand(event.getObserverId(), event.getSnapshots());
+                    new DetectDiscrepancyCommand(
+                            event.getObserverId(), event.getSnapshots(), event.isFullSnapshot());
 
             String adjustmentId = inventoryAdjustmentApplicationService.detectDiscrepancy(command);
 
@@ -2,16 +2,14 @@ package com.wei.orchestrator.inventory.application.eventhandler;
 
 import com.wei.orchestrator.inventory.application.InventoryApplicationService;
 import com.wei.orchestrator.inventory.application.dto.InventoryOperationResultDto;
+import com.wei.orchestrator.shared.application.event.DomainEventDispatcher;
+import com.wei.orchestrator.shared.application.event.RelayedEventListener;
 import com.wei.orchestrator.shared.domain.model.valueobject.TriggerContext;
 import com.wei.orchestrator.wes.domain.event.PickingTaskCanceledEvent;
 import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.event.TransactionPhase;
-import org.springframework.transaction.event.TransactionalEventListener;
 
 @Component("InventoryPickingTaskCanceledEventHandler")
 public class PickingTaskCanceledEventHandler {
@@ -20,15 +18,21 @@ public class PickingTaskCanceledEventHandler {
             LoggerFactory.getLogger(PickingTaskCanceledEventHandler.class);
 
     private final InventoryApplicationService inventoryApplicationService;
+    private final DomainEventDispatcher domainEventDispatcher;
 
     public PickingTaskCanceledEventHandler(
-            InventoryApplicationService inventoryApplicationService) {
+            InventoryApplicationService inventoryApplicationService,
+            DomainEventDispatcher domainEventDispatcher) {
         this.inventoryApplicationService = inventoryApplicationService;
+        this.domainEventDispatcher = domainEventDispatcher;
     }
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @RelayedEventListener
     public void handlePickingTaskCanceled(PickingTaskCanceledEvent event) {
+        domainEventDispatcher.dispatch(event.getOrderId(), () -> processPickingTaskCanceled(event));
+    }
+
+    private void processPickingTaskCanceled(PickingTaskCanceledEvent event) {
         logger.info("Handling picking task canceled event for task: {}", event.getTaskId());
 
         if (event.getOrderId() == null || event.getOrderId().isBlank()) {
@@ -2,16 +2,14 @@ package com.wei.orchestrator.inventory.application.eventhandler;
 
 import com.wei.orchestrator.inventory.application.InventoryApplicationService;
 import com.wei.orchestrator.inventory.application.dto.InventoryOperationResultDto;
+import com.wei.orchestrator.shared.application.event.DomainEventDispatcher;
+import com.wei.orchestrator.shared.application.event.RelayedEventListener;
 import com.wei.orchestrator.shared.domain.model.valueobject.TriggerContext;
 import com.wei.orchestrator.wes.domain.event.PickingTaskCompletedEvent;
 import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.event.TransactionPhase;
-import org.springframework.transaction.event.TransactionalEventListener;
 
 @Component("InventoryPickingTaskCompletedEventHandler")
 public class PickingTaskCompletedEventHandler {
@@ -20,15 +18,22 @@ public class PickingTaskCompletedEventHandler {
             LoggerFactory.getLogger(PickingTaskCompletedEventHandler.class);
 
     private final InventoryApplicationService inventoryApplicationService;
+    private final DomainEventDispatcher domainEventDispatcher;
 
     public PickingTaskCompletedEventHandler(
-            InventoryApplicationService inventoryApplicationService) {
+            InventoryApplicationService inventoryApplicationService,
+            DomainEventDispatcher domainEventDispatcher) {
         this.inventoryApplicationService = inventoryApplicationService;
+        this.domainEventDispatcher = domainEventDispatcher;
     }
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @RelayedEventListener
     public void handlePickingTaskCompleted(PickingTaskCompletedEvent event) {
+        domainEventDispatcher.dispatch(
+                event.getOrderId(), () -> processPickingTaskCompleted(event));
+    }
+
+    private void processPickingTaskCompleted(PickingTaskCompletedEvent event) {
         logger.info("Handling picking task completed event for task: {}", event.getTaskId());
 
         if (event.getOrderId() == null || event.getOrderId().isBlank()) {
@@ -22,7 +22,7 @@ public class WesTranslator {
                 .collect(Collectors.toList());
     }
 
-    private static StockSnapshot toStockSnapshot(WesInventoryDto wesInventory) {
+    public static StockSnapshot toStockSnapshot(WesInventoryDto wesInventory) {
         LocalDateTime timestamp = parseTimestamp(wesInventory.getUpdatedAt());
 
         return new StockSnapshot(
@@ -1,11 +1,13 @@
 package com.wei.orchestrator.inventory.domain.event;
 
-import com.wei.orchestrator.shared.domain.event.DomainEvent;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.wei.orchestrator.shared.domain.event.CrossContextEvent;
 import com.wei.orchestrator.shared.domain.model.valueobject.TriggerContext;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
-public final class InventoryReservedEvent implements DomainEvent {
+public final class InventoryReservedEvent implements CrossContextEvent {
     private final String transactionId;
     private final String orderId;
     private final String externalReservationId;
@@ -26,12 +28,13 @@ public final class InventoryReservedEvent implements DomainEvent {
         this.triggerContext = null;
     }
 
+    @JsonCreator
     public InventoryReservedEvent(
-            String transactionId,
-            String orderId,
-            String externalReservationId,
-            LocalDateTime occurredAt,
-            TriggerContext triggerContext) {
+            @JsonProperty("transactionId") String transactionId,
+            @JsonProperty("orderId") String orderId,
+            @JsonProperty("externalReservationId") String externalReservationId,
+            @JsonProperty("occurredAt") LocalDateTime occurredAt,
+            @JsonProperty("triggerContext") TriggerContext triggerContext) {
         this.transactionId = transactionId;
         this.orderId = orderId;
         this.externalReservationId = externalReservationId;
@@ -45,6 +48,7 @@ public final class InventoryReservedEvent implements DomainEvent {
         return transactionId;
     }
 
+    @Override
     public String getOrderId() {
         return orderId;
     }
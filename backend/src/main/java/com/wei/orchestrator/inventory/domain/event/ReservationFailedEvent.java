@@ -1,11 +1,13 @@
 package com.wei.orchestrator.inventory.domain.event;
 
-import com.wei.orchestrator.shared.domain.event.DomainEvent;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.wei.orchestrator.shared.domain.event.CrossContextEvent;
 import com.wei.orchestrator.shared.domain.model.valueobject.TriggerContext;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
-public final class ReservationFailedEvent implements DomainEvent {
+public final class ReservationFailedEvent implements CrossContextEvent {
     private final String transactionId;
     private final String orderId;
     private final String reason;
@@ -23,12 +25,13 @@ public final class ReservationFailedEvent implements DomainEvent {
         this.triggerContext = null;
     }
 
+    @JsonCreator
     public ReservationFailedEvent(
-            String transactionId,
-            String orderId,
-            String reason,
-            LocalDateTime occurredAt,
-            TriggerContext triggerContext) {
+            @JsonProperty("transactionId") String transactionId,
+            @JsonProperty("orderId") String orderId,
+            @JsonProperty("reason") String reason,
+            @JsonProperty("occurredAt") LocalDateTime occurredAt,
+            @JsonProperty("triggerContext") TriggerContext triggerContext) {
         this.transactionId = transactionId;
         this.orderId = orderId;
         this.reason = reason;
@@ -42,6 +45,7 @@ public final class ReservationFailedEvent implements DomainEvent {
         return transactionId;
     }
 
+    @Override
     public String getOrderId() {
         return orderId;
     }
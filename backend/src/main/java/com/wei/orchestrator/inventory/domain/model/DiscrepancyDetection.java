@@ -0,0 +1,74 @@
+package com.wei.orchestrator.inventory.domain.model;
+
+import com.wei.orchestrator.inventory.domain.model.valueobject.DiscrepancyLog;
+import com.wei.orchestrator.observation.domain.model.valueobject.StockSnapshot;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class DiscrepancyDetection {
+    private final List<StockSnapshot> inventorySnapshots;
+    private final Map<String, StockSnapshot> inventoryMap;
+    private final Set<String> matchedKeys = new HashSet<>();
+    private final List<DiscrepancyLog> discrepancyLogs = new ArrayList<>();
+    private boolean completed;
+
+    DiscrepancyDetection(List<StockSnapshot> inventorySnapshots) {
+        this.inventorySnapshots = inventorySnapshots;
+        this.inventoryMap = new HashMap<>(inventorySnapshots.size() * 2);
+        for (StockSnapshot snapshot : inventorySnapshots) {
+            inventoryMap.put(keyOf(snapshot), snapshot);
+        }
+    }
+
+    public void record(StockSnapshot wesSnapshot) {
+        if (completed) {
+            throw new IllegalStateException("Discrepancy detection already completed");
+        }
+        String key = keyOf(wesSnapshot);
+        StockSnapshot inventorySnapshot = inventoryMap.get(key);
+        if (inventorySnapshot != null) {
+            matchedKeys.add(key);
+        }
+
+        int expectedQuantity = wesSnapshot.getQuantity();
+        int actualQuantity = inventorySnapshot != null ? inventorySnapshot.getQuantity() : 0;
+
+        if (expectedQuantity != actualQuantity) {
+            discrepancyLogs.add(
+                    DiscrepancyLog.of(
+                            wesSnapshot.getSku(),
+                            wesSnapshot.getWarehouseId(),
+                            expectedQuantity,
+                            actualQuantity));
+        }
+    }
+
+    public InventoryAdjustment complete() {
+        if (completed) {
+            throw new IllegalStateException("Discrepancy detection already completed");
+        }
+        completed = true;
+
+        for (StockSnapshot inventorySnapshot : inventorySnapshots) {
+            if (!matchedKeys.contains(keyOf(inventorySnapshot))
+                    && inventorySnapshot.getQuantity() > 0) {
+                discrepancyLogs.add(
+                        DiscrepancyLog.of(
+                                inventorySnapshot.getSku(),
+                                inventorySnapshot.getWarehouseId(),
+                                0,
+                                inventorySnapshot.getQuantity()));
+            }
+        }
+
+        return InventoryAdjustment.detected(discrepancyLogs);
+    }
+
+    private static String keyOf(StockSnapshot snapshot) {
+        return snapshot.getWarehouseId() + ":" + snapshot.getSku();
+    }
+}
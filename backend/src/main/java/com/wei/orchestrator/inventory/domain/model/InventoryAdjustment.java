@@ -8,9 +8,7 @@ import com.wei.orchestrator.observation.domain.model.valueobject.StockSnapshot;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
 
 public class InventoryAdjustment {
@@ -32,54 +30,24 @@ public class InventoryAdjustment {
             throw new IllegalArgumentException("Snapshots cannot be null");
         }
 
+        DiscrepancyDetection detection = beginDetection(inventorySnapshots);
+        wesSnapshots.forEach(detection::record);
+        return detection.complete();
+    }
+
+    public static DiscrepancyDetection beginDetection(List<StockSnapshot> inventorySnapshots) {
+        if (inventorySnapshots == null) {
+            throw new IllegalArgumentException("Snapshots cannot be null");
+        }
+        return new DiscrepancyDetection(inventorySnapshots);
+    }
+
+    static InventoryAdjustment detected(List<DiscrepancyLog> discrepancyLogs) {
         InventoryAdjustment adjustment = new InventoryAdjustment();
         adjustment.adjustmentId = UUID.randomUUID().toString();
         adjustment.status = AdjustmentStatus.PENDING;
         adjustment.createdAt = LocalDateTime.now();
-        adjustment.discrepancyLogs = new ArrayList<>();
-
-        Map<String, StockSnapshot> inventoryMap = new HashMap<>();
-        for (StockSnapshot snapshot : inventorySnapshots) {
-            String key = snapshot.getWarehouseId() + ":" + snapshot.getSku();
-            inventoryMap.put(key, snapshot);
-        }
-
-        Map<String, StockSnapshot> wesMap = new HashMap<>();
-        for (StockSnapshot snapshot : wesSnapshots) {
-            String key = snapshot.getWarehouseId() + ":" + snapshot.getSku();
-            wesMap.put(key, snapshot);
-        }
-
-        for (StockSnapshot wesSnapshot : wesSnapshots) {
-            String key = wesSnapshot.getWarehouseId() + ":" + wesSnapshot.getSku();
-            StockSnapshot inventorySnapshot = inventoryMap.get(key);
-
-            int expectedQuantity = wesSnapshot.getQuantity();
-            int actualQuantity = inventorySnapshot != null ? inventorySnapshot.getQuantity() : 0;
-
-            if (expectedQuantity != actualQuantity) {
-                DiscrepancyLog log =
-                        DiscrepancyLog.of(
-                                wesSnapshot.getSku(),
-                                wesSnapshot.getWarehouseId(),
-                                expectedQuantity,
-                                actualQuantity);
-                adjustment.discrepancyLogs.add(log);
-            }
-        }
-
-        for (StockSnapshot inventorySnapshot : inventorySnapshots) {
-            String key = inventorySnapshot.getWarehouseId() + ":" + inventorySnapshot.getSku();
-            if (!wesMap.containsKey(key) && inventorySnapshot.getQuantity() > 0) {
-                DiscrepancyLog log =
-                        DiscrepancyLog.of(
-                                inventorySnapshot.getSku(),
-                                inventorySnapshot.getWarehouseId(),
-                                0,
-                                inventorySnapshot.getQuantity());
-                adjustment.discrepancyLogs.add(log);
-            }
-        }
+        adjustment.discrepancyLogs = new ArrayList<>(discrepancyLogs);
 
         if (!adjustment.discrepancyLogs.isEmpty()) {
             adjustment.addDomainEvent(
@@ -6,6 +6,7 @@ import com.wei.orchestrator.inventory.domain.exception.ReservationNotFoundExcept
 import com.wei.orchestrator.inventory.domain.model.valueobject.ExternalReservationId;
 import com.wei.orchestrator.inventory.infrastructure.adapter.dto.InventorySnapshotDto;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface InventoryPort {
 
@@ -26,4 +27,7 @@ public interface InventoryPort {
             throws InventorySystemException;
 
     List<InventorySnapshotDto> getInventorySnapshot() throws InventorySystemException;
+
+    void streamInventorySnapshot(Consumer<InventorySnapshotDto> consumer)
+            throws InventorySystemException;
 }
@@ -6,9 +6,13 @@ import com.wei.orchestrator.inventory.domain.exception.ReservationNotFoundExcept
 import com.wei.orchestrator.inventory.domain.model.valueobject.ExternalReservationId;
 import com.wei.orchestrator.inventory.domain.port.InventoryPort;
 import com.wei.orchestrator.inventory.infrastructure.adapter.dto.*;
+import com.wei.orchestrator.shared.infrastructure.json.JsonArrayStreamReader;
 import java.util.List;
+import java.util.function.Consumer;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
@@ -19,6 +23,9 @@ import org.springframework.web.client.RestTemplate;
 @Component
 public class InventoryHttpAdapter implements InventoryPort {
 
+    private static final JsonArrayStreamReader<InventorySnapshotDto> SNAPSHOT_READER =
+            new JsonArrayStreamReader<>(InventorySnapshotDto.class, "data", "success");
+
     private final RestTemplate restTemplate;
     private final String inventoryApiBaseUrl;
 
@@ -180,4 +187,33 @@ public class InventoryHttpAdapter implements InventoryPort {
             throw new InventorySystemException("Unexpected error getting inventory snapshot", e);
         }
     }
+
+    @Override
+    public void streamInventorySnapshot(Consumer<InventorySnapshotDto> consumer)
+            throws InventorySystemException {
+        try {
+            String url = inventoryApiBaseUrl + "/api/inventory";
+            JsonArrayStreamReader.Envelope envelope =
+                    restTemplate.execute(
+                            url,
+                            HttpMethod.GET,
+                            request ->
+                                    request.getHeaders()
+                                            .setAccept(List.of(MediaType.APPLICATION_JSON)),
+                            response -> SNAPSHOT_READER.read(response.getBody(), consumer));
+
+            if (envelope == null || !envelope.isSuccessful() || !envelope.isArrayPresent()) {
+                throw new InventorySystemException("Failed to stream inventory snapshot");
+            }
+
+        } catch (HttpClientErrorException e) {
+            throw new InventorySystemException(
+                    "Error getting inventory snapshot: " + e.getStatusCode(), e);
+        } catch (HttpServerErrorException e) {
+            throw new InventorySystemException(
+                    "Error getting inventory snapshot: " + e.getStatusCode(), e);
+        } catch (RestClientException e) {
+            throw new InventorySystemException("Error communicating with inventory system", e);
+        }
+    }
 }
@@ -3,29 +3,40 @@ package com.wei.orchestrator.observation.application;
 import com.wei.orchestrator.inventory.domain.port.InventoryPort;
 import com.wei.orchestrator.observation.application.command.CreateInventoryObserverCommand;
 import com.wei.orchestrator.observation.application.command.PollInventorySnapshotCommand;
+import com.wei.orchestrator.observation.application.dto.ObserverScheduleDto;
+import com.wei.orchestrator.observation.application.event.ObserverScheduleChangedEvent;
 import com.wei.orchestrator.observation.domain.model.InventoryObserver;
 import com.wei.orchestrator.observation.domain.model.valueobject.ObservationRule;
+import com.wei.orchestrator.observation.domain.model.valueobject.ObserverType;
 import com.wei.orchestrator.observation.domain.model.valueobject.PollingInterval;
 import com.wei.orchestrator.observation.domain.repository.InventoryObserverRepository;
+import com.wei.orchestrator.observation.domain.repository.LastKnownStockLevelsRepository;
 import java.util.List;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
 @Service
 public class InventoryObserverApplicationService {
 
     private final InventoryObserverRepository inventoryObserverRepository;
+    private final LastKnownStockLevelsRepository lastKnownStockLevelsRepository;
     private final InventoryPort inventoryPort;
     private final ApplicationEventPublisher eventPublisher;
+    private final TransactionOperations transactionOperations;
 
     public InventoryObserverApplicationService(
             InventoryObserverRepository inventoryObserverRepository,
+            LastKnownStockLevelsRepository lastKnownStockLevelsRepository,
             InventoryPort inventoryPort,
-            ApplicationEventPublisher eventPublisher) {
+            ApplicationEventPublisher eventPublisher,
+            TransactionOperations transactionOperations) {
         this.inventoryObserverRepository = inventoryObserverRepository;
+        this.lastKnownStockLevelsRepository = lastKnownStockLevelsRepository;
         this.inventoryPort = inventoryPort;
         this.eventPublisher = eventPublisher;
+        this.transactionOperations = transactionOperations;
     }
 
     @Transactional
@@ -40,10 +51,15 @@ public class InventoryObserverApplicationService {
 
         InventoryObserver savedObserver = inventoryObserverRepository.save(inventoryObserver);
 
+        eventPublisher.publishEvent(
+                ObserverScheduleChangedEvent.activated(
+                        ObserverType.INVENTORY,
+                        savedObserver.getObserverId(),
+                        savedObserver.getPollingInterval().getSeconds()));
+
         return savedObserver.getObserverId();
     }
 
-    @Transactional
     public void pollInventorySnapshot(PollInventorySnapshotCommand command) {
         InventoryObserver inventoryObserver =
                 inventoryObserverRepository
@@ -58,25 +74,36 @@ public class InventoryObserverApplicationService {
             return;
         }
 
-        inventoryObserver.pollInventorySnapshot(inventoryPort);
-
-        inventoryObserverRepository.save(inventoryObserver);
-
-        List<Object> domainEvents = inventoryObserver.getDomainEvents();
-        domainEvents.forEach(eventPublisher::publishEvent);
+        try {
+            inventoryObserver.pollInventorySnapshot(
+                    inventoryPort,
+                    lastKnownStockLevelsRepository.findOrCreate(command.getObserverId()));
+
+            List<Object> domainEvents = inventoryObserver.getDomainEvents();
+
+            transactionOperations.executeWithoutResult(
+                    status -> {
+                        inventoryObserverRepository.save(inventoryObserver);
+                        domainEvents.forEach(eventPublisher::publishEvent);
+                    });
+        } catch (RuntimeException e) {
+            lastKnownStockLevelsRepository.deleteById(command.getObserverId());
+            throw e;
+        }
 
         inventoryObserver.clearDomainEvents();
     }
 
-    @Transactional
-    public void pollAllActiveObservers() {
-        List<InventoryObserver> activeObservers = inventoryObserverRepository.findAllActive();
-
-        for (InventoryObserver observer : activeObservers) {
-            PollInventorySnapshotCommand command =
-                    new PollInventorySnapshotCommand(observer.getObserverId());
-            pollInventorySnapshot(command);
-        }
+    @Transactional(readOnly = true)
+    public List<ObserverScheduleDto> findActiveObserverSchedules() {
+        return inventoryObserverRepository.findAllActive().stream()
+                .map(
+                        observer ->
+                                new ObserverScheduleDto(
+                                        observer.getObserverId(),
+                                        observer.getPollingInterval().getSeconds(),
+                                        observer.getLastPolledTimestamp()))
+                .toList();
     }
 
     @Transactional
@@ -91,6 +118,12 @@ public class InventoryObserverApplicationService {
 
         inventoryObserver.activate();
         inventoryObserverRepository.save(inventoryObserver);
+
+        eventPublisher.publishEvent(
+                ObserverScheduleChangedEvent.activated(
+                        ObserverType.INVENTORY,
+                        observerId,
+                        inventoryObserver.getPollingInterval().getSeconds()));
     }
 
     @Transactional
@@ -105,5 +138,9 @@ public class InventoryObserverApplicationService {
 
         inventoryObserver.deactivate();
         inventoryObserverRepository.save(inventoryObserver);
+        lastKnownStockLevelsRepository.deleteById(observerId);
+
+        eventPublisher.publishEvent(
+                ObserverScheduleChangedEvent.deactivated(ObserverType.INVENTORY, observerId));
     }
 }
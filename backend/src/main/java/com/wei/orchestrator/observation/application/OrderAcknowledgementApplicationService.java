@@ -0,0 +1,235 @@
+package com.wei.orchestrator.observation.application;
+
+import com.wei.orchestrator.observation.domain.model.OrderObserver;
+import com.wei.orchestrator.observation.domain.port.OrderSourcePort;
+import com.wei.orchestrator.observation.domain.repository.OrderObserverRepository;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+@Service
+public class OrderAcknowledgementApplicationService {
+
+    private static final Logger logger =
+            LoggerFactory.getLogger(OrderAcknowledgementApplicationService.class);
+
+    private final OrderObserverRepository orderObserverRepository;
+    private final OrderSourcePort orderSourcePort;
+    private final int batchSize;
+    private final long maxDelayMs;
+    private final long retryBackoffMs;
+    private final long maxRetryBackoffMs;
+    private final int maxPending;
+    private final Map<String, PendingAcknowledgements> pendingByObserver =
+            new ConcurrentHashMap<>();
+
+    public OrderAcknowledgementApplicationService(
+            OrderObserverRepository orderObserverRepository,
+            OrderSourcePort orderSourcePort,
+            @Value("${observation.order-source.acknowledgement.batch-size:200}") int batchSize,
+            @Value("${observation.order-source.acknowledgement.max-delay:2000}") long maxDelayMs,
+            @Value("${observation.order-source.acknowledgement.retry-backoff:1000}")
+                    long retryBackoffMs,
+            @Value("${observation.order-source.acknowledgement.max-retry-backoff:60000}")
+                    long maxRetryBackoffMs,
+            @Value("${observation.order-source.acknowledgement.max-pending:50000}")
+                    int maxPending) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Acknowledgement batch size must be positive");
+        }
+        if (maxDelayMs < 0) {
+            throw new IllegalArgumentException("Acknowledgement max delay cannot be negative");
+        }
+        if (retryBackoffMs <= 0 || maxRetryBackoffMs < retryBackoffMs) {
+            throw new IllegalArgumentException(
+                    "Acknowledgement retry backoff must be positive and not exceed its maximum");
+        }
+        if (maxPending < batchSize) {
+            throw new IllegalArgumentException(
+                    "Acknowledgement max pending cannot be smaller than the batch size");
+        }
+        this.orderObserverRepository = orderObserverRepository;
+        this.orderSourcePort = orderSourcePort;
+        this.batchSize = batchSize;
+        this.maxDelayMs = maxDelayMs;
+        this.retryBackoffMs = retryBackoffMs;
+        this.maxRetryBackoffMs = maxRetryBackoffMs;
+        this.maxPending = maxPending;
+    }
+
+    public void acknowledge(String observerId, String orderId) {
+        long now = System.currentTimeMillis();
+        PendingAcknowledgements pending =
+                pendingByObserver.compute(
+                        observerId,
+                        (id, current) -> {
+                            PendingAcknowledgements next =
+                                    current != null ? current : new PendingAcknowledgements(now);
+                            next.add(orderId);
+                            return next;
+                        });
+        dropOverflow(observerId, pending);
+
+        if (pending.size() >= batchSize && !pending.isBackingOff()) {
+            flush(observerId);
+        }
+    }
+
+    public void flushDue(long now) {
+        for (Map.Entry<String, PendingAcknowledgements> entry : pendingByObserver.entrySet()) {
+            if (entry.getValue().isDue(now, maxDelayMs)) {
+                flush(entry.getKey());
+            }
+        }
+    }
+
+    public void flushAll() {
+        for (String observerId : new ArrayList<>(pendingByObserver.keySet())) {
+            flush(observerId);
+        }
+    }
+
+    public Set<String> flush(String observerId) {
+        PendingAcknowledgements pending = pendingByObserver.remove(observerId);
+        if (pending == null) {
+            return Collections.emptySet();
+        }
+
+        List<String> orderIds = pending.getOrderIds();
+        Optional<OrderObserver> orderObserver = orderObserverRepository.findById(observerId);
+        if (orderObserver.isEmpty()) {
+            logger.warn(
+                    "Dropping {} acknowledgements for unknown order observer: {}",
+                    orderIds.size(),
+                    observerId);
+            return Collections.emptySet();
+        }
+
+        try {
+            Set<String> acknowledged =
+                    orderSourcePort.acknowledgeOrders(
+                            orderObserver.get().getSourceEndpoint(), orderIds);
+
+            if (acknowledged.size() < orderIds.size()) {
+                logger.info(
+                        "Observer {} acknowledged {} of {} orders, the rest were no longer NEW",
+                        observerId,
+                        acknowledged.size(),
+                        orderIds.size());
+            }
+            return acknowledged;
+
+        } catch (RuntimeException e) {
+            int attempt = pending.getAttempts() + 1;
+            long backoffMs = backoffFor(attempt);
+            logger.error(
+                    "Failed to acknowledge {} orders for observer {} (attempt {}), retry in {} ms",
+                    orderIds.size(),
+                    observerId,
+                    attempt,
+                    backoffMs,
+                    e);
+            pending.scheduleRetry(System.currentTimeMillis() + backoffMs);
+            requeue(observerId, pending);
+            return Collections.emptySet();
+        }
+    }
+
+    public int getPendingCount(String observerId) {
+        PendingAcknowledgements pending = pendingByObserver.get(observerId);
+        return pending != null ? pending.size() : 0;
+    }
+
+    private void requeue(String observerId, PendingAcknowledgements failed) {
+        PendingAcknowledgements pending =
+                pendingByObserver.merge(
+                        observerId,
+                        failed,
+                        (current, requeued) -> {
+                            requeued.addAll(current);
+                            return requeued;
+                        });
+        dropOverflow(observerId, pending);
+    }
+
+    private void dropOverflow(String observerId, PendingAcknowledgements pending) {
+        int dropped = pending.dropOldestBeyond(maxPending);
+        if (dropped > 0) {
+            logger.warn(
+                    "Dropped {} oldest acknowledgements for observer {}; those orders stay NEW"
+                            + " in the source",
+                    dropped,
+                    observerId);
+        }
+    }
+
+    private long backoffFor(int attempts) {
+        long backoffMs = retryBackoffMs << Math.min(attempts - 1, 20);
+        return Math.min(backoffMs, maxRetryBackoffMs);
+    }
+
+    private static class PendingAcknowledgements {
+        private final long firstEnqueuedAt;
+        private final Set<String> orderIds = new LinkedHashSet<>();
+        private int attempts;
+        private long retryAt;
+
+        private PendingAcknowledgements(long firstEnqueuedAt) {
+            this.firstEnqueuedAt = firstEnqueuedAt;
+        }
+
+        private synchronized void add(String orderId) {
+            orderIds.add(orderId);
+        }
+
+        private synchronized void addAll(PendingAcknowledgements other) {
+            orderIds.addAll(other.getOrderIds());
+        }
+
+        private synchronized int size() {
+            return orderIds.size();
+        }
+
+        private synchronized List<String> getOrderIds() {
+            return new ArrayList<>(orderIds);
+        }
+
+        private synchronized int dropOldestBeyond(int limit) {
+            int dropped = 0;
+            Iterator<String> iterator = orderIds.iterator();
+            while (orderIds.size() > limit && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+                dropped++;
+            }
+            return dropped;
+        }
+
+        private synchronized void scheduleRetry(long retryAt) {
+            this.attempts++;
+            this.retryAt = retryAt;
+        }
+
+        private synchronized int getAttempts() {
+            return attempts;
+        }
+
+        private synchronized boolean isBackingOff() {
+            return attempts > 0;
+        }
+
+        private synchronized boolean isDue(long now, long maxDelayMs) {
+            return attempts > 0 ? now >= retryAt : now - firstEnqueuedAt >= maxDelayMs;
+        }
+    }
+}
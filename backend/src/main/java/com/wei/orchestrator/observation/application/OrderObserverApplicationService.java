@@ -1,33 +1,57 @@
 package com.wei.orchestrator.observation.application;
 
+import com.wei.orchestrator.observation.application.command.ChangeSourceEndpointCommand;
 import com.wei.orchestrator.observation.application.command.CreateOrderObserverCommand;
 import com.wei.orchestrator.observation.application.command.PollOrderSourceCommand;
+import com.wei.orchestrator.observation.application.dto.ObserverScheduleDto;
+import com.wei.orchestrator.observation.application.event.ObserverScheduleChangedEvent;
 import com.wei.orchestrator.observation.domain.event.NewOrderObservedEvent;
 import com.wei.orchestrator.observation.domain.model.OrderObserver;
+import com.wei.orchestrator.observation.domain.model.valueobject.DrainPolicy;
+import com.wei.orchestrator.observation.domain.model.valueobject.IngestionPressure;
+import com.wei.orchestrator.observation.domain.model.valueobject.ObserverType;
+import com.wei.orchestrator.observation.domain.model.valueobject.OrderSourceMode;
 import com.wei.orchestrator.observation.domain.model.valueobject.PollingInterval;
 import com.wei.orchestrator.observation.domain.model.valueobject.SourceEndpoint;
+import com.wei.orchestrator.observation.domain.port.IngestionBackpressurePort;
 import com.wei.orchestrator.observation.domain.port.OrderSourcePort;
 import com.wei.orchestrator.observation.domain.repository.OrderObserverRepository;
 import com.wei.orchestrator.shared.domain.model.valueobject.TriggerContext;
 import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
 @Service
 public class OrderObserverApplicationService {
 
+    private static final Logger logger =
+            LoggerFactory.getLogger(OrderObserverApplicationService.class);
+
     private final OrderObserverRepository orderObserverRepository;
     private final OrderSourcePort orderSourcePort;
+    private final OrderSourcePort changeLogOrderSourcePort;
+    private final IngestionBackpressurePort ingestionBackpressurePort;
     private final ApplicationEventPublisher eventPublisher;
+    private final TransactionOperations transactionOperations;
 
     public OrderObserverApplicationService(
             OrderObserverRepository orderObserverRepository,
             OrderSourcePort orderSourcePort,
-            ApplicationEventPublisher eventPublisher) {
+            @Qualifier("changeLogOrderSourceAdapter") OrderSourcePort changeLogOrderSourcePort,
+            IngestionBackpressurePort ingestionBackpressurePort,
+            ApplicationEventPublisher eventPublisher,
+            TransactionOperations transactionOperations) {
         this.orderObserverRepository = orderObserverRepository;
         this.orderSourcePort = orderSourcePort;
+        this.changeLogOrderSourcePort = changeLogOrderSourcePort;
+        this.ingestionBackpressurePort = ingestionBackpressurePort;
         this.eventPublisher = eventPublisher;
+        this.transactionOperations = transactionOperations;
     }
 
     @Transactional
@@ -38,15 +62,39 @@ public class OrderObserverApplicationService {
 
         PollingInterval pollingInterval = new PollingInterval(command.getPollingIntervalSeconds());
 
+        int pageSize =
+                command.getPageSize() != null
+                        ? command.getPageSize()
+                        : DrainPolicy.DEFAULT_PAGE_SIZE;
+        DrainPolicy drainPolicy =
+                new DrainPolicy(
+                        pageSize,
+                        command.getMaxRowsPerCycle() != null
+                                ? command.getMaxRowsPerCycle()
+                                : Math.max(pageSize, DrainPolicy.DEFAULT_MAX_ROWS_PER_CYCLE),
+                        command.getMaxDrainSeconds() != null
+                                ? command.getMaxDrainSeconds()
+                                : DrainPolicy.DEFAULT_MAX_DRAIN_SECONDS);
+
         OrderObserver orderObserver =
-                new OrderObserver(command.getObserverId(), sourceEndpoint, pollingInterval);
+                new OrderObserver(
+                        command.getObserverId(), sourceEndpoint, pollingInterval, drainPolicy);
+        orderObserver.changeSourceMode(
+                command.getSourceMode() != null
+                        ? command.getSourceMode()
+                        : OrderSourceMode.POLLING);
 
         OrderObserver savedObserver = orderObserverRepository.save(orderObserver);
 
+        eventPublisher.publishEvent(
+                ObserverScheduleChangedEvent.activated(
+                        ObserverType.ORDER,
+                        savedObserver.getObserverId(),
+                        savedObserver.getPollingInterval().getSeconds()));
+
         return savedObserver.getObserverId();
     }
 
-    @Transactional
     public void pollOrderSource(PollOrderSourceCommand command, TriggerContext triggerContext) {
         OrderObserver orderObserver =
                 orderObserverRepository
@@ -57,14 +105,71 @@ public class OrderObserverApplicationService {
                                                 "OrderObserver not found: "
                                                         + command.getObserverId()));
 
-        orderObserver.pollOrderSource(orderSourcePort);
-        orderObserverRepository.save(orderObserver);
+        IngestionPressure ingestionPressure = currentIngestionPressure(orderObserver);
+        if (ingestionPressure == IngestionPressure.SATURATED) {
+            return;
+        }
+
+        orderObserver.pollOrderSource(sourcePortFor(orderObserver), ingestionPressure);
+
+        saveAndPublish(orderObserver, triggerContext);
+    }
+
+    public void consumeOrderChanges(String observerId, TriggerContext triggerContext) {
+        OrderObserver orderObserver =
+                orderObserverRepository
+                        .findById(observerId)
+                        .orElseThrow(
+                                () ->
+                                        new IllegalArgumentException(
+                                                "OrderObserver not found: " + observerId));
+
+        IngestionPressure ingestionPressure = currentIngestionPressure(orderObserver);
+        if (!orderObserver.consumeOrderChanges(changeLogOrderSourcePort, ingestionPressure)) {
+            return;
+        }
+
+        saveAndPublish(orderObserver, triggerContext);
+    }
+
+    @Transactional(readOnly = true)
+    public List<String> findActiveChangeLogObserverIds() {
+        return orderObserverRepository.findAllActive().stream()
+                .filter(OrderObserver::isChangeLogMode)
+                .map(OrderObserver::getObserverId)
+                .toList();
+    }
 
+    private IngestionPressure currentIngestionPressure(OrderObserver orderObserver) {
+        IngestionPressure ingestionPressure = ingestionBackpressurePort.currentPressure();
+        if (ingestionPressure == IngestionPressure.SATURATED) {
+            logger.info(
+                    "Order ingestion buffer saturated, skipping cycle for observer: {}",
+                    orderObserver.getObserverId());
+        } else if (ingestionPressure == IngestionPressure.HIGH) {
+            logger.debug(
+                    "Order ingestion buffer above high-water mark, throttling observer: {}",
+                    orderObserver.getObserverId());
+        }
+        return ingestionPressure;
+    }
+
+    private OrderSourcePort sourcePortFor(OrderObserver orderObserver) {
+        return orderObserver.isChangeLogMode() ? changeLogOrderSourcePort : orderSourcePort;
+    }
+
+    private void saveAndPublish(OrderObserver orderObserver, TriggerContext triggerContext) {
         TriggerContext context = triggerContext != null ? triggerContext : TriggerContext.manual();
         List<Object> domainEvents = orderObserver.getDomainEvents();
-        domainEvents.stream()
-                .map(event -> enrichWithTriggerContext(event, context))
-                .forEach(eventPublisher::publishEvent);
+
+        transactionOperations.executeWithoutResult(
+                status -> {
+                    orderObserverRepository.save(orderObserver);
+                    domainEvents.stream()
+                            .map(event -> enrichWithTriggerContext(event, context))
+                            .forEach(eventPublisher::publishEvent);
+                });
+
         orderObserver.clearDomainEvents();
     }
 
@@ -76,16 +181,16 @@ public class OrderObserverApplicationService {
         return event;
     }
 
-    @Transactional
-    public void pollAllActiveObservers() {
-        List<OrderObserver> activeObservers = orderObserverRepository.findAllActive();
-
-        TriggerContext scheduledContext = TriggerContext.scheduled("OrderObserver");
-
-        for (OrderObserver observer : activeObservers) {
-            PollOrderSourceCommand command = new PollOrderSourceCommand(observer.getObserverId());
-            pollOrderSource(command, scheduledContext);
-        }
+    @Transactional(readOnly = true)
+    public List<ObserverScheduleDto> findActiveObserverSchedules() {
+        return orderObserverRepository.findAllActive().stream()
+                .map(
+                        observer ->
+                                new ObserverScheduleDto(
+                                        observer.getObserverId(),
+                                        observer.getPollingInterval().getSeconds(),
+                                        observer.getLastPolledTimestamp()))
+                .toList();
     }
 
     @Transactional
@@ -100,6 +205,12 @@ public class OrderObserverApplicationService {
 
         orderObserver.activate();
         orderObserverRepository.save(orderObserver);
+
+        eventPublisher.publishEvent(
+                ObserverScheduleChangedEvent.activated(
+                        ObserverType.ORDER,
+                        observerId,
+                        orderObserver.getPollingInterval().getSeconds()));
     }
 
     @Transactional
@@ -114,5 +225,48 @@ public class OrderObserverApplicationService {
 
         orderObserver.deactivate();
         orderObserverRepository.save(orderObserver);
+
+        eventPublisher.publishEvent(
+                ObserverScheduleChangedEvent.deactivated(ObserverType.ORDER, observerId));
+
+        releaseSourceEndpointIfUnused(observerId, orderObserver.getSourceEndpoint());
+    }
+
+    @Transactional
+    public void changeSourceEndpoint(ChangeSourceEndpointCommand command) {
+        OrderObserver orderObserver =
+                orderObserverRepository
+                        .findById(command.getObserverId())
+                        .orElseThrow(
+                                () ->
+                                        new IllegalArgumentException(
+                                                "OrderObserver not found: "
+                                                        + command.getObserverId()));
+
+        SourceEndpoint previousEndpoint = orderObserver.getSourceEndpoint();
+        SourceEndpoint newEndpoint =
+                new SourceEndpoint(
+                        command.getJdbcUrl(), command.getUsername(), command.getPassword());
+
+        orderObserver.changeSourceEndpoint(newEndpoint);
+        orderObserverRepository.save(orderObserver);
+
+        boolean credentialsUnchanged =
+                previousEndpoint.equals(newEndpoint)
+                        && previousEndpoint.getPassword().equals(newEndpoint.getPassword());
+        if (!credentialsUnchanged) {
+            releaseSourceEndpointIfUnused(command.getObserverId(), previousEndpoint);
+        }
+    }
+
+    private void releaseSourceEndpointIfUnused(String observerId, SourceEndpoint sourceEndpoint) {
+        boolean sharedWithOtherObserver =
+                orderObserverRepository.findAllActive().stream()
+                        .filter(observer -> !observer.getObserverId().equals(observerId))
+                        .anyMatch(observer -> sourceEndpoint.equals(observer.getSourceEndpoint()));
+
+        if (!sharedWithOtherObserver) {
+            orderSourcePort.releaseSourceEndpoint(sourceEndpoint);
+        }
     }
 }
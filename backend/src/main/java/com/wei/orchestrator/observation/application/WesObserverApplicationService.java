@@ -2,19 +2,23 @@ package com.wei.orchestrator.observation.application;
 
 import com.wei.orchestrator.observation.application.command.CreateWesObserverCommand;
 import com.wei.orchestrator.observation.application.command.PollWesTaskStatusCommand;
+import com.wei.orchestrator.observation.application.dto.ObserverScheduleDto;
+import com.wei.orchestrator.observation.application.event.ObserverScheduleChangedEvent;
 import com.wei.orchestrator.observation.domain.event.WesTaskStatusUpdatedEvent;
 import com.wei.orchestrator.observation.domain.model.WesObserver;
+import com.wei.orchestrator.observation.domain.model.valueobject.ObserverType;
 import com.wei.orchestrator.observation.domain.model.valueobject.PollingInterval;
 import com.wei.orchestrator.observation.domain.model.valueobject.TaskEndpoint;
+import com.wei.orchestrator.observation.domain.model.valueobject.WesTaskIndex;
 import com.wei.orchestrator.observation.domain.repository.WesObserverRepository;
 import com.wei.orchestrator.shared.domain.model.valueobject.TriggerContext;
-import com.wei.orchestrator.wes.domain.model.PickingTask;
 import com.wei.orchestrator.wes.domain.port.WesPort;
 import com.wei.orchestrator.wes.domain.repository.PickingTaskRepository;
 import java.util.List;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
 @Service
 public class WesObserverApplicationService {
@@ -23,16 +27,19 @@ public class WesObserverApplicationService {
     private final WesPort wesPort;
     private final PickingTaskRepository pickingTaskRepository;
     private final ApplicationEventPublisher eventPublisher;
+    private final TransactionOperations transactionOperations;
 
     public WesObserverApplicationService(
             WesObserverRepository wesObserverRepository,
             WesPort wesPort,
             PickingTaskRepository pickingTaskRepository,
-            ApplicationEventPublisher eventPublisher) {
+            ApplicationEventPublisher eventPublisher,
+            TransactionOperations transactionOperations) {
         this.wesObserverRepository = wesObserverRepository;
         this.wesPort = wesPort;
         this.pickingTaskRepository = pickingTaskRepository;
         this.eventPublisher = eventPublisher;
+        this.transactionOperations = transactionOperations;
     }
 
     @Transactional
@@ -42,15 +49,29 @@ public class WesObserverApplicationService {
 
         PollingInterval pollingInterval = new PollingInterval(command.getPollingIntervalSeconds());
 
+        int fullResyncIntervalSeconds =
+                command.getFullResyncIntervalSeconds() != null
+                        ? command.getFullResyncIntervalSeconds()
+                        : WesObserver.DEFAULT_FULL_RESYNC_INTERVAL_SECONDS;
+
         WesObserver wesObserver =
-                new WesObserver(command.getObserverId(), taskEndpoint, pollingInterval);
+                new WesObserver(
+                        command.getObserverId(),
+                        taskEndpoint,
+                        pollingInterval,
+                        fullResyncIntervalSeconds);
 
         WesObserver savedObserver = wesObserverRepository.save(wesObserver);
 
+        eventPublisher.publishEvent(
+                ObserverScheduleChangedEvent.activated(
+                        ObserverType.WES,
+                        savedObserver.getObserverId(),
+                        savedObserver.getPollingInterval().getSeconds()));
+
         return savedObserver.getObserverId();
     }
 
-    @Transactional
     public void pollWesTaskStatus(PollWesTaskStatusCommand command, TriggerContext triggerContext) {
         WesObserver wesObserver =
                 wesObserverRepository
@@ -65,32 +86,36 @@ public class WesObserverApplicationService {
             return;
         }
 
-        List<PickingTask> allPickingTasks = pickingTaskRepository.findAll();
+        WesTaskIndex activeTasks =
+                WesTaskIndex.fromStatusViews(pickingTaskRepository.findNonTerminalStatusViews());
 
-        wesObserver.pollWesTaskStatus(wesPort, allPickingTasks);
-
-        wesObserverRepository.save(wesObserver);
+        wesObserver.pollWesTaskStatus(
+                wesPort, activeTasks, pickingTaskRepository::findExistingWesTaskIds);
 
         TriggerContext context = triggerContext != null ? triggerContext : TriggerContext.manual();
         List<Object> domainEvents = wesObserver.getDomainEvents();
-        domainEvents.stream()
-                .map(event -> enrichWithTriggerContext(event, context))
-                .forEach(eventPublisher::publishEvent);
+
+        transactionOperations.executeWithoutResult(
+                status -> {
+                    wesObserverRepository.save(wesObserver);
+                    domainEvents.stream()
+                            .map(event -> enrichWithTriggerContext(event, context))
+                            .forEach(eventPublisher::publishEvent);
+                });
 
         wesObserver.clearDomainEvents();
     }
 
-    @Transactional
-    public void pollAllActiveObservers() {
-        List<WesObserver> activeObservers = wesObserverRepository.findAllActive();
-
-        TriggerContext scheduledContext = TriggerContext.scheduled("WesObserver");
-
-        for (WesObserver observer : activeObservers) {
-            PollWesTaskStatusCommand command =
-                    new PollWesTaskStatusCommand(observer.getObserverId());
-            pollWesTaskStatus(command, scheduledContext);
-        }
+    @Transactional(readOnly = true)
+    public List<ObserverScheduleDto> findActiveObserverSchedules() {
+        return wesObserverRepository.findAllActive().stream()
+                .map(
+                        observer ->
+                                new ObserverScheduleDto(
+                                        observer.getObserverId(),
+                                        observer.getPollingInterval().getSeconds(),
+                                        observer.getLastPolledTimestamp()))
+                .toList();
     }
 
     private Object enrichWithTriggerContext(Object event, TriggerContext triggerContext) {
@@ -113,6 +138,12 @@ public class WesObserverApplicationService {
 
         wesObserver.activate();
         wesObserverRepository.save(wesObserver);
+
+        eventPublisher.publishEvent(
+                ObserverScheduleChangedEvent.activated(
+                        ObserverType.WES,
+                        observerId,
+                        wesObserver.getPollingInterval().getSeconds()));
     }
 
     @Transactional
@@ -127,5 +158,8 @@ public class WesObserverApplicationService {
 
         wesObserver.deactivate();
         wesObserverRepository.save(wesObserver);
+
+        eventPublisher.publishEvent(
+                ObserverScheduleChangedEvent.deactivated(ObserverType.WES, observerId));
     }
 }
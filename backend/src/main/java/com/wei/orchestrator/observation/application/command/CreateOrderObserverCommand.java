@@ -1,11 +1,17 @@
 package com.wei.orchestrator.observation.application.command;
 
+import com.wei.orchestrator.observation.domain.model.valueobject.OrderSourceMode;
+
 public class CreateOrderObserverCommand {
     private String observerId;
     private String jdbcUrl;
     private String username;
     private String password;
     private int pollingIntervalSeconds;
+    private Integer pageSize;
+    private Integer maxRowsPerCycle;
+    private Integer maxDrainSeconds;
+    private OrderSourceMode sourceMode;
 
     public CreateOrderObserverCommand() {}
 
@@ -22,6 +28,43 @@ public class CreateOrderObserverCommand {
         this.pollingIntervalSeconds = pollingIntervalSeconds;
     }
 
+    public CreateOrderObserverCommand(
+            String observerId,
+            String jdbcUrl,
+            String username,
+            String password,
+            int pollingIntervalSeconds,
+            Integer pageSize,
+            Integer maxRowsPerCycle,
+            Integer maxDrainSeconds) {
+        this(observerId, jdbcUrl, username, password, pollingIntervalSeconds);
+        this.pageSize = pageSize;
+        this.maxRowsPerCycle = maxRowsPerCycle;
+        this.maxDrainSeconds = maxDrainSeconds;
+    }
+
+    public CreateOrderObserverCommand(
+            String observerId,
+            String jdbcUrl,
+            String username,
+            String password,
+            int pollingIntervalSeconds,
+            Integer pageSize,
+            Integer maxRowsPerCycle,
+            Integer maxDrainSeconds,
+            OrderSourceMode sourceMode) {
+        this(
+                observerId,
+                jdbcUrl,
+                username,
+                password,
+                pollingIntervalSeconds,
+                pageSize,
+                maxRowsPerCycle,
+                maxDrainSeconds);
+        this.sourceMode = sourceMode;
+    }
+
     public String getObserverId() {
         return observerId;
     }
@@ -61,4 +104,36 @@ public class CreateOrderObserverCommand {
     public void setPollingIntervalSeconds(int pollingIntervalSeconds) {
         this.pollingIntervalSeconds = pollingIntervalSeconds;
     }
+
+    public Integer getPageSize() {
+        return pageSize;
+    }
+
+    public void setPageSize(Integer pageSize) {
+        this.pageSize = pageSize;
+    }
+
+    public Integer getMaxRowsPerCycle() {
+        return maxRowsPerCycle;
+    }
+
+    public void setMaxRowsPerCycle(Integer maxRowsPerCycle) {
+        this.maxRowsPerCycle = maxRowsPerCycle;
+    }
+
+    public Integer getMaxDrainSeconds() {
+        return maxDrainSeconds;
+    }
+
+    public void setMaxDrainSeconds(Integer maxDrainSeconds) {
+        this.maxDrainSeconds = maxDrainSeconds;
+    }
+
+    public OrderSourceMode getSourceMode() {
+        return sourceMode;
+    }
+
+    public void setSourceMode(OrderSourceMode sourceMode) {
+        this.sourceMode = sourceMode;
+    }
 }
@@ -5,6 +5,7 @@ public class CreateWesObserverCommand {
     private String taskEndpointUrl;
     private String authToken;
     private int pollingIntervalSeconds;
+    private Integer fullResyncIntervalSeconds;
 
     public CreateWesObserverCommand() {}
 
@@ -19,6 +20,16 @@ public class CreateWesObserverCommand {
         this.pollingIntervalSeconds = pollingIntervalSeconds;
     }
 
+    public CreateWesObserverCommand(
+            String observerId,
+            String taskEndpointUrl,
+            String authToken,
+            int pollingIntervalSeconds,
+            Integer fullResyncIntervalSeconds) {
+        this(observerId, taskEndpointUrl, authToken, pollingIntervalSeconds);
+        this.fullResyncIntervalSeconds = fullResyncIntervalSeconds;
+    }
+
     public String getObserverId() {
         return observerId;
     }
@@ -50,4 +61,12 @@ public class CreateWesObserverCommand {
     public void setPollingIntervalSeconds(int pollingIntervalSeconds) {
         this.pollingIntervalSeconds = pollingIntervalSeconds;
     }
+
+    public Integer getFullResyncIntervalSeconds() {
+        return fullResyncIntervalSeconds;
+    }
+
+    public void setFullResyncIntervalSeconds(Integer fullResyncIntervalSeconds) {
+        this.fullResyncIntervalSeconds = fullResyncIntervalSeconds;
+    }
 }
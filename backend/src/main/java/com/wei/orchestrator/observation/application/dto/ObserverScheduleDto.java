@@ -0,0 +1,29 @@
+package com.wei.orchestrator.observation.application.dto;
+
+import java.time.LocalDateTime;
+
+public class ObserverScheduleDto {
+
+    private final String observerId;
+    private final int pollingIntervalSeconds;
+    private final LocalDateTime lastPolledTimestamp;
+
+    public ObserverScheduleDto(
+            String observerId, int pollingIntervalSeconds, LocalDateTime lastPolledTimestamp) {
+        this.observerId = observerId;
+        this.pollingIntervalSeconds = pollingIntervalSeconds;
+        this.lastPolledTimestamp = lastPolledTimestamp;
+    }
+
+    public String getObserverId() {
+        return observerId;
+    }
+
+    public int getPollingIntervalSeconds() {
+        return pollingIntervalSeconds;
+    }
+
+    public LocalDateTime getLastPolledTimestamp() {
+        return lastPolledTimestamp;
+    }
+}
@@ -0,0 +1,63 @@
+package com.wei.orchestrator.observation.application.event;
+
+import com.wei.orchestrator.observation.domain.model.valueobject.ObserverType;
+
+public class ObserverScheduleChangedEvent {
+    private final ObserverType observerType;
+    private final String observerId;
+    private final boolean active;
+    private final int pollingIntervalSeconds;
+
+    private ObserverScheduleChangedEvent(
+            ObserverType observerType,
+            String observerId,
+            boolean active,
+            int pollingIntervalSeconds) {
+        this.observerType = observerType;
+        this.observerId = observerId;
+        this.active = active;
+        this.pollingIntervalSeconds = pollingIntervalSeconds;
+    }
+
+    public static ObserverScheduleChangedEvent activated(
+            ObserverType observerType, String observerId, int pollingIntervalSeconds) {
+        return new ObserverScheduleChangedEvent(
+                observerType, observerId, true, pollingIntervalSeconds);
+    }
+
+    public static ObserverScheduleChangedEvent deactivated(
+            ObserverType observerType, String observerId) {
+        return new ObserverScheduleChangedEvent(observerType, observerId, false, 0);
+    }
+
+    public ObserverType getObserverType() {
+        return observerType;
+    }
+
+    public String getObserverId() {
+        return observerId;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public int getPollingIntervalSeconds() {
+        return pollingIntervalSeconds;
+    }
+
+    @Override
+    public String toString() {
+        return "ObserverScheduleChangedEvent{"
+                + "observerType="
+                + observerType
+                + ", observerId='"
+                + observerId
+                + '\''
+                + ", active="
+                + active
+                + ", pollingIntervalSeconds="
+                + pollingIntervalSeconds
+                + '}';
+    }
+}
@@ -0,0 +1,24 @@
+package com.wei.orchestrator.observation.application.eventhandler;
+
+import com.wei.orchestrator.observation.application.OrderAcknowledgementApplicationService;
+import com.wei.orchestrator.observation.domain.event.NewOrderObservedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+public class OrderAcknowledgementEventHandler {
+
+    private final OrderAcknowledgementApplicationService orderAcknowledgementApplicationService;
+
+    public OrderAcknowledgementEventHandler(
+            OrderAcknowledgementApplicationService orderAcknowledgementApplicationService) {
+        this.orderAcknowledgementApplicationService = orderAcknowledgementApplicationService;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleNewOrderObserved(NewOrderObservedEvent event) {
+        orderAcknowledgementApplicationService.acknowledge(
+                event.getObserverId(), event.getObservedOrder().getOrderId());
+    }
+}
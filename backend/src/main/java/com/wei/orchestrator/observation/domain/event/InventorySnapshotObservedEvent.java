@@ -7,11 +7,18 @@ import java.util.List;
 public class InventorySnapshotObservedEvent {
     private final String observerId;
     private final List<StockSnapshot> snapshots;
+    private final boolean fullSnapshot;
     private final LocalDateTime occurredAt;
 
     public InventorySnapshotObservedEvent(String observerId, List<StockSnapshot> snapshots) {
+        this(observerId, snapshots, true);
+    }
+
+    public InventorySnapshotObservedEvent(
+            String observerId, List<StockSnapshot> snapshots, boolean fullSnapshot) {
         this.observerId = observerId;
         this.snapshots = snapshots;
+        this.fullSnapshot = fullSnapshot;
         this.occurredAt = LocalDateTime.now();
     }
 
@@ -23,6 +30,10 @@ public class InventorySnapshotObservedEvent {
         return snapshots;
     }
 
+    public boolean isFullSnapshot() {
+        return fullSnapshot;
+    }
+
     public LocalDateTime getOccurredAt() {
         return occurredAt;
     }
@@ -35,6 +46,8 @@ public class InventorySnapshotObservedEvent {
                 + '\''
                 + ", snapshots="
                 + snapshots
+                + ", fullSnapshot="
+                + fullSnapshot
                 + ", occurredAt="
                 + occurredAt
                 + '}';
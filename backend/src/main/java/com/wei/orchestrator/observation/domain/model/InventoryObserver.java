@@ -11,9 +11,11 @@ import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
 
 public class InventoryObserver {
+    private static final DateTimeFormatter UPDATED_AT_FORMATTER =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'");
+
     private String observerId;
     private ObservationRule observationRule;
     private PollingInterval pollingInterval;
@@ -46,19 +48,37 @@ public class InventoryObserver {
     }
 
     public void pollInventorySnapshot(InventoryPort inventoryPort) {
+        pollInventorySnapshot(inventoryPort, new LastKnownStockLevels());
+    }
+
+    public void pollInventorySnapshot(
+            InventoryPort inventoryPort, LastKnownStockLevels lastKnownStockLevels) {
         if (!this.shouldPoll()) {
             return;
         }
 
-        List<InventorySnapshotDto> dtos = inventoryPort.getInventorySnapshot();
+        boolean fullSnapshot = lastKnownStockLevels.isEmpty();
+        List<StockSnapshot> changedSnapshots = new ArrayList<>();
 
-        List<StockSnapshot> snapshots =
-                dtos.stream().map(this::mapToStockSnapshot).collect(Collectors.toList());
+        lastKnownStockLevels.beginSnapshot();
+        inventoryPort.streamInventorySnapshot(
+                dto -> {
+                    StockSnapshot snapshot = mapToStockSnapshot(dto);
+                    if (lastKnownStockLevels.record(snapshot, this.observationRule)) {
+                        changedSnapshots.add(snapshot);
+                    }
+                });
 
         this.lastPolledTimestamp = LocalDateTime.now();
+        changedSnapshots.addAll(lastKnownStockLevels.completeSnapshot(this.lastPolledTimestamp));
+
+        if (!fullSnapshot && changedSnapshots.isEmpty()) {
+            return;
+        }
 
         InventorySnapshotObservedEvent event =
-                new InventorySnapshotObservedEvent(this.observerId, snapshots);
+                new InventorySnapshotObservedEvent(
+                        this.observerId, changedSnapshots, fullSnapshot);
         this.domainEvents.add(event);
     }
 
@@ -67,9 +87,7 @@ public class InventoryObserver {
                 dto.getSku(),
                 dto.getAvailableQuantity(),
                 dto.getWarehouseId(),
-                LocalDateTime.parse(
-                        dto.getUpdatedAt(),
-                        DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'")));
+                LocalDateTime.parse(dto.getUpdatedAt(), UPDATED_AT_FORMATTER));
     }
 
     public List<Object> getDomainEvents() {
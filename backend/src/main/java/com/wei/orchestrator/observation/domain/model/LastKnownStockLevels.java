@@ -0,0 +1,211 @@
+package com.wei.orchestrator.observation.domain.model;
+
+import com.wei.orchestrator.observation.domain.model.valueobject.ObservationRule;
+import com.wei.orchestrator.observation.domain.model.valueobject.StockSnapshot;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class LastKnownStockLevels {
+    private static final int INITIAL_CAPACITY = 64;
+    private static final long EMPTY = -1L;
+
+    private final Map<String, Integer> warehouseCodes;
+    private final Map<String, Integer> skuCodes;
+    private final List<String> warehouseIds;
+    private final List<String> skus;
+
+    private long[] keys;
+    private int[] quantities;
+    private int[] seenInGeneration;
+    private int size;
+    private int generation;
+
+    public LastKnownStockLevels() {
+        this.warehouseCodes = new HashMap<>();
+        this.skuCodes = new HashMap<>();
+        this.warehouseIds = new ArrayList<>();
+        this.skus = new ArrayList<>();
+        allocate(INITIAL_CAPACITY);
+    }
+
+    public List<StockSnapshot> applySnapshot(
+            Collection<StockSnapshot> snapshots,
+            ObservationRule observationRule,
+            LocalDateTime observedAt) {
+        if (snapshots == null) {
+            throw new IllegalArgumentException("Snapshots cannot be null");
+        }
+        if (observationRule == null) {
+            throw new IllegalArgumentException("Observation rule cannot be null");
+        }
+        beginSnapshot();
+        List<StockSnapshot> changes = new ArrayList<>();
+        for (StockSnapshot snapshot : snapshots) {
+            if (record(snapshot, observationRule)) {
+                changes.add(snapshot);
+            }
+        }
+        changes.addAll(completeSnapshot(observedAt));
+        return changes;
+    }
+
+    public void beginSnapshot() {
+        generation++;
+    }
+
+    public boolean record(StockSnapshot snapshot, ObservationRule observationRule) {
+        long key = keyOf(snapshot.getWarehouseId(), snapshot.getSku());
+        int slot = slotOf(key);
+        boolean changed = false;
+
+        if (keys[slot] == EMPTY) {
+            insert(slot, key, snapshot.getQuantity());
+            slot = slotOf(key);
+            changed = true;
+        } else if (observationRule.isSignificantChange(quantities[slot], snapshot.getQuantity())) {
+            quantities[slot] = snapshot.getQuantity();
+            changed = true;
+        }
+        seenInGeneration[slot] = generation;
+        return changed;
+    }
+
+    public List<StockSnapshot> completeSnapshot(LocalDateTime observedAt) {
+        List<StockSnapshot> removed = new ArrayList<>();
+        for (long key : unseenKeys()) {
+            int slot = slotOf(key);
+            if (quantities[slot] > 0) {
+                removed.add(
+                        new StockSnapshot(
+                                skus.get(skuCode(key)),
+                                0,
+                                warehouseIds.get(warehouseCode(key)),
+                                observedAt));
+            }
+            remove(slot);
+        }
+        return removed;
+    }
+
+    public int quantityOf(String warehouseId, String sku) {
+        Integer warehouseCode = warehouseCodes.get(warehouseId);
+        Integer skuCode = skuCodes.get(sku);
+        if (warehouseCode == null || skuCode == null) {
+            return -1;
+        }
+        int slot = slotOf(((long) warehouseCode << 32) | skuCode);
+        return keys[slot] == EMPTY ? -1 : quantities[slot];
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private long keyOf(String warehouseId, String sku) {
+        int warehouseCode =
+                warehouseCodes.computeIfAbsent(warehouseId, id -> intern(warehouseIds, id));
+        int skuCode = skuCodes.computeIfAbsent(sku, id -> intern(skus, id));
+        return ((long) warehouseCode << 32) | skuCode;
+    }
+
+    private static int intern(List<String> values, String value) {
+        values.add(value);
+        return values.size() - 1;
+    }
+
+    private static int warehouseCode(long key) {
+        return (int) (key >>> 32);
+    }
+
+    private static int skuCode(long key) {
+        return (int) key;
+    }
+
+    private int slotOf(long key) {
+        int mask = keys.length - 1;
+        int slot = hash(key) & mask;
+        while (keys[slot] != EMPTY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private static int hash(long key) {
+        long mixed = key * 0x9E3779B97F4A7C15L;
+        return (int) (mixed ^ (mixed >>> 32));
+    }
+
+    private void insert(int slot, long key, int quantity) {
+        keys[slot] = key;
+        quantities[slot] = quantity;
+        size++;
+        if (size * 4 >= keys.length * 3) {
+            resize(keys.length * 2);
+        }
+    }
+
+    private void remove(int slot) {
+        int mask = keys.length - 1;
+        int hole = slot;
+        int next = (hole + 1) & mask;
+        while (keys[next] != EMPTY) {
+            int home = hash(keys[next]) & mask;
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                keys[hole] = keys[next];
+                quantities[hole] = quantities[next];
+                seenInGeneration[hole] = seenInGeneration[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[hole] = EMPTY;
+        size--;
+    }
+
+    private long[] unseenKeys() {
+        long[] unseen = new long[size];
+        int count = 0;
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != EMPTY && seenInGeneration[slot] != generation) {
+                unseen[count++] = keys[slot];
+            }
+        }
+        return Arrays.copyOf(unseen, count);
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldQuantities = quantities;
+        int[] oldSeenInGeneration = seenInGeneration;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int slot = slotOf(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                quantities[slot] = oldQuantities[i];
+                seenInGeneration[slot] = oldSeenInGeneration[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        quantities = new int[capacity];
+        seenInGeneration = new int[capacity];
+        Arrays.fill(keys, EMPTY);
+    }
+
+    @Override
+    public String toString() {
+        return "LastKnownStockLevels{" + "size=" + size + '}';
+    }
+}
@@ -1,7 +1,12 @@
 package com.wei.orchestrator.observation.domain.model;
 
 import com.wei.orchestrator.observation.domain.event.NewOrderObservedEvent;
+import com.wei.orchestrator.observation.domain.model.valueobject.DrainPolicy;
+import com.wei.orchestrator.observation.domain.model.valueobject.IngestionPressure;
 import com.wei.orchestrator.observation.domain.model.valueobject.ObservationResult;
+import com.wei.orchestrator.observation.domain.model.valueobject.OrderSourceMode;
+import com.wei.orchestrator.observation.domain.model.valueobject.OrderSourcePage;
+import com.wei.orchestrator.observation.domain.model.valueobject.OrderSourceWatermark;
 import com.wei.orchestrator.observation.domain.model.valueobject.PollingInterval;
 import com.wei.orchestrator.observation.domain.model.valueobject.SourceEndpoint;
 import com.wei.orchestrator.observation.domain.port.OrderSourcePort;
@@ -9,22 +14,36 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 
 public class OrderObserver {
     private String observerId;
     private SourceEndpoint sourceEndpoint;
     private PollingInterval pollingInterval;
     private LocalDateTime lastPolledTimestamp;
+    private OrderSourceWatermark watermark;
+    private DrainPolicy drainPolicy;
+    private OrderSourceMode sourceMode;
     private boolean active;
     private final List<Object> domainEvents;
 
     public OrderObserver() {
+        this.drainPolicy = DrainPolicy.defaults();
+        this.sourceMode = OrderSourceMode.POLLING;
         this.active = true;
         this.domainEvents = new ArrayList<>();
     }
 
     public OrderObserver(
             String observerId, SourceEndpoint sourceEndpoint, PollingInterval pollingInterval) {
+        this(observerId, sourceEndpoint, pollingInterval, DrainPolicy.defaults());
+    }
+
+    public OrderObserver(
+            String observerId,
+            SourceEndpoint sourceEndpoint,
+            PollingInterval pollingInterval,
+            DrainPolicy drainPolicy) {
         if (observerId == null || observerId.trim().isEmpty()) {
             throw new IllegalArgumentException("Observer ID cannot be null or empty");
         }
@@ -34,28 +53,86 @@ public class OrderObserver {
         if (pollingInterval == null) {
             throw new IllegalArgumentException("Polling interval cannot be null");
         }
+        if (drainPolicy == null) {
+            throw new IllegalArgumentException("Drain policy cannot be null");
+        }
         this.observerId = observerId;
         this.sourceEndpoint = sourceEndpoint;
         this.pollingInterval = pollingInterval;
+        this.drainPolicy = drainPolicy;
+        this.sourceMode = OrderSourceMode.POLLING;
         this.lastPolledTimestamp = null;
+        this.watermark = null;
         this.active = true;
         this.domainEvents = new ArrayList<>();
     }
 
     public void pollOrderSource(OrderSourcePort orderSourcePort) {
-        if (!this.shouldPoll()) {
+        pollOrderSource(orderSourcePort, IngestionPressure.NORMAL);
+    }
+
+    public void pollOrderSource(
+            OrderSourcePort orderSourcePort, IngestionPressure ingestionPressure) {
+        if (!this.shouldPoll() || ingestionPressure == IngestionPressure.SATURATED) {
             return;
         }
 
-        List<ObservationResult> results =
-                orderSourcePort.fetchNewOrders(this.sourceEndpoint, this.lastPolledTimestamp);
+        drain(orderSourcePort, drainPolicyFor(ingestionPressure));
 
         this.lastPolledTimestamp = LocalDateTime.now();
+    }
+
+    public boolean consumeOrderChanges(OrderSourcePort orderSourcePort) {
+        return consumeOrderChanges(orderSourcePort, IngestionPressure.NORMAL);
+    }
+
+    public boolean consumeOrderChanges(
+            OrderSourcePort orderSourcePort, IngestionPressure ingestionPressure) {
+        if (!active
+                || sourceMode != OrderSourceMode.CHANGE_LOG
+                || ingestionPressure == IngestionPressure.SATURATED) {
+            return false;
+        }
+
+        OrderSourceWatermark previousWatermark = this.watermark;
+        drain(orderSourcePort, drainPolicyFor(ingestionPressure));
 
-        for (ObservationResult result : results) {
-            NewOrderObservedEvent event = new NewOrderObservedEvent(this.observerId, result);
-            this.domainEvents.add(event);
+        boolean advanced = !Objects.equals(previousWatermark, this.watermark);
+        if (advanced) {
+            this.lastPolledTimestamp = LocalDateTime.now();
         }
+        return advanced;
+    }
+
+    private DrainPolicy drainPolicyFor(IngestionPressure ingestionPressure) {
+        return ingestionPressure == IngestionPressure.HIGH ? drainPolicy.throttled() : drainPolicy;
+    }
+
+    private void drain(OrderSourcePort orderSourcePort, DrainPolicy cyclePolicy) {
+        long deadline = System.nanoTime() + cyclePolicy.getMaxDrainNanos();
+        int scannedRows = 0;
+        OrderSourcePage page;
+
+        do {
+            int pageSize =
+                    Math.min(
+                            cyclePolicy.getPageSize(),
+                            cyclePolicy.getMaxRowsPerCycle() - scannedRows);
+            page = orderSourcePort.fetchNewOrders(this.sourceEndpoint, this.watermark, pageSize);
+
+            for (ObservationResult result : page.getOrders()) {
+                NewOrderObservedEvent event = new NewOrderObservedEvent(this.observerId, result);
+                this.domainEvents.add(event);
+            }
+
+            if (page.getLastScanned() != null) {
+                this.watermark = page.getLastScanned();
+            }
+            scannedRows += page.getScannedCount();
+        } while (page.hasMore()
+                && page.getScannedCount() > 0
+                && scannedRows < cyclePolicy.getMaxRowsPerCycle()
+                && System.nanoTime() - deadline < 0);
     }
 
     public List<Object> getDomainEvents() {
@@ -66,6 +143,24 @@ public class OrderObserver {
         this.domainEvents.clear();
     }
 
+    public void changeSourceEndpoint(SourceEndpoint sourceEndpoint) {
+        if (sourceEndpoint == null) {
+            throw new IllegalArgumentException("Source endpoint cannot be null");
+        }
+        this.sourceEndpoint = sourceEndpoint;
+    }
+
+    public void changeSourceMode(OrderSourceMode sourceMode) {
+        if (sourceMode == null) {
+            throw new IllegalArgumentException("Source mode cannot be null");
+        }
+        this.sourceMode = sourceMode;
+    }
+
+    public boolean isChangeLogMode() {
+        return sourceMode == OrderSourceMode.CHANGE_LOG;
+    }
+
     public void activate() {
         this.active = true;
     }
@@ -117,6 +212,30 @@ public class OrderObserver {
         this.lastPolledTimestamp = lastPolledTimestamp;
     }
 
+    public OrderSourceWatermark getWatermark() {
+        return watermark;
+    }
+
+    public void setWatermark(OrderSourceWatermark watermark) {
+        this.watermark = watermark;
+    }
+
+    public DrainPolicy getDrainPolicy() {
+        return drainPolicy;
+    }
+
+    public void setDrainPolicy(DrainPolicy drainPolicy) {
+        this.drainPolicy = drainPolicy;
+    }
+
+    public OrderSourceMode getSourceMode() {
+        return sourceMode;
+    }
+
+    public void setSourceMode(OrderSourceMode sourceMode) {
+        this.sourceMode = sourceMode;
+    }
+
     public boolean isActive() {
         return active;
     }
@@ -2,33 +2,54 @@ package com.wei.orchestrator.observation.domain.model;
 
 import com.wei.orchestrator.observation.domain.event.WesTaskDiscoveredEvent;
 import com.wei.orchestrator.observation.domain.event.WesTaskStatusUpdatedEvent;
+import com.wei.orchestrator.observation.domain.model.valueobject.KnownWesTask;
 import com.wei.orchestrator.observation.domain.model.valueobject.PollingInterval;
 import com.wei.orchestrator.observation.domain.model.valueobject.TaskEndpoint;
+import com.wei.orchestrator.observation.domain.model.valueobject.WesTaskIndex;
 import com.wei.orchestrator.wes.domain.model.PickingTask;
 import com.wei.orchestrator.wes.domain.model.valueobject.TaskStatus;
-import com.wei.orchestrator.wes.domain.model.valueobject.WesTaskId;
+import com.wei.orchestrator.wes.domain.model.valueobject.WesTaskChanges;
 import com.wei.orchestrator.wes.domain.port.WesPort;
 import com.wei.orchestrator.wes.infrastructure.adapter.dto.WesTaskDto;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 
 public class WesObserver {
+    public static final int DEFAULT_FULL_RESYNC_INTERVAL_SECONDS = 600;
+
     private String observerId;
     private TaskEndpoint taskEndpoint;
     private PollingInterval pollingInterval;
     private LocalDateTime lastPolledTimestamp;
     private boolean active;
+    private String changeCursor;
+    private LocalDateTime lastFullSyncAt;
+    private int fullResyncIntervalSeconds;
     private final List<Object> domainEvents;
 
     public WesObserver() {
         this.active = true;
+        this.fullResyncIntervalSeconds = DEFAULT_FULL_RESYNC_INTERVAL_SECONDS;
         this.domainEvents = new ArrayList<>();
     }
 
     public WesObserver(
             String observerId, TaskEndpoint taskEndpoint, PollingInterval pollingInterval) {
+        this(observerId, taskEndpoint, pollingInterval, DEFAULT_FULL_RESYNC_INTERVAL_SECONDS);
+    }
+
+    public WesObserver(
+            String observerId,
+            TaskEndpoint taskEndpoint,
+            PollingInterval pollingInterval,
+            int fullResyncIntervalSeconds) {
         if (observerId == null || observerId.trim().isEmpty()) {
             throw new IllegalArgumentException("Observer ID cannot be null or empty");
         }
@@ -38,11 +59,15 @@ public class WesObserver {
         if (pollingInterval == null) {
             throw new IllegalArgumentException("Polling interval cannot be null");
         }
+        if (fullResyncIntervalSeconds <= 0) {
+            throw new IllegalArgumentException("Full resync interval must be positive");
+        }
         this.observerId = observerId;
         this.taskEndpoint = taskEndpoint;
         this.pollingInterval = pollingInterval;
         this.lastPolledTimestamp = null;
         this.active = true;
+        this.fullResyncIntervalSeconds = fullResyncIntervalSeconds;
         this.domainEvents = new ArrayList<>();
     }
 
@@ -50,28 +75,52 @@ public class WesObserver {
         if (!this.shouldPoll()) {
             return;
         }
-        List<WesTaskDto> externalWesTasks = wesPort.pollAllTasks();
+        pollWesTaskStatus(wesPort, WesTaskIndex.fromPickingTasks(allPickingTasks));
+    }
+
+    public void pollWesTaskStatus(WesPort wesPort, WesTaskIndex knownTasks) {
+        pollWesTaskStatus(wesPort, knownTasks, wesTaskIds -> Collections.emptySet());
+    }
+
+    public void pollWesTaskStatus(
+            WesPort wesPort,
+            WesTaskIndex activeTasks,
+            Function<Collection<String>, Set<String>> settledWesTaskIdLookup) {
+        if (!this.shouldPoll()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        String sinceCursor = requiresFullResync(now) ? null : changeCursor;
+        WesTaskChanges changes = wesPort.pollTaskChanges(sinceCursor);
+
+        this.lastPolledTimestamp = now;
+        reconcile(changes.getTasks(), activeTasks, settledWesTaskIdLookup);
+
+        this.changeCursor = changes.getCursor();
+        if (changes.isFullSnapshot()) {
+            this.lastFullSyncAt = now;
+        }
+    }
+
+    public boolean requiresFullResync(LocalDateTime now) {
+        if (changeCursor == null || lastFullSyncAt == null) {
+            return true;
+        }
+        return !now.isBefore(lastFullSyncAt.plusSeconds(fullResyncIntervalSeconds));
+    }
 
-        this.lastPolledTimestamp = LocalDateTime.now();
-        List<String> existingWesTaskIds =
-                allPickingTasks.stream()
-                        .map(PickingTask::getWesTaskId)
-                        .map(WesTaskId::getValue)
-                        .toList();
+    private void reconcile(
+            List<WesTaskDto> externalWesTasks,
+            WesTaskIndex activeTasks,
+            Function<Collection<String>, Set<String>> settledWesTaskIdLookup) {
+        Map<String, WesTaskDto> unknownWesTasks = new LinkedHashMap<>();
 
         for (WesTaskDto externalWesTask : externalWesTasks) {
-            String wesTaskId = externalWesTask.getTaskId();
+            KnownWesTask currentTask = activeTasks.find(externalWesTask.getTaskId());
 
-            if (!existingWesTaskIds.contains(wesTaskId)) {
-                WesTaskDiscoveredEvent event = new WesTaskDiscoveredEvent(externalWesTask);
-                this.domainEvents.add(event);
+            if (currentTask == null) {
+                unknownWesTasks.putIfAbsent(externalWesTask.getTaskId(), externalWesTask);
             } else {
-                PickingTask currentTask =
-                        allPickingTasks.stream()
-                                .filter(p -> p.getWesTaskId().getValue().equals(wesTaskId))
-                                .findFirst()
-                                .orElseThrow(
-                                        () -> new RuntimeException("Can not find by wes task id"));
                 TaskStatus currentStatus = currentTask.getStatus();
                 TaskStatus newStatus = TaskStatus.valueOf(externalWesTask.getStatus());
 
@@ -82,6 +131,18 @@ public class WesObserver {
                 }
             }
         }
+
+        if (unknownWesTasks.isEmpty()) {
+            return;
+        }
+
+        Set<String> settledWesTaskIds = settledWesTaskIdLookup.apply(unknownWesTasks.keySet());
+        for (WesTaskDto unknownWesTask : unknownWesTasks.values()) {
+            if (!settledWesTaskIds.contains(unknownWesTask.getTaskId())) {
+                WesTaskDiscoveredEvent event = new WesTaskDiscoveredEvent(unknownWesTask);
+                this.domainEvents.add(event);
+            }
+        }
     }
 
     public List<Object> getDomainEvents() {
@@ -150,4 +211,24 @@ public class WesObserver {
     public void setActive(boolean active) {
         this.active = active;
     }
+
+    public String getChangeCursor() {
+        return changeCursor;
+    }
+
+    public void setChangeCursor(String changeCursor) {
+        this.changeCursor = changeCursor;
+    }
+
+    public LocalDateTime getLastFullSyncAt() {
+        return lastFullSyncAt;
+    }
+
+    public void setLastFullSyncAt(LocalDateTime lastFullSyncAt) {
+        this.lastFullSyncAt = lastFullSyncAt;
+    }
+
+    public int getFullResyncIntervalSeconds() {
+        return fullResyncIntervalSeconds;
+    }
 }
@@ -0,0 +1,83 @@
+package com.wei.orchestrator.observation.domain.model.valueobject;
+
+import java.util.Objects;
+
+public class DrainPolicy {
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int DEFAULT_MAX_ROWS_PER_CYCLE = 500;
+    public static final int DEFAULT_MAX_DRAIN_SECONDS = 10;
+    private static final int THROTTLE_DIVISOR = 4;
+
+    private final int pageSize;
+    private final int maxRowsPerCycle;
+    private final int maxDrainSeconds;
+
+    public DrainPolicy(int pageSize, int maxRowsPerCycle, int maxDrainSeconds) {
+        if (pageSize <= 0 || pageSize > 1000) {
+            throw new IllegalArgumentException("Page size must be between 1 and 1000");
+        }
+        if (maxRowsPerCycle < pageSize) {
+            throw new IllegalArgumentException(
+                    "Max rows per cycle must be greater than or equal to page size");
+        }
+        if (maxDrainSeconds <= 0) {
+            throw new IllegalArgumentException("Max drain seconds must be positive");
+        }
+        this.pageSize = pageSize;
+        this.maxRowsPerCycle = maxRowsPerCycle;
+        this.maxDrainSeconds = maxDrainSeconds;
+    }
+
+    public static DrainPolicy defaults() {
+        return new DrainPolicy(
+                DEFAULT_PAGE_SIZE, DEFAULT_MAX_ROWS_PER_CYCLE, DEFAULT_MAX_DRAIN_SECONDS);
+    }
+
+    public DrainPolicy throttled() {
+        int throttledPageSize = Math.max(1, pageSize / THROTTLE_DIVISOR);
+        return new DrainPolicy(throttledPageSize, throttledPageSize, maxDrainSeconds);
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    public int getMaxRowsPerCycle() {
+        return maxRowsPerCycle;
+    }
+
+    public int getMaxDrainSeconds() {
+        return maxDrainSeconds;
+    }
+
+    public long getMaxDrainNanos() {
+        return maxDrainSeconds * 1_000_000_000L;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        DrainPolicy that = (DrainPolicy) o;
+        return pageSize == that.pageSize
+                && maxRowsPerCycle == that.maxRowsPerCycle
+                && maxDrainSeconds == that.maxDrainSeconds;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(pageSize, maxRowsPerCycle, maxDrainSeconds);
+    }
+
+    @Override
+    public String toString() {
+        return "DrainPolicy{"
+                + "pageSize="
+                + pageSize
+                + ", maxRowsPerCycle="
+                + maxRowsPerCycle
+                + ", maxDrainSeconds="
+                + maxDrainSeconds
+                + '}';
+    }
+}
@@ -0,0 +1,60 @@
+package com.wei.orchestrator.observation.domain.model.valueobject;
+
+import com.wei.orchestrator.wes.domain.model.valueobject.TaskStatus;
+import java.util.Objects;
+
+public class KnownWesTask {
+    private final String taskId;
+    private final String wesTaskId;
+    private final TaskStatus status;
+
+    public KnownWesTask(String taskId, String wesTaskId, TaskStatus status) {
+        if (wesTaskId == null || wesTaskId.isBlank()) {
+            throw new IllegalArgumentException("WES task ID cannot be null or empty");
+        }
+        this.taskId = taskId;
+        this.wesTaskId = wesTaskId;
+        this.status = status;
+    }
+
+    public String getTaskId() {
+        return taskId;
+    }
+
+    public String getWesTaskId() {
+        return wesTaskId;
+    }
+
+    public TaskStatus getStatus() {
+        return status;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        KnownWesTask that = (KnownWesTask) o;
+        return Objects.equals(taskId, that.taskId)
+                && Objects.equals(wesTaskId, that.wesTaskId)
+                && status == that.status;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(taskId, wesTaskId, status);
+    }
+
+    @Override
+    public String toString() {
+        return "KnownWesTask{"
+                + "taskId='"
+                + taskId
+                + '\''
+                + ", wesTaskId='"
+                + wesTaskId
+                + '\''
+                + ", status="
+                + status
+                + '}';
+    }
+}
@@ -1,5 +1,7 @@
 package com.wei.orchestrator.observation.domain.model.valueobject;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -18,17 +20,18 @@ public class ObservationResult {
     private final List<ObservedOrderItem> items;
     private final LocalDateTime observedAt;
 
+    @JsonCreator
     public ObservationResult(
-            String orderId,
-            String customerName,
-            String customerEmail,
-            String shippingAddress,
-            String orderType,
-            String warehouseId,
-            String status,
-            LocalDateTime scheduledPickupTime,
-            List<ObservedOrderItem> items,
-            LocalDateTime observedAt) {
+            @JsonProperty("orderId") String orderId,
+            @JsonProperty("customerName") String customerName,
+            @JsonProperty("customerEmail") String customerEmail,
+            @JsonProperty("shippingAddress") String shippingAddress,
+            @JsonProperty("orderType") String orderType,
+            @JsonProperty("warehouseId") String warehouseId,
+            @JsonProperty("status") String status,
+            @JsonProperty("scheduledPickupTime") LocalDateTime scheduledPickupTime,
+            @JsonProperty("items") List<ObservedOrderItem> items,
+            @JsonProperty("observedAt") LocalDateTime observedAt) {
         if (orderId == null || orderId.trim().isEmpty()) {
             throw new IllegalArgumentException("Order ID cannot be null or empty");
         }
@@ -25,6 +25,17 @@ public class ObservationRule {
         return checkFrequency;
     }
 
+    public boolean isSignificantChange(int previousQuantity, int currentQuantity) {
+        int difference = Math.abs(currentQuantity - previousQuantity);
+        if (difference == 0) {
+            return false;
+        }
+        if (previousQuantity == 0) {
+            return true;
+        }
+        return difference * 100.0 >= thresholdPercent * previousQuantity;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
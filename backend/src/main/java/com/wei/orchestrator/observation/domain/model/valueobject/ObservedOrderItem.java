@@ -1,5 +1,7 @@
 package com.wei.orchestrator.observation.domain.model.valueobject;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import java.math.BigDecimal;
 import java.util.Objects;
 
@@ -9,7 +11,12 @@ public class ObservedOrderItem {
     private final int quantity;
     private final BigDecimal price;
 
-    public ObservedOrderItem(String sku, String productName, int quantity, BigDecimal price) {
+    @JsonCreator
+    public ObservedOrderItem(
+            @JsonProperty("sku") String sku,
+            @JsonProperty("productName") String productName,
+            @JsonProperty("quantity") int quantity,
+            @JsonProperty("price") BigDecimal price) {
         if (sku == null || sku.trim().isEmpty()) {
             throw new IllegalArgumentException("SKU cannot be null or empty");
         }
@@ -0,0 +1,7 @@
+package com.wei.orchestrator.observation.domain.model.valueobject;
+
+public enum ObserverType {
+    ORDER,
+    WES,
+    INVENTORY
+}
@@ -0,0 +1,6 @@
+package com.wei.orchestrator.observation.domain.model.valueobject;
+
+public enum OrderSourceMode {
+    POLLING,
+    CHANGE_LOG
+}
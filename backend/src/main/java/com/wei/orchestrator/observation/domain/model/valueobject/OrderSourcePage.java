@@ -0,0 +1,68 @@
+package com.wei.orchestrator.observation.domain.model.valueobject;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class OrderSourcePage {
+    private final List<ObservationResult> orders;
+    private final OrderSourceWatermark lastScanned;
+    private final int scannedCount;
+    private final boolean hasMore;
+
+    public OrderSourcePage(
+            List<ObservationResult> orders,
+            OrderSourceWatermark lastScanned,
+            int scannedCount,
+            boolean hasMore) {
+        if (orders == null) {
+            throw new IllegalArgumentException("Orders cannot be null");
+        }
+        if (scannedCount < orders.size()) {
+            throw new IllegalArgumentException(
+                    "Scanned count cannot be less than the number of orders");
+        }
+        if (scannedCount > 0 && lastScanned == null) {
+            throw new IllegalArgumentException(
+                    "Last scanned watermark cannot be null for a non-empty page");
+        }
+        this.orders = new ArrayList<>(orders);
+        this.lastScanned = lastScanned;
+        this.scannedCount = scannedCount;
+        this.hasMore = hasMore;
+    }
+
+    public static OrderSourcePage empty() {
+        return new OrderSourcePage(List.of(), null, 0, false);
+    }
+
+    public List<ObservationResult> getOrders() {
+        return Collections.unmodifiableList(orders);
+    }
+
+    public OrderSourceWatermark getLastScanned() {
+        return lastScanned;
+    }
+
+    public int getScannedCount() {
+        return scannedCount;
+    }
+
+    public boolean hasMore() {
+        return hasMore;
+    }
+
+    @Override
+    public String toString() {
+        return "OrderSourcePage{"
+                + "orders="
+                + orders.size()
+                + ", lastScanned="
+                + lastScanned
+                + ", scannedCount="
+                + scannedCount
+                + ", hasMore="
+                + hasMore
+                + '}';
+    }
+}
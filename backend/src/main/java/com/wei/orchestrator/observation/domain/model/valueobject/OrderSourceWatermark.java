@@ -0,0 +1,69 @@
+package com.wei.orchestrator.observation.domain.model.valueobject;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+public class OrderSourceWatermark {
+    private final LocalDateTime createdAt;
+    private final String orderId;
+    private final Long changeSequence;
+
+    public OrderSourceWatermark(LocalDateTime createdAt, String orderId) {
+        this(createdAt, orderId, null);
+    }
+
+    public OrderSourceWatermark(LocalDateTime createdAt, String orderId, Long changeSequence) {
+        if (createdAt == null) {
+            throw new IllegalArgumentException("Created at cannot be null");
+        }
+        if (orderId == null || orderId.trim().isEmpty()) {
+            throw new IllegalArgumentException("Order ID cannot be null or empty");
+        }
+        if (changeSequence != null && changeSequence < 0) {
+            throw new IllegalArgumentException("Change sequence cannot be negative");
+        }
+        this.createdAt = createdAt;
+        this.orderId = orderId;
+        this.changeSequence = changeSequence;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public String getOrderId() {
+        return orderId;
+    }
+
+    public Long getChangeSequence() {
+        return changeSequence;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        OrderSourceWatermark that = (OrderSourceWatermark) o;
+        return Objects.equals(createdAt, that.createdAt)
+                && Objects.equals(orderId, that.orderId)
+                && Objects.equals(changeSequence, that.changeSequence);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(createdAt, orderId, changeSequence);
+    }
+
+    @Override
+    public String toString() {
+        return "OrderSourceWatermark{"
+                + "createdAt="
+                + createdAt
+                + ", orderId='"
+                + orderId
+                + '\''
+                + ", changeSequence="
+                + changeSequence
+                + '}';
+    }
+}
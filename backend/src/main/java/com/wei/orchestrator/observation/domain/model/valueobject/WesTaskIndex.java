@@ -0,0 +1,85 @@
+package com.wei.orchestrator.observation.domain.model.valueobject;
+
+import com.wei.orchestrator.wes.domain.model.PickingTask;
+import com.wei.orchestrator.wes.domain.model.valueobject.PickingTaskStatusView;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+public class WesTaskIndex {
+    private final Map<String, KnownWesTask> tasksByWesTaskId;
+
+    private WesTaskIndex(Map<String, KnownWesTask> tasksByWesTaskId) {
+        this.tasksByWesTaskId = tasksByWesTaskId;
+    }
+
+    public static WesTaskIndex of(Collection<KnownWesTask> knownTasks) {
+        if (knownTasks == null) {
+            throw new IllegalArgumentException("Known tasks cannot be null");
+        }
+        Map<String, KnownWesTask> tasksByWesTaskId = new HashMap<>(capacityFor(knownTasks.size()));
+        for (KnownWesTask knownTask : knownTasks) {
+            tasksByWesTaskId.putIfAbsent(knownTask.getWesTaskId(), knownTask);
+        }
+        return new WesTaskIndex(tasksByWesTaskId);
+    }
+
+    public static WesTaskIndex fromPickingTasks(Collection<PickingTask> pickingTasks) {
+        if (pickingTasks == null) {
+            throw new IllegalArgumentException("Picking tasks cannot be null");
+        }
+        Map<String, KnownWesTask> tasksByWesTaskId =
+                new HashMap<>(capacityFor(pickingTasks.size()));
+        for (PickingTask pickingTask : pickingTasks) {
+            if (pickingTask.getWesTaskId() == null) {
+                continue;
+            }
+            String wesTaskId = pickingTask.getWesTaskId().getValue();
+            tasksByWesTaskId.putIfAbsent(
+                    wesTaskId,
+                    new KnownWesTask(pickingTask.getTaskId(), wesTaskId, pickingTask.getStatus()));
+        }
+        return new WesTaskIndex(tasksByWesTaskId);
+    }
+
+    public static WesTaskIndex fromStatusViews(Collection<PickingTaskStatusView> statusViews) {
+        if (statusViews == null) {
+            throw new IllegalArgumentException("Status views cannot be null");
+        }
+        Map<String, KnownWesTask> tasksByWesTaskId = new HashMap<>(capacityFor(statusViews.size()));
+        for (PickingTaskStatusView statusView : statusViews) {
+            tasksByWesTaskId.putIfAbsent(
+                    statusView.getWesTaskId(),
+                    new KnownWesTask(
+                            statusView.getTaskId(),
+                            statusView.getWesTaskId(),
+                            statusView.getStatus()));
+        }
+        return new WesTaskIndex(tasksByWesTaskId);
+    }
+
+    public static WesTaskIndex empty() {
+        return new WesTaskIndex(new HashMap<>());
+    }
+
+    public KnownWesTask find(String wesTaskId) {
+        return tasksByWesTaskId.get(wesTaskId);
+    }
+
+    public boolean contains(String wesTaskId) {
+        return tasksByWesTaskId.containsKey(wesTaskId);
+    }
+
+    public int size() {
+        return tasksByWesTaskId.size();
+    }
+
+    private static int capacityFor(int expectedSize) {
+        return (int) (expectedSize / 0.75f) + 1;
+    }
+
+    @Override
+    public String toString() {
+        return "WesTaskIndex{" + "size=" + tasksByWesTaskId.size() + '}';
+    }
+}
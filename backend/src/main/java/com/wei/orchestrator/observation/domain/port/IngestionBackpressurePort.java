@@ -0,0 +1,7 @@
+package com.wei.orchestrator.observation.domain.port;
+
+import com.wei.orchestrator.observation.domain.model.valueobject.IngestionPressure;
+
+public interface IngestionBackpressurePort {
+    IngestionPressure currentPressure();
+}
@@ -1,13 +1,19 @@
 package com.wei.orchestrator.observation.domain.port;
 
-import com.wei.orchestrator.observation.domain.model.valueobject.ObservationResult;
+import com.wei.orchestrator.observation.domain.model.valueobject.OrderSourcePage;
+import com.wei.orchestrator.observation.domain.model.valueobject.OrderSourceWatermark;
 import com.wei.orchestrator.observation.domain.model.valueobject.SourceEndpoint;
-import java.time.LocalDateTime;
-import java.util.List;
+import java.util.Collection;
+import java.util.Set;
 
 public interface OrderSourcePort {
 
-    List<ObservationResult> fetchNewOrders(SourceEndpoint sourceEndpoint, LocalDateTime since);
+    OrderSourcePage fetchNewOrders(
+            SourceEndpoint sourceEndpoint, OrderSourceWatermark after, int pageSize);
 
     boolean markOrderAsProcessed(SourceEndpoint sourceEndpoint, String orderId);
+
+    Set<String> acknowledgeOrders(SourceEndpoint sourceEndpoint, Collection<String> orderIds);
+
+    void releaseSourceEndpoint(SourceEndpoint sourceEndpoint);
 }
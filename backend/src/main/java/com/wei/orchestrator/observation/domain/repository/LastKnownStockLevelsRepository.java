@@ -0,0 +1,9 @@
+package com.wei.orchestrator.observation.domain.repository;
+
+import com.wei.orchestrator.observation.domain.model.LastKnownStockLevels;
+
+public interface LastKnownStockLevelsRepository {
+    LastKnownStockLevels findOrCreate(String observerId);
+
+    void deleteById(String observerId);
+}
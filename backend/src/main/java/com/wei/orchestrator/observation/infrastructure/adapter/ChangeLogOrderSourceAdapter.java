@@ -0,0 +1,218 @@
+package com.wei.orchestrator.observation.infrastructure.adapter;
+
+import com.wei.orchestrator.observation.domain.model.valueobject.ObservationResult;
+import com.wei.orchestrator.observation.domain.model.valueobject.OrderSourcePage;
+import com.wei.orchestrator.observation.domain.model.valueobject.OrderSourceWatermark;
+import com.wei.orchestrator.observation.domain.model.valueobject.SourceEndpoint;
+import com.wei.orchestrator.observation.domain.port.OrderSourcePort;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ChangeLogOrderSourceAdapter implements OrderSourcePort {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChangeLogOrderSourceAdapter.class);
+
+    private static final String CHANGED_ORDERS_QUERY =
+            """
+            SELECT c.change_seq, c.order_id AS change_order_id, c.changed_at,
+                   o.order_id, o.customer_name, o.customer_email, o.shipping_address,
+                   o.order_type, o.warehouse_id, o.status, o.scheduled_pickup_time,
+                   o.created_at, i.sku, i.product_name, i.quantity, i.price
+            FROM (
+                SELECT change_seq, order_id, changed_at
+                FROM order_change_log
+                WHERE change_seq > ?
+                ORDER BY change_seq ASC
+                FETCH FIRST ? ROWS ONLY
+            ) c
+            LEFT JOIN orders o ON o.order_id = c.order_id AND o.status = 'NEW'
+            LEFT JOIN order_items i ON i.order_id = o.order_id
+            ORDER BY c.change_seq ASC, i.created_at ASC
+            """;
+
+    private final OrderSourceDataSourceRegistry dataSourceRegistry;
+    private final ExternalOrderSourceAdapter externalOrderSourceAdapter;
+    private final long gapTimeoutNanos;
+    private final LongSupplier nanoClock;
+    private final Map<SourceEndpoint, GapHold> gapHolds = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ChangeLogOrderSourceAdapter(
+            OrderSourceDataSourceRegistry dataSourceRegistry,
+            ExternalOrderSourceAdapter externalOrderSourceAdapter,
+            @Value("${observation.order-source.change-log.gap-timeout:30000}")
+                    long gapTimeoutMs) {
+        this(dataSourceRegistry, externalOrderSourceAdapter, gapTimeoutMs, System::nanoTime);
+    }
+
+    public ChangeLogOrderSourceAdapter(
+            OrderSourceDataSourceRegistry dataSourceRegistry,
+            ExternalOrderSourceAdapter externalOrderSourceAdapter,
+            long gapTimeoutMs,
+            LongSupplier nanoClock) {
+        this.dataSourceRegistry = dataSourceRegistry;
+        this.externalOrderSourceAdapter = externalOrderSourceAdapter;
+        this.gapTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(gapTimeoutMs);
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    public OrderSourcePage fetchNewOrders(
+            SourceEndpoint sourceEndpoint, OrderSourceWatermark after, int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+
+        Long lastSequence = after != null ? after.getChangeSequence() : null;
+        long afterSequence = lastSequence != null ? lastSequence : 0L;
+
+        try (Connection connection =
+                        dataSourceRegistry.getDataSource(sourceEndpoint).getConnection();
+                PreparedStatement statement = connection.prepareStatement(CHANGED_ORDERS_QUERY)) {
+
+            statement.setLong(1, afterSequence);
+            statement.setInt(2, pageSize);
+
+            OrderSourcePage page;
+            try (ResultSet resultSet = statement.executeQuery()) {
+                page = toPage(sourceEndpoint, resultSet, pageSize, lastSequence);
+            }
+
+            if (page.getScannedCount() > 0) {
+                logger.info(
+                        "Consumed {} order changes up to sequence {} ({} new orders, more: {})",
+                        page.getScannedCount(),
+                        page.getLastScanned().getChangeSequence(),
+                        page.getOrders().size(),
+                        page.hasMore());
+            }
+
+            return page;
+
+        } catch (SQLException e) {
+            logger.error("Error reading external order change log", e);
+            throw new RuntimeException("Failed to read external order change log", e);
+        }
+    }
+
+    private OrderSourcePage toPage(
+            SourceEndpoint sourceEndpoint, ResultSet resultSet, int pageSize, Long lastSequence)
+            throws SQLException {
+        Map<String, OrderRow> orderRows = new LinkedHashMap<>();
+        OrderSourceWatermark lastScanned = null;
+        OrderRow currentRow = null;
+        int scannedCount = 0;
+        boolean heldAtGap = false;
+        Long previousSequence = lastSequence;
+
+        while (resultSet.next()) {
+            long changeSequence = resultSet.getLong("change_seq");
+            if (lastScanned == null || lastScanned.getChangeSequence() != changeSequence) {
+                LocalDateTime changedAt = resultSet.getTimestamp("changed_at").toLocalDateTime();
+                if (previousSequence != null && changeSequence > previousSequence + 1) {
+                    if (holdAtGap(sourceEndpoint, previousSequence + 1)) {
+                        logger.debug(
+                                "Holding change log cursor at {} until sequences before {} are"
+                                        + " visible",
+                                previousSequence,
+                                changeSequence);
+                        heldAtGap = true;
+                        break;
+                    }
+                    logger.warn(
+                            "Skipping change log sequences {} to {} that never became visible",
+                            previousSequence + 1,
+                            changeSequence - 1);
+                    gapHolds.remove(sourceEndpoint);
+                }
+                previousSequence = changeSequence;
+                scannedCount++;
+                lastScanned =
+                        new OrderSourceWatermark(
+                                changedAt, resultSet.getString("change_order_id"), changeSequence);
+
+                String orderId = resultSet.getString("order_id");
+                currentRow = null;
+                if (orderId != null && !orderRows.containsKey(orderId)) {
+                    currentRow = OrderRow.from(resultSet);
+                    orderRows.put(orderId, currentRow);
+                }
+            }
+
+            if (currentRow != null) {
+                currentRow.addItemFrom(resultSet);
+            }
+        }
+
+        if (!heldAtGap && scannedCount > 0) {
+            gapHolds.remove(sourceEndpoint);
+        }
+
+        List<ObservationResult> results = new ArrayList<>(orderRows.size());
+        for (OrderRow orderRow : orderRows.values()) {
+            if (orderRow.hasItems()) {
+                results.add(orderRow.toObservationResult());
+            }
+        }
+
+        return new OrderSourcePage(
+                results, lastScanned, scannedCount, !heldAtGap && scannedCount >= pageSize);
+    }
+
+    private boolean holdAtGap(SourceEndpoint sourceEndpoint, long missingSequence) {
+        long now = nanoClock.getAsLong();
+        GapHold gapHold =
+                gapHolds.compute(
+                        sourceEndpoint,
+                        (endpoint, existing) ->
+                                existing != null && existing.missingSequence == missingSequence
+                                        ? existing
+                                        : new GapHold(missingSequence, now));
+        return now - gapHold.firstSeenAt < gapTimeoutNanos;
+    }
+
+    @Override
+    public boolean markOrderAsProcessed(SourceEndpoint sourceEndpoint, String orderId) {
+        return externalOrderSourceAdapter.markOrderAsProcessed(sourceEndpoint, orderId);
+    }
+
+    @Override
+    public Set<String> acknowledgeOrders(
+            SourceEndpoint sourceEndpoint, Collection<String> orderIds) {
+        return externalOrderSourceAdapter.acknowledgeOrders(sourceEndpoint, orderIds);
+    }
+
+    @Override
+    public void releaseSourceEndpoint(SourceEndpoint sourceEndpoint) {
+        gapHolds.remove(sourceEndpoint);
+        externalOrderSourceAdapter.releaseSourceEndpoint(sourceEndpoint);
+    }
+
+    private static class GapHold {
+        private final long missingSequence;
+        private final long firstSeenAt;
+
+        private GapHold(long missingSequence, long firstSeenAt) {
+            this.missingSequence = missingSequence;
+            this.firstSeenAt = firstSeenAt;
+        }
+    }
+}
@@ -1,139 +1,128 @@
 package com.wei.orchestrator.observation.infrastructure.adapter;
 
 import com.wei.orchestrator.observation.domain.model.valueobject.ObservationResult;
-import com.wei.orchestrator.observation.domain.model.valueobject.ObservedOrderItem;
+import com.wei.orchestrator.observation.domain.model.valueobject.OrderSourcePage;
+import com.wei.orchestrator.observation.domain.model.valueobject.OrderSourceWatermark;
 import com.wei.orchestrator.observation.domain.model.valueobject.SourceEndpoint;
 import com.wei.orchestrator.observation.domain.port.OrderSourcePort;
-import java.math.BigDecimal;
 import java.sql.*;
-import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Component;
 
 @Component
+@Primary
 public class ExternalOrderSourceAdapter implements OrderSourcePort {
 
     private static final Logger logger = LoggerFactory.getLogger(ExternalOrderSourceAdapter.class);
+    private static final int ACKNOWLEDGEMENT_CHUNK_SIZE = 500;
+
+    private final OrderSourceDataSourceRegistry dataSourceRegistry;
+
+    public ExternalOrderSourceAdapter(OrderSourceDataSourceRegistry dataSourceRegistry) {
+        this.dataSourceRegistry = dataSourceRegistry;
+    }
 
     @Override
-    public List<ObservationResult> fetchNewOrders(
-            SourceEndpoint sourceEndpoint, LocalDateTime since) {
-        List<ObservationResult> results = new ArrayList<>();
+    public OrderSourcePage fetchNewOrders(
+            SourceEndpoint sourceEndpoint, OrderSourceWatermark after, int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
 
-        String sql = getString(since);
+        String sql = newOrdersWithItemsQuery(after);
 
         try (Connection connection = createConnection(sourceEndpoint);
                 PreparedStatement statement = connection.prepareStatement(sql)) {
 
-            if (since != null) {
-                statement.setTimestamp(1, Timestamp.valueOf(since));
+            int parameterIndex = 1;
+            if (after != null) {
+                Timestamp afterCreatedAt = Timestamp.valueOf(after.getCreatedAt());
+                statement.setTimestamp(parameterIndex++, afterCreatedAt);
+                statement.setTimestamp(parameterIndex++, afterCreatedAt);
+                statement.setString(parameterIndex++, after.getOrderId());
             }
+            statement.setInt(parameterIndex, pageSize);
 
+            OrderSourcePage page;
             try (ResultSet resultSet = statement.executeQuery()) {
-                while (resultSet.next()) {
-                    String orderId = resultSet.getString("order_id");
-                    String customerName = resultSet.getString("customer_name");
-                    String customerEmail = resultSet.getString("customer_email");
-                    String shippingAddress = resultSet.getString("shipping_address");
-                    String orderType = resultSet.getString("order_type");
-                    String warehouseId = resultSet.getString("warehouse_id");
-                    String status = resultSet.getString("status");
-                    Timestamp scheduledPickupTime = resultSet.getTimestamp("scheduled_pickup_time");
-                    Timestamp createdAt = resultSet.getTimestamp("created_at");
-
-                    List<ObservedOrderItem> items = fetchOrderItems(connection, orderId);
-
-                    if (!items.isEmpty()) {
-                        ObservationResult result =
-                                new ObservationResult(
-                                        orderId,
-                                        customerName,
-                                        customerEmail,
-                                        shippingAddress,
-                                        orderType,
-                                        warehouseId,
-                                        status,
-                                        scheduledPickupTime != null
-                                                ? scheduledPickupTime.toLocalDateTime()
-                                                : null,
-                                        items,
-                                        createdAt.toLocalDateTime());
-
-                        results.add(result);
-                    }
-                }
+                page = toPage(resultSet, pageSize);
             }
 
-            logger.info("Fetched {} new orders from external source", results.size());
+            logger.info(
+                    "Fetched {} new orders from external source ({} scanned, more: {})",
+                    page.getOrders().size(),
+                    page.getScannedCount(),
+                    page.hasMore());
+
+            return page;
 
         } catch (SQLException e) {
             logger.error("Error polling external order source", e);
             throw new RuntimeException("Failed to poll external order source", e);
         }
-
-        return results;
     }
 
-    private List<ObservedOrderItem> fetchOrderItems(Connection connection, String orderId)
-            throws SQLException {
-        List<ObservedOrderItem> items = new ArrayList<>();
+    private OrderSourcePage toPage(ResultSet resultSet, int pageSize) throws SQLException {
+        Map<String, OrderRow> orderRows = new LinkedHashMap<>();
+        OrderRow lastRow = null;
 
-        String sql =
-                """
-                SELECT sku, product_name, quantity, price
-                FROM order_items
-                WHERE order_id = ?
-                ORDER BY created_at
-                """;
+        while (resultSet.next()) {
+            String orderId = resultSet.getString("order_id");
+            OrderRow orderRow = orderRows.get(orderId);
+            if (orderRow == null) {
+                orderRow = OrderRow.from(resultSet);
+                orderRows.put(orderId, orderRow);
+                lastRow = orderRow;
+            }
 
-        try (PreparedStatement statement = connection.prepareStatement(sql)) {
-            statement.setString(1, orderId);
+            orderRow.addItemFrom(resultSet);
+        }
 
-            try (ResultSet resultSet = statement.executeQuery()) {
-                while (resultSet.next()) {
-                    String sku = resultSet.getString("sku");
-                    String productName = resultSet.getString("product_name");
-                    int quantity = resultSet.getInt("quantity");
-                    BigDecimal price = resultSet.getBigDecimal("price");
-
-                    ObservedOrderItem item =
-                            new ObservedOrderItem(sku, productName, quantity, price);
-                    items.add(item);
-                }
+        List<ObservationResult> results = new ArrayList<>(orderRows.size());
+        for (OrderRow orderRow : orderRows.values()) {
+            if (orderRow.hasItems()) {
+                results.add(orderRow.toObservationResult());
             }
         }
 
-        return items;
+        OrderSourceWatermark lastScanned = lastRow != null ? lastRow.toWatermark() : null;
+        int scannedCount = orderRows.size();
+
+        return new OrderSourcePage(results, lastScanned, scannedCount, scannedCount >= pageSize);
     }
 
-    private static String getString(LocalDateTime lastPolledTimestamp) {
-        String sql;
-        if (lastPolledTimestamp == null) {
-            sql =
-                    """
-                    SELECT order_id, customer_name, customer_email, shipping_address,
-                           order_type, warehouse_id, status, scheduled_pickup_time, created_at
-                    FROM orders
-                    WHERE status = 'NEW'
-                    ORDER BY created_at ASC
-                    FETCH FIRST 50 ROWS ONLY
-                    """;
-        } else {
-            sql =
-                    """
+    private static String newOrdersWithItemsQuery(OrderSourceWatermark after) {
+        String keysetFilter =
+                after == null ? "" : "AND (created_at > ? OR (created_at = ? AND order_id > ?))";
+        String sql =
+                """
+                SELECT o.order_id, o.customer_name, o.customer_email, o.shipping_address,
+                       o.order_type, o.warehouse_id, o.status, o.scheduled_pickup_time,
+                       o.created_at, i.sku, i.product_name, i.quantity, i.price
+                FROM (
                     SELECT order_id, customer_name, customer_email, shipping_address,
                            order_type, warehouse_id, status, scheduled_pickup_time, created_at
                     FROM orders
                     WHERE status = 'NEW'
-                    AND created_at > ?
-                    ORDER BY created_at ASC
-                    FETCH FIRST 50 ROWS ONLY
-                    """;
-        }
-        return sql;
+                    %s
+                    ORDER BY created_at ASC, order_id ASC
+                    FETCH FIRST ? ROWS ONLY
+                ) o
+                LEFT JOIN order_items i ON i.order_id = o.order_id
+                ORDER BY o.created_at ASC, o.order_id ASC, i.created_at ASC
+                """;
+        return sql.formatted(keysetFilter);
     }
 
     @Override
@@ -162,10 +151,107 @@ public class ExternalOrderSourceAdapter implements OrderSourcePort {
         }
     }
 
+    @Override
+    public Set<String> acknowledgeOrders(
+            SourceEndpoint sourceEndpoint, Collection<String> orderIds) {
+        if (orderIds == null) {
+            throw new IllegalArgumentException("Order IDs cannot be null");
+        }
+        List<String> distinctOrderIds = new ArrayList<>(new LinkedHashSet<>(orderIds));
+        if (distinctOrderIds.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        Set<String> transitioned = new HashSet<>();
+
+        try (Connection connection = createConnection(sourceEndpoint)) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                for (int from = 0;
+                        from < distinctOrderIds.size();
+                        from += ACKNOWLEDGEMENT_CHUNK_SIZE) {
+                    int to = Math.min(from + ACKNOWLEDGEMENT_CHUNK_SIZE, distinctOrderIds.size());
+                    transitioned.addAll(
+                            acknowledgeChunk(connection, distinctOrderIds.subList(from, to)));
+                }
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+
+            logger.info(
+                    "Acknowledged {} of {} orders as IN_PROGRESS in external source",
+                    transitioned.size(),
+                    distinctOrderIds.size());
+
+            return transitioned;
+
+        } catch (SQLException e) {
+            logger.error("Error acknowledging orders in external source", e);
+            throw new RuntimeException("Failed to acknowledge orders", e);
+        }
+    }
+
+    private Set<String> acknowledgeChunk(Connection connection, List<String> orderIds)
+            throws SQLException {
+        String placeholders = String.join(", ", Collections.nCopies(orderIds.size(), "?"));
+        String lockSql =
+                """
+                SELECT order_id
+                FROM orders
+                WHERE order_id IN (%s)
+                AND status = 'NEW'
+                FOR UPDATE
+                """
+                        .formatted(placeholders);
+        String updateSql =
+                """
+                UPDATE orders
+                SET status = 'IN_PROGRESS',
+                    updated_at = SYSTIMESTAMP
+                WHERE order_id IN (%s)
+                AND status = 'NEW'
+                """
+                        .formatted(placeholders);
+
+        Set<String> pendingOrderIds = new HashSet<>();
+        try (PreparedStatement statement = connection.prepareStatement(lockSql)) {
+            bindOrderIds(statement, orderIds);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    pendingOrderIds.add(resultSet.getString("order_id"));
+                }
+            }
+        }
+
+        if (pendingOrderIds.isEmpty()) {
+            return pendingOrderIds;
+        }
+
+        try (PreparedStatement statement = connection.prepareStatement(updateSql)) {
+            bindOrderIds(statement, orderIds);
+            statement.executeUpdate();
+        }
+        return pendingOrderIds;
+    }
+
+    private static void bindOrderIds(PreparedStatement statement, List<String> orderIds)
+            throws SQLException {
+        for (int i = 0; i < orderIds.size(); i++) {
+            statement.setString(i + 1, orderIds.get(i));
+        }
+    }
+
+    @Override
+    public void releaseSourceEndpoint(SourceEndpoint sourceEndpoint) {
+        dataSourceRegistry.release(sourceEndpoint);
+    }
+
     private Connection createConnection(SourceEndpoint sourceEndpoint) throws SQLException {
-        return DriverManager.getConnection(
-                sourceEndpoint.getJdbcUrl(),
-                sourceEndpoint.getUsername(),
-                sourceEndpoint.getPassword());
+        return dataSourceRegistry.getDataSource(sourceEndpoint).getConnection();
     }
 }
@@ -0,0 +1,91 @@
+package com.wei.orchestrator.observation.infrastructure.adapter;
+
+import com.wei.orchestrator.observation.domain.model.valueobject.ObservationResult;
+import com.wei.orchestrator.observation.domain.model.valueobject.ObservedOrderItem;
+import com.wei.orchestrator.observation.domain.model.valueobject.OrderSourceWatermark;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+class OrderRow {
+    private final String orderId;
+    private final String customerName;
+    private final String customerEmail;
+    private final String shippingAddress;
+    private final String orderType;
+    private final String warehouseId;
+    private final String status;
+    private final Timestamp scheduledPickupTime;
+    private final Timestamp createdAt;
+    private final List<ObservedOrderItem> items = new ArrayList<>();
+
+    private OrderRow(
+            String orderId,
+            String customerName,
+            String customerEmail,
+            String shippingAddress,
+            String orderType,
+            String warehouseId,
+            String status,
+            Timestamp scheduledPickupTime,
+            Timestamp createdAt) {
+        this.orderId = orderId;
+        this.customerName = customerName;
+        this.customerEmail = customerEmail;
+        this.shippingAddress = shippingAddress;
+        this.orderType = orderType;
+        this.warehouseId = warehouseId;
+        this.status = status;
+        this.scheduledPickupTime = scheduledPickupTime;
+        this.createdAt = createdAt;
+    }
+
+    static OrderRow from(ResultSet resultSet) throws SQLException {
+        return new OrderRow(
+                resultSet.getString("order_id"),
+                resultSet.getString("customer_name"),
+                resultSet.getString("customer_email"),
+                resultSet.getString("shipping_address"),
+                resultSet.getString("order_type"),
+                resultSet.getString("warehouse_id"),
+                resultSet.getString("status"),
+                resultSet.getTimestamp("scheduled_pickup_time"),
+                resultSet.getTimestamp("created_at"));
+    }
+
+    void addItemFrom(ResultSet resultSet) throws SQLException {
+        String sku = resultSet.getString("sku");
+        if (sku != null) {
+            items.add(
+                    new ObservedOrderItem(
+                            sku,
+                            resultSet.getString("product_name"),
+                            resultSet.getInt("quantity"),
+                            resultSet.getBigDecimal("price")));
+        }
+    }
+
+    boolean hasItems() {
+        return !items.isEmpty();
+    }
+
+    OrderSourceWatermark toWatermark() {
+        return new OrderSourceWatermark(createdAt.toLocalDateTime(), orderId);
+    }
+
+    ObservationResult toObservationResult() {
+        return new ObservationResult(
+                orderId,
+                customerName,
+                customerEmail,
+                shippingAddress,
+                orderType,
+                warehouseId,
+                status,
+                scheduledPickupTime != null ? scheduledPickupTime.toLocalDateTime() : null,
+                items,
+                createdAt.toLocalDateTime());
+    }
+}
@@ -0,0 +1,250 @@
+package com.wei.orchestrator.observation.infrastructure.adapter;
+
+import com.wei.orchestrator.observation.domain.model.valueobject.SourceEndpoint;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.ToIntFunction;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class OrderSourceDataSourceRegistry implements MeterBinder {
+
+    private static final Logger logger =
+            LoggerFactory.getLogger(OrderSourceDataSourceRegistry.class);
+
+    private final Map<PoolKey, HikariDataSource> dataSources = new ConcurrentHashMap<>();
+    private final Map<PoolKey, List<Meter>> poolMeters = new ConcurrentHashMap<>();
+    private final AtomicInteger poolSequence = new AtomicInteger();
+    private volatile MeterRegistry meterRegistry;
+
+    private final int maximumPoolSize;
+    private final int minimumIdle;
+    private final long connectionTimeoutMs;
+    private final long idleTimeoutMs;
+    private final long maxLifetimeMs;
+    private final long validationTimeoutMs;
+
+    public OrderSourceDataSourceRegistry(
+            @Value("${observation.order-source.pool.maximum-pool-size:4}") int maximumPoolSize,
+            @Value("${observation.order-source.pool.minimum-idle:0}") int minimumIdle,
+            @Value("${observation.order-source.pool.connection-timeout:10000}")
+                    long connectionTimeoutMs,
+            @Value("${observation.order-source.pool.idle-timeout:300000}") long idleTimeoutMs,
+            @Value("${observation.order-source.pool.max-lifetime:1800000}") long maxLifetimeMs,
+            @Value("${observation.order-source.pool.validation-timeout:3000}")
+                    long validationTimeoutMs) {
+        this.maximumPoolSize = maximumPoolSize;
+        this.minimumIdle = minimumIdle;
+        this.connectionTimeoutMs = connectionTimeoutMs;
+        this.idleTimeoutMs = idleTimeoutMs;
+        this.maxLifetimeMs = maxLifetimeMs;
+        this.validationTimeoutMs = validationTimeoutMs;
+    }
+
+    public DataSource getDataSource(SourceEndpoint sourceEndpoint) {
+        PoolKey key = new PoolKey(sourceEndpoint);
+        HikariDataSource existing = dataSources.get(key);
+        if (existing != null && !existing.isClosed()) {
+            return existing;
+        }
+
+        AtomicReference<HikariDataSource> replaced = new AtomicReference<>();
+        HikariDataSource dataSource =
+                dataSources.compute(
+                        key,
+                        (poolKey, current) -> {
+                            if (current != null && !current.isClosed()) {
+                                return current;
+                            }
+                            replaced.set(current);
+                            return createDataSource(sourceEndpoint);
+                        });
+        if (replaced.get() != null) {
+            logger.info(
+                    "Replaced closed order source pool {} with {} for {}",
+                    replaced.get().getPoolName(),
+                    dataSource.getPoolName(),
+                    sourceEndpoint);
+            removeMeters(key);
+        }
+        registerMeters(key, dataSource);
+        return dataSource;
+    }
+
+    public void release(SourceEndpoint sourceEndpoint) {
+        release(new PoolKey(sourceEndpoint));
+    }
+
+    public boolean isRegistered(SourceEndpoint sourceEndpoint) {
+        return dataSources.containsKey(new PoolKey(sourceEndpoint));
+    }
+
+    public Optional<OrderSourcePoolMetrics> getPoolMetrics(SourceEndpoint sourceEndpoint) {
+        return poolMetricsOf(new PoolKey(sourceEndpoint));
+    }
+
+    public List<OrderSourcePoolMetrics> getAllPoolMetrics() {
+        return dataSources.values().stream().map(this::toMetrics).toList();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.meterRegistry = registry;
+        dataSources.forEach(this::registerMeters);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dataSources.keySet().forEach(this::release);
+    }
+
+    private void release(PoolKey key) {
+        HikariDataSource removed = dataSources.remove(key);
+        if (removed != null) {
+            logger.info(
+                    "Shutting down order source pool {} for {}",
+                    removed.getPoolName(),
+                    key.sourceEndpoint);
+            removed.close();
+        }
+        removeMeters(key);
+    }
+
+    private Optional<OrderSourcePoolMetrics> poolMetricsOf(PoolKey key) {
+        return Optional.ofNullable(dataSources.get(key)).map(this::toMetrics);
+    }
+
+    private void registerMeters(PoolKey key, HikariDataSource dataSource) {
+        MeterRegistry registry = meterRegistry;
+        if (registry == null) {
+            return;
+        }
+        poolMeters.computeIfAbsent(
+                key,
+                poolKey ->
+                        List.of(
+                                poolGauge(
+                                        registry,
+                                        "orchestrator.order.source.pool.active",
+                                        poolKey,
+                                        dataSource,
+                                        OrderSourcePoolMetrics::getActiveConnections),
+                                poolGauge(
+                                        registry,
+                                        "orchestrator.order.source.pool.idle",
+                                        poolKey,
+                                        dataSource,
+                                        OrderSourcePoolMetrics::getIdleConnections),
+                                poolGauge(
+                                        registry,
+                                        "orchestrator.order.source.pool.pending",
+                                        poolKey,
+                                        dataSource,
+                                        OrderSourcePoolMetrics::getThreadsAwaitingConnection),
+                                poolGauge(
+                                        registry,
+                                        "orchestrator.order.source.pool.total",
+                                        poolKey,
+                                        dataSource,
+                                        OrderSourcePoolMetrics::getTotalConnections)));
+    }
+
+    private Meter poolGauge(
+            MeterRegistry registry,
+            String name,
+            PoolKey key,
+            HikariDataSource dataSource,
+            ToIntFunction<OrderSourcePoolMetrics> value) {
+        return Gauge.builder(
+                        name,
+                        key,
+                        poolKey -> poolMetricsOf(poolKey).map(value::applyAsInt).orElse(0))
+                .tags(
+                        "endpoint",
+                        key.sourceEndpoint.getJdbcUrl(),
+                        "username",
+                        key.sourceEndpoint.getUsername(),
+                        "pool",
+                        dataSource.getPoolName())
+                .strongReference(true)
+                .register(registry);
+    }
+
+    private void removeMeters(PoolKey key) {
+        List<Meter> meters = poolMeters.remove(key);
+        MeterRegistry registry = meterRegistry;
+        if (meters != null && registry != null) {
+            meters.forEach(registry::remove);
+        }
+    }
+
+    private HikariDataSource createDataSource(SourceEndpoint sourceEndpoint) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName("order-source-" + poolSequence.incrementAndGet());
+        config.setJdbcUrl(sourceEndpoint.getJdbcUrl());
+        config.setUsername(sourceEndpoint.getUsername());
+        config.setPassword(sourceEndpoint.getPassword());
+        config.setMaximumPoolSize(maximumPoolSize);
+        config.setMinimumIdle(Math.min(minimumIdle, maximumPoolSize));
+        config.setConnectionTimeout(connectionTimeoutMs);
+        config.setIdleTimeout(idleTimeoutMs);
+        config.setMaxLifetime(maxLifetimeMs);
+        config.setValidationTimeout(validationTimeoutMs);
+        config.setInitializationFailTimeout(-1);
+
+        logger.info("Creating order source pool {} for {}", config.getPoolName(), sourceEndpoint);
+
+        return new HikariDataSource(config);
+    }
+
+    private OrderSourcePoolMetrics toMetrics(HikariDataSource dataSource) {
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        return new OrderSourcePoolMetrics(
+                dataSource.getPoolName(),
+                dataSource.getJdbcUrl(),
+                dataSource.getUsername(),
+                pool != null ? pool.getActiveConnections() : 0,
+                pool != null ? pool.getIdleConnections() : 0,
+                pool != null ? pool.getTotalConnections() : 0,
+                pool != null ? pool.getThreadsAwaitingConnection() : 0);
+    }
+
+    private static class PoolKey {
+        private final SourceEndpoint sourceEndpoint;
+
+        private PoolKey(SourceEndpoint sourceEndpoint) {
+            this.sourceEndpoint = sourceEndpoint;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            PoolKey that = (PoolKey) o;
+            return sourceEndpoint.equals(that.sourceEndpoint)
+                    && sourceEndpoint.getPassword().equals(that.sourceEndpoint.getPassword());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(sourceEndpoint, sourceEndpoint.getPassword());
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.wei.orchestrator.observation.infrastructure.adapter;
+
+public class OrderSourcePoolMetrics {
+    private final String poolName;
+    private final String jdbcUrl;
+    private final String username;
+    private final int activeConnections;
+    private final int idleConnections;
+    private final int totalConnections;
+    private final int threadsAwaitingConnection;
+
+    public OrderSourcePoolMetrics(
+            String poolName,
+            String jdbcUrl,
+            String username,
+            int activeConnections,
+            int idleConnections,
+            int totalConnections,
+            int threadsAwaitingConnection) {
+        this.poolName = poolName;
+        this.jdbcUrl = jdbcUrl;
+        this.username = username;
+        this.activeConnections = activeConnections;
+        this.idleConnections = idleConnections;
+        this.totalConnections = totalConnections;
+        this.threadsAwaitingConnection = threadsAwaitingConnection;
+    }
+
+    public String getPoolName() {
+        return poolName;
+    }
+
+    public String getJdbcUrl() {
+        return jdbcUrl;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public int getActiveConnections() {
+        return activeConnections;
+    }
+
+    public int getIdleConnections() {
+        return idleConnections;
+    }
+
+    public int getTotalConnections() {
+        return totalConnections;
+    }
+
+    public int getThreadsAwaitingConnection() {
+        return threadsAwaitingConnection;
+    }
+
+    @Override
+    public String toString() {
+        return "OrderSourcePoolMetrics{"
+                + "poolName='"
+                + poolName
+                + '\''
+                + ", jdbcUrl='"
+                + jdbcUrl
+                + '\''
+                + ", username='"
+                + username
+                + '\''
+                + ", activeConnections="
+                + activeConnections
+                + ", idleConnections="
+                + idleConnections
+                + ", totalConnections="
+                + totalConnections
+                + ", threadsAwaitingConnection="
+                + threadsAwaitingConnection
+                + '}';
+    }
+}
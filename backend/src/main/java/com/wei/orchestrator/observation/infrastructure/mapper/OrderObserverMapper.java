@@ -1,6 +1,9 @@
 package com.wei.orchestrator.observation.infrastructure.mapper;
 
 import com.wei.orchestrator.observation.domain.model.OrderObserver;
+import com.wei.orchestrator.observation.domain.model.valueobject.DrainPolicy;
+import com.wei.orchestrator.observation.domain.model.valueobject.OrderSourceMode;
+import com.wei.orchestrator.observation.domain.model.valueobject.OrderSourceWatermark;
 import com.wei.orchestrator.observation.domain.model.valueobject.PollingInterval;
 import com.wei.orchestrator.observation.domain.model.valueobject.SourceEndpoint;
 import com.wei.orchestrator.observation.infrastructure.persistence.OrderObserverEntity;
@@ -25,6 +28,22 @@ public class OrderObserverMapper {
             entity.setPollingIntervalSeconds(domain.getPollingInterval().getSeconds());
         }
 
+        if (domain.getDrainPolicy() != null) {
+            entity.setPageSize(domain.getDrainPolicy().getPageSize());
+            entity.setDrainMaxRows(domain.getDrainPolicy().getMaxRowsPerCycle());
+            entity.setDrainMaxSeconds(domain.getDrainPolicy().getMaxDrainSeconds());
+        }
+
+        if (domain.getWatermark() != null) {
+            entity.setWatermarkCreatedAt(domain.getWatermark().getCreatedAt());
+            entity.setWatermarkOrderId(domain.getWatermark().getOrderId());
+            entity.setWatermarkChangeSequence(domain.getWatermark().getChangeSequence());
+        }
+
+        if (domain.getSourceMode() != null) {
+            entity.setSourceMode(domain.getSourceMode().name());
+        }
+
         entity.setLastPolledTimestamp(domain.getLastPolledTimestamp());
         entity.setActive(domain.isActive());
 
@@ -41,8 +60,33 @@ public class OrderObserverMapper {
 
         PollingInterval pollingInterval = new PollingInterval(entity.getPollingIntervalSeconds());
 
+        DrainPolicy drainPolicy =
+                new DrainPolicy(
+                        entity.getPageSize() != null
+                                ? entity.getPageSize()
+                                : DrainPolicy.DEFAULT_PAGE_SIZE,
+                        entity.getDrainMaxRows() != null
+                                ? entity.getDrainMaxRows()
+                                : DrainPolicy.DEFAULT_MAX_ROWS_PER_CYCLE,
+                        entity.getDrainMaxSeconds() != null
+                                ? entity.getDrainMaxSeconds()
+                                : DrainPolicy.DEFAULT_MAX_DRAIN_SECONDS);
+
         OrderObserver domain =
-                new OrderObserver(entity.getObserverId(), sourceEndpoint, pollingInterval);
+                new OrderObserver(
+                        entity.getObserverId(), sourceEndpoint, pollingInterval, drainPolicy);
+
+        if (entity.getWatermarkCreatedAt() != null && entity.getWatermarkOrderId() != null) {
+            domain.setWatermark(
+                    new OrderSourceWatermark(
+                            entity.getWatermarkCreatedAt(),
+                            entity.getWatermarkOrderId(),
+                            entity.getWatermarkChangeSequence()));
+        }
+
+        if (entity.getSourceMode() != null) {
+            domain.setSourceMode(OrderSourceMode.valueOf(entity.getSourceMode()));
+        }
 
         domain.setLastPolledTimestamp(entity.getLastPolledTimestamp());
         domain.setActive(entity.getActive());
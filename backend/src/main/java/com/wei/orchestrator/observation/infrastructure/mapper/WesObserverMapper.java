@@ -26,6 +26,9 @@ public class WesObserverMapper {
 
         entity.setLastPolledTimestamp(domain.getLastPolledTimestamp());
         entity.setActive(domain.isActive());
+        entity.setChangeCursor(domain.getChangeCursor());
+        entity.setLastFullSyncAt(domain.getLastFullSyncAt());
+        entity.setFullResyncIntervalSeconds(domain.getFullResyncIntervalSeconds());
 
         return entity;
     }
@@ -40,10 +43,22 @@ public class WesObserverMapper {
 
         PollingInterval pollingInterval = new PollingInterval(entity.getPollingIntervalSeconds());
 
-        WesObserver domain = new WesObserver(entity.getObserverId(), taskEndpoint, pollingInterval);
+        int fullResyncIntervalSeconds =
+                entity.getFullResyncIntervalSeconds() != null
+                        ? entity.getFullResyncIntervalSeconds()
+                        : WesObserver.DEFAULT_FULL_RESYNC_INTERVAL_SECONDS;
+
+        WesObserver domain =
+                new WesObserver(
+                        entity.getObserverId(),
+                        taskEndpoint,
+                        pollingInterval,
+                        fullResyncIntervalSeconds);
 
         domain.setLastPolledTimestamp(entity.getLastPolledTimestamp());
         domain.setActive(entity.getActive());
+        domain.setChangeCursor(entity.getChangeCursor());
+        domain.setLastFullSyncAt(entity.getLastFullSyncAt());
 
         return domain;
     }
@@ -0,0 +1,51 @@
+package com.wei.orchestrator.observation.infrastructure.persistence;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "observer_node_leases")
+public class ObserverNodeLeaseEntity {
+    @Id
+    @Column(name = "node_id", length = 100)
+    private String nodeId;
+
+    @Column(name = "heartbeat_at", nullable = false)
+    private LocalDateTime heartbeatAt;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    public ObserverNodeLeaseEntity() {}
+
+    public ObserverNodeLeaseEntity(
+            String nodeId, LocalDateTime heartbeatAt, LocalDateTime startedAt) {
+        this.nodeId = nodeId;
+        this.heartbeatAt = heartbeatAt;
+        this.startedAt = startedAt;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public void setNodeId(String nodeId) {
+        this.nodeId = nodeId;
+    }
+
+    public LocalDateTime getHeartbeatAt() {
+        return heartbeatAt;
+    }
+
+    public void setHeartbeatAt(LocalDateTime heartbeatAt) {
+        this.heartbeatAt = heartbeatAt;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+}
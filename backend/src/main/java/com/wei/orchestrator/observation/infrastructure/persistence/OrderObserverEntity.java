@@ -25,6 +25,27 @@ public class OrderObserverEntity {
     @Column(name = "last_polled_timestamp")
     private LocalDateTime lastPolledTimestamp;
 
+    @Column(name = "watermark_created_at")
+    private LocalDateTime watermarkCreatedAt;
+
+    @Column(name = "watermark_order_id", length = 36)
+    private String watermarkOrderId;
+
+    @Column(name = "watermark_change_seq")
+    private Long watermarkChangeSequence;
+
+    @Column(name = "source_mode", length = 20)
+    private String sourceMode;
+
+    @Column(name = "page_size")
+    private Integer pageSize;
+
+    @Column(name = "drain_max_rows")
+    private Integer drainMaxRows;
+
+    @Column(name = "drain_max_seconds")
+    private Integer drainMaxSeconds;
+
     @Column(name = "active", nullable = false)
     private Boolean active;
 
@@ -98,6 +119,62 @@ public class OrderObserverEntity {
         this.lastPolledTimestamp = lastPolledTimestamp;
     }
 
+    public LocalDateTime getWatermarkCreatedAt() {
+        return watermarkCreatedAt;
+    }
+
+    public void setWatermarkCreatedAt(LocalDateTime watermarkCreatedAt) {
+        this.watermarkCreatedAt = watermarkCreatedAt;
+    }
+
+    public String getWatermarkOrderId() {
+        return watermarkOrderId;
+    }
+
+    public void setWatermarkOrderId(String watermarkOrderId) {
+        this.watermarkOrderId = watermarkOrderId;
+    }
+
+    public Long getWatermarkChangeSequence() {
+        return watermarkChangeSequence;
+    }
+
+    public void setWatermarkChangeSequence(Long watermarkChangeSequence) {
+        this.watermarkChangeSequence = watermarkChangeSequence;
+    }
+
+    public String getSourceMode() {
+        return sourceMode;
+    }
+
+    public void setSourceMode(String sourceMode) {
+        this.sourceMode = sourceMode;
+    }
+
+    public Integer getPageSize() {
+        return pageSize;
+    }
+
+    public void setPageSize(Integer pageSize) {
+        this.pageSize = pageSize;
+    }
+
+    public Integer getDrainMaxRows() {
+        return drainMaxRows;
+    }
+
+    public void setDrainMaxRows(Integer drainMaxRows) {
+        this.drainMaxRows = drainMaxRows;
+    }
+
+    public Integer getDrainMaxSeconds() {
+        return drainMaxSeconds;
+    }
+
+    public void setDrainMaxSeconds(Integer drainMaxSeconds) {
+        this.drainMaxSeconds = drainMaxSeconds;
+    }
+
     public Boolean getActive() {
         return active;
     }
@@ -25,6 +25,15 @@ public class WesObserverEntity {
     @Column(name = "active", nullable = false)
     private Boolean active;
 
+    @Column(name = "change_cursor", length = 64)
+    private String changeCursor;
+
+    @Column(name = "last_full_sync_at")
+    private LocalDateTime lastFullSyncAt;
+
+    @Column(name = "full_resync_interval_seconds")
+    private Integer fullResyncIntervalSeconds;
+
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
@@ -95,6 +104,30 @@ public class WesObserverEntity {
         this.active = active;
     }
 
+    public String getChangeCursor() {
+        return changeCursor;
+    }
+
+    public void setChangeCursor(String changeCursor) {
+        this.changeCursor = changeCursor;
+    }
+
+    public LocalDateTime getLastFullSyncAt() {
+        return lastFullSyncAt;
+    }
+
+    public void setLastFullSyncAt(LocalDateTime lastFullSyncAt) {
+        this.lastFullSyncAt = lastFullSyncAt;
+    }
+
+    public Integer getFullResyncIntervalSeconds() {
+        return fullResyncIntervalSeconds;
+    }
+
+    public void setFullResyncIntervalSeconds(Integer fullResyncIntervalSeconds) {
+        this.fullResyncIntervalSeconds = fullResyncIntervalSeconds;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
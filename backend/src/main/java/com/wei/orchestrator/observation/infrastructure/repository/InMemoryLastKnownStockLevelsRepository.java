@@ -0,0 +1,25 @@
+package com.wei.orchestrator.observation.infrastructure.repository;
+
+import com.wei.orchestrator.observation.domain.model.LastKnownStockLevels;
+import com.wei.orchestrator.observation.domain.repository.LastKnownStockLevelsRepository;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class InMemoryLastKnownStockLevelsRepository implements LastKnownStockLevelsRepository {
+
+    private final Map<String, LastKnownStockLevels> stockLevelsByObserverId =
+            new ConcurrentHashMap<>();
+
+    @Override
+    public LastKnownStockLevels findOrCreate(String observerId) {
+        return stockLevelsByObserverId.computeIfAbsent(
+                observerId, id -> new LastKnownStockLevels());
+    }
+
+    @Override
+    public void deleteById(String observerId) {
+        stockLevelsByObserverId.remove(observerId);
+    }
+}
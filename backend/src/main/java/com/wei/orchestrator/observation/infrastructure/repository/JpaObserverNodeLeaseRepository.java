@@ -0,0 +1,22 @@
+package com.wei.orchestrator.observation.infrastructure.repository;
+
+import com.wei.orchestrator.observation.infrastructure.persistence.ObserverNodeLeaseEntity;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface JpaObserverNodeLeaseRepository
+        extends JpaRepository<ObserverNodeLeaseEntity, String> {
+    List<ObserverNodeLeaseEntity> findByHeartbeatAtAfter(LocalDateTime heartbeatAt);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM ObserverNodeLeaseEntity l WHERE l.heartbeatAt < :expiredBefore")
+    int deleteExpired(@Param("expiredBefore") LocalDateTime expiredBefore);
+}
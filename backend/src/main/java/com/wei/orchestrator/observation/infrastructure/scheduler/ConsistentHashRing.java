@@ -0,0 +1,69 @@
+package com.wei.orchestrator.observation.infrastructure.scheduler;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+public class ConsistentHashRing {
+
+    private final List<String> nodeIds;
+    private final NavigableMap<Long, String> ring = new TreeMap<>();
+
+    public ConsistentHashRing(Collection<String> nodeIds, int virtualNodes) {
+        if (nodeIds == null) {
+            throw new IllegalArgumentException("Node ids cannot be null");
+        }
+        if (virtualNodes <= 0) {
+            throw new IllegalArgumentException("Virtual nodes must be positive");
+        }
+        this.nodeIds = nodeIds.stream().distinct().sorted().toList();
+        for (String nodeId : this.nodeIds) {
+            for (int replica = 0; replica < virtualNodes; replica++) {
+                ring.putIfAbsent(hash(nodeId + "#" + replica), nodeId);
+            }
+        }
+    }
+
+    public String ownerOf(String key) {
+        if (ring.isEmpty()) {
+            return null;
+        }
+        Map.Entry<Long, String> entry = ring.ceilingEntry(hash(key));
+        return entry != null ? entry.getValue() : ring.firstEntry().getValue();
+    }
+
+    public List<String> getNodeIds() {
+        return nodeIds;
+    }
+
+    public boolean isEmpty() {
+        return nodeIds.isEmpty();
+    }
+
+    private static long hash(String value) {
+        byte[] digest = md5().digest(value.getBytes(StandardCharsets.UTF_8));
+        long hash = 0;
+        for (int i = 0; i < Long.BYTES; i++) {
+            hash = (hash << 8) | (digest[i] & 0xFF);
+        }
+        return hash;
+    }
+
+    private static MessageDigest md5() {
+        try {
+            return MessageDigest.getInstance("MD5");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 digest not available", e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ConsistentHashRing{" + "nodeIds=" + nodeIds + ", points=" + ring.size() + '}';
+    }
+}
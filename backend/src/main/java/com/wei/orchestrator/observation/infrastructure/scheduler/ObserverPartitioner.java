@@ -0,0 +1,139 @@
+package com.wei.orchestrator.observation.infrastructure.scheduler;
+
+import com.wei.orchestrator.observation.infrastructure.persistence.ObserverNodeLeaseEntity;
+import com.wei.orchestrator.observation.infrastructure.repository.JpaObserverNodeLeaseRepository;
+import jakarta.annotation.PreDestroy;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ObserverPartitioner {
+
+    private static final Logger logger = LoggerFactory.getLogger(ObserverPartitioner.class);
+
+    private final JpaObserverNodeLeaseRepository leaseRepository;
+    private final boolean enabled;
+    private final String nodeId;
+    private final long leaseTtlMs;
+    private final int virtualNodes;
+    private final LocalDateTime startedAt = LocalDateTime.now();
+    private volatile ConsistentHashRing ring;
+    private volatile long lastRenewedAtMillis;
+
+    public ObserverPartitioner(
+            JpaObserverNodeLeaseRepository leaseRepository,
+            @Value("${scheduler.observer.partitioning.enabled:true}") boolean enabled,
+            @Value("${scheduler.observer.partitioning.node-id:}") String nodeId,
+            @Value("${scheduler.observer.partitioning.lease-ttl:15000}") long leaseTtlMs,
+            @Value("${scheduler.observer.partitioning.virtual-nodes:128}") int virtualNodes) {
+        if (leaseTtlMs <= 0) {
+            throw new IllegalArgumentException("Lease TTL must be positive");
+        }
+        this.leaseRepository = leaseRepository;
+        this.enabled = enabled;
+        this.nodeId = nodeId == null || nodeId.isBlank() ? generateNodeId() : nodeId;
+        this.leaseTtlMs = leaseTtlMs;
+        this.virtualNodes = virtualNodes;
+        this.ring = new ConsistentHashRing(List.of(this.nodeId), virtualNodes);
+    }
+
+    @Scheduled(
+            fixedDelayString = "${scheduler.observer.partitioning.heartbeat-interval:5000}",
+            scheduler = "observerHeartbeatScheduler")
+    public void heartbeat() {
+        if (!enabled) {
+            return;
+        }
+
+        long renewedAtMillis = System.currentTimeMillis();
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiredBefore = now.minus(Duration.ofMillis(leaseTtlMs));
+
+        try {
+            leaseRepository.save(new ObserverNodeLeaseEntity(nodeId, now, startedAt));
+
+            int expiredCount = leaseRepository.deleteExpired(expiredBefore);
+            if (expiredCount > 0) {
+                logger.info("Removed {} expired observer node leases", expiredCount);
+            }
+
+            List<String> liveNodeIds =
+                    leaseRepository.findByHeartbeatAtAfter(expiredBefore).stream()
+                            .map(ObserverNodeLeaseEntity::getNodeId)
+                            .sorted()
+                            .toList();
+
+            lastRenewedAtMillis = renewedAtMillis;
+            updateMembership(liveNodeIds);
+        } catch (Exception e) {
+            logger.error("Error renewing observer lease for node: {}", nodeId, e);
+        }
+    }
+
+    public boolean owns(String observerId) {
+        if (!enabled) {
+            return true;
+        }
+        if (System.currentTimeMillis() - lastRenewedAtMillis >= leaseTtlMs) {
+            return false;
+        }
+        return nodeId.equals(ring.ownerOf(observerId));
+    }
+
+    @PreDestroy
+    public void leave() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            leaseRepository.deleteById(nodeId);
+            logger.info("Released observer lease for node: {}", nodeId);
+        } catch (Exception e) {
+            logger.error("Error releasing observer lease for node: {}", nodeId, e);
+        }
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public List<String> getLiveNodeIds() {
+        return ring.getNodeIds();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    private void updateMembership(List<String> liveNodeIds) {
+        if (liveNodeIds.equals(ring.getNodeIds())) {
+            return;
+        }
+
+        ring = new ConsistentHashRing(liveNodeIds, virtualNodes);
+        logger.info(
+                "Observer partitions rebalanced across nodes {} (local node: {})",
+                liveNodeIds,
+                nodeId);
+    }
+
+    private static String generateNodeId() {
+        String hostName;
+        try {
+            hostName = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            hostName = "node";
+        }
+        return hostName + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
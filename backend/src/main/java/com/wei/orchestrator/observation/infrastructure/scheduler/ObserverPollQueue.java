@@ -0,0 +1,210 @@
+package com.wei.orchestrator.observation.infrastructure.scheduler;
+
+import com.wei.orchestrator.observation.domain.model.valueobject.ObserverType;
+import com.wei.orchestrator.shared.infrastructure.metrics.PipelineMeters;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+public class ObserverPollQueue {
+
+    private final PriorityQueue<ScheduledPoll> dueQueue =
+            new PriorityQueue<>(Comparator.comparingLong(ScheduledPoll::getDueAtMillis));
+    private final Map<String, ScheduledPoll> scheduledPolls = new HashMap<>();
+    private final Map<ObserverType, Timer> lagTimers = new EnumMap<>(ObserverType.class);
+
+    private long firedCount;
+    private long totalLagMillis;
+    private long lastLagMillis;
+    private long maxLagMillis;
+
+    public ObserverPollQueue(MeterRegistry meterRegistry) {
+        for (ObserverType observerType : ObserverType.values()) {
+            lagTimers.put(
+                    observerType,
+                    Timer.builder(PipelineMeters.OBSERVER_LAG)
+                            .tag("observer.type", observerType.name())
+                            .register(meterRegistry));
+        }
+    }
+
+    public synchronized void schedule(
+            ObserverType observerType, String observerId, long intervalMillis, long dueAtMillis) {
+        ScheduledPoll existing = scheduledPolls.get(keyOf(observerType, observerId));
+        if (existing == null) {
+            add(new ScheduledPoll(observerType, observerId, intervalMillis, dueAtMillis));
+            return;
+        }
+
+        existing.intervalMillis = intervalMillis;
+        if (!existing.inFlight) {
+            dueQueue.remove(existing);
+            existing.dueAtMillis = dueAtMillis;
+            dueQueue.add(existing);
+        }
+    }
+
+    public synchronized void register(
+            ObserverType observerType, String observerId, long intervalMillis, long dueAtMillis) {
+        ScheduledPoll existing = scheduledPolls.get(keyOf(observerType, observerId));
+        if (existing == null) {
+            add(new ScheduledPoll(observerType, observerId, intervalMillis, dueAtMillis));
+        } else {
+            existing.intervalMillis = intervalMillis;
+        }
+    }
+
+    public synchronized boolean cancel(ObserverType observerType, String observerId) {
+        ScheduledPoll removed = scheduledPolls.remove(keyOf(observerType, observerId));
+        if (removed == null) {
+            return false;
+        }
+        dueQueue.remove(removed);
+        return true;
+    }
+
+    public synchronized void retainOnly(ObserverType observerType, Set<String> observerIds) {
+        Iterator<ScheduledPoll> iterator = scheduledPolls.values().iterator();
+        while (iterator.hasNext()) {
+            ScheduledPoll poll = iterator.next();
+            if (poll.observerType == observerType && !observerIds.contains(poll.observerId)) {
+                iterator.remove();
+                dueQueue.remove(poll);
+            }
+        }
+    }
+
+    public synchronized List<ScheduledPoll> takeDue(long nowMillis) {
+        List<ScheduledPoll> duePolls = new ArrayList<>();
+
+        while (!dueQueue.isEmpty() && dueQueue.peek().dueAtMillis <= nowMillis) {
+            ScheduledPoll poll = dueQueue.poll();
+            poll.inFlight = true;
+            poll.flight++;
+            poll.startedAtMillis = nowMillis;
+            poll.future = null;
+            recordLag(poll.observerType, nowMillis - poll.dueAtMillis);
+            duePolls.add(poll);
+        }
+
+        return duePolls;
+    }
+
+    public synchronized void complete(ScheduledPoll poll, long flight, long nowMillis) {
+        if (!poll.inFlight || poll.flight != flight) {
+            return;
+        }
+
+        poll.inFlight = false;
+        poll.future = null;
+        if (scheduledPolls.get(keyOf(poll.observerType, poll.observerId)) == poll) {
+            poll.dueAtMillis = nowMillis + poll.intervalMillis;
+            dueQueue.add(poll);
+        }
+    }
+
+    public synchronized List<ScheduledPoll> findOverdue(long nowMillis, long timeoutMillis) {
+        List<ScheduledPoll> overduePolls = new ArrayList<>();
+        for (ScheduledPoll poll : scheduledPolls.values()) {
+            if (poll.inFlight && nowMillis - poll.startedAtMillis >= timeoutMillis) {
+                overduePolls.add(poll);
+            }
+        }
+        return overduePolls;
+    }
+
+    public synchronized Long nextDueAtMillis() {
+        ScheduledPoll next = dueQueue.peek();
+        return next != null ? next.dueAtMillis : null;
+    }
+
+    public synchronized int size() {
+        return scheduledPolls.size();
+    }
+
+    public synchronized ObserverScheduleMetrics getMetrics() {
+        int inFlightCount =
+                (int) scheduledPolls.values().stream().filter(poll -> poll.inFlight).count();
+        return new ObserverScheduleMetrics(
+                scheduledPolls.size(),
+                inFlightCount,
+                firedCount,
+                lastLagMillis,
+                maxLagMillis,
+                firedCount > 0 ? totalLagMillis / firedCount : 0);
+    }
+
+    private void add(ScheduledPoll poll) {
+        scheduledPolls.put(keyOf(poll.observerType, poll.observerId), poll);
+        dueQueue.add(poll);
+    }
+
+    private void recordLag(ObserverType observerType, long lagMillis) {
+        long lag = Math.max(0, lagMillis);
+        lagTimers.get(observerType).record(lag, TimeUnit.MILLISECONDS);
+        firedCount++;
+        totalLagMillis += lag;
+        lastLagMillis = lag;
+        maxLagMillis = Math.max(maxLagMillis, lag);
+    }
+
+    private static String keyOf(ObserverType observerType, String observerId) {
+        return observerType + ":" + observerId;
+    }
+
+    public static final class ScheduledPoll {
+        private final ObserverType observerType;
+        private final String observerId;
+        private long intervalMillis;
+        private long dueAtMillis;
+        private long startedAtMillis;
+        private volatile long flight;
+        private boolean inFlight;
+        private volatile Future<?> future;
+
+        private ScheduledPoll(
+                ObserverType observerType,
+                String observerId,
+                long intervalMillis,
+                long dueAtMillis) {
+            this.observerType = observerType;
+            this.observerId = observerId;
+            this.intervalMillis = intervalMillis;
+            this.dueAtMillis = dueAtMillis;
+        }
+
+        public ObserverType getObserverType() {
+            return observerType;
+        }
+
+        public String getObserverId() {
+            return observerId;
+        }
+
+        public long getDueAtMillis() {
+            return dueAtMillis;
+        }
+
+        public long getFlight() {
+            return flight;
+        }
+
+        public Future<?> getFuture() {
+            return future;
+        }
+
+        public void setFuture(Future<?> future) {
+            this.future = future;
+        }
+    }
+}
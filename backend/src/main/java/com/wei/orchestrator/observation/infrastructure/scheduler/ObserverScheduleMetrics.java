@@ -0,0 +1,67 @@
+package com.wei.orchestrator.observation.infrastructure.scheduler;
+
+public class ObserverScheduleMetrics {
+    private final int scheduledObservers;
+    private final int inFlightPolls;
+    private final long firedPolls;
+    private final long lastLagMillis;
+    private final long maxLagMillis;
+    private final long averageLagMillis;
+
+    public ObserverScheduleMetrics(
+            int scheduledObservers,
+            int inFlightPolls,
+            long firedPolls,
+            long lastLagMillis,
+            long maxLagMillis,
+            long averageLagMillis) {
+        this.scheduledObservers = scheduledObservers;
+        this.inFlightPolls = inFlightPolls;
+        this.firedPolls = firedPolls;
+        this.lastLagMillis = lastLagMillis;
+        this.maxLagMillis = maxLagMillis;
+        this.averageLagMillis = averageLagMillis;
+    }
+
+    public int getScheduledObservers() {
+        return scheduledObservers;
+    }
+
+    public int getInFlightPolls() {
+        return inFlightPolls;
+    }
+
+    public long getFiredPolls() {
+        return firedPolls;
+    }
+
+    public long getLastLagMillis() {
+        return lastLagMillis;
+    }
+
+    public long getMaxLagMillis() {
+        return maxLagMillis;
+    }
+
+    public long getAverageLagMillis() {
+        return averageLagMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "ObserverScheduleMetrics{"
+                + "scheduledObservers="
+                + scheduledObservers
+                + ", inFlightPolls="
+                + inFlightPolls
+                + ", firedPolls="
+                + firedPolls
+                + ", lastLagMillis="
+                + lastLagMillis
+                + ", maxLagMillis="
+                + maxLagMillis
+                + ", averageLagMillis="
+                + averageLagMillis
+                + '}';
+    }
+}
@@ -3,50 +3,199 @@ package com.wei.orchestrator.observation.infrastructure.scheduler;
 import com.wei.orchestrator.observation.application.InventoryObserverApplicationService;
 import com.wei.orchestrator.observation.application.OrderObserverApplicationService;
 import com.wei.orchestrator.observation.application.WesObserverApplicationService;
+import com.wei.orchestrator.observation.application.command.PollInventorySnapshotCommand;
+import com.wei.orchestrator.observation.application.command.PollOrderSourceCommand;
+import com.wei.orchestrator.observation.application.command.PollWesTaskStatusCommand;
+import com.wei.orchestrator.observation.application.dto.ObserverScheduleDto;
+import com.wei.orchestrator.observation.application.event.ObserverScheduleChangedEvent;
+import com.wei.orchestrator.observation.domain.model.valueobject.ObserverType;
+import com.wei.orchestrator.observation.infrastructure.scheduler.ObserverPollQueue.ScheduledPoll;
+import com.wei.orchestrator.shared.domain.model.valueobject.TriggerContext;
+import com.wei.orchestrator.shared.infrastructure.metrics.PipelineMeters;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
+import java.util.function.Supplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.integration.support.locks.LockRegistry;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 @Component
 public class ObserverScheduler {
 
     private static final Logger logger = LoggerFactory.getLogger(ObserverScheduler.class);
+    private static final String POLL_SKIPPED = "skipped";
+    private static final String POLL_INTERRUPTED = "interrupted";
 
     private final LockRegistry lockRegistry;
     private final OrderObserverApplicationService orderObserverApplicationService;
     private final WesObserverApplicationService wesObserverApplicationService;
     private final InventoryObserverApplicationService inventoryObserverApplicationService;
+    private final ExecutorService observerPollingExecutor;
+    private final ObserverPartitioner observerPartitioner;
+    private final MeterRegistry meterRegistry;
+    private final long pollTimeoutMs;
+    private final ObserverPollQueue pollQueue;
 
     public ObserverScheduler(
             LockRegistry lockRegistry,
             OrderObserverApplicationService orderObserverApplicationService,
             WesObserverApplicationService wesObserverApplicationService,
-            InventoryObserverApplicationService inventoryObserverApplicationService) {
+            InventoryObserverApplicationService inventoryObserverApplicationService,
+            @Qualifier("observerPollingExecutor") ExecutorService observerPollingExecutor,
+            ObserverPartitioner observerPartitioner,
+            MeterRegistry meterRegistry,
+            @Value("${scheduler.observer.poll-timeout:20000}") long pollTimeoutMs) {
         this.lockRegistry = lockRegistry;
         this.orderObserverApplicationService = orderObserverApplicationService;
         this.wesObserverApplicationService = wesObserverApplicationService;
         this.inventoryObserverApplicationService = inventoryObserverApplicationService;
+        this.observerPollingExecutor = observerPollingExecutor;
+        this.observerPartitioner = observerPartitioner;
+        this.meterRegistry = meterRegistry;
+        this.pollTimeoutMs = pollTimeoutMs;
+        this.pollQueue = new ObserverPollQueue(meterRegistry);
     }
 
     @Scheduled(fixedDelayString = "${scheduler.observer.fixed-delay:30000}")
-    public void pollAllObserverTypes() {
-        logger.info("Starting scheduled polling cycle for all observer types");
-
-        pollObserverType(
-                "order-observer-poll", orderObserverApplicationService::pollAllActiveObservers);
-        pollObserverType(
-                "wes-observer-poll", wesObserverApplicationService::pollAllActiveObservers);
-        pollObserverType(
-                "inventory-observer-poll",
-                inventoryObserverApplicationService::pollAllActiveObservers);
-        logger.info("Polling cycle completed for all observer types");
+    public void refreshSchedules() {
+        long now = System.currentTimeMillis();
+
+        refreshSchedules(
+                ObserverType.ORDER,
+                orderObserverApplicationService::findActiveObserverSchedules,
+                now);
+        refreshSchedules(
+                ObserverType.WES, wesObserverApplicationService::findActiveObserverSchedules, now);
+        refreshSchedules(
+                ObserverType.INVENTORY,
+                inventoryObserverApplicationService::findActiveObserverSchedules,
+                now);
+
+        logger.debug("Observer schedules refreshed: {}", pollQueue.getMetrics());
+    }
+
+    @Scheduled(fixedDelayString = "${scheduler.observer.tick-interval:1000}")
+    public void dispatchDueObservers() {
+        long now = System.currentTimeMillis();
+
+        for (ScheduledPoll overdue : pollQueue.findOverdue(now, pollTimeoutMs)) {
+            Future<?> future = overdue.getFuture();
+            if (future != null) {
+                future.cancel(true);
+            }
+            pollQueue.complete(overdue, overdue.getFlight(), now);
+            logger.warn(
+                    "Polling timed out after {} ms, cancelled: {}",
+                    pollTimeoutMs,
+                    lockKeyOf(overdue.getObserverType(), overdue.getObserverId()));
+        }
+
+        for (ScheduledPoll poll : pollQueue.takeDue(now)) {
+            if (!observerPartitioner.owns(poll.getObserverId())) {
+                pollQueue.complete(poll, poll.getFlight(), now);
+                logger.debug(
+                        "Skipping observer owned by another node: {}",
+                        lockKeyOf(poll.getObserverType(), poll.getObserverId()));
+                continue;
+            }
+            submit(poll);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onObserverScheduleChanged(ObserverScheduleChangedEvent event) {
+        if (event.isActive()) {
+            pollQueue.schedule(
+                    event.getObserverType(),
+                    event.getObserverId(),
+                    TimeUnit.SECONDS.toMillis(event.getPollingIntervalSeconds()),
+                    System.currentTimeMillis());
+            logger.info("Scheduled observer: {}", event);
+        } else {
+            pollQueue.cancel(event.getObserverType(), event.getObserverId());
+            logger.info("Unscheduled observer: {}", event);
+        }
+    }
+
+    public ObserverScheduleMetrics getScheduleMetrics() {
+        return pollQueue.getMetrics();
+    }
+
+    private void refreshSchedules(
+            ObserverType observerType,
+            Supplier<List<ObserverScheduleDto>> activeSchedules,
+            long now) {
+        try {
+            Set<String> activeObserverIds = new HashSet<>();
+            for (ObserverScheduleDto schedule : activeSchedules.get()) {
+                long intervalMillis =
+                        TimeUnit.SECONDS.toMillis(schedule.getPollingIntervalSeconds());
+                activeObserverIds.add(schedule.getObserverId());
+                pollQueue.register(
+                        observerType,
+                        schedule.getObserverId(),
+                        intervalMillis,
+                        firstDueAt(schedule.getLastPolledTimestamp(), intervalMillis, now));
+            }
+            pollQueue.retainOnly(observerType, activeObserverIds);
+        } catch (Exception e) {
+            logger.error("Error refreshing schedules for: {}", observerType, e);
+        }
+    }
+
+    private long firstDueAt(LocalDateTime lastPolledTimestamp, long intervalMillis, long now) {
+        if (lastPolledTimestamp == null) {
+            return now;
+        }
+        long lastPolledMillis =
+                lastPolledTimestamp.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return Math.max(now, lastPolledMillis + intervalMillis);
     }
 
-    private void pollObserverType(String lockKey, Runnable pollingAction) {
+    private void submit(ScheduledPoll poll) {
+        long flight = poll.getFlight();
+        try {
+            poll.setFuture(observerPollingExecutor.submit(() -> run(poll, flight)));
+        } catch (RejectedExecutionException e) {
+            logger.warn(
+                    "Polling executor saturated, deferring: {}",
+                    lockKeyOf(poll.getObserverType(), poll.getObserverId()));
+            pollQueue.complete(poll, flight, System.currentTimeMillis());
+        }
+    }
+
+    private void run(ScheduledPoll poll, long flight) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = PipelineMeters.FAILURE;
+        try {
+            outcome = pollWithLock(poll.getObserverType(), poll.getObserverId());
+        } finally {
+            sample.stop(
+                    Timer.builder(PipelineMeters.OBSERVER_POLL)
+                            .tag("observer.type", poll.getObserverType().name())
+                            .tag(PipelineMeters.TAG_OUTCOME, outcome)
+                            .register(meterRegistry));
+            pollQueue.complete(poll, flight, System.currentTimeMillis());
+        }
+    }
+
+    private String pollWithLock(ObserverType observerType, String observerId) {
+        String lockKey = lockKeyOf(observerType, observerId);
         Lock lock = lockRegistry.obtain(lockKey);
         boolean lockAcquired = false;
 
@@ -54,17 +203,21 @@ public class ObserverScheduler {
             lockAcquired = lock.tryLock(1, TimeUnit.SECONDS);
 
             if (lockAcquired) {
-                logger.info("Lock acquired for: {}", lockKey);
-                pollingAction.run();
-                logger.info("Completed polling for: {}", lockKey);
+                logger.debug("Lock acquired for: {}", lockKey);
+                poll(observerType, observerId);
+                logger.debug("Completed polling for: {}", lockKey);
+                return PipelineMeters.SUCCESS;
             } else {
                 logger.debug("Lock not acquired for: {} (another node is polling)", lockKey);
+                return POLL_SKIPPED;
             }
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             logger.warn("Interrupted while waiting for lock: {}", lockKey, e);
+            return POLL_INTERRUPTED;
         } catch (Exception e) {
             logger.error("Error during polling for: {}", lockKey, e);
+            return PipelineMeters.FAILURE;
         } finally {
             if (lockAcquired) {
                 try {
@@ -76,4 +229,30 @@ public class ObserverScheduler {
             }
         }
     }
+
+    private void poll(ObserverType observerType, String observerId) {
+        switch (observerType) {
+            case ORDER ->
+                    orderObserverApplicationService.pollOrderSource(
+                            new PollOrderSourceCommand(observerId),
+                            TriggerContext.scheduled("OrderObserver"));
+            case WES ->
+                    wesObserverApplicationService.pollWesTaskStatus(
+                            new PollWesTaskStatusCommand(observerId),
+                            TriggerContext.scheduled("WesObserver"));
+            case INVENTORY ->
+                    inventoryObserverApplicationService.pollInventorySnapshot(
+                            new PollInventorySnapshotCommand(observerId));
+        }
+    }
+
+    static String lockKeyOf(ObserverType observerType, String observerId) {
+        String prefix =
+                switch (observerType) {
+                    case ORDER -> "order-observer-poll";
+                    case WES -> "wes-observer-poll";
+                    case INVENTORY -> "inventory-observer-poll";
+                };
+        return prefix + ":" + observerId;
+    }
 }
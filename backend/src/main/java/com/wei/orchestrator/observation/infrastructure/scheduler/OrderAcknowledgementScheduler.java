@@ -0,0 +1,41 @@
+package com.wei.orchestrator.observation.infrastructure.scheduler;
+
+import com.wei.orchestrator.observation.application.OrderAcknowledgementApplicationService;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class OrderAcknowledgementScheduler {
+
+    private static final Logger logger =
+            LoggerFactory.getLogger(OrderAcknowledgementScheduler.class);
+
+    private final OrderAcknowledgementApplicationService orderAcknowledgementApplicationService;
+
+    public OrderAcknowledgementScheduler(
+            OrderAcknowledgementApplicationService orderAcknowledgementApplicationService) {
+        this.orderAcknowledgementApplicationService = orderAcknowledgementApplicationService;
+    }
+
+    @Scheduled(
+            fixedDelayString = "${observation.order-source.acknowledgement.flush-interval:500}")
+    public void flushDueAcknowledgements() {
+        try {
+            orderAcknowledgementApplicationService.flushDue(System.currentTimeMillis());
+        } catch (Exception e) {
+            logger.error("Error flushing order acknowledgements", e);
+        }
+    }
+
+    @PreDestroy
+    public void flushRemainingAcknowledgements() {
+        try {
+            orderAcknowledgementApplicationService.flushAll();
+        } catch (Exception e) {
+            logger.error("Error flushing order acknowledgements on shutdown", e);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.wei.orchestrator.observation.infrastructure.scheduler;
+
+import com.wei.orchestrator.observation.application.OrderObserverApplicationService;
+import com.wei.orchestrator.observation.application.event.ObserverScheduleChangedEvent;
+import com.wei.orchestrator.observation.domain.model.valueobject.ObserverType;
+import com.wei.orchestrator.shared.domain.model.valueobject.TriggerContext;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.integration.support.locks.LockRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+public class OrderChangeLogScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderChangeLogScheduler.class);
+
+    private final LockRegistry lockRegistry;
+    private final OrderObserverApplicationService orderObserverApplicationService;
+    private final ObserverPartitioner observerPartitioner;
+    private volatile List<String> changeLogObserverIds = List.of();
+
+    public OrderChangeLogScheduler(
+            LockRegistry lockRegistry,
+            OrderObserverApplicationService orderObserverApplicationService,
+            ObserverPartitioner observerPartitioner) {
+        this.lockRegistry = lockRegistry;
+        this.orderObserverApplicationService = orderObserverApplicationService;
+        this.observerPartitioner = observerPartitioner;
+    }
+
+    @Scheduled(fixedDelayString = "${scheduler.observer.fixed-delay:30000}")
+    public void refreshObservers() {
+        try {
+            changeLogObserverIds = orderObserverApplicationService.findActiveChangeLogObserverIds();
+        } catch (Exception e) {
+            logger.error("Error refreshing change log observers", e);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onObserverScheduleChanged(ObserverScheduleChangedEvent event) {
+        if (event.getObserverType() == ObserverType.ORDER) {
+            refreshObservers();
+        }
+    }
+
+    @Scheduled(
+            fixedDelayString = "${observation.order-source.change-log.poll-delay:250}",
+            scheduler = "changeLogConsumerScheduler")
+    public void consumeOrderChanges() {
+        for (String observerId : changeLogObserverIds) {
+            if (observerPartitioner.owns(observerId)) {
+                consumeWithLock(observerId);
+            }
+        }
+    }
+
+    public List<String> getChangeLogObserverIds() {
+        return changeLogObserverIds;
+    }
+
+    private void consumeWithLock(String observerId) {
+        String lockKey = ObserverScheduler.lockKeyOf(ObserverType.ORDER, observerId);
+        Lock lock = lockRegistry.obtain(lockKey);
+        boolean lockAcquired = false;
+
+        try {
+            lockAcquired = lock.tryLock();
+
+            if (lockAcquired) {
+                orderObserverApplicationService.consumeOrderChanges(
+                        observerId, TriggerContext.scheduled("OrderChangeLog"));
+            } else {
+                logger.debug("Lock not acquired for: {} (another poll is running)", lockKey);
+            }
+        } catch (Exception e) {
+            logger.error("Error consuming order changes for: {}", lockKey, e);
+        } finally {
+            if (lockAcquired) {
+                try {
+                    lock.unlock();
+                } catch (Exception e) {
+                    logger.error("Error releasing lock for: {}", lockKey, e);
+                }
+            }
+        }
+    }
+}
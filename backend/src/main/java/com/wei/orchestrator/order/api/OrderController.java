@@ -13,6 +13,8 @@ import com.wei.orchestrator.order.query.dto.OrderDetailDto;
 import com.wei.orchestrator.order.query.dto.OrderProcessStatusDto;
 import com.wei.orchestrator.order.query.dto.OrderSummaryDto;
 import com.wei.orchestrator.order.query.dto.ProcessStepDetailDto;
+import com.wei.orchestrator.order.query.projection.OrderProcessStatusRebuilder;
+import com.wei.orchestrator.order.query.projection.ProcessStatusRebuildResult;
 import com.wei.orchestrator.shared.domain.model.valueobject.TriggerContext;
 import jakarta.validation.Valid;
 import java.util.Arrays;
@@ -31,11 +33,15 @@ public class OrderController {
 
     private final OrderApplicationService orderApplicationService;
     private final OrderQueryService orderQueryService;
+    private final OrderProcessStatusRebuilder processStatusRebuilder;
 
     public OrderController(
-            OrderApplicationService orderApplicationService, OrderQueryService orderQueryService) {
+            OrderApplicationService orderApplicationService,
+            OrderQueryService orderQueryService,
+            OrderProcessStatusRebuilder processStatusRebuilder) {
         this.orderApplicationService = orderApplicationService;
         this.orderQueryService = orderQueryService;
+        this.processStatusRebuilder = processStatusRebuilder;
     }
 
     @GetMapping
@@ -79,6 +85,14 @@ public class OrderController {
         return ResponseEntity.ok(stepDetail);
     }
 
+    @PostMapping("/process-status/rebuild")
+    public ResponseEntity<ProcessStatusRebuildResult> rebuildProcessStatus() {
+        return processStatusRebuilder
+                .rebuild()
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.CONFLICT).build());
+    }
+
     @PostMapping
     public ResponseEntity<OrderResponse> createOrder(
             @Valid @RequestBody CreateOrderRequest request) {
@@ -0,0 +1,125 @@
+package com.wei.orchestrator.order.application;
+
+import com.wei.orchestrator.observation.domain.event.NewOrderObservedEvent;
+import com.wei.orchestrator.observation.domain.model.valueobject.ObservationResult;
+import com.wei.orchestrator.order.application.command.CreateOrderCommand;
+import com.wei.orchestrator.order.application.translator.ObservationToOrderTranslator;
+import com.wei.orchestrator.order.domain.model.OrderIngestionEntry;
+import com.wei.orchestrator.order.domain.model.valueobject.IngestionStatus;
+import com.wei.orchestrator.order.domain.repository.OrderIngestionEntryRepository;
+import com.wei.orchestrator.order.domain.repository.OrderRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class OrderIngestionApplicationService {
+
+    private static final Logger logger =
+            LoggerFactory.getLogger(OrderIngestionApplicationService.class);
+
+    private final OrderIngestionEntryRepository orderIngestionEntryRepository;
+    private final OrderRepository orderRepository;
+    private final OrderApplicationService orderApplicationService;
+    private final ObservationToOrderTranslator translator;
+    private final int maxAttempts;
+
+    public OrderIngestionApplicationService(
+            OrderIngestionEntryRepository orderIngestionEntryRepository,
+            OrderRepository orderRepository,
+            OrderApplicationService orderApplicationService,
+            ObservationToOrderTranslator translator,
+            @Value("${order.ingestion.max-attempts:5}") int maxAttempts) {
+        if (maxAttempts <= 0) {
+            throw new IllegalArgumentException("Ingestion max attempts must be positive");
+        }
+        this.orderIngestionEntryRepository = orderIngestionEntryRepository;
+        this.orderRepository = orderRepository;
+        this.orderApplicationService = orderApplicationService;
+        this.translator = translator;
+        this.maxAttempts = maxAttempts;
+    }
+
+    @Transactional
+    public OrderIngestionEntry enqueue(NewOrderObservedEvent event) {
+        OrderIngestionEntry entry =
+                new OrderIngestionEntry(
+                        event.getObserverId(), event.getObservedOrder(), event.getTriggerContext());
+        OrderIngestionEntry saved = orderIngestionEntryRepository.save(entry);
+
+        logger.debug(
+                "Buffered observed order {} from observer {} as ingestion entry {}",
+                saved.getOrderId(),
+                saved.getObserverId(),
+                saved.getEntryId());
+        return saved;
+    }
+
+    public List<OrderIngestionEntry> claimPending(int limit, String workerId) {
+        return orderIngestionEntryRepository.claimPending(limit, workerId, LocalDateTime.now());
+    }
+
+    public int releaseStaleClaims(LocalDateTime claimedBefore) {
+        int released = orderIngestionEntryRepository.releaseStaleClaims(claimedBefore);
+        if (released > 0) {
+            logger.warn(
+                    "Released {} stale ingestion claims older than {}", released, claimedBefore);
+        }
+        return released;
+    }
+
+    @Transactional
+    public void ingest(OrderIngestionEntry entry) {
+        ObservationResult observedOrder = entry.getObservedOrder();
+        String orderId = observedOrder.getOrderId();
+
+        if (orderRepository.findById(orderId).isPresent()) {
+            logger.info("Order {} already exists, skipping creation (idempotency check)", orderId);
+        } else {
+            CreateOrderCommand command = translator.translate(observedOrder);
+            orderApplicationService.createOrder(command, entry.getTriggerContext());
+            logger.info(
+                    "Successfully created order {} from ingestion entry {}",
+                    orderId,
+                    entry.getEntryId());
+        }
+
+        orderIngestionEntryRepository.deleteById(entry.getEntryId());
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void recordFailure(OrderIngestionEntry entry, Exception cause) {
+        entry.recordFailure(cause.getMessage(), maxAttempts);
+        orderIngestionEntryRepository.save(entry);
+
+        if (entry.isFailed()) {
+            logger.error(
+                    "Giving up on order {} after {} attempts, entry {} parked as FAILED",
+                    entry.getOrderId(),
+                    entry.getAttempts(),
+                    entry.getEntryId(),
+                    cause);
+        } else {
+            logger.warn(
+                    "Failed to ingest order {} (attempt {} of {}), will retry: {}",
+                    entry.getOrderId(),
+                    entry.getAttempts(),
+                    maxAttempts,
+                    cause.getMessage());
+        }
+    }
+
+    public long countOutstanding() {
+        return orderIngestionEntryRepository.countByStatus(IngestionStatus.PENDING)
+                + orderIngestionEntryRepository.countByStatus(IngestionStatus.PROCESSING);
+    }
+
+    public long countFailed() {
+        return orderIngestionEntryRepository.countByStatus(IngestionStatus.FAILED);
+    }
+}
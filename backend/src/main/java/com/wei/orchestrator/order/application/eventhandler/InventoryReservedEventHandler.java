@@ -8,6 +8,8 @@ import com.wei.orchestrator.order.domain.event.OrderReservedEvent;
 import com.wei.orchestrator.order.domain.model.Order;
 import com.wei.orchestrator.order.domain.model.OrderLineItem;
 import com.wei.orchestrator.order.domain.repository.OrderRepository;
+import com.wei.orchestrator.shared.application.event.DomainEventDispatcher;
+import com.wei.orchestrator.shared.application.event.RelayedEventListener;
 import com.wei.orchestrator.shared.domain.model.valueobject.TriggerContext;
 import java.util.List;
 import java.util.Optional;
@@ -15,10 +17,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.event.TransactionPhase;
-import org.springframework.transaction.event.TransactionalEventListener;
 
 @Component
 public class InventoryReservedEventHandler {
@@ -29,19 +27,26 @@ public class InventoryReservedEventHandler {
     private final OrderRepository orderRepository;
     private final InventoryTransactionRepository inventoryTransactionRepository;
     private final ApplicationEventPublisher eventPublisher;
+    private final DomainEventDispatcher domainEventDispatcher;
 
     public InventoryReservedEventHandler(
             OrderRepository orderRepository,
             InventoryTransactionRepository inventoryTransactionRepository,
-            ApplicationEventPublisher eventPublisher) {
+            ApplicationEventPublisher eventPublisher,
+            DomainEventDispatcher domainEventDispatcher) {
         this.orderRepository = orderRepository;
         this.inventoryTransactionRepository = inventoryTransactionRepository;
         this.eventPublisher = eventPublisher;
+        this.domainEventDispatcher = domainEventDispatcher;
     }
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @RelayedEventListener
     public void handleInventoryReserved(InventoryReservedEvent reservedEvent) {
+        domainEventDispatcher.dispatch(
+                reservedEvent.getOrderId(), () -> processInventoryReserved(reservedEvent));
+    }
+
+    private void processInventoryReserved(InventoryReservedEvent reservedEvent) {
         String orderId = reservedEvent.getOrderId();
         String transactionId = reservedEvent.getTransactionId();
         String externalReservationId = reservedEvent.getExternalReservationId();
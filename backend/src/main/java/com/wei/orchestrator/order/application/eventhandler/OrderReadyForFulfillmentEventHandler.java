@@ -7,14 +7,12 @@ import com.wei.orchestrator.order.domain.event.OrderReadyForFulfillmentEvent;
 import com.wei.orchestrator.order.domain.model.Order;
 import com.wei.orchestrator.order.domain.model.OrderLineItem;
 import com.wei.orchestrator.order.domain.repository.OrderRepository;
+import com.wei.orchestrator.shared.application.event.DomainEventDispatcher;
+import com.wei.orchestrator.shared.application.event.RelayedEventListener;
 import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.event.TransactionPhase;
-import org.springframework.transaction.event.TransactionalEventListener;
 
 @Component
 public class OrderReadyForFulfillmentEventHandler {
@@ -24,17 +22,24 @@ public class OrderReadyForFulfillmentEventHandler {
 
     private final OrderRepository orderRepository;
     private final InventoryApplicationService inventoryApplicationService;
+    private final DomainEventDispatcher domainEventDispatcher;
 
     public OrderReadyForFulfillmentEventHandler(
             OrderRepository orderRepository,
-            InventoryApplicationService inventoryApplicationService) {
+            InventoryApplicationService inventoryApplicationService,
+            DomainEventDispatcher domainEventDispatcher) {
         this.orderRepository = orderRepository;
         this.inventoryApplicationService = inventoryApplicationService;
+        this.domainEventDispatcher = domainEventDispatcher;
     }
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @RelayedEventListener
     public void handleOrderReadyForFulfillment(OrderReadyForFulfillmentEvent event) {
+        domainEventDispatcher.dispatch(
+                event.getOrderId(), () -> processOrderReadyForFulfillment(event));
+    }
+
+    private void processOrderReadyForFulfillment(OrderReadyForFulfillmentEvent event) {
         String orderId = event.getOrderId();
 
         logger.info(
@@ -3,6 +3,8 @@ package com.wei.orchestrator.order.application.eventhandler;
 import com.wei.orchestrator.order.domain.event.OrderReservedEvent;
 import com.wei.orchestrator.order.domain.model.Order;
 import com.wei.orchestrator.order.domain.repository.OrderRepository;
+import com.wei.orchestrator.shared.application.event.DomainEventDispatcher;
+import com.wei.orchestrator.shared.application.event.RelayedEventListener;
 import com.wei.orchestrator.wes.application.PickingTaskApplicationService;
 import com.wei.orchestrator.wes.application.command.CreatePickingTaskForOrderCommand;
 import com.wei.orchestrator.wes.application.command.dto.TaskItemDto;
@@ -12,10 +14,6 @@ import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.event.TransactionPhase;
-import org.springframework.transaction.event.TransactionalEventListener;
 
 @Component
 public class OrderReservedEventHandler {
@@ -24,17 +22,23 @@ public class OrderReservedEventHandler {
 
     private final OrderRepository orderRepository;
     private final PickingTaskApplicationService pickingTaskApplicationService;
+    private final DomainEventDispatcher domainEventDispatcher;
 
     public OrderReservedEventHandler(
             OrderRepository orderRepository,
-            PickingTaskApplicationService pickingTaskApplicationService) {
+            PickingTaskApplicationService pickingTaskApplicationService,
+            DomainEventDispatcher domainEventDispatcher) {
         this.orderRepository = orderRepository;
         this.pickingTaskApplicationService = pickingTaskApplicationService;
+        this.domainEventDispatcher = domainEventDispatcher;
     }
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @RelayedEventListener
     public void handleOrderReserved(OrderReservedEvent event) {
+        domainEventDispatcher.dispatch(event.getOrderId(), () -> processOrderReserved(event));
+    }
+
+    private void processOrderReserved(OrderReservedEvent event) {
         String orderId = event.getOrderId();
 
         logger.info(
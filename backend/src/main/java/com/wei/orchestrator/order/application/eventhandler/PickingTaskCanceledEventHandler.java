@@ -1,6 +1,8 @@
 package com.wei.orchestrator.order.application.eventhandler;
 
 import com.wei.orchestrator.order.application.OrderApplicationService;
+import com.wei.orchestrator.shared.application.event.DomainEventDispatcher;
+import com.wei.orchestrator.shared.application.event.RelayedEventListener;
 import com.wei.orchestrator.wes.domain.event.PickingTaskCanceledEvent;
 import com.wei.orchestrator.wes.domain.model.PickingTask;
 import com.wei.orchestrator.wes.domain.model.valueobject.TaskItem;
@@ -10,10 +12,6 @@ import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.event.TransactionPhase;
-import org.springframework.transaction.event.TransactionalEventListener;
 
 @Component("OrderPickingTaskCanceledEventHandler")
 public class PickingTaskCanceledEventHandler {
@@ -23,17 +21,23 @@ public class PickingTaskCanceledEventHandler {
 
     private final OrderApplicationService orderApplicationService;
     private final PickingTaskRepository pickingTaskRepository;
+    private final DomainEventDispatcher domainEventDispatcher;
 
     public PickingTaskCanceledEventHandler(
             OrderApplicationService orderApplicationService,
-            PickingTaskRepository pickingTaskRepository) {
+            PickingTaskRepository pickingTaskRepository,
+            DomainEventDispatcher domainEventDispatcher) {
         this.orderApplicationService = orderApplicationService;
         this.pickingTaskRepository = pickingTaskRepository;
+        this.domainEventDispatcher = domainEventDispatcher;
     }
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @RelayedEventListener
     public void handlePickingTaskCanceled(PickingTaskCanceledEvent event) {
+        domainEventDispatcher.dispatch(event.getOrderId(), () -> processPickingTaskCanceled(event));
+    }
+
+    private void processPickingTaskCanceled(PickingTaskCanceledEvent event) {
         String orderId = event.getOrderId();
         if (orderId == null) {
             logger.warn("PickingTaskCanceledEvent has no orderId, skipping");
@@ -1,6 +1,8 @@
 package com.wei.orchestrator.order.application.eventhandler;
 
 import com.wei.orchestrator.order.application.OrderApplicationService;
+import com.wei.orchestrator.shared.application.event.DomainEventDispatcher;
+import com.wei.orchestrator.shared.application.event.RelayedEventListener;
 import com.wei.orchestrator.wes.domain.event.PickingTaskCompletedEvent;
 import com.wei.orchestrator.wes.domain.model.PickingTask;
 import com.wei.orchestrator.wes.domain.model.valueobject.TaskItem;
@@ -10,10 +12,6 @@ import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.event.TransactionPhase;
-import org.springframework.transaction.event.TransactionalEventListener;
 
 @Component("OrderPickingTaskCompletedEventHandler")
 public class PickingTaskCompletedEventHandler {
@@ -23,17 +21,24 @@ public class PickingTaskCompletedEventHandler {
 
     private final OrderApplicationService orderApplicationService;
     private final PickingTaskRepository pickingTaskRepository;
+    private final DomainEventDispatcher domainEventDispatcher;
 
     public PickingTaskCompletedEventHandler(
             OrderApplicationService orderApplicationService,
-            PickingTaskRepository pickingTaskRepository) {
+            PickingTaskRepository pickingTaskRepository,
+            DomainEventDispatcher domainEventDispatcher) {
         this.orderApplicationService = orderApplicationService;
         this.pickingTaskRepository = pickingTaskRepository;
+        this.domainEventDispatcher = domainEventDispatcher;
     }
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @RelayedEventListener
     public void handlePickingTaskCompleted(PickingTaskCompletedEvent event) {
+        domainEventDispatcher.dispatch(
+                event.getOrderId(), () -> processPickingTaskCompleted(event));
+    }
+
+    private void processPickingTaskCompleted(PickingTaskCompletedEvent event) {
         String orderId = event.getOrderId();
         if (orderId == null) {
             logger.warn("PickingTaskCompletedEvent has no orderId, skipping");
@@ -2,6 +2,8 @@ package com.wei.orchestrator.order.application.eventhandler;
 
 import com.wei.orchestrator.order.domain.model.Order;
 import com.wei.orchestrator.order.domain.repository.OrderRepository;
+import com.wei.orchestrator.shared.application.event.DomainEventDispatcher;
+import com.wei.orchestrator.shared.application.event.RelayedEventListener;
 import com.wei.orchestrator.wes.domain.event.PickingTaskFailedEvent;
 import com.wei.orchestrator.wes.domain.model.PickingTask;
 import com.wei.orchestrator.wes.domain.model.valueobject.TaskOrigin;
@@ -11,10 +13,6 @@ import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.event.TransactionPhase;
-import org.springframework.transaction.event.TransactionalEventListener;
 
 @Component("OrderPickingTaskFailedEventHandler")
 public class PickingTaskFailedEventHandler {
@@ -24,16 +22,23 @@ public class PickingTaskFailedEventHandler {
 
     private final OrderRepository orderRepository;
     private final PickingTaskRepository pickingTaskRepository;
+    private final DomainEventDispatcher domainEventDispatcher;
 
     public PickingTaskFailedEventHandler(
-            OrderRepository orderRepository, PickingTaskRepository pickingTaskRepository) {
+            OrderRepository orderRepository,
+            PickingTaskRepository pickingTaskRepository,
+            DomainEventDispatcher domainEventDispatcher) {
         this.orderRepository = orderRepository;
         this.pickingTaskRepository = pickingTaskRepository;
+        this.domainEventDispatcher = domainEventDispatcher;
     }
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @RelayedEventListener
     public void handlePickingTaskFailed(PickingTaskFailedEvent event) {
+        domainEventDispatcher.dispatch(event.getOrderId(), () -> processPickingTaskFailed(event));
+    }
+
+    private void processPickingTaskFailed(PickingTaskFailedEvent event) {
         if (event.getOrigin() != TaskOrigin.ORCHESTRATOR_SUBMITTED) {
             logger.info(
                     "Skipping PickingTaskFailedEvent for task {} with origin {}",
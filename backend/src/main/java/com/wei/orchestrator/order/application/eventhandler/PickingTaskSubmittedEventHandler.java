@@ -2,6 +2,8 @@ package com.wei.orchestrator.order.application.eventhandler;
 
 import com.wei.orchestrator.order.domain.model.Order;
 import com.wei.orchestrator.order.domain.repository.OrderRepository;
+import com.wei.orchestrator.shared.application.event.DomainEventDispatcher;
+import com.wei.orchestrator.shared.application.event.RelayedEventListener;
 import com.wei.orchestrator.wes.domain.event.PickingTaskSubmittedEvent;
 import com.wei.orchestrator.wes.domain.model.PickingTask;
 import com.wei.orchestrator.wes.domain.model.valueobject.TaskItem;
@@ -12,10 +14,6 @@ import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.event.TransactionPhase;
-import org.springframework.transaction.event.TransactionalEventListener;
 
 @Component
 public class PickingTaskSubmittedEventHandler {
@@ -25,15 +23,18 @@ public class PickingTaskSubmittedEventHandler {
 
     private final OrderRepository orderRepository;
     private final PickingTaskRepository pickingTaskRepository;
+    private final DomainEventDispatcher domainEventDispatcher;
 
     public PickingTaskSubmittedEventHandler(
-            OrderRepository orderRepository, PickingTaskRepository pickingTaskRepository) {
+            OrderRepository orderRepository,
+            PickingTaskRepository pickingTaskRepository,
+            DomainEventDispatcher domainEventDispatcher) {
         this.orderRepository = orderRepository;
         this.pickingTaskRepository = pickingTaskRepository;
+        this.domainEventDispatcher = domainEventDispatcher;
     }
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @RelayedEventListener
     public void handlePickingTaskSubmitted(PickingTaskSubmittedEvent event) {
         if (event.getOrigin() != TaskOrigin.ORCHESTRATOR_SUBMITTED) {
             logger.info(
@@ -43,16 +44,30 @@ public class PickingTaskSubmittedEventHandler {
             return;
         }
 
-        String taskId = event.getTaskId();
-        logger.info("Handling PickingTaskSubmittedEvent for task: {}", taskId);
+        if (event.getOrderId() != null) {
+            domainEventDispatcher.dispatch(
+                    event.getOrderId(),
+                    () ->
+                            processPickingTaskSubmitted(
+                                    event.getTaskId(), findPickingTask(event.getTaskId())));
+            return;
+        }
 
-        PickingTask pickingTask =
-                pickingTaskRepository
-                        .findById(taskId)
-                        .orElseThrow(
-                                () ->
-                                        new IllegalStateException(
-                                                "Picking task not found: " + taskId));
+        PickingTask pickingTask = findPickingTask(event.getTaskId());
+        String partitionKey =
+                pickingTask.getOrderId() != null ? pickingTask.getOrderId() : event.getTaskId();
+        domainEventDispatcher.dispatch(
+                partitionKey, () -> processPickingTaskSubmitted(event.getTaskId(), pickingTask));
+    }
+
+    private PickingTask findPickingTask(String taskId) {
+        return pickingTaskRepository
+                .findById(taskId)
+                .orElseThrow(() -> new IllegalStateException("Picking task not found: " + taskId));
+    }
+
+    private void processPickingTaskSubmitted(String taskId, PickingTask pickingTask) {
+        logger.info("Handling PickingTaskSubmittedEvent for task: {}", taskId);
 
         String orderId = pickingTask.getOrderId();
         if (orderId == null) {
@@ -7,15 +7,13 @@ import com.wei.orchestrator.inventory.domain.repository.InventoryTransactionRepo
 import com.wei.orchestrator.order.domain.model.Order;
 import com.wei.orchestrator.order.domain.model.OrderLineItem;
 import com.wei.orchestrator.order.domain.repository.OrderRepository;
+import com.wei.orchestrator.shared.application.event.DomainEventDispatcher;
+import com.wei.orchestrator.shared.application.event.RelayedEventListener;
 import java.util.List;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.event.TransactionPhase;
-import org.springframework.transaction.event.TransactionalEventListener;
 
 @Component
 public class ReservationFailedEventHandler {
@@ -25,17 +23,24 @@ public class ReservationFailedEventHandler {
 
     private final OrderRepository orderRepository;
     private final InventoryTransactionRepository inventoryTransactionRepository;
+    private final DomainEventDispatcher domainEventDispatcher;
 
     public ReservationFailedEventHandler(
             OrderRepository orderRepository,
-            InventoryTransactionRepository inventoryTransactionRepository) {
+            InventoryTransactionRepository inventoryTransactionRepository,
+            DomainEventDispatcher domainEventDispatcher) {
         this.orderRepository = orderRepository;
         this.inventoryTransactionRepository = inventoryTransactionRepository;
+        this.domainEventDispatcher = domainEventDispatcher;
     }
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @RelayedEventListener
     public void handleReservationFailed(ReservationFailedEvent failedEvent) {
+        domainEventDispatcher.dispatch(
+                failedEvent.getOrderId(), () -> processReservationFailed(failedEvent));
+    }
+
+    private void processReservationFailed(ReservationFailedEvent failedEvent) {
         String orderId = failedEvent.getOrderId();
         String transactionId = failedEvent.getTransactionId();
         String reason = failedEvent.getReason();
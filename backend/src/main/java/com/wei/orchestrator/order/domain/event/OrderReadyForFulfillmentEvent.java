@@ -1,11 +1,13 @@
 package com.wei.orchestrator.order.domain.event;
 
-import com.wei.orchestrator.shared.domain.event.DomainEvent;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.wei.orchestrator.shared.domain.event.CrossContextEvent;
 import com.wei.orchestrator.shared.domain.model.valueobject.TriggerContext;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
-public class OrderReadyForFulfillmentEvent implements DomainEvent {
+public class OrderReadyForFulfillmentEvent implements CrossContextEvent {
     private final String orderId;
     private final LocalDateTime occurredAt;
     private final UUID correlationId;
@@ -18,7 +20,10 @@ public class OrderReadyForFulfillmentEvent implements DomainEvent {
         this.triggerContext = null;
     }
 
-    public OrderReadyForFulfillmentEvent(String orderId, TriggerContext triggerContext) {
+    @JsonCreator
+    public OrderReadyForFulfillmentEvent(
+            @JsonProperty("orderId") String orderId,
+            @JsonProperty("triggerContext") TriggerContext triggerContext) {
         this.orderId = orderId;
         this.occurredAt = LocalDateTime.now();
         this.triggerContext = triggerContext;
@@ -26,6 +31,7 @@ public class OrderReadyForFulfillmentEvent implements DomainEvent {
                 triggerContext != null ? triggerContext.getCorrelationId() : UUID.randomUUID();
     }
 
+    @Override
     public String getOrderId() {
         return orderId;
     }
@@ -1,12 +1,14 @@
 package com.wei.orchestrator.order.domain.event;
 
-import com.wei.orchestrator.shared.domain.event.DomainEvent;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.wei.orchestrator.shared.domain.event.CrossContextEvent;
 import com.wei.orchestrator.shared.domain.model.valueobject.TriggerContext;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
-public class OrderReservedEvent implements DomainEvent {
+public class OrderReservedEvent implements CrossContextEvent {
     private final String orderId;
     private final List<String> reservedLineItemIds;
     private final LocalDateTime occurredAt;
@@ -21,8 +23,11 @@ public class OrderReservedEvent implements DomainEvent {
         this.triggerContext = null;
     }
 
+    @JsonCreator
     public OrderReservedEvent(
-            String orderId, List<String> reservedLineItemIds, TriggerContext triggerContext) {
+            @JsonProperty("orderId") String orderId,
+            @JsonProperty("reservedLineItemIds") List<String> reservedLineItemIds,
+            @JsonProperty("triggerContext") TriggerContext triggerContext) {
         this.orderId = orderId;
         this.reservedLineItemIds = List.copyOf(reservedLineItemIds);
         this.occurredAt = LocalDateTime.now();
@@ -31,6 +36,7 @@ public class OrderReservedEvent implements DomainEvent {
                 triggerContext != null ? triggerContext.getCorrelationId() : UUID.randomUUID();
     }
 
+    @Override
     public String getOrderId() {
         return orderId;
     }
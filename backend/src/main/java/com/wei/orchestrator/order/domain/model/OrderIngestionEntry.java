@@ -0,0 +1,155 @@
+package com.wei.orchestrator.order.domain.model;
+
+import com.wei.orchestrator.observation.domain.model.valueobject.ObservationResult;
+import com.wei.orchestrator.order.domain.model.valueobject.IngestionStatus;
+import com.wei.orchestrator.shared.domain.model.valueobject.TriggerContext;
+import java.time.LocalDateTime;
+
+public class OrderIngestionEntry {
+    private Long entryId;
+    private String observerId;
+    private ObservationResult observedOrder;
+    private TriggerContext triggerContext;
+    private IngestionStatus status;
+    private int attempts;
+    private LocalDateTime enqueuedAt;
+    private LocalDateTime claimedAt;
+    private String claimedBy;
+    private String lastError;
+
+    public OrderIngestionEntry() {}
+
+    public OrderIngestionEntry(
+            String observerId, ObservationResult observedOrder, TriggerContext triggerContext) {
+        if (observerId == null || observerId.isBlank()) {
+            throw new IllegalArgumentException("Observer ID cannot be null or empty");
+        }
+        if (observedOrder == null) {
+            throw new IllegalArgumentException("Observed order cannot be null");
+        }
+        this.observerId = observerId;
+        this.observedOrder = observedOrder;
+        this.triggerContext = triggerContext;
+        this.status = IngestionStatus.PENDING;
+        this.attempts = 0;
+        this.enqueuedAt = LocalDateTime.now();
+    }
+
+    public void recordFailure(String error, int maxAttempts) {
+        if (status != IngestionStatus.PROCESSING) {
+            throw new IllegalStateException(
+                    "Only claimed entries can record a failure, current status: " + status);
+        }
+        this.attempts++;
+        this.lastError = error;
+        this.claimedAt = null;
+        this.claimedBy = null;
+        this.status = attempts >= maxAttempts ? IngestionStatus.FAILED : IngestionStatus.PENDING;
+    }
+
+    public boolean isFailed() {
+        return status == IngestionStatus.FAILED;
+    }
+
+    public String getOrderId() {
+        return observedOrder != null ? observedOrder.getOrderId() : null;
+    }
+
+    public Long getEntryId() {
+        return entryId;
+    }
+
+    public void setEntryId(Long entryId) {
+        this.entryId = entryId;
+    }
+
+    public String getObserverId() {
+        return observerId;
+    }
+
+    public void setObserverId(String observerId) {
+        this.observerId = observerId;
+    }
+
+    public ObservationResult getObservedOrder() {
+        return observedOrder;
+    }
+
+    public void setObservedOrder(ObservationResult observedOrder) {
+        this.observedOrder = observedOrder;
+    }
+
+    public TriggerContext getTriggerContext() {
+        return triggerContext;
+    }
+
+    public void setTriggerContext(TriggerContext triggerContext) {
+        this.triggerContext = triggerContext;
+    }
+
+    public IngestionStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(IngestionStatus status) {
+        this.status = status;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    public LocalDateTime getEnqueuedAt() {
+        return enqueuedAt;
+    }
+
+    public void setEnqueuedAt(LocalDateTime enqueuedAt) {
+        this.enqueuedAt = enqueuedAt;
+    }
+
+    public LocalDateTime getClaimedAt() {
+        return claimedAt;
+    }
+
+    public void setClaimedAt(LocalDateTime claimedAt) {
+        this.claimedAt = claimedAt;
+    }
+
+    public String getClaimedBy() {
+        return claimedBy;
+    }
+
+    public void setClaimedBy(String claimedBy) {
+        this.claimedBy = claimedBy;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+
+    @Override
+    public String toString() {
+        return "OrderIngestionEntry{"
+                + "entryId="
+                + entryId
+                + ", orderId='"
+                + getOrderId()
+                + '\''
+                + ", observerId='"
+                + observerId
+                + '\''
+                + ", status="
+                + status
+                + ", attempts="
+                + attempts
+                + '}';
+    }
+}
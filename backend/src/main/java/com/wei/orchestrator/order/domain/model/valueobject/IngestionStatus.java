@@ -0,0 +1,7 @@
+package com.wei.orchestrator.order.domain.model.valueobject;
+
+public enum IngestionStatus {
+    PENDING,
+    PROCESSING,
+    FAILED
+}
@@ -0,0 +1,18 @@
+package com.wei.orchestrator.order.domain.repository;
+
+import com.wei.orchestrator.order.domain.model.OrderIngestionEntry;
+import com.wei.orchestrator.order.domain.model.valueobject.IngestionStatus;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OrderIngestionEntryRepository {
+    OrderIngestionEntry save(OrderIngestionEntry entry);
+
+    List<OrderIngestionEntry> claimPending(int limit, String claimedBy, LocalDateTime claimedAt);
+
+    int releaseStaleClaims(LocalDateTime claimedBefore);
+
+    void deleteById(Long entryId);
+
+    long countByStatus(IngestionStatus status);
+}
@@ -0,0 +1,21 @@
+package com.wei.orchestrator.order.infrastructure.adapter;
+
+import com.wei.orchestrator.observation.domain.model.valueobject.IngestionPressure;
+import com.wei.orchestrator.observation.domain.port.IngestionBackpressurePort;
+import com.wei.orchestrator.order.infrastructure.scheduler.OrderIngestionWorker;
+import org.springframework.stereotype.Component;
+
+@Component
+public class OrderIngestionBackpressureAdapter implements IngestionBackpressurePort {
+
+    private final OrderIngestionWorker orderIngestionWorker;
+
+    public OrderIngestionBackpressureAdapter(OrderIngestionWorker orderIngestionWorker) {
+        this.orderIngestionWorker = orderIngestionWorker;
+    }
+
+    @Override
+    public IngestionPressure currentPressure() {
+        return orderIngestionWorker.currentPressure();
+    }
+}
@@ -0,0 +1,89 @@
+package com.wei.orchestrator.order.infrastructure.mapper;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.wei.orchestrator.observation.domain.model.valueobject.ObservationResult;
+import com.wei.orchestrator.order.domain.model.OrderIngestionEntry;
+import com.wei.orchestrator.order.domain.model.valueobject.IngestionStatus;
+import com.wei.orchestrator.order.infrastructure.persistence.OrderIngestionEntryEntity;
+import com.wei.orchestrator.shared.domain.model.valueobject.TriggerContext;
+
+public class OrderIngestionEntryMapper {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    static {
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    public static OrderIngestionEntryEntity toEntity(OrderIngestionEntry domain) {
+        if (domain == null) {
+            return null;
+        }
+
+        OrderIngestionEntryEntity entity = new OrderIngestionEntryEntity();
+        entity.setEntryId(domain.getEntryId());
+        entity.setOrderId(domain.getOrderId());
+        entity.setObserverId(domain.getObserverId());
+
+        try {
+            entity.setObservedOrder(objectMapper.writeValueAsString(domain.getObservedOrder()));
+            if (domain.getTriggerContext() != null) {
+                entity.setTriggerContext(
+                        objectMapper.writeValueAsString(domain.getTriggerContext()));
+            }
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize ingestion entry to JSON", e);
+        }
+
+        entity.setStatus(domain.getStatus().name());
+        entity.setAttempts(domain.getAttempts());
+        entity.setEnqueuedAt(domain.getEnqueuedAt());
+        entity.setClaimedAt(domain.getClaimedAt());
+        entity.setClaimedBy(domain.getClaimedBy());
+        entity.setLastError(truncate(domain.getLastError()));
+
+        return entity;
+    }
+
+    public static OrderIngestionEntry toDomain(OrderIngestionEntryEntity entity) {
+        if (entity == null) {
+            return null;
+        }
+
+        OrderIngestionEntry domain = new OrderIngestionEntry();
+        domain.setEntryId(entity.getEntryId());
+        domain.setObserverId(entity.getObserverId());
+
+        try {
+            domain.setObservedOrder(
+                    objectMapper.readValue(entity.getObservedOrder(), ObservationResult.class));
+            if (entity.getTriggerContext() != null) {
+                domain.setTriggerContext(
+                        objectMapper.readValue(entity.getTriggerContext(), TriggerContext.class));
+            }
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to deserialize ingestion entry from JSON", e);
+        }
+
+        domain.setStatus(IngestionStatus.valueOf(entity.getStatus()));
+        domain.setAttempts(entity.getAttempts());
+        domain.setEnqueuedAt(entity.getEnqueuedAt());
+        domain.setClaimedAt(entity.getClaimedAt());
+        domain.setClaimedBy(entity.getClaimedBy());
+        domain.setLastError(entity.getLastError());
+
+        return domain;
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
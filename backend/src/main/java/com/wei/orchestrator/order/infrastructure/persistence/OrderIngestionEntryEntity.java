@@ -0,0 +1,138 @@
+package com.wei.orchestrator.order.infrastructure.persistence;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(
+        name = "order_ingestion_buffer",
+        indexes = {@Index(name = "idx_order_ingestion_status", columnList = "status, entry_id")})
+public class OrderIngestionEntryEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "entry_id")
+    private Long entryId;
+
+    @Column(name = "order_id", nullable = false, length = 255)
+    private String orderId;
+
+    @Column(name = "observer_id", nullable = false, length = 255)
+    private String observerId;
+
+    @Lob
+    @Column(name = "observed_order", nullable = false)
+    private String observedOrder;
+
+    @Lob
+    @Column(name = "trigger_context")
+    private String triggerContext;
+
+    @Column(name = "status", nullable = false, length = 20)
+    private String status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "enqueued_at", nullable = false)
+    private LocalDateTime enqueuedAt;
+
+    @Column(name = "claimed_at")
+    private LocalDateTime claimedAt;
+
+    @Column(name = "claimed_by", length = 100)
+    private String claimedBy;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    public OrderIngestionEntryEntity() {}
+
+    public Long getEntryId() {
+        return entryId;
+    }
+
+    public void setEntryId(Long entryId) {
+        this.entryId = entryId;
+    }
+
+    public String getOrderId() {
+        return orderId;
+    }
+
+    public void setOrderId(String orderId) {
+        this.orderId = orderId;
+    }
+
+    public String getObserverId() {
+        return observerId;
+    }
+
+    public void setObserverId(String observerId) {
+        this.observerId = observerId;
+    }
+
+    public String getObservedOrder() {
+        return observedOrder;
+    }
+
+    public void setObservedOrder(String observedOrder) {
+        this.observedOrder = observedOrder;
+    }
+
+    public String getTriggerContext() {
+        return triggerContext;
+    }
+
+    public void setTriggerContext(String triggerContext) {
+        this.triggerContext = triggerContext;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    public LocalDateTime getEnqueuedAt() {
+        return enqueuedAt;
+    }
+
+    public void setEnqueuedAt(LocalDateTime enqueuedAt) {
+        this.enqueuedAt = enqueuedAt;
+    }
+
+    public LocalDateTime getClaimedAt() {
+        return claimedAt;
+    }
+
+    public void setClaimedAt(LocalDateTime claimedAt) {
+        this.claimedAt = claimedAt;
+    }
+
+    public String getClaimedBy() {
+        return claimedBy;
+    }
+
+    public void setClaimedBy(String claimedBy) {
+        this.claimedBy = claimedBy;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+}
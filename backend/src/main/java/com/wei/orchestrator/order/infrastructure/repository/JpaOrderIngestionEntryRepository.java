@@ -0,0 +1,38 @@
+package com.wei.orchestrator.order.infrastructure.repository;
+
+import com.wei.orchestrator.order.infrastructure.persistence.OrderIngestionEntryEntity;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface JpaOrderIngestionEntryRepository
+        extends JpaRepository<OrderIngestionEntryEntity, Long> {
+
+    @Query(
+            "SELECT e.entryId FROM OrderIngestionEntryEntity e WHERE e.status = 'PENDING' ORDER BY"
+                    + " e.entryId")
+    List<Long> findPendingEntryIds(Pageable pageable);
+
+    @Modifying
+    @Query(
+            "UPDATE OrderIngestionEntryEntity e SET e.status = 'PROCESSING', e.claimedAt ="
+                    + " :claimedAt, e.claimedBy = :claimedBy WHERE e.entryId = :entryId AND"
+                    + " e.status = 'PENDING'")
+    int claim(
+            @Param("entryId") Long entryId,
+            @Param("claimedBy") String claimedBy,
+            @Param("claimedAt") LocalDateTime claimedAt);
+
+    @Modifying
+    @Query(
+            "UPDATE OrderIngestionEntryEntity e SET e.status = 'PENDING', e.claimedAt = NULL,"
+                    + " e.claimedBy = NULL WHERE e.status = 'PROCESSING' AND e.claimedAt <"
+                    + " :claimedBefore")
+    int releaseStaleClaims(@Param("claimedBefore") LocalDateTime claimedBefore);
+
+    long countByStatus(String status);
+}
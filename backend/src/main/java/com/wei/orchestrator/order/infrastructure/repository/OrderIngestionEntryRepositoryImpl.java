@@ -0,0 +1,74 @@
+package com.wei.orchestrator.order.infrastructure.repository;
+
+import com.wei.orchestrator.order.domain.model.OrderIngestionEntry;
+import com.wei.orchestrator.order.domain.model.valueobject.IngestionStatus;
+import com.wei.orchestrator.order.domain.repository.OrderIngestionEntryRepository;
+import com.wei.orchestrator.order.infrastructure.mapper.OrderIngestionEntryMapper;
+import com.wei.orchestrator.order.infrastructure.persistence.OrderIngestionEntryEntity;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public class OrderIngestionEntryRepositoryImpl implements OrderIngestionEntryRepository {
+
+    private final JpaOrderIngestionEntryRepository jpaOrderIngestionEntryRepository;
+
+    public OrderIngestionEntryRepositoryImpl(
+            JpaOrderIngestionEntryRepository jpaOrderIngestionEntryRepository) {
+        this.jpaOrderIngestionEntryRepository = jpaOrderIngestionEntryRepository;
+    }
+
+    @Override
+    public OrderIngestionEntry save(OrderIngestionEntry entry) {
+        OrderIngestionEntryEntity saved =
+                jpaOrderIngestionEntryRepository.save(OrderIngestionEntryMapper.toEntity(entry));
+        return OrderIngestionEntryMapper.toDomain(saved);
+    }
+
+    @Override
+    @Transactional
+    public List<OrderIngestionEntry> claimPending(
+            int limit, String claimedBy, LocalDateTime claimedAt) {
+        if (limit <= 0) {
+            return List.of();
+        }
+
+        List<Long> candidateIds =
+                jpaOrderIngestionEntryRepository.findPendingEntryIds(PageRequest.of(0, limit));
+        List<Long> claimedIds = new ArrayList<>(candidateIds.size());
+        for (Long entryId : candidateIds) {
+            if (jpaOrderIngestionEntryRepository.claim(entryId, claimedBy, claimedAt) == 1) {
+                claimedIds.add(entryId);
+            }
+        }
+
+        if (claimedIds.isEmpty()) {
+            return List.of();
+        }
+
+        return jpaOrderIngestionEntryRepository.findAllById(claimedIds).stream()
+                .map(OrderIngestionEntryMapper::toDomain)
+                .sorted((a, b) -> Long.compare(a.getEntryId(), b.getEntryId()))
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public int releaseStaleClaims(LocalDateTime claimedBefore) {
+        return jpaOrderIngestionEntryRepository.releaseStaleClaims(claimedBefore);
+    }
+
+    @Override
+    public void deleteById(Long entryId) {
+        jpaOrderIngestionEntryRepository.deleteById(entryId);
+    }
+
+    @Override
+    public long countByStatus(IngestionStatus status) {
+        return jpaOrderIngestionEntryRepository.countByStatus(status.name());
+    }
+}
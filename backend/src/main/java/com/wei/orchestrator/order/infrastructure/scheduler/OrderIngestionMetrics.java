@@ -0,0 +1,78 @@
+package com.wei.orchestrator.order.infrastructure.scheduler;
+
+import com.wei.orchestrator.observation.domain.model.valueobject.IngestionPressure;
+
+public class OrderIngestionMetrics {
+    private final long queueDepth;
+    private final int inFlight;
+    private final long ingestedCount;
+    private final long retriedCount;
+    private final long failedCount;
+    private final double drainRatePerSecond;
+    private final IngestionPressure pressure;
+
+    public OrderIngestionMetrics(
+            long queueDepth,
+            int inFlight,
+            long ingestedCount,
+            long retriedCount,
+            long failedCount,
+            double drainRatePerSecond,
+            IngestionPressure pressure) {
+        this.queueDepth = queueDepth;
+        this.inFlight = inFlight;
+        this.ingestedCount = ingestedCount;
+        this.retriedCount = retriedCount;
+        this.failedCount = failedCount;
+        this.drainRatePerSecond = drainRatePerSecond;
+        this.pressure = pressure;
+    }
+
+    public long getQueueDepth() {
+        return queueDepth;
+    }
+
+    public int getInFlight() {
+        return inFlight;
+    }
+
+    public long getIngestedCount() {
+        return ingestedCount;
+    }
+
+    public long getRetriedCount() {
+        return retriedCount;
+    }
+
+    public long getFailedCount() {
+        return failedCount;
+    }
+
+    public double getDrainRatePerSecond() {
+        return drainRatePerSecond;
+    }
+
+    public IngestionPressure getPressure() {
+        return pressure;
+    }
+
+    @Override
+    public String toString() {
+        return "OrderIngestionMetrics{"
+                + "queueDepth="
+                + queueDepth
+                + ", inFlight="
+                + inFlight
+                + ", ingestedCount="
+                + ingestedCount
+                + ", retriedCount="
+                + retriedCount
+                + ", failedCount="
+                + failedCount
+                + ", drainRatePerSecond="
+                + drainRatePerSecond
+                + ", pressure="
+                + pressure
+                + '}';
+    }
+}
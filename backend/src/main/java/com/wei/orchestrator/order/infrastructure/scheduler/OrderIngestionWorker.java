@@ -0,0 +1,174 @@
+package com.wei.orchestrator.order.infrastructure.scheduler;
+
+import com.wei.orchestrator.observation.domain.model.valueobject.IngestionPressure;
+import com.wei.orchestrator.order.application.OrderIngestionApplicationService;
+import com.wei.orchestrator.order.domain.model.OrderIngestionEntry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class OrderIngestionWorker {
+    private static final Logger logger = LoggerFactory.getLogger(OrderIngestionWorker.class);
+
+    private final OrderIngestionApplicationService orderIngestionApplicationService;
+    private final ExecutorService orderIngestionExecutor;
+    private final int maxInFlight;
+    private final long capacity;
+    private final long highWaterMark;
+    private final long claimTimeoutMs;
+    private final String workerId;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong queueDepth = new AtomicLong();
+    private final AtomicLong ingestedCount = new AtomicLong();
+    private final AtomicLong retriedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicReference<DrainSample> lastSample = new AtomicReference<>();
+    private volatile double drainRatePerSecond;
+
+    public OrderIngestionWorker(
+            OrderIngestionApplicationService orderIngestionApplicationService,
+            @Qualifier("orderIngestionExecutor") ExecutorService orderIngestionExecutor,
+            @Value("${order.ingestion.max-in-flight:64}") int maxInFlight,
+            @Value("${order.ingestion.capacity:10000}") long capacity,
+            @Value("${order.ingestion.high-water-mark:5000}") long highWaterMark,
+            @Value("${order.ingestion.claim-timeout:300000}") long claimTimeoutMs) {
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("Ingestion max in-flight must be positive");
+        }
+        if (highWaterMark <= 0 || highWaterMark > capacity) {
+            throw new IllegalArgumentException(
+                    "Ingestion high-water mark must be positive and not exceed capacity");
+        }
+        this.orderIngestionApplicationService = orderIngestionApplicationService;
+        this.orderIngestionExecutor = orderIngestionExecutor;
+        this.maxInFlight = maxInFlight;
+        this.capacity = capacity;
+        this.highWaterMark = highWaterMark;
+        this.claimTimeoutMs = claimTimeoutMs;
+        this.workerId = "ingestion-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    @Scheduled(fixedDelayString = "${order.ingestion.drain-interval:1000}")
+    public void drain() {
+        try {
+            orderIngestionApplicationService.releaseStaleClaims(
+                    LocalDateTime.now().minus(Duration.ofMillis(claimTimeoutMs)));
+            refreshDepth();
+
+            int freeSlots = maxInFlight - inFlight.get();
+            if (freeSlots <= 0) {
+                return;
+            }
+
+            List<OrderIngestionEntry> claimed =
+                    orderIngestionApplicationService.claimPending(freeSlots, workerId);
+            for (OrderIngestionEntry entry : claimed) {
+                submit(entry);
+            }
+
+        } catch (Exception e) {
+            logger.error("Unexpected error while draining the order ingestion buffer", e);
+        }
+    }
+
+    public IngestionPressure currentPressure() {
+        long depth = queueDepth.get();
+        if (depth >= capacity) {
+            return IngestionPressure.SATURATED;
+        }
+        if (depth >= highWaterMark) {
+            return IngestionPressure.HIGH;
+        }
+        return IngestionPressure.NORMAL;
+    }
+
+    public OrderIngestionMetrics getMetrics() {
+        return new OrderIngestionMetrics(
+                queueDepth.get(),
+                inFlight.get(),
+                ingestedCount.get(),
+                retriedCount.get(),
+                failedCount.get(),
+                drainRatePerSecond,
+                currentPressure());
+    }
+
+    private void submit(OrderIngestionEntry entry) {
+        inFlight.incrementAndGet();
+        try {
+            orderIngestionExecutor.execute(() -> process(entry));
+        } catch (RejectedExecutionException e) {
+            inFlight.decrementAndGet();
+            logger.warn(
+                    "Ingestion executor rejected entry {}, it will be reclaimed after the claim"
+                            + " timeout",
+                    entry.getEntryId());
+        }
+    }
+
+    private void process(OrderIngestionEntry entry) {
+        try {
+            orderIngestionApplicationService.ingest(entry);
+            ingestedCount.incrementAndGet();
+        } catch (Exception e) {
+            recordFailure(entry, e);
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private void recordFailure(OrderIngestionEntry entry, Exception cause) {
+        try {
+            orderIngestionApplicationService.recordFailure(entry, cause);
+            if (entry.isFailed()) {
+                failedCount.incrementAndGet();
+            } else {
+                retriedCount.incrementAndGet();
+            }
+        } catch (Exception e) {
+            logger.error(
+                    "Failed to record ingestion failure for entry {}, it will be reclaimed after"
+                            + " the claim timeout",
+                    entry.getEntryId(),
+                    e);
+        }
+    }
+
+    private void refreshDepth() {
+        long depth = orderIngestionApplicationService.countOutstanding();
+        queueDepth.set(depth);
+
+        long now = System.nanoTime();
+        long ingested = ingestedCount.get();
+        DrainSample previous = lastSample.getAndSet(new DrainSample(now, ingested));
+        if (previous != null && now > previous.sampledAtNanos) {
+            drainRatePerSecond =
+                    (ingested - previous.ingestedCount) * 1_000_000_000.0
+                            / (now - previous.sampledAtNanos);
+        }
+    }
+
+    private static class DrainSample {
+        private final long sampledAtNanos;
+        private final long ingestedCount;
+
+        private DrainSample(long sampledAtNanos, long ingestedCount) {
+            this.sampledAtNanos = sampledAtNanos;
+            this.ingestedCount = ingestedCount;
+        }
+    }
+}
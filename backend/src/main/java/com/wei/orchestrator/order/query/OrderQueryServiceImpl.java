@@ -2,8 +2,6 @@ package com.wei.orchestrator.order.query;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.wei.orchestrator.order.domain.model.valueobject.OrderStatus;
 import com.wei.orchestrator.order.infrastructure.persistence.OrderEntity;
 import com.wei.orchestrator.order.infrastructure.persistence.OrderLineItemEntity;
@@ -13,18 +11,27 @@ import com.wei.orchestrator.order.query.dto.OrderProcessStatusDto;
 import com.wei.orchestrator.order.query.dto.OrderSummaryDto;
 import com.wei.orchestrator.order.query.dto.ProcessStepDetailDto;
 import com.wei.orchestrator.order.query.helper.ProcessStep;
-import com.wei.orchestrator.order.query.infrastructure.OrderProcessStatusQueryRepository;
+import com.wei.orchestrator.order.query.helper.ProcessStepEngine;
+import com.wei.orchestrator.order.query.helper.ProcessStepProgress;
+import com.wei.orchestrator.order.query.helper.StepEventRole;
+import com.wei.orchestrator.order.query.infrastructure.OrderProcessStepEntity;
+import com.wei.orchestrator.order.query.infrastructure.OrderProcessStepQueryRepository;
 import com.wei.orchestrator.order.query.infrastructure.OrderQueryRepository;
-import com.wei.orchestrator.shared.infrastructure.persistence.AuditRecordEntity;
+import com.wei.orchestrator.shared.domain.model.AuditRecord;
+import com.wei.orchestrator.shared.domain.model.valueobject.EventMetadata;
+import com.wei.orchestrator.shared.domain.repository.AuditRecordRepository;
+import com.wei.orchestrator.shared.infrastructure.json.AuditObjectMappers;
 import com.wei.orchestrator.wes.domain.model.valueobject.TaskStatus;
 import com.wei.orchestrator.wes.query.PickingTaskQueryService;
 import com.wei.orchestrator.wes.query.dto.PickingTaskSummaryDto;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
-import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -38,19 +45,19 @@ public class OrderQueryServiceImpl implements OrderQueryService {
 
     private final OrderQueryRepository orderQueryRepository;
     private final PickingTaskQueryService pickingTaskQueryService;
-    private final OrderProcessStatusQueryRepository processStatusQueryRepository;
-    private final ObjectMapper objectMapper;
+    private final AuditRecordRepository auditRecordRepository;
+    private final OrderProcessStepQueryRepository processStepQueryRepository;
+    private final ObjectMapper objectMapper = AuditObjectMappers.json();
 
     public OrderQueryServiceImpl(
             PickingTaskQueryService pickingTaskQueryService,
             OrderQueryRepository orderQueryRepository,
-            OrderProcessStatusQueryRepository processStatusQueryRepository) {
+            AuditRecordRepository auditRecordRepository,
+            OrderProcessStepQueryRepository processStepQueryRepository) {
         this.orderQueryRepository = orderQueryRepository;
         this.pickingTaskQueryService = pickingTaskQueryService;
-        this.processStatusQueryRepository = processStatusQueryRepository;
-        this.objectMapper = new ObjectMapper();
-        this.objectMapper.registerModule(new JavaTimeModule());
-        this.objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        this.auditRecordRepository = auditRecordRepository;
+        this.processStepQueryRepository = processStepQueryRepository;
     }
 
     @Override
@@ -193,23 +200,10 @@ public class OrderQueryServiceImpl implements OrderQueryService {
 
     @Override
     public OrderProcessStatusDto getOrderProcessStatus(String orderId) {
-        List<AuditRecordEntity> auditRecords =
-                processStatusQueryRepository.findByOrderIdInPayload(orderId);
+        EnumMap<ProcessStep, ProcessStepProgress> progress =
+                findProgress(orderId, () -> auditRecordRepository.findByOrderId(orderId));
 
-        List<OrderProcessStatusDto.ProcessStepDto> steps = mapToProcessSteps(auditRecords);
-
-        return new OrderProcessStatusDto(orderId, steps);
-    }
-
-    private List<OrderProcessStatusDto.ProcessStepDto> mapToProcessSteps(
-            List<AuditRecordEntity> auditRecords) {
-        return Arrays.stream(ProcessStep.values())
-                .map(
-                        step -> {
-                            List<AuditRecordEntity> stepEvents = step.filterEvents(auditRecords);
-                            return step.createStepDto(stepEvents);
-                        })
-                .collect(Collectors.toList());
+        return new OrderProcessStatusDto(orderId, ProcessStepEngine.toStepDtos(progress));
     }
 
     @Override
@@ -221,55 +215,69 @@ public class OrderQueryServiceImpl implements OrderQueryService {
 
         ProcessStep step = ProcessStep.values()[stepNumber - 1];
 
-        List<AuditRecordEntity> allRecords =
-                processStatusQueryRepository.findByOrderIdInPayload(orderId);
-
-        List<AuditRecordEntity> stepEvents = step.filterEvents(allRecords);
-
-        OrderProcessStatusDto.ProcessStepDto stepSummary = step.createStepDto(stepEvents);
+        List<AuditRecord> auditRecords = auditRecordRepository.findByOrderId(orderId);
+        ProcessStepProgress progress =
+                findProgress(orderId, () -> auditRecords)
+                        .getOrDefault(step, new ProcessStepProgress());
 
+        List<String> eventNames = step.getEventNames();
         List<ProcessStepDetailDto.EventDetailDto> eventDetails =
-                stepEvents.stream()
-                        .sorted(
-                                java.util.Comparator.comparing(
-                                        AuditRecordEntity::getEventTimestamp))
+                auditRecords.stream()
+                        .filter(auditRecord -> eventNames.contains(auditRecord.getEventName()))
+                        .filter(
+                                auditRecord ->
+                                        progress.isConditionMet()
+                                                || step.roleOf(auditRecord.getEventName())
+                                                        != StepEventRole.CONDITIONAL_FAILURE)
+                        .sorted(Comparator.comparing(AuditRecord::getEventTimestamp))
                         .map(this::mapToEventDetailDto)
                         .collect(Collectors.toList());
 
         return new ProcessStepDetailDto(
-                stepNumber, step.getStepName(), stepSummary.getStatus(), eventDetails);
+                stepNumber, step.getStepName(), progress.getStatus(), eventDetails);
     }
 
-    private ProcessStepDetailDto.EventDetailDto mapToEventDetailDto(AuditRecordEntity entity) {
+    private EnumMap<ProcessStep, ProcessStepProgress> findProgress(
+            String orderId, Supplier<List<AuditRecord>> auditRecords) {
+        EnumMap<ProcessStep, ProcessStepProgress> progress = new EnumMap<>(ProcessStep.class);
+        List<OrderProcessStepEntity> projected = processStepQueryRepository.findByOrderId(orderId);
+        if (projected.isEmpty()) {
+            for (AuditRecord auditRecord : auditRecords.get()) {
+                ProcessStepEngine.accumulate(
+                        progress, auditRecord.getEventName(), auditRecord.getEventTimestamp());
+            }
+            return progress;
+        }
+        for (OrderProcessStepEntity entity : projected) {
+            progress.put(ProcessStep.values()[entity.getStepNumber() - 1], entity.toProgress());
+        }
+        return progress;
+    }
+
+    private ProcessStepDetailDto.EventDetailDto mapToEventDetailDto(AuditRecord auditRecord) {
         try {
-            Object parsedPayload = objectMapper.readValue(entity.getPayload(), Object.class);
+            Object parsedPayload = auditRecord.getPayloadValue();
+            if (parsedPayload == null) {
+                parsedPayload = objectMapper.readValue(auditRecord.getPayload(), Object.class);
+            }
 
+            EventMetadata eventMetadata = auditRecord.getEventMetadata();
             ProcessStepDetailDto.EventMetadataDto metadata =
-                    parseEventMetadata(entity.getEventMetadata());
+                    new ProcessStepDetailDto.EventMetadataDto(
+                            eventMetadata.getContext(),
+                            eventMetadata.getCorrelationId().toString(),
+                            eventMetadata.getTriggerSource(),
+                            eventMetadata.getTriggerBy());
 
             return new ProcessStepDetailDto.EventDetailDto(
-                    entity.getRecordId(),
-                    entity.getEventName(),
-                    entity.getEventTimestamp(),
+                    auditRecord.getRecordId().toString(),
+                    auditRecord.getEventName(),
+                    auditRecord.getEventTimestamp(),
                     metadata,
                     parsedPayload);
         } catch (JsonProcessingException e) {
-            throw new RuntimeException("Failed to parse audit record: " + entity.getRecordId(), e);
-        }
-    }
-
-    private ProcessStepDetailDto.EventMetadataDto parseEventMetadata(String metadataJson) {
-        try {
-            @SuppressWarnings("unchecked")
-            Map<String, Object> metadataMap = objectMapper.readValue(metadataJson, Map.class);
-
-            return new ProcessStepDetailDto.EventMetadataDto(
-                    (String) metadataMap.get("context"),
-                    (String) metadataMap.get("correlationId"),
-                    (String) metadataMap.get("triggerSource"),
-                    (String) metadataMap.get("triggerBy"));
-        } catch (JsonProcessingException e) {
-            return new ProcessStepDetailDto.EventMetadataDto(null, null, null, null);
+            throw new RuntimeException(
+                    "Failed to parse audit record: " + auditRecord.getRecordId(), e);
         }
     }
 }
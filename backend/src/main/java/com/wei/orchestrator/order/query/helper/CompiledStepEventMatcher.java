@@ -0,0 +1,91 @@
+package com.wei.orchestrator.order.query.helper;
+
+import com.wei.orchestrator.order.query.dto.OrderProcessStatusDto;
+import com.wei.orchestrator.shared.infrastructure.persistence.AuditRecordEntity;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+final class CompiledStepEventMatcher implements StepEventMatcher {
+    private final Map<String, StepEventRole> roles;
+    private final Map<String, StepEventRole> lookup;
+    private final List<String> eventNames;
+    private final boolean conditional;
+
+    CompiledStepEventMatcher(Map<String, StepEventRole> roles) {
+        this.roles = Collections.unmodifiableMap(new LinkedHashMap<>(roles));
+        this.lookup = new HashMap<>(roles);
+        List<String> names = new ArrayList<>();
+        boolean hasConditional = false;
+        for (Map.Entry<String, StepEventRole> entry : roles.entrySet()) {
+            if (entry.getValue() != StepEventRole.PREREQUISITE) {
+                names.add(entry.getKey());
+            }
+            hasConditional |= entry.getValue() == StepEventRole.CONDITIONAL_FAILURE;
+        }
+        this.eventNames = List.copyOf(names);
+        this.conditional = hasConditional;
+    }
+
+    @Override
+    public List<AuditRecordEntity> filterEvents(List<AuditRecordEntity> allRecords) {
+        boolean conditionMet = !conditional || containsPrerequisite(allRecords);
+        List<AuditRecordEntity> matched = new ArrayList<>();
+        for (AuditRecordEntity record : allRecords) {
+            StepEventRole role = lookup.get(record.getEventName());
+            if (role == null || role == StepEventRole.PREREQUISITE) {
+                continue;
+            }
+            if (role == StepEventRole.CONDITIONAL_FAILURE && !conditionMet) {
+                continue;
+            }
+            matched.add(record);
+        }
+        return matched;
+    }
+
+    @Override
+    public OrderProcessStatusDto.ProcessStepDto createStepDto(
+            int stepNumber, String stepName, List<AuditRecordEntity> filteredEvents) {
+        ProcessStepProgress progress = new ProcessStepProgress();
+        if (filteredEvents != null) {
+            for (AuditRecordEntity record : filteredEvents) {
+                StepEventRole role = lookup.get(record.getEventName());
+                if (role == StepEventRole.CONDITIONAL_FAILURE) {
+                    role = StepEventRole.FAILURE;
+                }
+                if (role != null && role != StepEventRole.PREREQUISITE) {
+                    progress.record(role, record.getEventTimestamp());
+                }
+            }
+        }
+        return progress.toStepDto(stepNumber, stepName);
+    }
+
+    @Override
+    public List<String> getEventNames() {
+        return eventNames;
+    }
+
+    @Override
+    public StepEventRole roleOf(String eventName) {
+        return lookup.get(eventName);
+    }
+
+    @Override
+    public Map<String, StepEventRole> getEventRoles() {
+        return roles;
+    }
+
+    private boolean containsPrerequisite(List<AuditRecordEntity> records) {
+        for (AuditRecordEntity record : records) {
+            if (lookup.get(record.getEventName()) == StepEventRole.PREREQUISITE) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -3,6 +3,7 @@ package com.wei.orchestrator.order.query.helper;
 import com.wei.orchestrator.order.query.dto.OrderProcessStatusDto;
 import com.wei.orchestrator.shared.infrastructure.persistence.AuditRecordEntity;
 import java.util.List;
+import java.util.Map;
 
 public enum ProcessStep {
     ORDER_SCHEDULED(1, "Order Scheduled", StepEventMatcher.singleEvent("OrderScheduledEvent")),
@@ -64,4 +65,12 @@ public enum ProcessStep {
     public List<String> getEventNames() {
         return matcher.getEventNames();
     }
+
+    public StepEventRole roleOf(String eventName) {
+        return matcher.roleOf(eventName);
+    }
+
+    public Map<String, StepEventRole> getEventRoles() {
+        return matcher.getEventRoles();
+    }
 }
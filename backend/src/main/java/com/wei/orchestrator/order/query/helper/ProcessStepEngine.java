@@ -0,0 +1,85 @@
+package com.wei.orchestrator.order.query.helper;
+
+import com.wei.orchestrator.order.query.dto.OrderProcessStatusDto;
+import com.wei.orchestrator.shared.infrastructure.persistence.AuditRecordEntity;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public final class ProcessStepEngine {
+
+    private static final Route[] NO_ROUTES = new Route[0];
+
+    private static final Map<String, Route[]> DISPATCH = compile();
+
+    private ProcessStepEngine() {}
+
+    public static EnumMap<ProcessStep, ProcessStepProgress> evaluate(
+            List<AuditRecordEntity> records) {
+        EnumMap<ProcessStep, ProcessStepProgress> progress = new EnumMap<>(ProcessStep.class);
+        for (AuditRecordEntity record : records) {
+            accumulate(progress, record.getEventName(), record.getEventTimestamp());
+        }
+        return progress;
+    }
+
+    public static void accumulate(
+            EnumMap<ProcessStep, ProcessStepProgress> progress,
+            String eventName,
+            LocalDateTime occurredAt) {
+        Route[] routes = DISPATCH.getOrDefault(eventName, NO_ROUTES);
+        for (Route route : routes) {
+            ProcessStepProgress stepProgress = progress.get(route.step);
+            if (stepProgress == null) {
+                stepProgress = new ProcessStepProgress();
+                progress.put(route.step, stepProgress);
+            }
+            stepProgress.record(route.role, occurredAt);
+        }
+    }
+
+    public static List<OrderProcessStatusDto.ProcessStepDto> toStepDtos(
+            EnumMap<ProcessStep, ProcessStepProgress> progress) {
+        List<OrderProcessStatusDto.ProcessStepDto> steps =
+                new ArrayList<>(ProcessStep.values().length);
+        for (ProcessStep step : ProcessStep.values()) {
+            ProcessStepProgress stepProgress = progress.get(step);
+            steps.add(
+                    stepProgress != null
+                            ? stepProgress.toStepDto(step.getStepNumber(), step.getStepName())
+                            : new OrderProcessStatusDto.ProcessStepDto(
+                                    step.getStepNumber(), step.getStepName(), "PENDING", null));
+        }
+        return steps;
+    }
+
+    private static Map<String, Route[]> compile() {
+        Map<String, List<Route>> routesByEvent = new HashMap<>();
+        for (ProcessStep step : ProcessStep.values()) {
+            for (Map.Entry<String, StepEventRole> entry : step.getEventRoles().entrySet()) {
+                routesByEvent
+                        .computeIfAbsent(entry.getKey(), eventName -> new ArrayList<>())
+                        .add(new Route(step, entry.getValue()));
+            }
+        }
+
+        Map<String, Route[]> dispatch = new HashMap<>();
+        for (Map.Entry<String, List<Route>> entry : routesByEvent.entrySet()) {
+            dispatch.put(entry.getKey(), entry.getValue().toArray(NO_ROUTES));
+        }
+        return Map.copyOf(dispatch);
+    }
+
+    private static final class Route {
+        private final ProcessStep step;
+        private final StepEventRole role;
+
+        private Route(ProcessStep step, StepEventRole role) {
+            this.step = step;
+            this.role = role;
+        }
+    }
+}
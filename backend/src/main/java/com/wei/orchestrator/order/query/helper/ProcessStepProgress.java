@@ -0,0 +1,116 @@
+package com.wei.orchestrator.order.query.helper;
+
+import com.wei.orchestrator.order.query.dto.OrderProcessStatusDto;
+import java.time.LocalDateTime;
+
+public class ProcessStepProgress {
+    private long eventCount;
+    private LocalDateTime lastSuccessAt;
+    private LocalDateTime lastFailureAt;
+    private long conditionalCount;
+    private LocalDateTime conditionalFailureAt;
+    private LocalDateTime prerequisiteAt;
+
+    public ProcessStepProgress() {}
+
+    public ProcessStepProgress(
+            long eventCount,
+            LocalDateTime lastSuccessAt,
+            LocalDateTime lastFailureAt,
+            long conditionalCount,
+            LocalDateTime conditionalFailureAt,
+            LocalDateTime prerequisiteAt) {
+        this.eventCount = eventCount;
+        this.lastSuccessAt = lastSuccessAt;
+        this.lastFailureAt = lastFailureAt;
+        this.conditionalCount = conditionalCount;
+        this.conditionalFailureAt = conditionalFailureAt;
+        this.prerequisiteAt = prerequisiteAt;
+    }
+
+    public void record(StepEventRole role, LocalDateTime occurredAt) {
+        switch (role) {
+            case SUCCESS:
+                eventCount++;
+                lastSuccessAt = latest(lastSuccessAt, occurredAt);
+                break;
+            case FAILURE:
+                eventCount++;
+                lastFailureAt = latest(lastFailureAt, occurredAt);
+                break;
+            case CONDITIONAL_FAILURE:
+                conditionalCount++;
+                conditionalFailureAt = latest(conditionalFailureAt, occurredAt);
+                break;
+            case PREREQUISITE:
+                prerequisiteAt = latest(prerequisiteAt, occurredAt);
+                break;
+        }
+    }
+
+    public boolean isConditionMet() {
+        return prerequisiteAt != null;
+    }
+
+    public long getMatchedEventCount() {
+        return isConditionMet() ? eventCount + conditionalCount : eventCount;
+    }
+
+    public String getStatus() {
+        if (getEffectiveFailureAt() != null) {
+            return "FAILED";
+        }
+        if (lastSuccessAt != null) {
+            return "SUCCESS";
+        }
+        return "PENDING";
+    }
+
+    public LocalDateTime getStatusTimestamp() {
+        LocalDateTime failureAt = getEffectiveFailureAt();
+        return failureAt != null ? failureAt : lastSuccessAt;
+    }
+
+    public OrderProcessStatusDto.ProcessStepDto toStepDto(int stepNumber, String stepName) {
+        return new OrderProcessStatusDto.ProcessStepDto(
+                stepNumber, stepName, getStatus(), getStatusTimestamp());
+    }
+
+    public long getEventCount() {
+        return eventCount;
+    }
+
+    public LocalDateTime getLastSuccessAt() {
+        return lastSuccessAt;
+    }
+
+    public LocalDateTime getLastFailureAt() {
+        return lastFailureAt;
+    }
+
+    public long getConditionalCount() {
+        return conditionalCount;
+    }
+
+    public LocalDateTime getConditionalFailureAt() {
+        return conditionalFailureAt;
+    }
+
+    public LocalDateTime getPrerequisiteAt() {
+        return prerequisiteAt;
+    }
+
+    private LocalDateTime getEffectiveFailureAt() {
+        return isConditionMet() ? latest(lastFailureAt, conditionalFailureAt) : lastFailureAt;
+    }
+
+    private static LocalDateTime latest(LocalDateTime current, LocalDateTime candidate) {
+        if (current == null) {
+            return candidate;
+        }
+        if (candidate == null) {
+            return current;
+        }
+        return candidate.isAfter(current) ? candidate : current;
+    }
+}
@@ -0,0 +1,8 @@
+package com.wei.orchestrator.order.query.helper;
+
+public enum StepEventRole {
+    SUCCESS,
+    FAILURE,
+    CONDITIONAL_FAILURE,
+    PREREQUISITE
+}
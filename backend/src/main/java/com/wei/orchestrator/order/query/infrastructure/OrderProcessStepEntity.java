@@ -0,0 +1,155 @@
+package com.wei.orchestrator.order.query.infrastructure;
+
+import com.wei.orchestrator.order.query.helper.ProcessStepProgress;
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+@Entity
+@Table(name = "order_process_steps")
+@IdClass(OrderProcessStepEntity.OrderProcessStepId.class)
+public class OrderProcessStepEntity {
+
+    @Id
+    @Column(name = "order_id", length = 255, nullable = false)
+    private String orderId;
+
+    @Id
+    @Column(name = "step_number", nullable = false)
+    private Integer stepNumber;
+
+    @Column(name = "event_count", nullable = false)
+    private Long eventCount;
+
+    @Column(name = "last_success_at")
+    private LocalDateTime lastSuccessAt;
+
+    @Column(name = "last_failure_at")
+    private LocalDateTime lastFailureAt;
+
+    @Column(name = "conditional_count", nullable = false)
+    private Long conditionalCount;
+
+    @Column(name = "conditional_failure_at")
+    private LocalDateTime conditionalFailureAt;
+
+    @Column(name = "prerequisite_at")
+    private LocalDateTime prerequisiteAt;
+
+    public static class OrderProcessStepId implements Serializable {
+        private String orderId;
+        private Integer stepNumber;
+
+        public OrderProcessStepId() {}
+
+        public OrderProcessStepId(String orderId, Integer stepNumber) {
+            this.orderId = orderId;
+            this.stepNumber = stepNumber;
+        }
+
+        public String getOrderId() {
+            return orderId;
+        }
+
+        public void setOrderId(String orderId) {
+            this.orderId = orderId;
+        }
+
+        public Integer getStepNumber() {
+            return stepNumber;
+        }
+
+        public void setStepNumber(Integer stepNumber) {
+            this.stepNumber = stepNumber;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            OrderProcessStepId that = (OrderProcessStepId) o;
+            return Objects.equals(orderId, that.orderId)
+                    && Objects.equals(stepNumber, that.stepNumber);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(orderId, stepNumber);
+        }
+    }
+
+    public ProcessStepProgress toProgress() {
+        return new ProcessStepProgress(
+                eventCount,
+                lastSuccessAt,
+                lastFailureAt,
+                conditionalCount,
+                conditionalFailureAt,
+                prerequisiteAt);
+    }
+
+    public String getOrderId() {
+        return orderId;
+    }
+
+    public void setOrderId(String orderId) {
+        this.orderId = orderId;
+    }
+
+    public Integer getStepNumber() {
+        return stepNumber;
+    }
+
+    public void setStepNumber(Integer stepNumber) {
+        this.stepNumber = stepNumber;
+    }
+
+    public Long getEventCount() {
+        return eventCount;
+    }
+
+    public void setEventCount(Long eventCount) {
+        this.eventCount = eventCount;
+    }
+
+    public LocalDateTime getLastSuccessAt() {
+        return lastSuccessAt;
+    }
+
+    public void setLastSuccessAt(LocalDateTime lastSuccessAt) {
+        this.lastSuccessAt = lastSuccessAt;
+    }
+
+    public LocalDateTime getLastFailureAt() {
+        return lastFailureAt;
+    }
+
+    public void setLastFailureAt(LocalDateTime lastFailureAt) {
+        this.lastFailureAt = lastFailureAt;
+    }
+
+    public Long getConditionalCount() {
+        return conditionalCount;
+    }
+
+    public void setConditionalCount(Long conditionalCount) {
+        this.conditionalCount = conditionalCount;
+    }
+
+    public LocalDateTime getConditionalFailureAt() {
+        return conditionalFailureAt;
+    }
+
+    public void setConditionalFailureAt(LocalDateTime conditionalFailureAt) {
+        this.conditionalFailureAt = conditionalFailureAt;
+    }
+
+    public LocalDateTime getPrerequisiteAt() {
+        return prerequisiteAt;
+    }
+
+    public void setPrerequisiteAt(LocalDateTime prerequisiteAt) {
+        this.prerequisiteAt = prerequisiteAt;
+    }
+}
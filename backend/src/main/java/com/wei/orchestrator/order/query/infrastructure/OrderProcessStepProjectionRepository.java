@@ -0,0 +1,144 @@
+package com.wei.orchestrator.order.query.infrastructure;
+
+import com.wei.orchestrator.order.query.helper.ProcessStepProgress;
+import com.wei.orchestrator.order.query.infrastructure.OrderProcessStepEntity.OrderProcessStepId;
+import com.wei.orchestrator.order.query.projection.OrderProcessStepDeltas;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class OrderProcessStepProjectionRepository {
+
+    private static final String MERGE_SQL =
+            "MERGE INTO order_process_steps t USING (SELECT"
+                    + " CAST(? AS VARCHAR2(255)) AS order_id,"
+                    + " CAST(? AS NUMBER(10)) AS step_number,"
+                    + " CAST(? AS NUMBER(19)) AS event_count,"
+                    + " CAST(? AS TIMESTAMP) AS last_success_at,"
+                    + " CAST(? AS TIMESTAMP) AS last_failure_at,"
+                    + " CAST(? AS NUMBER(19)) AS conditional_count,"
+                    + " CAST(? AS TIMESTAMP) AS conditional_failure_at,"
+                    + " CAST(? AS TIMESTAMP) AS prerequisite_at FROM dual) d"
+                    + " ON (t.order_id = d.order_id AND t.step_number = d.step_number)"
+                    + " WHEN MATCHED THEN UPDATE SET"
+                    + " event_count = t.event_count + d.event_count,"
+                    + latest("last_success_at")
+                    + ","
+                    + latest("last_failure_at")
+                    + ","
+                    + " conditional_count = t.conditional_count + d.conditional_count,"
+                    + latest("conditional_failure_at")
+                    + ","
+                    + latest("prerequisite_at")
+                    + " WHEN NOT MATCHED THEN INSERT (order_id, step_number, event_count,"
+                    + " last_success_at, last_failure_at, conditional_count,"
+                    + " conditional_failure_at, prerequisite_at) VALUES (d.order_id,"
+                    + " d.step_number, d.event_count, d.last_success_at, d.last_failure_at,"
+                    + " d.conditional_count, d.conditional_failure_at, d.prerequisite_at)";
+
+    private static final String FIRST_ORDER_IDS_SQL =
+            "SELECT DISTINCT order_id FROM audit_records WHERE order_id IS NOT NULL"
+                    + " ORDER BY order_id FETCH FIRST ? ROWS ONLY";
+
+    private static final String NEXT_ORDER_IDS_SQL =
+            "SELECT DISTINCT order_id FROM audit_records WHERE order_id > ?"
+                    + " ORDER BY order_id FETCH FIRST ? ROWS ONLY";
+
+    private static final String DELETE_RANGE_SQL =
+            "DELETE FROM order_process_steps WHERE order_id BETWEEN ? AND ?";
+
+    private static final String REPLAY_RANGE_SQL =
+            "SELECT record_id, order_id, event_name, event_timestamp FROM audit_records"
+                    + " WHERE order_id BETWEEN ? AND ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public OrderProcessStepProjectionRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void mergeAll(Map<OrderProcessStepId, ProcessStepProgress> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<OrderProcessStepId, ProcessStepProgress>> entries =
+                List.copyOf(deltas.entrySet());
+        jdbcTemplate.batchUpdate(
+                MERGE_SQL,
+                entries,
+                entries.size(),
+                (statement, entry) -> {
+                    ProcessStepProgress delta = entry.getValue();
+                    statement.setString(1, entry.getKey().getOrderId());
+                    statement.setInt(2, entry.getKey().getStepNumber());
+                    statement.setLong(3, delta.getEventCount());
+                    setTimestamp(statement, 4, delta.getLastSuccessAt());
+                    setTimestamp(statement, 5, delta.getLastFailureAt());
+                    statement.setLong(6, delta.getConditionalCount());
+                    setTimestamp(statement, 7, delta.getConditionalFailureAt());
+                    setTimestamp(statement, 8, delta.getPrerequisiteAt());
+                });
+    }
+
+    public List<String> findOrderIdChunk(String afterOrderId, int chunkSize) {
+        return afterOrderId == null
+                ? jdbcTemplate.queryForList(FIRST_ORDER_IDS_SQL, String.class, chunkSize)
+                : jdbcTemplate.queryForList(
+                        NEXT_ORDER_IDS_SQL, String.class, afterOrderId, chunkSize);
+    }
+
+    public int deleteOrderIdRange(String firstOrderId, String lastOrderId) {
+        return jdbcTemplate.update(DELETE_RANGE_SQL, firstOrderId, lastOrderId);
+    }
+
+    public long replayOrderIdRange(
+            String firstOrderId,
+            String lastOrderId,
+            OrderProcessStepDeltas deltas,
+            Set<String> replayedRecordIds) {
+        AtomicLong replayed = new AtomicLong();
+        jdbcTemplate.query(
+                REPLAY_RANGE_SQL,
+                resultSet -> {
+                    replayedRecordIds.add(resultSet.getString("record_id"));
+                    Timestamp eventTimestamp = resultSet.getTimestamp("event_timestamp");
+                    deltas.record(
+                            resultSet.getString("order_id"),
+                            resultSet.getString("event_name"),
+                            eventTimestamp.toLocalDateTime());
+                    replayed.incrementAndGet();
+                },
+                firstOrderId,
+                lastOrderId);
+        return replayed.get();
+    }
+
+    private static String latest(String column) {
+        return " "
+                + column
+                + " = CASE WHEN t."
+                + column
+                + " IS NULL OR t."
+                + column
+                + " < d."
+                + column
+                + " THEN d."
+                + column
+                + " ELSE t."
+                + column
+                + " END";
+    }
+
+    private static void setTimestamp(PreparedStatement statement, int index, LocalDateTime value)
+            throws SQLException {
+        statement.setTimestamp(index, value != null ? Timestamp.valueOf(value) : null);
+    }
+}
@@ -0,0 +1,12 @@
+package com.wei.orchestrator.order.query.infrastructure;
+
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface OrderProcessStepQueryRepository
+        extends JpaRepository<OrderProcessStepEntity, OrderProcessStepEntity.OrderProcessStepId> {
+
+    List<OrderProcessStepEntity> findByOrderId(String orderId);
+}
@@ -0,0 +1,30 @@
+package com.wei.orchestrator.order.query.projection;
+
+import com.wei.orchestrator.order.query.infrastructure.OrderProcessStepProjectionRepository;
+import com.wei.orchestrator.shared.application.audit.AuditProjection;
+import com.wei.orchestrator.shared.domain.model.AuditRecord;
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+@Component
+public class OrderProcessStatusProjection implements AuditProjection {
+
+    private final OrderProcessStepProjectionRepository projectionRepository;
+
+    public OrderProcessStatusProjection(
+            OrderProcessStepProjectionRepository projectionRepository) {
+        this.projectionRepository = projectionRepository;
+    }
+
+    @Override
+    public void apply(List<AuditRecord> auditRecords) {
+        OrderProcessStepDeltas deltas = new OrderProcessStepDeltas();
+        for (AuditRecord auditRecord : auditRecords) {
+            deltas.record(
+                    auditRecord.getOrderId(),
+                    auditRecord.getEventName(),
+                    auditRecord.getEventTimestamp());
+        }
+        projectionRepository.mergeAll(deltas.asMap());
+    }
+}
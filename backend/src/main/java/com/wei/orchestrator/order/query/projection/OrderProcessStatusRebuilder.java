@@ -0,0 +1,132 @@
+package com.wei.orchestrator.order.query.projection;
+
+import com.wei.orchestrator.order.query.infrastructure.OrderProcessStepProjectionRepository;
+import com.wei.orchestrator.shared.infrastructure.archive.AuditArchive;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+public class OrderProcessStatusRebuilder {
+    private static final Logger logger = LoggerFactory.getLogger(OrderProcessStatusRebuilder.class);
+
+    private final OrderProcessStepProjectionRepository projectionRepository;
+    private final AuditArchive auditArchive;
+    private final ExecutorService rebuildExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public OrderProcessStatusRebuilder(
+            OrderProcessStepProjectionRepository projectionRepository,
+            AuditArchive auditArchive,
+            @Qualifier("processStatusRebuildExecutor") ExecutorService rebuildExecutor,
+            PlatformTransactionManager transactionManager,
+            @Value("${order.process-status.rebuild.chunk-size:200}") int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException(
+                    "Process status rebuild chunk size must be positive");
+        }
+        this.projectionRepository = projectionRepository;
+        this.auditArchive = auditArchive;
+        this.rebuildExecutor = rebuildExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    public Optional<ProcessStatusRebuildResult> rebuild() {
+        if (!running.compareAndSet(false, true)) {
+            logger.warn("Process status rebuild requested while another rebuild is running");
+            return Optional.empty();
+        }
+        try {
+            long startedAt = System.nanoTime();
+            List<Future<Long>> chunks = submitChunks();
+
+            int failedChunks = 0;
+            long replayedRecords = 0;
+            for (Future<Long> chunk : chunks) {
+                try {
+                    replayedRecords += chunk.get();
+                } catch (ExecutionException e) {
+                    failedChunks++;
+                    logger.error("Failed to rebuild a process status chunk", e.getCause());
+                }
+            }
+
+            ProcessStatusRebuildResult result =
+                    new ProcessStatusRebuildResult(
+                            chunks.size(),
+                            failedChunks,
+                            replayedRecords,
+                            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+            logger.info("Process status projection rebuilt: {}", result);
+            return Optional.of(result);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Process status rebuild was interrupted", e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private List<Future<Long>> submitChunks() {
+        List<Future<Long>> chunks = new ArrayList<>();
+        String cursor = null;
+        TreeSet<String> orderIds;
+        do {
+            orderIds = new TreeSet<>(projectionRepository.findOrderIdChunk(cursor, chunkSize));
+            orderIds.addAll(auditArchive.findOrderIdsAfter(cursor, chunkSize));
+            while (orderIds.size() > chunkSize) {
+                orderIds.pollLast();
+            }
+            if (orderIds.isEmpty()) {
+                break;
+            }
+            String firstOrderId = orderIds.first();
+            String lastOrderId = orderIds.last();
+            chunks.add(rebuildExecutor.submit(() -> rebuildRange(firstOrderId, lastOrderId)));
+            cursor = lastOrderId;
+        } while (orderIds.size() == chunkSize);
+        return chunks;
+    }
+
+    private Long rebuildRange(String firstOrderId, String lastOrderId) {
+        return transactionTemplate.execute(
+                status -> {
+                    projectionRepository.deleteOrderIdRange(firstOrderId, lastOrderId);
+                    OrderProcessStepDeltas deltas = new OrderProcessStepDeltas();
+                    Set<String> replayedRecordIds = new HashSet<>();
+                    projectionRepository.replayOrderIdRange(
+                            firstOrderId, lastOrderId, deltas, replayedRecordIds);
+                    auditArchive.forEachInOrderIdRange(
+                            firstOrderId,
+                            lastOrderId,
+                            record -> {
+                                if (replayedRecordIds.add(record.getRecordId().toString())) {
+                                    deltas.record(
+                                            record.getOrderId(),
+                                            record.getEventName(),
+                                            record.getEventTimestamp());
+                                }
+                            });
+                    projectionRepository.mergeAll(deltas.asMap());
+                    return (long) replayedRecordIds.size();
+                });
+    }
+}
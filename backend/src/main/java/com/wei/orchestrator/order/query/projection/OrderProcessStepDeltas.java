@@ -0,0 +1,41 @@
+package com.wei.orchestrator.order.query.projection;
+
+import com.wei.orchestrator.order.query.helper.ProcessStep;
+import com.wei.orchestrator.order.query.helper.ProcessStepEngine;
+import com.wei.orchestrator.order.query.helper.ProcessStepProgress;
+import com.wei.orchestrator.order.query.infrastructure.OrderProcessStepEntity.OrderProcessStepId;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class OrderProcessStepDeltas {
+    private final Map<String, EnumMap<ProcessStep, ProcessStepProgress>> deltasByOrder =
+            new HashMap<>();
+
+    public void record(String orderId, String eventName, LocalDateTime occurredAt) {
+        if (orderId == null) {
+            return;
+        }
+        EnumMap<ProcessStep, ProcessStepProgress> progress = deltasByOrder.get(orderId);
+        if (progress == null) {
+            progress = new EnumMap<>(ProcessStep.class);
+            deltasByOrder.put(orderId, progress);
+        }
+        ProcessStepEngine.accumulate(progress, eventName, occurredAt);
+    }
+
+    public Map<OrderProcessStepId, ProcessStepProgress> asMap() {
+        Map<OrderProcessStepId, ProcessStepProgress> deltas = new LinkedHashMap<>();
+        deltasByOrder.forEach(
+                (orderId, progress) ->
+                        progress.forEach(
+                                (step, stepProgress) ->
+                                        deltas.put(
+                                                new OrderProcessStepId(
+                                                        orderId, step.getStepNumber()),
+                                                stepProgress)));
+        return deltas;
+    }
+}
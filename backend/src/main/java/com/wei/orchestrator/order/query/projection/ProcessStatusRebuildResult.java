@@ -0,0 +1,46 @@
+package com.wei.orchestrator.order.query.projection;
+
+public class ProcessStatusRebuildResult {
+    private final int chunks;
+    private final int failedChunks;
+    private final long replayedRecords;
+    private final long durationMs;
+
+    public ProcessStatusRebuildResult(
+            int chunks, int failedChunks, long replayedRecords, long durationMs) {
+        this.chunks = chunks;
+        this.failedChunks = failedChunks;
+        this.replayedRecords = replayedRecords;
+        this.durationMs = durationMs;
+    }
+
+    public int getChunks() {
+        return chunks;
+    }
+
+    public int getFailedChunks() {
+        return failedChunks;
+    }
+
+    public long getReplayedRecords() {
+        return replayedRecords;
+    }
+
+    public long getDurationMs() {
+        return durationMs;
+    }
+
+    @Override
+    public String toString() {
+        return "ProcessStatusRebuildResult{"
+                + "chunks="
+                + chunks
+                + ", failedChunks="
+                + failedChunks
+                + ", replayedRecords="
+                + replayedRecords
+                + ", durationMs="
+                + durationMs
+                + '}';
+    }
+}
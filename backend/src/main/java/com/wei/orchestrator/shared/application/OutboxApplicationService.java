@@ -0,0 +1,266 @@
+package com.wei.orchestrator.shared.application;
+
+import com.wei.orchestrator.shared.application.event.DomainEventDispatcher;
+import com.wei.orchestrator.shared.application.event.RelayedDomainEvent;
+import com.wei.orchestrator.shared.domain.event.CrossContextEvent;
+import com.wei.orchestrator.shared.domain.model.OutboxMessage;
+import com.wei.orchestrator.shared.domain.model.valueobject.OutboxStatus;
+import com.wei.orchestrator.shared.domain.repository.OutboxMessageRepository;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+public class OutboxApplicationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxApplicationService.class);
+    private static final String COMMIT_RELAY_WORKER_ID = "commit-relay";
+
+    private final OutboxMessageRepository outboxMessageRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DomainEventDispatcher domainEventDispatcher;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxAttempts;
+
+    private final AtomicLong relayedCount = new AtomicLong();
+    private final AtomicLong retriedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+
+    public OutboxApplicationService(
+            OutboxMessageRepository outboxMessageRepository,
+            ApplicationEventPublisher eventPublisher,
+            DomainEventDispatcher domainEventDispatcher,
+            PlatformTransactionManager transactionManager,
+            @Value("${domain-events.outbox.max-attempts:5}") int maxAttempts) {
+        if (maxAttempts <= 0) {
+            throw new IllegalArgumentException("Outbox max attempts must be positive");
+        }
+        this.outboxMessageRepository = outboxMessageRepository;
+        this.eventPublisher = eventPublisher;
+        this.domainEventDispatcher = domainEventDispatcher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(
+                TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.maxAttempts = maxAttempts;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public OutboxMessage record(CrossContextEvent event) {
+        OutboxMessage saved = outboxMessageRepository.save(new OutboxMessage(event));
+
+        logger.debug(
+                "Recorded {} in the outbox as message {}",
+                event.getClass().getSimpleName(),
+                saved.getMessageId());
+        return saved;
+    }
+
+    public List<OutboxMessage> claimPending(
+            int limit, int shard, int shardCount, String workerId) {
+        if (shard < 0 || shard >= shardCount) {
+            throw new IllegalArgumentException(
+                    "Outbox shard " + shard + " is outside of " + shardCount + " shards");
+        }
+        return transactionTemplate.execute(
+                status ->
+                        outboxMessageRepository.claimPending(
+                                limit, shard, shardCount, workerId, LocalDateTime.now()));
+    }
+
+    public List<OutboxMessage> claim(Collection<Long> messageIds, String workerId) {
+        return transactionTemplate.execute(
+                status -> outboxMessageRepository.claim(messageIds, workerId, LocalDateTime.now()));
+    }
+
+    public List<OutboxMessage> claimNextPending(String aggregateKey, String workerId) {
+        return transactionTemplate.execute(
+                status ->
+                        outboxMessageRepository.claimNextPending(
+                                aggregateKey, workerId, LocalDateTime.now()));
+    }
+
+    public void relayCommitted(Collection<Long> messageIds) {
+        try {
+            relayAll(claim(messageIds, COMMIT_RELAY_WORKER_ID));
+        } catch (Exception e) {
+            logger.warn(
+                    "Failed to relay {} outbox messages on commit, leaving them to the relay"
+                            + " worker",
+                    messageIds.size(),
+                    e);
+        }
+    }
+
+    public CompletableFuture<Integer> relayAll(List<OutboxMessage> messages) {
+        List<CompletableFuture<Boolean>> relays = messages.stream().map(this::relay).toList();
+        return CompletableFuture.allOf(relays.toArray(new CompletableFuture<?>[0]))
+                .thenApply(
+                        ignored ->
+                                (int) relays.stream().filter(CompletableFuture::join).count());
+    }
+
+    public CompletableFuture<Boolean> relay(OutboxMessage message) {
+        CompletableFuture<Void> handled;
+        try {
+            handled =
+                    domainEventDispatcher.capture(
+                            () ->
+                                    eventPublisher.publishEvent(
+                                            new RelayedDomainEvent<>(
+                                                    this,
+                                                    message.getEvent(),
+                                                    message.getMessageId())),
+                            (handlerId, handler) ->
+                                    deduplicated(message.getMessageId(), handlerId, handler));
+        } catch (RuntimeException e) {
+            handled = CompletableFuture.failedFuture(e);
+        }
+        return handled.handle((result, failure) -> acknowledge(message, failure));
+    }
+
+    public int releaseStaleClaims(LocalDateTime claimedBefore) {
+        int released =
+                transactionTemplate.execute(
+                        status -> outboxMessageRepository.releaseStaleClaims(claimedBefore));
+        if (released > 0) {
+            logger.warn("Released {} stale outbox claims older than {}", released, claimedBefore);
+        }
+        return released;
+    }
+
+    public int purgeDispatched(LocalDateTime dispatchedBefore) {
+        int purged =
+                transactionTemplate.execute(
+                        status -> outboxMessageRepository.deleteDispatchedBefore(dispatchedBefore));
+        if (purged > 0) {
+            logger.info(
+                    "Purged {} dispatched outbox messages older than {}", purged, dispatchedBefore);
+        }
+        return purged;
+    }
+
+    public long countOutstanding() {
+        return outboxMessageRepository.countByStatus(OutboxStatus.PENDING)
+                + outboxMessageRepository.countByStatus(OutboxStatus.PROCESSING);
+    }
+
+    public long countFailed() {
+        return outboxMessageRepository.countByStatus(OutboxStatus.FAILED);
+    }
+
+    public long getRelayedCount() {
+        return relayedCount.get();
+    }
+
+    public long getRetriedCount() {
+        return retriedCount.get();
+    }
+
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    private Runnable deduplicated(Long messageId, String handlerId, Runnable handler) {
+        return () -> {
+            if (outboxMessageRepository.hasReceipt(messageId, handlerId)) {
+                logger.info(
+                        "Skipping {} for outbox message {}, already handled on an earlier attempt",
+                        handlerId,
+                        messageId);
+                return;
+            }
+            handler.run();
+            outboxMessageRepository.saveReceipt(messageId, handlerId, LocalDateTime.now());
+        };
+    }
+
+    private boolean acknowledge(OutboxMessage message, Throwable failure) {
+        if (failure != null) {
+            recordFailure(message, unwrap(failure));
+            return false;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(
+                    status -> {
+                        message.markDispatched(LocalDateTime.now());
+                        outboxMessageRepository.save(message);
+                    });
+        } catch (Exception e) {
+            recordFailure(message, e);
+            return false;
+        }
+        relayedCount.incrementAndGet();
+        relayNext(message.getAggregateKey());
+        return true;
+    }
+
+    private void relayNext(String aggregateKey) {
+        if (aggregateKey == null) {
+            return;
+        }
+
+        try {
+            relayAll(claimNextPending(aggregateKey, COMMIT_RELAY_WORKER_ID));
+        } catch (Exception e) {
+            logger.warn(
+                    "Failed to relay the next outbox message for {}, leaving it to the relay"
+                            + " worker",
+                    aggregateKey,
+                    e);
+        }
+    }
+
+    private static Throwable unwrap(Throwable failure) {
+        if (failure instanceof CompletionException && failure.getCause() != null) {
+            return failure.getCause();
+        }
+        return failure;
+    }
+
+    private void recordFailure(OutboxMessage message, Throwable cause) {
+        try {
+            message.recordFailure(cause.getMessage(), maxAttempts);
+            transactionTemplate.executeWithoutResult(
+                    status -> outboxMessageRepository.save(message));
+        } catch (Exception e) {
+            logger.error(
+                    "Failed to record relay failure for outbox message {}, it will be reclaimed"
+                            + " after the claim timeout",
+                    message.getMessageId(),
+                    e);
+            return;
+        }
+
+        if (message.isFailed()) {
+            failedCount.incrementAndGet();
+            logger.error(
+                    "Giving up on outbox message {} ({}) after {} attempts, parked as FAILED",
+                    message.getMessageId(),
+                    message.getEventType(),
+                    message.getAttempts(),
+                    cause);
+        } else {
+            retriedCount.incrementAndGet();
+            logger.warn(
+                    "Failed to relay outbox message {} (attempt {} of {}), will retry: {}",
+                    message.getMessageId(),
+                    message.getAttempts(),
+                    maxAttempts,
+                    cause.getMessage());
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.wei.orchestrator.shared.application.audit;
+
+import com.wei.orchestrator.shared.domain.model.AuditRecord;
+import java.util.List;
+
+public interface AuditProjection {
+    void apply(List<AuditRecord> auditRecords);
+}
@@ -0,0 +1,7 @@
+package com.wei.orchestrator.shared.application.audit;
+
+import com.wei.orchestrator.shared.domain.model.AuditRecord;
+
+public interface AuditRecordWriter {
+    void write(AuditRecord auditRecord);
+}
@@ -0,0 +1,11 @@
+package com.wei.orchestrator.shared.application.event;
+
+import java.util.concurrent.CompletableFuture;
+
+public interface DomainEventDispatcher {
+    CompletableFuture<Void> dispatch(String aggregateKey, Runnable handler);
+
+    CompletableFuture<Void> capture(Runnable publication, HandlerDecorator handlerDecorator);
+
+    boolean isAsync();
+}
@@ -0,0 +1,6 @@
+package com.wei.orchestrator.shared.application.event;
+
+@FunctionalInterface
+public interface HandlerDecorator {
+    Runnable decorate(String handlerId, Runnable handler);
+}
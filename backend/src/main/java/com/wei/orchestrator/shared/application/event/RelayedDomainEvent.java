@@ -0,0 +1,23 @@
+package com.wei.orchestrator.shared.application.event;
+
+import com.wei.orchestrator.shared.domain.event.CrossContextEvent;
+import org.springframework.context.PayloadApplicationEvent;
+
+public class RelayedDomainEvent<T extends CrossContextEvent> extends PayloadApplicationEvent<T> {
+
+    public static final String IS_RELAYED =
+            "#root.event instanceof"
+                    + " T(com.wei.orchestrator.shared.application.event.RelayedDomainEvent)";
+    public static final String NOT_RELAYED = "!(" + IS_RELAYED + ")";
+
+    private final Long messageId;
+
+    public RelayedDomainEvent(Object source, T payload, Long messageId) {
+        super(source, payload);
+        this.messageId = messageId;
+    }
+
+    public Long getMessageId() {
+        return messageId;
+    }
+}
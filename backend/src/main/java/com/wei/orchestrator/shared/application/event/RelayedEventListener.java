@@ -0,0 +1,14 @@
+package com.wei.orchestrator.shared.application.event;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.springframework.context.event.EventListener;
+
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@EventListener(condition = RelayedDomainEvent.IS_RELAYED)
+public @interface RelayedEventListener {}
@@ -1,14 +1,13 @@
 package com.wei.orchestrator.shared.application.eventhandler;
 
+import com.wei.orchestrator.shared.application.audit.AuditRecordWriter;
+import com.wei.orchestrator.shared.application.event.RelayedDomainEvent;
 import com.wei.orchestrator.shared.application.factory.AuditRecordFactory;
 import com.wei.orchestrator.shared.domain.event.DomainEvent;
 import com.wei.orchestrator.shared.domain.model.AuditRecord;
-import com.wei.orchestrator.shared.domain.repository.AuditRecordRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
@@ -18,23 +17,24 @@ public class AuditLogSubscriber {
     private static final Logger logger = LoggerFactory.getLogger(AuditLogSubscriber.class);
 
     private final AuditRecordFactory auditRecordFactory;
-    private final AuditRecordRepository auditRecordRepository;
+    private final AuditRecordWriter auditRecordWriter;
 
     public AuditLogSubscriber(
-            AuditRecordFactory auditRecordFactory, AuditRecordRepository auditRecordRepository) {
+            AuditRecordFactory auditRecordFactory, AuditRecordWriter auditRecordWriter) {
         this.auditRecordFactory = auditRecordFactory;
-        this.auditRecordRepository = auditRecordRepository;
+        this.auditRecordWriter = auditRecordWriter;
     }
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @TransactionalEventListener(
+            phase = TransactionPhase.AFTER_COMMIT,
+            condition = RelayedDomainEvent.NOT_RELAYED)
     public void onDomainEvent(DomainEvent event) {
         try {
             AuditRecord auditRecord = auditRecordFactory.createAuditRecord(event);
-            auditRecordRepository.save(auditRecord);
+            auditRecordWriter.write(auditRecord);
 
-            logger.info(
-                    "Audit record created: recordId={}, event={}, aggregate={}/{}",
+            logger.debug(
+                    "Audit record written: recordId={}, event={}, aggregate={}/{}",
                     auditRecord.getRecordId(),
                     auditRecord.getEventName(),
                     auditRecord.getAggregateType(),
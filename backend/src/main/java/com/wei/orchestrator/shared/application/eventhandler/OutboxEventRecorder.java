@@ -0,0 +1,72 @@
+package com.wei.orchestrator.shared.application.eventhandler;
+
+import com.wei.orchestrator.shared.application.OutboxApplicationService;
+import com.wei.orchestrator.shared.application.event.RelayedDomainEvent;
+import com.wei.orchestrator.shared.domain.event.CrossContextEvent;
+import com.wei.orchestrator.shared.domain.model.OutboxMessage;
+import java.util.ArrayList;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+public class OutboxEventRecorder {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxEventRecorder.class);
+
+    private final OutboxApplicationService outboxApplicationService;
+    private final boolean relayOnCommit;
+
+    public OutboxEventRecorder(
+            OutboxApplicationService outboxApplicationService,
+            @Value("${domain-events.outbox.relay-on-commit:true}") boolean relayOnCommit) {
+        this.outboxApplicationService = outboxApplicationService;
+        this.relayOnCommit = relayOnCommit;
+    }
+
+    @EventListener(condition = RelayedDomainEvent.NOT_RELAYED)
+    public void onCrossContextEvent(CrossContextEvent event) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            logger.debug(
+                    "Skipping {} published outside of a transaction",
+                    event.getClass().getSimpleName());
+            return;
+        }
+
+        OutboxMessage message = outboxApplicationService.record(event);
+        if (relayOnCommit) {
+            commitRelay().add(message.getMessageId());
+        }
+    }
+
+    private CommitRelay commitRelay() {
+        for (TransactionSynchronization synchronization :
+                TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof CommitRelay commitRelay) {
+                return commitRelay;
+            }
+        }
+        CommitRelay commitRelay = new CommitRelay();
+        TransactionSynchronizationManager.registerSynchronization(commitRelay);
+        return commitRelay;
+    }
+
+    private class CommitRelay implements TransactionSynchronization {
+        private final List<Long> messageIds = new ArrayList<>();
+
+        private void add(Long messageId) {
+            messageIds.add(messageId);
+        }
+
+        @Override
+        public void afterCommit() {
+            outboxApplicationService.relayCommitted(messageIds);
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.wei.orchestrator.shared.application.factory;
+
+import com.wei.orchestrator.shared.domain.event.DomainEvent;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Pattern;
+
+final class AuditEventDescriptor {
+    static final String UNKNOWN_CONTEXT = "Unknown Context";
+    static final String UNKNOWN_AGGREGATE_TYPE = "Unknown";
+    static final String UNKNOWN_AGGREGATE_ID = "UNKNOWN";
+
+    private static final String[][] CONTEXTS = {
+        {".order.", "Order Context"},
+        {".wes.", "WES Context"},
+        {".inventory.", "Inventory Context"},
+        {".observation.", "Observation Context"}
+    };
+
+    private static final String[] AGGREGATE_TYPES = {
+        "Order", "PickingTask", "Inventory", "Reservation",
+        "ObservedOrder", "WesTask", "Discrepancy", "Adjustment",
+        "Transaction", "InventoryTransaction"
+    };
+
+    private static final String ORDER_ID_ACCESSOR = "getOrderId";
+
+    private static final Pattern ID_ACCESSOR = Pattern.compile("get[A-Z]\\w+Id");
+
+    private static final MethodType ACCESSOR_TYPE =
+            MethodType.methodType(Object.class, Object.class);
+
+    private static final ClassValue<AuditEventDescriptor> DESCRIPTORS =
+            new ClassValue<>() {
+                @Override
+                protected AuditEventDescriptor computeValue(Class<?> eventType) {
+                    return new AuditEventDescriptor(eventType);
+                }
+            };
+
+    private final String eventName;
+    private final String context;
+    private final String aggregateType;
+    private final MethodHandle[] idAccessors;
+    private final MethodHandle orderIdAccessor;
+
+    private AuditEventDescriptor(Class<?> eventType) {
+        this.eventName = eventType.getSimpleName();
+        this.context = contextOf(eventType.getPackageName());
+        this.aggregateType = aggregateTypeOf(eventName);
+
+        List<MethodHandle> accessors = new ArrayList<>();
+        MethodHandle orderId = null;
+        for (Method method : idAccessorsOf(eventType, aggregateType)) {
+            MethodHandle accessor = accessorOf(method);
+            if (accessor == null) {
+                continue;
+            }
+            accessors.add(accessor);
+            if (method.getName().equals(ORDER_ID_ACCESSOR)) {
+                orderId = accessor;
+            }
+        }
+        this.idAccessors = accessors.toArray(MethodHandle[]::new);
+        this.orderIdAccessor = orderId;
+    }
+
+    static AuditEventDescriptor of(Class<?> eventType) {
+        return DESCRIPTORS.get(eventType);
+    }
+
+    String getEventName() {
+        return eventName;
+    }
+
+    String getContext() {
+        return context;
+    }
+
+    String getAggregateType() {
+        return aggregateType;
+    }
+
+    String aggregateIdOf(DomainEvent event) throws Throwable {
+        for (MethodHandle idAccessor : idAccessors) {
+            Object id = (Object) idAccessor.invokeExact((Object) event);
+            if (id != null) {
+                return id.toString();
+            }
+        }
+        return UNKNOWN_AGGREGATE_ID;
+    }
+
+    String orderIdOf(DomainEvent event) throws Throwable {
+        if (orderIdAccessor == null) {
+            return null;
+        }
+        Object orderId = (Object) orderIdAccessor.invokeExact((Object) event);
+        return orderId != null ? orderId.toString() : null;
+    }
+
+    private static MethodHandle accessorOf(Method method) {
+        if (!method.trySetAccessible()) {
+            return null;
+        }
+        try {
+            return MethodHandles.lookup().unreflect(method).asType(ACCESSOR_TYPE);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot access " + method, e);
+        }
+    }
+
+    private static String contextOf(String packageName) {
+        for (String[] context : CONTEXTS) {
+            if (packageName.contains(context[0])) {
+                return context[1];
+            }
+        }
+        return UNKNOWN_CONTEXT;
+    }
+
+    private static String aggregateTypeOf(String eventName) {
+        for (String aggregateType : AGGREGATE_TYPES) {
+            if (eventName.contains(aggregateType)) {
+                return aggregateType;
+            }
+        }
+        return UNKNOWN_AGGREGATE_TYPE;
+    }
+
+    private static List<Method> idAccessorsOf(Class<?> eventType, String aggregateType) {
+        List<Method> accessors = new ArrayList<>();
+        for (Method method : eventType.getMethods()) {
+            if (isIdAccessor(method)) {
+                accessors.add(method);
+            }
+        }
+        accessors.sort(
+                Comparator.<Method>comparingInt(method -> rankOf(method, aggregateType))
+                        .thenComparing(Method::getName));
+        return accessors;
+    }
+
+    private static boolean isIdAccessor(Method method) {
+        return method.getParameterCount() == 0
+                && !Modifier.isStatic(method.getModifiers())
+                && method.getReturnType() != void.class
+                && ID_ACCESSOR.matcher(method.getName()).matches();
+    }
+
+    private static boolean isDomainEventAccessor(String name) {
+        try {
+            DomainEvent.class.getMethod(name);
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private static int rankOf(Method method, String aggregateType) {
+        String name = method.getName();
+        if (isDomainEventAccessor(name)) {
+            return 3;
+        }
+        if (name.equals("get" + aggregateType + "Id")) {
+            return 0;
+        }
+        if (aggregateType.endsWith(name.substring(3, name.length() - 2))) {
+            return 1;
+        }
+        return 2;
+    }
+}
@@ -2,13 +2,11 @@ package com.wei.orchestrator.shared.application.factory;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.wei.orchestrator.shared.domain.event.DomainEvent;
 import com.wei.orchestrator.shared.domain.model.AuditRecord;
 import com.wei.orchestrator.shared.domain.model.valueobject.EventMetadata;
 import com.wei.orchestrator.shared.domain.model.valueobject.TriggerContext;
-import java.lang.reflect.Method;
+import com.wei.orchestrator.shared.infrastructure.json.AuditObjectMappers;
 import java.time.LocalDateTime;
 import java.util.UUID;
 import org.slf4j.Logger;
@@ -19,98 +17,50 @@ import org.springframework.stereotype.Component;
 public class AuditRecordFactory {
 
     private static final Logger logger = LoggerFactory.getLogger(AuditRecordFactory.class);
-    private final ObjectMapper objectMapper;
-
-    public AuditRecordFactory() {
-        this.objectMapper = new ObjectMapper();
-        this.objectMapper.registerModule(new JavaTimeModule());
-        this.objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-    }
+    private final ObjectMapper objectMapper = AuditObjectMappers.json();
 
     public AuditRecord createAuditRecord(DomainEvent event) {
-        String eventName = event.getClass().getSimpleName();
-        String context = extractContext(event);
-        String aggregateType = extractAggregateType(event);
-        String aggregateId = extractAggregateId(event);
+        AuditEventDescriptor descriptor = AuditEventDescriptor.of(event.getClass());
+        String aggregateId = extractAggregateId(descriptor, event);
         TriggerContext triggerContext = resolveTriggerContext(event);
 
         EventMetadata metadata =
                 EventMetadata.of(
-                        context,
+                        descriptor.getContext(),
                         event.getCorrelationId(),
                         triggerContext.getTriggerSource(),
                         triggerContext.getTriggerBy());
 
-        String payload = serializePayload(event);
-
         return new AuditRecord(
                 UUID.randomUUID(),
-                aggregateType,
+                descriptor.getAggregateType(),
                 aggregateId,
-                eventName,
+                descriptor.getEventName(),
                 event.getOccurredAt(),
                 metadata,
-                payload,
-                LocalDateTime.now());
-    }
-
-    private String extractContext(DomainEvent event) {
-        String packageName = event.getClass().getPackageName();
-
-        if (packageName.contains(".order.")) {
-            return "Order Context";
-        }
-        if (packageName.contains(".wes.")) {
-            return "WES Context";
-        }
-        if (packageName.contains(".inventory.")) {
-            return "Inventory Context";
-        }
-        if (packageName.contains(".observation.")) {
-            return "Observation Context";
-        }
-
-        return "Unknown Context";
+                () -> event,
+                () -> serializePayload(event),
+                LocalDateTime.now(),
+                extractOrderId(descriptor, event));
     }
 
-    private String extractAggregateType(DomainEvent event) {
-        String eventName = event.getClass().getSimpleName();
-
-        String[] patterns = {
-            "Order", "PickingTask", "Inventory", "Reservation",
-            "ObservedOrder", "WesTask", "Discrepancy", "Adjustment",
-            "Transaction", "InventoryTransaction"
-        };
-
-        for (String pattern : patterns) {
-            if (eventName.contains(pattern)) {
-                return pattern;
-            }
+    private String extractAggregateId(AuditEventDescriptor descriptor, DomainEvent event) {
+        try {
+            return descriptor.aggregateIdOf(event);
+        } catch (Throwable e) {
+            logger.warn(
+                    "Failed to extract aggregate ID for event: {}", descriptor.getEventName(), e);
+            return AuditEventDescriptor.UNKNOWN_AGGREGATE_ID;
         }
-
-        return "Unknown";
     }
 
-    private String extractAggregateId(DomainEvent event) {
+    private String extractOrderId(AuditEventDescriptor descriptor, DomainEvent event) {
         try {
-            Method[] methods = event.getClass().getMethods();
-            for (Method method : methods) {
-                String methodName = method.getName();
-                if (methodName.matches("get[A-Z]\\w+Id") && method.getParameterCount() == 0) {
-                    Object id = method.invoke(event);
-                    if (id != null) {
-                        return id.toString();
-                    }
-                }
-            }
-        } catch (Exception e) {
-            logger.warn(
-                    "Failed to extract aggregate ID for event: {}",
-                    event.getClass().getSimpleName(),
-                    e);
+            return descriptor.orderIdOf(event);
+        } catch (Throwable e) {
+            logger.warn("Failed to extract order ID for event: {}", descriptor.getEventName(), e);
+            return null;
         }
-
-        return "UNKNOWN";
     }
 
     private TriggerContext resolveTriggerContext(DomainEvent event) {
@@ -0,0 +1,5 @@
+package com.wei.orchestrator.shared.domain.event;
+
+public interface CrossContextEvent extends DomainEvent {
+    String getOrderId();
+}
@@ -4,6 +4,7 @@ import com.wei.orchestrator.shared.domain.model.valueobject.EventMetadata;
 import java.time.LocalDateTime;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 public class AuditRecord {
 
@@ -13,8 +14,11 @@ public class AuditRecord {
     private final String eventName;
     private final LocalDateTime eventTimestamp;
     private final EventMetadata eventMetadata;
-    private final String payload;
+    private final Supplier<Object> payloadValue;
+    private final Supplier<String> payloadJson;
+    private volatile String payload;
     private final LocalDateTime createdAt;
+    private final String orderId;
 
     public AuditRecord(
             UUID recordId,
@@ -25,6 +29,79 @@ public class AuditRecord {
             EventMetadata eventMetadata,
             String payload,
             LocalDateTime createdAt) {
+        this(
+                recordId,
+                aggregateType,
+                aggregateId,
+                eventName,
+                eventTimestamp,
+                eventMetadata,
+                payload,
+                createdAt,
+                null);
+    }
+
+    public AuditRecord(
+            UUID recordId,
+            String aggregateType,
+            String aggregateId,
+            String eventName,
+            LocalDateTime eventTimestamp,
+            EventMetadata eventMetadata,
+            String payload,
+            LocalDateTime createdAt,
+            String orderId) {
+        this(
+                recordId,
+                aggregateType,
+                aggregateId,
+                eventName,
+                eventTimestamp,
+                eventMetadata,
+                payload,
+                null,
+                null,
+                createdAt,
+                orderId);
+    }
+
+    public AuditRecord(
+            UUID recordId,
+            String aggregateType,
+            String aggregateId,
+            String eventName,
+            LocalDateTime eventTimestamp,
+            EventMetadata eventMetadata,
+            Supplier<Object> payloadValue,
+            Supplier<String> payloadJson,
+            LocalDateTime createdAt,
+            String orderId) {
+        this(
+                recordId,
+                aggregateType,
+                aggregateId,
+                eventName,
+                eventTimestamp,
+                eventMetadata,
+                null,
+                payloadValue,
+                payloadJson,
+                createdAt,
+                orderId);
+    }
+
+    private AuditRecord(
+            UUID recordId,
+            String aggregateType,
+            String aggregateId,
+            String eventName,
+            LocalDateTime eventTimestamp,
+            EventMetadata eventMetadata,
+            String payload,
+            Supplier<Object> payloadValue,
+            Supplier<String> payloadJson,
+            LocalDateTime createdAt,
+            String orderId) {
 
         if (recordId == null) {
             throw new IllegalArgumentException("Record ID cannot be null");
@@ -44,7 +121,7 @@ public class AuditRecord {
         if (eventMetadata == null) {
             throw new IllegalArgumentException("Event metadata cannot be null");
         }
-        if (payload == null) {
+        if (payload == null && (payloadValue == null || payloadJson == null)) {
             throw new IllegalArgumentException("Payload cannot be null");
         }
         if (createdAt == null) {
@@ -58,7 +135,10 @@ public class AuditRecord {
         this.eventTimestamp = eventTimestamp;
         this.eventMetadata = eventMetadata;
         this.payload = payload;
+        this.payloadValue = payloadValue;
+        this.payloadJson = payloadJson;
         this.createdAt = createdAt;
+        this.orderId = orderId;
     }
 
     public UUID getRecordId() {
@@ -86,13 +166,26 @@ public class AuditRecord {
     }
 
     public String getPayload() {
-        return payload;
+        String rendered = payload;
+        if (rendered == null) {
+            rendered = payloadJson.get();
+            payload = rendered;
+        }
+        return rendered;
+    }
+
+    public Object getPayloadValue() {
+        return payloadValue != null ? payloadValue.get() : null;
     }
 
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
 
+    public String getOrderId() {
+        return orderId;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -0,0 +1,170 @@
+package com.wei.orchestrator.shared.domain.model;
+
+import com.wei.orchestrator.shared.domain.event.CrossContextEvent;
+import com.wei.orchestrator.shared.domain.model.valueobject.OutboxStatus;
+import java.time.LocalDateTime;
+import java.util.concurrent.ThreadLocalRandom;
+
+public class OutboxMessage {
+    public static final int PARTITION_SLOTS = 1024;
+
+    private Long messageId;
+    private CrossContextEvent event;
+    private int partitionSlot;
+    private OutboxStatus status;
+    private int attempts;
+    private LocalDateTime createdAt;
+    private LocalDateTime claimedAt;
+    private String claimedBy;
+    private LocalDateTime dispatchedAt;
+    private String lastError;
+
+    public OutboxMessage() {}
+
+    public OutboxMessage(CrossContextEvent event) {
+        if (event == null) {
+            throw new IllegalArgumentException("Event cannot be null");
+        }
+        this.event = event;
+        this.partitionSlot = slotOf(event.getOrderId());
+        this.status = OutboxStatus.PENDING;
+        this.attempts = 0;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public void markDispatched(LocalDateTime dispatchedAt) {
+        if (status != OutboxStatus.PROCESSING) {
+            throw new IllegalStateException(
+                    "Only claimed messages can be marked dispatched, current status: " + status);
+        }
+        this.status = OutboxStatus.DISPATCHED;
+        this.dispatchedAt = dispatchedAt;
+        this.lastError = null;
+    }
+
+    public void recordFailure(String error, int maxAttempts) {
+        if (status != OutboxStatus.PROCESSING) {
+            throw new IllegalStateException(
+                    "Only claimed messages can record a failure, current status: " + status);
+        }
+        this.attempts++;
+        this.lastError = error;
+        this.claimedAt = null;
+        this.claimedBy = null;
+        this.status = attempts >= maxAttempts ? OutboxStatus.FAILED : OutboxStatus.PENDING;
+    }
+
+    public boolean isFailed() {
+        return status == OutboxStatus.FAILED;
+    }
+
+    public String getEventType() {
+        return event != null ? event.getClass().getName() : null;
+    }
+
+    public String getAggregateKey() {
+        return event != null ? event.getOrderId() : null;
+    }
+
+    public int getPartitionSlot() {
+        return partitionSlot;
+    }
+
+    public void setPartitionSlot(int partitionSlot) {
+        this.partitionSlot = partitionSlot;
+    }
+
+    public Long getMessageId() {
+        return messageId;
+    }
+
+    public void setMessageId(Long messageId) {
+        this.messageId = messageId;
+    }
+
+    public CrossContextEvent getEvent() {
+        return event;
+    }
+
+    public void setEvent(CrossContextEvent event) {
+        this.event = event;
+    }
+
+    public OutboxStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(OutboxStatus status) {
+        this.status = status;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getClaimedAt() {
+        return claimedAt;
+    }
+
+    public void setClaimedAt(LocalDateTime claimedAt) {
+        this.claimedAt = claimedAt;
+    }
+
+    public String getClaimedBy() {
+        return claimedBy;
+    }
+
+    public void setClaimedBy(String claimedBy) {
+        this.claimedBy = claimedBy;
+    }
+
+    public LocalDateTime getDispatchedAt() {
+        return dispatchedAt;
+    }
+
+    public void setDispatchedAt(LocalDateTime dispatchedAt) {
+        this.dispatchedAt = dispatchedAt;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+
+    private static int slotOf(String aggregateKey) {
+        if (aggregateKey == null) {
+            return ThreadLocalRandom.current().nextInt(PARTITION_SLOTS);
+        }
+        return Math.floorMod(aggregateKey.hashCode(), PARTITION_SLOTS);
+    }
+
+    @Override
+    public String toString() {
+        return "OutboxMessage{"
+                + "messageId="
+                + messageId
+                + ", eventType='"
+                + getEventType()
+                + '\''
+                + ", status="
+                + status
+                + ", attempts="
+                + attempts
+                + '}';
+    }
+}
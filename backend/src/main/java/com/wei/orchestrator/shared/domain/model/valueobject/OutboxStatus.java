@@ -0,0 +1,8 @@
+package com.wei.orchestrator.shared.domain.model.valueobject;
+
+public enum OutboxStatus {
+    PENDING,
+    PROCESSING,
+    DISPATCHED,
+    FAILED
+}
@@ -10,6 +10,8 @@ public interface AuditRecordRepository {
 
     void save(AuditRecord auditRecord);
 
+    void saveAll(List<AuditRecord> auditRecords);
+
     Optional<AuditRecord> findById(UUID recordId);
 
     List<AuditRecord> findByAggregateTypeAndId(String aggregateType, String aggregateId);
@@ -17,4 +19,6 @@ public interface AuditRecordRepository {
     List<AuditRecord> findByEventTimestampBetween(LocalDateTime start, LocalDateTime end);
 
     List<AuditRecord> findByCorrelationId(UUID correlationId);
+
+    List<AuditRecord> findByOrderId(String orderId);
 }
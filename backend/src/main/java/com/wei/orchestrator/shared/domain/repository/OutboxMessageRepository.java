@@ -0,0 +1,30 @@
+package com.wei.orchestrator.shared.domain.repository;
+
+import com.wei.orchestrator.shared.domain.model.OutboxMessage;
+import com.wei.orchestrator.shared.domain.model.valueobject.OutboxStatus;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboxMessageRepository {
+    OutboxMessage save(OutboxMessage message);
+
+    List<OutboxMessage> claimPending(
+            int limit, int shard, int shardCount, String claimedBy, LocalDateTime claimedAt);
+
+    List<OutboxMessage> claim(
+            Collection<Long> messageIds, String claimedBy, LocalDateTime claimedAt);
+
+    List<OutboxMessage> claimNextPending(
+            String aggregateKey, String claimedBy, LocalDateTime claimedAt);
+
+    int releaseStaleClaims(LocalDateTime claimedBefore);
+
+    int deleteDispatchedBefore(LocalDateTime dispatchedBefore);
+
+    boolean hasReceipt(Long messageId, String handlerId);
+
+    void saveReceipt(Long messageId, String handlerId, LocalDateTime handledAt);
+
+    long countByStatus(OutboxStatus status);
+}
@@ -0,0 +1,300 @@
+package com.wei.orchestrator.shared.infrastructure.archive;
+
+import com.wei.orchestrator.shared.domain.model.AuditRecord;
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class AuditArchive {
+    private static final Logger logger = LoggerFactory.getLogger(AuditArchive.class);
+
+    static final String SEGMENT_SUFFIX = ".seg";
+    static final String INDEX_SUFFIX = ".idx";
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+    private static final DateTimeFormatter SEGMENT_DATE = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private static final Duration ORPHAN_AGE = Duration.ofHours(1);
+
+    private final Path directory;
+    private final int blockSize;
+    private final boolean shared;
+    private final AuditBlockCodec codec = new AuditBlockCodec();
+    private final ConcurrentNavigableMap<Path, AuditSegmentIndex> segments =
+            new ConcurrentSkipListMap<>();
+
+    public AuditArchive(
+            @Value("${audit.archive.directory:data/audit-archive}") String directory,
+            @Value("${audit.archive.block-size:256}") int blockSize,
+            @Value("${audit.archive.shared:false}") boolean shared) {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("Audit archive block size must be positive");
+        }
+        this.directory = Paths.get(directory);
+        this.blockSize = blockSize;
+        this.shared = shared;
+    }
+
+    @PostConstruct
+    public void loadSegments() throws IOException {
+        Files.createDirectories(directory);
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                if (name.endsWith(TEMPORARY_SUFFIX) && isOrphaned(file)) {
+                    logger.warn("Discarding incomplete audit archive file {}", file);
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+        scanSegments(true);
+        logger.info(
+                "Loaded {} audit archive segments holding {} records from {} ({})",
+                segments.size(),
+                getArchivedRecordCount(),
+                directory,
+                shared ? "shared" : "node-local");
+    }
+
+    @Scheduled(
+            initialDelayString = "${audit.archive.refresh-interval:60000}",
+            fixedDelayString = "${audit.archive.refresh-interval:60000}")
+    public void refreshSegments() {
+        try {
+            int loaded = scanSegments(false);
+            if (loaded > 0) {
+                logger.info(
+                        "Loaded {} audit archive segments sealed by other nodes from {}",
+                        loaded,
+                        directory);
+            }
+        } catch (IOException e) {
+            logger.error("Failed to refresh audit archive segments from {}", directory, e);
+        }
+    }
+
+    public boolean isShared() {
+        return shared;
+    }
+
+    public AuditSegmentWriter openSegment(LocalDateTime periodStart, LocalDateTime periodEnd)
+            throws IOException {
+        Files.createDirectories(directory);
+        String name =
+                "audit-"
+                        + SEGMENT_DATE.format(periodStart)
+                        + "-"
+                        + System.currentTimeMillis()
+                        + "-"
+                        + UUID.randomUUID().toString().substring(0, 8)
+                        + SEGMENT_SUFFIX;
+        return new AuditSegmentWriter(
+                directory.resolve(name),
+                periodStart,
+                periodEnd,
+                blockSize,
+                codec,
+                index -> segments.put(index.getSegmentFile(), index));
+    }
+
+    public Optional<AuditRecord> findById(UUID recordId) {
+        for (AuditSegmentIndex segment : segments.values()) {
+            int[] allBlocks = allBlocksOf(segment);
+            for (AuditRecord record : readBlocks(segment, allBlocks)) {
+                if (record.getRecordId().equals(recordId)) {
+                    return Optional.of(record);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    public List<AuditRecord> findByOrderId(String orderId) {
+        return collect(
+                segment -> segment.blocksForOrderId(orderId),
+                record -> orderId.equals(record.getOrderId()));
+    }
+
+    public List<AuditRecord> findByCorrelationId(UUID correlationId) {
+        return collect(
+                segment -> segment.blocksForCorrelationId(correlationId.toString()),
+                record -> correlationId.equals(record.getEventMetadata().getCorrelationId()));
+    }
+
+    public List<AuditRecord> findByAggregateTypeAndId(String aggregateType, String aggregateId) {
+        return collect(
+                segment -> segment.blocksForAggregate(aggregateType, aggregateId),
+                record ->
+                        aggregateType.equals(record.getAggregateType())
+                                && aggregateId.equals(record.getAggregateId()));
+    }
+
+    public List<AuditRecord> findByEventTimestampBetween(
+            LocalDateTime start, LocalDateTime end) {
+        return collect(
+                segment -> segment.overlaps(start, end) ? allBlocksOf(segment) : new int[0],
+                record ->
+                        !record.getEventTimestamp().isBefore(start)
+                                && !record.getEventTimestamp().isAfter(end));
+    }
+
+    public void forEachInOrderIdRange(
+            String firstOrderId, String lastOrderId, Consumer<AuditRecord> consumer) {
+        for (AuditSegmentIndex segment : segments.values()) {
+            int[] blocks = segment.blocksForOrderIdRange(firstOrderId, lastOrderId);
+            for (AuditRecord record : readBlocks(segment, blocks)) {
+                String orderId = record.getOrderId();
+                if (orderId != null
+                        && orderId.compareTo(firstOrderId) >= 0
+                        && orderId.compareTo(lastOrderId) <= 0) {
+                    consumer.accept(record);
+                }
+            }
+        }
+    }
+
+    public List<String> findOrderIdsAfter(String afterOrderId, int limit) {
+        TreeSet<String> orderIds = new TreeSet<>();
+        for (AuditSegmentIndex segment : segments.values()) {
+            for (String orderId : segment.orderIdsAfter(afterOrderId)) {
+                if (orderIds.size() >= limit && orderId.compareTo(orderIds.last()) >= 0) {
+                    break;
+                }
+                orderIds.add(orderId);
+                if (orderIds.size() > limit) {
+                    orderIds.pollLast();
+                }
+            }
+        }
+        return new ArrayList<>(orderIds);
+    }
+
+    public int getSegmentCount() {
+        return segments.size();
+    }
+
+    public long getArchivedRecordCount() {
+        return segments.values().stream().mapToLong(AuditSegmentIndex::getRecordCount).sum();
+    }
+
+    private int scanSegments(boolean discardOrphans) throws IOException {
+        int loaded = 0;
+        try (DirectoryStream<Path> files =
+                Files.newDirectoryStream(directory, "*" + SEGMENT_SUFFIX)) {
+            for (Path segmentFile : files) {
+                if (segments.containsKey(segmentFile)) {
+                    continue;
+                }
+                Path indexFile = AuditSegmentIndex.indexFileOf(segmentFile);
+                if (!Files.exists(indexFile)) {
+                    if (discardOrphans && isOrphaned(segmentFile)) {
+                        logger.warn(
+                                "Discarding audit archive segment {} without index", segmentFile);
+                        Files.deleteIfExists(segmentFile);
+                    }
+                    continue;
+                }
+                segments.putIfAbsent(segmentFile, AuditSegmentIndex.read(segmentFile, indexFile));
+                loaded++;
+            }
+        }
+        return loaded;
+    }
+
+    private boolean isOrphaned(Path file) throws IOException {
+        if (!shared) {
+            return true;
+        }
+        Instant modifiedAt = Files.getLastModifiedTime(file).toInstant();
+        return modifiedAt.isBefore(Instant.now().minus(ORPHAN_AGE));
+    }
+
+    private List<AuditRecord> collect(
+            Function<AuditSegmentIndex, int[]> blockLookup, Predicate<AuditRecord> filter) {
+        List<AuditRecord> results = new ArrayList<>();
+        for (AuditSegmentIndex segment : segments.values()) {
+            int[] blocks = blockLookup.apply(segment);
+            if (blocks.length == 0) {
+                continue;
+            }
+            for (AuditRecord record : readBlocks(segment, blocks)) {
+                if (filter.test(record)) {
+                    results.add(record);
+                }
+            }
+        }
+        return results;
+    }
+
+    private List<AuditRecord> readBlocks(AuditSegmentIndex segment, int[] blocks) {
+        if (blocks.length == 0) {
+            return List.of();
+        }
+        List<AuditRecord> records = new ArrayList<>();
+        try (FileChannel channel =
+                FileChannel.open(segment.getSegmentFile(), StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(AuditSegmentWriter.BLOCK_HEADER_BYTES);
+            for (int block : blocks) {
+                long offset = segment.getBlockOffset(block);
+                header.clear();
+                readFully(channel, header, offset);
+                header.flip();
+                int rawLength = header.getInt();
+                int compressedLength = header.getInt();
+                header.getInt();
+                ByteBuffer compressed = ByteBuffer.allocate(compressedLength);
+                readFully(channel, compressed, offset + AuditSegmentWriter.BLOCK_HEADER_BYTES);
+                records.addAll(
+                        codec.deserialize(codec.decompress(compressed.array(), rawLength)));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(
+                    "Failed to read audit archive segment " + segment.getSegmentFile(), e);
+        }
+        return records;
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position)
+            throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + buffer.position());
+            if (read < 0) {
+                throw new IOException("Unexpected end of audit archive segment");
+            }
+        }
+    }
+
+    private static int[] allBlocksOf(AuditSegmentIndex segment) {
+        int[] blocks = new int[segment.getBlockCount()];
+        for (int i = 0; i < blocks.length; i++) {
+            blocks[i] = i;
+        }
+        return blocks;
+    }
+}
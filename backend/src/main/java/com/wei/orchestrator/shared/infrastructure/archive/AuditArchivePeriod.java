@@ -0,0 +1,34 @@
+package com.wei.orchestrator.shared.infrastructure.archive;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+public enum AuditArchivePeriod {
+    DAY {
+        @Override
+        public LocalDate startOf(LocalDate date) {
+            return date;
+        }
+
+        @Override
+        public LocalDate next(LocalDate periodStart) {
+            return periodStart.plusDays(1);
+        }
+    },
+    WEEK {
+        @Override
+        public LocalDate startOf(LocalDate date) {
+            return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        }
+
+        @Override
+        public LocalDate next(LocalDate periodStart) {
+            return periodStart.plusWeeks(1);
+        }
+    };
+
+    public abstract LocalDate startOf(LocalDate date);
+
+    public abstract LocalDate next(LocalDate periodStart);
+}
@@ -0,0 +1,113 @@
+package com.wei.orchestrator.shared.infrastructure.archive;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.wei.orchestrator.shared.domain.model.AuditRecord;
+import com.wei.orchestrator.shared.domain.model.valueobject.EventMetadata;
+import com.wei.orchestrator.shared.infrastructure.json.AuditObjectMappers;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+class AuditBlockCodec {
+
+    private static final byte RECORD_SEPARATOR = '\n';
+
+    private final ObjectMapper objectMapper = AuditObjectMappers.json();
+
+    byte[] serialize(List<AuditRecord> records) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (AuditRecord record : records) {
+            ObjectNode node = objectMapper.createObjectNode();
+            node.put("recordId", record.getRecordId().toString());
+            node.put("aggregateType", record.getAggregateType());
+            node.put("aggregateId", record.getAggregateId());
+            node.put("eventName", record.getEventName());
+            node.put("eventTimestamp", record.getEventTimestamp().toString());
+            node.set("eventMetadata", objectMapper.valueToTree(record.getEventMetadata()));
+            node.put("payload", record.getPayload());
+            node.put("createdAt", record.getCreatedAt().toString());
+            node.put("orderId", record.getOrderId());
+            out.write(objectMapper.writeValueAsBytes(node));
+            out.write(RECORD_SEPARATOR);
+        }
+        return out.toByteArray();
+    }
+
+    List<AuditRecord> deserialize(byte[] bytes) throws IOException {
+        List<AuditRecord> records = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i < bytes.length; i++) {
+            if (bytes[i] == RECORD_SEPARATOR) {
+                records.add(toRecord(objectMapper.readTree(bytes, start, i - start)));
+                start = i + 1;
+            }
+        }
+        return records;
+    }
+
+    byte[] compress(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, raw.length / 4));
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    byte[] decompress(byte[] compressed, int rawLength) throws IOException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            byte[] raw = new byte[rawLength];
+            int offset = 0;
+            while (offset < rawLength && !inflater.finished()) {
+                int inflated = inflater.inflate(raw, offset, rawLength - offset);
+                if (inflated == 0 && inflater.needsInput()) {
+                    break;
+                }
+                offset += inflated;
+            }
+            if (offset != rawLength) {
+                throw new IOException(
+                        "Truncated archive block: expected "
+                                + rawLength
+                                + " bytes, inflated "
+                                + offset);
+            }
+            return raw;
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupt archive block", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private AuditRecord toRecord(JsonNode node) throws IOException {
+        JsonNode orderId = node.get("orderId");
+        return new AuditRecord(
+                UUID.fromString(node.get("recordId").asText()),
+                node.get("aggregateType").asText(),
+                node.get("aggregateId").asText(),
+                node.get("eventName").asText(),
+                LocalDateTime.parse(node.get("eventTimestamp").asText()),
+                objectMapper.treeToValue(node.get("eventMetadata"), EventMetadata.class),
+                node.get("payload").asText(),
+                LocalDateTime.parse(node.get("createdAt").asText()),
+                orderId == null || orderId.isNull() ? null : orderId.asText());
+    }
+}
@@ -0,0 +1,196 @@
+package com.wei.orchestrator.shared.infrastructure.archive;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.TreeMap;
+
+final class AuditSegmentIndex {
+
+    static final int MAGIC = 0x41554458;
+    static final int VERSION = 1;
+
+    private final Path segmentFile;
+    private final LocalDateTime periodStart;
+    private final LocalDateTime periodEnd;
+    private final LocalDateTime minTimestamp;
+    private final LocalDateTime maxTimestamp;
+    private final int recordCount;
+    private final long[] blockOffsets;
+    private final NavigableMap<String, int[]> orderIdBlocks;
+    private final Map<String, int[]> correlationIdBlocks;
+    private final Map<String, int[]> aggregateBlocks;
+
+    AuditSegmentIndex(
+            Path segmentFile,
+            LocalDateTime periodStart,
+            LocalDateTime periodEnd,
+            LocalDateTime minTimestamp,
+            LocalDateTime maxTimestamp,
+            int recordCount,
+            long[] blockOffsets,
+            NavigableMap<String, int[]> orderIdBlocks,
+            Map<String, int[]> correlationIdBlocks,
+            Map<String, int[]> aggregateBlocks) {
+        this.segmentFile = segmentFile;
+        this.periodStart = periodStart;
+        this.periodEnd = periodEnd;
+        this.minTimestamp = minTimestamp;
+        this.maxTimestamp = maxTimestamp;
+        this.recordCount = recordCount;
+        this.blockOffsets = blockOffsets;
+        this.orderIdBlocks = orderIdBlocks;
+        this.correlationIdBlocks = correlationIdBlocks;
+        this.aggregateBlocks = aggregateBlocks;
+    }
+
+    static String aggregateKey(String aggregateType, String aggregateId) {
+        return aggregateType + '\u0000' + aggregateId;
+    }
+
+    static Path indexFileOf(Path segmentFile) {
+        String name = segmentFile.getFileName().toString();
+        return segmentFile.resolveSibling(
+                name.substring(0, name.length() - AuditArchive.SEGMENT_SUFFIX.length())
+                        + AuditArchive.INDEX_SUFFIX);
+    }
+
+    static AuditSegmentIndex read(Path segmentFile, Path indexFile) throws IOException {
+        try (DataInputStream in =
+                new DataInputStream(new BufferedInputStream(Files.newInputStream(indexFile)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException("Unrecognised audit segment index " + indexFile);
+            }
+            LocalDateTime periodStart = LocalDateTime.parse(in.readUTF());
+            LocalDateTime periodEnd = LocalDateTime.parse(in.readUTF());
+            LocalDateTime minTimestamp = LocalDateTime.parse(in.readUTF());
+            LocalDateTime maxTimestamp = LocalDateTime.parse(in.readUTF());
+            int recordCount = in.readInt();
+            long[] blockOffsets = new long[in.readInt()];
+            for (int i = 0; i < blockOffsets.length; i++) {
+                blockOffsets[i] = in.readLong();
+            }
+            return new AuditSegmentIndex(
+                    segmentFile,
+                    periodStart,
+                    periodEnd,
+                    minTimestamp,
+                    maxTimestamp,
+                    recordCount,
+                    blockOffsets,
+                    readKeys(in, new TreeMap<>()),
+                    readKeys(in, new HashMap<>()),
+                    readKeys(in, new HashMap<>()));
+        }
+    }
+
+    void write(Path indexFile) throws IOException {
+        try (OutputStream file = Files.newOutputStream(indexFile);
+                DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeUTF(periodStart.toString());
+            out.writeUTF(periodEnd.toString());
+            out.writeUTF(minTimestamp.toString());
+            out.writeUTF(maxTimestamp.toString());
+            out.writeInt(recordCount);
+            out.writeInt(blockOffsets.length);
+            for (long offset : blockOffsets) {
+                out.writeLong(offset);
+            }
+            writeKeys(out, orderIdBlocks);
+            writeKeys(out, correlationIdBlocks);
+            writeKeys(out, aggregateBlocks);
+        }
+    }
+
+    boolean overlaps(LocalDateTime start, LocalDateTime end) {
+        return !maxTimestamp.isBefore(start) && !minTimestamp.isAfter(end);
+    }
+
+    int[] blocksForOrderId(String orderId) {
+        return orderIdBlocks.getOrDefault(orderId, new int[0]);
+    }
+
+    int[] blocksForCorrelationId(String correlationId) {
+        return correlationIdBlocks.getOrDefault(correlationId, new int[0]);
+    }
+
+    int[] blocksForAggregate(String aggregateType, String aggregateId) {
+        return aggregateBlocks.getOrDefault(aggregateKey(aggregateType, aggregateId), new int[0]);
+    }
+
+    int[] blocksForOrderIdRange(String firstOrderId, String lastOrderId) {
+        return orderIdBlocks.subMap(firstOrderId, true, lastOrderId, true).values().stream()
+                .flatMapToInt(Arrays::stream)
+                .distinct()
+                .sorted()
+                .toArray();
+    }
+
+    NavigableSet<String> orderIdsAfter(String afterOrderId) {
+        NavigableSet<String> orderIds = orderIdBlocks.navigableKeySet();
+        return afterOrderId != null ? orderIds.tailSet(afterOrderId, false) : orderIds;
+    }
+
+    Path getSegmentFile() {
+        return segmentFile;
+    }
+
+    LocalDateTime getPeriodStart() {
+        return periodStart;
+    }
+
+    LocalDateTime getPeriodEnd() {
+        return periodEnd;
+    }
+
+    int getRecordCount() {
+        return recordCount;
+    }
+
+    int getBlockCount() {
+        return blockOffsets.length;
+    }
+
+    long getBlockOffset(int block) {
+        return blockOffsets[block];
+    }
+
+    private static <M extends Map<String, int[]>> M readKeys(DataInputStream in, M keys)
+            throws IOException {
+        int size = in.readInt();
+        for (int i = 0; i < size; i++) {
+            String key = in.readUTF();
+            int[] blocks = new int[in.readInt()];
+            for (int j = 0; j < blocks.length; j++) {
+                blocks[j] = in.readInt();
+            }
+            keys.put(key, blocks);
+        }
+        return keys;
+    }
+
+    private static void writeKeys(DataOutputStream out, Map<String, int[]> keys)
+            throws IOException {
+        out.writeInt(keys.size());
+        for (Map.Entry<String, int[]> entry : keys.entrySet()) {
+            out.writeUTF(entry.getKey());
+            out.writeInt(entry.getValue().length);
+            for (int block : entry.getValue()) {
+                out.writeInt(block);
+            }
+        }
+    }
+}
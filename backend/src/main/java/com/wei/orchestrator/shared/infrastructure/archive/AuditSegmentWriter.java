@@ -0,0 +1,208 @@
+package com.wei.orchestrator.shared.infrastructure.archive;
+
+import com.wei.orchestrator.shared.domain.model.AuditRecord;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+public class AuditSegmentWriter implements Closeable {
+
+    static final int MAGIC = 0x41554453;
+    static final int VERSION = 1;
+    static final int BLOCK_HEADER_BYTES = 12;
+
+    private final Path segmentFile;
+    private final Path temporaryFile;
+    private final LocalDateTime periodStart;
+    private final LocalDateTime periodEnd;
+    private final int blockSize;
+    private final AuditBlockCodec codec;
+    private final Consumer<AuditSegmentIndex> onSealed;
+    private final FileChannel channel;
+
+    private final List<AuditRecord> pending = new ArrayList<>();
+    private final List<Long> blockOffsets = new ArrayList<>();
+    private final Map<String, List<Integer>> orderIdBlocks = new HashMap<>();
+    private final Map<String, List<Integer>> correlationIdBlocks = new HashMap<>();
+    private final Map<String, List<Integer>> aggregateBlocks = new HashMap<>();
+
+    private LocalDateTime minTimestamp;
+    private LocalDateTime maxTimestamp;
+    private int recordCount;
+    private boolean sealed;
+
+    AuditSegmentWriter(
+            Path segmentFile,
+            LocalDateTime periodStart,
+            LocalDateTime periodEnd,
+            int blockSize,
+            AuditBlockCodec codec,
+            Consumer<AuditSegmentIndex> onSealed)
+            throws IOException {
+        this.segmentFile = segmentFile;
+        this.temporaryFile = segmentFile.resolveSibling(segmentFile.getFileName() + ".tmp");
+        this.periodStart = periodStart;
+        this.periodEnd = periodEnd;
+        this.blockSize = blockSize;
+        this.codec = codec;
+        this.onSealed = onSealed;
+        this.channel =
+                FileChannel.open(
+                        temporaryFile,
+                        StandardOpenOption.CREATE_NEW,
+                        StandardOpenOption.WRITE,
+                        StandardOpenOption.APPEND);
+        writeFully(ByteBuffer.allocate(8).putInt(MAGIC).putInt(VERSION).flip());
+    }
+
+    public void append(AuditRecord record) throws IOException {
+        if (sealed) {
+            throw new IllegalStateException("Audit segment " + segmentFile + " is sealed");
+        }
+        LocalDateTime timestamp = record.getEventTimestamp();
+        if (timestamp.isBefore(periodStart) || !timestamp.isBefore(periodEnd)) {
+            throw new IllegalArgumentException(
+                    "Audit record "
+                            + record.getRecordId()
+                            + " at "
+                            + timestamp
+                            + " is outside segment period ["
+                            + periodStart
+                            + ", "
+                            + periodEnd
+                            + ")");
+        }
+        pending.add(record);
+        if (pending.size() >= blockSize) {
+            flushBlock();
+        }
+    }
+
+    public int getRecordCount() {
+        return recordCount + pending.size();
+    }
+
+    public void seal() throws IOException {
+        if (sealed) {
+            return;
+        }
+        flushBlock();
+        channel.force(true);
+        channel.close();
+        sealed = true;
+
+        if (recordCount == 0) {
+            Files.deleteIfExists(temporaryFile);
+            return;
+        }
+
+        AuditSegmentIndex index =
+                new AuditSegmentIndex(
+                        segmentFile,
+                        periodStart,
+                        periodEnd,
+                        minTimestamp,
+                        maxTimestamp,
+                        recordCount,
+                        blockOffsets.stream().mapToLong(Long::longValue).toArray(),
+                        toBlockArrays(orderIdBlocks, new TreeMap<>()),
+                        toBlockArrays(correlationIdBlocks, new HashMap<>()),
+                        toBlockArrays(aggregateBlocks, new HashMap<>()));
+
+        Files.move(temporaryFile, segmentFile, StandardCopyOption.ATOMIC_MOVE);
+        Path indexFile = AuditSegmentIndex.indexFileOf(segmentFile);
+        Path temporaryIndex = indexFile.resolveSibling(indexFile.getFileName() + ".tmp");
+        index.write(temporaryIndex);
+        try (FileChannel indexChannel =
+                FileChannel.open(temporaryIndex, StandardOpenOption.WRITE)) {
+            indexChannel.force(true);
+        }
+        Files.move(temporaryIndex, indexFile, StandardCopyOption.ATOMIC_MOVE);
+        onSealed.accept(index);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (sealed) {
+            return;
+        }
+        sealed = true;
+        channel.close();
+        Files.deleteIfExists(temporaryFile);
+    }
+
+    private void flushBlock() throws IOException {
+        if (pending.isEmpty()) {
+            return;
+        }
+        int block = blockOffsets.size();
+        byte[] raw = codec.serialize(pending);
+        byte[] compressed = codec.compress(raw);
+
+        blockOffsets.add(channel.size());
+        writeFully(
+                ByteBuffer.allocate(BLOCK_HEADER_BYTES + compressed.length)
+                        .putInt(raw.length)
+                        .putInt(compressed.length)
+                        .putInt(pending.size())
+                        .put(compressed)
+                        .flip());
+
+        for (AuditRecord record : pending) {
+            if (record.getOrderId() != null) {
+                indexBlock(orderIdBlocks, record.getOrderId(), block);
+            }
+            indexBlock(
+                    correlationIdBlocks,
+                    record.getEventMetadata().getCorrelationId().toString(),
+                    block);
+            indexBlock(
+                    aggregateBlocks,
+                    AuditSegmentIndex.aggregateKey(
+                            record.getAggregateType(), record.getAggregateId()),
+                    block);
+            LocalDateTime timestamp = record.getEventTimestamp();
+            if (minTimestamp == null || timestamp.isBefore(minTimestamp)) {
+                minTimestamp = timestamp;
+            }
+            if (maxTimestamp == null || timestamp.isAfter(maxTimestamp)) {
+                maxTimestamp = timestamp;
+            }
+        }
+        recordCount += pending.size();
+        pending.clear();
+    }
+
+    private void writeFully(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static void indexBlock(Map<String, List<Integer>> keys, String key, int block) {
+        List<Integer> blocks = keys.computeIfAbsent(key, ignored -> new ArrayList<>());
+        if (blocks.isEmpty() || blocks.get(blocks.size() - 1) != block) {
+            blocks.add(block);
+        }
+    }
+
+    private static <M extends Map<String, int[]>> M toBlockArrays(
+            Map<String, List<Integer>> keys, M target) {
+        keys.forEach(
+                (key, blocks) ->
+                        target.put(key, blocks.stream().mapToInt(Integer::intValue).toArray()));
+        return target;
+    }
+}
@@ -0,0 +1,6 @@
+package com.wei.orchestrator.shared.infrastructure.audit;
+
+public enum AuditDurability {
+    ASYNC,
+    SYNC
+}
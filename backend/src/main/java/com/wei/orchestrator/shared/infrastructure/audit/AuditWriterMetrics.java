@@ -0,0 +1,76 @@
+package com.wei.orchestrator.shared.infrastructure.audit;
+
+public class AuditWriterMetrics {
+    private final int bufferedRecords;
+    private final long writtenCount;
+    private final long failedCount;
+    private final long flushCount;
+    private final long synchronousFallbackCount;
+    private final long projectionFailureCount;
+    private final int projectionBacklog;
+
+    public AuditWriterMetrics(
+            int bufferedRecords,
+            long writtenCount,
+            long failedCount,
+            long flushCount,
+            long synchronousFallbackCount,
+            long projectionFailureCount,
+            int projectionBacklog) {
+        this.bufferedRecords = bufferedRecords;
+        this.writtenCount = writtenCount;
+        this.failedCount = failedCount;
+        this.flushCount = flushCount;
+        this.synchronousFallbackCount = synchronousFallbackCount;
+        this.projectionFailureCount = projectionFailureCount;
+        this.projectionBacklog = projectionBacklog;
+    }
+
+    public int getBufferedRecords() {
+        return bufferedRecords;
+    }
+
+    public long getWrittenCount() {
+        return writtenCount;
+    }
+
+    public long getFailedCount() {
+        return failedCount;
+    }
+
+    public long getFlushCount() {
+        return flushCount;
+    }
+
+    public long getSynchronousFallbackCount() {
+        return synchronousFallbackCount;
+    }
+
+    public long getProjectionFailureCount() {
+        return projectionFailureCount;
+    }
+
+    public int getProjectionBacklog() {
+        return projectionBacklog;
+    }
+
+    @Override
+    public String toString() {
+        return "AuditWriterMetrics{"
+                + "bufferedRecords="
+                + bufferedRecords
+                + ", writtenCount="
+                + writtenCount
+                + ", failedCount="
+                + failedCount
+                + ", flushCount="
+                + flushCount
+                + ", synchronousFallbackCount="
+                + synchronousFallbackCount
+                + ", projectionFailureCount="
+                + projectionFailureCount
+                + ", projectionBacklog="
+                + projectionBacklog
+                + '}';
+    }
+}
@@ -0,0 +1,289 @@
+package com.wei.orchestrator.shared.infrastructure.audit;
+
+import com.wei.orchestrator.shared.application.audit.AuditProjection;
+import com.wei.orchestrator.shared.application.audit.AuditRecordWriter;
+import com.wei.orchestrator.shared.domain.model.AuditRecord;
+import com.wei.orchestrator.shared.domain.repository.AuditRecordRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+public class BufferedAuditRecordWriter implements AuditRecordWriter {
+    private static final Logger logger = LoggerFactory.getLogger(BufferedAuditRecordWriter.class);
+    private static final String THREAD_NAME = "audit-writer";
+    private static final long WAKE_UP_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final AuditRecordRepository auditRecordRepository;
+    private final List<AuditProjection> auditProjections;
+    private final TransactionTemplate transactionTemplate;
+    private final AuditDurability durability;
+    private final int batchSize;
+    private final int capacity;
+    private final long flushIntervalNanos;
+    private final long offerTimeoutMs;
+    private final long shutdownTimeoutMs;
+    private final BlockingQueue<AuditRecord> buffer;
+    private final Thread writerThread;
+    private volatile boolean running;
+
+    private final AtomicLong writtenCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong flushCount = new AtomicLong();
+    private final AtomicLong synchronousFallbackCount = new AtomicLong();
+    private final AtomicLong projectionFailureCount = new AtomicLong();
+    private final Map<AuditProjection, List<AuditRecord>> projectionBacklog =
+            new IdentityHashMap<>();
+
+    public BufferedAuditRecordWriter(
+            AuditRecordRepository auditRecordRepository,
+            List<AuditProjection> auditProjections,
+            PlatformTransactionManager transactionManager,
+            @Value("${audit.writer.durability:ASYNC}") AuditDurability durability,
+            @Value("${audit.writer.batch-size:200}") int batchSize,
+            @Value("${audit.writer.flush-interval:200}") long flushIntervalMs,
+            @Value("${audit.writer.capacity:10000}") int capacity,
+            @Value("${audit.writer.offer-timeout:50}") long offerTimeoutMs,
+            @Value("${audit.writer.shutdown-timeout:10000}") long shutdownTimeoutMs) {
+        if (batchSize <= 0 || capacity <= 0) {
+            throw new IllegalArgumentException(
+                    "Audit writer batch size and capacity must be positive");
+        }
+        if (flushIntervalMs <= 0) {
+            throw new IllegalArgumentException("Audit writer flush interval must be positive");
+        }
+        this.auditRecordRepository = auditRecordRepository;
+        this.auditProjections = List.copyOf(auditProjections);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(
+                TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.durability = durability;
+        this.batchSize = batchSize;
+        this.capacity = capacity;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        this.offerTimeoutMs = offerTimeoutMs;
+        this.shutdownTimeoutMs = shutdownTimeoutMs;
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.writerThread = new Thread(this::run, THREAD_NAME);
+        this.writerThread.setDaemon(true);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (durability == AuditDurability.ASYNC) {
+            running = true;
+            writerThread.start();
+        }
+    }
+
+    @Override
+    public void write(AuditRecord auditRecord) {
+        if (!running) {
+            flush(List.of(auditRecord));
+            return;
+        }
+
+        try {
+            if (buffer.offer(auditRecord, offerTimeoutMs, TimeUnit.MILLISECONDS)) {
+                if (!running) {
+                    flushRemaining();
+                }
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        synchronousFallbackCount.incrementAndGet();
+        logger.debug(
+                "Audit buffer is full, writing {} on the caller thread",
+                auditRecord.getRecordId());
+        flush(List.of(auditRecord));
+    }
+
+    public boolean isAsync() {
+        return durability == AuditDurability.ASYNC;
+    }
+
+    public AuditWriterMetrics getMetrics() {
+        return new AuditWriterMetrics(
+                buffer.size(),
+                writtenCount.get(),
+                failedCount.get(),
+                flushCount.get(),
+                synchronousFallbackCount.get(),
+                projectionFailureCount.get(),
+                projectionBacklogSize());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            writerThread.join(shutdownTimeoutMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writerThread.isAlive()) {
+            logger.warn(
+                    "Audit writer did not stop within {} ms, draining {} buffered records on the"
+                            + " shutdown thread",
+                    shutdownTimeoutMs,
+                    buffer.size());
+        }
+        flushRemaining();
+    }
+
+    private void run() {
+        List<AuditRecord> batch = new ArrayList<>(batchSize);
+        while (running || !buffer.isEmpty()) {
+            try {
+                collect(batch);
+            } catch (InterruptedException e) {
+                logger.warn("Audit writer interrupted, draining buffered records");
+                running = false;
+            }
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void collect(List<AuditRecord> batch) throws InterruptedException {
+        AuditRecord first =
+                buffer.poll(Math.min(flushIntervalNanos, WAKE_UP_NANOS), TimeUnit.NANOSECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+
+        long deadline = System.nanoTime() + flushIntervalNanos;
+        while (batch.size() < batchSize) {
+            buffer.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0 || !running) {
+                return;
+            }
+            AuditRecord next =
+                    buffer.poll(Math.min(remaining, WAKE_UP_NANOS), TimeUnit.NANOSECONDS);
+            if (next != null) {
+                batch.add(next);
+            }
+        }
+    }
+
+    private void flushRemaining() {
+        List<AuditRecord> batch = new ArrayList<>(batchSize);
+        while (buffer.drainTo(batch, batchSize) > 0) {
+            flush(batch);
+            batch.clear();
+        }
+    }
+
+    private void applyProjections(
+            List<AuditRecord> batch,
+            Map<AuditProjection, List<AuditRecord>> retried,
+            Map<AuditProjection, List<AuditRecord>> unapplied) {
+        for (AuditProjection projection : auditProjections) {
+            List<AuditRecord> records =
+                    new ArrayList<>(retried.getOrDefault(projection, List.of()));
+            records.addAll(batch);
+            try {
+                projection.apply(records);
+            } catch (Exception e) {
+                projectionFailureCount.incrementAndGet();
+                unapplied.put(projection, records);
+                logger.error(
+                        "Failed to apply audit records {} to {}, they will be re-applied with the"
+                                + " next batch",
+                        records.stream().map(AuditRecord::getRecordId).toList(),
+                        projection.getClass().getSimpleName(),
+                        e);
+            }
+        }
+    }
+
+    private Map<AuditProjection, List<AuditRecord>> drainProjectionBacklog() {
+        synchronized (projectionBacklog) {
+            Map<AuditProjection, List<AuditRecord>> drained = new HashMap<>(projectionBacklog);
+            projectionBacklog.clear();
+            return drained;
+        }
+    }
+
+    private void addToProjectionBacklog(Map<AuditProjection, List<AuditRecord>> unapplied) {
+        synchronized (projectionBacklog) {
+            unapplied.forEach(
+                    (projection, records) -> {
+                        List<AuditRecord> backlog =
+                                projectionBacklog.computeIfAbsent(
+                                        projection, key -> new ArrayList<>());
+                        backlog.addAll(0, records);
+                        if (backlog.size() > capacity) {
+                            List<AuditRecord> dropped =
+                                    backlog.subList(0, backlog.size() - capacity);
+                            logger.error(
+                                    "Dropping audit records {} from the {} re-apply backlog, the"
+                                            + " projection must be rebuilt",
+                                    dropped.stream().map(AuditRecord::getRecordId).toList(),
+                                    projection.getClass().getSimpleName());
+                            dropped.clear();
+                        }
+                    });
+        }
+    }
+
+    private int projectionBacklogSize() {
+        synchronized (projectionBacklog) {
+            return projectionBacklog.values().stream().mapToInt(List::size).sum();
+        }
+    }
+
+    private void flush(List<AuditRecord> batch) {
+        Map<AuditProjection, List<AuditRecord>> retried = drainProjectionBacklog();
+        Map<AuditProjection, List<AuditRecord>> unapplied = new HashMap<>();
+        try {
+            transactionTemplate.executeWithoutResult(
+                    status -> {
+                        auditRecordRepository.saveAll(batch);
+                        applyProjections(batch, retried, unapplied);
+                    });
+            writtenCount.addAndGet(batch.size());
+            flushCount.incrementAndGet();
+            addToProjectionBacklog(unapplied);
+        } catch (Exception e) {
+            addToProjectionBacklog(retried);
+            if (batch.size() == 1) {
+                failedCount.incrementAndGet();
+                logger.error("Failed to write audit record {}", batch.get(0).getRecordId(), e);
+                return;
+            }
+            logger.warn(
+                    "Failed to write a batch of {} audit records, retrying one by one: {}",
+                    batch.size(),
+                    e.getMessage());
+            for (AuditRecord auditRecord : batch) {
+                flush(List.of(auditRecord));
+            }
+        }
+    }
+}
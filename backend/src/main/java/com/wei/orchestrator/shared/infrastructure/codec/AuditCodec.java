@@ -0,0 +1,14 @@
+package com.wei.orchestrator.shared.infrastructure.codec;
+
+public interface AuditCodec {
+
+    String getEncoding();
+
+    byte[] encodeJson(String json);
+
+    String decodeJson(byte[] data);
+
+    byte[] encodeValue(Object value);
+
+    <T> T decodeValue(byte[] data, Class<T> type);
+}
@@ -0,0 +1,36 @@
+package com.wei.orchestrator.shared.infrastructure.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wei.orchestrator.shared.infrastructure.json.AuditObjectMappers;
+import java.util.Locale;
+
+public enum AuditCodecFormat {
+    JSON {
+        @Override
+        ObjectMapper mapper() {
+            return AuditObjectMappers.json();
+        }
+    },
+    SMILE {
+        @Override
+        ObjectMapper mapper() {
+            return AuditObjectMappers.smile();
+        }
+    },
+    CBOR {
+        @Override
+        ObjectMapper mapper() {
+            return AuditObjectMappers.cbor();
+        }
+    };
+
+    abstract ObjectMapper mapper();
+
+    public String getEncoding() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    public static AuditCodecFormat ofEncoding(String encoding) {
+        return valueOf(encoding.toUpperCase(Locale.ROOT));
+    }
+}
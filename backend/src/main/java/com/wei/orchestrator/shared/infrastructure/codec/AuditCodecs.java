@@ -0,0 +1,22 @@
+package com.wei.orchestrator.shared.infrastructure.codec;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+public final class AuditCodecs {
+
+    private static final Map<AuditCodecFormat, AuditCodec> DECODERS =
+            new EnumMap<>(AuditCodecFormat.class);
+
+    static {
+        for (AuditCodecFormat format : AuditCodecFormat.values()) {
+            DECODERS.put(format, new JacksonAuditCodec(format, AuditCompression.NONE, 0));
+        }
+    }
+
+    private AuditCodecs() {}
+
+    public static AuditCodec forEncoding(String encoding) {
+        return DECODERS.get(AuditCodecFormat.ofEncoding(encoding));
+    }
+}
@@ -0,0 +1,69 @@
+package com.wei.orchestrator.shared.infrastructure.codec;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.util.zip.Deflater;
+import java.util.zip.InflaterInputStream;
+
+public enum AuditCompression {
+    NONE((byte) 0) {
+        @Override
+        byte[] compress(byte[] data, int offset, int length) {
+            byte[] copy = new byte[length];
+            System.arraycopy(data, offset, copy, 0, length);
+            return copy;
+        }
+
+        @Override
+        InputStream decompress(byte[] data, int offset, int length) {
+            return new ByteArrayInputStream(data, offset, length);
+        }
+    },
+    DEFLATE((byte) 1) {
+        @Override
+        byte[] compress(byte[] data, int offset, int length) {
+            Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+            try {
+                deflater.setInput(data, offset, length);
+                deflater.finish();
+                ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, length / 2));
+                byte[] buffer = new byte[4096];
+                while (!deflater.finished()) {
+                    out.write(buffer, 0, deflater.deflate(buffer));
+                }
+                return out.toByteArray();
+            } finally {
+                deflater.end();
+            }
+        }
+
+        @Override
+        InputStream decompress(byte[] data, int offset, int length) {
+            return new InflaterInputStream(new ByteArrayInputStream(data, offset, length));
+        }
+    };
+
+    private final byte marker;
+
+    AuditCompression(byte marker) {
+        this.marker = marker;
+    }
+
+    byte getMarker() {
+        return marker;
+    }
+
+    abstract byte[] compress(byte[] data, int offset, int length);
+
+    abstract InputStream decompress(byte[] data, int offset, int length);
+
+    static AuditCompression ofMarker(byte marker) {
+        for (AuditCompression compression : values()) {
+            if (compression.marker == marker) {
+                return compression;
+            }
+        }
+        throw new IllegalArgumentException("Unknown audit compression marker: " + marker);
+    }
+}
@@ -0,0 +1,106 @@
+package com.wei.orchestrator.shared.infrastructure.codec;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wei.orchestrator.shared.infrastructure.json.AuditObjectMappers;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+
+public class JacksonAuditCodec implements AuditCodec {
+
+    private final AuditCodecFormat format;
+    private final AuditCompression compression;
+    private final int compressionThreshold;
+    private final ObjectMapper mapper;
+
+    public JacksonAuditCodec(
+            AuditCodecFormat format, AuditCompression compression, int compressionThreshold) {
+        if (compressionThreshold < 0) {
+            throw new IllegalArgumentException(
+                    "Audit codec compression threshold cannot be negative");
+        }
+        this.format = format;
+        this.compression = compression;
+        this.compressionThreshold = compressionThreshold;
+        this.mapper = format.mapper();
+    }
+
+    @Override
+    public String getEncoding() {
+        return format.getEncoding();
+    }
+
+    @Override
+    public byte[] encodeJson(String json) {
+        ByteArrayOutputStream body = new ByteArrayOutputStream(json.length());
+        try (JsonParser parser = AuditObjectMappers.json().createParser(json);
+                JsonGenerator generator = mapper.createGenerator(body)) {
+            parser.nextToken();
+            generator.copyCurrentStructure(parser);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to encode audit payload as " + format, e);
+        }
+        return frame(body.toByteArray());
+    }
+
+    @Override
+    public String decodeJson(byte[] data) {
+        StringWriter json = new StringWriter(data.length * 2);
+        try (InputStream in = unframe(data);
+                JsonParser parser = mapper.createParser(in);
+                JsonGenerator generator = AuditObjectMappers.json().createGenerator(json)) {
+            parser.nextToken();
+            generator.copyCurrentStructure(parser);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decode " + format + " audit payload", e);
+        }
+        return json.toString();
+    }
+
+    @Override
+    public byte[] encodeValue(Object value) {
+        try {
+            return frame(mapper.writeValueAsBytes(value));
+        } catch (IOException e) {
+            throw new UncheckedIOException(
+                    "Failed to encode " + value.getClass().getSimpleName() + " as " + format, e);
+        }
+    }
+
+    @Override
+    public <T> T decodeValue(byte[] data, Class<T> type) {
+        try (InputStream in = unframe(data)) {
+            return mapper.readValue(in, type);
+        } catch (IOException e) {
+            throw new UncheckedIOException(
+                    "Failed to decode " + format + " audit " + type.getSimpleName(), e);
+        }
+    }
+
+    private byte[] frame(byte[] body) {
+        AuditCompression applied = AuditCompression.NONE;
+        byte[] content = body;
+        if (compression != AuditCompression.NONE && body.length >= compressionThreshold) {
+            byte[] compressed = compression.compress(body, 0, body.length);
+            if (compressed.length < body.length) {
+                applied = compression;
+                content = compressed;
+            }
+        }
+        byte[] framed = new byte[content.length + 1];
+        framed[0] = applied.getMarker();
+        System.arraycopy(content, 0, framed, 1, content.length);
+        return framed;
+    }
+
+    private static InputStream unframe(byte[] data) {
+        if (data.length == 0) {
+            throw new IllegalArgumentException("Encoded audit data cannot be empty");
+        }
+        return AuditCompression.ofMarker(data[0]).decompress(data, 1, data.length - 1);
+    }
+}
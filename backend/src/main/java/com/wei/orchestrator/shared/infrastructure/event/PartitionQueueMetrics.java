@@ -0,0 +1,85 @@
+package com.wei.orchestrator.shared.infrastructure.event;
+
+public class PartitionQueueMetrics {
+    private final int partition;
+    private final int queueDepth;
+    private final long maxQueueDepth;
+    private final boolean busy;
+    private final long dispatchedCount;
+    private final long completedCount;
+    private final long failedCount;
+    private final long deadLetteredCount;
+
+    public PartitionQueueMetrics(
+            int partition,
+            int queueDepth,
+            long maxQueueDepth,
+            boolean busy,
+            long dispatchedCount,
+            long completedCount,
+            long failedCount,
+            long deadLetteredCount) {
+        this.partition = partition;
+        this.queueDepth = queueDepth;
+        this.maxQueueDepth = maxQueueDepth;
+        this.busy = busy;
+        this.dispatchedCount = dispatchedCount;
+        this.completedCount = completedCount;
+        this.failedCount = failedCount;
+        this.deadLetteredCount = deadLetteredCount;
+    }
+
+    public int getPartition() {
+        return partition;
+    }
+
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+
+    public long getMaxQueueDepth() {
+        return maxQueueDepth;
+    }
+
+    public boolean isBusy() {
+        return busy;
+    }
+
+    public long getDispatchedCount() {
+        return dispatchedCount;
+    }
+
+    public long getCompletedCount() {
+        return completedCount;
+    }
+
+    public long getFailedCount() {
+        return failedCount;
+    }
+
+    public long getDeadLetteredCount() {
+        return deadLetteredCount;
+    }
+
+    @Override
+    public String toString() {
+        return "PartitionQueueMetrics{"
+                + "partition="
+                + partition
+                + ", queueDepth="
+                + queueDepth
+                + ", maxQueueDepth="
+                + maxQueueDepth
+                + ", busy="
+                + busy
+                + ", dispatchedCount="
+                + dispatchedCount
+                + ", completedCount="
+                + completedCount
+                + ", failedCount="
+                + failedCount
+                + ", deadLetteredCount="
+                + deadLetteredCount
+                + '}';
+    }
+}
@@ -0,0 +1,456 @@
+package com.wei.orchestrator.shared.infrastructure.event;
+
+import com.wei.orchestrator.shared.application.event.DomainEventDispatcher;
+import com.wei.orchestrator.shared.application.event.HandlerDecorator;
+import com.wei.orchestrator.shared.infrastructure.metrics.PipelineMeters;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+public class PartitionedDomainEventDispatcher implements DomainEventDispatcher {
+    private static final Logger logger =
+            LoggerFactory.getLogger(PartitionedDomainEventDispatcher.class);
+    private static final String THREAD_NAME_PREFIX = "domain-event-";
+    private static final long POLL_TIMEOUT_MS = 100;
+
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final boolean async;
+    private final long shutdownTimeoutMs;
+    private final long enqueueTimeoutMs;
+    private final int maxAttempts;
+    private final long retryBackoffMs;
+    private final Partition[] partitions;
+    private final ThreadLocal<Capture> captures = new ThreadLocal<>();
+
+    public PartitionedDomainEventDispatcher(
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${domain-events.dispatcher.async:true}") boolean async,
+            @Value("${domain-events.dispatcher.partitions:8}") int partitionCount,
+            @Value("${domain-events.dispatcher.queue-capacity:1000}") int queueCapacity,
+            @Value("${domain-events.dispatcher.shutdown-timeout:10000}") long shutdownTimeoutMs,
+            @Value("${domain-events.dispatcher.enqueue-timeout:5000}") long enqueueTimeoutMs,
+            @Value("${domain-events.dispatcher.max-attempts:3}") int maxAttempts,
+            @Value("${domain-events.dispatcher.retry-backoff:200}") long retryBackoffMs) {
+        if (partitionCount <= 0) {
+            throw new IllegalArgumentException("Dispatcher partition count must be positive");
+        }
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("Dispatcher queue capacity must be positive");
+        }
+        if (maxAttempts <= 0) {
+            throw new IllegalArgumentException("Dispatcher max attempts must be positive");
+        }
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(
+                TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.meterRegistry = meterRegistry;
+        this.async = async;
+        this.shutdownTimeoutMs = shutdownTimeoutMs;
+        this.enqueueTimeoutMs = enqueueTimeoutMs;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMs = retryBackoffMs;
+        this.partitions = new Partition[async ? partitionCount : 0];
+        for (int i = 0; i < this.partitions.length; i++) {
+            this.partitions[i] = new Partition(i, queueCapacity);
+            bindGauges(this.partitions[i]);
+            this.partitions[i].worker.start();
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> dispatch(String aggregateKey, Runnable handler) {
+        String handlerName = handlerNameOf(handler);
+        Capture capture = captures.get();
+        Runnable task = capture != null ? capture.decorate(handler) : handler;
+        if (!async) {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            Throwable failure = null;
+            try {
+                transactionTemplate.executeWithoutResult(status -> task.run());
+            } catch (RuntimeException e) {
+                failure = e;
+                throw e;
+            } finally {
+                recordExecution(sample, handlerName, failure);
+            }
+            return track(capture, CompletableFuture.completedFuture(null));
+        }
+
+        Partition partition = partitions[partitionOf(aggregateKey)];
+        DispatchedEvent event = new DispatchedEvent(aggregateKey, handlerName, task);
+        track(capture, event.completion);
+        partition.submit(event);
+        return event.completion;
+    }
+
+    @Override
+    public CompletableFuture<Void> capture(
+            Runnable publication, HandlerDecorator handlerDecorator) {
+        Capture outer = captures.get();
+        Capture capture = new Capture(handlerDecorator);
+        captures.set(capture);
+        RuntimeException failure = null;
+        try {
+            publication.run();
+        } catch (RuntimeException e) {
+            failure = e;
+        } finally {
+            restore(outer);
+        }
+
+        CompletableFuture<Void> handled =
+                CompletableFuture.allOf(
+                        capture.completions.toArray(new CompletableFuture<?>[0]));
+        if (failure == null) {
+            return handled;
+        }
+        RuntimeException cause = failure;
+        CompletableFuture<Void> failed = new CompletableFuture<>();
+        handled.whenComplete((result, ignored) -> failed.completeExceptionally(cause));
+        return failed;
+    }
+
+    public int partitionOf(String aggregateKey) {
+        if (partitions.length == 0) {
+            return 0;
+        }
+        return Math.floorMod(Objects.hashCode(aggregateKey), partitions.length);
+    }
+
+    @Override
+    public boolean isAsync() {
+        return async;
+    }
+
+    public List<PartitionQueueMetrics> getMetrics() {
+        List<PartitionQueueMetrics> metrics = new ArrayList<>(partitions.length);
+        for (Partition partition : partitions) {
+            metrics.add(partition.snapshot());
+        }
+        return metrics;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (Partition partition : partitions) {
+            partition.running = false;
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(shutdownTimeoutMs);
+        for (Partition partition : partitions) {
+            try {
+                long remaining = deadline - System.nanoTime();
+                partition.worker.join(Math.max(1, TimeUnit.NANOSECONDS.toMillis(remaining)));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (partition.worker.isAlive()) {
+                partition.worker.interrupt();
+            }
+            List<DispatchedEvent> dropped = new ArrayList<>();
+            partition.queue.drainTo(dropped);
+            if (!dropped.isEmpty()) {
+                logger.warn(
+                        "Dropped {} queued domain events from partition {} on shutdown",
+                        dropped.size(),
+                        partition.index);
+                for (DispatchedEvent event : dropped) {
+                    deadLetter(
+                            partition,
+                            event,
+                            new RejectedExecutionException("Domain event dispatcher shut down"));
+                }
+            }
+        }
+    }
+
+    private void process(Partition partition, DispatchedEvent event) {
+        recordQueueWait(partition, event.enqueuedAt);
+        for (int attempt = 1; ; attempt++) {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            try {
+                transactionTemplate.executeWithoutResult(status -> event.handler.run());
+                recordExecution(sample, event.handlerName, null);
+                partition.completedCount.incrementAndGet();
+                event.completion.complete(null);
+                return;
+            } catch (RuntimeException e) {
+                recordExecution(sample, event.handlerName, e);
+                if (attempt >= maxAttempts || !backOff(attempt)) {
+                    partition.failedCount.incrementAndGet();
+                    deadLetter(partition, event, e);
+                    return;
+                }
+                logger.warn(
+                        "Domain event handler {} failed for aggregate {} on partition {} (attempt"
+                                + " {} of {}), retrying: {}",
+                        event.handlerName,
+                        event.aggregateKey,
+                        partition.index,
+                        attempt,
+                        maxAttempts,
+                        e.getMessage());
+            }
+        }
+    }
+
+    private static CompletableFuture<Void> track(
+            Capture capture, CompletableFuture<Void> completion) {
+        if (capture != null) {
+            capture.completions.add(completion);
+        }
+        return completion;
+    }
+
+    private void restore(Capture outer) {
+        if (outer != null) {
+            captures.set(outer);
+        } else {
+            captures.remove();
+        }
+    }
+
+    private boolean backOff(int attempt) {
+        try {
+            Thread.sleep(retryBackoffMs * attempt);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void deadLetter(Partition partition, DispatchedEvent event, Throwable cause) {
+        partition.deadLetteredCount.incrementAndGet();
+        logger.error(
+                "Dead-lettered domain event handler {} for aggregate {} on partition {}",
+                event.handlerName,
+                event.aggregateKey,
+                partition.index,
+                cause);
+        event.completion.completeExceptionally(cause);
+    }
+
+    private void recordExecution(Timer.Sample sample, String handlerName, Throwable failure) {
+        sample.stop(
+                Timer.builder(PipelineMeters.EVENT_DISPATCH)
+                        .tag("handler", handlerName)
+                        .tag(
+                                PipelineMeters.TAG_OUTCOME,
+                                failure == null ? PipelineMeters.SUCCESS : PipelineMeters.FAILURE)
+                        .tag(PipelineMeters.TAG_EXCEPTION, PipelineMeters.exceptionOf(failure))
+                        .register(meterRegistry));
+    }
+
+    private void recordQueueWait(Partition partition, long enqueuedAt) {
+        Timer.builder(PipelineMeters.EVENT_QUEUE_WAIT)
+                .tag("partition", String.valueOf(partition.index))
+                .register(meterRegistry)
+                .record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+    }
+
+    private void bindGauges(Partition partition) {
+        Tags tags = Tags.of("partition", String.valueOf(partition.index));
+        Gauge.builder(
+                        "orchestrator.event.partition.queue.depth",
+                        partition.queue,
+                        BlockingDeque::size)
+                .tags(tags)
+                .register(meterRegistry);
+        FunctionCounter.builder(
+                        "orchestrator.event.partition.failed",
+                        partition.failedCount,
+                        AtomicLong::get)
+                .tags(tags)
+                .register(meterRegistry);
+        FunctionCounter.builder(
+                        "orchestrator.event.partition.dead_lettered",
+                        partition.deadLetteredCount,
+                        AtomicLong::get)
+                .tags(tags)
+                .register(meterRegistry);
+    }
+
+    private static String handlerNameOf(Runnable handler) {
+        String className = handlerClassOf(handler);
+        return className.substring(className.lastIndexOf('.') + 1);
+    }
+
+    private static String handlerClassOf(Runnable handler) {
+        String className = handler.getClass().getName();
+        int lambdaMarker = className.indexOf("$$");
+        return lambdaMarker > 0 ? className.substring(0, lambdaMarker) : className;
+    }
+
+    private class Capture {
+        private final HandlerDecorator handlerDecorator;
+        private final List<CompletableFuture<Void>> completions = new ArrayList<>();
+        private final Map<String, Integer> occurrences = new HashMap<>();
+
+        private Capture(HandlerDecorator handlerDecorator) {
+            this.handlerDecorator = handlerDecorator;
+        }
+
+        private Runnable decorate(Runnable handler) {
+            String handlerClass = handlerClassOf(handler);
+            int occurrence = occurrences.merge(handlerClass, 1, Integer::sum) - 1;
+            Runnable decorated =
+                    handlerDecorator.decorate(handlerClass + "#" + occurrence, handler);
+            return () -> {
+                Capture outer = captures.get();
+                captures.remove();
+                try {
+                    decorated.run();
+                } finally {
+                    restore(outer);
+                }
+            };
+        }
+    }
+
+    private static class DispatchedEvent {
+        private final String aggregateKey;
+        private final String handlerName;
+        private final Runnable handler;
+        private final long enqueuedAt = System.nanoTime();
+        private final CompletableFuture<Void> completion = new CompletableFuture<>();
+        private boolean holdsCapacity;
+
+        private DispatchedEvent(String aggregateKey, String handlerName, Runnable handler) {
+            this.aggregateKey = aggregateKey;
+            this.handlerName = handlerName;
+            this.handler = handler;
+        }
+    }
+
+    private class Partition {
+        private final int index;
+        private final BlockingDeque<DispatchedEvent> queue = new LinkedBlockingDeque<>();
+        private final Semaphore capacity;
+        private final Thread worker;
+        private final AtomicLong dispatchedCount = new AtomicLong();
+        private final AtomicLong completedCount = new AtomicLong();
+        private final AtomicLong failedCount = new AtomicLong();
+        private final AtomicLong deadLetteredCount = new AtomicLong();
+        private final LongAccumulator maxQueueDepth = new LongAccumulator(Math::max, 0);
+        private volatile boolean running = true;
+        private volatile boolean busy;
+
+        private Partition(int index, int queueCapacity) {
+            this.index = index;
+            this.capacity = new Semaphore(queueCapacity);
+            this.worker = new Thread(this::run, THREAD_NAME_PREFIX + index);
+            this.worker.setDaemon(true);
+        }
+
+        private void submit(DispatchedEvent event) {
+            dispatchedCount.incrementAndGet();
+            if (Thread.currentThread() != worker) {
+                try {
+                    event.holdsCapacity =
+                            capacity.tryAcquire(enqueueTimeoutMs, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    deadLetter(
+                            this,
+                            event,
+                            new RejectedExecutionException(
+                                    "Interrupted while waiting for domain event partition"
+                                            + " capacity",
+                                    e));
+                    return;
+                }
+                if (!event.holdsCapacity) {
+                    deadLetter(
+                            this,
+                            event,
+                            new RejectedExecutionException(
+                                    "Domain event partition "
+                                            + index
+                                            + " stayed full for "
+                                            + enqueueTimeoutMs
+                                            + "ms"));
+                    return;
+                }
+            }
+            if (!running) {
+                release(event);
+                deadLetter(
+                        this,
+                        event,
+                        new RejectedExecutionException("Domain event partition is shut down"));
+                return;
+            }
+            queue.addLast(event);
+            maxQueueDepth.accumulate(queue.size());
+        }
+
+        private void run() {
+            while (running || !queue.isEmpty()) {
+                DispatchedEvent event;
+                try {
+                    event = queue.pollFirst(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    return;
+                }
+                if (event == null) {
+                    continue;
+                }
+                release(event);
+                busy = true;
+                try {
+                    process(this, event);
+                } catch (Throwable e) {
+                    failedCount.incrementAndGet();
+                    deadLetter(this, event, e);
+                } finally {
+                    busy = false;
+                }
+            }
+        }
+
+        private void release(DispatchedEvent event) {
+            if (event.holdsCapacity) {
+                event.holdsCapacity = false;
+                capacity.release();
+            }
+        }
+
+        private PartitionQueueMetrics snapshot() {
+            return new PartitionQueueMetrics(
+                    index,
+                    queue.size(),
+                    maxQueueDepth.get(),
+                    busy,
+                    dispatchedCount.get(),
+                    completedCount.get(),
+                    failedCount.get(),
+                    deadLetteredCount.get());
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.wei.orchestrator.shared.infrastructure.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+public final class AuditObjectMappers {
+
+    private static final ObjectMapper JSON = configure(new ObjectMapper());
+    private static final ObjectMapper SMILE = configure(new SmileMapper());
+    private static final ObjectMapper CBOR = configure(new CBORMapper());
+
+    private AuditObjectMappers() {}
+
+    public static ObjectMapper json() {
+        return JSON;
+    }
+
+    public static ObjectMapper smile() {
+        return SMILE;
+    }
+
+    public static ObjectMapper cbor() {
+        return CBOR;
+    }
+
+    private static ObjectMapper configure(ObjectMapper objectMapper) {
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        return objectMapper;
+    }
+}
@@ -0,0 +1,134 @@
+package com.wei.orchestrator.shared.infrastructure.json;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+public class JsonArrayStreamReader<T> {
+    private static final ObjectMapper OBJECT_MAPPER =
+            new ObjectMapper().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    private final ObjectReader elementReader;
+    private final String arrayFieldName;
+    private final String successFieldName;
+
+    public JsonArrayStreamReader(Class<T> elementType, String arrayFieldName) {
+        this(elementType, arrayFieldName, null);
+    }
+
+    public JsonArrayStreamReader(
+            Class<T> elementType, String arrayFieldName, String successFieldName) {
+        if (elementType == null) {
+            throw new IllegalArgumentException("Element type cannot be null");
+        }
+        if (arrayFieldName == null || arrayFieldName.isBlank()) {
+            throw new IllegalArgumentException("Array field name cannot be null or empty");
+        }
+        this.elementReader = OBJECT_MAPPER.readerFor(elementType);
+        this.arrayFieldName = arrayFieldName;
+        this.successFieldName = successFieldName;
+    }
+
+    public Envelope read(InputStream inputStream, Consumer<? super T> consumer)
+            throws IOException {
+        try (JsonParser parser = OBJECT_MAPPER.getFactory().createParser(inputStream)) {
+            JsonToken firstToken = parser.nextToken();
+            if (firstToken == null) {
+                return new Envelope(Map.of(), false, false, 0);
+            }
+            if (firstToken != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a JSON object");
+            }
+
+            Map<String, String> fields = new HashMap<>();
+            boolean arrayPresent = false;
+            int elementCount = 0;
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                JsonToken valueToken = parser.nextToken();
+
+                if (arrayFieldName.equals(fieldName) && valueToken == JsonToken.START_ARRAY) {
+                    arrayPresent = true;
+                    if (isRejected(fields)) {
+                        parser.skipChildren();
+                    } else {
+                        elementCount = readElements(parser, consumer);
+                    }
+                } else if (valueToken.isScalarValue()) {
+                    fields.put(fieldName, parser.getValueAsString());
+                } else {
+                    parser.skipChildren();
+                }
+            }
+
+            return new Envelope(fields, arrayPresent, isSuccessful(fields), elementCount);
+        }
+    }
+
+    private int readElements(JsonParser parser, Consumer<? super T> consumer)
+            throws IOException {
+        int count = 0;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.currentToken() == JsonToken.VALUE_NULL) {
+                continue;
+            }
+            T element = elementReader.readValue(parser);
+            consumer.accept(element);
+            count++;
+        }
+        return count;
+    }
+
+    private boolean isRejected(Map<String, String> fields) {
+        return successFieldName != null
+                && fields.containsKey(successFieldName)
+                && !isSuccessful(fields);
+    }
+
+    private boolean isSuccessful(Map<String, String> fields) {
+        return successFieldName == null || Boolean.parseBoolean(fields.get(successFieldName));
+    }
+
+    public static class Envelope {
+        private final Map<String, String> fields;
+        private final boolean arrayPresent;
+        private final boolean successful;
+        private final int elementCount;
+
+        private Envelope(
+                Map<String, String> fields,
+                boolean arrayPresent,
+                boolean successful,
+                int elementCount) {
+            this.fields = fields;
+            this.arrayPresent = arrayPresent;
+            this.successful = successful;
+            this.elementCount = elementCount;
+        }
+
+        public String getField(String fieldName) {
+            return fields.get(fieldName);
+        }
+
+        public boolean isArrayPresent() {
+            return arrayPresent;
+        }
+
+        public boolean isSuccessful() {
+            return successful;
+        }
+
+        public int getElementCount() {
+            return elementCount;
+        }
+    }
+}
@@ -2,23 +2,20 @@ package com.wei.orchestrator.shared.infrastructure.mapper;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.wei.orchestrator.shared.domain.model.AuditRecord;
 import com.wei.orchestrator.shared.domain.model.valueobject.EventMetadata;
+import com.wei.orchestrator.shared.infrastructure.codec.AuditCodec;
+import com.wei.orchestrator.shared.infrastructure.codec.AuditCodecs;
+import com.wei.orchestrator.shared.infrastructure.json.AuditObjectMappers;
 import com.wei.orchestrator.shared.infrastructure.persistence.AuditRecordEntity;
+import java.io.UncheckedIOException;
 import java.util.UUID;
 
 public class AuditRecordMapper {
 
-    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final ObjectMapper objectMapper = AuditObjectMappers.json();
 
-    static {
-        objectMapper.registerModule(new JavaTimeModule());
-        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-    }
-
-    public static AuditRecordEntity toEntity(AuditRecord domain) {
+    public static AuditRecordEntity toEntity(AuditRecord domain, AuditCodec codec) {
         if (domain == null) {
             return null;
         }
@@ -29,15 +26,12 @@ public class AuditRecordMapper {
         entity.setAggregateId(domain.getAggregateId());
         entity.setEventName(domain.getEventName());
         entity.setEventTimestamp(domain.getEventTimestamp());
-
-        try {
-            entity.setEventMetadata(objectMapper.writeValueAsString(domain.getEventMetadata()));
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException("Failed to serialize EventMetadata to JSON", e);
-        }
-
-        entity.setPayload(domain.getPayload());
+        entity.setPayloadEncoding(codec.getEncoding());
+        entity.setMetadataData(codec.encodeValue(domain.getEventMetadata()));
+        entity.setPayloadData(encodePayload(domain, codec));
         entity.setCreatedAt(domain.getCreatedAt());
+        entity.setOrderId(domain.getOrderId());
+        entity.setCorrelationId(domain.getEventMetadata().getCorrelationId().toString());
 
         return entity;
     }
@@ -47,21 +41,50 @@ public class AuditRecordMapper {
             return null;
         }
 
-        EventMetadata eventMetadata;
-        try {
-            eventMetadata = objectMapper.readValue(entity.getEventMetadata(), EventMetadata.class);
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException("Failed to deserialize EventMetadata from JSON", e);
+        if (entity.getPayloadEncoding() == null) {
+            EventMetadata eventMetadata;
+            try {
+                eventMetadata =
+                        objectMapper.readValue(entity.getEventMetadata(), EventMetadata.class);
+            } catch (JsonProcessingException e) {
+                throw new RuntimeException("Failed to deserialize EventMetadata from JSON", e);
+            }
+            return new AuditRecord(
+                    UUID.fromString(entity.getRecordId()),
+                    entity.getAggregateType(),
+                    entity.getAggregateId(),
+                    entity.getEventName(),
+                    entity.getEventTimestamp(),
+                    eventMetadata,
+                    entity.getPayload(),
+                    entity.getCreatedAt(),
+                    entity.getOrderId());
         }
 
+        AuditCodec codec = AuditCodecs.forEncoding(entity.getPayloadEncoding());
+        byte[] payloadData = entity.getPayloadData();
         return new AuditRecord(
                 UUID.fromString(entity.getRecordId()),
                 entity.getAggregateType(),
                 entity.getAggregateId(),
                 entity.getEventName(),
                 entity.getEventTimestamp(),
-                eventMetadata,
-                entity.getPayload(),
-                entity.getCreatedAt());
+                codec.decodeValue(entity.getMetadataData(), EventMetadata.class),
+                () -> codec.decodeValue(payloadData, Object.class),
+                () -> codec.decodeJson(payloadData),
+                entity.getCreatedAt(),
+                entity.getOrderId());
+    }
+
+    private static byte[] encodePayload(AuditRecord domain, AuditCodec codec) {
+        Object payloadValue = domain.getPayloadValue();
+        if (payloadValue == null) {
+            return codec.encodeJson(domain.getPayload());
+        }
+        try {
+            return codec.encodeValue(payloadValue);
+        } catch (UncheckedIOException e) {
+            return codec.encodeJson(domain.getPayload());
+        }
     }
 }
@@ -0,0 +1,96 @@
+package com.wei.orchestrator.shared.infrastructure.mapper;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.wei.orchestrator.shared.domain.event.CrossContextEvent;
+import com.wei.orchestrator.shared.domain.model.OutboxMessage;
+import com.wei.orchestrator.shared.domain.model.valueobject.OutboxStatus;
+import com.wei.orchestrator.shared.infrastructure.persistence.OutboxMessageEntity;
+
+public class OutboxMessageMapper {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    static {
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        objectMapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    public static OutboxMessageEntity toEntity(OutboxMessage domain) {
+        if (domain == null) {
+            return null;
+        }
+
+        OutboxMessageEntity entity = new OutboxMessageEntity();
+        entity.setMessageId(domain.getMessageId());
+        entity.setEventType(domain.getEventType());
+        entity.setAggregateKey(domain.getAggregateKey());
+        entity.setPartitionSlot(domain.getPartitionSlot());
+
+        try {
+            entity.setPayload(objectMapper.writeValueAsString(domain.getEvent()));
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize outbox event to JSON", e);
+        }
+
+        if (domain.getEvent().getCorrelationId() != null) {
+            entity.setCorrelationId(domain.getEvent().getCorrelationId().toString());
+        }
+        entity.setStatus(domain.getStatus().name());
+        entity.setAttempts(domain.getAttempts());
+        entity.setCreatedAt(domain.getCreatedAt());
+        entity.setClaimedAt(domain.getClaimedAt());
+        entity.setClaimedBy(domain.getClaimedBy());
+        entity.setDispatchedAt(domain.getDispatchedAt());
+        entity.setLastError(truncate(domain.getLastError()));
+
+        return entity;
+    }
+
+    public static OutboxMessage toDomain(OutboxMessageEntity entity) {
+        if (entity == null) {
+            return null;
+        }
+
+        OutboxMessage domain = new OutboxMessage();
+        domain.setMessageId(entity.getMessageId());
+        domain.setEvent(readEvent(entity.getEventType(), entity.getPayload()));
+        domain.setPartitionSlot(entity.getPartitionSlot());
+        domain.setStatus(OutboxStatus.valueOf(entity.getStatus()));
+        domain.setAttempts(entity.getAttempts());
+        domain.setCreatedAt(entity.getCreatedAt());
+        domain.setClaimedAt(entity.getClaimedAt());
+        domain.setClaimedBy(entity.getClaimedBy());
+        domain.setDispatchedAt(entity.getDispatchedAt());
+        domain.setLastError(entity.getLastError());
+
+        return domain;
+    }
+
+    private static CrossContextEvent readEvent(String eventType, String payload) {
+        try {
+            Class<?> eventClass = Class.forName(eventType);
+            if (!CrossContextEvent.class.isAssignableFrom(eventClass)) {
+                throw new IllegalArgumentException(
+                        "Outbox event type is not a cross-context event: " + eventType);
+            }
+            return (CrossContextEvent) objectMapper.readValue(payload, eventClass);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalArgumentException("Unknown outbox event type: " + eventType, e);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to deserialize outbox event from JSON", e);
+        }
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -0,0 +1,136 @@
+package com.wei.orchestrator.shared.infrastructure.metrics;
+
+public class ConnectionPoolMetrics {
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final String poolName;
+    private final long acquisitionCount;
+    private final long totalWaitNanos;
+    private final long maxWaitNanos;
+    private final long usageCount;
+    private final long totalUsageMillis;
+    private final long maxUsageMillis;
+    private final long timeoutCount;
+    private final int activeConnections;
+    private final int idleConnections;
+    private final int totalConnections;
+    private final int threadsAwaitingConnection;
+
+    public ConnectionPoolMetrics(
+            String poolName,
+            long acquisitionCount,
+            long totalWaitNanos,
+            long maxWaitNanos,
+            long usageCount,
+            long totalUsageMillis,
+            long maxUsageMillis,
+            long timeoutCount,
+            int activeConnections,
+            int idleConnections,
+            int totalConnections,
+            int threadsAwaitingConnection) {
+        this.poolName = poolName;
+        this.acquisitionCount = acquisitionCount;
+        this.totalWaitNanos = totalWaitNanos;
+        this.maxWaitNanos = maxWaitNanos;
+        this.usageCount = usageCount;
+        this.totalUsageMillis = totalUsageMillis;
+        this.maxUsageMillis = maxUsageMillis;
+        this.timeoutCount = timeoutCount;
+        this.activeConnections = activeConnections;
+        this.idleConnections = idleConnections;
+        this.totalConnections = totalConnections;
+        this.threadsAwaitingConnection = threadsAwaitingConnection;
+    }
+
+    public String getPoolName() {
+        return poolName;
+    }
+
+    public long getAcquisitionCount() {
+        return acquisitionCount;
+    }
+
+    public long getTotalWaitNanos() {
+        return totalWaitNanos;
+    }
+
+    public long getMaxWaitNanos() {
+        return maxWaitNanos;
+    }
+
+    public double getAverageWaitMillis() {
+        return acquisitionCount == 0 ? 0.0 : totalWaitNanos / NANOS_PER_MILLI / acquisitionCount;
+    }
+
+    public double getMaxWaitMillis() {
+        return maxWaitNanos / NANOS_PER_MILLI;
+    }
+
+    public long getUsageCount() {
+        return usageCount;
+    }
+
+    public long getTotalUsageMillis() {
+        return totalUsageMillis;
+    }
+
+    public long getMaxUsageMillis() {
+        return maxUsageMillis;
+    }
+
+    public double getAverageUsageMillis() {
+        return usageCount == 0 ? 0.0 : (double) totalUsageMillis / usageCount;
+    }
+
+    public long getTimeoutCount() {
+        return timeoutCount;
+    }
+
+    public int getActiveConnections() {
+        return activeConnections;
+    }
+
+    public int getIdleConnections() {
+        return idleConnections;
+    }
+
+    public int getTotalConnections() {
+        return totalConnections;
+    }
+
+    public int getThreadsAwaitingConnection() {
+        return threadsAwaitingConnection;
+    }
+
+    @Override
+    public String toString() {
+        return "ConnectionPoolMetrics{"
+                + "poolName='"
+                + poolName
+                + '\''
+                + ", acquisitionCount="
+                + acquisitionCount
+                + ", averageWaitMillis="
+                + getAverageWaitMillis()
+                + ", maxWaitMillis="
+                + getMaxWaitMillis()
+                + ", usageCount="
+                + usageCount
+                + ", averageUsageMillis="
+                + getAverageUsageMillis()
+                + ", maxUsageMillis="
+                + maxUsageMillis
+                + ", timeoutCount="
+                + timeoutCount
+                + ", activeConnections="
+                + activeConnections
+                + ", idleConnections="
+                + idleConnections
+                + ", totalConnections="
+                + totalConnections
+                + ", threadsAwaitingConnection="
+                + threadsAwaitingConnection
+                + '}';
+    }
+}
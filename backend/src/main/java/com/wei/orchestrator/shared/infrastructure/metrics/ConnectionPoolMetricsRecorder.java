@@ -0,0 +1,156 @@
+package com.wei.orchestrator.shared.infrastructure.metrics;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.IMetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+public class ConnectionPoolMetricsRecorder implements IMetricsTrackerFactory, MeterBinder {
+
+    private final Map<String, PoolMetricsTracker> trackers = new ConcurrentHashMap<>();
+    private volatile MeterRegistry meterRegistry;
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        PoolMetricsTracker tracker = new PoolMetricsTracker(poolName, poolStats);
+        trackers.put(poolName, tracker);
+        MeterRegistry registry = meterRegistry;
+        if (registry != null) {
+            tracker.bindTo(registry);
+        }
+        return tracker;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.meterRegistry = registry;
+        trackers.values().forEach(tracker -> tracker.bindTo(registry));
+    }
+
+    public List<ConnectionPoolMetrics> getMetrics() {
+        return trackers.values().stream().map(PoolMetricsTracker::snapshot).toList();
+    }
+
+    public Optional<ConnectionPoolMetrics> getMetrics(String poolName) {
+        return Optional.ofNullable(trackers.get(poolName)).map(PoolMetricsTracker::snapshot);
+    }
+
+    private static class PoolMetricsTracker implements IMetricsTracker {
+        private final String poolName;
+        private final PoolStats poolStats;
+        private final LongAdder acquisitionCount = new LongAdder();
+        private final LongAdder totalWaitNanos = new LongAdder();
+        private final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0L);
+        private final LongAdder usageCount = new LongAdder();
+        private final LongAdder totalUsageMillis = new LongAdder();
+        private final LongAccumulator maxUsageMillis = new LongAccumulator(Math::max, 0L);
+        private final LongAdder timeoutCount = new LongAdder();
+        private volatile IMetricsTracker delegate;
+
+        private PoolMetricsTracker(String poolName, PoolStats poolStats) {
+            this.poolName = poolName;
+            this.poolStats = poolStats;
+        }
+
+        private void bindTo(MeterRegistry registry) {
+            delegate = new MicrometerMetricsTrackerFactory(registry).create(poolName, poolStats);
+            Tags tags = Tags.of("pool", poolName);
+            Gauge.builder("orchestrator.db.pool.active", poolStats, PoolStats::getActiveConnections)
+                    .tags(tags)
+                    .register(registry);
+            Gauge.builder("orchestrator.db.pool.idle", poolStats, PoolStats::getIdleConnections)
+                    .tags(tags)
+                    .register(registry);
+            Gauge.builder("orchestrator.db.pool.pending", poolStats, PoolStats::getPendingThreads)
+                    .tags(tags)
+                    .register(registry);
+            FunctionTimer.builder(
+                            "orchestrator.db.pool.acquire",
+                            this,
+                            tracker -> tracker.acquisitionCount.sum(),
+                            tracker -> tracker.totalWaitNanos.sum(),
+                            TimeUnit.NANOSECONDS)
+                    .tags(tags)
+                    .register(registry);
+            FunctionCounter.builder("orchestrator.db.pool.timeouts", timeoutCount, LongAdder::sum)
+                    .tags(tags)
+                    .register(registry);
+        }
+
+        @Override
+        public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+            acquisitionCount.increment();
+            totalWaitNanos.add(elapsedAcquiredNanos);
+            maxWaitNanos.accumulate(elapsedAcquiredNanos);
+            IMetricsTracker tracker = delegate;
+            if (tracker != null) {
+                tracker.recordConnectionAcquiredNanos(elapsedAcquiredNanos);
+            }
+        }
+
+        @Override
+        public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+            usageCount.increment();
+            totalUsageMillis.add(elapsedBorrowedMillis);
+            maxUsageMillis.accumulate(elapsedBorrowedMillis);
+            IMetricsTracker tracker = delegate;
+            if (tracker != null) {
+                tracker.recordConnectionUsageMillis(elapsedBorrowedMillis);
+            }
+        }
+
+        @Override
+        public void recordConnectionTimeout() {
+            timeoutCount.increment();
+            IMetricsTracker tracker = delegate;
+            if (tracker != null) {
+                tracker.recordConnectionTimeout();
+            }
+        }
+
+        @Override
+        public void recordConnectionCreatedMillis(long connectionCreatedMillis) {
+            IMetricsTracker tracker = delegate;
+            if (tracker != null) {
+                tracker.recordConnectionCreatedMillis(connectionCreatedMillis);
+            }
+        }
+
+        @Override
+        public void close() {
+            IMetricsTracker tracker = delegate;
+            if (tracker != null) {
+                tracker.close();
+            }
+        }
+
+        private ConnectionPoolMetrics snapshot() {
+            return new ConnectionPoolMetrics(
+                    poolName,
+                    acquisitionCount.sum(),
+                    totalWaitNanos.sum(),
+                    maxWaitNanos.get(),
+                    usageCount.sum(),
+                    totalUsageMillis.sum(),
+                    maxUsageMillis.get(),
+                    timeoutCount.sum(),
+                    poolStats.getActiveConnections(),
+                    poolStats.getIdleConnections(),
+                    poolStats.getTotalConnections(),
+                    poolStats.getPendingThreads());
+        }
+    }
+}
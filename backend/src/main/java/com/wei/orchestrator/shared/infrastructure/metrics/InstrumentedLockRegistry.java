@@ -0,0 +1,133 @@
+package com.wei.orchestrator.shared.infrastructure.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import org.springframework.integration.support.locks.LockRegistry;
+
+public class InstrumentedLockRegistry implements LockRegistry {
+    static final String ACQUIRED = "acquired";
+    static final String NOT_ACQUIRED = "not_acquired";
+    static final String INTERRUPTED = "interrupted";
+
+    private final LockRegistry delegate;
+    private final MeterRegistry meterRegistry;
+
+    public InstrumentedLockRegistry(LockRegistry delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Lock obtain(Object lockKey) {
+        return new InstrumentedLock(delegate.obtain(lockKey), lockNameOf(lockKey));
+    }
+
+    static String lockNameOf(Object lockKey) {
+        String key = String.valueOf(lockKey);
+        int separator = key.indexOf(':');
+        return separator > 0 ? key.substring(0, separator) : key;
+    }
+
+    private class InstrumentedLock implements Lock {
+        private final Lock delegate;
+        private final String lockName;
+        private Timer.Sample heldSample;
+        private int holdCount;
+
+        private InstrumentedLock(Lock delegate, String lockName) {
+            this.delegate = delegate;
+            this.lockName = lockName;
+        }
+
+        @Override
+        public void lock() {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            delegate.lock();
+            acquired(sample);
+        }
+
+        @Override
+        public void lockInterruptibly() throws InterruptedException {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            try {
+                delegate.lockInterruptibly();
+            } catch (InterruptedException e) {
+                recordWait(sample, INTERRUPTED);
+                throw e;
+            }
+            acquired(sample);
+        }
+
+        @Override
+        public boolean tryLock() {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return outcomeOf(sample, delegate.tryLock());
+        }
+
+        @Override
+        public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            try {
+                return outcomeOf(sample, delegate.tryLock(time, unit));
+            } catch (InterruptedException e) {
+                recordWait(sample, INTERRUPTED);
+                throw e;
+            }
+        }
+
+        @Override
+        public void unlock() {
+            try {
+                delegate.unlock();
+            } catch (IllegalMonitorStateException e) {
+                throw e;
+            } catch (RuntimeException e) {
+                released();
+                throw e;
+            }
+            released();
+        }
+
+        @Override
+        public Condition newCondition() {
+            return delegate.newCondition();
+        }
+
+        private boolean outcomeOf(Timer.Sample sample, boolean locked) {
+            if (locked) {
+                acquired(sample);
+            } else {
+                recordWait(sample, NOT_ACQUIRED);
+            }
+            return locked;
+        }
+
+        private void acquired(Timer.Sample sample) {
+            recordWait(sample, ACQUIRED);
+            if (holdCount++ == 0) {
+                heldSample = Timer.start(meterRegistry);
+            }
+        }
+
+        private void released() {
+            if (holdCount > 0 && --holdCount == 0) {
+                heldSample.stop(
+                        Timer.builder(PipelineMeters.LOCK_HELD)
+                                .tag("lock", lockName)
+                                .register(meterRegistry));
+                heldSample = null;
+            }
+        }
+
+        private void recordWait(Timer.Sample sample, String outcome) {
+            sample.stop(
+                    Timer.builder(PipelineMeters.LOCK_WAIT)
+                            .tag("lock", lockName)
+                            .tag(PipelineMeters.TAG_OUTCOME, outcome)
+                            .register(meterRegistry));
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.wei.orchestrator.shared.infrastructure.metrics;
+
+public final class PipelineMeters {
+    public static final String EVENT_HANDLER = "orchestrator.event.handler";
+    public static final String EVENT_DISPATCH = "orchestrator.event.dispatch";
+    public static final String EVENT_QUEUE_WAIT = "orchestrator.event.queue.wait";
+    public static final String SCHEDULER_CYCLE = "orchestrator.scheduler.cycle";
+    public static final String OBSERVER_POLL = "orchestrator.observer.poll";
+    public static final String OBSERVER_LAG = "orchestrator.observer.lag";
+    public static final String PORT_CALL = "orchestrator.port.call";
+    public static final String LOCK_WAIT = "orchestrator.lock.wait";
+    public static final String LOCK_HELD = "orchestrator.lock.held";
+
+    public static final String TAG_OUTCOME = "outcome";
+    public static final String TAG_EXCEPTION = "exception";
+    public static final String TAG_MODE = "mode";
+
+    public static final String SUCCESS = "success";
+    public static final String FAILURE = "failure";
+    public static final String NONE = "none";
+    public static final String INLINE = "inline";
+    public static final String DISPATCHED = "dispatched";
+
+    private PipelineMeters() {}
+
+    public static String exceptionOf(Throwable throwable) {
+        return throwable == null ? NONE : throwable.getClass().getSimpleName();
+    }
+}
@@ -0,0 +1,161 @@
+package com.wei.orchestrator.shared.infrastructure.metrics;
+
+import com.wei.orchestrator.shared.application.event.DomainEventDispatcher;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+public class PipelineMetricsAspect {
+
+    private final MeterRegistry meterRegistry;
+    private final ThreadLocal<AtomicBoolean> handlerDispatches = new ThreadLocal<>();
+    private final ThreadLocal<String> activePort = new ThreadLocal<>();
+
+    public PipelineMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around(
+            "@annotation(org.springframework.transaction.event.TransactionalEventListener)"
+                    + " || @annotation(org.springframework.context.event.EventListener)"
+                    + " || @annotation(com.wei.orchestrator.shared.application.event"
+                    + ".RelayedEventListener)")
+    public Object timeEventHandler(ProceedingJoinPoint joinPoint) throws Throwable {
+        Object[] args = joinPoint.getArgs();
+        String event =
+                args.length > 0 && args[0] != null ? eventNameOf(args[0]) : PipelineMeters.NONE;
+        AtomicBoolean dispatched = new AtomicBoolean();
+        AtomicBoolean outer = handlerDispatches.get();
+        handlerDispatches.set(dispatched);
+        try {
+            return time(
+                    joinPoint,
+                    PipelineMeters.EVENT_HANDLER,
+                    () ->
+                            Tags.of(
+                                    "handler",
+                                    handlerOf(joinPoint),
+                                    "event",
+                                    event,
+                                    PipelineMeters.TAG_MODE,
+                                    dispatched.get()
+                                            ? PipelineMeters.DISPATCHED
+                                            : PipelineMeters.INLINE));
+        } finally {
+            if (outer != null) {
+                handlerDispatches.set(outer);
+            } else {
+                handlerDispatches.remove();
+            }
+        }
+    }
+
+    @Around(
+            "execution(* com.wei.orchestrator.shared.application.event.DomainEventDispatcher"
+                    + ".dispatch(..))")
+    public Object markHandlerDispatch(ProceedingJoinPoint joinPoint) throws Throwable {
+        AtomicBoolean dispatched = handlerDispatches.get();
+        if (dispatched != null
+                && joinPoint.getTarget() instanceof DomainEventDispatcher dispatcher
+                && dispatcher.isAsync()) {
+            dispatched.set(true);
+        }
+        return joinPoint.proceed();
+    }
+
+    @Around("@annotation(org.springframework.scheduling.annotation.Scheduled)")
+    public Object timeSchedulerCycle(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(
+                joinPoint,
+                PipelineMeters.SCHEDULER_CYCLE,
+                () -> Tags.of("scheduler", handlerOf(joinPoint)));
+    }
+
+    @Around("execution(* com.wei.orchestrator.wes.domain.port.WesPort.*(..))")
+    public Object timeWesPort(ProceedingJoinPoint joinPoint) throws Throwable {
+        return timePort(joinPoint, "WesPort");
+    }
+
+    @Around("execution(* com.wei.orchestrator.inventory.domain.port.InventoryPort.*(..))")
+    public Object timeInventoryPort(ProceedingJoinPoint joinPoint) throws Throwable {
+        return timePort(joinPoint, "InventoryPort");
+    }
+
+    @Around("execution(* com.wei.orchestrator.observation.domain.port.OrderSourcePort.*(..))")
+    public Object timeOrderSourcePort(ProceedingJoinPoint joinPoint) throws Throwable {
+        return timePort(joinPoint, "OrderSourcePort");
+    }
+
+    private Object timePort(ProceedingJoinPoint joinPoint, String port) throws Throwable {
+        if (port.equals(activePort.get())) {
+            return joinPoint.proceed();
+        }
+        activePort.set(port);
+        try {
+            return time(
+                    joinPoint,
+                    PipelineMeters.PORT_CALL,
+                    () ->
+                            Tags.of(
+                                    "port",
+                                    port,
+                                    "adapter",
+                                    targetClassOf(joinPoint).getSimpleName(),
+                                    "operation",
+                                    joinPoint.getSignature().getName()));
+        } finally {
+            activePort.remove();
+        }
+    }
+
+    private Object time(ProceedingJoinPoint joinPoint, String meterName, Supplier<Tags> tags)
+            throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Throwable failure = null;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            sample.stop(
+                    Timer.builder(meterName)
+                            .tags(tags.get())
+                            .tag(
+                                    PipelineMeters.TAG_OUTCOME,
+                                    failure == null
+                                            ? PipelineMeters.SUCCESS
+                                            : PipelineMeters.FAILURE)
+                            .tag(PipelineMeters.TAG_EXCEPTION, PipelineMeters.exceptionOf(failure))
+                            .register(meterRegistry));
+        }
+    }
+
+    private static String handlerOf(ProceedingJoinPoint joinPoint) {
+        return targetClassOf(joinPoint).getSimpleName() + "." + joinPoint.getSignature().getName();
+    }
+
+    private static Class<?> targetClassOf(ProceedingJoinPoint joinPoint) {
+        Object target = joinPoint.getTarget();
+        return target != null
+                ? AopUtils.getTargetClass(target)
+                : joinPoint.getSignature().getDeclaringType();
+    }
+
+    private static String eventNameOf(Object event) {
+        if (event instanceof PayloadApplicationEvent<?> payload) {
+            return payload.getPayload().getClass().getSimpleName();
+        }
+        return event.getClass().getSimpleName();
+    }
+}
@@ -4,7 +4,12 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "audit_records")
+@Table(
+        name = "audit_records",
+        indexes = {
+            @Index(name = "idx_audit_order_id", columnList = "order_id, event_timestamp"),
+            @Index(name = "idx_audit_correlation_id", columnList = "correlation_id")
+        })
 public class AuditRecordEntity {
 
     @Id
@@ -24,16 +29,33 @@ public class AuditRecordEntity {
     private LocalDateTime eventTimestamp;
 
     @Lob
-    @Column(name = "event_metadata", nullable = false)
+    @Column(name = "event_metadata")
     private String eventMetadata;
 
     @Lob
-    @Column(name = "payload", nullable = false)
+    @Column(name = "payload")
     private String payload;
 
+    @Column(name = "payload_encoding", length = 16)
+    private String payloadEncoding;
+
+    @Lob
+    @Column(name = "metadata_data")
+    private byte[] metadataData;
+
+    @Lob
+    @Column(name = "payload_data")
+    private byte[] payloadData;
+
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
+    @Column(name = "order_id", length = 255)
+    private String orderId;
+
+    @Column(name = "correlation_id", length = 36)
+    private String correlationId;
+
     @PrePersist
     protected void onCreate() {
         if (createdAt == null) {
@@ -97,6 +119,30 @@ public class AuditRecordEntity {
         this.payload = payload;
     }
 
+    public String getPayloadEncoding() {
+        return payloadEncoding;
+    }
+
+    public void setPayloadEncoding(String payloadEncoding) {
+        this.payloadEncoding = payloadEncoding;
+    }
+
+    public byte[] getMetadataData() {
+        return metadataData;
+    }
+
+    public void setMetadataData(byte[] metadataData) {
+        this.metadataData = metadataData;
+    }
+
+    public byte[] getPayloadData() {
+        return payloadData;
+    }
+
+    public void setPayloadData(byte[] payloadData) {
+        this.payloadData = payloadData;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -104,4 +150,20 @@ public class AuditRecordEntity {
     public void setCreatedAt(LocalDateTime createdAt) {
         this.createdAt = createdAt;
     }
+
+    public String getOrderId() {
+        return orderId;
+    }
+
+    public void setOrderId(String orderId) {
+        this.orderId = orderId;
+    }
+
+    public String getCorrelationId() {
+        return correlationId;
+    }
+
+    public void setCorrelationId(String correlationId) {
+        this.correlationId = correlationId;
+    }
 }
@@ -0,0 +1,68 @@
+package com.wei.orchestrator.shared.infrastructure.persistence;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(
+        name = "domain_event_outbox_receipt",
+        uniqueConstraints =
+                @UniqueConstraint(
+                        name = "uk_outbox_receipt_handler",
+                        columnNames = {"message_id", "handler_id"}))
+public class OutboxReceiptEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "receipt_id")
+    private Long receiptId;
+
+    @Column(name = "message_id", nullable = false)
+    private Long messageId;
+
+    @Column(name = "handler_id", nullable = false, length = 255)
+    private String handlerId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public OutboxReceiptEntity() {}
+
+    public OutboxReceiptEntity(Long messageId, String handlerId, LocalDateTime createdAt) {
+        this.messageId = messageId;
+        this.handlerId = handlerId;
+        this.createdAt = createdAt;
+    }
+
+    public Long getReceiptId() {
+        return receiptId;
+    }
+
+    public void setReceiptId(Long receiptId) {
+        this.receiptId = receiptId;
+    }
+
+    public Long getMessageId() {
+        return messageId;
+    }
+
+    public void setMessageId(Long messageId) {
+        this.messageId = messageId;
+    }
+
+    public String getHandlerId() {
+        return handlerId;
+    }
+
+    public void setHandlerId(String handlerId) {
+        this.handlerId = handlerId;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
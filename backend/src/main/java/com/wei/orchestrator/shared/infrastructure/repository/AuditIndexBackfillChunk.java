@@ -0,0 +1,38 @@
+package com.wei.orchestrator.shared.infrastructure.repository;
+
+public class AuditIndexBackfillChunk {
+    private final int scanned;
+    private final int updated;
+    private final String lastRecordId;
+
+    public AuditIndexBackfillChunk(int scanned, int updated, String lastRecordId) {
+        this.scanned = scanned;
+        this.updated = updated;
+        this.lastRecordId = lastRecordId;
+    }
+
+    public int getScanned() {
+        return scanned;
+    }
+
+    public int getUpdated() {
+        return updated;
+    }
+
+    public String getLastRecordId() {
+        return lastRecordId;
+    }
+
+    @Override
+    public String toString() {
+        return "AuditIndexBackfillChunk{"
+                + "scanned="
+                + scanned
+                + ", updated="
+                + updated
+                + ", lastRecordId='"
+                + lastRecordId
+                + '\''
+                + '}';
+    }
+}
@@ -0,0 +1,103 @@
+package com.wei.orchestrator.shared.infrastructure.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wei.orchestrator.shared.infrastructure.json.AuditObjectMappers;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+public class AuditIndexBackfillRepository {
+    private static final Logger logger =
+            LoggerFactory.getLogger(AuditIndexBackfillRepository.class);
+
+    private static final String SELECT_FIRST_SQL =
+            "SELECT record_id, event_metadata, payload FROM audit_records"
+                    + " WHERE correlation_id IS NULL"
+                    + " ORDER BY record_id FETCH FIRST ? ROWS ONLY";
+
+    private static final String SELECT_NEXT_SQL =
+            "SELECT record_id, event_metadata, payload FROM audit_records"
+                    + " WHERE correlation_id IS NULL AND record_id > ?"
+                    + " ORDER BY record_id FETCH FIRST ? ROWS ONLY";
+
+    private static final String UPDATE_SQL =
+            "UPDATE audit_records SET order_id = ?, correlation_id = ?"
+                    + " WHERE record_id = ? AND correlation_id IS NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper = AuditObjectMappers.json();
+
+    public AuditIndexBackfillRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Transactional
+    public AuditIndexBackfillChunk backfillChunk(String afterRecordId, int chunkSize) {
+        List<IndexedColumns> rows =
+                afterRecordId == null
+                        ? jdbcTemplate.query(SELECT_FIRST_SQL, this::extract, chunkSize)
+                        : jdbcTemplate.query(
+                                SELECT_NEXT_SQL, this::extract, afterRecordId, chunkSize);
+        if (rows.isEmpty()) {
+            return new AuditIndexBackfillChunk(0, 0, afterRecordId);
+        }
+
+        List<IndexedColumns> resolved =
+                rows.stream().filter(row -> row.correlationId != null).toList();
+        if (!resolved.isEmpty()) {
+            jdbcTemplate.batchUpdate(
+                    UPDATE_SQL,
+                    resolved,
+                    resolved.size(),
+                    (statement, row) -> {
+                        statement.setString(1, row.orderId);
+                        statement.setString(2, row.correlationId);
+                        statement.setString(3, row.recordId);
+                    });
+        }
+
+        return new AuditIndexBackfillChunk(
+                rows.size(), resolved.size(), rows.get(rows.size() - 1).recordId);
+    }
+
+    private IndexedColumns extract(ResultSet resultSet, int rowNum) throws SQLException {
+        String recordId = resultSet.getString("record_id");
+        return new IndexedColumns(
+                recordId,
+                textField(recordId, resultSet.getString("payload"), "orderId"),
+                textField(recordId, resultSet.getString("event_metadata"), "correlationId"));
+    }
+
+    private String textField(String recordId, String json, String field) {
+        if (json == null) {
+            return null;
+        }
+        try {
+            JsonNode value = objectMapper.readTree(json).path(field);
+            return value.isValueNode() && !value.isNull() ? value.asText() : null;
+        } catch (JsonProcessingException e) {
+            logger.warn("Skipping unreadable {} of audit record {}", field, recordId);
+            return null;
+        }
+    }
+
+    private static class IndexedColumns {
+        private final String recordId;
+        private final String orderId;
+        private final String correlationId;
+
+        private IndexedColumns(String recordId, String orderId, String correlationId) {
+            this.recordId = recordId;
+            this.orderId = orderId;
+            this.correlationId = correlationId;
+        }
+    }
+}
@@ -2,57 +2,132 @@ package com.wei.orchestrator.shared.infrastructure.repository;
 
 import com.wei.orchestrator.shared.domain.model.AuditRecord;
 import com.wei.orchestrator.shared.domain.repository.AuditRecordRepository;
+import com.wei.orchestrator.shared.infrastructure.archive.AuditArchive;
+import com.wei.orchestrator.shared.infrastructure.codec.AuditCodec;
 import com.wei.orchestrator.shared.infrastructure.mapper.AuditRecordMapper;
 import com.wei.orchestrator.shared.infrastructure.persistence.AuditRecordEntity;
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
 @Component
 public class AuditRecordRepositoryImpl implements AuditRecordRepository {
 
+    private static final String INSERT_SQL =
+            "INSERT INTO audit_records (record_id, aggregate_type, aggregate_id, event_name,"
+                    + " event_timestamp, payload_encoding, metadata_data, payload_data,"
+                    + " created_at, order_id, correlation_id)"
+                    + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
     private final JpaAuditRecordRepository jpaAuditRecordRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final AuditArchive auditArchive;
+    private final AuditCodec auditCodec;
 
-    public AuditRecordRepositoryImpl(JpaAuditRecordRepository jpaAuditRecordRepository) {
+    public AuditRecordRepositoryImpl(
+            JpaAuditRecordRepository jpaAuditRecordRepository,
+            JdbcTemplate jdbcTemplate,
+            AuditArchive auditArchive,
+            AuditCodec auditCodec) {
         this.jpaAuditRecordRepository = jpaAuditRecordRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.auditArchive = auditArchive;
+        this.auditCodec = auditCodec;
     }
 
     @Override
     public void save(AuditRecord auditRecord) {
-        AuditRecordEntity entity = AuditRecordMapper.toEntity(auditRecord);
+        AuditRecordEntity entity = AuditRecordMapper.toEntity(auditRecord, auditCodec);
         jpaAuditRecordRepository.save(entity);
     }
 
+    @Override
+    public void saveAll(List<AuditRecord> auditRecords) {
+        if (auditRecords.isEmpty()) {
+            return;
+        }
+        List<AuditRecordEntity> entities =
+                auditRecords.stream()
+                        .map(auditRecord -> AuditRecordMapper.toEntity(auditRecord, auditCodec))
+                        .toList();
+        jdbcTemplate.batchUpdate(
+                INSERT_SQL,
+                entities,
+                entities.size(),
+                (statement, entity) -> {
+                    statement.setString(1, entity.getRecordId());
+                    statement.setString(2, entity.getAggregateType());
+                    statement.setString(3, entity.getAggregateId());
+                    statement.setString(4, entity.getEventName());
+                    statement.setTimestamp(5, Timestamp.valueOf(entity.getEventTimestamp()));
+                    statement.setString(6, entity.getPayloadEncoding());
+                    statement.setBytes(7, entity.getMetadataData());
+                    statement.setBytes(8, entity.getPayloadData());
+                    statement.setTimestamp(9, Timestamp.valueOf(entity.getCreatedAt()));
+                    statement.setString(10, entity.getOrderId());
+                    statement.setString(11, entity.getCorrelationId());
+                });
+    }
+
     @Override
     public Optional<AuditRecord> findById(UUID recordId) {
-        return jpaAuditRecordRepository
-                .findById(recordId.toString())
-                .map(AuditRecordMapper::toDomain);
+        Optional<AuditRecord> hot =
+                jpaAuditRecordRepository
+                        .findById(recordId.toString())
+                        .map(AuditRecordMapper::toDomain);
+        return hot.isPresent() ? hot : auditArchive.findById(recordId);
     }
 
     @Override
     public List<AuditRecord> findByAggregateTypeAndId(String aggregateType, String aggregateId) {
-        return jpaAuditRecordRepository
-                .findByAggregateTypeAndAggregateId(aggregateType, aggregateId)
-                .stream()
-                .map(AuditRecordMapper::toDomain)
-                .collect(Collectors.toList());
+        return merge(
+                jpaAuditRecordRepository.findByAggregateTypeAndAggregateId(
+                        aggregateType, aggregateId),
+                auditArchive.findByAggregateTypeAndId(aggregateType, aggregateId));
     }
 
     @Override
     public List<AuditRecord> findByEventTimestampBetween(LocalDateTime start, LocalDateTime end) {
-        return jpaAuditRecordRepository.findByEventTimestampBetween(start, end).stream()
-                .map(AuditRecordMapper::toDomain)
-                .collect(Collectors.toList());
+        return merge(
+                jpaAuditRecordRepository.findByEventTimestampBetween(start, end),
+                auditArchive.findByEventTimestampBetween(start, end));
     }
 
     @Override
     public List<AuditRecord> findByCorrelationId(UUID correlationId) {
-        return jpaAuditRecordRepository.findByCorrelationId(correlationId.toString()).stream()
-                .map(AuditRecordMapper::toDomain)
-                .collect(Collectors.toList());
+        return merge(
+                jpaAuditRecordRepository.findByCorrelationId(correlationId.toString()),
+                auditArchive.findByCorrelationId(correlationId));
+    }
+
+    @Override
+    public List<AuditRecord> findByOrderId(String orderId) {
+        return merge(
+                jpaAuditRecordRepository.findByOrderId(orderId),
+                auditArchive.findByOrderId(orderId));
+    }
+
+    private static List<AuditRecord> merge(
+            List<AuditRecordEntity> hot, List<AuditRecord> archived) {
+        if (archived.isEmpty()) {
+            return hot.stream().map(AuditRecordMapper::toDomain).collect(Collectors.toList());
+        }
+        Map<UUID, AuditRecord> merged = new LinkedHashMap<>();
+        for (AuditRecord record : archived) {
+            merged.putIfAbsent(record.getRecordId(), record);
+        }
+        for (AuditRecordEntity entity : hot) {
+            AuditRecord record = AuditRecordMapper.toDomain(entity);
+            merged.putIfAbsent(record.getRecordId(), record);
+        }
+        return new ArrayList<>(merged.values());
     }
 }
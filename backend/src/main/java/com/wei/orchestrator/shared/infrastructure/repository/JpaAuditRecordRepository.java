@@ -2,8 +2,11 @@ package com.wei.orchestrator.shared.infrastructure.repository;
 
 import com.wei.orchestrator.shared.infrastructure.persistence.AuditRecordEntity;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -16,10 +19,32 @@ public interface JpaAuditRecordRepository extends JpaRepository<AuditRecordEntit
 
     List<AuditRecordEntity> findByEventTimestampBetween(LocalDateTime start, LocalDateTime end);
 
+    List<AuditRecordEntity> findByCorrelationId(String correlationId);
+
+    List<AuditRecordEntity> findByOrderId(String orderId);
+
+    @Query("SELECT MIN(a.eventTimestamp) FROM AuditRecordEntity a")
+    LocalDateTime findOldestEventTimestamp();
+
     @Query(
-            value =
-                    "SELECT * FROM audit_records WHERE JSON_VALUE(event_metadata,"
-                            + " '$.correlationId') = :correlationId",
-            nativeQuery = true)
-    List<AuditRecordEntity> findByCorrelationId(@Param("correlationId") String correlationId);
+            "SELECT a FROM AuditRecordEntity a WHERE a.eventTimestamp >= :start AND"
+                    + " a.eventTimestamp < :end ORDER BY a.recordId")
+    List<AuditRecordEntity> findArchivable(
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end,
+            Pageable pageable);
+
+    @Query(
+            "SELECT a FROM AuditRecordEntity a WHERE a.eventTimestamp >= :start AND"
+                    + " a.eventTimestamp < :end AND a.recordId > :afterRecordId ORDER BY"
+                    + " a.recordId")
+    List<AuditRecordEntity> findArchivableAfter(
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end,
+            @Param("afterRecordId") String afterRecordId,
+            Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM AuditRecordEntity a WHERE a.recordId IN :recordIds")
+    int deleteByRecordIds(@Param("recordIds") Collection<String> recordIds);
 }
@@ -0,0 +1,59 @@
+package com.wei.orchestrator.shared.infrastructure.repository;
+
+import com.wei.orchestrator.shared.infrastructure.persistence.OutboxMessageEntity;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface JpaOutboxMessageRepository extends JpaRepository<OutboxMessageEntity, Long> {
+
+    @Query(
+            "SELECT m.messageId FROM OutboxMessageEntity m WHERE m.status = 'PENDING' AND"
+                    + " MOD(m.partitionSlot, :shardCount) = :shard AND NOT EXISTS (SELECT 1 FROM"
+                    + " OutboxMessageEntity o WHERE o.aggregateKey = m.aggregateKey AND"
+                    + " o.messageId < m.messageId AND o.status IN ('PENDING', 'PROCESSING'))"
+                    + " ORDER BY m.messageId")
+    List<Long> findPendingMessageIds(
+            @Param("shard") int shard, @Param("shardCount") int shardCount, Pageable pageable);
+
+    @Query(
+            "SELECT m.messageId FROM OutboxMessageEntity m WHERE m.aggregateKey = :aggregateKey"
+                    + " AND m.status = 'PENDING' ORDER BY m.messageId")
+    List<Long> findPendingMessageIdsByAggregateKey(
+            @Param("aggregateKey") String aggregateKey, Pageable pageable);
+
+    @Modifying
+    @Query(
+            "UPDATE OutboxMessageEntity m SET m.status = 'PROCESSING', m.claimedAt = :claimedAt,"
+                    + " m.claimedBy = :claimedBy, m.claimToken = :claimToken WHERE m.messageId IN"
+                    + " :messageIds AND m.status = 'PENDING' AND NOT EXISTS (SELECT 1 FROM"
+                    + " OutboxMessageEntity o WHERE o.aggregateKey = m.aggregateKey AND"
+                    + " o.messageId < m.messageId AND o.status IN ('PENDING', 'PROCESSING'))")
+    int claim(
+            @Param("messageIds") Collection<Long> messageIds,
+            @Param("claimedBy") String claimedBy,
+            @Param("claimToken") String claimToken,
+            @Param("claimedAt") LocalDateTime claimedAt);
+
+    List<OutboxMessageEntity> findByClaimTokenOrderByMessageIdAsc(String claimToken);
+
+    @Modifying
+    @Query(
+            "UPDATE OutboxMessageEntity m SET m.status = 'PENDING', m.claimedAt = NULL,"
+                    + " m.claimedBy = NULL, m.claimToken = NULL WHERE m.status = 'PROCESSING' AND"
+                    + " m.claimedAt < :claimedBefore")
+    int releaseStaleClaims(@Param("claimedBefore") LocalDateTime claimedBefore);
+
+    @Modifying
+    @Query(
+            "DELETE FROM OutboxMessageEntity m WHERE m.status = 'DISPATCHED' AND m.dispatchedAt <"
+                    + " :dispatchedBefore")
+    int deleteDispatchedBefore(@Param("dispatchedBefore") LocalDateTime dispatchedBefore);
+
+    long countByStatus(String status);
+}
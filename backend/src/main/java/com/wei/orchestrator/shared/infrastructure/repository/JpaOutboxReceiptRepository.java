@@ -0,0 +1,20 @@
+package com.wei.orchestrator.shared.infrastructure.repository;
+
+import com.wei.orchestrator.shared.infrastructure.persistence.OutboxReceiptEntity;
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface JpaOutboxReceiptRepository extends JpaRepository<OutboxReceiptEntity, Long> {
+
+    boolean existsByMessageIdAndHandlerId(Long messageId, String handlerId);
+
+    @Modifying
+    @Query(
+            "DELETE FROM OutboxReceiptEntity r WHERE r.messageId IN (SELECT m.messageId FROM"
+                    + " OutboxMessageEntity m WHERE m.status = 'DISPATCHED' AND m.dispatchedAt <"
+                    + " :dispatchedBefore)")
+    int deleteForDispatchedBefore(@Param("dispatchedBefore") LocalDateTime dispatchedBefore);
+}
@@ -0,0 +1,106 @@
+package com.wei.orchestrator.shared.infrastructure.repository;
+
+import com.wei.orchestrator.shared.domain.model.OutboxMessage;
+import com.wei.orchestrator.shared.domain.model.valueobject.OutboxStatus;
+import com.wei.orchestrator.shared.domain.repository.OutboxMessageRepository;
+import com.wei.orchestrator.shared.infrastructure.mapper.OutboxMessageMapper;
+import com.wei.orchestrator.shared.infrastructure.persistence.OutboxMessageEntity;
+import com.wei.orchestrator.shared.infrastructure.persistence.OutboxReceiptEntity;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public class OutboxMessageRepositoryImpl implements OutboxMessageRepository {
+
+    private final JpaOutboxMessageRepository jpaOutboxMessageRepository;
+    private final JpaOutboxReceiptRepository jpaOutboxReceiptRepository;
+
+    public OutboxMessageRepositoryImpl(
+            JpaOutboxMessageRepository jpaOutboxMessageRepository,
+            JpaOutboxReceiptRepository jpaOutboxReceiptRepository) {
+        this.jpaOutboxMessageRepository = jpaOutboxMessageRepository;
+        this.jpaOutboxReceiptRepository = jpaOutboxReceiptRepository;
+    }
+
+    @Override
+    public OutboxMessage save(OutboxMessage message) {
+        OutboxMessageEntity saved =
+                jpaOutboxMessageRepository.save(OutboxMessageMapper.toEntity(message));
+        return OutboxMessageMapper.toDomain(saved);
+    }
+
+    @Override
+    @Transactional
+    public List<OutboxMessage> claimPending(
+            int limit, int shard, int shardCount, String claimedBy, LocalDateTime claimedAt) {
+        if (limit <= 0) {
+            return List.of();
+        }
+
+        List<Long> candidateIds =
+                jpaOutboxMessageRepository.findPendingMessageIds(
+                        shard, shardCount, PageRequest.of(0, limit));
+        return claim(candidateIds, claimedBy, claimedAt);
+    }
+
+    @Override
+    @Transactional
+    public List<OutboxMessage> claim(
+            Collection<Long> messageIds, String claimedBy, LocalDateTime claimedAt) {
+        if (messageIds.isEmpty()) {
+            return List.of();
+        }
+
+        String claimToken = UUID.randomUUID().toString();
+        if (jpaOutboxMessageRepository.claim(messageIds, claimedBy, claimToken, claimedAt) == 0) {
+            return List.of();
+        }
+
+        return jpaOutboxMessageRepository.findByClaimTokenOrderByMessageIdAsc(claimToken).stream()
+                .map(OutboxMessageMapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public List<OutboxMessage> claimNextPending(
+            String aggregateKey, String claimedBy, LocalDateTime claimedAt) {
+        List<Long> candidateIds =
+                jpaOutboxMessageRepository.findPendingMessageIdsByAggregateKey(
+                        aggregateKey, PageRequest.of(0, 1));
+        return claim(candidateIds, claimedBy, claimedAt);
+    }
+
+    @Override
+    @Transactional
+    public int releaseStaleClaims(LocalDateTime claimedBefore) {
+        return jpaOutboxMessageRepository.releaseStaleClaims(claimedBefore);
+    }
+
+    @Override
+    @Transactional
+    public int deleteDispatchedBefore(LocalDateTime dispatchedBefore) {
+        jpaOutboxReceiptRepository.deleteForDispatchedBefore(dispatchedBefore);
+        return jpaOutboxMessageRepository.deleteDispatchedBefore(dispatchedBefore);
+    }
+
+    @Override
+    public boolean hasReceipt(Long messageId, String handlerId) {
+        return jpaOutboxReceiptRepository.existsByMessageIdAndHandlerId(messageId, handlerId);
+    }
+
+    @Override
+    public void saveReceipt(Long messageId, String handlerId, LocalDateTime handledAt) {
+        jpaOutboxReceiptRepository.save(new OutboxReceiptEntity(messageId, handlerId, handledAt));
+    }
+
+    @Override
+    public long countByStatus(OutboxStatus status) {
+        return jpaOutboxMessageRepository.countByStatus(status.name());
+    }
+}
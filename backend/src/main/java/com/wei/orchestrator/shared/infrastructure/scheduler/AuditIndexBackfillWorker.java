@@ -0,0 +1,73 @@
+package com.wei.orchestrator.shared.infrastructure.scheduler;
+
+import com.wei.orchestrator.shared.infrastructure.repository.AuditIndexBackfillChunk;
+import com.wei.orchestrator.shared.infrastructure.repository.AuditIndexBackfillRepository;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class AuditIndexBackfillWorker {
+    private static final Logger logger = LoggerFactory.getLogger(AuditIndexBackfillWorker.class);
+
+    private final AuditIndexBackfillRepository backfillRepository;
+    private final int chunkSize;
+    private final int maxChunksPerCycle;
+
+    private final AtomicLong backfilledCount = new AtomicLong();
+    private volatile String cursor;
+    private volatile boolean completed;
+
+    public AuditIndexBackfillWorker(
+            AuditIndexBackfillRepository backfillRepository,
+            @Value("${audit.index-backfill.chunk-size:500}") int chunkSize,
+            @Value("${audit.index-backfill.max-chunks-per-cycle:20}") int maxChunksPerCycle) {
+        if (chunkSize <= 0 || maxChunksPerCycle <= 0) {
+            throw new IllegalArgumentException(
+                    "Audit index backfill chunk size and max chunks per cycle must be positive");
+        }
+        this.backfillRepository = backfillRepository;
+        this.chunkSize = chunkSize;
+        this.maxChunksPerCycle = maxChunksPerCycle;
+    }
+
+    @Scheduled(
+            initialDelayString = "${audit.index-backfill.initial-delay:30000}",
+            fixedDelayString = "${audit.index-backfill.interval:5000}")
+    public void backfill() {
+        if (completed) {
+            return;
+        }
+        try {
+            for (int chunk = 0; chunk < maxChunksPerCycle; chunk++) {
+                AuditIndexBackfillChunk result =
+                        backfillRepository.backfillChunk(cursor, chunkSize);
+                backfilledCount.addAndGet(result.getUpdated());
+                cursor = result.getLastRecordId();
+                if (result.getScanned() < chunkSize) {
+                    completed = true;
+                    logger.info(
+                            "Audit index backfill completed, {} records backfilled",
+                            backfilledCount.get());
+                    return;
+                }
+            }
+            logger.debug(
+                    "Audit index backfill paused after {} records, resuming next cycle",
+                    backfilledCount.get());
+        } catch (Exception e) {
+            logger.error("Audit index backfill failed, retrying from {} next cycle", cursor, e);
+        }
+    }
+
+    public long getBackfilledCount() {
+        return backfilledCount.get();
+    }
+
+    public boolean isCompleted() {
+        return completed;
+    }
+}
@@ -0,0 +1,173 @@
+package com.wei.orchestrator.shared.infrastructure.scheduler;
+
+import com.wei.orchestrator.shared.infrastructure.archive.AuditArchive;
+import com.wei.orchestrator.shared.infrastructure.archive.AuditArchivePeriod;
+import com.wei.orchestrator.shared.infrastructure.archive.AuditSegmentWriter;
+import com.wei.orchestrator.shared.infrastructure.mapper.AuditRecordMapper;
+import com.wei.orchestrator.shared.infrastructure.persistence.AuditRecordEntity;
+import com.wei.orchestrator.shared.infrastructure.repository.JpaAuditRecordRepository;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.integration.support.locks.LockRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+public class AuditRetentionWorker {
+    private static final Logger logger = LoggerFactory.getLogger(AuditRetentionWorker.class);
+    private static final String LOCK_KEY = "audit-retention";
+
+    private static final int DELETE_CHUNK_SIZE = 500;
+
+    private final JpaAuditRecordRepository jpaAuditRecordRepository;
+    private final AuditArchive auditArchive;
+    private final TransactionTemplate transactionTemplate;
+    private final LockRegistry lockRegistry;
+    private final boolean enabled;
+    private final int retentionDays;
+    private final AuditArchivePeriod period;
+    private final int pageSize;
+    private final int maxPeriodsPerCycle;
+
+    private final AtomicLong archivedCount = new AtomicLong();
+
+    public AuditRetentionWorker(
+            JpaAuditRecordRepository jpaAuditRecordRepository,
+            AuditArchive auditArchive,
+            PlatformTransactionManager transactionManager,
+            LockRegistry lockRegistry,
+            @Value("${audit.retention.enabled:false}") boolean enabled,
+            @Value("${audit.retention.days:90}") int retentionDays,
+            @Value("${audit.retention.period:DAY}") AuditArchivePeriod period,
+            @Value("${audit.retention.page-size:1000}") int pageSize,
+            @Value("${audit.retention.max-periods-per-cycle:7}") int maxPeriodsPerCycle) {
+        if (retentionDays <= 0 || pageSize <= 0 || maxPeriodsPerCycle <= 0) {
+            throw new IllegalArgumentException(
+                    "Audit retention days, page size and max periods per cycle must be positive");
+        }
+        if (enabled && !auditArchive.isShared()) {
+            throw new IllegalStateException(
+                    "Audit retention deletes archived rows from the database, so"
+                            + " audit.archive.directory must be durable storage shared by every"
+                            + " node; set audit.archive.shared=true once it is");
+        }
+        this.jpaAuditRecordRepository = jpaAuditRecordRepository;
+        this.auditArchive = auditArchive;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.lockRegistry = lockRegistry;
+        this.enabled = enabled;
+        this.retentionDays = retentionDays;
+        this.period = period;
+        this.pageSize = pageSize;
+        this.maxPeriodsPerCycle = maxPeriodsPerCycle;
+    }
+
+    @Scheduled(
+            initialDelayString = "${audit.retention.initial-delay:60000}",
+            fixedDelayString = "${audit.retention.interval:3600000}")
+    public void archiveExpired() {
+        if (!enabled) {
+            return;
+        }
+
+        Lock lock = lockRegistry.obtain(LOCK_KEY);
+        boolean lockAcquired = false;
+
+        try {
+            lockAcquired = lock.tryLock(1, TimeUnit.SECONDS);
+
+            if (!lockAcquired) {
+                logger.debug("Audit retention is running on another node, skipping this cycle");
+                return;
+            }
+
+            archiveExpiredPeriods();
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.error("Thread interrupted while acquiring lock", e);
+        } catch (Exception e) {
+            logger.error("Audit retention failed, retrying next cycle", e);
+        } finally {
+            if (lockAcquired) {
+                try {
+                    lock.unlock();
+                } catch (Exception e) {
+                    logger.error("Error releasing lock for: {}", LOCK_KEY, e);
+                }
+            }
+        }
+    }
+
+    private void archiveExpiredPeriods() throws IOException {
+        LocalDate cutoff = period.startOf(LocalDate.now().minusDays(retentionDays));
+        for (int cycle = 0; cycle < maxPeriodsPerCycle; cycle++) {
+            LocalDateTime oldest = jpaAuditRecordRepository.findOldestEventTimestamp();
+            if (oldest == null) {
+                return;
+            }
+            LocalDate periodStart = period.startOf(oldest.toLocalDate());
+            if (!periodStart.isBefore(cutoff)) {
+                return;
+            }
+            archivePeriod(periodStart.atStartOfDay(), period.next(periodStart).atStartOfDay());
+        }
+        logger.debug("Audit retention paused, older periods remain for the next cycle");
+    }
+
+    public int archivePeriod(LocalDateTime start, LocalDateTime end) throws IOException {
+        List<String> recordIds = new ArrayList<>();
+        try (AuditSegmentWriter writer = auditArchive.openSegment(start, end)) {
+            List<AuditRecordEntity> page =
+                    jpaAuditRecordRepository.findArchivable(
+                            start, end, PageRequest.of(0, pageSize));
+            while (!page.isEmpty()) {
+                for (AuditRecordEntity entity : page) {
+                    writer.append(AuditRecordMapper.toDomain(entity));
+                    recordIds.add(entity.getRecordId());
+                }
+                if (page.size() < pageSize) {
+                    break;
+                }
+                page =
+                        jpaAuditRecordRepository.findArchivableAfter(
+                                start,
+                                end,
+                                recordIds.get(recordIds.size() - 1),
+                                PageRequest.of(0, pageSize));
+            }
+            writer.seal();
+        }
+
+        transactionTemplate.executeWithoutResult(
+                status -> {
+                    for (int from = 0; from < recordIds.size(); from += DELETE_CHUNK_SIZE) {
+                        int to = Math.min(from + DELETE_CHUNK_SIZE, recordIds.size());
+                        jpaAuditRecordRepository.deleteByRecordIds(recordIds.subList(from, to));
+                    }
+                });
+        archivedCount.addAndGet(recordIds.size());
+        logger.info(
+                "Archived {} audit records for period [{}, {}) into the archive",
+                recordIds.size(),
+                start,
+                end);
+        return recordIds.size();
+    }
+
+    public long getArchivedCount() {
+        return archivedCount.get();
+    }
+}
@@ -0,0 +1,67 @@
+package com.wei.orchestrator.shared.infrastructure.scheduler;
+
+public class OutboxRelayMetrics {
+    private final long outstanding;
+    private final long parked;
+    private final int activeWorkers;
+    private final long relayedCount;
+    private final long retriedCount;
+    private final long failedCount;
+
+    public OutboxRelayMetrics(
+            long outstanding,
+            long parked,
+            int activeWorkers,
+            long relayedCount,
+            long retriedCount,
+            long failedCount) {
+        this.outstanding = outstanding;
+        this.parked = parked;
+        this.activeWorkers = activeWorkers;
+        this.relayedCount = relayedCount;
+        this.retriedCount = retriedCount;
+        this.failedCount = failedCount;
+    }
+
+    public long getOutstanding() {
+        return outstanding;
+    }
+
+    public long getParked() {
+        return parked;
+    }
+
+    public int getActiveWorkers() {
+        return activeWorkers;
+    }
+
+    public long getRelayedCount() {
+        return relayedCount;
+    }
+
+    public long getRetriedCount() {
+        return retriedCount;
+    }
+
+    public long getFailedCount() {
+        return failedCount;
+    }
+
+    @Override
+    public String toString() {
+        return "OutboxRelayMetrics{"
+                + "outstanding="
+                + outstanding
+                + ", parked="
+                + parked
+                + ", activeWorkers="
+                + activeWorkers
+                + ", relayedCount="
+                + relayedCount
+                + ", retriedCount="
+                + retriedCount
+                + ", failedCount="
+                + failedCount
+                + '}';
+    }
+}
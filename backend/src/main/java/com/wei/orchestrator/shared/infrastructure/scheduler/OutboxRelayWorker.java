@@ -0,0 +1,160 @@
+package com.wei.orchestrator.shared.infrastructure.scheduler;
+
+import com.wei.orchestrator.observation.infrastructure.scheduler.ObserverPartitioner;
+import com.wei.orchestrator.shared.application.OutboxApplicationService;
+import com.wei.orchestrator.shared.domain.model.OutboxMessage;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class OutboxRelayWorker {
+    private static final Logger logger = LoggerFactory.getLogger(OutboxRelayWorker.class);
+
+    private final OutboxApplicationService outboxApplicationService;
+    private final ObserverPartitioner observerPartitioner;
+    private final ExecutorService outboxRelayExecutor;
+    private final int relayWorkers;
+    private final int batchSize;
+    private final int maxBatchesPerCycle;
+    private final long claimTimeoutMs;
+    private final long retentionMs;
+    private final String workerId;
+
+    private final AtomicInteger activeWorkers = new AtomicInteger();
+    private final AtomicInteger workerSequence = new AtomicInteger();
+    private final Queue<Integer> idleShards = new ConcurrentLinkedQueue<>();
+    private final AtomicLong outstanding = new AtomicLong();
+    private final AtomicLong parked = new AtomicLong();
+
+    public OutboxRelayWorker(
+            OutboxApplicationService outboxApplicationService,
+            ObserverPartitioner observerPartitioner,
+            @Qualifier("outboxRelayExecutor") ExecutorService outboxRelayExecutor,
+            @Value("${domain-events.outbox.relay-workers:4}") int relayWorkers,
+            @Value("${domain-events.outbox.batch-size:100}") int batchSize,
+            @Value("${domain-events.outbox.max-batches-per-cycle:10}") int maxBatchesPerCycle,
+            @Value("${domain-events.outbox.claim-timeout:300000}") long claimTimeoutMs,
+            @Value("${domain-events.outbox.retention:86400000}") long retentionMs) {
+        if (relayWorkers <= 0) {
+            throw new IllegalArgumentException("Outbox relay workers must be positive");
+        }
+        if (batchSize <= 0 || maxBatchesPerCycle <= 0) {
+            throw new IllegalArgumentException(
+                    "Outbox batch size and max batches per cycle must be positive");
+        }
+        this.outboxApplicationService = outboxApplicationService;
+        this.observerPartitioner = observerPartitioner;
+        this.outboxRelayExecutor = outboxRelayExecutor;
+        this.relayWorkers = relayWorkers;
+        this.batchSize = batchSize;
+        this.maxBatchesPerCycle = maxBatchesPerCycle;
+        this.claimTimeoutMs = claimTimeoutMs;
+        this.retentionMs = retentionMs;
+        this.workerId = "outbox-" + UUID.randomUUID().toString().substring(0, 8);
+        for (int shard = 0; shard < relayWorkers; shard++) {
+            idleShards.add(shard);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${domain-events.outbox.relay-interval:500}")
+    public void relay() {
+        try {
+            outboxApplicationService.releaseStaleClaims(
+                    LocalDateTime.now().minus(Duration.ofMillis(claimTimeoutMs)));
+            refreshDepth();
+
+            if (outstanding.get() == 0) {
+                return;
+            }
+
+            for (int idle = idleShards.size(); idle > 0; idle--) {
+                Integer shard = idleShards.poll();
+                if (shard == null) {
+                    break;
+                }
+                submit(shard);
+            }
+
+        } catch (RejectedExecutionException e) {
+            logger.warn("Outbox relay executor is saturated, remaining workers start next cycle");
+        } catch (Exception e) {
+            logger.error("Unexpected error while relaying the domain event outbox", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${domain-events.outbox.purge-interval:60000}")
+    public void purge() {
+        try {
+            outboxApplicationService.purgeDispatched(
+                    LocalDateTime.now().minus(Duration.ofMillis(retentionMs)));
+        } catch (Exception e) {
+            logger.error("Failed to purge dispatched outbox messages", e);
+        }
+    }
+
+    public OutboxRelayMetrics getMetrics() {
+        return new OutboxRelayMetrics(
+                outstanding.get(),
+                parked.get(),
+                activeWorkers.get(),
+                outboxApplicationService.getRelayedCount(),
+                outboxApplicationService.getRetriedCount(),
+                outboxApplicationService.getFailedCount());
+    }
+
+    private void submit(int localShard) {
+        String claimedBy = workerId + "-" + workerSequence.incrementAndGet();
+        activeWorkers.incrementAndGet();
+        try {
+            outboxRelayExecutor.execute(() -> drain(claimedBy, localShard));
+        } catch (RejectedExecutionException e) {
+            activeWorkers.decrementAndGet();
+            idleShards.add(localShard);
+            throw e;
+        }
+    }
+
+    private void drain(String claimedBy, int localShard) {
+        try {
+            for (int batch = 0; batch < maxBatchesPerCycle; batch++) {
+                List<String> liveNodeIds = observerPartitioner.getLiveNodeIds();
+                int nodeIndex = liveNodeIds.indexOf(observerPartitioner.getNodeId());
+                int nodeCount = nodeIndex >= 0 ? liveNodeIds.size() : 1;
+                List<OutboxMessage> claimed =
+                        outboxApplicationService.claimPending(
+                                batchSize,
+                                Math.max(nodeIndex, 0) * relayWorkers + localShard,
+                                nodeCount * relayWorkers,
+                                claimedBy);
+                outboxApplicationService.relayAll(claimed).join();
+                if (claimed.size() < batchSize) {
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            logger.error("Outbox relay worker {} stopped after an unexpected error", claimedBy, e);
+        } finally {
+            activeWorkers.decrementAndGet();
+            idleShards.add(localShard);
+        }
+    }
+
+    private void refreshDepth() {
+        outstanding.set(outboxApplicationService.countOutstanding());
+        parked.set(outboxApplicationService.countFailed());
+    }
+}
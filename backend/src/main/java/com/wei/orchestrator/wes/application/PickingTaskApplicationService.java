@@ -216,6 +216,7 @@ public class PickingTaskApplicationService {
             return new PickingTaskSubmittedEvent(
                     original.getTaskId(),
                     original.getWesTaskId(),
+                    original.getOrderId(),
                     original.getOrigin(),
                     original.getOccurredAt(),
                     newContext);
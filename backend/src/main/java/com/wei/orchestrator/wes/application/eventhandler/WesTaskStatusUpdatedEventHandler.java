@@ -1,6 +1,7 @@
 package com.wei.orchestrator.wes.application.eventhandler;
 
 import com.wei.orchestrator.observation.domain.event.WesTaskStatusUpdatedEvent;
+import com.wei.orchestrator.shared.application.event.DomainEventDispatcher;
 import com.wei.orchestrator.shared.domain.model.valueobject.TriggerContext;
 import com.wei.orchestrator.wes.application.PickingTaskApplicationService;
 import com.wei.orchestrator.wes.application.command.MarkTaskCanceledCommand;
@@ -12,8 +13,6 @@ import com.wei.orchestrator.wes.domain.repository.PickingTaskRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
@@ -25,17 +24,23 @@ public class WesTaskStatusUpdatedEventHandler {
 
     private final PickingTaskApplicationService pickingTaskApplicationService;
     private final PickingTaskRepository pickingTaskRepository;
+    private final DomainEventDispatcher domainEventDispatcher;
 
     public WesTaskStatusUpdatedEventHandler(
             PickingTaskApplicationService pickingTaskApplicationService,
-            PickingTaskRepository pickingTaskRepository) {
+            PickingTaskRepository pickingTaskRepository,
+            DomainEventDispatcher domainEventDispatcher) {
         this.pickingTaskApplicationService = pickingTaskApplicationService;
         this.pickingTaskRepository = pickingTaskRepository;
+        this.domainEventDispatcher = domainEventDispatcher;
     }
 
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void handleWesTaskStatusUpdated(WesTaskStatusUpdatedEvent event) {
+        domainEventDispatcher.dispatch(event.getTaskId(), () -> processWesTaskStatusUpdated(event));
+    }
+
+    private void processWesTaskStatusUpdated(WesTaskStatusUpdatedEvent event) {
         String taskId = event.getTaskId();
         TriggerContext triggerContext = event.getTriggerContext();
 
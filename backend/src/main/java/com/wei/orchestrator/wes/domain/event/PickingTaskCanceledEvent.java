@@ -1,11 +1,13 @@
 package com.wei.orchestrator.wes.domain.event;
 
-import com.wei.orchestrator.shared.domain.event.DomainEvent;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.wei.orchestrator.shared.domain.event.CrossContextEvent;
 import com.wei.orchestrator.shared.domain.model.valueobject.TriggerContext;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
-public final class PickingTaskCanceledEvent implements DomainEvent {
+public final class PickingTaskCanceledEvent implements CrossContextEvent {
     private final String taskId;
     private final String wesTaskId;
     private final String orderId;
@@ -29,13 +31,14 @@ public final class PickingTaskCanceledEvent implements DomainEvent {
         this.triggerContext = null;
     }
 
+    @JsonCreator
     public PickingTaskCanceledEvent(
-            String taskId,
-            String wesTaskId,
-            String orderId,
-            String reason,
-            LocalDateTime occurredAt,
-            TriggerContext triggerContext) {
+            @JsonProperty("taskId") String taskId,
+            @JsonProperty("wesTaskId") String wesTaskId,
+            @JsonProperty("orderId") String orderId,
+            @JsonProperty("reason") String reason,
+            @JsonProperty("occurredAt") LocalDateTime occurredAt,
+            @JsonProperty("triggerContext") TriggerContext triggerContext) {
         this.taskId = taskId;
         this.wesTaskId = wesTaskId;
         this.orderId = orderId;
@@ -54,6 +57,7 @@ public final class PickingTaskCanceledEvent implements DomainEvent {
         return wesTaskId;
     }
 
+    @Override
     public String getOrderId() {
         return orderId;
     }
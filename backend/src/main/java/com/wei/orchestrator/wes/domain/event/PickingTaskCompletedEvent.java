@@ -1,11 +1,13 @@
 package com.wei.orchestrator.wes.domain.event;
 
-import com.wei.orchestrator.shared.domain.event.DomainEvent;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.wei.orchestrator.shared.domain.event.CrossContextEvent;
 import com.wei.orchestrator.shared.domain.model.valueobject.TriggerContext;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
-public final class PickingTaskCompletedEvent implements DomainEvent {
+public final class PickingTaskCompletedEvent implements CrossContextEvent {
     private final String taskId;
     private final String wesTaskId;
     private final String orderId;
@@ -23,12 +25,13 @@ public final class PickingTaskCompletedEvent implements DomainEvent {
         this.triggerContext = null;
     }
 
+    @JsonCreator
     public PickingTaskCompletedEvent(
-            String taskId,
-            String wesTaskId,
-            String orderId,
-            LocalDateTime occurredAt,
-            TriggerContext triggerContext) {
+            @JsonProperty("taskId") String taskId,
+            @JsonProperty("wesTaskId") String wesTaskId,
+            @JsonProperty("orderId") String orderId,
+            @JsonProperty("occurredAt") LocalDateTime occurredAt,
+            @JsonProperty("triggerContext") TriggerContext triggerContext) {
         this.taskId = taskId;
         this.wesTaskId = wesTaskId;
         this.orderId = orderId;
@@ -46,6 +49,7 @@ public final class PickingTaskCompletedEvent implements DomainEvent {
         return wesTaskId;
     }
 
+    @Override
     public String getOrderId() {
         return orderId;
     }
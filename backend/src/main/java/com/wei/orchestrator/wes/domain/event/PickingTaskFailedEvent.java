@@ -1,12 +1,14 @@
 package com.wei.orchestrator.wes.domain.event;
 
-import com.wei.orchestrator.shared.domain.event.DomainEvent;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.wei.orchestrator.shared.domain.event.CrossContextEvent;
 import com.wei.orchestrator.shared.domain.model.valueobject.TriggerContext;
 import com.wei.orchestrator.wes.domain.model.valueobject.TaskOrigin;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
-public final class PickingTaskFailedEvent implements DomainEvent {
+public final class PickingTaskFailedEvent implements CrossContextEvent {
     private final String taskId;
     private final String wesTaskId;
     private final String orderId;
@@ -33,14 +35,15 @@ public final class PickingTaskFailedEvent implements DomainEvent {
         this.triggerContext = null;
     }
 
+    @JsonCreator
     public PickingTaskFailedEvent(
-            String taskId,
-            String wesTaskId,
-            String orderId,
-            TaskOrigin origin,
-            String reason,
-            LocalDateTime occurredAt,
-            TriggerContext triggerContext) {
+            @JsonProperty("taskId") String taskId,
+            @JsonProperty("wesTaskId") String wesTaskId,
+            @JsonProperty("orderId") String orderId,
+            @JsonProperty("origin") TaskOrigin origin,
+            @JsonProperty("reason") String reason,
+            @JsonProperty("occurredAt") LocalDateTime occurredAt,
+            @JsonProperty("triggerContext") TriggerContext triggerContext) {
         this.taskId = taskId;
         this.wesTaskId = wesTaskId;
         this.orderId = orderId;
@@ -60,6 +63,7 @@ public final class PickingTaskFailedEvent implements DomainEvent {
         return wesTaskId;
     }
 
+    @Override
     public String getOrderId() {
         return orderId;
     }
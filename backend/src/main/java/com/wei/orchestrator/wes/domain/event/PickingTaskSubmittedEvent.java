@@ -1,37 +1,48 @@
 package com.wei.orchestrator.wes.domain.event;
 
-import com.wei.orchestrator.shared.domain.event.DomainEvent;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.wei.orchestrator.shared.domain.event.CrossContextEvent;
 import com.wei.orchestrator.shared.domain.model.valueobject.TriggerContext;
 import com.wei.orchestrator.wes.domain.model.valueobject.TaskOrigin;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
-public final class PickingTaskSubmittedEvent implements DomainEvent {
+public final class PickingTaskSubmittedEvent implements CrossContextEvent {
     private final String taskId;
     private final String wesTaskId;
+    private final String orderId;
     private final TaskOrigin origin;
     private final LocalDateTime occurredAt;
     private final UUID correlationId;
     private final TriggerContext triggerContext;
 
     public PickingTaskSubmittedEvent(
-            String taskId, String wesTaskId, TaskOrigin origin, LocalDateTime occurredAt) {
+            String taskId,
+            String wesTaskId,
+            String orderId,
+            TaskOrigin origin,
+            LocalDateTime occurredAt) {
         this.taskId = taskId;
         this.wesTaskId = wesTaskId;
+        this.orderId = orderId;
         this.origin = origin;
         this.occurredAt = occurredAt;
         this.correlationId = UUID.randomUUID();
         this.triggerContext = null;
     }
 
+    @JsonCreator
     public PickingTaskSubmittedEvent(
-            String taskId,
-            String wesTaskId,
-            TaskOrigin origin,
-            LocalDateTime occurredAt,
-            TriggerContext triggerContext) {
+            @JsonProperty("taskId") String taskId,
+            @JsonProperty("wesTaskId") String wesTaskId,
+            @JsonProperty("orderId") String orderId,
+            @JsonProperty("origin") TaskOrigin origin,
+            @JsonProperty("occurredAt") LocalDateTime occurredAt,
+            @JsonProperty("triggerContext") TriggerContext triggerContext) {
         this.taskId = taskId;
         this.wesTaskId = wesTaskId;
+        this.orderId = orderId;
         this.origin = origin;
         this.occurredAt = occurredAt;
         this.triggerContext = triggerContext;
@@ -47,6 +58,11 @@ public final class PickingTaskSubmittedEvent implements DomainEvent {
         return wesTaskId;
     }
 
+    @Override
+    public String getOrderId() {
+        return orderId;
+    }
+
     public TaskOrigin getOrigin() {
         return origin;
     }
@@ -126,7 +126,11 @@ public class PickingTask {
 
         addDomainEvent(
                 new PickingTaskSubmittedEvent(
-                        this.taskId, wesTaskId.getValue(), this.origin, this.submittedAt));
+                        this.taskId,
+                        wesTaskId.getValue(),
+                        this.orderId,
+                        this.origin,
+                        this.submittedAt));
     }
 
     public void updateStatusFromWes(TaskStatus newStatus) {
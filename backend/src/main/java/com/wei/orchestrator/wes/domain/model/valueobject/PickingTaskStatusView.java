@@ -0,0 +1,65 @@
+package com.wei.orchestrator.wes.domain.model.valueobject;
+
+import java.util.Objects;
+
+public final class PickingTaskStatusView {
+    private final String taskId;
+    private final String wesTaskId;
+    private final TaskStatus status;
+
+    public PickingTaskStatusView(String taskId, String wesTaskId, TaskStatus status) {
+        if (taskId == null || taskId.isBlank()) {
+            throw new IllegalArgumentException("Task ID cannot be null or blank");
+        }
+        if (wesTaskId == null || wesTaskId.isBlank()) {
+            throw new IllegalArgumentException("WES task ID cannot be null or blank");
+        }
+        if (status == null) {
+            throw new IllegalArgumentException("Task status cannot be null");
+        }
+        this.taskId = taskId;
+        this.wesTaskId = wesTaskId;
+        this.status = status;
+    }
+
+    public String getTaskId() {
+        return taskId;
+    }
+
+    public String getWesTaskId() {
+        return wesTaskId;
+    }
+
+    public TaskStatus getStatus() {
+        return status;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        PickingTaskStatusView that = (PickingTaskStatusView) o;
+        return Objects.equals(taskId, that.taskId)
+                && Objects.equals(wesTaskId, that.wesTaskId)
+                && status == that.status;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(taskId, wesTaskId, status);
+    }
+
+    @Override
+    public String toString() {
+        return "PickingTaskStatusView{"
+                + "taskId='"
+                + taskId
+                + '\''
+                + ", wesTaskId='"
+                + wesTaskId
+                + '\''
+                + ", status="
+                + status
+                + '}';
+    }
+}
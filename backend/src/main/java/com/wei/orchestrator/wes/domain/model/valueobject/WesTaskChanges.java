@@ -0,0 +1,54 @@
+package com.wei.orchestrator.wes.domain.model.valueobject;
+
+import com.wei.orchestrator.wes.infrastructure.adapter.dto.WesTaskDto;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public final class WesTaskChanges {
+    private final List<WesTaskDto> tasks;
+    private final String cursor;
+    private final boolean fullSnapshot;
+
+    public WesTaskChanges(List<WesTaskDto> tasks, String cursor, boolean fullSnapshot) {
+        if (tasks == null) {
+            throw new IllegalArgumentException("Tasks cannot be null");
+        }
+        this.tasks = new ArrayList<>(tasks);
+        this.cursor = cursor;
+        this.fullSnapshot = fullSnapshot;
+    }
+
+    public static WesTaskChanges fullSnapshot(List<WesTaskDto> tasks, String cursor) {
+        return new WesTaskChanges(tasks, cursor, true);
+    }
+
+    public static WesTaskChanges incremental(List<WesTaskDto> tasks, String cursor) {
+        return new WesTaskChanges(tasks, cursor, false);
+    }
+
+    public List<WesTaskDto> getTasks() {
+        return Collections.unmodifiableList(tasks);
+    }
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    public boolean isFullSnapshot() {
+        return fullSnapshot;
+    }
+
+    @Override
+    public String toString() {
+        return "WesTaskChanges{"
+                + "tasks="
+                + tasks.size()
+                + ", cursor='"
+                + cursor
+                + '\''
+                + ", fullSnapshot="
+                + fullSnapshot
+                + '}';
+    }
+}
@@ -2,11 +2,13 @@ package com.wei.orchestrator.wes.domain.port;
 
 import com.wei.orchestrator.wes.domain.model.PickingTask;
 import com.wei.orchestrator.wes.domain.model.valueobject.TaskStatus;
+import com.wei.orchestrator.wes.domain.model.valueobject.WesTaskChanges;
 import com.wei.orchestrator.wes.domain.model.valueobject.WesTaskId;
 import com.wei.orchestrator.wes.infrastructure.adapter.dto.WesInventoryDto;
 import com.wei.orchestrator.wes.infrastructure.adapter.dto.WesTaskDto;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface WesPort {
     WesTaskId submitPickingTask(PickingTask task);
@@ -19,5 +21,11 @@ public interface WesPort {
 
     List<WesTaskDto> pollAllTasks();
 
+    WesTaskChanges pollTaskChanges(String sinceCursor);
+
     List<WesInventoryDto> getInventorySnapshot();
+
+    List<WesInventoryDto> getInventoryBySku(String sku, String warehouseId);
+
+    void streamInventorySnapshot(Consumer<WesInventoryDto> consumer);
 }
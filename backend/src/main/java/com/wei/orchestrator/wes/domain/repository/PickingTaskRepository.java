@@ -1,9 +1,12 @@
 package com.wei.orchestrator.wes.domain.repository;
 
 import com.wei.orchestrator.wes.domain.model.PickingTask;
+import com.wei.orchestrator.wes.domain.model.valueobject.PickingTaskStatusView;
 import com.wei.orchestrator.wes.domain.model.valueobject.TaskStatus;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface PickingTaskRepository {
     PickingTask save(PickingTask pickingTask);
@@ -18,5 +21,9 @@ public interface PickingTaskRepository {
 
     List<PickingTask> findByWesTaskId(String wesTaskId);
 
+    List<PickingTaskStatusView> findNonTerminalStatusViews();
+
+    Set<String> findExistingWesTaskIds(Collection<String> wesTaskIds);
+
     void deleteById(String taskId);
 }
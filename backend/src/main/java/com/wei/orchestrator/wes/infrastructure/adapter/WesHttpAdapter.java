@@ -1,17 +1,23 @@
 package com.wei.orchestrator.wes.infrastructure.adapter;
 
+import com.wei.orchestrator.shared.infrastructure.json.JsonArrayStreamReader;
 import com.wei.orchestrator.wes.domain.exception.*;
 import com.wei.orchestrator.wes.domain.model.PickingTask;
 import com.wei.orchestrator.wes.domain.model.valueobject.TaskStatus;
+import com.wei.orchestrator.wes.domain.model.valueobject.WesTaskChanges;
 import com.wei.orchestrator.wes.domain.model.valueobject.WesTaskId;
 import com.wei.orchestrator.wes.domain.port.WesPort;
 import com.wei.orchestrator.wes.infrastructure.adapter.dto.*;
+import java.net.URI;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
@@ -19,12 +25,16 @@ import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
 
 @Component
 public class WesHttpAdapter implements WesPort {
 
     private static final Logger logger = LoggerFactory.getLogger(WesHttpAdapter.class);
 
+    private static final JsonArrayStreamReader<WesInventoryDto> INVENTORY_READER =
+            new JsonArrayStreamReader<>(WesInventoryDto.class, "inventory");
+
     private final RestTemplate restTemplate;
     private final String wesBaseUrl;
 
@@ -248,11 +258,7 @@ public class WesHttpAdapter implements WesPort {
                 return List.of();
             }
 
-            List<WesTaskDto> tasks = response.getBody().getTasks();
-
-            return tasks.stream()
-                    .peek(t -> t.setStatus(mapWesStatusToTaskStatus(t.getStatus()).toString()))
-                    .toList();
+            return withTaskStatuses(response.getBody().getTasks());
 
         } catch (HttpClientErrorException.NotFound e) {
             logger.error("WES tasks endpoint not found", e);
@@ -272,6 +278,58 @@ public class WesHttpAdapter implements WesPort {
         }
     }
 
+    @Override
+    public WesTaskChanges pollTaskChanges(String sinceCursor) {
+        try {
+            UriComponentsBuilder uriBuilder =
+                    UriComponentsBuilder.fromUriString(wesBaseUrl).path("/api/tasks/poll");
+            if (sinceCursor != null) {
+                uriBuilder.queryParam("since", sinceCursor);
+            }
+            URI uri = uriBuilder.encode().build().toUri();
+
+            logger.debug("Polling task changes from WES since: {}", sinceCursor);
+
+            ResponseEntity<WesTaskListResponse> response =
+                    restTemplate.getForEntity(uri, WesTaskListResponse.class);
+
+            WesTaskListResponse body = response.getBody();
+            if (body == null || body.getTasks() == null) {
+                logger.warn("WES API returned null body or tasks for task changes");
+                return new WesTaskChanges(List.of(), sinceCursor, sinceCursor == null);
+            }
+
+            List<WesTaskDto> tasks = withTaskStatuses(body.getTasks());
+            boolean fullSnapshot =
+                    body.getFull() != null ? body.getFull() : sinceCursor == null;
+
+            logger.debug(
+                    "Fetched {} task changes from WES (full: {}, cursor: {})",
+                    tasks.size(),
+                    fullSnapshot,
+                    body.getCursor());
+
+            return new WesTaskChanges(tasks, body.getCursor(), fullSnapshot);
+
+        } catch (HttpClientErrorException.NotFound e) {
+            logger.error("WES task changes endpoint not found", e);
+            throw new WesOperationException("WES task changes endpoint not found", e);
+
+        } catch (HttpServerErrorException e) {
+            logger.error("WES server error during task changes polling", e);
+            throw new WesOperationException("WES server error during task changes polling", e);
+
+        } catch (ResourceAccessException e) {
+            logger.error("WES communication timeout during task changes polling", e);
+            throw new WesTimeoutException(
+                    "WES communication timeout during task changes polling", e);
+
+        } catch (RestClientException e) {
+            logger.error("Failed to poll task changes from WES", e);
+            throw new WesOperationException("Failed to poll task changes from WES", e);
+        }
+    }
+
     @Override
     public List<WesInventoryDto> getInventorySnapshot() {
         try {
@@ -311,6 +369,92 @@ public class WesHttpAdapter implements WesPort {
         }
     }
 
+    @Override
+    public List<WesInventoryDto> getInventoryBySku(String sku, String warehouseId) {
+        try {
+            URI uri =
+                    UriComponentsBuilder.fromUriString(wesBaseUrl)
+                            .path("/api/inventory/{sku}")
+                            .queryParam("warehouse_id", warehouseId)
+                            .encode()
+                            .buildAndExpand(sku)
+                            .toUri();
+
+            logger.debug("Fetching WES inventory: sku={}, warehouseId={}", sku, warehouseId);
+
+            ResponseEntity<WesInventoryResponse> response =
+                    restTemplate.getForEntity(uri, WesInventoryResponse.class);
+
+            if (response.getBody() == null || response.getBody().getInventory() == null) {
+                return List.of();
+            }
+            return response.getBody().getInventory();
+
+        } catch (HttpClientErrorException.NotFound e) {
+            logger.debug("WES has no inventory: sku={}, warehouseId={}", sku, warehouseId);
+            return List.of();
+
+        } catch (HttpServerErrorException e) {
+            logger.error("WES server error during inventory fetch: sku={}", sku, e);
+            throw new WesOperationException("WES server error during inventory fetch", e);
+
+        } catch (ResourceAccessException e) {
+            logger.error("WES communication timeout during inventory fetch: sku={}", sku, e);
+            throw new WesTimeoutException("WES communication timeout during inventory fetch", e);
+
+        } catch (RestClientException e) {
+            logger.error("Failed to fetch inventory from WES: sku={}", sku, e);
+            throw new WesOperationException("Failed to fetch inventory from WES", e);
+        }
+    }
+
+    @Override
+    public void streamInventorySnapshot(Consumer<WesInventoryDto> consumer) {
+        try {
+            String url = wesBaseUrl + "/api/inventory";
+
+            logger.debug("Streaming inventory snapshot from WES");
+
+            JsonArrayStreamReader.Envelope envelope =
+                    restTemplate.execute(
+                            url,
+                            HttpMethod.GET,
+                            request ->
+                                    request.getHeaders()
+                                            .setAccept(List.of(MediaType.APPLICATION_JSON)),
+                            response -> INVENTORY_READER.read(response.getBody(), consumer));
+
+            if (envelope == null || !envelope.isArrayPresent()) {
+                logger.warn("WES API returned null body or inventory for inventory snapshot");
+                throw new WesOperationException("WES inventory response contained no inventory");
+            }
+
+            logger.info("Streamed {} inventory items from WES", envelope.getElementCount());
+
+        } catch (HttpClientErrorException.NotFound e) {
+            logger.error("WES inventory endpoint not found", e);
+            throw new WesOperationException("WES inventory endpoint not found", e);
+
+        } catch (HttpServerErrorException e) {
+            logger.error("WES server error during inventory fetch", e);
+            throw new WesOperationException("WES server error during inventory fetch", e);
+
+        } catch (ResourceAccessException e) {
+            logger.error("WES communication timeout during inventory fetch", e);
+            throw new WesTimeoutException("WES communication timeout during inventory fetch", e);
+
+        } catch (RestClientException e) {
+            logger.error("Failed to fetch inventory from WES", e);
+            throw new WesOperationException("Failed to fetch inventory from WES", e);
+        }
+    }
+
+    private List<WesTaskDto> withTaskStatuses(List<WesTaskDto> tasks) {
+        return tasks.stream()
+                .peek(t -> t.setStatus(mapWesStatusToTaskStatus(t.getStatus()).toString()))
+                .toList();
+    }
+
     private TaskStatus mapWesStatusToTaskStatus(String wesStatus) {
         if (wesStatus == null) {
             return TaskStatus.PENDING;
@@ -7,6 +7,12 @@ public class WesTaskListResponse {
     @JsonProperty("count")
     private Integer count;
 
+    @JsonProperty("cursor")
+    private String cursor;
+
+    @JsonProperty("full")
+    private Boolean full;
+
     @JsonProperty("tasks")
     private List<WesTaskDto> tasks;
 
@@ -27,4 +33,20 @@ public class WesTaskListResponse {
     public void setTasks(List<WesTaskDto> tasks) {
         this.tasks = tasks;
     }
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    public void setCursor(String cursor) {
+        this.cursor = cursor;
+    }
+
+    public Boolean getFull() {
+        return full;
+    }
+
+    public void setFull(Boolean full) {
+        this.full = full;
+    }
 }
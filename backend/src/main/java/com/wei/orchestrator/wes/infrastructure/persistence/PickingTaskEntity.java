@@ -6,7 +6,14 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "picking_tasks")
+@Table(
+        name = "picking_tasks",
+        indexes = {
+            @Index(
+                    name = "idx_picking_tasks_status_wes",
+                    columnList = "status, wes_task_id, task_id"),
+            @Index(name = "idx_picking_tasks_wes_task_id", columnList = "wes_task_id")
+        })
 public class PickingTaskEntity {
     @Id
     @Column(name = "task_id", length = 100)
@@ -1,9 +1,13 @@
 package com.wei.orchestrator.wes.infrastructure.repository;
 
+import com.wei.orchestrator.wes.domain.model.valueobject.PickingTaskStatusView;
 import com.wei.orchestrator.wes.domain.model.valueobject.TaskStatus;
 import com.wei.orchestrator.wes.infrastructure.persistence.PickingTaskEntity;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -15,4 +19,17 @@ public interface JpaPickingTaskRepository extends JpaRepository<PickingTaskEntit
     List<PickingTaskEntity> findByWesTaskId(String wesTaskId);
 
     boolean existsByWesTaskId(String wesTaskId);
+
+    @Query(
+            "SELECT new com.wei.orchestrator.wes.domain.model.valueobject.PickingTaskStatusView("
+                    + "t.taskId, t.wesTaskId, t.status) FROM PickingTaskEntity t"
+                    + " WHERE t.status IN :statuses AND t.wesTaskId IS NOT NULL")
+    List<PickingTaskStatusView> findStatusViewsByStatusIn(
+            @Param("statuses") Collection<TaskStatus> statuses);
+
+    @Query(
+            "SELECT DISTINCT t.wesTaskId FROM PickingTaskEntity t"
+                    + " WHERE t.wesTaskId IN :wesTaskIds")
+    List<String> findWesTaskIdsByWesTaskIdIn(
+            @Param("wesTaskIds") Collection<String> wesTaskIds);
 }
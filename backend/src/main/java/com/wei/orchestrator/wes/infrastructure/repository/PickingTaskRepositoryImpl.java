@@ -1,13 +1,20 @@
 package com.wei.orchestrator.wes.infrastructure.repository;
 
 import com.wei.orchestrator.wes.domain.model.PickingTask;
+import com.wei.orchestrator.wes.domain.model.valueobject.PickingTaskStatusView;
 import com.wei.orchestrator.wes.domain.model.valueobject.TaskStatus;
 import com.wei.orchestrator.wes.domain.repository.PickingTaskRepository;
 import com.wei.orchestrator.wes.infrastructure.mapper.PickingTaskMapper;
 import com.wei.orchestrator.wes.infrastructure.persistence.PickingTaskEntity;
 import com.wei.orchestrator.wes.infrastructure.persistence.TaskItemEntity;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -15,6 +22,10 @@ import org.springframework.transaction.annotation.Transactional;
 @Component
 public class PickingTaskRepositoryImpl implements PickingTaskRepository {
 
+    private static final int IN_CLAUSE_BATCH_SIZE = 1000;
+    private static final List<TaskStatus> NON_TERMINAL_STATUSES =
+            Arrays.stream(TaskStatus.values()).filter(status -> !status.isTerminal()).toList();
+
     private final JpaPickingTaskRepository jpaPickingTaskRepository;
     private final JpaTaskItemRepository jpaTaskItemRepository;
 
@@ -109,6 +120,28 @@ public class PickingTaskRepositoryImpl implements PickingTaskRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<PickingTaskStatusView> findNonTerminalStatusViews() {
+        return jpaPickingTaskRepository.findStatusViewsByStatusIn(NON_TERMINAL_STATUSES);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Set<String> findExistingWesTaskIds(Collection<String> wesTaskIds) {
+        List<String> candidates = new ArrayList<>(new LinkedHashSet<>(wesTaskIds));
+        Set<String> existing = new HashSet<>();
+
+        for (int from = 0; from < candidates.size(); from += IN_CLAUSE_BATCH_SIZE) {
+            int to = Math.min(from + IN_CLAUSE_BATCH_SIZE, candidates.size());
+            existing.addAll(
+                    jpaPickingTaskRepository.findWesTaskIdsByWesTaskIdIn(
+                            candidates.subList(from, to)));
+        }
+
+        return existing;
+    }
+
     @Override
     @Transactional
     public void deleteById(String taskId) {
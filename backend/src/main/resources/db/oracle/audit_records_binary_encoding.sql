@@ -0,0 +1,11 @@
+-- Prepares audit_records for binary-encoded payloads (audit.codec.*).
+-- Hibernate ddl-auto adds the new columns but never relaxes NOT NULL, so run this
+-- before deploying; rows written earlier keep their JSON CLOBs and stay readable.
+
+ALTER TABLE audit_records MODIFY (event_metadata NULL, payload NULL);
+
+ALTER TABLE audit_records ADD (
+    payload_encoding VARCHAR2(16),
+    metadata_data BLOB,
+    payload_data BLOB
+);
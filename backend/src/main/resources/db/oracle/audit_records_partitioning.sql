@@ -0,0 +1,19 @@
+-- Converts audit_records to daily interval partitions on event_timestamp (Oracle 12.2+).
+-- Run once per environment; Hibernate ddl-auto cannot express partitioning.
+-- Switch NUMTODSINTERVAL(1, 'DAY') to NUMTODSINTERVAL(7, 'DAY') for audit.retention.period=WEEK.
+
+ALTER TABLE audit_records MODIFY
+    PARTITION BY RANGE (event_timestamp)
+    INTERVAL (NUMTODSINTERVAL(1, 'DAY'))
+    (PARTITION audit_records_p0 VALUES LESS THAN (TIMESTAMP '2024-01-01 00:00:00'))
+    ONLINE
+    UPDATE INDEXES (
+        idx_audit_order_id LOCAL,
+        idx_audit_correlation_id LOCAL
+    );
+
+-- After AuditRetentionWorker has archived and deleted a period, its empty partition
+-- can be dropped without touching the hot partitions:
+--
+-- ALTER TABLE audit_records DROP PARTITION FOR (TIMESTAMP '2024-01-01 00:00:00')
+--     UPDATE INDEXES;
@@ -0,0 +1,8 @@
+-- Adds the claim shard column to domain_event_outbox (domain-events.outbox.relay-workers).
+-- Hibernate ddl-auto cannot add a NOT NULL column to a populated table, so run this
+-- before deploying; rows written earlier land in slot 0 and keep their per-order order.
+
+ALTER TABLE domain_event_outbox ADD (partition_slot NUMBER(10) DEFAULT 0 NOT NULL);
+
+CREATE INDEX idx_outbox_partition_slot
+    ON domain_event_outbox (status, partition_slot, message_id);
@@ -11,7 +11,10 @@ import com.wei.orchestrator.inventory.domain.exception.ReservationNotFoundExcept
 import com.wei.orchestrator.inventory.domain.model.valueobject.ExternalReservationId;
 import com.wei.orchestrator.inventory.infrastructure.adapter.InventoryHttpAdapter;
 import com.wei.orchestrator.inventory.infrastructure.adapter.dto.CreateReservationResponse;
+import com.wei.orchestrator.inventory.infrastructure.adapter.dto.InventorySnapshotDto;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -418,4 +421,83 @@ class InventoryHttpAdapterIntegrationTest {
             mockServer.verify();
         }
     }
+
+    @Nested
+    class StreamInventorySnapshotTests {
+
+        @Test
+        void shouldStreamEachInventoryRowToConsumer() {
+            String responseJson =
+                    "{\"success\":true,\"count\":2,\"data\":["
+                            + "{\"SKU\":\"SKU-001\",\"WAREHOUSE_ID\":\"WH-01\","
+                            + "\"AVAILABLE_QUANTITY\":10,\"EXTRA\":{\"ignored\":true}},"
+                            + "{\"SKU\":\"SKU-002\",\"WAREHOUSE_ID\":\"WH-01\","
+                            + "\"AVAILABLE_QUANTITY\":20}]}";
+
+            mockServer
+                    .expect(requestTo(inventoryApiBaseUrl + "/api/inventory"))
+                    .andExpect(method(HttpMethod.GET))
+                    .andRespond(withSuccess(responseJson, MediaType.APPLICATION_JSON));
+
+            List<InventorySnapshotDto> streamed = new ArrayList<>();
+            inventoryHttpAdapter.streamInventorySnapshot(streamed::add);
+
+            assertEquals(2, streamed.size());
+            assertEquals("SKU-001", streamed.get(0).getSku());
+            assertEquals(20, streamed.get(1).getAvailableQuantity());
+            mockServer.verify();
+        }
+
+        @Test
+        void shouldThrowInventorySystemExceptionWhenResponseIsNotSuccessful() {
+            mockServer
+                    .expect(requestTo(inventoryApiBaseUrl + "/api/inventory"))
+                    .andExpect(method(HttpMethod.GET))
+                    .andRespond(
+                            withSuccess(
+                                    "{\"success\":false,\"message\":\"unavailable\"}",
+                                    MediaType.APPLICATION_JSON));
+
+            assertThrows(
+                    InventorySystemException.class,
+                    () -> inventoryHttpAdapter.streamInventorySnapshot(dto -> {}));
+            mockServer.verify();
+        }
+
+        @Test
+        void shouldFailWhenFailureFlagFollowsStreamedData() {
+            String responseJson =
+                    "{\"data\":[{\"SKU\":\"SKU-001\",\"WAREHOUSE_ID\":\"WH-01\","
+                            + "\"AVAILABLE_QUANTITY\":10}],\"success\":false}";
+
+            mockServer
+                    .expect(requestTo(inventoryApiBaseUrl + "/api/inventory"))
+                    .andExpect(method(HttpMethod.GET))
+                    .andRespond(withSuccess(responseJson, MediaType.APPLICATION_JSON));
+
+            List<InventorySnapshotDto> streamed = new ArrayList<>();
+            assertThrows(
+                    InventorySystemException.class,
+                    () -> inventoryHttpAdapter.streamInventorySnapshot(streamed::add));
+
+            assertEquals(1, streamed.size());
+            mockServer.verify();
+        }
+
+        @Test
+        void shouldThrowInventorySystemExceptionOnServerError() {
+            mockServer
+                    .expect(requestTo(inventoryApiBaseUrl + "/api/inventory"))
+                    .andExpect(method(HttpMethod.GET))
+                    .andRespond(withServerError());
+
+            InventorySystemException exception =
+                    assertThrows(
+                            InventorySystemException.class,
+                            () -> inventoryHttpAdapter.streamInventorySnapshot(dto -> {}));
+
+            assertTrue(exception.getMessage().contains("Error getting inventory snapshot"));
+            mockServer.verify();
+        }
+    }
 }
@@ -2,6 +2,7 @@ package com.wei.orchestrator.integration.observation.application;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.when;
 
 import com.wei.orchestrator.observation.application.OrderObserverApplicationService;
@@ -10,6 +11,8 @@ import com.wei.orchestrator.observation.application.command.PollOrderSourceComma
 import com.wei.orchestrator.observation.domain.model.OrderObserver;
 import com.wei.orchestrator.observation.domain.model.valueobject.ObservationResult;
 import com.wei.orchestrator.observation.domain.model.valueobject.ObservedOrderItem;
+import com.wei.orchestrator.observation.domain.model.valueobject.OrderSourcePage;
+import com.wei.orchestrator.observation.domain.model.valueobject.OrderSourceWatermark;
 import com.wei.orchestrator.observation.domain.port.OrderSourcePort;
 import com.wei.orchestrator.observation.domain.repository.OrderObserverRepository;
 import com.wei.orchestrator.shared.domain.model.valueobject.TriggerContext;
@@ -153,7 +156,8 @@ class OrderObserverApplicationServiceIntegrationTest {
             orderObserverApplicationService.createOrderObserver(createCommand);
 
             List<ObservationResult> mockResults = createMockObservationResults(2);
-            when(orderSourcePort.fetchNewOrders(any(), any())).thenReturn(mockResults);
+            when(orderSourcePort.fetchNewOrders(any(), any(), anyInt()))
+                    .thenReturn(pageOf(mockResults));
 
             PollOrderSourceCommand pollCommand = new PollOrderSourceCommand("observer-poll-1");
             orderObserverApplicationService.pollOrderSource(pollCommand, TriggerContext.manual());
@@ -176,7 +180,8 @@ class OrderObserverApplicationServiceIntegrationTest {
             orderObserverApplicationService.createOrderObserver(createCommand);
 
             List<ObservationResult> mockResults1 = createMockObservationResults(1);
-            when(orderSourcePort.fetchNewOrders(any(), any())).thenReturn(mockResults1);
+            when(orderSourcePort.fetchNewOrders(any(), any(), anyInt()))
+                    .thenReturn(pageOf(mockResults1));
 
             PollOrderSourceCommand pollCommand = new PollOrderSourceCommand("observer-poll-2");
             orderObserverApplicationService.pollOrderSource(pollCommand, TriggerContext.manual());
@@ -194,7 +199,8 @@ class OrderObserverApplicationServiceIntegrationTest {
             }
 
             List<ObservationResult> mockResults2 = createMockObservationResults(2);
-            when(orderSourcePort.fetchNewOrders(any(), any())).thenReturn(mockResults2);
+            when(orderSourcePort.fetchNewOrders(any(), any(), anyInt()))
+                    .thenReturn(pageOf(mockResults2));
 
             orderObserverApplicationService.pollOrderSource(pollCommand, TriggerContext.manual());
 
@@ -266,46 +272,6 @@ class OrderObserverApplicationServiceIntegrationTest {
         }
     }
 
-    @Nested
-    class pollAllActiveObservers {
-
-        @Test
-        void shouldPollOnlyActiveObservers() {
-            CreateOrderObserverCommand command1 =
-                    new CreateOrderObserverCommand(
-                            "observer-all-1",
-                            "jdbc:oracle:thin:@localhost:1521:XE",
-                            "user1",
-                            "pass1",
-                            60);
-            CreateOrderObserverCommand command2 =
-                    new CreateOrderObserverCommand(
-                            "observer-all-2",
-                            "jdbc:oracle:thin:@localhost:1521:XE",
-                            "user2",
-                            "pass2",
-                            60);
-
-            orderObserverApplicationService.createOrderObserver(command1);
-            orderObserverApplicationService.createOrderObserver(command2);
-
-            orderObserverApplicationService.deactivateObserver("observer-all-2");
-
-            List<ObservationResult> mockResults = createMockObservationResults(1);
-            when(orderSourcePort.fetchNewOrders(any(), any())).thenReturn(mockResults);
-
-            orderObserverApplicationService.pollAllActiveObservers();
-
-            Optional<OrderObserver> observer1 = orderObserverRepository.findById("observer-all-1");
-            Optional<OrderObserver> observer2 = orderObserverRepository.findById("observer-all-2");
-
-            assertTrue(observer1.isPresent());
-            assertTrue(observer2.isPresent());
-            assertNotNull(observer1.get().getLastPolledTimestamp());
-            assertNull(observer2.get().getLastPolledTimestamp());
-        }
-    }
-
     private List<ObservationResult> createMockObservationResults(int count) {
         List<ObservationResult> results = new ArrayList<>();
         for (int i = 0; i < count; i++) {
@@ -330,4 +296,16 @@ class OrderObserverApplicationServiceIntegrationTest {
         }
         return results;
     }
+
+    private OrderSourcePage pageOf(List<ObservationResult> results) {
+        if (results.isEmpty()) {
+            return OrderSourcePage.empty();
+        }
+        ObservationResult last = results.get(results.size() - 1);
+        return new OrderSourcePage(
+                results,
+                new OrderSourceWatermark(last.getObservedAt(), last.getOrderId()),
+                results.size(),
+                false);
+    }
 }
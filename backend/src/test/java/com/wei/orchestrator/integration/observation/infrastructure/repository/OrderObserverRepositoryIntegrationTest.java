@@ -3,6 +3,9 @@ package com.wei.orchestrator.integration.observation.infrastructure.repository;
 import static org.junit.jupiter.api.Assertions.*;
 
 import com.wei.orchestrator.observation.domain.model.OrderObserver;
+import com.wei.orchestrator.observation.domain.model.valueobject.DrainPolicy;
+import com.wei.orchestrator.observation.domain.model.valueobject.OrderSourceMode;
+import com.wei.orchestrator.observation.domain.model.valueobject.OrderSourceWatermark;
 import com.wei.orchestrator.observation.domain.model.valueobject.PollingInterval;
 import com.wei.orchestrator.observation.domain.model.valueobject.SourceEndpoint;
 import com.wei.orchestrator.observation.infrastructure.mapper.OrderObserverMapper;
@@ -250,4 +253,66 @@ class OrderObserverRepositoryIntegrationTest {
         assertEquals(300, retrievedInterval.getSeconds());
         assertEquals(300000L, retrievedInterval.getMilliseconds());
     }
+
+    @Test
+    void shouldPersistWatermarkAndDrainPolicy() {
+        SourceEndpoint sourceEndpoint =
+                new SourceEndpoint("jdbc:oracle:thin:@localhost:1521:XE", "user", "pass");
+        PollingInterval pollingInterval = new PollingInterval(60);
+        DrainPolicy drainPolicy = new DrainPolicy(100, 1000, 20);
+        OrderSourceWatermark watermark =
+                new OrderSourceWatermark(LocalDateTime.of(2025, 1, 1, 8, 30), "order-42");
+
+        OrderObserver observer =
+                new OrderObserver(
+                        "observer-repo-watermark", sourceEndpoint, pollingInterval, drainPolicy);
+        observer.setWatermark(watermark);
+        orderObserverRepository.save(observer);
+
+        Optional<OrderObserver> foundObserver =
+                orderObserverRepository.findById("observer-repo-watermark");
+        assertTrue(foundObserver.isPresent());
+        assertEquals(watermark, foundObserver.get().getWatermark());
+        assertEquals(drainPolicy, foundObserver.get().getDrainPolicy());
+    }
+
+    @Test
+    void shouldDefaultDrainPolicyAndLeaveWatermarkEmptyForNewObserver() {
+        SourceEndpoint sourceEndpoint =
+                new SourceEndpoint("jdbc:oracle:thin:@localhost:1521:XE", "user", "pass");
+        PollingInterval pollingInterval = new PollingInterval(60);
+
+        OrderObserver observer =
+                new OrderObserver("observer-repo-defaults", sourceEndpoint, pollingInterval);
+        orderObserverRepository.save(observer);
+
+        Optional<OrderObserver> foundObserver =
+                orderObserverRepository.findById("observer-repo-defaults");
+        assertTrue(foundObserver.isPresent());
+        assertNull(foundObserver.get().getWatermark());
+        assertEquals(DrainPolicy.defaults(), foundObserver.get().getDrainPolicy());
+        assertEquals(OrderSourceMode.POLLING, foundObserver.get().getSourceMode());
+    }
+
+    @Test
+    void shouldPersistChangeLogModeAndSequence() {
+        SourceEndpoint sourceEndpoint =
+                new SourceEndpoint("jdbc:oracle:thin:@localhost:1521:XE", "user", "pass");
+        OrderSourceWatermark watermark =
+                new OrderSourceWatermark(LocalDateTime.of(2025, 1, 1, 8, 30), "order-42", 1234L);
+
+        OrderObserver observer =
+                new OrderObserver(
+                        "observer-repo-change-log", sourceEndpoint, new PollingInterval(60));
+        observer.changeSourceMode(OrderSourceMode.CHANGE_LOG);
+        observer.setWatermark(watermark);
+        orderObserverRepository.save(observer);
+
+        Optional<OrderObserver> foundObserver =
+                orderObserverRepository.findById("observer-repo-change-log");
+        assertTrue(foundObserver.isPresent());
+        assertEquals(OrderSourceMode.CHANGE_LOG, foundObserver.get().getSourceMode());
+        assertEquals(1234L, foundObserver.get().getWatermark().getChangeSequence());
+        assertEquals(watermark, foundObserver.get().getWatermark());
+    }
 }
@@ -0,0 +1,144 @@
+package com.wei.orchestrator.integration.observation.infrastructure.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.wei.orchestrator.OrchestratorApplication;
+import com.wei.orchestrator.observation.infrastructure.persistence.ObserverNodeLeaseEntity;
+import com.wei.orchestrator.observation.infrastructure.repository.JpaObserverNodeLeaseRepository;
+import com.wei.orchestrator.observation.infrastructure.scheduler.ObserverPartitioner;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest(
+        properties = {
+            "scheduler.observer.partitioning.enabled=true",
+            "scheduler.observer.partitioning.node-id=node-a"
+        })
+@ActiveProfiles("test")
+class ObserverPartitionerIntegrationTest {
+
+    private static final List<String> OBSERVER_IDS =
+            IntStream.range(0, 500).mapToObj(i -> "observer-" + i).toList();
+
+    @Autowired private ObserverPartitioner nodeA;
+
+    @Autowired private JpaObserverNodeLeaseRepository leaseRepository;
+
+    private ConfigurableApplicationContext nodeBContext;
+
+    @BeforeEach
+    void setUp() {
+        leaseRepository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (nodeBContext != null && nodeBContext.isActive()) {
+            nodeBContext.close();
+        }
+        leaseRepository.deleteAll();
+    }
+
+    private ObserverPartitioner startNodeB() {
+        nodeBContext =
+                new SpringApplicationBuilder(OrchestratorApplication.class)
+                        .profiles("test")
+                        .properties(
+                                "server.port=0",
+                                "spring.jpa.hibernate.ddl-auto=none",
+                                "scheduler.observer.partitioning.enabled=true",
+                                "scheduler.observer.partitioning.node-id=node-b")
+                        .run();
+        return nodeBContext.getBean(ObserverPartitioner.class);
+    }
+
+    private List<String> ownedBy(ObserverPartitioner partitioner) {
+        return OBSERVER_IDS.stream().filter(partitioner::owns).toList();
+    }
+
+    @Test
+    void shouldOwnEveryObserverWhenRunningAlone() {
+        nodeA.heartbeat();
+
+        assertEquals(List.of("node-a"), nodeA.getLiveNodeIds());
+        assertEquals(OBSERVER_IDS, ownedBy(nodeA));
+    }
+
+    @Test
+    void shouldSplitObserversBetweenLiveNodes() {
+        ObserverPartitioner nodeB = startNodeB();
+
+        nodeA.heartbeat();
+        nodeB.heartbeat();
+        nodeA.heartbeat();
+
+        assertEquals(List.of("node-a", "node-b"), nodeA.getLiveNodeIds());
+        assertEquals(List.of("node-a", "node-b"), nodeB.getLiveNodeIds());
+
+        List<String> ownedByA = ownedBy(nodeA);
+        List<String> ownedByB = ownedBy(nodeB);
+        for (String observerId : OBSERVER_IDS) {
+            assertNotEquals(
+                    ownedByA.contains(observerId),
+                    ownedByB.contains(observerId),
+                    "Observer must have exactly one owner: " + observerId);
+        }
+        assertTrue(ownedByA.size() > OBSERVER_IDS.size() / 4);
+        assertTrue(ownedByB.size() > OBSERVER_IDS.size() / 4);
+    }
+
+    @Test
+    void shouldRebalanceWhenNodeLeaves() {
+        ObserverPartitioner nodeB = startNodeB();
+        nodeA.heartbeat();
+        nodeB.heartbeat();
+        nodeA.heartbeat();
+        assertTrue(ownedBy(nodeA).size() < OBSERVER_IDS.size());
+
+        nodeBContext.close();
+        nodeA.heartbeat();
+
+        assertFalse(leaseRepository.existsById("node-b"));
+        assertEquals(List.of("node-a"), nodeA.getLiveNodeIds());
+        assertEquals(OBSERVER_IDS, ownedBy(nodeA));
+    }
+
+    @Test
+    void shouldOnlyHandOverObserversClaimedByJoiningNode() {
+        nodeA.heartbeat();
+        assertEquals(OBSERVER_IDS, ownedBy(nodeA));
+
+        ObserverPartitioner nodeB = startNodeB();
+        nodeB.heartbeat();
+        nodeA.heartbeat();
+
+        List<String> ownedByA = ownedBy(nodeA);
+        List<String> ownedByB = ownedBy(nodeB);
+        assertEquals(OBSERVER_IDS.size(), ownedByA.size() + ownedByB.size());
+        assertTrue(ownedByB.stream().noneMatch(ownedByA::contains));
+    }
+
+    @Test
+    void shouldExpireNodesThatStopHeartbeating() {
+        leaseRepository.save(
+                new ObserverNodeLeaseEntity(
+                        "node-c",
+                        LocalDateTime.now().minusHours(1),
+                        LocalDateTime.now().minusHours(2)));
+
+        nodeA.heartbeat();
+
+        assertFalse(leaseRepository.existsById("node-c"));
+        assertEquals(List.of("node-a"), nodeA.getLiveNodeIds());
+        assertEquals(OBSERVER_IDS, ownedBy(nodeA));
+    }
+}
@@ -1,16 +1,23 @@
 package com.wei.orchestrator.integration.observation.infrastructure.scheduler;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 import com.wei.orchestrator.observation.application.OrderObserverApplicationService;
+import com.wei.orchestrator.observation.application.command.PollOrderSourceCommand;
+import com.wei.orchestrator.observation.application.dto.ObserverScheduleDto;
+import com.wei.orchestrator.observation.application.event.ObserverScheduleChangedEvent;
+import com.wei.orchestrator.observation.domain.model.valueobject.ObserverType;
 import com.wei.orchestrator.observation.infrastructure.scheduler.ObserverScheduler;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import javax.sql.DataSource;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.integration.support.locks.LockRegistry;
@@ -37,6 +44,8 @@ class ObserverSchedulerIntegrationTest {
         jdbcTemplate = new JdbcTemplate(dataSource);
         clearLockTable();
         reset(orderObserverApplicationService);
+        when(orderObserverApplicationService.findActiveObserverSchedules())
+                .thenReturn(List.of(new ObserverScheduleDto("observer-1", 60, null)));
     }
 
     private void clearLockTable() {
@@ -48,46 +57,68 @@ class ObserverSchedulerIntegrationTest {
         return count != null ? count : 0;
     }
 
+    private void pollDueObservers() throws InterruptedException {
+        observerScheduler.refreshSchedules();
+        observerScheduler.dispatchDueObservers();
+        awaitIdle();
+    }
+
+    private void awaitIdle() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (observerScheduler.getScheduleMetrics().getInFlightPolls() > 0
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private void reactivate(String observerId) {
+        observerScheduler.onObserverScheduleChanged(
+                ObserverScheduleChangedEvent.activated(ObserverType.ORDER, observerId, 60));
+    }
+
     @Test
-    void shouldExecuteScheduledPollingWithRealLocks() {
-        observerScheduler.pollAllObserverTypes();
+    void shouldExecuteScheduledPollingWithRealLocks() throws InterruptedException {
+        reactivate("observer-1");
+        pollDueObservers();
 
-        verify(orderObserverApplicationService, times(1)).pollAllActiveObservers();
+        verify(orderObserverApplicationService, times(1)).pollOrderSource(any(), any());
     }
 
     @Test
-    void shouldReleaseLockAfterPollingCompletes() {
-        observerScheduler.pollAllObserverTypes();
+    void shouldReleaseLockAfterPollingCompletes() throws InterruptedException {
+        reactivate("observer-1");
+        pollDueObservers();
 
         assertEquals(0, countLocksInDatabase());
     }
 
     @Test
-    void shouldReleaseLockEvenWhenPollingThrowsException() {
+    void shouldReleaseLockEvenWhenPollingThrowsException() throws InterruptedException {
         doThrow(new RuntimeException("Simulated polling failure"))
                 .when(orderObserverApplicationService)
-                .pollAllActiveObservers();
+                .pollOrderSource(any(), any());
 
-        observerScheduler.pollAllObserverTypes();
+        reactivate("observer-1");
+        pollDueObservers();
 
+        verify(orderObserverApplicationService, times(1)).pollOrderSource(any(), any());
         assertEquals(0, countLocksInDatabase());
     }
 
     @Test
-    void shouldAllowMultipleSequentialPollingCycles() {
-        observerScheduler.pollAllObserverTypes();
-        observerScheduler.pollAllObserverTypes();
-        observerScheduler.pollAllObserverTypes();
+    void shouldPollOnlyOncePerIntervalAcrossSequentialCycles() throws InterruptedException {
+        reactivate("observer-1");
+        pollDueObservers();
+        pollDueObservers();
+        pollDueObservers();
 
-        verify(orderObserverApplicationService, times(3)).pollAllActiveObservers();
+        verify(orderObserverApplicationService, times(1)).pollOrderSource(any(), any());
         assertEquals(0, countLocksInDatabase());
     }
 
     @Test
-    void shouldAllowSecondPollingAfterFirstCompletes() throws InterruptedException {
+    void shouldAllowSecondPollingAfterReactivation() throws InterruptedException {
         AtomicInteger executionCount = new AtomicInteger(0);
-        CountDownLatch firstDone = new CountDownLatch(1);
-        CountDownLatch secondDone = new CountDownLatch(1);
 
         doAnswer(
                         invocation -> {
@@ -95,36 +126,15 @@ class ObserverSchedulerIntegrationTest {
                             return null;
                         })
                 .when(orderObserverApplicationService)
-                .pollAllActiveObservers();
+                .pollOrderSource(any(), any());
 
-        Thread thread1 =
-                new Thread(
-                        () -> {
-                            observerScheduler.pollAllObserverTypes();
-                            firstDone.countDown();
-                        });
-
-        Thread thread2 =
-                new Thread(
-                        () -> {
-                            try {
-                                firstDone.await();
-                                Thread.sleep(50);
-                                observerScheduler.pollAllObserverTypes();
-                            } catch (InterruptedException e) {
-                                Thread.currentThread().interrupt();
-                            } finally {
-                                secondDone.countDown();
-                            }
-                        });
-
-        thread1.start();
-        thread2.start();
-
-        assertTrue(secondDone.await(5, TimeUnit.SECONDS));
+        reactivate("observer-1");
+        pollDueObservers();
+        reactivate("observer-1");
+        pollDueObservers();
 
         assertEquals(2, executionCount.get());
-        verify(orderObserverApplicationService, times(2)).pollAllActiveObservers();
+        verify(orderObserverApplicationService, times(2)).pollOrderSource(any(), any());
         assertEquals(0, countLocksInDatabase());
     }
 
@@ -136,11 +146,47 @@ class ObserverSchedulerIntegrationTest {
                             return null;
                         })
                 .when(orderObserverApplicationService)
-                .pollAllActiveObservers();
+                .pollOrderSource(any(), any());
+
+        reactivate("observer-1");
+        pollDueObservers();
 
-        observerScheduler.pollAllObserverTypes();
-        Thread.sleep(100);
+        verify(orderObserverApplicationService, times(1)).pollOrderSource(any(), any());
+        assertEquals(0, countLocksInDatabase());
+    }
+
+    @Test
+    void shouldLockEachObserverIndependently() throws InterruptedException {
+        var heldLock = lockRegistry.obtain("order-observer-poll:observer-1");
+        when(orderObserverApplicationService.findActiveObserverSchedules())
+                .thenReturn(
+                        List.of(
+                                new ObserverScheduleDto("observer-1", 60, null),
+                                new ObserverScheduleDto("observer-2", 60, null)));
+        CountDownLatch done = new CountDownLatch(1);
+
+        Thread holder =
+                new Thread(
+                        () -> {
+                            heldLock.lock();
+                            try {
+                                reactivate("observer-1");
+                                reactivate("observer-2");
+                                pollDueObservers();
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            } finally {
+                                heldLock.unlock();
+                                done.countDown();
+                            }
+                        });
+        holder.start();
 
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        ArgumentCaptor<PollOrderSourceCommand> captor =
+                ArgumentCaptor.forClass(PollOrderSourceCommand.class);
+        verify(orderObserverApplicationService, times(1)).pollOrderSource(captor.capture(), any());
+        assertEquals("observer-2", captor.getValue().getObserverId());
         assertEquals(0, countLocksInDatabase());
     }
 
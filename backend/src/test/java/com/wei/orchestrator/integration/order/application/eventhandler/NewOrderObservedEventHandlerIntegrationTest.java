@@ -8,8 +8,10 @@ import com.wei.orchestrator.observation.domain.event.NewOrderObservedEvent;
 import com.wei.orchestrator.observation.domain.model.valueobject.ObservationResult;
 import com.wei.orchestrator.observation.domain.model.valueobject.ObservedOrderItem;
 import com.wei.orchestrator.order.application.OrderApplicationService;
+import com.wei.orchestrator.order.application.OrderIngestionApplicationService;
 import com.wei.orchestrator.order.application.eventhandler.NewOrderObservedEventHandler;
 import com.wei.orchestrator.order.domain.model.Order;
+import com.wei.orchestrator.order.domain.model.OrderIngestionEntry;
 import com.wei.orchestrator.order.domain.model.OrderLineItem;
 import com.wei.orchestrator.order.domain.model.valueobject.OrderStatus;
 import com.wei.orchestrator.order.domain.repository.OrderRepository;
@@ -41,6 +43,8 @@ class NewOrderObservedEventHandlerIntegrationTest {
 
     @Autowired private NewOrderObservedEventHandler eventHandler;
 
+    @Autowired private OrderIngestionApplicationService orderIngestionApplicationService;
+
     @Autowired private TransactionTemplate transactionTemplate;
 
     @MockitoSpyBean private OrderApplicationService orderApplicationService;
@@ -56,6 +60,7 @@ class NewOrderObservedEventHandlerIntegrationTest {
             NewOrderObservedEvent event = createTestEvent(orderId);
 
             eventHandler.handleNewOrderObserved(event);
+            drainIngestionBuffer();
 
             Optional<Order> createdOrder = orderRepository.findById(orderId);
             assertTrue(createdOrder.isPresent(), "Order should be created in database");
@@ -70,6 +75,7 @@ class NewOrderObservedEventHandlerIntegrationTest {
             NewOrderObservedEvent event = createTestEvent(orderId);
 
             eventHandler.handleNewOrderObserved(event);
+            drainIngestionBuffer();
 
             Optional<Order> createdOrder = orderRepository.findById(orderId);
             assertTrue(createdOrder.isPresent());
@@ -90,11 +96,13 @@ class NewOrderObservedEventHandlerIntegrationTest {
             NewOrderObservedEvent event = createTestEvent(orderId);
 
             eventHandler.handleNewOrderObserved(event);
+            drainIngestionBuffer();
 
             Optional<Order> firstOrder = orderRepository.findById(orderId);
             assertTrue(firstOrder.isPresent(), "Order should be created on first event");
 
             eventHandler.handleNewOrderObserved(event);
+            drainIngestionBuffer();
 
             Optional<Order> secondOrder = orderRepository.findById(orderId);
             assertTrue(secondOrder.isPresent(), "Order should still exist");
@@ -114,6 +122,7 @@ class NewOrderObservedEventHandlerIntegrationTest {
 
             eventHandler.handleNewOrderObserved(event1);
             eventHandler.handleNewOrderObserved(event2);
+            drainIngestionBuffer();
 
             Optional<Order> order1 = orderRepository.findById(orderId1);
             Optional<Order> order2 = orderRepository.findById(orderId2);
@@ -156,6 +165,7 @@ class NewOrderObservedEventHandlerIntegrationTest {
                     new NewOrderObservedEvent("observer-1", observationResult);
 
             eventHandler.handleNewOrderObserved(event);
+            drainIngestionBuffer();
 
             Optional<Order> createdOrder = orderRepository.findById(orderId);
             assertTrue(createdOrder.isPresent());
@@ -194,6 +204,7 @@ class NewOrderObservedEventHandlerIntegrationTest {
                     new NewOrderObservedEvent("observer-2", observationResult);
 
             eventHandler.handleNewOrderObserved(event);
+            drainIngestionBuffer();
 
             Optional<Order> createdOrder = orderRepository.findById(orderId);
             assertTrue(createdOrder.isPresent());
@@ -212,6 +223,7 @@ class NewOrderObservedEventHandlerIntegrationTest {
             NewOrderObservedEvent event = createTestEvent(orderId);
 
             eventHandler.handleNewOrderObserved(event);
+            drainIngestionBuffer();
 
             Optional<Order> createdOrder = orderRepository.findById(orderId);
             assertTrue(createdOrder.isPresent());
@@ -225,11 +237,13 @@ class NewOrderObservedEventHandlerIntegrationTest {
             NewOrderObservedEvent event = createTestEvent(orderId);
 
             eventHandler.handleNewOrderObserved(event);
+            drainIngestionBuffer();
 
             Optional<Order> firstOrder = orderRepository.findById(orderId);
             assertTrue(firstOrder.isPresent());
 
             eventHandler.handleNewOrderObserved(event);
+            drainIngestionBuffer();
 
             Optional<Order> secondOrder = orderRepository.findById(orderId);
             assertTrue(secondOrder.isPresent());
@@ -264,10 +278,8 @@ class NewOrderObservedEventHandlerIntegrationTest {
 
             NewOrderObservedEvent event = createTestEvent(handlerOrderId);
 
-            try {
-                eventHandler.handleNewOrderObserved(event);
-            } catch (Exception ignored) {
-            }
+            eventHandler.handleNewOrderObserved(event);
+            drainIngestionBuffer();
 
             Optional<Order> savedCallerOrder = orderRepository.findById(callerOrderId);
             assertTrue(
@@ -279,6 +291,9 @@ class NewOrderObservedEventHandlerIntegrationTest {
             Optional<Order> handlerOrder = orderRepository.findById(handlerOrderId);
             assertFalse(
                     handlerOrder.isPresent(), "Handler's order should not exist due to rollback");
+            assertTrue(
+                    orderIngestionApplicationService.countOutstanding() > 0,
+                    "Observed order should stay buffered for a retry");
         }
 
         @Test
@@ -303,6 +318,7 @@ class NewOrderObservedEventHandlerIntegrationTest {
             NewOrderObservedEvent event = createTestEvent(handlerOrderId);
 
             eventHandler.handleNewOrderObserved(event);
+            drainIngestionBuffer();
 
             Optional<Order> savedCallerOrder = orderRepository.findById(callerOrderId);
             assertTrue(savedCallerOrder.isPresent(), "Caller's order should be committed");
@@ -335,6 +351,7 @@ class NewOrderObservedEventHandlerIntegrationTest {
                         eventPublisher.publishEvent(event);
                         return null;
                     });
+            drainIngestionBuffer();
 
             Optional<Order> createdOrder = orderRepository.findById(orderId);
             assertTrue(createdOrder.isPresent(), "Order should be created");
@@ -399,6 +416,7 @@ class NewOrderObservedEventHandlerIntegrationTest {
                         eventPublisher.publishEvent(event);
                         return null;
                     });
+            drainIngestionBuffer();
 
             List<AuditRecord> auditRecords =
                     auditRecordRepository.findByCorrelationId(correlationId);
@@ -470,6 +488,17 @@ class NewOrderObservedEventHandlerIntegrationTest {
         }
     }
 
+    private void drainIngestionBuffer() {
+        for (OrderIngestionEntry entry :
+                orderIngestionApplicationService.claimPending(100, "integration-test")) {
+            try {
+                orderIngestionApplicationService.ingest(entry);
+            } catch (RuntimeException e) {
+                orderIngestionApplicationService.recordFailure(entry, e);
+            }
+        }
+    }
+
     private NewOrderObservedEvent createTestEvent(String orderId) {
         List<ObservedOrderItem> items =
                 Arrays.asList(
@@ -63,6 +63,7 @@ class PickingTaskSubmittedEventHandlerIntegrationTest {
                     new PickingTaskSubmittedEvent(
                             pickingTask.getTaskId(),
                             "WES-TASK-001",
+                            orderId,
                             TaskOrigin.ORCHESTRATOR_SUBMITTED,
                             LocalDateTime.now());
 
@@ -113,6 +114,7 @@ class PickingTaskSubmittedEventHandlerIntegrationTest {
                     new PickingTaskSubmittedEvent(
                             pickingTask.getTaskId(),
                             "WES-TASK-002",
+                            orderId,
                             TaskOrigin.ORCHESTRATOR_SUBMITTED,
                             LocalDateTime.now());
 
@@ -149,6 +151,7 @@ class PickingTaskSubmittedEventHandlerIntegrationTest {
                     new PickingTaskSubmittedEvent(
                             pickingTask.getTaskId(),
                             "WES-DIRECT-001",
+                            orderId,
                             TaskOrigin.WES_DIRECT,
                             LocalDateTime.now());
 
@@ -167,6 +170,7 @@ class PickingTaskSubmittedEventHandlerIntegrationTest {
                     new PickingTaskSubmittedEvent(
                             taskId,
                             "WES-TASK-003",
+                            null,
                             TaskOrigin.ORCHESTRATOR_SUBMITTED,
                             LocalDateTime.now());
 
@@ -190,6 +194,7 @@ class PickingTaskSubmittedEventHandlerIntegrationTest {
                     new PickingTaskSubmittedEvent(
                             pickingTask.getTaskId(),
                             "WES-TASK-004",
+                            pickingTask.getOrderId(),
                             TaskOrigin.ORCHESTRATOR_SUBMITTED,
                             LocalDateTime.now());
 
@@ -210,6 +215,7 @@ class PickingTaskSubmittedEventHandlerIntegrationTest {
                     new PickingTaskSubmittedEvent(
                             pickingTask.getTaskId(),
                             "WES-TASK-005",
+                            orderId,
                             TaskOrigin.ORCHESTRATOR_SUBMITTED,
                             LocalDateTime.now());
 
@@ -250,6 +256,7 @@ class PickingTaskSubmittedEventHandlerIntegrationTest {
                     new PickingTaskSubmittedEvent(
                             pickingTask.getTaskId(),
                             "WES-TASK-006",
+                            orderId,
                             TaskOrigin.ORCHESTRATOR_SUBMITTED,
                             LocalDateTime.now());
 
@@ -296,6 +303,7 @@ class PickingTaskSubmittedEventHandlerIntegrationTest {
                     new PickingTaskSubmittedEvent(
                             pickingTask.getTaskId(),
                             "WES-TASK-007",
+                            orderId,
                             TaskOrigin.ORCHESTRATOR_SUBMITTED,
                             LocalDateTime.now());
 
@@ -332,6 +340,7 @@ class PickingTaskSubmittedEventHandlerIntegrationTest {
                     new PickingTaskSubmittedEvent(
                             nonExistentTaskId,
                             "WES-TASK-008",
+                            orderId,
                             TaskOrigin.ORCHESTRATOR_SUBMITTED,
                             LocalDateTime.now());
 
@@ -375,6 +384,7 @@ class PickingTaskSubmittedEventHandlerIntegrationTest {
                     new PickingTaskSubmittedEvent(
                             pickingTask.getTaskId(),
                             "WES-TASK-009",
+                            orderId,
                             TaskOrigin.ORCHESTRATOR_SUBMITTED,
                             LocalDateTime.now());
 
@@ -0,0 +1,211 @@
+package com.wei.orchestrator.integration.order.query;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.wei.orchestrator.order.query.OrderQueryService;
+import com.wei.orchestrator.order.query.dto.OrderProcessStatusDto;
+import com.wei.orchestrator.order.query.dto.ProcessStepDetailDto;
+import com.wei.orchestrator.order.query.projection.OrderProcessStatusRebuilder;
+import com.wei.orchestrator.order.query.projection.ProcessStatusRebuildResult;
+import com.wei.orchestrator.shared.application.audit.AuditRecordWriter;
+import com.wei.orchestrator.shared.domain.model.AuditRecord;
+import com.wei.orchestrator.shared.domain.model.valueobject.EventMetadata;
+import com.wei.orchestrator.shared.infrastructure.archive.AuditArchive;
+import com.wei.orchestrator.shared.infrastructure.archive.AuditSegmentWriter;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class OrderProcessStatusProjectionIntegrationTest {
+
+    @Autowired private AuditRecordWriter auditRecordWriter;
+
+    @Autowired private OrderQueryService orderQueryService;
+
+    @Autowired private OrderProcessStatusRebuilder processStatusRebuilder;
+
+    @Autowired private AuditArchive auditArchive;
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    private final LocalDateTime baseTime = LocalDateTime.of(2025, 1, 1, 8, 0);
+
+    @Nested
+    class incrementalProjectionTest {
+
+        @Test
+        void shouldReflectAuditRecordsInProcessStatus() {
+            String orderId = newOrderId();
+
+            write(orderId, "OrderScheduledEvent", baseTime);
+            write(orderId, "InventoryReservedEvent", baseTime.plusMinutes(1));
+            write(orderId, "ReservationFailedEvent", baseTime.plusMinutes(2));
+            write(orderId, "InventoryReservedEvent", baseTime.plusMinutes(3));
+
+            List<OrderProcessStatusDto.ProcessStepDto> steps =
+                    orderQueryService.getOrderProcessStatus(orderId).getSteps();
+
+            assertEquals(8, steps.size());
+            assertEquals("SUCCESS", steps.get(0).getStatus());
+            assertEquals(baseTime, steps.get(0).getTimestamp());
+            assertEquals("PENDING", steps.get(1).getStatus());
+            assertEquals("FAILED", steps.get(2).getStatus());
+            assertEquals(baseTime.plusMinutes(2), steps.get(2).getTimestamp());
+        }
+
+        @Test
+        void shouldShowConditionalFailureOnlyAfterPrerequisiteArrives() {
+            String orderId = newOrderId();
+
+            write(orderId, "PickingTaskFailedEvent", baseTime);
+
+            ProcessStepDetailDto beforeCreation =
+                    orderQueryService.getOrderProcessStepDetail(orderId, 7);
+            assertEquals("PENDING", beforeCreation.getOverallStatus());
+            assertTrue(beforeCreation.getEvents().isEmpty());
+
+            write(orderId, "PickingTaskCreatedEvent", baseTime.plusMinutes(1));
+
+            ProcessStepDetailDto afterCreation =
+                    orderQueryService.getOrderProcessStepDetail(orderId, 7);
+            assertEquals("FAILED", afterCreation.getOverallStatus());
+            assertEquals(1, afterCreation.getEvents().size());
+            assertEquals(
+                    "PickingTaskFailedEvent", afterCreation.getEvents().get(0).getEventName());
+        }
+
+        @Test
+        void shouldReplayAuditRecordsForOrderMissingFromProjection() {
+            String orderId = newOrderId();
+            write(orderId, "OrderScheduledEvent", baseTime);
+            write(orderId, "PickingTaskCreatedEvent", baseTime.plusMinutes(1));
+            write(orderId, "PickingTaskFailedEvent", baseTime.plusMinutes(2));
+            OrderProcessStatusDto expected = orderQueryService.getOrderProcessStatus(orderId);
+            String expectedStepStatus =
+                    orderQueryService.getOrderProcessStepDetail(orderId, 7).getOverallStatus();
+
+            jdbcTemplate.update("DELETE FROM order_process_steps WHERE order_id = ?", orderId);
+
+            List<OrderProcessStatusDto.ProcessStepDto> replayed =
+                    orderQueryService.getOrderProcessStatus(orderId).getSteps();
+            for (int i = 0; i < replayed.size(); i++) {
+                assertEquals(expected.getSteps().get(i).getStatus(), replayed.get(i).getStatus());
+                assertEquals(
+                        expected.getSteps().get(i).getTimestamp(), replayed.get(i).getTimestamp());
+            }
+            ProcessStepDetailDto detail = orderQueryService.getOrderProcessStepDetail(orderId, 7);
+            assertEquals("FAILED", expectedStepStatus);
+            assertEquals(expectedStepStatus, detail.getOverallStatus());
+            assertEquals(1, detail.getEvents().size());
+        }
+
+        @Test
+        void shouldReturnPendingStepsForUnknownOrder() {
+            OrderProcessStatusDto status = orderQueryService.getOrderProcessStatus(newOrderId());
+
+            assertTrue(
+                    status.getSteps().stream()
+                            .allMatch(step -> step.getStatus().equals("PENDING")));
+        }
+    }
+
+    @Nested
+    class rebuildTest {
+
+        @Test
+        void shouldRegenerateProjectionFromAuditRecords() {
+            String orderId = newOrderId();
+            write(orderId, "OrderScheduledEvent", baseTime);
+            write(orderId, "OrderReadyForFulfillmentEvent", baseTime.plusMinutes(1));
+            write(orderId, "PickingTaskCreatedEvent", baseTime.plusMinutes(2));
+            write(orderId, "PickingTaskCompletedEvent", baseTime.plusMinutes(3));
+            OrderProcessStatusDto expected = orderQueryService.getOrderProcessStatus(orderId);
+            long eventCount = countProjectedEvents(orderId);
+
+            jdbcTemplate.update("DELETE FROM order_process_steps WHERE order_id = ?", orderId);
+            assertEquals(0, countProjectedEvents(orderId));
+
+            Optional<ProcessStatusRebuildResult> result = processStatusRebuilder.rebuild();
+
+            assertTrue(result.isPresent());
+            assertEquals(0, result.get().getFailedChunks());
+            assertTrue(result.get().getReplayedRecords() >= 4);
+            assertEquals(eventCount, countProjectedEvents(orderId));
+            List<OrderProcessStatusDto.ProcessStepDto> rebuilt =
+                    orderQueryService.getOrderProcessStatus(orderId).getSteps();
+            for (int i = 0; i < rebuilt.size(); i++) {
+                assertEquals(expected.getSteps().get(i).getStatus(), rebuilt.get(i).getStatus());
+                assertEquals(
+                        expected.getSteps().get(i).getTimestamp(), rebuilt.get(i).getTimestamp());
+            }
+        }
+
+        @Test
+        void shouldRebuildOrdersThatOnlyRemainInArchive() throws IOException {
+            String orderId = newOrderId();
+            try (AuditSegmentWriter writer =
+                    auditArchive.openSegment(baseTime, baseTime.plusDays(1))) {
+                writer.append(auditRecord(orderId, "OrderScheduledEvent", baseTime));
+                writer.append(
+                        auditRecord(orderId, "InventoryReservedEvent", baseTime.plusMinutes(1)));
+                writer.seal();
+            }
+
+            Optional<ProcessStatusRebuildResult> result = processStatusRebuilder.rebuild();
+
+            assertTrue(result.isPresent());
+            assertEquals(0, result.get().getFailedChunks());
+            assertEquals(2, countProjectedEvents(orderId));
+        }
+
+        @Test
+        void shouldNotDoubleCountWhenRebuildingPopulatedProjection() {
+            String orderId = newOrderId();
+            write(orderId, "OrderScheduledEvent", baseTime);
+            write(orderId, "OrderScheduledEvent", baseTime.plusMinutes(1));
+
+            processStatusRebuilder.rebuild();
+
+            assertEquals(2, countProjectedEvents(orderId));
+        }
+    }
+
+    private long countProjectedEvents(String orderId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(event_count), 0) FROM order_process_steps"
+                        + " WHERE order_id = ?",
+                Long.class,
+                orderId);
+    }
+
+    private String newOrderId() {
+        return "PROJ-ORDER-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    private void write(String orderId, String eventName, LocalDateTime occurredAt) {
+        auditRecordWriter.write(auditRecord(orderId, eventName, occurredAt));
+    }
+
+    private AuditRecord auditRecord(String orderId, String eventName, LocalDateTime occurredAt) {
+        return new AuditRecord(
+                UUID.randomUUID(),
+                "Order",
+                orderId,
+                eventName,
+                occurredAt,
+                EventMetadata.of("Order Context", UUID.randomUUID(), "Manual"),
+                "{\"orderId\":\"" + orderId + "\"}",
+                LocalDateTime.now(),
+                orderId);
+    }
+}
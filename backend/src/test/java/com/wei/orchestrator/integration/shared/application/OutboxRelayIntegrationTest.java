@@ -0,0 +1,184 @@
+package com.wei.orchestrator.integration.shared.application;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.wei.orchestrator.order.domain.event.OrderReservedEvent;
+import com.wei.orchestrator.shared.application.OutboxApplicationService;
+import com.wei.orchestrator.shared.domain.model.OutboxMessage;
+import com.wei.orchestrator.shared.domain.repository.OutboxMessageRepository;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest(
+        properties = {
+            "domain-events.dispatcher.async=true",
+            "domain-events.dispatcher.retry-backoff=10"
+        })
+@ActiveProfiles("test")
+class OutboxRelayIntegrationTest {
+
+    @Autowired private ApplicationEventPublisher eventPublisher;
+
+    @Autowired private OutboxApplicationService outboxApplicationService;
+
+    @Autowired private OutboxMessageRepository outboxMessageRepository;
+
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @Nested
+    class relayFailureTest {
+
+        @Test
+        void shouldKeepMessagePendingWhenRelayedHandlerThrows() throws InterruptedException {
+            String orderId = newOrderId();
+
+            publishCommitted(new OrderReservedEvent(orderId, List.of("LINE-1")));
+
+            List<Map<String, Object>> rows = awaitFirstAttempt(orderId);
+            assertEquals(1, rows.size());
+            assertEquals("PENDING", rows.get(0).get("STATUS"));
+            assertEquals(1, ((Number) rows.get(0).get("ATTEMPTS")).intValue());
+            assertEquals("Order not found: " + orderId, rows.get(0).get("LAST_ERROR"));
+        }
+
+        @Test
+        void shouldHoldLaterMessagesForTheSameOrderBehindAnUnrelayedOne()
+                throws InterruptedException {
+            String orderId = newOrderId();
+
+            publishCommitted(new OrderReservedEvent(orderId, List.of("LINE-1")));
+            awaitFirstAttempt(orderId);
+            publishCommitted(new OrderReservedEvent(orderId, List.of("LINE-2")));
+
+            List<Map<String, Object>> rows = outboxRows(orderId);
+            assertEquals(2, rows.size());
+            assertEquals(1, ((Number) rows.get(0).get("ATTEMPTS")).intValue());
+            assertEquals(0, ((Number) rows.get(1).get("ATTEMPTS")).intValue());
+
+            List<OutboxMessage> claimed =
+                    outboxApplicationService.claimPending(100, 0, 1, "worker-1");
+            List<Long> claimedForOrder =
+                    claimed.stream()
+                            .filter(message -> orderId.equals(message.getAggregateKey()))
+                            .map(OutboxMessage::getMessageId)
+                            .toList();
+            assertEquals(
+                    List.of(((Number) rows.get(0).get("MESSAGE_ID")).longValue()),
+                    claimedForOrder);
+        }
+    }
+
+    @Nested
+    class shardedClaimTest {
+
+        @Test
+        void shouldLetTwoWorkersClaimDisjointBatchesConcurrently() throws Exception {
+            Map<Long, Integer> recordedSlots = recordPendingAcrossShards(5);
+            CountDownLatch start = new CountDownLatch(1);
+            ExecutorService workers = Executors.newFixedThreadPool(2);
+            try {
+                Future<List<OutboxMessage>> first =
+                        workers.submit(() -> claimWhenStarted(start, 0, "worker-0"));
+                Future<List<OutboxMessage>> second =
+                        workers.submit(() -> claimWhenStarted(start, 1, "worker-1"));
+                start.countDown();
+
+                Set<Long> firstIds = recordedIds(first.get(5, TimeUnit.SECONDS), recordedSlots);
+                Set<Long> secondIds =
+                        recordedIds(second.get(5, TimeUnit.SECONDS), recordedSlots);
+
+                assertFalse(firstIds.isEmpty());
+                assertFalse(secondIds.isEmpty());
+                assertTrue(Collections.disjoint(firstIds, secondIds));
+                assertEquals(recordedSlots.size(), firstIds.size() + secondIds.size());
+                firstIds.forEach(id -> assertEquals(0, recordedSlots.get(id) % 2));
+                secondIds.forEach(id -> assertEquals(1, recordedSlots.get(id) % 2));
+            } finally {
+                workers.shutdownNow();
+            }
+        }
+
+        private List<OutboxMessage> claimWhenStarted(
+                CountDownLatch start, int shard, String workerId) throws InterruptedException {
+            start.await();
+            return outboxApplicationService.claimPending(100, shard, 2, workerId);
+        }
+
+        private Map<Long, Integer> recordPendingAcrossShards(int perShard) {
+            Map<Long, Integer> recordedSlots = new HashMap<>();
+            int[] recordedPerShard = new int[2];
+            while (recordedPerShard[0] < perShard || recordedPerShard[1] < perShard) {
+                OutboxMessage message =
+                        new OutboxMessage(new OrderReservedEvent(newOrderId(), List.of("LINE-1")));
+                int shard = message.getPartitionSlot() % 2;
+                if (recordedPerShard[shard] == perShard) {
+                    continue;
+                }
+                OutboxMessage saved =
+                        new TransactionTemplate(transactionManager)
+                                .execute(status -> outboxMessageRepository.save(message));
+                recordedSlots.put(saved.getMessageId(), saved.getPartitionSlot());
+                recordedPerShard[shard]++;
+            }
+            return recordedSlots;
+        }
+
+        private Set<Long> recordedIds(
+                List<OutboxMessage> claimed, Map<Long, Integer> recordedSlots) {
+            return claimed.stream()
+                    .map(OutboxMessage::getMessageId)
+                    .filter(recordedSlots::containsKey)
+                    .collect(Collectors.toSet());
+        }
+    }
+
+    private void publishCommitted(OrderReservedEvent event) {
+        new TransactionTemplate(transactionManager)
+                .executeWithoutResult(status -> eventPublisher.publishEvent(event));
+    }
+
+    private List<Map<String, Object>> awaitFirstAttempt(String orderId)
+            throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        List<Map<String, Object>> rows = outboxRows(orderId);
+        while (!rows.isEmpty()
+                && ((Number) rows.get(0).get("ATTEMPTS")).intValue() == 0
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+            rows = outboxRows(orderId);
+        }
+        return rows;
+    }
+
+    private List<Map<String, Object>> outboxRows(String orderId) {
+        return jdbcTemplate.queryForList(
+                "SELECT message_id, status, attempts, last_error FROM domain_event_outbox"
+                        + " WHERE aggregate_key = ? ORDER BY message_id",
+                orderId);
+    }
+
+    private static String newOrderId() {
+        return "ORDER-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
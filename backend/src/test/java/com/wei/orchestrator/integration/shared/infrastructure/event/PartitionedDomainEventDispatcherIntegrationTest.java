@@ -0,0 +1,105 @@
+package com.wei.orchestrator.integration.shared.infrastructure.event;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.wei.orchestrator.shared.infrastructure.event.PartitionedDomainEventDispatcher;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@SpringBootTest(
+        properties = {
+            "domain-events.dispatcher.async=true",
+            "domain-events.dispatcher.retry-backoff=10"
+        })
+@ActiveProfiles("test")
+class PartitionedDomainEventDispatcherIntegrationTest {
+
+    @Autowired private PartitionedDomainEventDispatcher dispatcher;
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute(
+                "CREATE TABLE IF NOT EXISTS dispatcher_probe (probe_key VARCHAR(64) NOT NULL)");
+    }
+
+    @Nested
+    class asyncDispatchTest {
+
+        @Test
+        void shouldCommitHandlerWorkOnPartitionThread() throws Exception {
+            String key = newKey();
+            List<String> threads = new CopyOnWriteArrayList<>();
+            List<Boolean> transactional = new CopyOnWriteArrayList<>();
+
+            dispatcher
+                    .dispatch(
+                            key,
+                            () -> {
+                                transactional.add(
+                                        TransactionSynchronizationManager
+                                                .isActualTransactionActive());
+                                threads.add(Thread.currentThread().getName());
+                                insertProbe(key);
+                            })
+                    .get(5, TimeUnit.SECONDS);
+
+            assertTrue(dispatcher.isAsync());
+            assertEquals(List.of("domain-event-" + dispatcher.partitionOf(key)), threads);
+            assertEquals(List.of(true), transactional);
+            assertEquals(1, countProbes(key));
+        }
+
+        @Test
+        void shouldRollBackAndDeadLetterHandlerThatKeepsFailing() {
+            String key = newKey();
+            long deadLettered =
+                    dispatcher.getMetrics().get(dispatcher.partitionOf(key)).getDeadLetteredCount();
+
+            CompletableFuture<Void> failing =
+                    dispatcher.dispatch(
+                            key,
+                            () -> {
+                                insertProbe(key);
+                                throw new IllegalStateException("Order not found: " + key);
+                            });
+
+            ExecutionException failure =
+                    assertThrows(ExecutionException.class, () -> failing.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(IllegalStateException.class, failure.getCause());
+            assertEquals(0, countProbes(key));
+            assertEquals(
+                    deadLettered + 1,
+                    dispatcher
+                            .getMetrics()
+                            .get(dispatcher.partitionOf(key))
+                            .getDeadLetteredCount());
+        }
+    }
+
+    private void insertProbe(String key) {
+        jdbcTemplate.update("INSERT INTO dispatcher_probe (probe_key) VALUES (?)", key);
+    }
+
+    private int countProbes(String key) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM dispatcher_probe WHERE probe_key = ?", Integer.class, key);
+    }
+
+    private static String newKey() {
+        return "ORDER-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
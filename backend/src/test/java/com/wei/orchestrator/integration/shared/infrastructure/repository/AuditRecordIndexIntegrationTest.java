@@ -0,0 +1,294 @@
+package com.wei.orchestrator.integration.shared.infrastructure.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.wei.orchestrator.order.query.infrastructure.OrderProcessStatusQueryRepository;
+import com.wei.orchestrator.shared.application.factory.AuditRecordFactory;
+import com.wei.orchestrator.shared.domain.model.AuditRecord;
+import com.wei.orchestrator.shared.domain.model.valueobject.EventMetadata;
+import com.wei.orchestrator.shared.domain.repository.AuditRecordRepository;
+import com.wei.orchestrator.shared.infrastructure.persistence.AuditRecordEntity;
+import com.wei.orchestrator.shared.infrastructure.repository.AuditIndexBackfillChunk;
+import com.wei.orchestrator.shared.infrastructure.repository.AuditIndexBackfillRepository;
+import com.wei.orchestrator.wes.domain.event.PickingTaskCompletedEvent;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class AuditRecordIndexIntegrationTest {
+
+    private static final String LEGACY_INSERT_SQL =
+            "INSERT INTO audit_records (record_id, aggregate_type, aggregate_id, event_name,"
+                    + " event_timestamp, event_metadata, payload, created_at)"
+                    + " VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    @Autowired private AuditRecordFactory auditRecordFactory;
+
+    @Autowired private AuditRecordRepository auditRecordRepository;
+
+    @Autowired private OrderProcessStatusQueryRepository processStatusQueryRepository;
+
+    @Autowired private AuditIndexBackfillRepository backfillRepository;
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @Nested
+    class writeTimeExtractionTest {
+
+        @Test
+        void shouldPopulateIndexedColumnsWhenRecordIsSaved() {
+            String orderId = "IDX-ORDER-" + UUID.randomUUID().toString().substring(0, 8);
+            AuditRecord auditRecord =
+                    auditRecordFactory.createAuditRecord(
+                            new PickingTaskCompletedEvent(
+                                    "TASK-001", "WES-TASK-001", orderId, LocalDateTime.now()));
+
+            auditRecordRepository.save(auditRecord);
+
+            Map<String, Object> row =
+                    jdbcTemplate.queryForMap(
+                            "SELECT order_id, correlation_id FROM audit_records"
+                                    + " WHERE record_id = ?",
+                            auditRecord.getRecordId().toString());
+            assertEquals(orderId, row.get("order_id"));
+            assertEquals(
+                    auditRecord.getEventMetadata().getCorrelationId().toString(),
+                    row.get("correlation_id"));
+        }
+
+        @Test
+        void shouldPopulateIndexedColumnsWhenBatchIsSaved() {
+            String orderId = "IDX-ORDER-" + UUID.randomUUID().toString().substring(0, 8);
+            AuditRecord first =
+                    auditRecordFactory.createAuditRecord(
+                            new PickingTaskCompletedEvent(
+                                    "TASK-001", "WES-TASK-001", orderId, LocalDateTime.now()));
+            AuditRecord second =
+                    auditRecordFactory.createAuditRecord(
+                            new PickingTaskCompletedEvent(
+                                    "TASK-002",
+                                    "WES-TASK-002",
+                                    orderId,
+                                    LocalDateTime.now().plusSeconds(1)));
+
+            auditRecordRepository.saveAll(List.of(second, first));
+
+            List<AuditRecordEntity> byOrder =
+                    processStatusQueryRepository.findByOrderIdOrderByEventTimestampAsc(orderId);
+            assertEquals(2, byOrder.size());
+            assertEquals(first.getRecordId().toString(), byOrder.get(0).getRecordId());
+            assertEquals(
+                    1,
+                    auditRecordRepository
+                            .findByCorrelationId(second.getEventMetadata().getCorrelationId())
+                            .size());
+        }
+    }
+
+    @Nested
+    class encodingTest {
+
+        @Test
+        void shouldReadLegacyJsonAndEncodedRowsTogether() {
+            String orderId = "IDX-ENC-" + UUID.randomUUID().toString().substring(0, 8);
+            UUID correlationId = UUID.randomUUID();
+            AuditRecord encoded =
+                    new AuditRecord(
+                            UUID.randomUUID(),
+                            "Order",
+                            orderId,
+                            "OrderReservedEvent",
+                            LocalDateTime.now(),
+                            EventMetadata.of("Order Context", correlationId, "Scheduler"),
+                            "{\"orderId\":\"" + orderId + "\",\"lineItemIds\":[\"LINE-1\"]}",
+                            LocalDateTime.now());
+            auditRecordRepository.saveAll(List.of(encoded));
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            jdbcTemplate.update(
+                    LEGACY_INSERT_SQL,
+                    UUID.randomUUID().toString(),
+                    "Order",
+                    orderId,
+                    "OrderScheduledEvent",
+                    now,
+                    legacyMetadata("Order Context", correlationId),
+                    "{\n  \"orderId\" : \"" + orderId + "\"\n}",
+                    now);
+            jdbcTemplate.update(
+                    "UPDATE audit_records SET correlation_id = ? WHERE aggregate_id = ?",
+                    correlationId.toString(),
+                    orderId);
+
+            Map<String, Object> row =
+                    jdbcTemplate.queryForMap(
+                            "SELECT payload_encoding, payload, event_metadata FROM audit_records"
+                                    + " WHERE record_id = ?",
+                            encoded.getRecordId().toString());
+            assertEquals("smile", row.get("payload_encoding"));
+            assertNull(row.get("payload"));
+            assertNull(row.get("event_metadata"));
+
+            List<AuditRecord> records = auditRecordRepository.findByCorrelationId(correlationId);
+            assertEquals(2, records.size());
+            for (AuditRecord record : records) {
+                assertEquals(correlationId, record.getEventMetadata().getCorrelationId());
+                assertTrue(record.getPayload().contains(orderId));
+            }
+        }
+    }
+
+    @Nested
+    class backfillTest {
+
+        @Test
+        void shouldBackfillLegacyRowsInChunks() {
+            String orderId = "IDX-LEGACY-" + UUID.randomUUID().toString().substring(0, 8);
+            UUID correlationId = UUID.randomUUID();
+            insertLegacyRows(orderId, correlationId, 5);
+            insertLegacyRow("{\"unreadable\"", "{}");
+
+            assertTrue(
+                    processStatusQueryRepository
+                            .findByOrderIdOrderByEventTimestampAsc(orderId)
+                            .isEmpty());
+
+            drainBackfill(2);
+
+            assertEquals(
+                    5,
+                    processStatusQueryRepository
+                            .findByOrderIdOrderByEventTimestampAsc(orderId)
+                            .size());
+            assertEquals(5, auditRecordRepository.findByCorrelationId(correlationId).size());
+        }
+
+        @Test
+        void shouldLeaveOrderIdEmptyForEventsWithoutOrder() {
+            UUID correlationId = UUID.randomUUID();
+            insertLegacyRow(legacyMetadata("Inventory Context", correlationId), "{}");
+
+            drainBackfill(10);
+
+            List<AuditRecord> backfilled = auditRecordRepository.findByCorrelationId(correlationId);
+            assertEquals(1, backfilled.size());
+            assertNull(backfilled.get(0).getOrderId());
+        }
+
+        private void drainBackfill(int chunkSize) {
+            String cursor = null;
+            AuditIndexBackfillChunk chunk;
+            do {
+                chunk = backfillRepository.backfillChunk(cursor, chunkSize);
+                cursor = chunk.getLastRecordId();
+            } while (chunk.getScanned() == chunkSize);
+        }
+    }
+
+    @Nested
+    class queryPlanTest {
+
+        @Test
+        void shouldKeepIndexedLookupPlansAsRowCountGrows() {
+            String orderId = "IDX-PLAN-" + UUID.randomUUID().toString().substring(0, 8);
+            String correlationId = UUID.randomUUID().toString();
+
+            insertIndexedRows(200);
+            String smallOrderPlan = explainOrderLookup(orderId);
+            String smallCorrelationPlan = explainCorrelationLookup(correlationId);
+
+            insertIndexedRows(5000);
+            String largeOrderPlan = explainOrderLookup(orderId);
+            String largeCorrelationPlan = explainCorrelationLookup(correlationId);
+
+            assertTrue(smallOrderPlan.contains("idx_audit_order_id"), smallOrderPlan);
+            assertTrue(
+                    smallCorrelationPlan.contains("idx_audit_correlation_id"),
+                    smallCorrelationPlan);
+            assertEquals(smallOrderPlan, largeOrderPlan);
+            assertEquals(smallCorrelationPlan, largeCorrelationPlan);
+        }
+
+        private String explainOrderLookup(String orderId) {
+            return explain(
+                    "SELECT * FROM audit_records WHERE order_id = '"
+                            + orderId
+                            + "' ORDER BY event_timestamp ASC");
+        }
+
+        private String explainCorrelationLookup(String correlationId) {
+            return explain(
+                    "SELECT * FROM audit_records WHERE correlation_id = '" + correlationId + "'");
+        }
+
+        private String explain(String sql) {
+            return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class).toLowerCase();
+        }
+
+        private void insertIndexedRows(int count) {
+            List<Object[]> rows = new ArrayList<>(count);
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            for (int i = 0; i < count; i++) {
+                String correlationId = UUID.randomUUID().toString();
+                rows.add(
+                        new Object[] {
+                            UUID.randomUUID().toString(),
+                            "Order",
+                            "PLAN-ORDER-" + (i % 50),
+                            "OrderReservedEvent",
+                            now,
+                            "{\"correlationId\":\"" + correlationId + "\"}",
+                            "{\"orderId\":\"PLAN-ORDER-" + (i % 50) + "\"}",
+                            now,
+                            "PLAN-ORDER-" + (i % 50),
+                            correlationId
+                        });
+            }
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO audit_records (record_id, aggregate_type, aggregate_id,"
+                            + " event_name, event_timestamp, event_metadata, payload, created_at,"
+                            + " order_id, correlation_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                    rows);
+        }
+    }
+
+    private void insertLegacyRows(String orderId, UUID correlationId, int count) {
+        for (int i = 0; i < count; i++) {
+            insertLegacyRow(
+                    legacyMetadata("Order Context", correlationId),
+                    "{\"orderId\":\"" + orderId + "\"}");
+        }
+    }
+
+    private String legacyMetadata(String context, UUID correlationId) {
+        return "{\"context\":\""
+                + context
+                + "\",\"correlationId\":\""
+                + correlationId
+                + "\",\"triggerSource\":\"Manual\"}";
+    }
+
+    private void insertLegacyRow(String eventMetadata, String payload) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update(
+                LEGACY_INSERT_SQL,
+                UUID.randomUUID().toString(),
+                "Order",
+                "LEGACY",
+                "OrderReservedEvent",
+                now,
+                eventMetadata,
+                payload,
+                now);
+    }
+}
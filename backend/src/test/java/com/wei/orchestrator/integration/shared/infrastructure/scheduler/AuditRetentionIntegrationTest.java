@@ -0,0 +1,158 @@
+package com.wei.orchestrator.integration.shared.infrastructure.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.wei.orchestrator.order.query.OrderQueryService;
+import com.wei.orchestrator.order.query.dto.OrderProcessStatusDto;
+import com.wei.orchestrator.order.query.projection.OrderProcessStatusRebuilder;
+import com.wei.orchestrator.shared.application.audit.AuditRecordWriter;
+import com.wei.orchestrator.shared.domain.model.AuditRecord;
+import com.wei.orchestrator.shared.domain.model.valueobject.EventMetadata;
+import com.wei.orchestrator.shared.domain.repository.AuditRecordRepository;
+import com.wei.orchestrator.shared.infrastructure.archive.AuditArchive;
+import com.wei.orchestrator.shared.infrastructure.archive.AuditSegmentWriter;
+import com.wei.orchestrator.shared.infrastructure.scheduler.AuditRetentionWorker;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class AuditRetentionIntegrationTest {
+
+    private static final LocalDateTime PERIOD_START = LocalDateTime.of(2020, 2, 3, 0, 0);
+    private static final LocalDateTime PERIOD_END = PERIOD_START.plusDays(1);
+
+    @Autowired private AuditRecordRepository auditRecordRepository;
+
+    @Autowired private AuditRecordWriter auditRecordWriter;
+
+    @Autowired private AuditRetentionWorker retentionWorker;
+
+    @Autowired private AuditArchive auditArchive;
+
+    @Autowired private OrderQueryService orderQueryService;
+
+    @Autowired private OrderProcessStatusRebuilder processStatusRebuilder;
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @Nested
+    class archivePeriodTest {
+
+        @Test
+        void shouldServeArchivedAndHotRecordsTogether() throws IOException {
+            String orderId = newOrderId();
+            UUID correlationId = UUID.randomUUID();
+            List<AuditRecord> expired = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                expired.add(
+                        auditRecord(
+                                orderId,
+                                correlationId,
+                                "OrderScheduledEvent",
+                                PERIOD_START.plusHours(i)));
+            }
+            AuditRecord hot =
+                    auditRecord(
+                            orderId,
+                            correlationId,
+                            "OrderReadyForFulfillmentEvent",
+                            LocalDateTime.now());
+            auditRecordRepository.saveAll(expired);
+            auditRecordRepository.save(hot);
+
+            retentionWorker.archivePeriod(PERIOD_START, PERIOD_END);
+
+            assertEquals(1, countRows(orderId));
+            assertEquals(6, auditRecordRepository.findByOrderId(orderId).size());
+            assertEquals(6, auditRecordRepository.findByCorrelationId(correlationId).size());
+            assertEquals(
+                    6, auditRecordRepository.findByAggregateTypeAndId("Order", orderId).size());
+            assertTrue(auditRecordRepository.findById(expired.get(2).getRecordId()).isPresent());
+            assertTrue(
+                    auditRecordRepository
+                            .findByEventTimestampBetween(PERIOD_START, PERIOD_END)
+                            .containsAll(expired));
+        }
+
+        @Test
+        void shouldNotDuplicateRecordsStillPresentInDatabase() throws IOException {
+            String orderId = newOrderId();
+            AuditRecord record =
+                    auditRecord(orderId, UUID.randomUUID(), "OrderScheduledEvent", PERIOD_START);
+            auditRecordRepository.save(record);
+
+            try (AuditSegmentWriter writer = auditArchive.openSegment(PERIOD_START, PERIOD_END)) {
+                writer.append(record);
+                writer.seal();
+            }
+
+            assertEquals(1, countRows(orderId));
+            assertEquals(1, auditRecordRepository.findByOrderId(orderId).size());
+        }
+    }
+
+    @Nested
+    class processStatusTest {
+
+        @Test
+        void shouldKeepStepDetailAndRebuildCoverageForArchivedEvents() throws IOException {
+            String orderId = newOrderId();
+            auditRecordWriter.write(
+                    auditRecord(
+                            orderId,
+                            UUID.randomUUID(),
+                            "OrderScheduledEvent",
+                            PERIOD_START.plusHours(1)));
+            auditRecordWriter.write(
+                    auditRecord(
+                            orderId,
+                            UUID.randomUUID(),
+                            "OrderReadyForFulfillmentEvent",
+                            LocalDateTime.now()));
+
+            retentionWorker.archivePeriod(PERIOD_START, PERIOD_END);
+            processStatusRebuilder.rebuild();
+
+            List<OrderProcessStatusDto.ProcessStepDto> steps =
+                    orderQueryService.getOrderProcessStatus(orderId).getSteps();
+            assertEquals("SUCCESS", steps.get(0).getStatus());
+            assertEquals(PERIOD_START.plusHours(1), steps.get(0).getTimestamp());
+            assertEquals("SUCCESS", steps.get(1).getStatus());
+            assertEquals(
+                    1, orderQueryService.getOrderProcessStepDetail(orderId, 1).getEvents().size());
+        }
+    }
+
+    private int countRows(String orderId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM audit_records WHERE order_id = ?", Integer.class, orderId);
+    }
+
+    private static String newOrderId() {
+        return "RETAIN-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    private static AuditRecord auditRecord(
+            String orderId, UUID correlationId, String eventName, LocalDateTime eventTimestamp) {
+        return new AuditRecord(
+                UUID.randomUUID(),
+                "Order",
+                orderId,
+                eventName,
+                eventTimestamp,
+                EventMetadata.of("Order Context", correlationId, "Scheduler"),
+                "{\"orderId\":\"" + orderId + "\"}",
+                eventTimestamp,
+                orderId);
+    }
+}
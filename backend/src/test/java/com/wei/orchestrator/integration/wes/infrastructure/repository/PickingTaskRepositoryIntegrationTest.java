@@ -3,6 +3,7 @@ package com.wei.orchestrator.integration.wes.infrastructure.repository;
 import static org.junit.jupiter.api.Assertions.*;
 
 import com.wei.orchestrator.wes.domain.model.PickingTask;
+import com.wei.orchestrator.wes.domain.model.valueobject.PickingTaskStatusView;
 import com.wei.orchestrator.wes.domain.model.valueobject.TaskItem;
 import com.wei.orchestrator.wes.domain.model.valueobject.TaskStatus;
 import com.wei.orchestrator.wes.domain.model.valueobject.WesTaskId;
@@ -10,6 +11,7 @@ import com.wei.orchestrator.wes.infrastructure.repository.PickingTaskRepositoryI
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
@@ -245,4 +247,59 @@ class PickingTaskRepositoryIntegrationTest {
         assertEquals("Customer requested cancellation", canceledTask.get().getFailureReason());
         assertNotNull(canceledTask.get().getCanceledAt());
     }
+
+    @Test
+    void shouldFindStatusViewsOfNonTerminalSubmittedTasksOnly() {
+        PickingTask pendingTask =
+                PickingTask.createForOrder(
+                        "ORDER-013", List.of(TaskItem.of("SKU-960", 1, "L-12-01")), 5);
+        pickingTaskRepository.save(pendingTask);
+
+        PickingTask submittedTask =
+                PickingTask.createForOrder(
+                        "ORDER-014", List.of(TaskItem.of("SKU-961", 1, "L-12-02")), 5);
+        submittedTask.submitToWes(WesTaskId.of("WES-TASK-VIEW-ACTIVE"));
+        pickingTaskRepository.save(submittedTask);
+
+        PickingTask canceledTask =
+                PickingTask.createForOrder(
+                        "ORDER-015", List.of(TaskItem.of("SKU-962", 1, "L-12-03")), 5);
+        canceledTask.submitToWes(WesTaskId.of("WES-TASK-VIEW-CANCELED"));
+        canceledTask.cancel("No longer needed");
+        pickingTaskRepository.save(canceledTask);
+
+        List<PickingTaskStatusView> views = pickingTaskRepository.findNonTerminalStatusViews();
+
+        assertTrue(
+                views.contains(
+                        new PickingTaskStatusView(
+                                submittedTask.getTaskId(),
+                                "WES-TASK-VIEW-ACTIVE",
+                                TaskStatus.SUBMITTED)));
+        assertTrue(
+                views.stream()
+                        .noneMatch(view -> view.getWesTaskId().equals("WES-TASK-VIEW-CANCELED")));
+        assertTrue(
+                views.stream()
+                        .noneMatch(view -> view.getTaskId().equals(pendingTask.getTaskId())));
+    }
+
+    @Test
+    void shouldFindExistingWesTaskIdsAcrossInClauseBatches() {
+        PickingTask canceledTask =
+                PickingTask.createForOrder(
+                        "ORDER-016", List.of(TaskItem.of("SKU-970", 1, "M-13-01")), 5);
+        canceledTask.submitToWes(WesTaskId.of("WES-TASK-EXISTING-1500"));
+        canceledTask.cancel("No longer needed");
+        pickingTaskRepository.save(canceledTask);
+
+        List<String> candidates = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            candidates.add("WES-TASK-EXISTING-" + i);
+        }
+
+        Set<String> existing = pickingTaskRepository.findExistingWesTaskIds(candidates);
+
+        assertEquals(Set.of("WES-TASK-EXISTING-1500"), existing);
+    }
 }
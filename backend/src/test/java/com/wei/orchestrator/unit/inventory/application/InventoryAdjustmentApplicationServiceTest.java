@@ -19,6 +19,8 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -30,6 +32,8 @@ import org.springframework.context.ApplicationEventPublisher;
 @ExtendWith(MockitoExtension.class)
 class InventoryAdjustmentApplicationServiceTest {
 
+    private static final int WES_LOOKUP_MAX_KEYS = 1;
+
     @Mock private InventoryAdjustmentRepository inventoryAdjustmentRepository;
 
     @Mock private InventoryTransactionRepository inventoryTransactionRepository;
@@ -50,7 +54,8 @@ class InventoryAdjustmentApplicationServiceTest {
                         inventoryTransactionRepository,
                         wesPort,
                         inventoryPort,
-                        eventPublisher);
+                        eventPublisher,
+                        WES_LOOKUP_MAX_KEYS);
     }
 
     @Nested
@@ -63,14 +68,14 @@ class InventoryAdjustmentApplicationServiceTest {
             DetectDiscrepancyCommand command =
                     new DetectDiscrepancyCommand("OBSERVER-001", inventorySnapshots);
 
-            when(wesPort.getInventorySnapshot()).thenReturn(new ArrayList<>());
+            stubWesInventory(new ArrayList<>());
             when(inventoryAdjustmentRepository.save(any(InventoryAdjustment.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
 
             String adjustmentId = service.detectDiscrepancy(command);
 
             assertNotNull(adjustmentId);
-            verify(wesPort).getInventorySnapshot();
+            verify(wesPort).streamInventorySnapshot(any());
             verify(inventoryAdjustmentRepository).save(any(InventoryAdjustment.class));
         }
 
@@ -83,7 +88,7 @@ class InventoryAdjustmentApplicationServiceTest {
                     new DetectDiscrepancyCommand("OBSERVER-001", inventorySnapshots);
 
             List<WesInventoryDto> wesInventory = new ArrayList<>();
-            when(wesPort.getInventorySnapshot()).thenReturn(wesInventory);
+            stubWesInventory(wesInventory);
 
             when(inventoryAdjustmentRepository.save(any(InventoryAdjustment.class)))
                     .thenAnswer(
@@ -108,7 +113,7 @@ class InventoryAdjustmentApplicationServiceTest {
             DetectDiscrepancyCommand command =
                     new DetectDiscrepancyCommand("OBSERVER-001", inventorySnapshots);
 
-            when(wesPort.getInventorySnapshot()).thenReturn(new ArrayList<>());
+            stubWesInventory(new ArrayList<>());
             when(inventoryAdjustmentRepository.save(any(InventoryAdjustment.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -117,6 +122,49 @@ class InventoryAdjustmentApplicationServiceTest {
             verify(inventoryAdjustmentRepository).save(any(InventoryAdjustment.class));
         }
 
+        @Test
+        void shouldCompareOnlyChangedKeysForDeltaSnapshot() {
+            List<StockSnapshot> inventorySnapshots = new ArrayList<>();
+            inventorySnapshots.add(new StockSnapshot("SKU-001", 10, "WH-01", LocalDateTime.now()));
+
+            DetectDiscrepancyCommand command =
+                    new DetectDiscrepancyCommand("OBSERVER-001", inventorySnapshots, false);
+
+            when(wesPort.getInventoryBySku("SKU-001", "WH-01"))
+                    .thenReturn(List.of(createWesInventoryDto("SKU-001", "WH-01", 10)));
+            when(inventoryAdjustmentRepository.save(any(InventoryAdjustment.class)))
+                    .thenAnswer(invocation -> invocation.getArgument(0));
+
+            String adjustmentId = service.detectDiscrepancy(command);
+
+            assertNull(adjustmentId);
+            verify(wesPort, never()).streamInventorySnapshot(any());
+            verify(eventPublisher, never()).publishEvent(any());
+        }
+
+        @Test
+        void shouldStreamWesSnapshotWhenDeltaExceedsLookupLimit() {
+            List<StockSnapshot> inventorySnapshots = new ArrayList<>();
+            inventorySnapshots.add(new StockSnapshot("SKU-001", 10, "WH-01", LocalDateTime.now()));
+            inventorySnapshots.add(new StockSnapshot("SKU-002", 5, "WH-01", LocalDateTime.now()));
+
+            DetectDiscrepancyCommand command =
+                    new DetectDiscrepancyCommand("OBSERVER-001", inventorySnapshots, false);
+
+            List<WesInventoryDto> wesInventory = new ArrayList<>();
+            wesInventory.add(createWesInventoryDto("SKU-001", "WH-01", 10));
+            wesInventory.add(createWesInventoryDto("SKU-002", "WH-01", 25));
+            wesInventory.add(createWesInventoryDto("SKU-003", "WH-01", 40));
+            stubWesInventory(wesInventory);
+            when(inventoryAdjustmentRepository.save(any(InventoryAdjustment.class)))
+                    .thenAnswer(invocation -> invocation.getArgument(0));
+
+            String adjustmentId = service.detectDiscrepancy(command);
+
+            assertNotNull(adjustmentId);
+            verify(wesPort, never()).getInventoryBySku(any(), any());
+        }
+
         @Test
         void shouldHandleExceptionWhenWesPortFails() {
             List<StockSnapshot> inventorySnapshots = new ArrayList<>();
@@ -125,8 +173,9 @@ class InventoryAdjustmentApplicationServiceTest {
             DetectDiscrepancyCommand command =
                     new DetectDiscrepancyCommand("OBSERVER-001", inventorySnapshots);
 
-            when(wesPort.getInventorySnapshot())
-                    .thenThrow(new RuntimeException("WES connection failed"));
+            doThrow(new RuntimeException("WES connection failed"))
+                    .when(wesPort)
+                    .streamInventorySnapshot(any());
 
             RuntimeException exception =
                     assertThrows(RuntimeException.class, () -> service.detectDiscrepancy(command));
@@ -137,7 +186,7 @@ class InventoryAdjustmentApplicationServiceTest {
                             .contains(
                                     "Failed to fetch WES inventory snapshot: WES connection"
                                             + " failed"));
-            verify(wesPort).getInventorySnapshot();
+            verify(wesPort).streamInventorySnapshot(any());
         }
     }
 
@@ -263,4 +312,26 @@ class InventoryAdjustmentApplicationServiceTest {
 
         return InventoryAdjustment.detectDiscrepancy(inventorySnapshots, wesSnapshots);
     }
+
+    @SafeVarargs
+    private void stubWesInventory(List<WesInventoryDto>... responses) {
+        AtomicInteger calls = new AtomicInteger();
+        doAnswer(
+                        invocation -> {
+                            Consumer<WesInventoryDto> consumer = invocation.getArgument(0);
+                            int call = Math.min(calls.getAndIncrement(), responses.length - 1);
+                            responses[call].forEach(consumer);
+                            return null;
+                        })
+                .when(wesPort)
+                .streamInventorySnapshot(any());
+    }
+
+    private WesInventoryDto createWesInventoryDto(String sku, String warehouseId, int quantity) {
+        WesInventoryDto dto = new WesInventoryDto();
+        dto.setSku(sku);
+        dto.setWarehouseId(warehouseId);
+        dto.setQuantity(quantity);
+        return dto;
+    }
 }
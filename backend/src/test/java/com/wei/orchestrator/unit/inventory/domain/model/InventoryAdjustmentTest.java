@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import com.wei.orchestrator.inventory.domain.event.InventoryAdjustmentAppliedEvent;
 import com.wei.orchestrator.inventory.domain.event.InventoryDiscrepancyDetectedEvent;
+import com.wei.orchestrator.inventory.domain.model.DiscrepancyDetection;
 import com.wei.orchestrator.inventory.domain.model.InventoryAdjustment;
 import com.wei.orchestrator.inventory.domain.model.valueobject.AdjustmentStatus;
 import com.wei.orchestrator.inventory.domain.model.valueobject.DiscrepancyLog;
@@ -232,6 +233,47 @@ class InventoryAdjustmentTest {
         }
     }
 
+    @Nested
+    class BeginDetectionMethodTest {
+        @Test
+        void shouldDetectDiscrepanciesFromRecordedWesSnapshots() {
+            List<StockSnapshot> inventorySnapshots = new ArrayList<>();
+            inventorySnapshots.add(new StockSnapshot("SKU-001", 10, "WH-01", LocalDateTime.now()));
+            inventorySnapshots.add(new StockSnapshot("SKU-002", 5, "WH-01", LocalDateTime.now()));
+
+            DiscrepancyDetection detection = InventoryAdjustment.beginDetection(inventorySnapshots);
+            detection.record(new StockSnapshot("SKU-001", 10, "WH-01", LocalDateTime.now()));
+            detection.record(new StockSnapshot("SKU-003", 4, "WH-01", LocalDateTime.now()));
+            InventoryAdjustment adjustment = detection.complete();
+
+            assertEquals(2, adjustment.getDiscrepancyLogs().size());
+            DiscrepancyLog onlyInWes = adjustment.getDiscrepancyLogs().get(0);
+            assertEquals("SKU-003", onlyInWes.getSku());
+            assertEquals(4, onlyInWes.getExpectedQuantity());
+            assertEquals(0, onlyInWes.getActualQuantity());
+            DiscrepancyLog onlyInInventory = adjustment.getDiscrepancyLogs().get(1);
+            assertEquals("SKU-002", onlyInInventory.getSku());
+            assertEquals(0, onlyInInventory.getExpectedQuantity());
+            assertEquals(5, onlyInInventory.getActualQuantity());
+            assertEquals(1, adjustment.getDomainEvents().size());
+        }
+
+        @Test
+        void shouldRejectRecordingAfterCompletion() {
+            DiscrepancyDetection detection =
+                    InventoryAdjustment.beginDetection(
+                            List.of(new StockSnapshot("SKU-001", 1, "WH-01", LocalDateTime.now())));
+            detection.complete();
+
+            assertThrows(
+                    IllegalStateException.class,
+                    () ->
+                            detection.record(
+                                    new StockSnapshot(
+                                            "SKU-001", 1, "WH-01", LocalDateTime.now())));
+        }
+    }
+
     @Nested
     class MarkAsProcessingMethodTest {
         @Test
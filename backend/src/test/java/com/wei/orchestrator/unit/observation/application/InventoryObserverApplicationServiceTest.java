@@ -9,32 +9,49 @@ import com.wei.orchestrator.inventory.infrastructure.adapter.dto.InventorySnapsh
 import com.wei.orchestrator.observation.application.InventoryObserverApplicationService;
 import com.wei.orchestrator.observation.application.command.CreateInventoryObserverCommand;
 import com.wei.orchestrator.observation.application.command.PollInventorySnapshotCommand;
+import com.wei.orchestrator.observation.application.dto.ObserverScheduleDto;
+import com.wei.orchestrator.observation.application.event.ObserverScheduleChangedEvent;
 import com.wei.orchestrator.observation.domain.event.InventorySnapshotObservedEvent;
 import com.wei.orchestrator.observation.domain.model.InventoryObserver;
 import com.wei.orchestrator.observation.domain.model.valueobject.ObservationRule;
+import com.wei.orchestrator.observation.domain.model.valueobject.ObserverType;
 import com.wei.orchestrator.observation.domain.model.valueobject.PollingInterval;
 import com.wei.orchestrator.observation.domain.repository.InventoryObserverRepository;
+import com.wei.orchestrator.observation.domain.repository.LastKnownStockLevelsRepository;
+import com.wei.orchestrator.observation.infrastructure.repository.InMemoryLastKnownStockLevelsRepository;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionOperations;
 
 @ExtendWith(MockitoExtension.class)
 class InventoryObserverApplicationServiceTest {
 
     @Mock private InventoryObserverRepository inventoryObserverRepository;
 
+    @Spy
+    private LastKnownStockLevelsRepository lastKnownStockLevelsRepository =
+            new InMemoryLastKnownStockLevelsRepository();
+
     @Mock private InventoryPort inventoryPort;
 
     @Mock private ApplicationEventPublisher eventPublisher;
 
+    @Spy
+    private TransactionOperations transactionOperations =
+            TransactionOperations.withoutTransaction();
+
     @InjectMocks private InventoryObserverApplicationService inventoryObserverApplicationService;
 
     @Nested
@@ -100,7 +117,7 @@ class InventoryObserverApplicationServiceTest {
 
             when(inventoryObserverRepository.findById("observer-1"))
                     .thenReturn(Optional.of(mockObserver));
-            when(inventoryPort.getInventorySnapshot()).thenReturn(mockDtos);
+            stubInventorySnapshot(mockDtos);
 
             inventoryObserverApplicationService.pollInventorySnapshot(command);
 
@@ -140,7 +157,7 @@ class InventoryObserverApplicationServiceTest {
             inventoryObserverApplicationService.pollInventorySnapshot(command);
 
             verify(inventoryObserverRepository).findById("observer-2");
-            verify(inventoryPort, never()).getInventorySnapshot();
+            verify(inventoryPort, never()).streamInventorySnapshot(any());
             verify(eventPublisher, never()).publishEvent(any());
         }
 
@@ -153,7 +170,7 @@ class InventoryObserverApplicationServiceTest {
 
             when(inventoryObserverRepository.findById("observer-3"))
                     .thenReturn(Optional.of(mockObserver));
-            when(inventoryPort.getInventorySnapshot()).thenReturn(mockDtos);
+            stubInventorySnapshot(mockDtos);
 
             inventoryObserverApplicationService.pollInventorySnapshot(command);
 
@@ -171,7 +188,7 @@ class InventoryObserverApplicationServiceTest {
 
             when(inventoryObserverRepository.findById("observer-4"))
                     .thenReturn(Optional.of(mockObserver));
-            when(inventoryPort.getInventorySnapshot()).thenReturn(mockDtos);
+            stubInventorySnapshot(mockDtos);
 
             inventoryObserverApplicationService.pollInventorySnapshot(command);
 
@@ -187,75 +204,93 @@ class InventoryObserverApplicationServiceTest {
 
             when(inventoryObserverRepository.findById("observer-5"))
                     .thenReturn(Optional.of(mockObserver));
-            when(inventoryPort.getInventorySnapshot()).thenReturn(mockDtos);
+            stubInventorySnapshot(mockDtos);
 
             inventoryObserverApplicationService.pollInventorySnapshot(command);
 
-            verify(inventoryPort).getInventorySnapshot();
+            verify(inventoryPort).streamInventorySnapshot(any());
         }
-    }
-
-    @Nested
-    class pollAllActiveObserversTest {
 
         @Test
-        void shouldPollAllActiveObservers() {
-            InventoryObserver observer1 = createMockInventoryObserver("observer-1");
-            InventoryObserver observer2 = createMockInventoryObserver("observer-2");
-            List<InventoryObserver> activeObservers = Arrays.asList(observer1, observer2);
-
-            List<InventorySnapshotDto> mockDtos = createMockInventorySnapshotDtos(1);
+        void shouldNotPublishEventWhenInventoryIsUnchanged() {
+            InventoryObserver mockObserver = createMockInventoryObserver("observer-6");
+            PollInventorySnapshotCommand command = new PollInventorySnapshotCommand("observer-6");
 
-            when(inventoryObserverRepository.findAllActive()).thenReturn(activeObservers);
-            when(inventoryObserverRepository.findById("observer-1"))
-                    .thenReturn(Optional.of(observer1));
-            when(inventoryObserverRepository.findById("observer-2"))
-                    .thenReturn(Optional.of(observer2));
-            when(inventoryPort.getInventorySnapshot()).thenReturn(mockDtos);
+            when(inventoryObserverRepository.findById("observer-6"))
+                    .thenReturn(Optional.of(mockObserver));
+            stubInventorySnapshot(createMockInventorySnapshotDtos(2));
 
-            inventoryObserverApplicationService.pollAllActiveObservers();
+            inventoryObserverApplicationService.pollInventorySnapshot(command);
+            mockObserver.setLastPolledTimestamp(null);
+            inventoryObserverApplicationService.pollInventorySnapshot(command);
 
-            verify(inventoryObserverRepository).findAllActive();
-            verify(inventoryObserverRepository, times(2)).save(any(InventoryObserver.class));
+            verify(inventoryPort, times(2)).streamInventorySnapshot(any());
+            verify(eventPublisher, times(1))
+                    .publishEvent(any(InventorySnapshotObservedEvent.class));
         }
 
         @Test
-        void shouldHandleEmptyActiveObserversList() {
-            when(inventoryObserverRepository.findAllActive()).thenReturn(new ArrayList<>());
+        void shouldForgetLastKnownStockLevelsWhenPollFails() {
+            InventoryObserver mockObserver = createMockInventoryObserver("observer-7");
+            PollInventorySnapshotCommand command = new PollInventorySnapshotCommand("observer-7");
+
+            when(inventoryObserverRepository.findById("observer-7"))
+                    .thenReturn(Optional.of(mockObserver));
+            stubInventorySnapshot(createMockInventorySnapshotDtos(2));
+            when(inventoryObserverRepository.save(mockObserver))
+                    .thenThrow(new IllegalStateException("database unavailable"));
 
-            inventoryObserverApplicationService.pollAllActiveObservers();
+            assertThrows(
+                    IllegalStateException.class,
+                    () -> inventoryObserverApplicationService.pollInventorySnapshot(command));
 
-            verify(inventoryObserverRepository).findAllActive();
-            verify(inventoryPort, never()).getInventorySnapshot();
+            verify(lastKnownStockLevelsRepository).deleteById("observer-7");
+            assertTrue(lastKnownStockLevelsRepository.findOrCreate("observer-7").isEmpty());
         }
 
         @Test
-        void shouldCallPollInventorySnapshotForEachActiveObserver() {
-            InventoryObserver observer1 = createMockInventoryObserver("observer-1");
-            InventoryObserver observer2 = createMockInventoryObserver("observer-2");
-            InventoryObserver observer3 = createMockInventoryObserver("observer-3");
-            List<InventoryObserver> activeObservers =
-                    Arrays.asList(observer1, observer2, observer3);
+        void shouldNotOpenTransactionWhenSnapshotFetchFails() {
+            InventoryObserver mockObserver = createMockInventoryObserver("observer-8");
+            PollInventorySnapshotCommand command = new PollInventorySnapshotCommand("observer-8");
 
-            List<InventorySnapshotDto> mockDtos = createMockInventorySnapshotDtos(1);
+            when(inventoryObserverRepository.findById("observer-8"))
+                    .thenReturn(Optional.of(mockObserver));
+            doThrow(new IllegalStateException("inventory service unavailable"))
+                    .when(inventoryPort)
+                    .streamInventorySnapshot(any());
 
-            when(inventoryObserverRepository.findAllActive()).thenReturn(activeObservers);
-            when(inventoryObserverRepository.findById(anyString()))
-                    .thenAnswer(
-                            invocation -> {
-                                String id = invocation.getArgument(0);
-                                return activeObservers.stream()
-                                        .filter(obs -> obs.getObserverId().equals(id))
-                                        .findFirst();
-                            });
-            when(inventoryPort.getInventorySnapshot()).thenReturn(mockDtos);
+            assertThrows(
+                    IllegalStateException.class,
+                    () -> inventoryObserverApplicationService.pollInventorySnapshot(command));
 
-            inventoryObserverApplicationService.pollAllActiveObservers();
+            verify(transactionOperations, never()).executeWithoutResult(any());
+            verify(inventoryObserverRepository, never()).save(any());
+            verifyNoInteractions(eventPublisher);
+        }
+    }
 
-            verify(inventoryObserverRepository).findById("observer-1");
-            verify(inventoryObserverRepository).findById("observer-2");
-            verify(inventoryObserverRepository).findById("observer-3");
-            verify(inventoryObserverRepository, times(3)).save(any(InventoryObserver.class));
+    @Nested
+    class findActiveObserverSchedulesTest {
+
+        @Test
+        void shouldReturnSchedulesOfActiveObservers() {
+            InventoryObserver polledObserver = createMockInventoryObserver("observer-2");
+            LocalDateTime lastPolled = LocalDateTime.now().minusMinutes(1);
+            polledObserver.setLastPolledTimestamp(lastPolled);
+            when(inventoryObserverRepository.findAllActive())
+                    .thenReturn(
+                            Arrays.asList(
+                                    createMockInventoryObserver("observer-1"), polledObserver));
+
+            List<ObserverScheduleDto> schedules =
+                    inventoryObserverApplicationService.findActiveObserverSchedules();
+
+            assertEquals(2, schedules.size());
+            assertEquals("observer-1", schedules.get(0).getObserverId());
+            assertEquals(3600, schedules.get(0).getPollingIntervalSeconds());
+            assertNull(schedules.get(0).getLastPolledTimestamp());
+            assertEquals(lastPolled, schedules.get(1).getLastPolledTimestamp());
+            verify(inventoryObserverRepository, never()).findById(anyString());
         }
     }
 
@@ -276,6 +311,24 @@ class InventoryObserverApplicationServiceTest {
             verify(inventoryObserverRepository).save(mockObserver);
         }
 
+        @Test
+        void shouldScheduleObserverWhenActivated() {
+            InventoryObserver mockObserver = createMockInventoryObserver("observer-1");
+            mockObserver.deactivate();
+            when(inventoryObserverRepository.findById("observer-1"))
+                    .thenReturn(Optional.of(mockObserver));
+
+            inventoryObserverApplicationService.activateObserver("observer-1");
+
+            ArgumentCaptor<ObserverScheduleChangedEvent> captor =
+                    ArgumentCaptor.forClass(ObserverScheduleChangedEvent.class);
+            verify(eventPublisher).publishEvent(captor.capture());
+            assertEquals(ObserverType.INVENTORY, captor.getValue().getObserverType());
+            assertEquals("observer-1", captor.getValue().getObserverId());
+            assertTrue(captor.getValue().isActive());
+            assertEquals(3600, captor.getValue().getPollingIntervalSeconds());
+        }
+
         @Test
         void shouldThrowExceptionWhenObserverNotFoundForActivation() {
             when(inventoryObserverRepository.findById("non-existent")).thenReturn(Optional.empty());
@@ -320,6 +373,23 @@ class InventoryObserverApplicationServiceTest {
 
             assertFalse(mockObserver.isActive());
             verify(inventoryObserverRepository).save(mockObserver);
+            verify(lastKnownStockLevelsRepository).deleteById("observer-1");
+        }
+
+        @Test
+        void shouldUnscheduleObserverWhenDeactivated() {
+            InventoryObserver mockObserver = createMockInventoryObserver("observer-1");
+            when(inventoryObserverRepository.findById("observer-1"))
+                    .thenReturn(Optional.of(mockObserver));
+
+            inventoryObserverApplicationService.deactivateObserver("observer-1");
+
+            ArgumentCaptor<ObserverScheduleChangedEvent> captor =
+                    ArgumentCaptor.forClass(ObserverScheduleChangedEvent.class);
+            verify(eventPublisher).publishEvent(captor.capture());
+            assertEquals(ObserverType.INVENTORY, captor.getValue().getObserverType());
+            assertEquals("observer-1", captor.getValue().getObserverId());
+            assertFalse(captor.getValue().isActive());
         }
 
         @Test
@@ -351,6 +421,20 @@ class InventoryObserverApplicationServiceTest {
         }
     }
 
+    @SafeVarargs
+    private void stubInventorySnapshot(List<InventorySnapshotDto>... responses) {
+        AtomicInteger calls = new AtomicInteger();
+        doAnswer(
+                        invocation -> {
+                            Consumer<InventorySnapshotDto> consumer = invocation.getArgument(0);
+                            int call = Math.min(calls.getAndIncrement(), responses.length - 1);
+                            responses[call].forEach(consumer);
+                            return null;
+                        })
+                .when(inventoryPort)
+                .streamInventorySnapshot(any());
+    }
+
     private InventoryObserver createMockInventoryObserver(String observerId) {
         return new InventoryObserver(
                 observerId, new ObservationRule(5.0, 3600), new PollingInterval(3600));
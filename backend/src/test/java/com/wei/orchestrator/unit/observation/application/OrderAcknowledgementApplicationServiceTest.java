@@ -0,0 +1,258 @@
+package com.wei.orchestrator.unit.observation.application;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.wei.orchestrator.observation.application.OrderAcknowledgementApplicationService;
+import com.wei.orchestrator.observation.domain.model.OrderObserver;
+import com.wei.orchestrator.observation.domain.model.valueobject.PollingInterval;
+import com.wei.orchestrator.observation.domain.model.valueobject.SourceEndpoint;
+import com.wei.orchestrator.observation.domain.port.OrderSourcePort;
+import com.wei.orchestrator.observation.domain.repository.OrderObserverRepository;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class OrderAcknowledgementApplicationServiceTest {
+
+    private static final long MAX_DELAY_MS = 60_000;
+    private static final long RETRY_BACKOFF_MS = 1_000;
+    private static final long MAX_RETRY_BACKOFF_MS = 8_000;
+    private static final int MAX_PENDING = 5;
+
+    @Mock private OrderObserverRepository orderObserverRepository;
+
+    @Mock private OrderSourcePort orderSourcePort;
+
+    private OrderAcknowledgementApplicationService service;
+    private SourceEndpoint sourceEndpoint;
+
+    @BeforeEach
+    void setUp() {
+        service =
+                new OrderAcknowledgementApplicationService(
+                        orderObserverRepository,
+                        orderSourcePort,
+                        3,
+                        MAX_DELAY_MS,
+                        RETRY_BACKOFF_MS,
+                        MAX_RETRY_BACKOFF_MS,
+                        MAX_PENDING);
+        sourceEndpoint =
+                new SourceEndpoint("jdbc:oracle:thin:@localhost:1521:XE", "user", "password");
+    }
+
+    @Nested
+    class acknowledgeTest {
+
+        @Test
+        void shouldBufferUntilBatchSizeIsReached() {
+            service.acknowledge("observer-1", "order-1");
+            service.acknowledge("observer-1", "order-2");
+
+            assertEquals(2, service.getPendingCount("observer-1"));
+            verifyNoInteractions(orderSourcePort);
+        }
+
+        @Test
+        void shouldFlushWhenBatchSizeIsReached() {
+            givenObserver("observer-1");
+            when(orderSourcePort.acknowledgeOrders(eq(sourceEndpoint), any()))
+                    .thenReturn(Set.of("order-1", "order-2", "order-3"));
+
+            service.acknowledge("observer-1", "order-1");
+            service.acknowledge("observer-1", "order-2");
+            service.acknowledge("observer-1", "order-3");
+
+            verify(orderSourcePort)
+                    .acknowledgeOrders(sourceEndpoint, List.of("order-1", "order-2", "order-3"));
+            assertEquals(0, service.getPendingCount("observer-1"));
+        }
+
+        @Test
+        void shouldNotCountDuplicateOrderIdsTowardsBatchSize() {
+            service.acknowledge("observer-1", "order-1");
+            service.acknowledge("observer-1", "order-1");
+            service.acknowledge("observer-1", "order-2");
+
+            assertEquals(2, service.getPendingCount("observer-1"));
+            verifyNoInteractions(orderSourcePort);
+        }
+
+        @Test
+        void shouldKeepBuffersSeparatePerObserver() {
+            service.acknowledge("observer-1", "order-1");
+            service.acknowledge("observer-2", "order-2");
+
+            assertEquals(1, service.getPendingCount("observer-1"));
+            assertEquals(1, service.getPendingCount("observer-2"));
+        }
+    }
+
+    @Nested
+    class flushDueTest {
+
+        @Test
+        void shouldFlushBuffersOlderThanMaxDelay() {
+            givenObserver("observer-1");
+            when(orderSourcePort.acknowledgeOrders(sourceEndpoint, List.of("order-1")))
+                    .thenReturn(Set.of("order-1"));
+            service.acknowledge("observer-1", "order-1");
+
+            service.flushDue(System.currentTimeMillis() + MAX_DELAY_MS);
+
+            verify(orderSourcePort).acknowledgeOrders(sourceEndpoint, List.of("order-1"));
+            assertEquals(0, service.getPendingCount("observer-1"));
+        }
+
+        @Test
+        void shouldKeepBuffersYoungerThanMaxDelay() {
+            service.acknowledge("observer-1", "order-1");
+
+            service.flushDue(System.currentTimeMillis());
+
+            verifyNoInteractions(orderSourcePort);
+            assertEquals(1, service.getPendingCount("observer-1"));
+        }
+    }
+
+    @Nested
+    class flushTest {
+
+        @Test
+        void shouldReturnOnlyTransitionedOrderIds() {
+            givenObserver("observer-1");
+            when(orderSourcePort.acknowledgeOrders(sourceEndpoint, List.of("order-1", "order-2")))
+                    .thenReturn(Set.of("order-2"));
+            service.acknowledge("observer-1", "order-1");
+            service.acknowledge("observer-1", "order-2");
+
+            Set<String> acknowledged = service.flush("observer-1");
+
+            assertEquals(Set.of("order-2"), acknowledged);
+        }
+
+        @Test
+        void shouldRequeueOrderIdsWhenSourceFails() {
+            givenObserver("observer-1");
+            when(orderSourcePort.acknowledgeOrders(eq(sourceEndpoint), any()))
+                    .thenThrow(new RuntimeException("Connection refused"));
+            service.acknowledge("observer-1", "order-1");
+            service.acknowledge("observer-1", "order-2");
+
+            Set<String> acknowledged = service.flush("observer-1");
+
+            assertTrue(acknowledged.isEmpty());
+            assertEquals(2, service.getPendingCount("observer-1"));
+        }
+
+        @Test
+        void shouldWaitForBackoffBeforeRetryingFailedAcknowledgements() {
+            givenObserver("observer-1");
+            when(orderSourcePort.acknowledgeOrders(eq(sourceEndpoint), any()))
+                    .thenThrow(new RuntimeException("Connection refused"))
+                    .thenReturn(Set.of("order-1", "order-2", "order-3", "order-4"));
+            service.acknowledge("observer-1", "order-1");
+            service.acknowledge("observer-1", "order-2");
+            service.acknowledge("observer-1", "order-3");
+            service.acknowledge("observer-1", "order-4");
+
+            service.flushDue(System.currentTimeMillis());
+            verify(orderSourcePort, times(1)).acknowledgeOrders(eq(sourceEndpoint), any());
+
+            service.flushDue(System.currentTimeMillis() + RETRY_BACKOFF_MS);
+            verify(orderSourcePort)
+                    .acknowledgeOrders(
+                            sourceEndpoint, List.of("order-1", "order-2", "order-3", "order-4"));
+            assertEquals(0, service.getPendingCount("observer-1"));
+        }
+
+        @Test
+        void shouldDoubleBackoffAfterEachFailedRetry() {
+            givenObserver("observer-1");
+            when(orderSourcePort.acknowledgeOrders(eq(sourceEndpoint), any()))
+                    .thenThrow(new RuntimeException("Connection refused"))
+                    .thenThrow(new RuntimeException("Connection refused"))
+                    .thenReturn(Set.of("order-1"));
+            service.acknowledge("observer-1", "order-1");
+            service.flush("observer-1");
+            service.flushDue(System.currentTimeMillis() + RETRY_BACKOFF_MS);
+
+            service.flushDue(System.currentTimeMillis() + RETRY_BACKOFF_MS);
+            verify(orderSourcePort, times(2)).acknowledgeOrders(eq(sourceEndpoint), any());
+
+            service.flushDue(System.currentTimeMillis() + 2 * RETRY_BACKOFF_MS);
+            verify(orderSourcePort, times(3)).acknowledgeOrders(eq(sourceEndpoint), any());
+            assertEquals(0, service.getPendingCount("observer-1"));
+        }
+
+        @Test
+        void shouldDropOldestAcknowledgementsBeyondMaxPending() {
+            givenObserver("observer-1");
+            when(orderSourcePort.acknowledgeOrders(eq(sourceEndpoint), any()))
+                    .thenThrow(new RuntimeException("Connection refused"))
+                    .thenReturn(Set.of());
+            for (int i = 1; i <= MAX_PENDING + 1; i++) {
+                service.acknowledge("observer-1", "order-" + i);
+            }
+
+            assertEquals(MAX_PENDING, service.getPendingCount("observer-1"));
+            service.flushDue(System.currentTimeMillis() + RETRY_BACKOFF_MS);
+            verify(orderSourcePort)
+                    .acknowledgeOrders(
+                            sourceEndpoint,
+                            List.of("order-2", "order-3", "order-4", "order-5", "order-6"));
+        }
+
+        @Test
+        void shouldDropOrderIdsForUnknownObserver() {
+            when(orderObserverRepository.findById("observer-missing")).thenReturn(Optional.empty());
+            service.acknowledge("observer-missing", "order-1");
+
+            Set<String> acknowledged = service.flush("observer-missing");
+
+            assertTrue(acknowledged.isEmpty());
+            assertEquals(0, service.getPendingCount("observer-missing"));
+            verify(orderSourcePort, never()).acknowledgeOrders(any(), any());
+        }
+
+        @Test
+        void shouldDoNothingWhenNothingIsPending() {
+            Set<String> acknowledged = service.flush("observer-1");
+
+            assertTrue(acknowledged.isEmpty());
+            verify(orderObserverRepository, never()).findById(anyString());
+        }
+    }
+
+    @Test
+    void shouldRejectNonPositiveBatchSize() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () ->
+                        new OrderAcknowledgementApplicationService(
+                                orderObserverRepository,
+                                orderSourcePort,
+                                0,
+                                MAX_DELAY_MS,
+                                RETRY_BACKOFF_MS,
+                                MAX_RETRY_BACKOFF_MS,
+                                MAX_PENDING));
+    }
+
+    private void givenObserver(String observerId) {
+        OrderObserver orderObserver =
+                new OrderObserver(observerId, sourceEndpoint, new PollingInterval(60));
+        when(orderObserverRepository.findById(observerId)).thenReturn(Optional.of(orderObserver));
+    }
+}
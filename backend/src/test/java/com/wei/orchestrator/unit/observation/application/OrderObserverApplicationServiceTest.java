@@ -2,15 +2,28 @@ package com.wei.orchestrator.unit.observation.application;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 import com.wei.orchestrator.observation.application.OrderObserverApplicationService;
+import com.wei.orchestrator.observation.application.command.ChangeSourceEndpointCommand;
 import com.wei.orchestrator.observation.application.command.CreateOrderObserverCommand;
 import com.wei.orchestrator.observation.application.command.PollOrderSourceCommand;
+import com.wei.orchestrator.observation.application.dto.ObserverScheduleDto;
+import com.wei.orchestrator.observation.application.event.ObserverScheduleChangedEvent;
 import com.wei.orchestrator.observation.domain.event.NewOrderObservedEvent;
 import com.wei.orchestrator.observation.domain.model.OrderObserver;
+import com.wei.orchestrator.observation.domain.model.valueobject.DrainPolicy;
+import com.wei.orchestrator.observation.domain.model.valueobject.IngestionPressure;
 import com.wei.orchestrator.observation.domain.model.valueobject.ObservationResult;
 import com.wei.orchestrator.observation.domain.model.valueobject.ObservedOrderItem;
+import com.wei.orchestrator.observation.domain.model.valueobject.ObserverType;
+import com.wei.orchestrator.observation.domain.model.valueobject.OrderSourceMode;
+import com.wei.orchestrator.observation.domain.model.valueobject.OrderSourcePage;
+import com.wei.orchestrator.observation.domain.model.valueobject.OrderSourceWatermark;
+import com.wei.orchestrator.observation.domain.model.valueobject.SourceEndpoint;
+import com.wei.orchestrator.observation.domain.port.IngestionBackpressurePort;
 import com.wei.orchestrator.observation.domain.port.OrderSourcePort;
 import com.wei.orchestrator.observation.domain.repository.OrderObserverRepository;
 import com.wei.orchestrator.shared.domain.model.valueobject.TriggerContext;
@@ -20,14 +33,18 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionOperations;
 
 @ExtendWith(MockitoExtension.class)
 class OrderObserverApplicationServiceTest {
@@ -36,8 +53,14 @@ class OrderObserverApplicationServiceTest {
 
     @Mock private OrderSourcePort orderSourcePort;
 
+    @Mock private IngestionBackpressurePort ingestionBackpressurePort;
+
     @Mock private ApplicationEventPublisher eventPublisher;
 
+    @Spy
+    private TransactionOperations transactionOperations =
+            TransactionOperations.withoutTransaction();
+
     @InjectMocks private OrderObserverApplicationService orderObserverApplicationService;
 
     @Nested
@@ -104,6 +127,31 @@ class OrderObserverApplicationServiceTest {
                     "jdbc:oracle:thin:@db.example.com:1521:PROD",
                     savedObserver.getSourceEndpoint().getJdbcUrl());
             assertEquals("produser", savedObserver.getSourceEndpoint().getUsername());
+            assertEquals(OrderSourceMode.POLLING, savedObserver.getSourceMode());
+        }
+
+        @Test
+        void shouldCreateObserverInChangeLogMode() {
+            CreateOrderObserverCommand command =
+                    new CreateOrderObserverCommand(
+                            "observer-4",
+                            "jdbc:oracle:thin:@localhost:1521:XE",
+                            "user",
+                            "pass",
+                            60,
+                            null,
+                            null,
+                            null,
+                            OrderSourceMode.CHANGE_LOG);
+
+            ArgumentCaptor<OrderObserver> captor = ArgumentCaptor.forClass(OrderObserver.class);
+            when(orderObserverRepository.save(any(OrderObserver.class)))
+                    .thenAnswer(invocation -> invocation.getArgument(0));
+
+            orderObserverApplicationService.createOrderObserver(command);
+
+            verify(orderObserverRepository).save(captor.capture());
+            assertEquals(OrderSourceMode.CHANGE_LOG, captor.getValue().getSourceMode());
         }
     }
 
@@ -117,8 +165,8 @@ class OrderObserverApplicationServiceTest {
 
             when(orderObserverRepository.findById("observer-1"))
                     .thenReturn(Optional.of(mockObserver));
-            when(orderSourcePort.fetchNewOrders(any(), any()))
-                    .thenReturn(createMockObservationResults(2));
+            when(orderSourcePort.fetchNewOrders(any(), any(), anyInt()))
+                    .thenReturn(pageOf(createMockObservationResults(2)));
 
             orderObserverApplicationService.pollOrderSource(command, TriggerContext.manual());
 
@@ -127,6 +175,30 @@ class OrderObserverApplicationServiceTest {
             verify(eventPublisher, times(2)).publishEvent(any(NewOrderObservedEvent.class));
         }
 
+        @Test
+        void shouldFetchOrdersBeforeOpeningTransaction() {
+            OrderObserver mockObserver = createMockOrderObserver("observer-1");
+            PollOrderSourceCommand command = new PollOrderSourceCommand("observer-1");
+
+            when(orderObserverRepository.findById("observer-1"))
+                    .thenReturn(Optional.of(mockObserver));
+            when(orderSourcePort.fetchNewOrders(any(), any(), anyInt()))
+                    .thenReturn(pageOf(createMockObservationResults(1)));
+
+            orderObserverApplicationService.pollOrderSource(command, TriggerContext.manual());
+
+            InOrder inOrder =
+                    inOrder(
+                            orderSourcePort,
+                            transactionOperations,
+                            orderObserverRepository,
+                            eventPublisher);
+            inOrder.verify(orderSourcePort).fetchNewOrders(any(), any(), anyInt());
+            inOrder.verify(transactionOperations).executeWithoutResult(any());
+            inOrder.verify(orderObserverRepository).save(mockObserver);
+            inOrder.verify(eventPublisher).publishEvent(any(NewOrderObservedEvent.class));
+        }
+
         @Test
         void shouldThrowExceptionWhenObserverNotFound() {
             PollOrderSourceCommand command = new PollOrderSourceCommand("non-existent");
@@ -152,8 +224,8 @@ class OrderObserverApplicationServiceTest {
 
             when(orderObserverRepository.findById("observer-2"))
                     .thenReturn(Optional.of(mockObserver));
-            when(orderSourcePort.fetchNewOrders(any(), any()))
-                    .thenReturn(createMockObservationResults(1));
+            when(orderSourcePort.fetchNewOrders(any(), any(), anyInt()))
+                    .thenReturn(pageOf(createMockObservationResults(1)));
 
             orderObserverApplicationService.pollOrderSource(command, TriggerContext.manual());
 
@@ -168,7 +240,8 @@ class OrderObserverApplicationServiceTest {
 
             when(orderObserverRepository.findById("observer-3"))
                     .thenReturn(Optional.of(mockObserver));
-            when(orderSourcePort.fetchNewOrders(any(), any())).thenReturn(new ArrayList<>());
+            when(orderSourcePort.fetchNewOrders(any(), any(), anyInt()))
+                    .thenReturn(OrderSourcePage.empty());
 
             orderObserverApplicationService.pollOrderSource(command, TriggerContext.manual());
 
@@ -183,44 +256,163 @@ class OrderObserverApplicationServiceTest {
 
             when(orderObserverRepository.findById("observer-4"))
                     .thenReturn(Optional.of(mockObserver));
-            when(orderSourcePort.fetchNewOrders(any(), any()))
-                    .thenReturn(createMockObservationResults(3));
+            when(orderSourcePort.fetchNewOrders(any(), any(), anyInt()))
+                    .thenReturn(pageOf(createMockObservationResults(3)));
 
             orderObserverApplicationService.pollOrderSource(command, TriggerContext.manual());
 
             assertTrue(mockObserver.getDomainEvents().isEmpty());
         }
+
+        @Test
+        void shouldSkipCycleWhenIngestionBufferIsSaturated() {
+            OrderObserver mockObserver = createMockOrderObserver("observer-5");
+            PollOrderSourceCommand command = new PollOrderSourceCommand("observer-5");
+
+            when(orderObserverRepository.findById("observer-5"))
+                    .thenReturn(Optional.of(mockObserver));
+            when(ingestionBackpressurePort.currentPressure())
+                    .thenReturn(IngestionPressure.SATURATED);
+
+            orderObserverApplicationService.pollOrderSource(command, TriggerContext.manual());
+
+            verify(orderSourcePort, never()).fetchNewOrders(any(), any(), anyInt());
+            verify(transactionOperations, never()).executeWithoutResult(any());
+            verify(orderObserverRepository, never()).save(any());
+            assertNull(mockObserver.getLastPolledTimestamp());
+        }
+
+        @Test
+        void shouldShrinkPageWhenIngestionBufferIsAboveHighWaterMark() {
+            OrderObserver mockObserver = createMockOrderObserver("observer-6");
+            PollOrderSourceCommand command = new PollOrderSourceCommand("observer-6");
+            int throttledPageSize = DrainPolicy.defaults().throttled().getPageSize();
+
+            when(orderObserverRepository.findById("observer-6"))
+                    .thenReturn(Optional.of(mockObserver));
+            when(ingestionBackpressurePort.currentPressure()).thenReturn(IngestionPressure.HIGH);
+            when(orderSourcePort.fetchNewOrders(any(), any(), anyInt()))
+                    .thenReturn(pageOf(createMockObservationResults(1)));
+
+            orderObserverApplicationService.pollOrderSource(command, TriggerContext.manual());
+
+            verify(orderSourcePort).fetchNewOrders(any(), any(), eq(throttledPageSize));
+            verify(orderObserverRepository).save(mockObserver);
+        }
     }
 
     @Nested
-    class pollAllActiveObserversTest {
+    class consumeOrderChangesTest {
+
+        private OrderSourcePort changeLogOrderSourcePort;
+        private OrderObserverApplicationService changeLogAwareService;
+
+        @BeforeEach
+        void setUp() {
+            changeLogOrderSourcePort = mock(OrderSourcePort.class);
+            changeLogAwareService =
+                    new OrderObserverApplicationService(
+                            orderObserverRepository,
+                            orderSourcePort,
+                            changeLogOrderSourcePort,
+                            ingestionBackpressurePort,
+                            eventPublisher,
+                            transactionOperations);
+        }
+
+        @Test
+        void shouldPublishEventsFromChangeLog() {
+            OrderObserver observer = createChangeLogObserver("observer-1");
+            when(orderObserverRepository.findById("observer-1")).thenReturn(Optional.of(observer));
+            when(changeLogOrderSourcePort.fetchNewOrders(any(), any(), anyInt()))
+                    .thenReturn(changeLogPageOf(createMockObservationResults(2), 42L));
+
+            changeLogAwareService.consumeOrderChanges("observer-1", TriggerContext.manual());
+
+            verify(orderObserverRepository).save(observer);
+            verify(eventPublisher, times(2)).publishEvent(any(NewOrderObservedEvent.class));
+            assertEquals(42L, observer.getWatermark().getChangeSequence());
+            verifyNoInteractions(orderSourcePort);
+        }
 
         @Test
-        void shouldPollAllActiveObservers() {
-            OrderObserver observer1 = createMockOrderObserver("observer-1");
-            OrderObserver observer2 = createMockOrderObserver("observer-2");
-            List<OrderObserver> activeObservers = Arrays.asList(observer1, observer2);
+        void shouldNotSaveWhenChangeLogHasNothingNew() {
+            OrderObserver observer = createChangeLogObserver("observer-1");
+            when(orderObserverRepository.findById("observer-1")).thenReturn(Optional.of(observer));
+            when(changeLogOrderSourcePort.fetchNewOrders(any(), any(), anyInt()))
+                    .thenReturn(OrderSourcePage.empty());
 
-            when(orderObserverRepository.findAllActive()).thenReturn(activeObservers);
-            when(orderObserverRepository.findById("observer-1")).thenReturn(Optional.of(observer1));
-            when(orderObserverRepository.findById("observer-2")).thenReturn(Optional.of(observer2));
-            when(orderSourcePort.fetchNewOrders(any(), any()))
-                    .thenReturn(createMockObservationResults(1));
+            changeLogAwareService.consumeOrderChanges("observer-1", TriggerContext.manual());
 
-            orderObserverApplicationService.pollAllActiveObservers();
+            verify(orderObserverRepository, never()).save(any());
+            verifyNoInteractions(eventPublisher);
+        }
+
+        @Test
+        void shouldPollChangeLogObserverThroughChangeLogPort() {
+            OrderObserver observer = createChangeLogObserver("observer-1");
+            when(orderObserverRepository.findById("observer-1")).thenReturn(Optional.of(observer));
+            when(changeLogOrderSourcePort.fetchNewOrders(any(), any(), anyInt()))
+                    .thenReturn(changeLogPageOf(createMockObservationResults(1), 5L));
+
+            changeLogAwareService.pollOrderSource(
+                    new PollOrderSourceCommand("observer-1"), TriggerContext.manual());
 
-            verify(orderObserverRepository).findAllActive();
-            verify(orderObserverRepository, times(2)).save(any(OrderObserver.class));
+            verify(changeLogOrderSourcePort).fetchNewOrders(any(), isNull(), anyInt());
+            verifyNoInteractions(orderSourcePort);
         }
 
         @Test
-        void shouldHandleEmptyActiveObserversList() {
-            when(orderObserverRepository.findAllActive()).thenReturn(new ArrayList<>());
+        void shouldFindOnlyActiveChangeLogObservers() {
+            OrderObserver pollingObserver = createMockOrderObserver("observer-polling");
+            OrderObserver changeLogObserver = createChangeLogObserver("observer-change-log");
+            when(orderObserverRepository.findAllActive())
+                    .thenReturn(List.of(pollingObserver, changeLogObserver));
+
+            List<String> observerIds = changeLogAwareService.findActiveChangeLogObserverIds();
 
-            orderObserverApplicationService.pollAllActiveObservers();
+            assertEquals(List.of("observer-change-log"), observerIds);
+        }
+
+        private OrderObserver createChangeLogObserver(String observerId) {
+            OrderObserver observer = createMockOrderObserver(observerId);
+            observer.changeSourceMode(OrderSourceMode.CHANGE_LOG);
+            return observer;
+        }
 
-            verify(orderObserverRepository).findAllActive();
-            verify(orderSourcePort, never()).fetchNewOrders(any(), any());
+        private OrderSourcePage changeLogPageOf(
+                List<ObservationResult> results, long changeSequence) {
+            ObservationResult last = results.get(results.size() - 1);
+            return new OrderSourcePage(
+                    results,
+                    new OrderSourceWatermark(
+                            last.getObservedAt(), last.getOrderId(), changeSequence),
+                    results.size(),
+                    false);
+        }
+    }
+
+    @Nested
+    class findActiveObserverSchedulesTest {
+
+        @Test
+        void shouldReturnSchedulesOfActiveObservers() {
+            OrderObserver polledObserver = createMockOrderObserver("observer-2");
+            LocalDateTime lastPolled = LocalDateTime.now().minusMinutes(1);
+            polledObserver.setLastPolledTimestamp(lastPolled);
+            when(orderObserverRepository.findAllActive())
+                    .thenReturn(
+                            Arrays.asList(createMockOrderObserver("observer-1"), polledObserver));
+
+            List<ObserverScheduleDto> schedules =
+                    orderObserverApplicationService.findActiveObserverSchedules();
+
+            assertEquals(2, schedules.size());
+            assertEquals("observer-1", schedules.get(0).getObserverId());
+            assertEquals(60, schedules.get(0).getPollingIntervalSeconds());
+            assertNull(schedules.get(0).getLastPolledTimestamp());
+            assertEquals(lastPolled, schedules.get(1).getLastPolledTimestamp());
+            verify(orderObserverRepository, never()).findById(anyString());
         }
     }
 
@@ -241,6 +433,24 @@ class OrderObserverApplicationServiceTest {
             verify(orderObserverRepository).save(mockObserver);
         }
 
+        @Test
+        void shouldScheduleObserverWhenActivated() {
+            OrderObserver mockObserver = createMockOrderObserver("observer-1");
+            mockObserver.deactivate();
+            when(orderObserverRepository.findById("observer-1"))
+                    .thenReturn(Optional.of(mockObserver));
+
+            orderObserverApplicationService.activateObserver("observer-1");
+
+            ArgumentCaptor<ObserverScheduleChangedEvent> captor =
+                    ArgumentCaptor.forClass(ObserverScheduleChangedEvent.class);
+            verify(eventPublisher).publishEvent(captor.capture());
+            assertEquals(ObserverType.ORDER, captor.getValue().getObserverType());
+            assertEquals("observer-1", captor.getValue().getObserverId());
+            assertTrue(captor.getValue().isActive());
+            assertEquals(60, captor.getValue().getPollingIntervalSeconds());
+        }
+
         @Test
         void shouldThrowExceptionWhenObserverNotFoundForActivation() {
             when(orderObserverRepository.findById("non-existent")).thenReturn(Optional.empty());
@@ -270,6 +480,22 @@ class OrderObserverApplicationServiceTest {
             verify(orderObserverRepository).save(mockObserver);
         }
 
+        @Test
+        void shouldUnscheduleObserverWhenDeactivated() {
+            OrderObserver mockObserver = createMockOrderObserver("observer-1");
+            when(orderObserverRepository.findById("observer-1"))
+                    .thenReturn(Optional.of(mockObserver));
+
+            orderObserverApplicationService.deactivateObserver("observer-1");
+
+            ArgumentCaptor<ObserverScheduleChangedEvent> captor =
+                    ArgumentCaptor.forClass(ObserverScheduleChangedEvent.class);
+            verify(eventPublisher).publishEvent(captor.capture());
+            assertEquals(ObserverType.ORDER, captor.getValue().getObserverType());
+            assertEquals("observer-1", captor.getValue().getObserverId());
+            assertFalse(captor.getValue().isActive());
+        }
+
         @Test
         void shouldThrowExceptionWhenObserverNotFoundForDeactivation() {
             when(orderObserverRepository.findById("non-existent")).thenReturn(Optional.empty());
@@ -283,6 +509,90 @@ class OrderObserverApplicationServiceTest {
 
             assertTrue(exception.getMessage().contains("OrderObserver not found"));
         }
+
+        @Test
+        void shouldReleaseSourceEndpointWhenNoOtherObserverUsesIt() {
+            OrderObserver mockObserver = createMockOrderObserver("observer-1");
+
+            when(orderObserverRepository.findById("observer-1"))
+                    .thenReturn(Optional.of(mockObserver));
+            when(orderObserverRepository.findAllActive()).thenReturn(new ArrayList<>());
+
+            orderObserverApplicationService.deactivateObserver("observer-1");
+
+            verify(orderSourcePort).releaseSourceEndpoint(mockObserver.getSourceEndpoint());
+        }
+
+        @Test
+        void shouldKeepSourceEndpointWhenSharedWithAnotherActiveObserver() {
+            OrderObserver mockObserver = createMockOrderObserver("observer-1");
+            OrderObserver otherObserver = createMockOrderObserver("observer-2");
+
+            when(orderObserverRepository.findById("observer-1"))
+                    .thenReturn(Optional.of(mockObserver));
+            when(orderObserverRepository.findAllActive()).thenReturn(List.of(otherObserver));
+
+            orderObserverApplicationService.deactivateObserver("observer-1");
+
+            verify(orderSourcePort, never()).releaseSourceEndpoint(any());
+        }
+    }
+
+    @Nested
+    class changeSourceEndpointTest {
+
+        @Test
+        void shouldChangeSourceEndpointAndReleasePreviousPool() {
+            OrderObserver mockObserver = createMockOrderObserver("observer-1");
+            SourceEndpoint previousEndpoint = mockObserver.getSourceEndpoint();
+            ChangeSourceEndpointCommand command =
+                    new ChangeSourceEndpointCommand(
+                            "observer-1", "jdbc:oracle:thin:@db2:1521:XE", "user", "pass");
+
+            when(orderObserverRepository.findById("observer-1"))
+                    .thenReturn(Optional.of(mockObserver));
+            when(orderObserverRepository.findAllActive()).thenReturn(List.of(mockObserver));
+
+            orderObserverApplicationService.changeSourceEndpoint(command);
+
+            assertEquals(
+                    "jdbc:oracle:thin:@db2:1521:XE",
+                    mockObserver.getSourceEndpoint().getJdbcUrl());
+            verify(orderObserverRepository).save(mockObserver);
+            verify(orderSourcePort).releaseSourceEndpoint(previousEndpoint);
+        }
+
+        @Test
+        void shouldNotReleasePoolWhenEndpointIsUnchanged() {
+            OrderObserver mockObserver = createMockOrderObserver("observer-1");
+            ChangeSourceEndpointCommand command =
+                    new ChangeSourceEndpointCommand(
+                            "observer-1", "jdbc:oracle:thin:@localhost:1521:XE", "user", "pass");
+
+            when(orderObserverRepository.findById("observer-1"))
+                    .thenReturn(Optional.of(mockObserver));
+
+            orderObserverApplicationService.changeSourceEndpoint(command);
+
+            verify(orderSourcePort, never()).releaseSourceEndpoint(any());
+        }
+
+        @Test
+        void shouldThrowExceptionWhenObserverNotFoundForEndpointChange() {
+            ChangeSourceEndpointCommand command =
+                    new ChangeSourceEndpointCommand(
+                            "non-existent", "jdbc:oracle:thin:@db2:1521:XE", "user", "pass");
+
+            when(orderObserverRepository.findById("non-existent")).thenReturn(Optional.empty());
+
+            IllegalArgumentException exception =
+                    assertThrows(
+                            IllegalArgumentException.class,
+                            () -> orderObserverApplicationService.changeSourceEndpoint(command));
+
+            assertTrue(exception.getMessage().contains("OrderObserver not found"));
+            verify(orderObserverRepository, never()).save(any());
+        }
     }
 
     private OrderObserver createMockOrderObserver(String observerId) {
@@ -317,4 +627,16 @@ class OrderObserverApplicationServiceTest {
         }
         return results;
     }
+
+    private OrderSourcePage pageOf(List<ObservationResult> results) {
+        if (results.isEmpty()) {
+            return OrderSourcePage.empty();
+        }
+        ObservationResult last = results.get(results.size() - 1);
+        return new OrderSourcePage(
+                results,
+                new OrderSourceWatermark(last.getObservedAt(), last.getOrderId()),
+                results.size(),
+                false);
+    }
 }
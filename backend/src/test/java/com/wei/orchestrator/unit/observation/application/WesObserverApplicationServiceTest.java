@@ -7,15 +7,19 @@ import static org.mockito.Mockito.*;
 import com.wei.orchestrator.observation.application.WesObserverApplicationService;
 import com.wei.orchestrator.observation.application.command.CreateWesObserverCommand;
 import com.wei.orchestrator.observation.application.command.PollWesTaskStatusCommand;
+import com.wei.orchestrator.observation.application.dto.ObserverScheduleDto;
+import com.wei.orchestrator.observation.application.event.ObserverScheduleChangedEvent;
+import com.wei.orchestrator.observation.domain.event.WesTaskDiscoveredEvent;
 import com.wei.orchestrator.observation.domain.event.WesTaskStatusUpdatedEvent;
 import com.wei.orchestrator.observation.domain.model.WesObserver;
+import com.wei.orchestrator.observation.domain.model.valueobject.ObserverType;
 import com.wei.orchestrator.observation.domain.model.valueobject.PollingInterval;
 import com.wei.orchestrator.observation.domain.model.valueobject.TaskEndpoint;
 import com.wei.orchestrator.observation.domain.repository.WesObserverRepository;
 import com.wei.orchestrator.shared.domain.model.valueobject.TriggerContext;
-import com.wei.orchestrator.wes.domain.model.PickingTask;
+import com.wei.orchestrator.wes.domain.model.valueobject.PickingTaskStatusView;
 import com.wei.orchestrator.wes.domain.model.valueobject.TaskStatus;
-import com.wei.orchestrator.wes.domain.model.valueobject.WesTaskId;
+import com.wei.orchestrator.wes.domain.model.valueobject.WesTaskChanges;
 import com.wei.orchestrator.wes.domain.port.WesPort;
 import com.wei.orchestrator.wes.domain.repository.PickingTaskRepository;
 import com.wei.orchestrator.wes.infrastructure.adapter.dto.WesTaskDto;
@@ -27,8 +31,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionOperations;
 
 @ExtendWith(MockitoExtension.class)
 class WesObserverApplicationServiceTest {
@@ -41,6 +47,10 @@ class WesObserverApplicationServiceTest {
 
     @Mock private ApplicationEventPublisher eventPublisher;
 
+    @Spy
+    private TransactionOperations transactionOperations =
+            TransactionOperations.withoutTransaction();
+
     @InjectMocks private WesObserverApplicationService wesObserverApplicationService;
 
     @Nested
@@ -93,6 +103,22 @@ class WesObserverApplicationServiceTest {
             assertEquals("observer-3", savedObserver.getObserverId());
             assertTrue(savedObserver.isActive());
         }
+
+        @Test
+        void shouldApplyFullResyncIntervalFromCommand() {
+            CreateWesObserverCommand command =
+                    new CreateWesObserverCommand(
+                            "observer-4", "http://wes.example.com/api", "prodtoken", 30, 900);
+
+            ArgumentCaptor<WesObserver> captor = ArgumentCaptor.forClass(WesObserver.class);
+            when(wesObserverRepository.save(any(WesObserver.class)))
+                    .thenAnswer(invocation -> invocation.getArgument(0));
+
+            wesObserverApplicationService.createWesObserver(command);
+
+            verify(wesObserverRepository).save(captor.capture());
+            assertEquals(900, captor.getValue().getFullResyncIntervalSeconds());
+        }
     }
 
     @Nested
@@ -108,9 +134,9 @@ class WesObserverApplicationServiceTest {
 
             when(wesObserverRepository.findById("observer-1"))
                     .thenReturn(Optional.of(mockObserver));
-            when(pickingTaskRepository.findAll())
-                    .thenReturn(List.of(createMockPickingTask("WES-TASK-001", TaskStatus.PENDING)));
-            when(wesPort.pollAllTasks()).thenReturn(mockTasks);
+            when(pickingTaskRepository.findNonTerminalStatusViews())
+                    .thenReturn(List.of(createStatusView("WES-TASK-001", TaskStatus.PENDING)));
+            when(wesPort.pollTaskChanges(null)).thenReturn(fullSnapshot(mockTasks));
 
             wesObserverApplicationService.pollWesTaskStatus(
                     command, TriggerContext.scheduled("WesObserver"));
@@ -152,7 +178,7 @@ class WesObserverApplicationServiceTest {
                     command, TriggerContext.scheduled("WesObserver"));
 
             verify(wesObserverRepository).findById("observer-2");
-            verify(wesPort, never()).pollAllTasks();
+            verify(wesPort, never()).pollTaskChanges(any());
             verify(eventPublisher, never()).publishEvent(any());
         }
 
@@ -167,12 +193,12 @@ class WesObserverApplicationServiceTest {
 
             when(wesObserverRepository.findById("observer-3"))
                     .thenReturn(Optional.of(mockObserver));
-            when(pickingTaskRepository.findAll())
+            when(pickingTaskRepository.findNonTerminalStatusViews())
                     .thenReturn(
                             List.of(
-                                    createMockPickingTask("WES-TASK-001", TaskStatus.PENDING),
-                                    createMockPickingTask("WES-TASK-002", TaskStatus.IN_PROGRESS)));
-            when(wesPort.pollAllTasks()).thenReturn(mockTasks);
+                                    createStatusView("WES-TASK-001", TaskStatus.PENDING),
+                                    createStatusView("WES-TASK-002", TaskStatus.IN_PROGRESS)));
+            when(wesPort.pollTaskChanges(null)).thenReturn(fullSnapshot(mockTasks));
 
             wesObserverApplicationService.pollWesTaskStatus(
                     command, TriggerContext.scheduled("WesObserver"));
@@ -195,9 +221,9 @@ class WesObserverApplicationServiceTest {
 
             when(wesObserverRepository.findById("observer-4"))
                     .thenReturn(Optional.of(mockObserver));
-            when(pickingTaskRepository.findAll())
-                    .thenReturn(List.of(createMockPickingTask("WES-TASK-001", TaskStatus.PENDING)));
-            when(wesPort.pollAllTasks()).thenReturn(mockTasks);
+            when(pickingTaskRepository.findNonTerminalStatusViews())
+                    .thenReturn(List.of(createStatusView("WES-TASK-001", TaskStatus.PENDING)));
+            when(wesPort.pollTaskChanges(null)).thenReturn(fullSnapshot(mockTasks));
 
             wesObserverApplicationService.pollWesTaskStatus(
                     command, TriggerContext.scheduled("WesObserver"));
@@ -216,9 +242,9 @@ class WesObserverApplicationServiceTest {
 
             when(wesObserverRepository.findById("observer-5"))
                     .thenReturn(Optional.of(mockObserver));
-            when(pickingTaskRepository.findAll())
-                    .thenReturn(List.of(createMockPickingTask("WES-TASK-001", TaskStatus.PENDING)));
-            when(wesPort.pollAllTasks()).thenReturn(mockTasks);
+            when(pickingTaskRepository.findNonTerminalStatusViews())
+                    .thenReturn(List.of(createStatusView("WES-TASK-001", TaskStatus.PENDING)));
+            when(wesPort.pollTaskChanges(null)).thenReturn(fullSnapshot(mockTasks));
 
             wesObserverApplicationService.pollWesTaskStatus(
                     command, TriggerContext.scheduled("WesObserver"));
@@ -233,72 +259,67 @@ class WesObserverApplicationServiceTest {
 
             when(wesObserverRepository.findById("observer-6"))
                     .thenReturn(Optional.of(mockObserver));
-            when(pickingTaskRepository.findAll()).thenReturn(Collections.emptyList());
-            when(wesPort.pollAllTasks()).thenReturn(Collections.emptyList());
+            when(pickingTaskRepository.findNonTerminalStatusViews())
+                    .thenReturn(Collections.emptyList());
+            when(wesPort.pollTaskChanges(null)).thenReturn(fullSnapshot(Collections.emptyList()));
 
             wesObserverApplicationService.pollWesTaskStatus(
                     command, TriggerContext.scheduled("WesObserver"));
 
-            verify(pickingTaskRepository).findAll();
+            verify(pickingTaskRepository).findNonTerminalStatusViews();
+            verify(pickingTaskRepository, never()).findAll();
         }
-    }
-
-    @Nested
-    class pollAllActiveObserversTest {
 
         @Test
-        void shouldPollAllActiveObservers() {
-            WesObserver observer1 = createMockWesObserver("observer-1");
-            WesObserver observer2 = createMockWesObserver("observer-2");
-            List<WesObserver> activeObservers = Arrays.asList(observer1, observer2);
+        void shouldNotDiscoverTasksAlreadySettledLocally() {
+            WesObserver mockObserver = createMockWesObserver("observer-7");
+            PollWesTaskStatusCommand command = new PollWesTaskStatusCommand("observer-7");
 
-            when(wesObserverRepository.findAllActive()).thenReturn(activeObservers);
-            when(wesObserverRepository.findById("observer-1")).thenReturn(Optional.of(observer1));
-            when(wesObserverRepository.findById("observer-2")).thenReturn(Optional.of(observer2));
-            when(pickingTaskRepository.findAll()).thenReturn(Collections.emptyList());
-            when(wesPort.pollAllTasks()).thenReturn(Collections.emptyList());
-
-            wesObserverApplicationService.pollAllActiveObservers();
-
-            verify(wesObserverRepository).findAllActive();
-            verify(wesObserverRepository, times(2)).save(any(WesObserver.class));
-        }
+            List<WesTaskDto> mockTasks = createMockWesTasks(3);
+            mockTasks.get(0).setStatus("COMPLETED");
 
-        @Test
-        void shouldHandleEmptyActiveObserversList() {
-            when(wesObserverRepository.findAllActive()).thenReturn(new ArrayList<>());
+            when(wesObserverRepository.findById("observer-7"))
+                    .thenReturn(Optional.of(mockObserver));
+            when(pickingTaskRepository.findNonTerminalStatusViews())
+                    .thenReturn(List.of(createStatusView("WES-TASK-001", TaskStatus.IN_PROGRESS)));
+            when(pickingTaskRepository.findExistingWesTaskIds(
+                            Set.of("WES-TASK-002", "WES-TASK-003")))
+                    .thenReturn(Set.of("WES-TASK-002"));
+            when(wesPort.pollTaskChanges(null)).thenReturn(fullSnapshot(mockTasks));
 
-            wesObserverApplicationService.pollAllActiveObservers();
+            wesObserverApplicationService.pollWesTaskStatus(
+                    command, TriggerContext.scheduled("WesObserver"));
 
-            verify(wesObserverRepository).findAllActive();
-            verify(wesPort, never()).pollAllTasks();
+            ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+            verify(eventPublisher, times(2)).publishEvent(captor.capture());
+            assertInstanceOf(WesTaskStatusUpdatedEvent.class, captor.getAllValues().get(0));
+            WesTaskDiscoveredEvent discovered =
+                    assertInstanceOf(WesTaskDiscoveredEvent.class, captor.getAllValues().get(1));
+            assertEquals("WES-TASK-003", discovered.getWesTaskDto().getTaskId());
         }
+    }
+
+    @Nested
+    class findActiveObserverSchedulesTest {
 
         @Test
-        void shouldCallPollWesTaskStatusForEachActiveObserver() {
-            WesObserver observer1 = createMockWesObserver("observer-1");
-            WesObserver observer2 = createMockWesObserver("observer-2");
-            WesObserver observer3 = createMockWesObserver("observer-3");
-            List<WesObserver> activeObservers = Arrays.asList(observer1, observer2, observer3);
-
-            when(wesObserverRepository.findAllActive()).thenReturn(activeObservers);
-            when(wesObserverRepository.findById(anyString()))
-                    .thenAnswer(
-                            invocation -> {
-                                String id = invocation.getArgument(0);
-                                return activeObservers.stream()
-                                        .filter(obs -> obs.getObserverId().equals(id))
-                                        .findFirst();
-                            });
-            when(pickingTaskRepository.findAll()).thenReturn(Collections.emptyList());
-            when(wesPort.pollAllTasks()).thenReturn(Collections.emptyList());
+        void shouldReturnSchedulesOfActiveObservers() {
+            WesObserver polledObserver = createMockWesObserver("observer-2");
+            LocalDateTime lastPolled = LocalDateTime.now().minusMinutes(1);
+            polledObserver.setLastPolledTimestamp(lastPolled);
+            when(wesObserverRepository.findAllActive())
+                    .thenReturn(
+                            Arrays.asList(createMockWesObserver("observer-1"), polledObserver));
 
-            wesObserverApplicationService.pollAllActiveObservers();
+            List<ObserverScheduleDto> schedules =
+                    wesObserverApplicationService.findActiveObserverSchedules();
 
-            verify(wesObserverRepository).findById("observer-1");
-            verify(wesObserverRepository).findById("observer-2");
-            verify(wesObserverRepository).findById("observer-3");
-            verify(wesObserverRepository, times(3)).save(any(WesObserver.class));
+            assertEquals(2, schedules.size());
+            assertEquals("observer-1", schedules.get(0).getObserverId());
+            assertEquals(60, schedules.get(0).getPollingIntervalSeconds());
+            assertNull(schedules.get(0).getLastPolledTimestamp());
+            assertEquals(lastPolled, schedules.get(1).getLastPolledTimestamp());
+            verify(wesObserverRepository, never()).findById(anyString());
         }
     }
 
@@ -319,6 +340,24 @@ class WesObserverApplicationServiceTest {
             verify(wesObserverRepository).save(mockObserver);
         }
 
+        @Test
+        void shouldScheduleObserverWhenActivated() {
+            WesObserver mockObserver = createMockWesObserver("observer-1");
+            mockObserver.deactivate();
+            when(wesObserverRepository.findById("observer-1"))
+                    .thenReturn(Optional.of(mockObserver));
+
+            wesObserverApplicationService.activateObserver("observer-1");
+
+            ArgumentCaptor<ObserverScheduleChangedEvent> captor =
+                    ArgumentCaptor.forClass(ObserverScheduleChangedEvent.class);
+            verify(eventPublisher).publishEvent(captor.capture());
+            assertEquals(ObserverType.WES, captor.getValue().getObserverType());
+            assertEquals("observer-1", captor.getValue().getObserverId());
+            assertTrue(captor.getValue().isActive());
+            assertEquals(60, captor.getValue().getPollingIntervalSeconds());
+        }
+
         @Test
         void shouldThrowExceptionWhenObserverNotFoundForActivation() {
             when(wesObserverRepository.findById("non-existent")).thenReturn(Optional.empty());
@@ -364,6 +403,22 @@ class WesObserverApplicationServiceTest {
             verify(wesObserverRepository).save(mockObserver);
         }
 
+        @Test
+        void shouldUnscheduleObserverWhenDeactivated() {
+            WesObserver mockObserver = createMockWesObserver("observer-1");
+            when(wesObserverRepository.findById("observer-1"))
+                    .thenReturn(Optional.of(mockObserver));
+
+            wesObserverApplicationService.deactivateObserver("observer-1");
+
+            ArgumentCaptor<ObserverScheduleChangedEvent> captor =
+                    ArgumentCaptor.forClass(ObserverScheduleChangedEvent.class);
+            verify(eventPublisher).publishEvent(captor.capture());
+            assertEquals(ObserverType.WES, captor.getValue().getObserverType());
+            assertEquals("observer-1", captor.getValue().getObserverId());
+            assertFalse(captor.getValue().isActive());
+        }
+
         @Test
         void shouldThrowExceptionWhenObserverNotFoundForDeactivation() {
             when(wesObserverRepository.findById("non-existent")).thenReturn(Optional.empty());
@@ -399,12 +454,12 @@ class WesObserverApplicationServiceTest {
                 new PollingInterval(60));
     }
 
-    private PickingTask createMockPickingTask(String wesTaskId, TaskStatus taskStatus) {
-        PickingTask pickingTask = new PickingTask();
-        pickingTask.setWesTaskId(WesTaskId.of(wesTaskId));
-        pickingTask.setStatus(taskStatus);
+    private PickingTaskStatusView createStatusView(String wesTaskId, TaskStatus taskStatus) {
+        return new PickingTaskStatusView("TASK-" + wesTaskId, wesTaskId, taskStatus);
+    }
 
-        return pickingTask;
+    private WesTaskChanges fullSnapshot(List<WesTaskDto> tasks) {
+        return WesTaskChanges.fullSnapshot(tasks, "cursor-1");
     }
 
     private List<WesTaskDto> createMockWesTasks(int count) {
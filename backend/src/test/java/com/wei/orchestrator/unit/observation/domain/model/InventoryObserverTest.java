@@ -1,17 +1,21 @@
 package com.wei.orchestrator.unit.observation.domain.model;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 import com.wei.orchestrator.inventory.domain.port.InventoryPort;
 import com.wei.orchestrator.inventory.infrastructure.adapter.dto.InventorySnapshotDto;
 import com.wei.orchestrator.observation.domain.event.InventorySnapshotObservedEvent;
 import com.wei.orchestrator.observation.domain.model.InventoryObserver;
+import com.wei.orchestrator.observation.domain.model.LastKnownStockLevels;
 import com.wei.orchestrator.observation.domain.model.valueobject.ObservationRule;
 import com.wei.orchestrator.observation.domain.model.valueobject.PollingInterval;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -156,7 +160,7 @@ class InventoryObserverTest {
 
         inventoryObserver.pollInventorySnapshot(inventoryPort);
 
-        verify(inventoryPort, never()).getInventorySnapshot();
+        verify(inventoryPort, never()).streamInventorySnapshot(any());
         assertTrue(inventoryObserver.getDomainEvents().isEmpty());
     }
 
@@ -167,11 +171,11 @@ class InventoryObserverTest {
         InventoryObserver inventoryObserver =
                 new InventoryObserver("observer-1", observationRule, pollingInterval);
         List<InventorySnapshotDto> mockDtos = createMockInventorySnapshotDtos(1);
-        when(inventoryPort.getInventorySnapshot()).thenReturn(mockDtos);
+        stubInventorySnapshot(mockDtos);
 
         inventoryObserver.pollInventorySnapshot(inventoryPort);
 
-        verify(inventoryPort).getInventorySnapshot();
+        verify(inventoryPort).streamInventorySnapshot(any());
         assertNotNull(inventoryObserver.getLastPolledTimestamp());
     }
 
@@ -183,7 +187,7 @@ class InventoryObserverTest {
                 new InventoryObserver("observer-1", observationRule, pollingInterval);
 
         List<InventorySnapshotDto> mockDtos = createMockInventorySnapshotDtos(1);
-        when(inventoryPort.getInventorySnapshot()).thenReturn(mockDtos);
+        stubInventorySnapshot(mockDtos);
 
         inventoryObserver.pollInventorySnapshot(inventoryPort);
 
@@ -206,7 +210,7 @@ class InventoryObserverTest {
         LocalDateTime beforePoll = LocalDateTime.now();
 
         List<InventorySnapshotDto> mockDtos = createMockInventorySnapshotDtos(1);
-        when(inventoryPort.getInventorySnapshot()).thenReturn(mockDtos);
+        stubInventorySnapshot(mockDtos);
 
         inventoryObserver.pollInventorySnapshot(inventoryPort);
 
@@ -224,7 +228,7 @@ class InventoryObserverTest {
                 new InventoryObserver("observer-1", observationRule, pollingInterval);
 
         List<InventorySnapshotDto> mockDtos = createMockInventorySnapshotDtos(1);
-        when(inventoryPort.getInventorySnapshot()).thenReturn(mockDtos);
+        stubInventorySnapshot(mockDtos);
 
         inventoryObserver.pollInventorySnapshot(inventoryPort);
 
@@ -241,7 +245,7 @@ class InventoryObserverTest {
                 new InventoryObserver("observer-1", observationRule, pollingInterval);
 
         List<InventorySnapshotDto> mockDtos = createMockInventorySnapshotDtos(1);
-        when(inventoryPort.getInventorySnapshot()).thenReturn(mockDtos);
+        stubInventorySnapshot(mockDtos);
 
         inventoryObserver.pollInventorySnapshot(inventoryPort);
 
@@ -275,6 +279,100 @@ class InventoryObserverTest {
         assertFalse(inventoryObserver.isActive());
     }
 
+    @Test
+    void shouldMarkFirstPollAgainstEmptyStockLevelsAsFullSnapshot() {
+        InventoryObserver inventoryObserver =
+                new InventoryObserver(
+                        "observer-1", new ObservationRule(5.0, 3600), new PollingInterval(3600));
+        stubInventorySnapshot(createMockInventorySnapshotDtos(2));
+
+        inventoryObserver.pollInventorySnapshot(inventoryPort, new LastKnownStockLevels());
+
+        InventorySnapshotObservedEvent event =
+                (InventorySnapshotObservedEvent) inventoryObserver.getDomainEvents().get(0);
+        assertTrue(event.isFullSnapshot());
+        assertEquals(2, event.getSnapshots().size());
+    }
+
+    @Test
+    void shouldEmitOnlySignificantlyChangedSnapshotsAfterBaseline() {
+        InventoryObserver inventoryObserver =
+                new InventoryObserver(
+                        "observer-1", new ObservationRule(5.0, 3600), new PollingInterval(3600));
+        LastKnownStockLevels lastKnownStockLevels = new LastKnownStockLevels();
+        List<InventorySnapshotDto> baseline = createMockInventorySnapshotDtos(3);
+        List<InventorySnapshotDto> current = createMockInventorySnapshotDtos(3);
+        current.get(0).setAvailableQuantity(91);
+        current.get(1).setAvailableQuantity(50);
+        stubInventorySnapshot(baseline, current);
+
+        inventoryObserver.pollInventorySnapshot(inventoryPort, lastKnownStockLevels);
+        inventoryObserver.clearDomainEvents();
+        inventoryObserver.setLastPolledTimestamp(null);
+        inventoryObserver.pollInventorySnapshot(inventoryPort, lastKnownStockLevels);
+
+        InventorySnapshotObservedEvent event =
+                (InventorySnapshotObservedEvent) inventoryObserver.getDomainEvents().get(0);
+        assertFalse(event.isFullSnapshot());
+        assertEquals(1, event.getSnapshots().size());
+        assertEquals("SKU002", event.getSnapshots().get(0).getSku());
+        assertEquals(50, event.getSnapshots().get(0).getQuantity());
+    }
+
+    @Test
+    void shouldNotEmitEventWhenNothingChangedSinceLastPoll() {
+        InventoryObserver inventoryObserver =
+                new InventoryObserver(
+                        "observer-1", new ObservationRule(5.0, 3600), new PollingInterval(3600));
+        LastKnownStockLevels lastKnownStockLevels = new LastKnownStockLevels();
+        stubInventorySnapshot(
+                createMockInventorySnapshotDtos(2), createMockInventorySnapshotDtos(2));
+
+        inventoryObserver.pollInventorySnapshot(inventoryPort, lastKnownStockLevels);
+        inventoryObserver.clearDomainEvents();
+        inventoryObserver.setLastPolledTimestamp(null);
+        inventoryObserver.pollInventorySnapshot(inventoryPort, lastKnownStockLevels);
+
+        assertTrue(inventoryObserver.getDomainEvents().isEmpty());
+        assertNotNull(inventoryObserver.getLastPolledTimestamp());
+    }
+
+    @Test
+    void shouldEmitZeroQuantityWhenStockRowDisappears() {
+        InventoryObserver inventoryObserver =
+                new InventoryObserver(
+                        "observer-1", new ObservationRule(5.0, 3600), new PollingInterval(3600));
+        LastKnownStockLevels lastKnownStockLevels = new LastKnownStockLevels();
+        stubInventorySnapshot(
+                createMockInventorySnapshotDtos(2), createMockInventorySnapshotDtos(1));
+
+        inventoryObserver.pollInventorySnapshot(inventoryPort, lastKnownStockLevels);
+        inventoryObserver.clearDomainEvents();
+        inventoryObserver.setLastPolledTimestamp(null);
+        inventoryObserver.pollInventorySnapshot(inventoryPort, lastKnownStockLevels);
+
+        InventorySnapshotObservedEvent event =
+                (InventorySnapshotObservedEvent) inventoryObserver.getDomainEvents().get(0);
+        assertEquals(1, event.getSnapshots().size());
+        assertEquals("SKU002", event.getSnapshots().get(0).getSku());
+        assertEquals(0, event.getSnapshots().get(0).getQuantity());
+        assertEquals(1, lastKnownStockLevels.size());
+    }
+
+    @SafeVarargs
+    private void stubInventorySnapshot(List<InventorySnapshotDto>... responses) {
+        AtomicInteger calls = new AtomicInteger();
+        doAnswer(
+                        invocation -> {
+                            Consumer<InventorySnapshotDto> consumer = invocation.getArgument(0);
+                            int call = Math.min(calls.getAndIncrement(), responses.length - 1);
+                            responses[call].forEach(consumer);
+                            return null;
+                        })
+                .when(inventoryPort)
+                .streamInventorySnapshot(any());
+    }
+
     private List<InventorySnapshotDto> createMockInventorySnapshotDtos(int count) {
         List<InventorySnapshotDto> dtos = new java.util.ArrayList<>();
         for (int i = 0; i < count; i++) {
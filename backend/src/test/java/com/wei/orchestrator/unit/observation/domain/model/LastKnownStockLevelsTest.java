@@ -0,0 +1,128 @@
+package com.wei.orchestrator.unit.observation.domain.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.wei.orchestrator.observation.domain.model.LastKnownStockLevels;
+import com.wei.orchestrator.observation.domain.model.valueobject.ObservationRule;
+import com.wei.orchestrator.observation.domain.model.valueobject.StockSnapshot;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class LastKnownStockLevelsTest {
+
+    private static final LocalDateTime OBSERVED_AT = LocalDateTime.of(2025, 1, 1, 10, 0);
+
+    private LastKnownStockLevels lastKnownStockLevels;
+    private ObservationRule observationRule;
+
+    @BeforeEach
+    void setUp() {
+        lastKnownStockLevels = new LastKnownStockLevels();
+        observationRule = new ObservationRule(10.0, 3600);
+    }
+
+    @Nested
+    class applySnapshotTest {
+
+        @Test
+        void shouldReturnAllRowsWhenEmpty() {
+            List<StockSnapshot> changes =
+                    lastKnownStockLevels.applySnapshot(
+                            List.of(
+                                    snapshot("WH001", "SKU001", 10),
+                                    snapshot("WH002", "SKU001", 5)),
+                            observationRule,
+                            OBSERVED_AT);
+
+            assertEquals(2, changes.size());
+            assertEquals(10, lastKnownStockLevels.quantityOf("WH001", "SKU001"));
+            assertEquals(5, lastKnownStockLevels.quantityOf("WH002", "SKU001"));
+        }
+
+        @Test
+        void shouldKeepLastReportedQuantityWhenChangeIsBelowThreshold() {
+            lastKnownStockLevels.applySnapshot(
+                    List.of(snapshot("WH001", "SKU001", 100)), observationRule, OBSERVED_AT);
+
+            List<StockSnapshot> firstDrift =
+                    lastKnownStockLevels.applySnapshot(
+                            List.of(snapshot("WH001", "SKU001", 95)), observationRule, OBSERVED_AT);
+            List<StockSnapshot> secondDrift =
+                    lastKnownStockLevels.applySnapshot(
+                            List.of(snapshot("WH001", "SKU001", 90)), observationRule, OBSERVED_AT);
+
+            assertTrue(firstDrift.isEmpty());
+            assertEquals(1, secondDrift.size());
+            assertEquals(90, lastKnownStockLevels.quantityOf("WH001", "SKU001"));
+        }
+
+        @Test
+        void shouldForgetRowsMissingFromSnapshot() {
+            lastKnownStockLevels.applySnapshot(
+                    List.of(snapshot("WH001", "SKU001", 0), snapshot("WH001", "SKU002", 7)),
+                    observationRule,
+                    OBSERVED_AT);
+
+            List<StockSnapshot> changes =
+                    lastKnownStockLevels.applySnapshot(List.of(), observationRule, OBSERVED_AT);
+
+            assertEquals(1, changes.size());
+            assertEquals("SKU002", changes.get(0).getSku());
+            assertEquals(0, changes.get(0).getQuantity());
+            assertEquals(OBSERVED_AT, changes.get(0).getTimestamp());
+            assertTrue(lastKnownStockLevels.isEmpty());
+            assertEquals(-1, lastKnownStockLevels.quantityOf("WH001", "SKU002"));
+        }
+
+        @Test
+        void shouldTrackRowsAcrossGrowthAndRemoval() {
+            Random random = new Random(42);
+            Map<String, Integer> expected = new HashMap<>();
+            ObservationRule anyChange = new ObservationRule(0.0, 3600);
+
+            for (int round = 0; round < 20; round++) {
+                List<StockSnapshot> snapshots = new ArrayList<>();
+                expected.clear();
+                for (int i = 0; i < 2000; i++) {
+                    if (random.nextInt(3) == 0) {
+                        continue;
+                    }
+                    String warehouseId = "WH00" + (i % 3);
+                    String sku = "SKU" + i;
+                    int quantity = random.nextInt(50);
+                    snapshots.add(snapshot(warehouseId, sku, quantity));
+                    expected.put(warehouseId + ":" + sku, quantity);
+                }
+
+                lastKnownStockLevels.applySnapshot(snapshots, anyChange, OBSERVED_AT);
+
+                assertEquals(expected.size(), lastKnownStockLevels.size());
+                for (int i = 0; i < 2000; i++) {
+                    String warehouseId = "WH00" + (i % 3);
+                    String sku = "SKU" + i;
+                    assertEquals(
+                            expected.getOrDefault(warehouseId + ":" + sku, -1),
+                            lastKnownStockLevels.quantityOf(warehouseId, sku));
+                }
+            }
+        }
+
+        @Test
+        void shouldThrowExceptionWhenSnapshotsAreNull() {
+            assertThrows(
+                    IllegalArgumentException.class,
+                    () -> lastKnownStockLevels.applySnapshot(null, observationRule, OBSERVED_AT));
+        }
+    }
+
+    private StockSnapshot snapshot(String warehouseId, String sku, int quantity) {
+        return new StockSnapshot(sku, quantity, warehouseId, OBSERVED_AT);
+    }
+}
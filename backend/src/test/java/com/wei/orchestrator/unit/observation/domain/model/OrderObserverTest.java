@@ -1,12 +1,18 @@
 package com.wei.orchestrator.unit.observation.domain.model;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.*;
 
 import com.wei.orchestrator.observation.domain.event.NewOrderObservedEvent;
 import com.wei.orchestrator.observation.domain.model.OrderObserver;
+import com.wei.orchestrator.observation.domain.model.valueobject.DrainPolicy;
+import com.wei.orchestrator.observation.domain.model.valueobject.IngestionPressure;
 import com.wei.orchestrator.observation.domain.model.valueobject.ObservationResult;
 import com.wei.orchestrator.observation.domain.model.valueobject.ObservedOrderItem;
+import com.wei.orchestrator.observation.domain.model.valueobject.OrderSourceMode;
+import com.wei.orchestrator.observation.domain.model.valueobject.OrderSourcePage;
+import com.wei.orchestrator.observation.domain.model.valueobject.OrderSourceWatermark;
 import com.wei.orchestrator.observation.domain.model.valueobject.PollingInterval;
 import com.wei.orchestrator.observation.domain.model.valueobject.SourceEndpoint;
 import com.wei.orchestrator.observation.domain.port.OrderSourcePort;
@@ -168,7 +174,7 @@ class OrderObserverTest {
 
         orderObserver.pollOrderSource(orderSourcePort);
 
-        verify(orderSourcePort, never()).fetchNewOrders(any(), any());
+        verify(orderSourcePort, never()).fetchNewOrders(any(), any(), anyInt());
         assertTrue(orderObserver.getDomainEvents().isEmpty());
     }
 
@@ -180,11 +186,12 @@ class OrderObserverTest {
         OrderObserver orderObserver =
                 new OrderObserver("observer-1", sourceEndpoint, pollingInterval);
         List<ObservationResult> mockResults = createMockObservationResults(2);
-        when(orderSourcePort.fetchNewOrders(any(), any())).thenReturn(mockResults);
+        when(orderSourcePort.fetchNewOrders(any(), any(), anyInt()))
+                .thenReturn(pageOf(mockResults));
 
         orderObserver.pollOrderSource(orderSourcePort);
 
-        verify(orderSourcePort).fetchNewOrders(sourceEndpoint, null);
+        verify(orderSourcePort).fetchNewOrders(sourceEndpoint, null, DrainPolicy.DEFAULT_PAGE_SIZE);
         assertNotNull(orderObserver.getLastPolledTimestamp());
     }
 
@@ -196,7 +203,8 @@ class OrderObserverTest {
         OrderObserver orderObserver =
                 new OrderObserver("observer-1", sourceEndpoint, pollingInterval);
         List<ObservationResult> mockResults = createMockObservationResults(3);
-        when(orderSourcePort.fetchNewOrders(any(), any())).thenReturn(mockResults);
+        when(orderSourcePort.fetchNewOrders(any(), any(), anyInt()))
+                .thenReturn(pageOf(mockResults));
 
         orderObserver.pollOrderSource(orderSourcePort);
 
@@ -218,7 +226,8 @@ class OrderObserverTest {
         PollingInterval pollingInterval = new PollingInterval(60);
         OrderObserver orderObserver =
                 new OrderObserver("observer-1", sourceEndpoint, pollingInterval);
-        when(orderSourcePort.fetchNewOrders(any(), any())).thenReturn(Collections.emptyList());
+        when(orderSourcePort.fetchNewOrders(any(), any(), anyInt()))
+                .thenReturn(OrderSourcePage.empty());
 
         orderObserver.pollOrderSource(orderSourcePort);
 
@@ -234,7 +243,8 @@ class OrderObserverTest {
                 new OrderObserver("observer-1", sourceEndpoint, pollingInterval);
         LocalDateTime beforePoll = LocalDateTime.now();
         List<ObservationResult> mockResults = createMockObservationResults(1);
-        when(orderSourcePort.fetchNewOrders(any(), any())).thenReturn(mockResults);
+        when(orderSourcePort.fetchNewOrders(any(), any(), anyInt()))
+                .thenReturn(pageOf(mockResults));
 
         orderObserver.pollOrderSource(orderSourcePort);
 
@@ -252,7 +262,8 @@ class OrderObserverTest {
         OrderObserver orderObserver =
                 new OrderObserver("observer-1", sourceEndpoint, pollingInterval);
         List<ObservationResult> mockResults = createMockObservationResults(2);
-        when(orderSourcePort.fetchNewOrders(any(), any())).thenReturn(mockResults);
+        when(orderSourcePort.fetchNewOrders(any(), any(), anyInt()))
+                .thenReturn(pageOf(mockResults));
         orderObserver.pollOrderSource(orderSourcePort);
 
         orderObserver.clearDomainEvents();
@@ -268,7 +279,8 @@ class OrderObserverTest {
         OrderObserver orderObserver =
                 new OrderObserver("observer-1", sourceEndpoint, pollingInterval);
         List<ObservationResult> mockResults = createMockObservationResults(1);
-        when(orderSourcePort.fetchNewOrders(any(), any())).thenReturn(mockResults);
+        when(orderSourcePort.fetchNewOrders(any(), any(), anyInt()))
+                .thenReturn(pageOf(mockResults));
         orderObserver.pollOrderSource(orderSourcePort);
 
         List<Object> events = orderObserver.getDomainEvents();
@@ -304,20 +316,252 @@ class OrderObserverTest {
     }
 
     @Test
-    void shouldPassLastPolledTimestampWhenPollingAgain() {
+    void shouldChangeSourceEndpoint() {
         SourceEndpoint sourceEndpoint =
                 new SourceEndpoint("jdbc:oracle:thin:@localhost:1521:XE", "user", "pass");
         PollingInterval pollingInterval = new PollingInterval(60);
         OrderObserver orderObserver =
                 new OrderObserver("observer-1", sourceEndpoint, pollingInterval);
-        LocalDateTime firstPollTime = LocalDateTime.now().minusMinutes(5);
-        orderObserver.setLastPolledTimestamp(firstPollTime);
-        List<ObservationResult> mockResults = createMockObservationResults(1);
-        when(orderSourcePort.fetchNewOrders(any(), any())).thenReturn(mockResults);
+        SourceEndpoint newEndpoint =
+                new SourceEndpoint("jdbc:oracle:thin:@db2:1521:XE", "user", "pass");
+
+        orderObserver.changeSourceEndpoint(newEndpoint);
+
+        assertEquals(newEndpoint, orderObserver.getSourceEndpoint());
+    }
+
+    @Test
+    void shouldThrowExceptionWhenChangingToNullSourceEndpoint() {
+        SourceEndpoint sourceEndpoint =
+                new SourceEndpoint("jdbc:oracle:thin:@localhost:1521:XE", "user", "pass");
+        PollingInterval pollingInterval = new PollingInterval(60);
+        OrderObserver orderObserver =
+                new OrderObserver("observer-1", sourceEndpoint, pollingInterval);
+
+        IllegalArgumentException exception =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () -> orderObserver.changeSourceEndpoint(null));
+
+        assertTrue(exception.getMessage().contains("Source endpoint cannot be null"));
+    }
+
+    @Test
+    void shouldThrowExceptionWhenDrainPolicyIsNull() {
+        SourceEndpoint sourceEndpoint =
+                new SourceEndpoint("jdbc:oracle:thin:@localhost:1521:XE", "user", "pass");
+        PollingInterval pollingInterval = new PollingInterval(60);
+
+        IllegalArgumentException exception =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () ->
+                                new OrderObserver(
+                                        "observer-1", sourceEndpoint, pollingInterval, null));
+
+        assertEquals("Drain policy cannot be null", exception.getMessage());
+    }
+
+    @Test
+    void shouldResumeFromStoredWatermarkWhenPollingAgain() {
+        SourceEndpoint sourceEndpoint =
+                new SourceEndpoint("jdbc:oracle:thin:@localhost:1521:XE", "user", "pass");
+        PollingInterval pollingInterval = new PollingInterval(60);
+        OrderObserver orderObserver =
+                new OrderObserver("observer-1", sourceEndpoint, pollingInterval);
+        OrderSourceWatermark storedWatermark =
+                new OrderSourceWatermark(LocalDateTime.of(2025, 1, 1, 8, 0), "order-a");
+        OrderSourceWatermark nextWatermark =
+                new OrderSourceWatermark(LocalDateTime.of(2025, 1, 1, 8, 5), "order-b");
+        orderObserver.setWatermark(storedWatermark);
+        when(orderSourcePort.fetchNewOrders(any(), any(), anyInt()))
+                .thenReturn(
+                        new OrderSourcePage(
+                                createMockObservationResults(1), nextWatermark, 1, false));
+
+        orderObserver.pollOrderSource(orderSourcePort);
+
+        verify(orderSourcePort)
+                .fetchNewOrders(
+                        eq(sourceEndpoint),
+                        eq(storedWatermark),
+                        eq(DrainPolicy.DEFAULT_PAGE_SIZE));
+        assertEquals(nextWatermark, orderObserver.getWatermark());
+    }
+
+    @Test
+    void shouldDrainPagesUntilSourceIsExhausted() {
+        SourceEndpoint sourceEndpoint =
+                new SourceEndpoint("jdbc:oracle:thin:@localhost:1521:XE", "user", "pass");
+        PollingInterval pollingInterval = new PollingInterval(60);
+        OrderObserver orderObserver =
+                new OrderObserver(
+                        "observer-1", sourceEndpoint, pollingInterval, new DrainPolicy(2, 10, 10));
+        OrderSourceWatermark firstWatermark =
+                new OrderSourceWatermark(LocalDateTime.of(2025, 1, 1, 8, 0), "order-1");
+        OrderSourceWatermark secondWatermark =
+                new OrderSourceWatermark(LocalDateTime.of(2025, 1, 1, 8, 1), "order-2");
+        when(orderSourcePort.fetchNewOrders(any(), any(), anyInt()))
+                .thenReturn(
+                        new OrderSourcePage(
+                                createMockObservationResults(2), firstWatermark, 2, true))
+                .thenReturn(
+                        new OrderSourcePage(
+                                createMockObservationResults(1), secondWatermark, 1, false));
 
         orderObserver.pollOrderSource(orderSourcePort);
 
-        verify(orderSourcePort).fetchNewOrders(eq(sourceEndpoint), eq(firstPollTime));
+        verify(orderSourcePort).fetchNewOrders(sourceEndpoint, null, 2);
+        verify(orderSourcePort).fetchNewOrders(sourceEndpoint, firstWatermark, 2);
+        assertEquals(3, orderObserver.getDomainEvents().size());
+        assertEquals(secondWatermark, orderObserver.getWatermark());
+    }
+
+    @Test
+    void shouldStopDrainingWhenRowBudgetIsReached() {
+        SourceEndpoint sourceEndpoint =
+                new SourceEndpoint("jdbc:oracle:thin:@localhost:1521:XE", "user", "pass");
+        PollingInterval pollingInterval = new PollingInterval(60);
+        OrderObserver orderObserver =
+                new OrderObserver(
+                        "observer-1", sourceEndpoint, pollingInterval, new DrainPolicy(2, 3, 10));
+        OrderSourceWatermark watermark =
+                new OrderSourceWatermark(LocalDateTime.of(2025, 1, 1, 8, 0), "order-1");
+        when(orderSourcePort.fetchNewOrders(any(), any(), anyInt()))
+                .thenReturn(
+                        new OrderSourcePage(createMockObservationResults(2), watermark, 2, true))
+                .thenReturn(
+                        new OrderSourcePage(createMockObservationResults(1), watermark, 1, true));
+
+        orderObserver.pollOrderSource(orderSourcePort);
+
+        verify(orderSourcePort).fetchNewOrders(sourceEndpoint, null, 2);
+        verify(orderSourcePort).fetchNewOrders(sourceEndpoint, watermark, 1);
+        verify(orderSourcePort, times(2)).fetchNewOrders(any(), any(), anyInt());
+        assertEquals(3, orderObserver.getDomainEvents().size());
+    }
+
+    @Test
+    void shouldAdvanceWatermarkPastOrdersWithoutItems() {
+        SourceEndpoint sourceEndpoint =
+                new SourceEndpoint("jdbc:oracle:thin:@localhost:1521:XE", "user", "pass");
+        PollingInterval pollingInterval = new PollingInterval(60);
+        OrderObserver orderObserver =
+                new OrderObserver("observer-1", sourceEndpoint, pollingInterval);
+        OrderSourceWatermark watermark =
+                new OrderSourceWatermark(LocalDateTime.of(2025, 1, 1, 8, 0), "order-empty");
+        when(orderSourcePort.fetchNewOrders(any(), any(), anyInt()))
+                .thenReturn(new OrderSourcePage(Collections.emptyList(), watermark, 2, false));
+
+        orderObserver.pollOrderSource(orderSourcePort);
+
+        assertTrue(orderObserver.getDomainEvents().isEmpty());
+        assertEquals(watermark, orderObserver.getWatermark());
+    }
+
+    @Test
+    void shouldConsumeOrderChangesRegardlessOfPollingInterval() {
+        SourceEndpoint sourceEndpoint =
+                new SourceEndpoint("jdbc:oracle:thin:@localhost:1521:XE", "user", "pass");
+        OrderObserver orderObserver =
+                new OrderObserver("observer-1", sourceEndpoint, new PollingInterval(60));
+        orderObserver.changeSourceMode(OrderSourceMode.CHANGE_LOG);
+        orderObserver.setLastPolledTimestamp(LocalDateTime.now());
+        OrderSourceWatermark watermark =
+                new OrderSourceWatermark(LocalDateTime.of(2025, 1, 1, 8, 0), "order-0", 7L);
+        when(orderSourcePort.fetchNewOrders(any(), any(), anyInt()))
+                .thenReturn(
+                        new OrderSourcePage(createMockObservationResults(1), watermark, 1, false));
+
+        boolean advanced = orderObserver.consumeOrderChanges(orderSourcePort);
+
+        assertTrue(advanced);
+        assertEquals(1, orderObserver.getDomainEvents().size());
+        assertEquals(watermark, orderObserver.getWatermark());
+    }
+
+    @Test
+    void shouldReportNoProgressWhenChangeLogIsEmpty() {
+        SourceEndpoint sourceEndpoint =
+                new SourceEndpoint("jdbc:oracle:thin:@localhost:1521:XE", "user", "pass");
+        OrderObserver orderObserver =
+                new OrderObserver("observer-1", sourceEndpoint, new PollingInterval(60));
+        orderObserver.changeSourceMode(OrderSourceMode.CHANGE_LOG);
+        when(orderSourcePort.fetchNewOrders(any(), any(), anyInt()))
+                .thenReturn(OrderSourcePage.empty());
+
+        boolean advanced = orderObserver.consumeOrderChanges(orderSourcePort);
+
+        assertFalse(advanced);
+        assertNull(orderObserver.getLastPolledTimestamp());
+        assertTrue(orderObserver.getDomainEvents().isEmpty());
+    }
+
+    @Test
+    void shouldNotConsumeOrderChangesInPollingMode() {
+        SourceEndpoint sourceEndpoint =
+                new SourceEndpoint("jdbc:oracle:thin:@localhost:1521:XE", "user", "pass");
+        OrderObserver orderObserver =
+                new OrderObserver("observer-1", sourceEndpoint, new PollingInterval(60));
+
+        boolean advanced = orderObserver.consumeOrderChanges(orderSourcePort);
+
+        assertFalse(advanced);
+        assertEquals(OrderSourceMode.POLLING, orderObserver.getSourceMode());
+        verifyNoInteractions(orderSourcePort);
+    }
+
+    @Test
+    void shouldNotConsumeOrderChangesWhenInactive() {
+        SourceEndpoint sourceEndpoint =
+                new SourceEndpoint("jdbc:oracle:thin:@localhost:1521:XE", "user", "pass");
+        OrderObserver orderObserver =
+                new OrderObserver("observer-1", sourceEndpoint, new PollingInterval(60));
+        orderObserver.changeSourceMode(OrderSourceMode.CHANGE_LOG);
+        orderObserver.deactivate();
+
+        assertFalse(orderObserver.consumeOrderChanges(orderSourcePort));
+        verifyNoInteractions(orderSourcePort);
+    }
+
+    @Test
+    void shouldShrinkDrainBudgetUnderHighIngestionPressure() {
+        SourceEndpoint sourceEndpoint =
+                new SourceEndpoint("jdbc:oracle:thin:@localhost:1521:XE", "user", "pass");
+        OrderObserver orderObserver =
+                new OrderObserver(
+                        "observer-1",
+                        sourceEndpoint,
+                        new PollingInterval(60),
+                        new DrainPolicy(40, 400, 10));
+        OrderSourceWatermark watermark =
+                new OrderSourceWatermark(LocalDateTime.of(2025, 1, 1, 8, 0), "order-1");
+        when(orderSourcePort.fetchNewOrders(any(), any(), anyInt()))
+                .thenReturn(
+                        new OrderSourcePage(createMockObservationResults(2), watermark, 10, true));
+
+        orderObserver.pollOrderSource(orderSourcePort, IngestionPressure.HIGH);
+
+        verify(orderSourcePort, times(1)).fetchNewOrders(sourceEndpoint, null, 10);
+        assertEquals(2, orderObserver.getDomainEvents().size());
+        assertNotNull(orderObserver.getLastPolledTimestamp());
+    }
+
+    @Test
+    void shouldSkipCycleWhenIngestionIsSaturated() {
+        SourceEndpoint sourceEndpoint =
+                new SourceEndpoint("jdbc:oracle:thin:@localhost:1521:XE", "user", "pass");
+        OrderObserver orderObserver =
+                new OrderObserver("observer-1", sourceEndpoint, new PollingInterval(60));
+
+        orderObserver.pollOrderSource(orderSourcePort, IngestionPressure.SATURATED);
+        orderObserver.changeSourceMode(OrderSourceMode.CHANGE_LOG);
+        boolean advanced =
+                orderObserver.consumeOrderChanges(orderSourcePort, IngestionPressure.SATURATED);
+
+        assertFalse(advanced);
+        assertNull(orderObserver.getLastPolledTimestamp());
+        verifyNoInteractions(orderSourcePort);
     }
 
     private List<ObservationResult> createMockObservationResults(int count) {
@@ -344,4 +588,13 @@ class OrderObserverTest {
         }
         return results;
     }
+
+    private OrderSourcePage pageOf(List<ObservationResult> results) {
+        ObservationResult last = results.get(results.size() - 1);
+        return new OrderSourcePage(
+                results,
+                new OrderSourceWatermark(last.getObservedAt(), last.getOrderId()),
+                results.size(),
+                false);
+    }
 }
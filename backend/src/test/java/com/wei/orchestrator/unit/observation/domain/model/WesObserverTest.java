@@ -3,12 +3,16 @@ package com.wei.orchestrator.unit.observation.domain.model;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import com.wei.orchestrator.observation.domain.event.WesTaskDiscoveredEvent;
 import com.wei.orchestrator.observation.domain.event.WesTaskStatusUpdatedEvent;
 import com.wei.orchestrator.observation.domain.model.WesObserver;
+import com.wei.orchestrator.observation.domain.model.valueobject.KnownWesTask;
 import com.wei.orchestrator.observation.domain.model.valueobject.PollingInterval;
 import com.wei.orchestrator.observation.domain.model.valueobject.TaskEndpoint;
+import com.wei.orchestrator.observation.domain.model.valueobject.WesTaskIndex;
 import com.wei.orchestrator.wes.domain.model.PickingTask;
 import com.wei.orchestrator.wes.domain.model.valueobject.TaskStatus;
+import com.wei.orchestrator.wes.domain.model.valueobject.WesTaskChanges;
 import com.wei.orchestrator.wes.domain.model.valueobject.WesTaskId;
 import com.wei.orchestrator.wes.domain.port.WesPort;
 import com.wei.orchestrator.wes.infrastructure.adapter.dto.WesTaskDto;
@@ -154,7 +158,7 @@ class WesObserverTest {
 
         wesObserver.pollWesTaskStatus(wesPort, Collections.emptyList());
 
-        verify(wesPort, never()).pollAllTasks();
+        verify(wesPort, never()).pollTaskChanges(any());
         assertTrue(wesObserver.getDomainEvents().isEmpty());
     }
 
@@ -164,10 +168,10 @@ class WesObserverTest {
         PollingInterval pollingInterval = new PollingInterval(60);
         WesObserver wesObserver = new WesObserver("observer-1", taskEndpoint, pollingInterval);
         List<WesTaskDto> mockTasks = createMockWesTasks(2);
-        when(wesPort.pollAllTasks()).thenReturn(mockTasks);
+        when(wesPort.pollTaskChanges(null)).thenReturn(fullSnapshot(mockTasks));
         wesObserver.pollWesTaskStatus(wesPort, Collections.emptyList());
 
-        verify(wesPort).pollAllTasks();
+        verify(wesPort).pollTaskChanges(null);
         assertNotNull(wesObserver.getLastPolledTimestamp());
     }
 
@@ -179,7 +183,7 @@ class WesObserverTest {
 
         List<WesTaskDto> mockTasks = createMockWesTasks(1);
         mockTasks.get(0).setStatus("COMPLETED");
-        when(wesPort.pollAllTasks()).thenReturn(mockTasks);
+        when(wesPort.pollTaskChanges(null)).thenReturn(fullSnapshot(mockTasks));
 
         wesObserver.pollWesTaskStatus(
                 wesPort,
@@ -202,7 +206,7 @@ class WesObserverTest {
 
         List<WesTaskDto> mockTasks = createMockWesTasks(1);
         mockTasks.get(0).setStatus("IN_PROGRESS");
-        when(wesPort.pollAllTasks()).thenReturn(mockTasks);
+        when(wesPort.pollTaskChanges(null)).thenReturn(fullSnapshot(mockTasks));
 
         wesObserver.pollWesTaskStatus(
                 wesPort, List.of(createPickingTask("WES-TASK-001", TaskStatus.IN_PROGRESS)));
@@ -221,7 +225,7 @@ class WesObserverTest {
         mockTasks.get(1).setStatus("FAILED");
         mockTasks.get(2).setStatus("IN_PROGRESS");
 
-        when(wesPort.pollAllTasks()).thenReturn(mockTasks);
+        when(wesPort.pollTaskChanges(null)).thenReturn(fullSnapshot(mockTasks));
 
         wesObserver.pollWesTaskStatus(
                 wesPort,
@@ -242,7 +246,7 @@ class WesObserverTest {
         PollingInterval pollingInterval = new PollingInterval(60);
         WesObserver wesObserver = new WesObserver("observer-1", taskEndpoint, pollingInterval);
 
-        when(wesPort.pollAllTasks()).thenReturn(Collections.emptyList());
+        when(wesPort.pollTaskChanges(null)).thenReturn(fullSnapshot(Collections.emptyList()));
 
         wesObserver.pollWesTaskStatus(wesPort, Collections.emptyList());
 
@@ -257,7 +261,7 @@ class WesObserverTest {
         LocalDateTime beforePoll = LocalDateTime.now();
 
         List<WesTaskDto> mockTasks = createMockWesTasks(1);
-        when(wesPort.pollAllTasks()).thenReturn(mockTasks);
+        when(wesPort.pollTaskChanges(null)).thenReturn(fullSnapshot(mockTasks));
 
         wesObserver.pollWesTaskStatus(wesPort, Collections.emptyList());
 
@@ -276,7 +280,7 @@ class WesObserverTest {
         List<WesTaskDto> mockTasks = createMockWesTasks(2);
         mockTasks.get(0).setStatus("COMPLETED");
         mockTasks.get(1).setStatus("FAILED");
-        when(wesPort.pollAllTasks()).thenReturn(mockTasks);
+        when(wesPort.pollTaskChanges(null)).thenReturn(fullSnapshot(mockTasks));
 
         wesObserver.pollWesTaskStatus(
                 wesPort,
@@ -297,7 +301,7 @@ class WesObserverTest {
 
         List<WesTaskDto> mockTasks = createMockWesTasks(1);
         mockTasks.get(0).setStatus("COMPLETED");
-        when(wesPort.pollAllTasks()).thenReturn(mockTasks);
+        when(wesPort.pollTaskChanges(null)).thenReturn(fullSnapshot(mockTasks));
 
         wesObserver.pollWesTaskStatus(
                 wesPort, List.of(createPickingTask("WES-TASK-001", TaskStatus.PENDING)));
@@ -307,6 +311,71 @@ class WesObserverTest {
         assertThrows(UnsupportedOperationException.class, () -> events.add(new Object()));
     }
 
+    @Test
+    void shouldDiscoverTaskWhenWesTaskIdIsNotKnown() {
+        TaskEndpoint taskEndpoint = new TaskEndpoint("http://localhost:8080/api", "token123");
+        PollingInterval pollingInterval = new PollingInterval(60);
+        WesObserver wesObserver = new WesObserver("observer-1", taskEndpoint, pollingInterval);
+
+        when(wesPort.pollTaskChanges(null)).thenReturn(fullSnapshot(createMockWesTasks(2)));
+
+        wesObserver.pollWesTaskStatus(
+                wesPort, List.of(createPickingTask("WES-TASK-001", TaskStatus.PENDING)));
+
+        assertEquals(1, wesObserver.getDomainEvents().size());
+        WesTaskDiscoveredEvent event =
+                (WesTaskDiscoveredEvent) wesObserver.getDomainEvents().get(0);
+        assertEquals("WES-TASK-002", event.getWesTaskDto().getTaskId());
+    }
+
+    @Test
+    void shouldIgnorePickingTasksNotYetSubmittedToWes() {
+        TaskEndpoint taskEndpoint = new TaskEndpoint("http://localhost:8080/api", "token123");
+        PollingInterval pollingInterval = new PollingInterval(60);
+        WesObserver wesObserver = new WesObserver("observer-1", taskEndpoint, pollingInterval);
+        PickingTask pendingTask = new PickingTask();
+        pendingTask.setTaskId("TASK_ID_PENDING");
+        pendingTask.setStatus(TaskStatus.PENDING);
+
+        List<WesTaskDto> mockTasks = createMockWesTasks(1);
+        mockTasks.get(0).setStatus("COMPLETED");
+        when(wesPort.pollTaskChanges(null)).thenReturn(fullSnapshot(mockTasks));
+
+        wesObserver.pollWesTaskStatus(
+                wesPort,
+                List.of(
+                        pendingTask,
+                        createPickingTask("TASK_ID_001", "WES-TASK-001", TaskStatus.IN_PROGRESS)));
+
+        assertEquals(1, wesObserver.getDomainEvents().size());
+        WesTaskStatusUpdatedEvent event =
+                (WesTaskStatusUpdatedEvent) wesObserver.getDomainEvents().get(0);
+        assertEquals("TASK_ID_001", event.getTaskId());
+    }
+
+    @Test
+    void shouldReconcileAgainstPrebuiltIndex() {
+        TaskEndpoint taskEndpoint = new TaskEndpoint("http://localhost:8080/api", "token123");
+        PollingInterval pollingInterval = new PollingInterval(60);
+        WesObserver wesObserver = new WesObserver("observer-1", taskEndpoint, pollingInterval);
+
+        List<WesTaskDto> mockTasks = createMockWesTasks(2);
+        mockTasks.get(0).setStatus("COMPLETED");
+        when(wesPort.pollTaskChanges(null)).thenReturn(fullSnapshot(mockTasks));
+
+        wesObserver.pollWesTaskStatus(
+                wesPort,
+                WesTaskIndex.of(
+                        List.of(
+                                new KnownWesTask(
+                                        "TASK_ID_001", "WES-TASK-001", TaskStatus.IN_PROGRESS))));
+
+        List<Object> domainEvents = wesObserver.getDomainEvents();
+        assertEquals(2, domainEvents.size());
+        assertInstanceOf(WesTaskStatusUpdatedEvent.class, domainEvents.get(0));
+        assertInstanceOf(WesTaskDiscoveredEvent.class, domainEvents.get(1));
+    }
+
     @Test
     void shouldActivateObserver() {
         TaskEndpoint taskEndpoint = new TaskEndpoint("http://localhost:8080/api", "token123");
@@ -330,6 +399,94 @@ class WesObserverTest {
         assertFalse(wesObserver.isActive());
     }
 
+    @Test
+    void shouldThrowExceptionWhenFullResyncIntervalIsNotPositive() {
+        TaskEndpoint taskEndpoint = new TaskEndpoint("http://localhost:8080/api", "token123");
+        PollingInterval pollingInterval = new PollingInterval(60);
+
+        IllegalArgumentException exception =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () -> new WesObserver("observer-1", taskEndpoint, pollingInterval, 0));
+
+        assertTrue(exception.getMessage().contains("Full resync interval must be positive"));
+    }
+
+    @Test
+    void shouldStoreCursorAndFullSyncTimeAfterFullSnapshot() {
+        TaskEndpoint taskEndpoint = new TaskEndpoint("http://localhost:8080/api", "token123");
+        PollingInterval pollingInterval = new PollingInterval(60);
+        WesObserver wesObserver = new WesObserver("observer-1", taskEndpoint, pollingInterval);
+        when(wesPort.pollTaskChanges(null)).thenReturn(fullSnapshot(createMockWesTasks(1)));
+
+        wesObserver.pollWesTaskStatus(wesPort, WesTaskIndex.empty());
+
+        assertEquals("cursor-1", wesObserver.getChangeCursor());
+        assertNotNull(wesObserver.getLastFullSyncAt());
+        assertFalse(wesObserver.requiresFullResync(LocalDateTime.now()));
+    }
+
+    @Test
+    void shouldPollIncrementallyFromStoredCursor() {
+        TaskEndpoint taskEndpoint = new TaskEndpoint("http://localhost:8080/api", "token123");
+        PollingInterval pollingInterval = new PollingInterval(60);
+        WesObserver wesObserver = new WesObserver("observer-1", taskEndpoint, pollingInterval);
+        LocalDateTime lastFullSyncAt = LocalDateTime.now().minusMinutes(1);
+        wesObserver.setChangeCursor("cursor-1");
+        wesObserver.setLastFullSyncAt(lastFullSyncAt);
+
+        List<WesTaskDto> changedTasks = createMockWesTasks(1);
+        changedTasks.get(0).setStatus("COMPLETED");
+        when(wesPort.pollTaskChanges("cursor-1"))
+                .thenReturn(WesTaskChanges.incremental(changedTasks, "cursor-2"));
+
+        wesObserver.pollWesTaskStatus(
+                wesPort,
+                WesTaskIndex.of(
+                        List.of(
+                                new KnownWesTask(
+                                        "TASK_ID_001", "WES-TASK-001", TaskStatus.IN_PROGRESS))));
+
+        assertEquals("cursor-2", wesObserver.getChangeCursor());
+        assertEquals(lastFullSyncAt, wesObserver.getLastFullSyncAt());
+        assertEquals(1, wesObserver.getDomainEvents().size());
+        assertInstanceOf(WesTaskStatusUpdatedEvent.class, wesObserver.getDomainEvents().get(0));
+    }
+
+    @Test
+    void shouldRequestFullResyncWhenResyncIntervalElapsed() {
+        TaskEndpoint taskEndpoint = new TaskEndpoint("http://localhost:8080/api", "token123");
+        PollingInterval pollingInterval = new PollingInterval(60);
+        WesObserver wesObserver =
+                new WesObserver("observer-1", taskEndpoint, pollingInterval, 300);
+        wesObserver.setChangeCursor("cursor-1");
+        wesObserver.setLastFullSyncAt(LocalDateTime.now().minusMinutes(10));
+        when(wesPort.pollTaskChanges(null)).thenReturn(fullSnapshot(Collections.emptyList()));
+
+        wesObserver.pollWesTaskStatus(wesPort, WesTaskIndex.empty());
+
+        verify(wesPort).pollTaskChanges(null);
+        assertTrue(wesObserver.getLastFullSyncAt().isAfter(LocalDateTime.now().minusMinutes(1)));
+    }
+
+    @Test
+    void shouldKeepPollingFullSnapshotsWhenServerReturnsNoCursor() {
+        TaskEndpoint taskEndpoint = new TaskEndpoint("http://localhost:8080/api", "token123");
+        PollingInterval pollingInterval = new PollingInterval(60);
+        WesObserver wesObserver = new WesObserver("observer-1", taskEndpoint, pollingInterval);
+        when(wesPort.pollTaskChanges(null))
+                .thenReturn(WesTaskChanges.fullSnapshot(createMockWesTasks(1), null));
+
+        wesObserver.pollWesTaskStatus(wesPort, WesTaskIndex.empty());
+
+        assertNull(wesObserver.getChangeCursor());
+        assertTrue(wesObserver.requiresFullResync(LocalDateTime.now()));
+    }
+
+    private WesTaskChanges fullSnapshot(List<WesTaskDto> tasks) {
+        return WesTaskChanges.fullSnapshot(tasks, "cursor-1");
+    }
+
     private List<WesTaskDto> createMockWesTasks(int count) {
         List<WesTaskDto> tasks = new ArrayList<>();
         for (int i = 0; i < count; i++) {
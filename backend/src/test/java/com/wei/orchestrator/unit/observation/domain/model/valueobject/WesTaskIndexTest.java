@@ -0,0 +1,82 @@
+package com.wei.orchestrator.unit.observation.domain.model.valueobject;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.wei.orchestrator.observation.domain.model.valueobject.KnownWesTask;
+import com.wei.orchestrator.observation.domain.model.valueobject.WesTaskIndex;
+import com.wei.orchestrator.wes.domain.model.PickingTask;
+import com.wei.orchestrator.wes.domain.model.valueobject.TaskStatus;
+import com.wei.orchestrator.wes.domain.model.valueobject.WesTaskId;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class WesTaskIndexTest {
+
+    @Test
+    void shouldFindKnownTaskByWesTaskId() {
+        WesTaskIndex index =
+                WesTaskIndex.of(
+                        List.of(
+                                new KnownWesTask("TASK-1", "WES-1", TaskStatus.SUBMITTED),
+                                new KnownWesTask("TASK-2", "WES-2", TaskStatus.IN_PROGRESS)));
+
+        assertEquals(2, index.size());
+        assertTrue(index.contains("WES-2"));
+        assertEquals("TASK-2", index.find("WES-2").getTaskId());
+        assertEquals(TaskStatus.IN_PROGRESS, index.find("WES-2").getStatus());
+        assertNull(index.find("WES-3"));
+    }
+
+    @Test
+    void shouldKeepFirstTaskWhenWesTaskIdIsDuplicated() {
+        WesTaskIndex index =
+                WesTaskIndex.of(
+                        List.of(
+                                new KnownWesTask("TASK-1", "WES-1", TaskStatus.SUBMITTED),
+                                new KnownWesTask("TASK-2", "WES-1", TaskStatus.COMPLETED)));
+
+        assertEquals(1, index.size());
+        assertEquals("TASK-1", index.find("WES-1").getTaskId());
+    }
+
+    @Test
+    void shouldSkipPickingTasksWithoutWesTaskId() {
+        PickingTask submitted = new PickingTask();
+        submitted.setTaskId("TASK-1");
+        submitted.setWesTaskId(WesTaskId.of("WES-1"));
+        submitted.setStatus(TaskStatus.SUBMITTED);
+        PickingTask pending = new PickingTask();
+        pending.setTaskId("TASK-2");
+        pending.setStatus(TaskStatus.PENDING);
+
+        WesTaskIndex index = WesTaskIndex.fromPickingTasks(List.of(submitted, pending));
+
+        assertEquals(1, index.size());
+        assertEquals(
+                new KnownWesTask("TASK-1", "WES-1", TaskStatus.SUBMITTED), index.find("WES-1"));
+    }
+
+    @Test
+    void shouldCreateEmptyIndex() {
+        assertEquals(0, WesTaskIndex.empty().size());
+        assertFalse(WesTaskIndex.empty().contains("WES-1"));
+    }
+
+    @Test
+    void shouldThrowExceptionWhenKnownTasksIsNull() {
+        IllegalArgumentException exception =
+                assertThrows(IllegalArgumentException.class, () -> WesTaskIndex.of(null));
+
+        assertTrue(exception.getMessage().contains("Known tasks cannot be null"));
+    }
+
+    @Test
+    void shouldThrowExceptionWhenWesTaskIdIsBlank() {
+        IllegalArgumentException exception =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () -> new KnownWesTask("TASK-1", " ", TaskStatus.SUBMITTED));
+
+        assertTrue(exception.getMessage().contains("WES task ID cannot be null or empty"));
+    }
+}
@@ -0,0 +1,324 @@
+package com.wei.orchestrator.unit.observation.infrastructure.adapter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.wei.orchestrator.observation.domain.model.valueobject.ObservationResult;
+import com.wei.orchestrator.observation.domain.model.valueobject.OrderSourcePage;
+import com.wei.orchestrator.observation.domain.model.valueobject.OrderSourceWatermark;
+import com.wei.orchestrator.observation.domain.model.valueobject.SourceEndpoint;
+import com.wei.orchestrator.observation.infrastructure.adapter.ChangeLogOrderSourceAdapter;
+import com.wei.orchestrator.observation.infrastructure.adapter.ExternalOrderSourceAdapter;
+import com.wei.orchestrator.observation.infrastructure.adapter.OrderSourceDataSourceRegistry;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ChangeLogOrderSourceAdapterTest {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 1, 8, 0);
+    private static final long GAP_TIMEOUT_MS = 60000;
+
+    private final AtomicLong clock = new AtomicLong();
+    private OrderSourceDataSourceRegistry registry;
+    private ChangeLogOrderSourceAdapter adapter;
+    private SourceEndpoint sourceEndpoint;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        registry = new OrderSourceDataSourceRegistry(2, 0, 5000, 10000, 60000, 1000);
+        adapter =
+                new ChangeLogOrderSourceAdapter(
+                        registry,
+                        new ExternalOrderSourceAdapter(registry),
+                        GAP_TIMEOUT_MS,
+                        clock::get);
+        sourceEndpoint =
+                new SourceEndpoint(
+                        "jdbc:h2:mem:order-change-log-"
+                                + UUID.randomUUID()
+                                + ";MODE=Oracle;DB_CLOSE_DELAY=-1",
+                        "sa",
+                        "");
+
+        try (Connection connection = registry.getDataSource(sourceEndpoint).getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute(
+                    """
+                    CREATE TABLE orders (
+                        order_id VARCHAR(36) PRIMARY KEY,
+                        customer_name VARCHAR(255) NOT NULL,
+                        customer_email VARCHAR(255),
+                        shipping_address VARCHAR(500),
+                        order_type VARCHAR(50),
+                        warehouse_id VARCHAR(50),
+                        status VARCHAR(50),
+                        scheduled_pickup_time TIMESTAMP,
+                        created_at TIMESTAMP,
+                        updated_at TIMESTAMP
+                    )
+                    """);
+            statement.execute(
+                    """
+                    CREATE TABLE order_items (
+                        order_item_id VARCHAR(36) PRIMARY KEY,
+                        order_id VARCHAR(36) NOT NULL,
+                        sku VARCHAR(100) NOT NULL,
+                        product_name VARCHAR(255) NOT NULL,
+                        quantity NUMBER(10) NOT NULL,
+                        price NUMBER(10,2),
+                        created_at TIMESTAMP
+                    )
+                    """);
+            statement.execute(
+                    """
+                    CREATE TABLE order_change_log (
+                        change_seq BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+                        order_id VARCHAR(36) NOT NULL,
+                        change_type VARCHAR(16) NOT NULL,
+                        changed_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL
+                    )
+                    """);
+            statement.execute(
+                    "CREATE TRIGGER trg_orders_change_log AFTER INSERT, UPDATE ON orders"
+                            + " FOR EACH ROW CALL '"
+                            + OrderChangeLogH2Trigger.class.getName()
+                            + "'");
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        registry.shutdown();
+    }
+
+    @Test
+    void shouldEmitOrdersInJournalOrderAndRememberSequence() throws Exception {
+        insertOrder("order-b", BASE_TIME.plusMinutes(5), 2);
+        insertOrder("order-a", BASE_TIME, 1);
+
+        OrderSourcePage page = adapter.fetchNewOrders(sourceEndpoint, null, 50);
+
+        assertEquals(2, page.getOrders().size());
+        assertEquals("order-b", page.getOrders().get(0).getOrderId());
+        assertEquals(2, page.getOrders().get(0).getItems().size());
+        assertEquals("order-a", page.getOrders().get(1).getOrderId());
+        assertEquals(2, page.getScannedCount());
+        assertEquals("order-a", page.getLastScanned().getOrderId());
+        assertEquals(2L, page.getLastScanned().getChangeSequence());
+        assertFalse(page.hasMore());
+    }
+
+    @Test
+    void shouldOnlyReturnChangesAfterStoredSequence() throws Exception {
+        insertOrder("order-1", BASE_TIME, 1);
+        OrderSourceWatermark watermark =
+                adapter.fetchNewOrders(sourceEndpoint, null, 50).getLastScanned();
+
+        insertOrder("order-2", BASE_TIME, 1);
+        OrderSourcePage page = adapter.fetchNewOrders(sourceEndpoint, watermark, 50);
+
+        assertEquals(1, page.getOrders().size());
+        assertEquals("order-2", page.getOrders().get(0).getOrderId());
+        assertTrue(
+                adapter.fetchNewOrders(sourceEndpoint, page.getLastScanned(), 50)
+                        .getOrders()
+                        .isEmpty());
+    }
+
+    @Test
+    void shouldSkipJournalEntriesForOrdersNoLongerNew() throws Exception {
+        insertOrder("order-1", BASE_TIME, 1);
+        insertOrder("order-2", BASE_TIME, 1);
+        adapter.acknowledgeOrders(sourceEndpoint, List.of("order-1"));
+
+        OrderSourcePage page = adapter.fetchNewOrders(sourceEndpoint, null, 50);
+
+        assertEquals(1, page.getOrders().size());
+        assertEquals("order-2", page.getOrders().get(0).getOrderId());
+        assertEquals(2, page.getScannedCount());
+    }
+
+    @Test
+    void shouldEmitReopenedOrdersOncePerPage() throws Exception {
+        insertOrder("order-1", BASE_TIME, 2);
+        execute("UPDATE orders SET status = 'NEW', updated_at = CURRENT_TIMESTAMP");
+
+        OrderSourcePage page = adapter.fetchNewOrders(sourceEndpoint, null, 50);
+
+        assertEquals(1, page.getOrders().size());
+        assertEquals(2, page.getOrders().get(0).getItems().size());
+        assertEquals(2, page.getScannedCount());
+        assertEquals(2L, page.getLastScanned().getChangeSequence());
+    }
+
+    @Test
+    void shouldWalkJournalPageByPage() throws Exception {
+        for (int i = 0; i < 25; i++) {
+            insertOrder(String.format("order-%02d", i), BASE_TIME, 1);
+        }
+
+        List<String> seen = new ArrayList<>();
+        OrderSourceWatermark watermark = null;
+        OrderSourcePage page;
+        do {
+            page = adapter.fetchNewOrders(sourceEndpoint, watermark, 10);
+            page.getOrders().stream().map(ObservationResult::getOrderId).forEach(seen::add);
+            watermark = page.getLastScanned() != null ? page.getLastScanned() : watermark;
+        } while (page.hasMore());
+
+        assertEquals(25, seen.size());
+        assertEquals(25, seen.stream().distinct().count());
+        assertEquals("order-00", seen.get(0));
+        assertEquals("order-24", seen.get(24));
+    }
+
+    @Test
+    void shouldHoldCursorBeforeRecentGapUntilItFills() throws Exception {
+        insertOrder("order-1", BASE_TIME, 1);
+        OrderSourceWatermark watermark =
+                adapter.fetchNewOrders(sourceEndpoint, null, 50).getLastScanned();
+        insertOrder("order-2", BASE_TIME, 1);
+        insertOrder("order-3", BASE_TIME, 1);
+        execute("DELETE FROM order_change_log WHERE change_seq = 2");
+
+        OrderSourcePage held = adapter.fetchNewOrders(sourceEndpoint, watermark, 50);
+
+        assertTrue(held.getOrders().isEmpty());
+        assertEquals(0, held.getScannedCount());
+        assertNull(held.getLastScanned());
+        assertFalse(held.hasMore());
+
+        execute(
+                "INSERT INTO order_change_log (change_seq, order_id, change_type)"
+                        + " OVERRIDING SYSTEM VALUE VALUES (2, 'order-2', 'INSERT')");
+        OrderSourcePage page = adapter.fetchNewOrders(sourceEndpoint, watermark, 50);
+
+        assertEquals(2, page.getOrders().size());
+        assertEquals("order-2", page.getOrders().get(0).getOrderId());
+        assertEquals("order-3", page.getOrders().get(1).getOrderId());
+        assertEquals(3L, page.getLastScanned().getChangeSequence());
+    }
+
+    @Test
+    void shouldSkipGapThatStaysInvisiblePastTimeout() throws Exception {
+        insertOrder("order-1", BASE_TIME, 1);
+        OrderSourceWatermark watermark =
+                adapter.fetchNewOrders(sourceEndpoint, null, 50).getLastScanned();
+        insertOrder("order-2", BASE_TIME, 1);
+        insertOrder("order-3", BASE_TIME, 1);
+        execute("DELETE FROM order_change_log WHERE change_seq = 2");
+
+        assertEquals(0, adapter.fetchNewOrders(sourceEndpoint, watermark, 50).getScannedCount());
+        advanceClock(GAP_TIMEOUT_MS - 1);
+        assertEquals(0, adapter.fetchNewOrders(sourceEndpoint, watermark, 50).getScannedCount());
+        advanceClock(1);
+
+        OrderSourcePage page = adapter.fetchNewOrders(sourceEndpoint, watermark, 50);
+
+        assertEquals(1, page.getOrders().size());
+        assertEquals("order-3", page.getOrders().get(0).getOrderId());
+        assertEquals(3L, page.getLastScanned().getChangeSequence());
+    }
+
+    @Test
+    void shouldTimeGapFromFirstSightingRegardlessOfSourceClock() throws Exception {
+        insertOrder("order-1", BASE_TIME, 1);
+        OrderSourceWatermark watermark =
+                adapter.fetchNewOrders(sourceEndpoint, null, 50).getLastScanned();
+        insertOrder("order-2", BASE_TIME, 1);
+        insertOrder("order-3", BASE_TIME, 1);
+        insertOrder("order-4", BASE_TIME, 1);
+        insertOrder("order-5", BASE_TIME, 1);
+        execute("DELETE FROM order_change_log WHERE change_seq IN (2, 4)");
+        execute(
+                "UPDATE order_change_log SET changed_at = TIMESTAMP '2000-01-01 00:00:00'"
+                        + " WHERE change_seq = 3");
+        execute(
+                "UPDATE order_change_log SET changed_at = TIMESTAMP '2999-01-01 00:00:00'"
+                        + " WHERE change_seq = 5");
+
+        OrderSourcePage behindClock = adapter.fetchNewOrders(sourceEndpoint, watermark, 50);
+
+        assertEquals(0, behindClock.getScannedCount());
+        assertFalse(behindClock.hasMore());
+
+        advanceClock(GAP_TIMEOUT_MS);
+        OrderSourcePage aheadOfClock = adapter.fetchNewOrders(sourceEndpoint, watermark, 50);
+
+        assertEquals(1, aheadOfClock.getScannedCount());
+        assertEquals(3L, aheadOfClock.getLastScanned().getChangeSequence());
+
+        advanceClock(GAP_TIMEOUT_MS);
+        OrderSourcePage page =
+                adapter.fetchNewOrders(sourceEndpoint, aheadOfClock.getLastScanned(), 50);
+
+        assertEquals(1, page.getScannedCount());
+        assertEquals(5L, page.getLastScanned().getChangeSequence());
+    }
+
+    @Test
+    void shouldReturnEmptyPageWhenJournalIsEmpty() {
+        OrderSourcePage page = adapter.fetchNewOrders(sourceEndpoint, null, 50);
+
+        assertTrue(page.getOrders().isEmpty());
+        assertEquals(0, page.getScannedCount());
+        assertNull(page.getLastScanned());
+    }
+
+    private void advanceClock(long millis) {
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+
+    private void execute(String sql) throws Exception {
+        try (Connection connection = registry.getDataSource(sourceEndpoint).getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private void insertOrder(String orderId, LocalDateTime createdAt, int itemCount)
+            throws Exception {
+        try (Connection connection = registry.getDataSource(sourceEndpoint).getConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement statement =
+                    connection.prepareStatement(
+                            "INSERT INTO orders (order_id, customer_name, customer_email,"
+                                    + " shipping_address, order_type, warehouse_id, status,"
+                                    + " scheduled_pickup_time, created_at) VALUES (?, ?, ?, ?,"
+                                    + " 'TYPE_A', 'WH001', 'NEW', NULL, ?)")) {
+                statement.setString(1, orderId);
+                statement.setString(2, "Customer " + orderId);
+                statement.setString(3, orderId + "@example.com");
+                statement.setString(4, "Address " + orderId);
+                statement.setTimestamp(5, Timestamp.valueOf(createdAt));
+                statement.executeUpdate();
+            }
+
+            try (PreparedStatement statement =
+                    connection.prepareStatement(
+                            "INSERT INTO order_items (order_item_id, order_id, sku, product_name,"
+                                    + " quantity, price, created_at) VALUES (?, ?, ?, ?, 1,"
+                                    + " 10.00, ?)")) {
+                for (int i = 0; i < itemCount; i++) {
+                    statement.setString(1, UUID.randomUUID().toString());
+                    statement.setString(2, orderId);
+                    statement.setString(3, "SKU-" + orderId + "-" + i);
+                    statement.setString(4, "Product " + i);
+                    statement.setTimestamp(5, Timestamp.valueOf(createdAt.plusSeconds(i)));
+                    statement.executeUpdate();
+                }
+            }
+            connection.commit();
+        }
+    }
+}
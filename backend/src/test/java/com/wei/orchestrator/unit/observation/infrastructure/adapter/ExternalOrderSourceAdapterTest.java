@@ -0,0 +1,404 @@
+package com.wei.orchestrator.unit.observation.infrastructure.adapter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.wei.orchestrator.observation.domain.model.valueobject.ObservationResult;
+import com.wei.orchestrator.observation.domain.model.valueobject.OrderSourcePage;
+import com.wei.orchestrator.observation.domain.model.valueobject.OrderSourceWatermark;
+import com.wei.orchestrator.observation.domain.model.valueobject.SourceEndpoint;
+import com.wei.orchestrator.observation.infrastructure.adapter.ExternalOrderSourceAdapter;
+import com.wei.orchestrator.observation.infrastructure.adapter.OrderSourceDataSourceRegistry;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class ExternalOrderSourceAdapterTest {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 1, 8, 0);
+
+    private CountingDataSourceRegistry registry;
+    private ExternalOrderSourceAdapter adapter;
+    private SourceEndpoint sourceEndpoint;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        registry = new CountingDataSourceRegistry();
+        adapter = new ExternalOrderSourceAdapter(registry);
+        sourceEndpoint =
+                new SourceEndpoint(
+                        "jdbc:h2:mem:order-source-"
+                                + UUID.randomUUID()
+                                + ";MODE=Oracle;DB_CLOSE_DELAY=-1",
+                        "sa",
+                        "");
+
+        try (Connection connection = registry.getDataSource(sourceEndpoint).getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute(
+                    """
+                    CREATE TABLE orders (
+                        order_id VARCHAR(36) PRIMARY KEY,
+                        customer_name VARCHAR(255) NOT NULL,
+                        customer_email VARCHAR(255),
+                        shipping_address VARCHAR(500),
+                        order_type VARCHAR(50),
+                        warehouse_id VARCHAR(50),
+                        status VARCHAR(50),
+                        scheduled_pickup_time TIMESTAMP,
+                        created_at TIMESTAMP,
+                        updated_at TIMESTAMP
+                    )
+                    """);
+            statement.execute(
+                    """
+                    CREATE TABLE order_items (
+                        order_item_id VARCHAR(36) PRIMARY KEY,
+                        order_id VARCHAR(36) NOT NULL,
+                        sku VARCHAR(100) NOT NULL,
+                        product_name VARCHAR(255) NOT NULL,
+                        quantity NUMBER(10) NOT NULL,
+                        price NUMBER(10,2),
+                        created_at TIMESTAMP
+                    )
+                    """);
+        }
+        registry.resetStatementCount();
+    }
+
+    @AfterEach
+    void tearDown() {
+        registry.shutdown();
+    }
+
+    @Nested
+    class fetchNewOrdersTest {
+
+        @Test
+        void shouldGroupItemsUnderTheirOrdersInCreationOrder() throws Exception {
+            insertOrder("order-2", "NEW", BASE_TIME.plusMinutes(2), 1);
+            insertOrder("order-1", "NEW", BASE_TIME.plusMinutes(1), 3);
+            registry.resetStatementCount();
+
+            List<ObservationResult> results =
+                    adapter.fetchNewOrders(sourceEndpoint, null, 50).getOrders();
+
+            assertEquals(2, results.size());
+            assertEquals("order-1", results.get(0).getOrderId());
+            assertEquals(3, results.get(0).getItems().size());
+            assertEquals("SKU-order-1-0", results.get(0).getItems().get(0).getSku());
+            assertEquals("SKU-order-1-2", results.get(0).getItems().get(2).getSku());
+            assertEquals("order-2", results.get(1).getOrderId());
+            assertEquals(1, results.get(1).getItems().size());
+        }
+
+        @Test
+        void shouldUseSingleRoundTripRegardlessOfOrderCount() throws Exception {
+            for (int i = 0; i < 40; i++) {
+                insertOrder("order-" + i, "NEW", BASE_TIME.plusSeconds(i), 2);
+            }
+            registry.resetStatementCount();
+
+            OrderSourcePage page = adapter.fetchNewOrders(sourceEndpoint, null, 50);
+
+            assertEquals(40, page.getOrders().size());
+            assertFalse(page.hasMore());
+            assertEquals(1, registry.getStatementCount());
+        }
+
+        @Test
+        void shouldSkipOrdersWithoutItemsAndNonNewOrders() throws Exception {
+            insertOrder("order-no-items", "NEW", BASE_TIME.plusMinutes(1), 0);
+            insertOrder("order-in-progress", "IN_PROGRESS", BASE_TIME.plusMinutes(2), 1);
+            insertOrder("order-new", "NEW", BASE_TIME.plusMinutes(3), 1);
+
+            OrderSourcePage page = adapter.fetchNewOrders(sourceEndpoint, null, 50);
+
+            assertEquals(1, page.getOrders().size());
+            assertEquals("order-new", page.getOrders().get(0).getOrderId());
+            assertEquals(2, page.getScannedCount());
+        }
+
+        @Test
+        void shouldOnlyReturnOrdersAfterWatermark() throws Exception {
+            insertOrder("order-old", "NEW", BASE_TIME, 1);
+            insertOrder("order-recent", "NEW", BASE_TIME.plusMinutes(10), 1);
+
+            List<ObservationResult> results =
+                    adapter.fetchNewOrders(
+                                    sourceEndpoint,
+                                    new OrderSourceWatermark(BASE_TIME, "order-old"),
+                                    50)
+                            .getOrders();
+
+            assertEquals(1, results.size());
+            assertEquals("order-recent", results.get(0).getOrderId());
+        }
+
+        @Test
+        void shouldBreakCreatedAtTiesByOrderId() throws Exception {
+            insertOrder("order-a", "NEW", BASE_TIME, 1);
+            insertOrder("order-b", "NEW", BASE_TIME, 1);
+            insertOrder("order-c", "NEW", BASE_TIME, 1);
+
+            List<ObservationResult> results =
+                    adapter.fetchNewOrders(
+                                    sourceEndpoint,
+                                    new OrderSourceWatermark(BASE_TIME, "order-a"),
+                                    50)
+                            .getOrders();
+
+            assertEquals(2, results.size());
+            assertEquals("order-b", results.get(0).getOrderId());
+            assertEquals("order-c", results.get(1).getOrderId());
+        }
+
+        @Test
+        void shouldCapPageAtRequestedSizeAndReportMore() throws Exception {
+            for (int i = 0; i < 55; i++) {
+                insertOrder(String.format("order-%02d", i), "NEW", BASE_TIME.plusSeconds(i), 2);
+            }
+
+            OrderSourcePage page = adapter.fetchNewOrders(sourceEndpoint, null, 50);
+
+            assertEquals(50, page.getOrders().size());
+            assertEquals(
+                    100,
+                    page.getOrders().stream().mapToInt(result -> result.getItems().size()).sum());
+            assertTrue(page.hasMore());
+            assertEquals(
+                    new OrderSourceWatermark(BASE_TIME.plusSeconds(49), "order-49"),
+                    page.getLastScanned());
+        }
+
+        @Test
+        void shouldWalkBacklogPageByPageWithoutGapsOrDuplicates() throws Exception {
+            for (int i = 0; i < 25; i++) {
+                insertOrder(
+                        String.format("order-%02d", i), "NEW", BASE_TIME.plusSeconds(i / 3), 1);
+            }
+
+            List<String> seen = new ArrayList<>();
+            OrderSourceWatermark watermark = null;
+            OrderSourcePage page;
+            do {
+                page = adapter.fetchNewOrders(sourceEndpoint, watermark, 10);
+                page.getOrders().forEach(result -> seen.add(result.getOrderId()));
+                watermark = page.getLastScanned() != null ? page.getLastScanned() : watermark;
+            } while (page.hasMore());
+
+            assertEquals(25, seen.size());
+            assertEquals(25, seen.stream().distinct().count());
+            assertEquals("order-00", seen.get(0));
+            assertEquals("order-24", seen.get(24));
+        }
+
+        @Test
+        void shouldAdvanceWatermarkPastOrdersWithoutItems() throws Exception {
+            insertOrder("order-1", "NEW", BASE_TIME.plusSeconds(1), 0);
+            insertOrder("order-2", "NEW", BASE_TIME.plusSeconds(2), 0);
+            insertOrder("order-3", "NEW", BASE_TIME.plusSeconds(3), 1);
+
+            OrderSourcePage page = adapter.fetchNewOrders(sourceEndpoint, null, 2);
+
+            assertTrue(page.getOrders().isEmpty());
+            assertEquals(2, page.getScannedCount());
+            assertTrue(page.hasMore());
+            assertEquals(
+                    new OrderSourceWatermark(BASE_TIME.plusSeconds(2), "order-2"),
+                    page.getLastScanned());
+
+            OrderSourcePage nextPage =
+                    adapter.fetchNewOrders(sourceEndpoint, page.getLastScanned(), 2);
+
+            assertEquals(1, nextPage.getOrders().size());
+            assertEquals("order-3", nextPage.getOrders().get(0).getOrderId());
+            assertFalse(nextPage.hasMore());
+        }
+
+        @Test
+        void shouldReturnEmptyPageWhenNothingIsPending() {
+            OrderSourcePage page = adapter.fetchNewOrders(sourceEndpoint, null, 50);
+
+            assertTrue(page.getOrders().isEmpty());
+            assertEquals(0, page.getScannedCount());
+            assertNull(page.getLastScanned());
+            assertFalse(page.hasMore());
+        }
+    }
+
+    @Nested
+    class acknowledgeOrdersTest {
+
+        @Test
+        void shouldTransitionOnlyNewOrdersAndReportThem() throws Exception {
+            insertOrder("order-1", "NEW", BASE_TIME, 1);
+            insertOrder("order-2", "IN_PROGRESS", BASE_TIME, 1);
+            insertOrder("order-3", "NEW", BASE_TIME, 1);
+
+            Set<String> acknowledged =
+                    adapter.acknowledgeOrders(
+                            sourceEndpoint, List.of("order-1", "order-2", "order-3", "missing"));
+
+            assertEquals(Set.of("order-1", "order-3"), acknowledged);
+            assertEquals("IN_PROGRESS", statusOf("order-1"));
+            assertEquals("IN_PROGRESS", statusOf("order-2"));
+            assertEquals("IN_PROGRESS", statusOf("order-3"));
+        }
+
+        @Test
+        void shouldReportNothingWhenOrdersWereAlreadyAcknowledged() throws Exception {
+            insertOrder("order-1", "NEW", BASE_TIME, 1);
+            adapter.acknowledgeOrders(sourceEndpoint, List.of("order-1"));
+
+            Set<String> acknowledged =
+                    adapter.acknowledgeOrders(sourceEndpoint, List.of("order-1"));
+
+            assertTrue(acknowledged.isEmpty());
+        }
+
+        @Test
+        void shouldUseTwoStatementsPerChunkForLargeBursts() throws Exception {
+            List<String> orderIds = new ArrayList<>();
+            for (int i = 0; i < 600; i++) {
+                String orderId = String.format("order-%03d", i);
+                insertOrder(orderId, "NEW", BASE_TIME.plusSeconds(i), 0);
+                orderIds.add(orderId);
+            }
+            orderIds.add("order-000");
+            registry.resetStatementCount();
+
+            Set<String> acknowledged = adapter.acknowledgeOrders(sourceEndpoint, orderIds);
+
+            assertEquals(600, acknowledged.size());
+            assertEquals(4, registry.getStatementCount());
+            assertTrue(adapter.fetchNewOrders(sourceEndpoint, null, 50).getOrders().isEmpty());
+        }
+
+        @Test
+        void shouldNotTouchSourceForEmptyAcknowledgement() {
+            Set<String> acknowledged = adapter.acknowledgeOrders(sourceEndpoint, List.of());
+
+            assertTrue(acknowledged.isEmpty());
+            assertEquals(0, registry.getStatementCount());
+        }
+    }
+
+    private String statusOf(String orderId) throws Exception {
+        try (Connection connection = registry.getDataSource(sourceEndpoint).getConnection();
+                PreparedStatement statement =
+                        connection.prepareStatement(
+                                "SELECT status FROM orders WHERE order_id = ?")) {
+            statement.setString(1, orderId);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                assertTrue(resultSet.next());
+                return resultSet.getString("status");
+            }
+        }
+    }
+
+    private void insertOrder(String orderId, String status, LocalDateTime createdAt, int itemCount)
+            throws Exception {
+        try (Connection connection = registry.getDataSource(sourceEndpoint).getConnection()) {
+            try (PreparedStatement statement =
+                    connection.prepareStatement(
+                            "INSERT INTO orders (order_id, customer_name, customer_email,"
+                                    + " shipping_address, order_type, warehouse_id, status,"
+                                    + " scheduled_pickup_time, created_at) VALUES (?, ?, ?, ?,"
+                                    + " 'TYPE_A', 'WH001', ?, NULL, ?)")) {
+                statement.setString(1, orderId);
+                statement.setString(2, "Customer " + orderId);
+                statement.setString(3, orderId + "@example.com");
+                statement.setString(4, "Address " + orderId);
+                statement.setString(5, status);
+                statement.setTimestamp(6, Timestamp.valueOf(createdAt));
+                statement.executeUpdate();
+            }
+
+            try (PreparedStatement statement =
+                    connection.prepareStatement(
+                            "INSERT INTO order_items (order_item_id, order_id, sku, product_name,"
+                                    + " quantity, price, created_at) VALUES (?, ?, ?, ?, 1,"
+                                    + " 10.00, ?)")) {
+                for (int i = 0; i < itemCount; i++) {
+                    statement.setString(1, UUID.randomUUID().toString());
+                    statement.setString(2, orderId);
+                    statement.setString(3, "SKU-" + orderId + "-" + i);
+                    statement.setString(4, "Product " + i);
+                    statement.setTimestamp(5, Timestamp.valueOf(createdAt.plusSeconds(i)));
+                    statement.executeUpdate();
+                }
+            }
+        }
+    }
+
+    private static class CountingDataSourceRegistry extends OrderSourceDataSourceRegistry {
+
+        private final AtomicInteger statementCount = new AtomicInteger();
+
+        CountingDataSourceRegistry() {
+            super(2, 0, 5000, 10000, 60000, 1000);
+        }
+
+        @Override
+        public DataSource getDataSource(SourceEndpoint sourceEndpoint) {
+            DataSource delegate = super.getDataSource(sourceEndpoint);
+            return (DataSource)
+                    Proxy.newProxyInstance(
+                            getClass().getClassLoader(),
+                            new Class<?>[] {DataSource.class},
+                            (proxy, method, args) -> {
+                                Object result = invoke(delegate, method, args);
+                                if (result instanceof Connection connection) {
+                                    return countingConnection(connection);
+                                }
+                                return result;
+                            });
+        }
+
+        private Connection countingConnection(Connection delegate) {
+            return (Connection)
+                    Proxy.newProxyInstance(
+                            getClass().getClassLoader(),
+                            new Class<?>[] {Connection.class},
+                            (proxy, method, args) -> {
+                                if (method.getName().equals("prepareStatement")) {
+                                    statementCount.incrementAndGet();
+                                }
+                                return invoke(delegate, method, args);
+                            });
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args)
+                throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+
+        int getStatementCount() {
+            return statementCount.get();
+        }
+
+        void resetStatementCount() {
+            statementCount.set(0);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.wei.orchestrator.unit.observation.infrastructure.adapter;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import org.h2.api.Trigger;
+
+public class OrderChangeLogH2Trigger implements Trigger {
+
+    private static final int ORDER_ID_COLUMN = 0;
+    private static final int STATUS_COLUMN = 6;
+
+    @Override
+    public void fire(Connection connection, Object[] oldRow, Object[] newRow) throws SQLException {
+        if (newRow == null || !"NEW".equals(newRow[STATUS_COLUMN])) {
+            return;
+        }
+        try (PreparedStatement statement =
+                connection.prepareStatement(
+                        "INSERT INTO order_change_log (order_id, change_type) VALUES (?, ?)")) {
+            statement.setString(1, (String) newRow[ORDER_ID_COLUMN]);
+            statement.setString(2, oldRow == null ? "INSERT" : "UPDATE");
+            statement.executeUpdate();
+        }
+    }
+}
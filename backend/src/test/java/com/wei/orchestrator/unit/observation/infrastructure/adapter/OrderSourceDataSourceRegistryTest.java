@@ -0,0 +1,151 @@
+package com.wei.orchestrator.unit.observation.infrastructure.adapter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.wei.orchestrator.observation.domain.model.valueobject.SourceEndpoint;
+import com.wei.orchestrator.observation.infrastructure.adapter.OrderSourceDataSourceRegistry;
+import com.wei.orchestrator.observation.infrastructure.adapter.OrderSourcePoolMetrics;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class OrderSourceDataSourceRegistryTest {
+
+    private static final String JDBC_URL = "jdbc:h2:mem:order-source-pool;DB_CLOSE_DELAY=-1";
+
+    private OrderSourceDataSourceRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new OrderSourceDataSourceRegistry(2, 0, 5000, 10000, 60000, 1000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        registry.shutdown();
+    }
+
+    @Test
+    void shouldReuseDataSourceForSameEndpoint() {
+        SourceEndpoint endpoint = new SourceEndpoint(JDBC_URL, "sa", "");
+
+        DataSource first = registry.getDataSource(endpoint);
+        DataSource second = registry.getDataSource(new SourceEndpoint(JDBC_URL, "sa", ""));
+
+        assertSame(first, second);
+        assertTrue(registry.isRegistered(endpoint));
+    }
+
+    @Test
+    void shouldCreateSeparateDataSourcesForDifferentEndpoints() {
+        DataSource first = registry.getDataSource(new SourceEndpoint(JDBC_URL, "sa", ""));
+        DataSource second =
+                registry.getDataSource(
+                        new SourceEndpoint(
+                                "jdbc:h2:mem:order-source-pool-2;DB_CLOSE_DELAY=-1", "sa", ""));
+
+        assertNotSame(first, second);
+        assertEquals(2, registry.getAllPoolMetrics().size());
+    }
+
+    @Test
+    void shouldKeepSeparatePoolsForConflictingCredentials() {
+        SourceEndpoint original = new SourceEndpoint(JDBC_URL, "sa", "");
+        SourceEndpoint rotated = new SourceEndpoint(JDBC_URL, "sa", "rotated");
+        HikariDataSource originalPool = (HikariDataSource) registry.getDataSource(original);
+
+        HikariDataSource rotatedPool = (HikariDataSource) registry.getDataSource(rotated);
+
+        assertNotSame(originalPool, rotatedPool);
+        assertSame(originalPool, registry.getDataSource(original));
+        assertFalse(originalPool.isClosed());
+        assertEquals("rotated", rotatedPool.getPassword());
+
+        registry.release(original);
+
+        assertTrue(originalPool.isClosed());
+        assertFalse(rotatedPool.isClosed());
+        assertTrue(registry.isRegistered(rotated));
+        assertFalse(registry.isRegistered(original));
+    }
+
+    @Test
+    void shouldReplaceClosedDataSource() {
+        SourceEndpoint endpoint = new SourceEndpoint(JDBC_URL, "sa", "");
+        HikariDataSource closed = (HikariDataSource) registry.getDataSource(endpoint);
+        closed.close();
+
+        HikariDataSource replacement = (HikariDataSource) registry.getDataSource(endpoint);
+
+        assertNotSame(closed, replacement);
+        assertFalse(replacement.isClosed());
+    }
+
+    @Test
+    void shouldShutDownDataSourceWhenReleased() {
+        SourceEndpoint endpoint = new SourceEndpoint(JDBC_URL, "sa", "");
+        HikariDataSource dataSource = (HikariDataSource) registry.getDataSource(endpoint);
+
+        registry.release(endpoint);
+
+        assertTrue(dataSource.isClosed());
+        assertFalse(registry.isRegistered(endpoint));
+        assertTrue(registry.getPoolMetrics(endpoint).isEmpty());
+    }
+
+    @Test
+    void shouldReturnConnectionsToPoolAndExposeMetrics() throws Exception {
+        SourceEndpoint endpoint = new SourceEndpoint(JDBC_URL, "sa", "");
+        DataSource dataSource = registry.getDataSource(endpoint);
+
+        try (Connection connection = dataSource.getConnection()) {
+            assertTrue(connection.isValid(1));
+            OrderSourcePoolMetrics borrowed = registry.getPoolMetrics(endpoint).orElseThrow();
+            assertEquals(1, borrowed.getActiveConnections());
+        }
+
+        OrderSourcePoolMetrics returned = registry.getPoolMetrics(endpoint).orElseThrow();
+        assertEquals(0, returned.getActiveConnections());
+        assertEquals(1, returned.getTotalConnections());
+        assertEquals(JDBC_URL, returned.getJdbcUrl());
+        assertEquals("sa", returned.getUsername());
+    }
+
+    @Test
+    void shouldExposePoolGaugesPerEndpointUntilReleased() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        registry.bindTo(meterRegistry);
+        SourceEndpoint endpoint = new SourceEndpoint(JDBC_URL, "sa", "");
+        DataSource dataSource = registry.getDataSource(endpoint);
+
+        try (Connection connection = dataSource.getConnection()) {
+            assertEquals(
+                    1.0,
+                    meterRegistry
+                            .get("orchestrator.order.source.pool.active")
+                            .tag("endpoint", JDBC_URL)
+                            .tag("username", "sa")
+                            .gauge()
+                            .value());
+        }
+        assertEquals(
+                1.0,
+                meterRegistry
+                        .get("orchestrator.order.source.pool.total")
+                        .tag("endpoint", JDBC_URL)
+                        .gauge()
+                        .value());
+
+        registry.release(endpoint);
+
+        assertNull(
+                meterRegistry
+                        .find("orchestrator.order.source.pool.active")
+                        .tag("endpoint", JDBC_URL)
+                        .gauge());
+    }
+}
@@ -0,0 +1,77 @@
+package com.wei.orchestrator.unit.observation.infrastructure.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.wei.orchestrator.observation.infrastructure.scheduler.ConsistentHashRing;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class ConsistentHashRingTest {
+
+    private static final int KEY_COUNT = 3000;
+
+    @Nested
+    class ownerOfTest {
+
+        @Test
+        void shouldSpreadKeysAcrossAllNodes() {
+            ConsistentHashRing ring =
+                    new ConsistentHashRing(List.of("node-a", "node-b", "node-c"), 128);
+
+            Map<String, Integer> ownedKeys = new HashMap<>();
+            for (int i = 0; i < KEY_COUNT; i++) {
+                ownedKeys.merge(ring.ownerOf("observer-" + i), 1, Integer::sum);
+            }
+
+            assertEquals(3, ownedKeys.size());
+            for (int count : ownedKeys.values()) {
+                assertTrue(count > KEY_COUNT / 5, "Unbalanced partition: " + ownedKeys);
+            }
+        }
+
+        @Test
+        void shouldOnlyMoveKeysOwnedByLeavingNode() {
+            ConsistentHashRing before =
+                    new ConsistentHashRing(List.of("node-a", "node-b", "node-c"), 128);
+            ConsistentHashRing after = new ConsistentHashRing(List.of("node-a", "node-b"), 128);
+
+            for (int i = 0; i < KEY_COUNT; i++) {
+                String key = "observer-" + i;
+                String previousOwner = before.ownerOf(key);
+                if (!previousOwner.equals("node-c")) {
+                    assertEquals(previousOwner, after.ownerOf(key));
+                }
+            }
+        }
+
+        @Test
+        void shouldIgnoreNodeOrderAndDuplicates() {
+            ConsistentHashRing ring = new ConsistentHashRing(List.of("node-b", "node-a"), 64);
+            ConsistentHashRing reordered =
+                    new ConsistentHashRing(List.of("node-a", "node-b", "node-a"), 64);
+
+            assertEquals(List.of("node-a", "node-b"), reordered.getNodeIds());
+            for (int i = 0; i < 200; i++) {
+                assertEquals(ring.ownerOf("observer-" + i), reordered.ownerOf("observer-" + i));
+            }
+        }
+
+        @Test
+        void shouldReturnNullWhenRingIsEmpty() {
+            ConsistentHashRing ring = new ConsistentHashRing(List.of(), 64);
+
+            assertTrue(ring.isEmpty());
+            assertNull(ring.ownerOf("observer-1"));
+        }
+    }
+
+    @Test
+    void shouldRejectNonPositiveVirtualNodes() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new ConsistentHashRing(List.of("node-a"), 0));
+    }
+}
@@ -0,0 +1,202 @@
+package com.wei.orchestrator.unit.observation.infrastructure.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.wei.orchestrator.observation.domain.model.valueobject.ObserverType;
+import com.wei.orchestrator.observation.infrastructure.scheduler.ObserverPollQueue;
+import com.wei.orchestrator.observation.infrastructure.scheduler.ObserverPollQueue.ScheduledPoll;
+import com.wei.orchestrator.observation.infrastructure.scheduler.ObserverScheduleMetrics;
+import com.wei.orchestrator.shared.infrastructure.metrics.PipelineMeters;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class ObserverPollQueueTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ObserverPollQueue pollQueue;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        pollQueue = new ObserverPollQueue(meterRegistry);
+    }
+
+    @Nested
+    class takeDueTest {
+
+        @Test
+        void shouldReturnOnlyDuePollsInDueOrder() {
+            pollQueue.register(ObserverType.ORDER, "order-1", 60000, 300);
+            pollQueue.register(ObserverType.WES, "wes-1", 60000, 100);
+            pollQueue.register(ObserverType.INVENTORY, "inventory-1", 60000, 5000);
+
+            List<ScheduledPoll> duePolls = pollQueue.takeDue(1000);
+
+            assertEquals(2, duePolls.size());
+            assertEquals("wes-1", duePolls.get(0).getObserverId());
+            assertEquals("order-1", duePolls.get(1).getObserverId());
+            assertEquals(5000L, pollQueue.nextDueAtMillis());
+        }
+
+        @Test
+        void shouldNotReturnPollWhileItIsInFlight() {
+            pollQueue.register(ObserverType.ORDER, "order-1", 0, 100);
+
+            assertEquals(1, pollQueue.takeDue(100).size());
+            assertTrue(pollQueue.takeDue(10000).isEmpty());
+        }
+
+        @Test
+        void shouldRecordLagBetweenDueAndFireTime() {
+            pollQueue.register(ObserverType.ORDER, "order-1", 60000, 100);
+            pollQueue.register(ObserverType.WES, "wes-1", 60000, 700);
+
+            pollQueue.takeDue(1000);
+
+            ObserverScheduleMetrics metrics = pollQueue.getMetrics();
+            assertEquals(2, metrics.getFiredPolls());
+            assertEquals(2, metrics.getInFlightPolls());
+            assertEquals(900, metrics.getMaxLagMillis());
+            assertEquals(600, metrics.getAverageLagMillis());
+            Timer orderLag = lagTimer(ObserverType.ORDER);
+            assertEquals(1, orderLag.count());
+            assertEquals(900, orderLag.totalTime(TimeUnit.MILLISECONDS));
+            Timer wesLag = lagTimer(ObserverType.WES);
+            assertEquals(1, wesLag.count());
+            assertEquals(300, wesLag.totalTime(TimeUnit.MILLISECONDS));
+            assertEquals(0, lagTimer(ObserverType.INVENTORY).count());
+        }
+    }
+
+    @Nested
+    class completeTest {
+
+        @Test
+        void shouldRequeuePollOneIntervalAfterCompletion() {
+            pollQueue.register(ObserverType.ORDER, "order-1", 60000, 100);
+            ScheduledPoll poll = pollQueue.takeDue(100).get(0);
+
+            pollQueue.complete(poll, poll.getFlight(), 2000);
+
+            assertEquals(62000L, pollQueue.nextDueAtMillis());
+            assertEquals(0, pollQueue.getMetrics().getInFlightPolls());
+        }
+
+        @Test
+        void shouldIgnoreCompletionOfStaleFlight() {
+            pollQueue.register(ObserverType.ORDER, "order-1", 1000, 100);
+            ScheduledPoll poll = pollQueue.takeDue(100).get(0);
+            long staleFlight = poll.getFlight();
+            pollQueue.complete(poll, staleFlight, 200);
+            pollQueue.takeDue(1200);
+
+            pollQueue.complete(poll, staleFlight, 1300);
+
+            assertEquals(1, pollQueue.getMetrics().getInFlightPolls());
+            assertNull(pollQueue.nextDueAtMillis());
+        }
+
+        @Test
+        void shouldNotRequeuePollCancelledWhileInFlight() {
+            pollQueue.register(ObserverType.ORDER, "order-1", 1000, 100);
+            ScheduledPoll poll = pollQueue.takeDue(100).get(0);
+
+            assertTrue(pollQueue.cancel(ObserverType.ORDER, "order-1"));
+            pollQueue.complete(poll, poll.getFlight(), 200);
+
+            assertEquals(0, pollQueue.size());
+            assertNull(pollQueue.nextDueAtMillis());
+        }
+    }
+
+    @Nested
+    class registerAndScheduleTest {
+
+        @Test
+        void shouldKeepExistingDueTimeWhenRegisteredAgain() {
+            pollQueue.register(ObserverType.ORDER, "order-1", 60000, 100);
+
+            pollQueue.register(ObserverType.ORDER, "order-1", 30000, 5000);
+
+            assertEquals(1, pollQueue.size());
+            assertEquals(100L, pollQueue.nextDueAtMillis());
+        }
+
+        @Test
+        void shouldApplyUpdatedIntervalOnNextCompletion() {
+            pollQueue.register(ObserverType.ORDER, "order-1", 60000, 100);
+            ScheduledPoll poll = pollQueue.takeDue(100).get(0);
+
+            pollQueue.register(ObserverType.ORDER, "order-1", 30000, 100);
+            pollQueue.complete(poll, poll.getFlight(), 1000);
+
+            assertEquals(31000L, pollQueue.nextDueAtMillis());
+        }
+
+        @Test
+        void shouldMoveDueTimeWhenScheduled() {
+            pollQueue.register(ObserverType.ORDER, "order-1", 60000, 50000);
+
+            pollQueue.schedule(ObserverType.ORDER, "order-1", 60000, 100);
+
+            assertEquals(1, pollQueue.size());
+            assertEquals(100L, pollQueue.nextDueAtMillis());
+        }
+
+        @Test
+        void shouldKeepSameObserverIdSeparateAcrossTypes() {
+            pollQueue.register(ObserverType.ORDER, "observer-1", 60000, 100);
+            pollQueue.register(ObserverType.WES, "observer-1", 60000, 100);
+
+            assertEquals(2, pollQueue.size());
+        }
+    }
+
+    @Nested
+    class retainOnlyTest {
+
+        @Test
+        void shouldDropObserversOfTypeThatAreNoLongerActive() {
+            pollQueue.register(ObserverType.ORDER, "order-1", 60000, 100);
+            pollQueue.register(ObserverType.ORDER, "order-2", 60000, 200);
+            pollQueue.register(ObserverType.WES, "wes-1", 60000, 300);
+
+            pollQueue.retainOnly(ObserverType.ORDER, Set.of("order-2"));
+
+            List<ScheduledPoll> duePolls = pollQueue.takeDue(1000);
+            assertEquals(2, duePolls.size());
+            assertEquals("order-2", duePolls.get(0).getObserverId());
+            assertEquals("wes-1", duePolls.get(1).getObserverId());
+        }
+    }
+
+    @Nested
+    class findOverdueTest {
+
+        @Test
+        void shouldReturnInFlightPollsRunningLongerThanTimeout() {
+            pollQueue.register(ObserverType.ORDER, "order-1", 60000, 100);
+            pollQueue.register(ObserverType.WES, "wes-1", 60000, 900);
+            pollQueue.takeDue(100);
+            pollQueue.takeDue(900);
+
+            List<ScheduledPoll> overdue = pollQueue.findOverdue(1100, 1000);
+
+            assertEquals(1, overdue.size());
+            assertEquals("order-1", overdue.get(0).getObserverId());
+        }
+    }
+
+    private Timer lagTimer(ObserverType observerType) {
+        return meterRegistry
+                .get(PipelineMeters.OBSERVER_LAG)
+                .tag("observer.type", observerType.name())
+                .timer();
+    }
+}
@@ -1,5 +1,6 @@
 package com.wei.orchestrator.unit.observation.infrastructure.scheduler;
 
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
@@ -7,13 +8,30 @@ import static org.mockito.Mockito.*;
 import com.wei.orchestrator.observation.application.InventoryObserverApplicationService;
 import com.wei.orchestrator.observation.application.OrderObserverApplicationService;
 import com.wei.orchestrator.observation.application.WesObserverApplicationService;
+import com.wei.orchestrator.observation.application.command.PollInventorySnapshotCommand;
+import com.wei.orchestrator.observation.application.command.PollOrderSourceCommand;
+import com.wei.orchestrator.observation.application.command.PollWesTaskStatusCommand;
+import com.wei.orchestrator.observation.application.dto.ObserverScheduleDto;
+import com.wei.orchestrator.observation.application.event.ObserverScheduleChangedEvent;
+import com.wei.orchestrator.observation.domain.model.valueobject.ObserverType;
+import com.wei.orchestrator.observation.infrastructure.scheduler.ObserverPartitioner;
+import com.wei.orchestrator.observation.infrastructure.scheduler.ObserverScheduleMetrics;
 import com.wei.orchestrator.observation.infrastructure.scheduler.ObserverScheduler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.integration.support.locks.LockRegistry;
@@ -29,244 +47,411 @@ class ObserverSchedulerTest {
 
     @Mock private InventoryObserverApplicationService inventoryObserverApplicationService;
 
+    @Mock private ObserverPartitioner observerPartitioner;
+
     @Mock private Lock lock;
 
-    @InjectMocks private ObserverScheduler observerScheduler;
+    private ExecutorService executor;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private ObserverScheduler observerScheduler;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+        meterRegistry = new SimpleMeterRegistry();
+        lenient().when(observerPartitioner.owns(anyString())).thenReturn(true);
+        observerScheduler = createScheduler(5000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private ObserverScheduler createScheduler(long pollTimeoutMs) {
+        return new ObserverScheduler(
+                lockRegistry,
+                orderObserverService,
+                wesObserverApplicationService,
+                inventoryObserverApplicationService,
+                executor,
+                observerPartitioner,
+                meterRegistry,
+                pollTimeoutMs);
+    }
+
+    private static List<ObserverScheduleDto> schedulesOf(String... observerIds) {
+        return Arrays.stream(observerIds)
+                .map(observerId -> new ObserverScheduleDto(observerId, 60, null))
+                .toList();
+    }
+
+    private void refreshAndDispatch() {
+        observerScheduler.refreshSchedules();
+        observerScheduler.dispatchDueObservers();
+    }
+
+    private void awaitIdle() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 2000;
+        while (observerScheduler.getScheduleMetrics().getInFlightPolls() > 0
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
 
     @Nested
-    class pollAllObserverTypes {
+    class dispatchDueObserversTest {
 
         @Test
-        void shouldPollBothOrderAndWesObservers() throws InterruptedException {
+        void shouldPollEachDueObserverUnderItsOwnLock() throws InterruptedException {
+            when(orderObserverService.findActiveObserverSchedules())
+                    .thenReturn(schedulesOf("order-1", "order-2"));
+            when(wesObserverApplicationService.findActiveObserverSchedules())
+                    .thenReturn(schedulesOf("wes-1"));
+            when(inventoryObserverApplicationService.findActiveObserverSchedules())
+                    .thenReturn(schedulesOf("inventory-1"));
             when(lockRegistry.obtain(anyString())).thenReturn(lock);
             when(lock.tryLock(1, TimeUnit.SECONDS)).thenReturn(true);
 
-            observerScheduler.pollAllObserverTypes();
-
-            verify(lockRegistry).obtain("order-observer-poll");
-            verify(lockRegistry).obtain("wes-observer-poll");
-            verify(orderObserverService).pollAllActiveObservers();
-            verify(wesObserverApplicationService).pollAllActiveObservers();
-            verify(lock, times(3)).unlock();
+            refreshAndDispatch();
+
+            verify(lock, timeout(2000).times(4)).unlock();
+            verify(lockRegistry).obtain("order-observer-poll:order-1");
+            verify(lockRegistry).obtain("order-observer-poll:order-2");
+            verify(lockRegistry).obtain("wes-observer-poll:wes-1");
+            verify(lockRegistry).obtain("inventory-observer-poll:inventory-1");
+            verify(orderObserverService, times(2))
+                    .pollOrderSource(any(PollOrderSourceCommand.class), any());
+            verify(wesObserverApplicationService)
+                    .pollWesTaskStatus(any(PollWesTaskStatusCommand.class), any());
+            verify(inventoryObserverApplicationService)
+                    .pollInventorySnapshot(any(PollInventorySnapshotCommand.class));
         }
 
         @Test
-        void shouldAcquireLocksForBothObserverTypes() throws InterruptedException {
+        void shouldSkipObserversOwnedByAnotherNode() throws InterruptedException {
+            when(orderObserverService.findActiveObserverSchedules())
+                    .thenReturn(schedulesOf("order-1", "order-2"));
+            when(observerPartitioner.owns("order-1")).thenReturn(false);
             when(lockRegistry.obtain(anyString())).thenReturn(lock);
             when(lock.tryLock(1, TimeUnit.SECONDS)).thenReturn(true);
 
-            observerScheduler.pollAllObserverTypes();
+            refreshAndDispatch();
 
-            verify(lockRegistry).obtain("order-observer-poll");
-            verify(lockRegistry).obtain("wes-observer-poll");
-            verify(lock, times(3)).tryLock(1, TimeUnit.SECONDS);
+            verify(lock, timeout(2000)).unlock();
+            awaitIdle();
+            verify(lockRegistry, never()).obtain("order-observer-poll:order-1");
+            verify(lockRegistry).obtain("order-observer-poll:order-2");
+            verify(orderObserverService, times(1)).pollOrderSource(any(), any());
+            assertEquals(0, observerScheduler.getScheduleMetrics().getInFlightPolls());
         }
 
         @Test
-        void shouldSkipOrderObserverWhenLockNotAcquired() throws InterruptedException {
-            Lock orderLock = mock(Lock.class);
-            Lock wesLock = mock(Lock.class);
-
-            when(lockRegistry.obtain("order-observer-poll")).thenReturn(orderLock);
-            when(lockRegistry.obtain("wes-observer-poll")).thenReturn(wesLock);
-            when(orderLock.tryLock(1, TimeUnit.SECONDS)).thenReturn(false);
-            when(wesLock.tryLock(1, TimeUnit.SECONDS)).thenReturn(true);
+        void shouldPassObserverIdAndScheduledContextToApplicationService()
+                throws InterruptedException {
+            when(orderObserverService.findActiveObserverSchedules())
+                    .thenReturn(schedulesOf("order-1"));
+            when(lockRegistry.obtain(anyString())).thenReturn(lock);
+            when(lock.tryLock(1, TimeUnit.SECONDS)).thenReturn(true);
 
-            observerScheduler.pollAllObserverTypes();
+            refreshAndDispatch();
 
-            verify(orderObserverService, never()).pollAllActiveObservers();
-            verify(wesObserverApplicationService).pollAllActiveObservers();
-            verify(orderLock, never()).unlock();
-            verify(wesLock).unlock();
+            ArgumentCaptor<PollOrderSourceCommand> captor =
+                    ArgumentCaptor.forClass(PollOrderSourceCommand.class);
+            verify(orderObserverService, timeout(2000))
+                    .pollOrderSource(captor.capture(), notNull());
+            assertEquals("order-1", captor.getValue().getObserverId());
         }
 
         @Test
-        void shouldSkipWesObserverWhenLockNotAcquired() throws InterruptedException {
-            Lock orderLock = mock(Lock.class);
-            Lock wesLock = mock(Lock.class);
-
-            when(lockRegistry.obtain("order-observer-poll")).thenReturn(orderLock);
-            when(lockRegistry.obtain("wes-observer-poll")).thenReturn(wesLock);
-            when(orderLock.tryLock(1, TimeUnit.SECONDS)).thenReturn(true);
-            when(wesLock.tryLock(1, TimeUnit.SECONDS)).thenReturn(false);
+        void shouldNotPollObserverBeforeItsIntervalElapses() throws InterruptedException {
+            when(orderObserverService.findActiveObserverSchedules())
+                    .thenReturn(
+                            List.of(
+                                    new ObserverScheduleDto("order-1", 60, LocalDateTime.now()),
+                                    new ObserverScheduleDto(
+                                            "order-2", 60, LocalDateTime.now().minusMinutes(5))));
+            when(lockRegistry.obtain(anyString())).thenReturn(lock);
+            when(lock.tryLock(1, TimeUnit.SECONDS)).thenReturn(true);
 
-            observerScheduler.pollAllObserverTypes();
+            refreshAndDispatch();
 
-            verify(orderObserverService).pollAllActiveObservers();
-            verify(wesObserverApplicationService, never()).pollAllActiveObservers();
-            verify(orderLock).unlock();
-            verify(wesLock, never()).unlock();
+            ArgumentCaptor<PollOrderSourceCommand> captor =
+                    ArgumentCaptor.forClass(PollOrderSourceCommand.class);
+            verify(orderObserverService, timeout(2000)).pollOrderSource(captor.capture(), any());
+            assertEquals("order-2", captor.getValue().getObserverId());
+            verify(lockRegistry, never()).obtain("order-observer-poll:order-1");
         }
 
         @Test
-        void shouldReleaseLockEvenWhenOrderObserverPollingFails() throws InterruptedException {
-            Lock orderLock = mock(Lock.class);
-            Lock wesLock = mock(Lock.class);
-
-            when(lockRegistry.obtain("order-observer-poll")).thenReturn(orderLock);
-            when(lockRegistry.obtain("wes-observer-poll")).thenReturn(wesLock);
-            when(orderLock.tryLock(1, TimeUnit.SECONDS)).thenReturn(true);
-            when(wesLock.tryLock(1, TimeUnit.SECONDS)).thenReturn(true);
-            doThrow(new RuntimeException("Polling failed"))
-                    .when(orderObserverService)
-                    .pollAllActiveObservers();
+        void shouldNotPollAgainUntilNextInterval() throws InterruptedException {
+            when(orderObserverService.findActiveObserverSchedules())
+                    .thenReturn(schedulesOf("order-1"));
+            when(lockRegistry.obtain(anyString())).thenReturn(lock);
+            when(lock.tryLock(1, TimeUnit.SECONDS)).thenReturn(true);
+
+            refreshAndDispatch();
+            verify(lock, timeout(2000)).unlock();
+            awaitIdle();
 
-            observerScheduler.pollAllObserverTypes();
+            refreshAndDispatch();
+            observerScheduler.dispatchDueObservers();
 
-            verify(orderLock).unlock();
-            verify(wesObserverApplicationService).pollAllActiveObservers();
-            verify(wesLock).unlock();
+            verify(orderObserverService, times(1)).pollOrderSource(any(), any());
         }
 
         @Test
-        void shouldReleaseLockEvenWhenWesObserverPollingFails() throws InterruptedException {
-            Lock orderLock = mock(Lock.class);
-            Lock wesLock = mock(Lock.class);
-
-            when(lockRegistry.obtain("order-observer-poll")).thenReturn(orderLock);
-            when(lockRegistry.obtain("wes-observer-poll")).thenReturn(wesLock);
-            when(orderLock.tryLock(1, TimeUnit.SECONDS)).thenReturn(true);
-            when(wesLock.tryLock(1, TimeUnit.SECONDS)).thenReturn(true);
-            doThrow(new RuntimeException("Polling failed"))
-                    .when(wesObserverApplicationService)
-                    .pollAllActiveObservers();
+        void shouldSkipOnlyTheObserverWhoseLockIsHeld() throws InterruptedException {
+            Lock heldLock = mock(Lock.class);
+            when(orderObserverService.findActiveObserverSchedules())
+                    .thenReturn(schedulesOf("order-1", "order-2"));
+            when(lockRegistry.obtain("order-observer-poll:order-1")).thenReturn(heldLock);
+            when(lockRegistry.obtain("order-observer-poll:order-2")).thenReturn(lock);
+            when(heldLock.tryLock(1, TimeUnit.SECONDS)).thenReturn(false);
+            when(lock.tryLock(1, TimeUnit.SECONDS)).thenReturn(true);
 
-            observerScheduler.pollAllObserverTypes();
+            refreshAndDispatch();
 
-            verify(orderObserverService).pollAllActiveObservers();
-            verify(orderLock).unlock();
-            verify(wesLock).unlock();
+            verify(lock, timeout(2000)).unlock();
+            verify(heldLock, timeout(2000)).tryLock(1, TimeUnit.SECONDS);
+            ArgumentCaptor<PollOrderSourceCommand> captor =
+                    ArgumentCaptor.forClass(PollOrderSourceCommand.class);
+            verify(orderObserverService).pollOrderSource(captor.capture(), any());
+            assertEquals("order-2", captor.getValue().getObserverId());
+            verify(heldLock, never()).unlock();
         }
 
         @Test
-        void shouldContinueWesPollingWhenOrderObserverFails() throws InterruptedException {
-            Lock orderLock = mock(Lock.class);
-            Lock wesLock = mock(Lock.class);
-
-            when(lockRegistry.obtain("order-observer-poll")).thenReturn(orderLock);
-            when(lockRegistry.obtain("wes-observer-poll")).thenReturn(wesLock);
-            when(orderLock.tryLock(1, TimeUnit.SECONDS)).thenReturn(true);
-            when(wesLock.tryLock(1, TimeUnit.SECONDS)).thenReturn(true);
-            doThrow(new RuntimeException("Order observer failed"))
+        void shouldReleaseLockAndContinueWhenObserverPollingFails() throws InterruptedException {
+            when(orderObserverService.findActiveObserverSchedules())
+                    .thenReturn(schedulesOf("order-1"));
+            when(wesObserverApplicationService.findActiveObserverSchedules())
+                    .thenReturn(schedulesOf("wes-1"));
+            when(lockRegistry.obtain(anyString())).thenReturn(lock);
+            when(lock.tryLock(1, TimeUnit.SECONDS)).thenReturn(true);
+            doThrow(new RuntimeException("Polling failed"))
                     .when(orderObserverService)
-                    .pollAllActiveObservers();
+                    .pollOrderSource(any(), any());
 
-            observerScheduler.pollAllObserverTypes();
+            refreshAndDispatch();
 
-            verify(wesObserverApplicationService).pollAllActiveObservers();
+            verify(lock, timeout(2000).times(2)).unlock();
+            verify(wesObserverApplicationService).pollWesTaskStatus(any(), any());
         }
 
         @Test
-        void shouldHandleInterruptedExceptionDuringOrderObserverLockAcquisition()
+        void shouldHandleInterruptedExceptionDuringLockAcquisition()
                 throws InterruptedException {
-            Lock orderLock = mock(Lock.class);
-            Lock wesLock = mock(Lock.class);
-
-            when(lockRegistry.obtain("order-observer-poll")).thenReturn(orderLock);
-            when(lockRegistry.obtain("wes-observer-poll")).thenReturn(wesLock);
-            when(orderLock.tryLock(1, TimeUnit.SECONDS)).thenThrow(new InterruptedException());
-            when(wesLock.tryLock(1, TimeUnit.SECONDS)).thenReturn(true);
+            Lock interruptedLock = mock(Lock.class);
+            when(orderObserverService.findActiveObserverSchedules())
+                    .thenReturn(schedulesOf("order-1", "order-2"));
+            when(lockRegistry.obtain("order-observer-poll:order-1")).thenReturn(interruptedLock);
+            when(lockRegistry.obtain("order-observer-poll:order-2")).thenReturn(lock);
+            when(interruptedLock.tryLock(1, TimeUnit.SECONDS))
+                    .thenThrow(new InterruptedException());
+            when(lock.tryLock(1, TimeUnit.SECONDS)).thenReturn(true);
 
-            observerScheduler.pollAllObserverTypes();
+            refreshAndDispatch();
 
-            verify(orderObserverService, never()).pollAllActiveObservers();
-            verify(wesObserverApplicationService).pollAllActiveObservers();
-            verify(orderLock, never()).unlock();
-            verify(wesLock).unlock();
+            verify(lock, timeout(2000)).unlock();
+            verify(interruptedLock, timeout(2000)).tryLock(1, TimeUnit.SECONDS);
+            verify(orderObserverService, times(1)).pollOrderSource(any(), any());
+            verify(interruptedLock, never()).unlock();
         }
 
         @Test
-        void shouldHandleInterruptedExceptionDuringWesObserverLockAcquisition()
-                throws InterruptedException {
-            Lock orderLock = mock(Lock.class);
-            Lock wesLock = mock(Lock.class);
+        void shouldHandleExceptionDuringLockRelease() throws InterruptedException {
+            when(orderObserverService.findActiveObserverSchedules())
+                    .thenReturn(schedulesOf("order-1"));
+            when(wesObserverApplicationService.findActiveObserverSchedules())
+                    .thenReturn(schedulesOf("wes-1"));
+            when(lockRegistry.obtain(anyString())).thenReturn(lock);
+            when(lock.tryLock(anyLong(), any(TimeUnit.class))).thenReturn(true);
+            doThrow(new RuntimeException("Unlock failed")).when(lock).unlock();
 
-            when(lockRegistry.obtain("order-observer-poll")).thenReturn(orderLock);
-            when(lockRegistry.obtain("wes-observer-poll")).thenReturn(wesLock);
-            when(orderLock.tryLock(1, TimeUnit.SECONDS)).thenReturn(true);
-            when(wesLock.tryLock(1, TimeUnit.SECONDS)).thenThrow(new InterruptedException());
+            refreshAndDispatch();
 
-            observerScheduler.pollAllObserverTypes();
+            verify(lock, timeout(2000).times(2)).unlock();
+            verify(orderObserverService).pollOrderSource(any(), any());
+            verify(wesObserverApplicationService).pollWesTaskStatus(any(), any());
+        }
 
-            verify(orderObserverService).pollAllActiveObservers();
-            verify(wesObserverApplicationService, never()).pollAllActiveObservers();
-            verify(orderLock).unlock();
-            verify(wesLock, never()).unlock();
+        @Test
+        void shouldPollObserversConcurrently() throws InterruptedException {
+            CountDownLatch bothStarted = new CountDownLatch(2);
+            when(orderObserverService.findActiveObserverSchedules())
+                    .thenReturn(schedulesOf("order-1"));
+            when(wesObserverApplicationService.findActiveObserverSchedules())
+                    .thenReturn(schedulesOf("wes-1"));
+            when(lockRegistry.obtain(anyString())).thenReturn(lock);
+            when(lock.tryLock(1, TimeUnit.SECONDS)).thenReturn(true);
+            doAnswer(
+                            invocation -> {
+                                bothStarted.countDown();
+                                assertTrue(bothStarted.await(2, TimeUnit.SECONDS));
+                                return null;
+                            })
+                    .when(orderObserverService)
+                    .pollOrderSource(any(), any());
+            doAnswer(
+                            invocation -> {
+                                bothStarted.countDown();
+                                assertTrue(bothStarted.await(2, TimeUnit.SECONDS));
+                                return null;
+                            })
+                    .when(wesObserverApplicationService)
+                    .pollWesTaskStatus(any(), any());
+
+            refreshAndDispatch();
+
+            assertTrue(bothStarted.await(2, TimeUnit.SECONDS));
         }
 
         @Test
-        void shouldHandleExceptionDuringLockRelease() throws InterruptedException {
+        void shouldCancelPollRunningLongerThanPollTimeout() throws InterruptedException {
+            observerScheduler = createScheduler(200);
+            CountDownLatch interrupted = new CountDownLatch(1);
+            when(orderObserverService.findActiveObserverSchedules())
+                    .thenReturn(schedulesOf("order-1"));
             when(lockRegistry.obtain(anyString())).thenReturn(lock);
             when(lock.tryLock(1, TimeUnit.SECONDS)).thenReturn(true);
-            doThrow(new RuntimeException("Unlock failed")).when(lock).unlock();
+            doAnswer(
+                            invocation -> {
+                                try {
+                                    Thread.sleep(10000);
+                                } catch (InterruptedException e) {
+                                    interrupted.countDown();
+                                    throw e;
+                                }
+                                return null;
+                            })
+                    .when(orderObserverService)
+                    .pollOrderSource(any(), any());
 
-            observerScheduler.pollAllObserverTypes();
+            refreshAndDispatch();
+            verify(orderObserverService, timeout(2000)).pollOrderSource(any(), any());
+            Thread.sleep(300);
+            observerScheduler.dispatchDueObservers();
 
-            verify(orderObserverService).pollAllActiveObservers();
-            verify(wesObserverApplicationService).pollAllActiveObservers();
-            verify(lock, times(3)).unlock();
+            assertTrue(interrupted.await(2, TimeUnit.SECONDS));
+            verify(lock, timeout(2000)).unlock();
+            assertEquals(0, observerScheduler.getScheduleMetrics().getInFlightPolls());
         }
 
         @Test
-        void shouldUseTryLockWithCorrectTimeout() throws InterruptedException {
+        void shouldNotObtainLocksWhenNoObserversAreActive() {
+            refreshAndDispatch();
+
+            verify(lockRegistry, never()).obtain(anyString());
+            assertEquals(0, observerScheduler.getScheduleMetrics().getScheduledObservers());
+        }
+    }
+
+    @Nested
+    class refreshSchedulesTest {
+
+        @Test
+        void shouldContinueWhenListingActiveObserversFails() throws InterruptedException {
+            when(orderObserverService.findActiveObserverSchedules())
+                    .thenThrow(new RuntimeException("Repository unavailable"));
+            when(wesObserverApplicationService.findActiveObserverSchedules())
+                    .thenReturn(schedulesOf("wes-1"));
             when(lockRegistry.obtain(anyString())).thenReturn(lock);
             when(lock.tryLock(1, TimeUnit.SECONDS)).thenReturn(true);
 
-            observerScheduler.pollAllObserverTypes();
+            refreshAndDispatch();
 
-            verify(lock, times(3)).tryLock(1, TimeUnit.SECONDS);
+            verify(wesObserverApplicationService, timeout(2000)).pollWesTaskStatus(any(), any());
+            verify(orderObserverService, never()).pollOrderSource(any(), any());
         }
 
         @Test
-        void shouldHandleNullPointerExceptionDuringOrderObserverPolling()
-                throws InterruptedException {
-            Lock orderLock = mock(Lock.class);
-            Lock wesLock = mock(Lock.class);
-
-            when(lockRegistry.obtain("order-observer-poll")).thenReturn(orderLock);
-            when(lockRegistry.obtain("wes-observer-poll")).thenReturn(wesLock);
-            when(orderLock.tryLock(1, TimeUnit.SECONDS)).thenReturn(true);
-            when(wesLock.tryLock(1, TimeUnit.SECONDS)).thenReturn(true);
-            doThrow(new NullPointerException("Unexpected null"))
-                    .when(orderObserverService)
-                    .pollAllActiveObservers();
+        void shouldUnscheduleObserversNoLongerActive() {
+            when(orderObserverService.findActiveObserverSchedules())
+                    .thenReturn(
+                            List.of(new ObserverScheduleDto("order-1", 60, LocalDateTime.now())))
+                    .thenReturn(List.of());
 
-            observerScheduler.pollAllObserverTypes();
+            observerScheduler.refreshSchedules();
+            assertEquals(1, observerScheduler.getScheduleMetrics().getScheduledObservers());
 
-            verify(orderLock).unlock();
-            verify(wesObserverApplicationService).pollAllActiveObservers();
-            verify(wesLock).unlock();
+            observerScheduler.refreshSchedules();
+            assertEquals(0, observerScheduler.getScheduleMetrics().getScheduledObservers());
         }
+    }
+
+    @Nested
+    class onObserverScheduleChangedTest {
 
         @Test
-        void shouldHandleNullPointerExceptionDuringWesObserverPolling()
-                throws InterruptedException {
-            Lock orderLock = mock(Lock.class);
-            Lock wesLock = mock(Lock.class);
-
-            when(lockRegistry.obtain("order-observer-poll")).thenReturn(orderLock);
-            when(lockRegistry.obtain("wes-observer-poll")).thenReturn(wesLock);
-            when(orderLock.tryLock(1, TimeUnit.SECONDS)).thenReturn(true);
-            when(wesLock.tryLock(1, TimeUnit.SECONDS)).thenReturn(true);
-            doThrow(new NullPointerException("Unexpected null"))
-                    .when(wesObserverApplicationService)
-                    .pollAllActiveObservers();
+        void shouldPollActivatedObserverOnNextDispatch() throws InterruptedException {
+            when(lockRegistry.obtain("wes-observer-poll:wes-1")).thenReturn(lock);
+            when(lock.tryLock(1, TimeUnit.SECONDS)).thenReturn(true);
 
-            observerScheduler.pollAllObserverTypes();
+            observerScheduler.onObserverScheduleChanged(
+                    ObserverScheduleChangedEvent.activated(ObserverType.WES, "wes-1", 60));
+            observerScheduler.dispatchDueObservers();
 
-            verify(orderObserverService).pollAllActiveObservers();
-            verify(orderLock).unlock();
-            verify(wesLock).unlock();
+            verify(wesObserverApplicationService, timeout(2000)).pollWesTaskStatus(any(), any());
         }
 
         @Test
-        void shouldReleaseAllLocksIndependently() throws InterruptedException {
-            when(lockRegistry.obtain(anyString())).thenReturn(lock);
-            when(lock.tryLock(anyLong(), any(TimeUnit.class))).thenReturn(true);
+        void shouldPollObserverImmediatelyWhenReactivated() throws InterruptedException {
+            when(orderObserverService.findActiveObserverSchedules())
+                    .thenReturn(
+                            List.of(new ObserverScheduleDto("order-1", 60, LocalDateTime.now())));
+            when(lockRegistry.obtain("order-observer-poll:order-1")).thenReturn(lock);
+            when(lock.tryLock(1, TimeUnit.SECONDS)).thenReturn(true);
+
+            observerScheduler.refreshSchedules();
+            observerScheduler.onObserverScheduleChanged(
+                    ObserverScheduleChangedEvent.activated(ObserverType.ORDER, "order-1", 60));
+            observerScheduler.dispatchDueObservers();
+
+            verify(orderObserverService, timeout(2000)).pollOrderSource(any(), any());
+        }
+
+        @Test
+        void shouldStopPollingDeactivatedObserver() {
+            when(inventoryObserverApplicationService.findActiveObserverSchedules())
+                    .thenReturn(schedulesOf("inventory-1"));
+
+            observerScheduler.refreshSchedules();
+            observerScheduler.onObserverScheduleChanged(
+                    ObserverScheduleChangedEvent.deactivated(
+                            ObserverType.INVENTORY, "inventory-1"));
+            observerScheduler.dispatchDueObservers();
+
+            verify(lockRegistry, never()).obtain(anyString());
+            assertEquals(0, observerScheduler.getScheduleMetrics().getScheduledObservers());
+        }
+    }
 
-            observerScheduler.pollAllObserverTypes();
+    @Nested
+    class getScheduleMetricsTest {
+
+        @Test
+        void shouldReportFiredPollsAndLag() throws InterruptedException {
+            when(orderObserverService.findActiveObserverSchedules())
+                    .thenReturn(schedulesOf("order-1"));
+            when(wesObserverApplicationService.findActiveObserverSchedules())
+                    .thenReturn(schedulesOf("wes-1"));
+            when(lockRegistry.obtain(anyString())).thenReturn(lock);
+            when(lock.tryLock(1, TimeUnit.SECONDS)).thenReturn(true);
 
-            verify(lock, times(3)).unlock();
+            observerScheduler.refreshSchedules();
+            Thread.sleep(50);
+            observerScheduler.dispatchDueObservers();
+            verify(lock, timeout(2000).times(2)).unlock();
+            awaitIdle();
+
+            ObserverScheduleMetrics metrics = observerScheduler.getScheduleMetrics();
+            assertEquals(2, metrics.getScheduledObservers());
+            assertEquals(0, metrics.getInFlightPolls());
+            assertEquals(2, metrics.getFiredPolls());
+            assertTrue(metrics.getMaxLagMillis() >= 50);
         }
     }
 }
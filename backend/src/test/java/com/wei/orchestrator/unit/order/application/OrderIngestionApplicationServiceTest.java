@@ -0,0 +1,213 @@
+package com.wei.orchestrator.unit.order.application;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.wei.orchestrator.observation.domain.event.NewOrderObservedEvent;
+import com.wei.orchestrator.observation.domain.model.valueobject.ObservationResult;
+import com.wei.orchestrator.observation.domain.model.valueobject.ObservedOrderItem;
+import com.wei.orchestrator.order.application.OrderApplicationService;
+import com.wei.orchestrator.order.application.OrderIngestionApplicationService;
+import com.wei.orchestrator.order.application.command.CreateOrderCommand;
+import com.wei.orchestrator.order.application.translator.ObservationToOrderTranslator;
+import com.wei.orchestrator.order.domain.model.Order;
+import com.wei.orchestrator.order.domain.model.OrderIngestionEntry;
+import com.wei.orchestrator.order.domain.model.OrderLineItem;
+import com.wei.orchestrator.order.domain.model.valueobject.IngestionStatus;
+import com.wei.orchestrator.order.domain.repository.OrderIngestionEntryRepository;
+import com.wei.orchestrator.order.domain.repository.OrderRepository;
+import com.wei.orchestrator.shared.domain.model.valueobject.TriggerContext;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class OrderIngestionApplicationServiceTest {
+
+    private static final int MAX_ATTEMPTS = 2;
+
+    @Mock private OrderIngestionEntryRepository orderIngestionEntryRepository;
+    @Mock private OrderRepository orderRepository;
+    @Mock private OrderApplicationService orderApplicationService;
+    @Mock private ObservationToOrderTranslator translator;
+
+    private OrderIngestionApplicationService orderIngestionApplicationService;
+
+    @BeforeEach
+    void setUp() {
+        orderIngestionApplicationService =
+                new OrderIngestionApplicationService(
+                        orderIngestionEntryRepository,
+                        orderRepository,
+                        orderApplicationService,
+                        translator,
+                        MAX_ATTEMPTS);
+    }
+
+    @Nested
+    class enqueueTest {
+
+        @Test
+        void shouldPersistPendingEntryWithTriggerContext() {
+            TriggerContext triggerContext = TriggerContext.scheduled("OrderObserver");
+            NewOrderObservedEvent event =
+                    new NewOrderObservedEvent(
+                            "observer-1", createObservationResult("ORDER-001"), triggerContext);
+            when(orderIngestionEntryRepository.save(any(OrderIngestionEntry.class)))
+                    .thenAnswer(invocation -> invocation.getArgument(0));
+
+            orderIngestionApplicationService.enqueue(event);
+
+            ArgumentCaptor<OrderIngestionEntry> captor =
+                    ArgumentCaptor.forClass(OrderIngestionEntry.class);
+            verify(orderIngestionEntryRepository).save(captor.capture());
+            OrderIngestionEntry entry = captor.getValue();
+            assertEquals("ORDER-001", entry.getOrderId());
+            assertEquals("observer-1", entry.getObserverId());
+            assertEquals(IngestionStatus.PENDING, entry.getStatus());
+            assertEquals(triggerContext, entry.getTriggerContext());
+            verifyNoInteractions(orderApplicationService);
+        }
+    }
+
+    @Nested
+    class ingestTest {
+
+        @Test
+        void shouldCreateOrderAndDeleteEntry() {
+            OrderIngestionEntry entry = claimedEntry(7L, "ORDER-002");
+            CreateOrderCommand command = new CreateOrderCommand();
+            when(orderRepository.findById("ORDER-002")).thenReturn(Optional.empty());
+            when(translator.translate(entry.getObservedOrder())).thenReturn(command);
+
+            orderIngestionApplicationService.ingest(entry);
+
+            InOrder inOrder = inOrder(orderApplicationService, orderIngestionEntryRepository);
+            inOrder.verify(orderApplicationService).createOrder(command, entry.getTriggerContext());
+            inOrder.verify(orderIngestionEntryRepository).deleteById(7L);
+        }
+
+        @Test
+        void shouldSkipCreationWhenOrderAlreadyExists() {
+            OrderIngestionEntry entry = claimedEntry(8L, "ORDER-003");
+            when(orderRepository.findById("ORDER-003"))
+                    .thenReturn(
+                            Optional.of(
+                                    new Order(
+                                            "ORDER-003",
+                                            List.of(
+                                                    new OrderLineItem(
+                                                            "SKU-001",
+                                                            1,
+                                                            new BigDecimal("10.00"))))));
+
+            orderIngestionApplicationService.ingest(entry);
+
+            verify(orderApplicationService, never()).createOrder(any(), any());
+            verify(orderIngestionEntryRepository).deleteById(8L);
+        }
+
+        @Test
+        void shouldKeepEntryWhenOrderCreationFails() {
+            OrderIngestionEntry entry = claimedEntry(9L, "ORDER-004");
+            when(orderRepository.findById("ORDER-004")).thenReturn(Optional.empty());
+            when(translator.translate(entry.getObservedOrder()))
+                    .thenReturn(new CreateOrderCommand());
+            when(orderApplicationService.createOrder(any(), any()))
+                    .thenThrow(new RuntimeException("Database connection failed"));
+
+            assertThrows(
+                    RuntimeException.class, () -> orderIngestionApplicationService.ingest(entry));
+
+            verify(orderIngestionEntryRepository, never()).deleteById(any());
+        }
+    }
+
+    @Nested
+    class recordFailureTest {
+
+        @Test
+        void shouldReturnEntryToPendingWhileAttemptsRemain() {
+            OrderIngestionEntry entry = claimedEntry(10L, "ORDER-005");
+
+            orderIngestionApplicationService.recordFailure(
+                    entry, new RuntimeException("Database connection failed"));
+
+            assertEquals(IngestionStatus.PENDING, entry.getStatus());
+            assertEquals(1, entry.getAttempts());
+            assertEquals("Database connection failed", entry.getLastError());
+            assertNull(entry.getClaimedBy());
+            verify(orderIngestionEntryRepository).save(entry);
+        }
+
+        @Test
+        void shouldParkEntryAsFailedWhenAttemptsAreExhausted() {
+            OrderIngestionEntry entry = claimedEntry(11L, "ORDER-006");
+            entry.setAttempts(MAX_ATTEMPTS - 1);
+
+            orderIngestionApplicationService.recordFailure(
+                    entry, new IllegalArgumentException("Invalid order"));
+
+            assertTrue(entry.isFailed());
+            assertEquals(MAX_ATTEMPTS, entry.getAttempts());
+            verify(orderIngestionEntryRepository).save(entry);
+        }
+    }
+
+    @Test
+    void shouldCountPendingAndProcessingEntriesAsOutstanding() {
+        when(orderIngestionEntryRepository.countByStatus(IngestionStatus.PENDING)).thenReturn(3L);
+        when(orderIngestionEntryRepository.countByStatus(IngestionStatus.PROCESSING))
+                .thenReturn(2L);
+
+        assertEquals(5L, orderIngestionApplicationService.countOutstanding());
+    }
+
+    @Test
+    void shouldRejectNonPositiveMaxAttempts() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () ->
+                        new OrderIngestionApplicationService(
+                                orderIngestionEntryRepository,
+                                orderRepository,
+                                orderApplicationService,
+                                translator,
+                                0));
+    }
+
+    private OrderIngestionEntry claimedEntry(Long entryId, String orderId) {
+        OrderIngestionEntry entry =
+                new OrderIngestionEntry(
+                        "observer-1", createObservationResult(orderId), TriggerContext.manual());
+        entry.setEntryId(entryId);
+        entry.setStatus(IngestionStatus.PROCESSING);
+        entry.setClaimedBy("ingestion-test");
+        entry.setClaimedAt(LocalDateTime.now());
+        return entry;
+    }
+
+    private ObservationResult createObservationResult(String orderId) {
+        return new ObservationResult(
+                orderId,
+                "John Doe",
+                "john@example.com",
+                "123 Main St",
+                "STANDARD",
+                "WH-001",
+                "NEW",
+                null,
+                List.of(new ObservedOrderItem("SKU-001", "Product 1", 1, new BigDecimal("10.00"))),
+                LocalDateTime.now());
+    }
+}
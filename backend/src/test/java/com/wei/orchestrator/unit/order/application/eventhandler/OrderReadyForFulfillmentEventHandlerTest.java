@@ -2,6 +2,7 @@ package com.wei.orchestrator.unit.order.application.eventhandler;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 import com.wei.orchestrator.inventory.application.InventoryApplicationService;
@@ -12,10 +13,13 @@ import com.wei.orchestrator.order.domain.event.OrderReadyForFulfillmentEvent;
 import com.wei.orchestrator.order.domain.model.Order;
 import com.wei.orchestrator.order.domain.model.OrderLineItem;
 import com.wei.orchestrator.order.domain.repository.OrderRepository;
+import com.wei.orchestrator.shared.application.event.DomainEventDispatcher;
 import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -31,8 +35,22 @@ class OrderReadyForFulfillmentEventHandlerTest {
 
     @Mock private InventoryApplicationService inventoryApplicationService;
 
+    @Mock private DomainEventDispatcher domainEventDispatcher;
+
     @InjectMocks private OrderReadyForFulfillmentEventHandler eventHandler;
 
+    @BeforeEach
+    void setUp() {
+        lenient()
+                .doAnswer(
+                        invocation -> {
+                            invocation.<Runnable>getArgument(1).run();
+                            return null;
+                        })
+                .when(domainEventDispatcher)
+                .dispatch(any(), any());
+    }
+
     @Nested
     class handleOrderReadyForFulfillmentTest {
 
@@ -52,6 +70,20 @@ class OrderReadyForFulfillmentEventHandlerTest {
             verify(inventoryApplicationService, times(2)).reserveInventory(any(), any());
         }
 
+        @Test
+        void shouldDispatchOnOrderPartition() {
+            String orderId = "ORDER-PARTITION";
+            OrderReadyForFulfillmentEvent event = new OrderReadyForFulfillmentEvent(orderId);
+            doReturn(CompletableFuture.completedFuture(null))
+                    .when(domainEventDispatcher)
+                    .dispatch(any(), any());
+
+            eventHandler.handleOrderReadyForFulfillment(event);
+
+            verify(domainEventDispatcher).dispatch(eq(orderId), any(Runnable.class));
+            verifyNoInteractions(orderRepository, inventoryApplicationService);
+        }
+
         @Test
         void shouldReserveInventoryWithCorrectParameters() {
             String orderId = "ORDER-002";
@@ -8,6 +8,7 @@ import com.wei.orchestrator.order.application.eventhandler.PickingTaskFailedEven
 import com.wei.orchestrator.order.domain.model.Order;
 import com.wei.orchestrator.order.domain.model.OrderLineItem;
 import com.wei.orchestrator.order.domain.repository.OrderRepository;
+import com.wei.orchestrator.shared.application.event.DomainEventDispatcher;
 import com.wei.orchestrator.wes.domain.event.PickingTaskFailedEvent;
 import com.wei.orchestrator.wes.domain.model.PickingTask;
 import com.wei.orchestrator.wes.domain.model.valueobject.TaskItem;
@@ -17,6 +18,7 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -31,8 +33,22 @@ class PickingTaskFailedEventHandlerTest {
 
     @Mock private PickingTaskRepository pickingTaskRepository;
 
+    @Mock private DomainEventDispatcher domainEventDispatcher;
+
     @InjectMocks private PickingTaskFailedEventHandler eventHandler;
 
+    @BeforeEach
+    void setUp() {
+        lenient()
+                .doAnswer(
+                        invocation -> {
+                            invocation.<Runnable>getArgument(1).run();
+                            return null;
+                        })
+                .when(domainEventDispatcher)
+                .dispatch(any(), any());
+    }
+
     @Nested
     class handlePickingTaskFailedTest {
 
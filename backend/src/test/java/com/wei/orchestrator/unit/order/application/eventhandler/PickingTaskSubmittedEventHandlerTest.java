@@ -2,6 +2,7 @@ package com.wei.orchestrator.unit.order.application.eventhandler;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 import com.wei.orchestrator.order.application.eventhandler.PickingTaskSubmittedEventHandler;
@@ -9,6 +10,7 @@ import com.wei.orchestrator.order.domain.model.Order;
 import com.wei.orchestrator.order.domain.model.OrderLineItem;
 import com.wei.orchestrator.order.domain.model.valueobject.CommitmentStatus;
 import com.wei.orchestrator.order.domain.repository.OrderRepository;
+import com.wei.orchestrator.shared.application.event.DomainEventDispatcher;
 import com.wei.orchestrator.wes.domain.event.PickingTaskSubmittedEvent;
 import com.wei.orchestrator.wes.domain.model.PickingTask;
 import com.wei.orchestrator.wes.domain.model.valueobject.TaskItem;
@@ -18,6 +20,7 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -32,8 +35,65 @@ class PickingTaskSubmittedEventHandlerTest {
 
     @Mock private PickingTaskRepository pickingTaskRepository;
 
+    @Mock private DomainEventDispatcher domainEventDispatcher;
+
     @InjectMocks private PickingTaskSubmittedEventHandler eventHandler;
 
+    @BeforeEach
+    void setUp() {
+        lenient()
+                .doAnswer(
+                        invocation -> {
+                            invocation.<Runnable>getArgument(1).run();
+                            return null;
+                        })
+                .when(domainEventDispatcher)
+                .dispatch(any(), any());
+    }
+
+    @Nested
+    class partitionKeyTest {
+
+        @Test
+        void shouldDispatchOnOrderIdCarriedByEvent() {
+            PickingTaskSubmittedEvent event =
+                    new PickingTaskSubmittedEvent(
+                            "PICK-101",
+                            "WES-101",
+                            "ORDER-101",
+                            TaskOrigin.ORCHESTRATOR_SUBMITTED,
+                            LocalDateTime.now());
+            when(pickingTaskRepository.findById("PICK-101"))
+                    .thenReturn(Optional.of(createPickingTask("PICK-101", "ORDER-101", "SKU-1")));
+            when(orderRepository.findById("ORDER-101"))
+                    .thenReturn(Optional.of(createOrderWithSingleItem("ORDER-101", "SKU-1")));
+
+            eventHandler.handlePickingTaskSubmitted(event);
+
+            verify(domainEventDispatcher).dispatch(eq("ORDER-101"), any());
+        }
+
+        @Test
+        void shouldResolveOrderIdBeforeDispatchWhenEventHasNone() {
+            PickingTaskSubmittedEvent event =
+                    new PickingTaskSubmittedEvent(
+                            "PICK-102",
+                            "WES-102",
+                            null,
+                            TaskOrigin.ORCHESTRATOR_SUBMITTED,
+                            LocalDateTime.now());
+            when(pickingTaskRepository.findById("PICK-102"))
+                    .thenReturn(Optional.of(createPickingTask("PICK-102", "ORDER-102", "SKU-1")));
+            when(orderRepository.findById("ORDER-102"))
+                    .thenReturn(Optional.of(createOrderWithSingleItem("ORDER-102", "SKU-1")));
+
+            eventHandler.handlePickingTaskSubmitted(event);
+
+            verify(domainEventDispatcher).dispatch(eq("ORDER-102"), any());
+            verify(pickingTaskRepository, times(1)).findById("PICK-102");
+        }
+    }
+
     @Nested
     class handlePickingTaskSubmittedTest {
 
@@ -47,6 +107,7 @@ class PickingTaskSubmittedEventHandlerTest {
                     new PickingTaskSubmittedEvent(
                             taskId,
                             wesTaskId,
+                            orderId,
                             TaskOrigin.ORCHESTRATOR_SUBMITTED,
                             LocalDateTime.now());
 
@@ -77,6 +138,7 @@ class PickingTaskSubmittedEventHandlerTest {
                     new PickingTaskSubmittedEvent(
                             taskId,
                             wesTaskId,
+                            orderId,
                             TaskOrigin.ORCHESTRATOR_SUBMITTED,
                             LocalDateTime.now());
 
@@ -106,7 +168,11 @@ class PickingTaskSubmittedEventHandlerTest {
 
             PickingTaskSubmittedEvent event =
                     new PickingTaskSubmittedEvent(
-                            taskId, wesTaskId, TaskOrigin.WES_DIRECT, LocalDateTime.now());
+                            taskId,
+                            wesTaskId,
+                            null,
+                            TaskOrigin.WES_DIRECT,
+                            LocalDateTime.now());
 
             eventHandler.handlePickingTaskSubmitted(event);
 
@@ -124,6 +190,7 @@ class PickingTaskSubmittedEventHandlerTest {
                     new PickingTaskSubmittedEvent(
                             taskId,
                             wesTaskId,
+                            null,
                             TaskOrigin.ORCHESTRATOR_SUBMITTED,
                             LocalDateTime.now());
 
@@ -152,6 +219,7 @@ class PickingTaskSubmittedEventHandlerTest {
                     new PickingTaskSubmittedEvent(
                             taskId,
                             wesTaskId,
+                            null,
                             TaskOrigin.ORCHESTRATOR_SUBMITTED,
                             LocalDateTime.now());
 
@@ -176,6 +244,7 @@ class PickingTaskSubmittedEventHandlerTest {
                     new PickingTaskSubmittedEvent(
                             taskId,
                             wesTaskId,
+                            orderId,
                             TaskOrigin.ORCHESTRATOR_SUBMITTED,
                             LocalDateTime.now());
 
@@ -208,6 +277,7 @@ class PickingTaskSubmittedEventHandlerTest {
                     new PickingTaskSubmittedEvent(
                             taskId,
                             wesTaskId,
+                            orderId,
                             TaskOrigin.ORCHESTRATOR_SUBMITTED,
                             LocalDateTime.now());
 
@@ -237,6 +307,7 @@ class PickingTaskSubmittedEventHandlerTest {
                     new PickingTaskSubmittedEvent(
                             taskId,
                             wesTaskId,
+                            orderId,
                             TaskOrigin.ORCHESTRATOR_SUBMITTED,
                             LocalDateTime.now());
 
@@ -13,10 +13,12 @@ import com.wei.orchestrator.order.domain.model.Order;
 import com.wei.orchestrator.order.domain.model.OrderLineItem;
 import com.wei.orchestrator.order.domain.model.valueobject.OrderStatus;
 import com.wei.orchestrator.order.domain.repository.OrderRepository;
+import com.wei.orchestrator.shared.application.event.DomainEventDispatcher;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -31,8 +33,22 @@ class ReservationFailedEventHandlerTest {
 
     @Mock private InventoryTransactionRepository inventoryTransactionRepository;
 
+    @Mock private DomainEventDispatcher domainEventDispatcher;
+
     @InjectMocks private ReservationFailedEventHandler eventHandler;
 
+    @BeforeEach
+    void setUp() {
+        lenient()
+                .doAnswer(
+                        invocation -> {
+                            invocation.<Runnable>getArgument(1).run();
+                            return null;
+                        })
+                .when(domainEventDispatcher)
+                .dispatch(any(), any());
+    }
+
     @Nested
     class handleReservationFailedTest {
 
@@ -0,0 +1,137 @@
+package com.wei.orchestrator.unit.order.infrastructure.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.wei.orchestrator.observation.domain.model.valueobject.IngestionPressure;
+import com.wei.orchestrator.order.application.OrderIngestionApplicationService;
+import com.wei.orchestrator.order.domain.model.OrderIngestionEntry;
+import com.wei.orchestrator.order.infrastructure.scheduler.OrderIngestionMetrics;
+import com.wei.orchestrator.order.infrastructure.scheduler.OrderIngestionWorker;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class OrderIngestionWorkerTest {
+
+    @Mock private OrderIngestionApplicationService orderIngestionApplicationService;
+    @Mock private ExecutorService orderIngestionExecutor;
+
+    private OrderIngestionWorker orderIngestionWorker;
+
+    @BeforeEach
+    void setUp() {
+        orderIngestionWorker =
+                new OrderIngestionWorker(
+                        orderIngestionApplicationService, orderIngestionExecutor, 4, 100, 50, 1000);
+        lenient()
+                .doAnswer(
+                        invocation -> {
+                            invocation.<Runnable>getArgument(0).run();
+                            return null;
+                        })
+                .when(orderIngestionExecutor)
+                .execute(any());
+    }
+
+    @Nested
+    class currentPressureTest {
+
+        @Test
+        void shouldReportNormalBelowHighWaterMark() {
+            when(orderIngestionApplicationService.countOutstanding()).thenReturn(49L);
+
+            orderIngestionWorker.drain();
+
+            assertEquals(IngestionPressure.NORMAL, orderIngestionWorker.currentPressure());
+        }
+
+        @Test
+        void shouldReportHighAtHighWaterMark() {
+            when(orderIngestionApplicationService.countOutstanding()).thenReturn(50L);
+
+            orderIngestionWorker.drain();
+
+            assertEquals(IngestionPressure.HIGH, orderIngestionWorker.currentPressure());
+        }
+
+        @Test
+        void shouldReportSaturatedAtCapacity() {
+            when(orderIngestionApplicationService.countOutstanding()).thenReturn(100L);
+
+            orderIngestionWorker.drain();
+
+            assertEquals(IngestionPressure.SATURATED, orderIngestionWorker.currentPressure());
+        }
+    }
+
+    @Nested
+    class drainTest {
+
+        @Test
+        void shouldClaimNoMoreThanMaxInFlight() {
+            when(orderIngestionApplicationService.claimPending(anyInt(), anyString()))
+                    .thenReturn(List.of());
+
+            orderIngestionWorker.drain();
+
+            verify(orderIngestionApplicationService).releaseStaleClaims(any());
+            verify(orderIngestionApplicationService).claimPending(eq(4), anyString());
+        }
+
+        @Test
+        void shouldIngestClaimedEntriesAndTrackMetrics() {
+            OrderIngestionEntry first = new OrderIngestionEntry();
+            OrderIngestionEntry second = new OrderIngestionEntry();
+            when(orderIngestionApplicationService.countOutstanding()).thenReturn(2L);
+            when(orderIngestionApplicationService.claimPending(anyInt(), anyString()))
+                    .thenReturn(List.of(first, second));
+            doThrow(new RuntimeException("Database connection failed"))
+                    .when(orderIngestionApplicationService)
+                    .ingest(second);
+
+            orderIngestionWorker.drain();
+
+            verify(orderIngestionApplicationService).ingest(first);
+            verify(orderIngestionApplicationService).recordFailure(eq(second), any());
+            OrderIngestionMetrics metrics = orderIngestionWorker.getMetrics();
+            assertEquals(2L, metrics.getQueueDepth());
+            assertEquals(0, metrics.getInFlight());
+            assertEquals(1L, metrics.getIngestedCount());
+            assertEquals(1L, metrics.getRetriedCount());
+        }
+
+        @Test
+        void shouldSurviveUnexpectedErrors() {
+            when(orderIngestionApplicationService.countOutstanding())
+                    .thenThrow(new RuntimeException("Database unavailable"));
+
+            assertDoesNotThrow(() -> orderIngestionWorker.drain());
+            verify(orderIngestionApplicationService, never()).claimPending(anyInt(), anyString());
+        }
+    }
+
+    @Test
+    void shouldRejectHighWaterMarkAboveCapacity() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () ->
+                        new OrderIngestionWorker(
+                                orderIngestionApplicationService,
+                                orderIngestionExecutor,
+                                4,
+                                100,
+                                101,
+                                1000));
+    }
+}
@@ -0,0 +1,120 @@
+package com.wei.orchestrator.unit.order.query.helper;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.wei.orchestrator.order.query.dto.OrderProcessStatusDto;
+import com.wei.orchestrator.order.query.helper.ProcessStep;
+import com.wei.orchestrator.order.query.helper.ProcessStepEngine;
+import com.wei.orchestrator.order.query.helper.ProcessStepProgress;
+import com.wei.orchestrator.shared.infrastructure.persistence.AuditRecordEntity;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class ProcessStepEngineTest {
+
+    private static final String[] EVENT_NAMES = {
+        "OrderScheduledEvent",
+        "OrderReadyForFulfillmentEvent",
+        "InventoryReservedEvent",
+        "ReservationFailedEvent",
+        "OrderReservedEvent",
+        "PickingTaskCreatedEvent",
+        "PickingTaskFailedEvent",
+        "WesTaskStatusUpdatedEvent",
+        "PickingTaskCompletedEvent",
+        "PickingTaskCanceledEvent",
+        "ReservationConsumedEvent",
+        "OrderCreatedEvent"
+    };
+
+    private final LocalDateTime baseTime = LocalDateTime.of(2025, 1, 1, 8, 0);
+
+    @Nested
+    class evaluateTest {
+
+        @Test
+        void shouldReturnAllStepsPendingForNoRecords() {
+            List<OrderProcessStatusDto.ProcessStepDto> steps =
+                    ProcessStepEngine.toStepDtos(ProcessStepEngine.evaluate(List.of()));
+
+            assertEquals(ProcessStep.values().length, steps.size());
+            assertTrue(steps.stream().allMatch(step -> step.getStatus().equals("PENDING")));
+            assertTrue(steps.stream().allMatch(step -> step.getTimestamp() == null));
+        }
+
+        @Test
+        void shouldOnlyTrackStepsReachedByRecords() {
+            EnumMap<ProcessStep, ProcessStepProgress> progress =
+                    ProcessStepEngine.evaluate(
+                            List.of(
+                                    createAuditRecord("OrderScheduledEvent", baseTime),
+                                    createAuditRecord("OrderCreatedEvent", baseTime)));
+
+            assertEquals(1, progress.size());
+            assertEquals(1, progress.get(ProcessStep.ORDER_SCHEDULED).getMatchedEventCount());
+        }
+
+        @Test
+        void shouldRoutePickingTaskCreatedToCreationAndSubmissionSteps() {
+            EnumMap<ProcessStep, ProcessStepProgress> progress =
+                    ProcessStepEngine.evaluate(
+                            List.of(
+                                    createAuditRecord("PickingTaskFailedEvent", baseTime),
+                                    createAuditRecord(
+                                            "PickingTaskCreatedEvent", baseTime.plusMinutes(1))));
+
+            assertEquals("FAILED", progress.get(ProcessStep.PICKING_TASK_CREATED).getStatus());
+            assertEquals("FAILED", progress.get(ProcessStep.PICKING_TASK_SUBMITTED).getStatus());
+            assertEquals(
+                    baseTime,
+                    progress.get(ProcessStep.PICKING_TASK_SUBMITTED).getStatusTimestamp());
+        }
+
+        @Test
+        void shouldMatchPerStepMatchersForRandomHistories() {
+            Random random = new Random(7);
+            for (int history = 0; history < 500; history++) {
+                List<AuditRecordEntity> records = new ArrayList<>();
+                int length = random.nextInt(16);
+                for (int i = 0; i < length; i++) {
+                    records.add(
+                            createAuditRecord(
+                                    EVENT_NAMES[random.nextInt(EVENT_NAMES.length)],
+                                    baseTime.plusMinutes(random.nextInt(60))));
+                }
+
+                List<OrderProcessStatusDto.ProcessStepDto> compiled =
+                        ProcessStepEngine.toStepDtos(ProcessStepEngine.evaluate(records));
+
+                for (ProcessStep step : ProcessStep.values()) {
+                    OrderProcessStatusDto.ProcessStepDto expected =
+                            step.createStepDto(step.filterEvents(records));
+                    OrderProcessStatusDto.ProcessStepDto actual =
+                            compiled.get(step.getStepNumber() - 1);
+                    assertEquals(expected.getStepNumber(), actual.getStepNumber());
+                    assertEquals(expected.getStatus(), actual.getStatus(), step.name());
+                    assertEquals(expected.getTimestamp(), actual.getTimestamp(), step.name());
+                }
+            }
+        }
+    }
+
+    private AuditRecordEntity createAuditRecord(String eventName, LocalDateTime timestamp) {
+        AuditRecordEntity record = new AuditRecordEntity();
+        record.setRecordId(UUID.randomUUID().toString());
+        record.setAggregateType("Order");
+        record.setAggregateId("ORDER-001");
+        record.setEventName(eventName);
+        record.setEventTimestamp(timestamp);
+        record.setEventMetadata("{}");
+        record.setPayload("{}");
+        record.setCreatedAt(LocalDateTime.now());
+        return record;
+    }
+}
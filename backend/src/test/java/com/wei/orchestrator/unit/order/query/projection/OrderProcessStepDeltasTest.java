@@ -0,0 +1,142 @@
+package com.wei.orchestrator.unit.order.query.projection;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.wei.orchestrator.order.query.dto.OrderProcessStatusDto;
+import com.wei.orchestrator.order.query.helper.ProcessStep;
+import com.wei.orchestrator.order.query.helper.ProcessStepProgress;
+import com.wei.orchestrator.order.query.infrastructure.OrderProcessStepEntity.OrderProcessStepId;
+import com.wei.orchestrator.order.query.projection.OrderProcessStepDeltas;
+import com.wei.orchestrator.shared.infrastructure.persistence.AuditRecordEntity;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class OrderProcessStepDeltasTest {
+
+    private static final String ORDER_ID = "ORDER-001";
+
+    private static final String[] EVENT_NAMES = {
+        "OrderScheduledEvent",
+        "OrderReadyForFulfillmentEvent",
+        "InventoryReservedEvent",
+        "ReservationFailedEvent",
+        "OrderReservedEvent",
+        "PickingTaskCreatedEvent",
+        "PickingTaskFailedEvent",
+        "WesTaskStatusUpdatedEvent",
+        "PickingTaskCompletedEvent",
+        "PickingTaskCanceledEvent",
+        "ReservationConsumedEvent",
+        "OrderCreatedEvent"
+    };
+
+    private final LocalDateTime baseTime = LocalDateTime.of(2025, 1, 1, 8, 0);
+
+    @Nested
+    class recordTest {
+
+        @Test
+        void shouldIgnoreRecordsWithoutOrderId() {
+            OrderProcessStepDeltas deltas = new OrderProcessStepDeltas();
+
+            deltas.record(null, "OrderScheduledEvent", baseTime);
+
+            assertTrue(deltas.asMap().isEmpty());
+        }
+
+        @Test
+        void shouldRouteEventToEveryStepItAffects() {
+            OrderProcessStepDeltas deltas = new OrderProcessStepDeltas();
+
+            deltas.record(ORDER_ID, "PickingTaskCreatedEvent", baseTime);
+
+            assertEquals(2, deltas.asMap().size());
+            assertEquals(
+                    "SUCCESS", progressOf(deltas, ProcessStep.PICKING_TASK_CREATED).getStatus());
+            assertEquals(
+                    "PENDING", progressOf(deltas, ProcessStep.PICKING_TASK_SUBMITTED).getStatus());
+        }
+
+        @Test
+        void shouldCountPickingFailureOnlyOnceTaskWasCreated() {
+            OrderProcessStepDeltas deltas = new OrderProcessStepDeltas();
+
+            deltas.record(ORDER_ID, "PickingTaskFailedEvent", baseTime);
+
+            ProcessStepProgress beforeCreation =
+                    progressOf(deltas, ProcessStep.PICKING_TASK_SUBMITTED);
+            assertEquals("PENDING", beforeCreation.getStatus());
+            assertEquals(0, beforeCreation.getMatchedEventCount());
+
+            deltas.record(ORDER_ID, "PickingTaskCreatedEvent", baseTime.plusMinutes(1));
+
+            ProcessStepProgress afterCreation =
+                    progressOf(deltas, ProcessStep.PICKING_TASK_SUBMITTED);
+            assertEquals("FAILED", afterCreation.getStatus());
+            assertEquals(baseTime, afterCreation.getStatusTimestamp());
+            assertEquals(1, afterCreation.getMatchedEventCount());
+        }
+    }
+
+    @Nested
+    class replayEquivalenceTest {
+
+        @Test
+        void shouldMatchFullReplayForRandomEventHistories() {
+            Random random = new Random(42);
+            for (int history = 0; history < 500; history++) {
+                List<AuditRecordEntity> records = new ArrayList<>();
+                OrderProcessStepDeltas deltas = new OrderProcessStepDeltas();
+                int length = random.nextInt(12);
+                for (int i = 0; i < length; i++) {
+                    String eventName = EVENT_NAMES[random.nextInt(EVENT_NAMES.length)];
+                    LocalDateTime occurredAt = baseTime.plusMinutes(random.nextInt(60));
+                    records.add(createAuditRecord(eventName, occurredAt));
+                    deltas.record(ORDER_ID, eventName, occurredAt);
+                }
+
+                for (ProcessStep step : ProcessStep.values()) {
+                    List<AuditRecordEntity> stepEvents = step.filterEvents(records);
+                    OrderProcessStatusDto.ProcessStepDto expected = step.createStepDto(stepEvents);
+                    ProcessStepProgress progress = progressOf(deltas, step);
+                    OrderProcessStatusDto.ProcessStepDto actual =
+                            progress.toStepDto(step.getStepNumber(), step.getStepName());
+
+                    String context = step + " for " + eventNamesOf(records);
+                    assertEquals(expected.getStatus(), actual.getStatus(), context);
+                    assertEquals(expected.getTimestamp(), actual.getTimestamp(), context);
+                    assertEquals(stepEvents.size(), progress.getMatchedEventCount(), context);
+                }
+            }
+        }
+    }
+
+    private ProcessStepProgress progressOf(OrderProcessStepDeltas deltas, ProcessStep step) {
+        return deltas.asMap()
+                .getOrDefault(
+                        new OrderProcessStepId(ORDER_ID, step.getStepNumber()),
+                        new ProcessStepProgress());
+    }
+
+    private List<String> eventNamesOf(List<AuditRecordEntity> records) {
+        return records.stream().map(AuditRecordEntity::getEventName).toList();
+    }
+
+    private AuditRecordEntity createAuditRecord(String eventName, LocalDateTime timestamp) {
+        AuditRecordEntity record = new AuditRecordEntity();
+        record.setRecordId(UUID.randomUUID().toString());
+        record.setAggregateType("Order");
+        record.setAggregateId(ORDER_ID);
+        record.setEventName(eventName);
+        record.setEventTimestamp(timestamp);
+        record.setEventMetadata("{}");
+        record.setPayload("{}");
+        record.setCreatedAt(LocalDateTime.now());
+        return record;
+    }
+}
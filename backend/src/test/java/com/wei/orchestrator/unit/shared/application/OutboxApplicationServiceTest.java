@@ -0,0 +1,383 @@
+package com.wei.orchestrator.unit.shared.application;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.wei.orchestrator.order.domain.event.OrderReservedEvent;
+import com.wei.orchestrator.shared.application.OutboxApplicationService;
+import com.wei.orchestrator.shared.application.event.DomainEventDispatcher;
+import com.wei.orchestrator.shared.application.event.RelayedDomainEvent;
+import com.wei.orchestrator.shared.domain.model.OutboxMessage;
+import com.wei.orchestrator.shared.domain.model.valueobject.OutboxStatus;
+import com.wei.orchestrator.shared.domain.repository.OutboxMessageRepository;
+import com.wei.orchestrator.shared.infrastructure.event.PartitionedDomainEventDispatcher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxApplicationServiceTest {
+
+    private static final int MAX_ATTEMPTS = 2;
+
+    @Mock private OutboxMessageRepository outboxMessageRepository;
+    @Mock private ApplicationEventPublisher eventPublisher;
+    @Mock private DomainEventDispatcher domainEventDispatcher;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    private OutboxApplicationService outboxApplicationService;
+
+    @BeforeEach
+    void setUp() {
+        outboxApplicationService =
+                new OutboxApplicationService(
+                        outboxMessageRepository,
+                        eventPublisher,
+                        domainEventDispatcher,
+                        transactionManager,
+                        MAX_ATTEMPTS);
+        lenient()
+                .when(domainEventDispatcher.capture(any(), any()))
+                .thenAnswer(
+                        invocation -> {
+                            try {
+                                invocation.<Runnable>getArgument(0).run();
+                                return CompletableFuture.completedFuture(null);
+                            } catch (RuntimeException e) {
+                                return CompletableFuture.failedFuture(e);
+                            }
+                        });
+    }
+
+    @Nested
+    class recordTest {
+
+        @Test
+        void shouldPersistPendingMessageForEvent() {
+            OrderReservedEvent event = new OrderReservedEvent("ORDER-001", List.of("LINE-1"));
+            when(outboxMessageRepository.save(any(OutboxMessage.class)))
+                    .thenAnswer(invocation -> invocation.getArgument(0));
+
+            outboxApplicationService.record(event);
+
+            ArgumentCaptor<OutboxMessage> captor = ArgumentCaptor.forClass(OutboxMessage.class);
+            verify(outboxMessageRepository).save(captor.capture());
+            OutboxMessage message = captor.getValue();
+            assertSame(event, message.getEvent());
+            assertEquals(OrderReservedEvent.class.getName(), message.getEventType());
+            assertEquals(OutboxStatus.PENDING, message.getStatus());
+            verifyNoInteractions(eventPublisher);
+        }
+    }
+
+    @Nested
+    class relayTest {
+
+        @Test
+        void shouldPublishRelayedEventAndMarkDispatched() {
+            OutboxMessage message = claimedMessage(1L);
+
+            boolean relayed = outboxApplicationService.relay(message).join();
+
+            assertTrue(relayed);
+            ArgumentCaptor<ApplicationEvent> captor =
+                    ArgumentCaptor.forClass(ApplicationEvent.class);
+            verify(eventPublisher).publishEvent(captor.capture());
+            RelayedDomainEvent<?> published = (RelayedDomainEvent<?>) captor.getValue();
+            assertSame(message.getEvent(), published.getPayload());
+            assertEquals(1L, published.getMessageId());
+            assertEquals(OutboxStatus.DISPATCHED, message.getStatus());
+            assertNotNull(message.getDispatchedAt());
+            verify(outboxMessageRepository).save(message);
+            assertEquals(1, outboxApplicationService.getRelayedCount());
+        }
+
+        @Test
+        void shouldReturnMessageToPendingWhenPublishFails() {
+            OutboxMessage message = claimedMessage(1L);
+            doThrow(new RuntimeException("handler unavailable"))
+                    .when(eventPublisher)
+                    .publishEvent(any(ApplicationEvent.class));
+
+            boolean relayed = outboxApplicationService.relay(message).join();
+
+            assertFalse(relayed);
+            assertEquals(OutboxStatus.PENDING, message.getStatus());
+            assertEquals(1, message.getAttempts());
+            assertEquals("handler unavailable", message.getLastError());
+            assertNull(message.getClaimedBy());
+            verify(outboxMessageRepository).save(message);
+            assertEquals(1, outboxApplicationService.getRetriedCount());
+        }
+
+        @Test
+        void shouldParkMessageAfterMaxAttempts() {
+            OutboxMessage message = claimedMessage(1L);
+            message.setAttempts(MAX_ATTEMPTS - 1);
+            doThrow(new RuntimeException("handler unavailable"))
+                    .when(eventPublisher)
+                    .publishEvent(any(ApplicationEvent.class));
+
+            outboxApplicationService.relay(message).join();
+
+            assertEquals(OutboxStatus.FAILED, message.getStatus());
+            assertEquals(1, outboxApplicationService.getFailedCount());
+        }
+
+        @Test
+        void shouldContinueRelayingAfterSingleFailure() {
+            OutboxMessage first = claimedMessage(1L);
+            OutboxMessage second = claimedMessage(2L);
+            doThrow(new RuntimeException("handler unavailable"))
+                    .doNothing()
+                    .when(eventPublisher)
+                    .publishEvent(any(ApplicationEvent.class));
+
+            int relayed = outboxApplicationService.relayAll(List.of(first, second)).join();
+
+            assertEquals(1, relayed);
+            assertEquals(OutboxStatus.PENDING, first.getStatus());
+            assertEquals(OutboxStatus.DISPATCHED, second.getStatus());
+        }
+
+        @Test
+        void shouldMarkDispatchedOnlyAfterCapturedHandlersComplete() {
+            OutboxMessage message = claimedMessage(1L);
+            CompletableFuture<Void> handled = new CompletableFuture<>();
+            when(domainEventDispatcher.capture(any(), any())).thenReturn(handled);
+
+            CompletableFuture<Boolean> relayed = outboxApplicationService.relay(message);
+
+            assertFalse(relayed.isDone());
+            assertEquals(OutboxStatus.PROCESSING, message.getStatus());
+            verify(outboxMessageRepository, never()).save(any());
+
+            handled.complete(null);
+
+            assertTrue(relayed.join());
+            assertEquals(OutboxStatus.DISPATCHED, message.getStatus());
+            verify(outboxMessageRepository).save(message);
+        }
+
+        @Test
+        void shouldRecordFailureWhenCapturedHandlerFailsLater() {
+            OutboxMessage message = claimedMessage(1L);
+            CompletableFuture<Void> handled = new CompletableFuture<>();
+            when(domainEventDispatcher.capture(any(), any())).thenReturn(handled);
+
+            CompletableFuture<Boolean> relayed = outboxApplicationService.relay(message);
+            handled.completeExceptionally(
+                    new CompletionException(new IllegalStateException("Order not found")));
+
+            assertFalse(relayed.join());
+            assertEquals(OutboxStatus.PENDING, message.getStatus());
+            assertEquals("Order not found", message.getLastError());
+            assertEquals(1, outboxApplicationService.getRetriedCount());
+        }
+    }
+
+    @Nested
+    class deduplicationTest {
+
+        @Test
+        void shouldSkipHandlersThatSucceededWhenMessageIsRetriedAfterAnotherFailed() {
+            PartitionedDomainEventDispatcher dispatcher =
+                    new PartitionedDomainEventDispatcher(
+                            transactionManager,
+                            new SimpleMeterRegistry(),
+                            false,
+                            1,
+                            10,
+                            1000,
+                            1000,
+                            1,
+                            0);
+            OutboxApplicationService service =
+                    new OutboxApplicationService(
+                            outboxMessageRepository,
+                            eventPublisher,
+                            dispatcher,
+                            transactionManager,
+                            MAX_ATTEMPTS);
+            Set<String> receipts = ConcurrentHashMap.newKeySet();
+            when(outboxMessageRepository.hasReceipt(any(), any()))
+                    .thenAnswer(
+                            invocation ->
+                                    receipts.contains(
+                                            invocation.getArgument(0)
+                                                    + "/"
+                                                    + invocation.getArgument(1)));
+            doAnswer(
+                            invocation ->
+                                    receipts.add(
+                                            invocation.getArgument(0)
+                                                    + "/"
+                                                    + invocation.getArgument(1)))
+                    .when(outboxMessageRepository)
+                    .saveReceipt(any(), any(), any());
+            AtomicInteger reserved = new AtomicInteger();
+            AtomicInteger submitted = new AtomicInteger();
+            doAnswer(
+                            invocation -> {
+                                dispatcher.dispatch("ORDER-1", reserved::incrementAndGet);
+                                dispatcher.dispatch(
+                                        "ORDER-1",
+                                        () -> {
+                                            if (submitted.incrementAndGet() == 1) {
+                                                throw new IllegalStateException("WES unavailable");
+                                            }
+                                        });
+                                return null;
+                            })
+                    .when(eventPublisher)
+                    .publishEvent(any(ApplicationEvent.class));
+            OutboxMessage message = claimedMessage(1L);
+
+            assertFalse(service.relay(message).join());
+            assertEquals(OutboxStatus.PENDING, message.getStatus());
+
+            message.setStatus(OutboxStatus.PROCESSING);
+            assertTrue(service.relay(message).join());
+
+            assertEquals(1, reserved.get());
+            assertEquals(2, submitted.get());
+            assertEquals(2, receipts.size());
+            assertEquals(OutboxStatus.DISPATCHED, message.getStatus());
+        }
+    }
+
+    @Nested
+    class relayCommittedTest {
+
+        @Test
+        void shouldClaimAndRelayCommittedMessages() {
+            OutboxMessage message = claimedMessage(1L);
+            when(outboxMessageRepository.claim(eq(List.of(1L)), eq("commit-relay"), any()))
+                    .thenReturn(List.of(message));
+
+            outboxApplicationService.relayCommitted(List.of(1L));
+
+            assertEquals(OutboxStatus.DISPATCHED, message.getStatus());
+        }
+
+        @Test
+        void shouldRelayNextMessageForTheAggregateAfterAcknowledging() {
+            OutboxMessage trigger = claimedMessage(1L);
+            OutboxMessage next =
+                    claimedMessage(2L, new OrderReservedEvent("ORDER-1", List.of("LINE-2")));
+            when(outboxMessageRepository.claimNextPending(eq("ORDER-1"), eq("commit-relay"), any()))
+                    .thenReturn(List.of(next))
+                    .thenReturn(List.of());
+
+            outboxApplicationService.relay(trigger).join();
+
+            InOrder inOrder = inOrder(outboxMessageRepository);
+            inOrder.verify(outboxMessageRepository).save(trigger);
+            inOrder.verify(outboxMessageRepository).claimNextPending(eq("ORDER-1"), any(), any());
+            inOrder.verify(outboxMessageRepository).save(next);
+            assertEquals(OutboxStatus.DISPATCHED, next.getStatus());
+        }
+
+        @Test
+        void shouldLeaveMessagesToRelayWorkerWhenClaimFails() {
+            when(outboxMessageRepository.claim(any(), any(), any()))
+                    .thenThrow(new RuntimeException("database unavailable"));
+
+            assertDoesNotThrow(() -> outboxApplicationService.relayCommitted(List.of(1L)));
+            verifyNoInteractions(eventPublisher);
+        }
+    }
+
+    @Nested
+    class claimTest {
+
+        @Test
+        void shouldClaimPendingMessagesForWorker() {
+            OutboxMessage message = claimedMessage(1L);
+            when(outboxMessageRepository.claimPending(eq(50), eq(1), eq(4), eq("worker-1"), any()))
+                    .thenReturn(List.of(message));
+
+            List<OutboxMessage> claimed =
+                    outboxApplicationService.claimPending(50, 1, 4, "worker-1");
+
+            assertEquals(List.of(message), claimed);
+            verify(transactionManager).commit(any());
+        }
+
+        @Test
+        void shouldRejectShardOutsideOfShardCount() {
+            assertThrows(
+                    IllegalArgumentException.class,
+                    () -> outboxApplicationService.claimPending(50, 4, 4, "worker-1"));
+            verifyNoInteractions(outboxMessageRepository);
+        }
+
+        @Test
+        void shouldClaimRecordedMessagesById() {
+            when(outboxMessageRepository.claim(eq(List.of(1L, 2L)), eq("commit-relay"), any()))
+                    .thenReturn(List.of());
+
+            List<OutboxMessage> claimed =
+                    outboxApplicationService.claim(List.of(1L, 2L), "commit-relay");
+
+            assertTrue(claimed.isEmpty());
+        }
+    }
+
+    @Nested
+    class countOutstandingTest {
+
+        @Test
+        void shouldCountPendingAndProcessingMessages() {
+            when(outboxMessageRepository.countByStatus(OutboxStatus.PENDING)).thenReturn(3L);
+            when(outboxMessageRepository.countByStatus(OutboxStatus.PROCESSING)).thenReturn(2L);
+
+            assertEquals(5, outboxApplicationService.countOutstanding());
+        }
+    }
+
+    @Test
+    void shouldRejectNonPositiveMaxAttempts() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () ->
+                        new OutboxApplicationService(
+                                outboxMessageRepository,
+                                eventPublisher,
+                                domainEventDispatcher,
+                                transactionManager,
+                                0));
+    }
+
+    private OutboxMessage claimedMessage(Long messageId) {
+        return claimedMessage(
+                messageId, new OrderReservedEvent("ORDER-" + messageId, List.of("LINE-1")));
+    }
+
+    private OutboxMessage claimedMessage(Long messageId, OrderReservedEvent event) {
+        OutboxMessage message = new OutboxMessage(event);
+        message.setMessageId(messageId);
+        message.setStatus(OutboxStatus.PROCESSING);
+        message.setClaimedBy("worker-1");
+        message.setClaimedAt(LocalDateTime.now());
+        return message;
+    }
+}
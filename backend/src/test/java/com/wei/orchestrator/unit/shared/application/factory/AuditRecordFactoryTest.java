@@ -0,0 +1,129 @@
+package com.wei.orchestrator.unit.shared.application.factory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.wei.orchestrator.inventory.domain.event.ReservationFailedEvent;
+import com.wei.orchestrator.order.domain.event.OrderReservedEvent;
+import com.wei.orchestrator.shared.application.factory.AuditRecordFactory;
+import com.wei.orchestrator.shared.domain.event.DomainEvent;
+import com.wei.orchestrator.shared.domain.model.AuditRecord;
+import com.wei.orchestrator.wes.domain.event.PickingTaskCompletedEvent;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class AuditRecordFactoryTest {
+
+    private final AuditRecordFactory auditRecordFactory = new AuditRecordFactory();
+
+    @Nested
+    class metadataExtractionTest {
+
+        @Test
+        void shouldDescribeOrderEvent() {
+            AuditRecord auditRecord =
+                    auditRecordFactory.createAuditRecord(
+                            new OrderReservedEvent("ORDER-001", List.of("LINE-1")));
+
+            assertEquals("OrderReservedEvent", auditRecord.getEventName());
+            assertEquals("Order", auditRecord.getAggregateType());
+            assertEquals("ORDER-001", auditRecord.getAggregateId());
+            assertEquals("Order Context", auditRecord.getEventMetadata().getContext());
+        }
+
+        @Test
+        void shouldPreferAccessorMatchingAggregateType() {
+            AuditRecord auditRecord =
+                    auditRecordFactory.createAuditRecord(
+                            new PickingTaskCompletedEvent(
+                                    "TASK-001", "WES-TASK-001", "ORDER-001", LocalDateTime.now()));
+
+            assertEquals("PickingTask", auditRecord.getAggregateType());
+            assertEquals("TASK-001", auditRecord.getAggregateId());
+            assertEquals("WES Context", auditRecord.getEventMetadata().getContext());
+        }
+
+        @Test
+        void shouldFallBackToNextNonNullAccessor() {
+            AuditRecord withOrder =
+                    auditRecordFactory.createAuditRecord(
+                            new ReservationFailedEvent(
+                                    "TX-001", "ORDER-001", "Out of stock", LocalDateTime.now()));
+            AuditRecord withoutOrder =
+                    auditRecordFactory.createAuditRecord(
+                            new ReservationFailedEvent(
+                                    "TX-002", null, "Out of stock", LocalDateTime.now()));
+
+            assertEquals("ORDER-001", withOrder.getAggregateId());
+            assertEquals("TX-002", withoutOrder.getAggregateId());
+            assertEquals("Inventory Context", withOrder.getEventMetadata().getContext());
+        }
+
+        @Test
+        void shouldRankCorrelationIdBelowEventAccessors() {
+            AuditRecord auditRecord =
+                    auditRecordFactory.createAuditRecord(new UntypedEvent("DESC-001"));
+
+            assertEquals("Unknown", auditRecord.getAggregateType());
+            assertEquals("DESC-001", auditRecord.getAggregateId());
+            assertEquals("Unknown Context", auditRecord.getEventMetadata().getContext());
+        }
+
+        @Test
+        void shouldUseCorrelationIdWhenNoOtherIdIsPresent() {
+            UntypedEvent event = new UntypedEvent(null);
+
+            AuditRecord auditRecord = auditRecordFactory.createAuditRecord(event);
+
+            assertEquals(event.getCorrelationId().toString(), auditRecord.getAggregateId());
+        }
+    }
+
+    @Nested
+    class orderIdExtractionTest {
+
+        @Test
+        void shouldExtractOrderIdFromEventWhoseAggregateIsNotTheOrder() {
+            AuditRecord auditRecord =
+                    auditRecordFactory.createAuditRecord(
+                            new PickingTaskCompletedEvent(
+                                    "TASK-001", "WES-TASK-001", "ORDER-001", LocalDateTime.now()));
+
+            assertEquals("TASK-001", auditRecord.getAggregateId());
+            assertEquals("ORDER-001", auditRecord.getOrderId());
+        }
+
+        @Test
+        void shouldLeaveOrderIdEmptyWhenEventCarriesNone() {
+            AuditRecord withoutOrder =
+                    auditRecordFactory.createAuditRecord(
+                            new ReservationFailedEvent(
+                                    "TX-002", null, "Out of stock", LocalDateTime.now()));
+            AuditRecord untyped =
+                    auditRecordFactory.createAuditRecord(new UntypedEvent("DESC-001"));
+
+            assertNull(withoutOrder.getOrderId());
+            assertNull(untyped.getOrderId());
+        }
+    }
+
+    public static class UntypedEvent implements DomainEvent {
+        private final String descriptionId;
+        private final UUID correlationId = UUID.randomUUID();
+
+        public UntypedEvent(String descriptionId) {
+            this.descriptionId = descriptionId;
+        }
+
+        public String getDescriptionId() {
+            return descriptionId;
+        }
+
+        @Override
+        public UUID getCorrelationId() {
+            return correlationId;
+        }
+    }
+}
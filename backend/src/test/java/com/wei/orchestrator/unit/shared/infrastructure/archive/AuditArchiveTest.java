@@ -0,0 +1,288 @@
+package com.wei.orchestrator.unit.shared.infrastructure.archive;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.wei.orchestrator.shared.domain.model.AuditRecord;
+import com.wei.orchestrator.shared.domain.model.valueobject.EventMetadata;
+import com.wei.orchestrator.shared.infrastructure.archive.AuditArchive;
+import com.wei.orchestrator.shared.infrastructure.archive.AuditArchivePeriod;
+import com.wei.orchestrator.shared.infrastructure.archive.AuditSegmentWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class AuditArchiveTest {
+
+    private static final int BLOCK_SIZE = 4;
+    private static final LocalDateTime PERIOD_START = LocalDateTime.of(2025, 1, 6, 0, 0);
+    private static final LocalDateTime PERIOD_END = PERIOD_START.plusDays(1);
+
+    @TempDir Path directory;
+
+    private AuditArchive auditArchive;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        auditArchive = new AuditArchive(directory.toString(), BLOCK_SIZE, false);
+        auditArchive.loadSegments();
+    }
+
+    @Nested
+    class sealedSegmentTest {
+
+        @Test
+        void shouldFindRecordsBySparseIndexKeys() throws IOException {
+            UUID correlationId = UUID.randomUUID();
+            List<AuditRecord> records = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                records.add(
+                        auditRecord(
+                                "ORDER-" + (i % 3),
+                                i % 2 == 0 ? correlationId : UUID.randomUUID(),
+                                PERIOD_START.plusMinutes(i)));
+            }
+            writeSegment(records);
+
+            assertEquals(4, auditArchive.findByOrderId("ORDER-0").size());
+            assertEquals(3, auditArchive.findByOrderId("ORDER-1").size());
+            assertTrue(auditArchive.findByOrderId("ORDER-9").isEmpty());
+            assertEquals(5, auditArchive.findByCorrelationId(correlationId).size());
+            assertEquals(3, auditArchive.findByAggregateTypeAndId("Order", "ORDER-2").size());
+            UUID recordId = records.get(7).getRecordId();
+            assertEquals(records.get(7), auditArchive.findById(recordId).orElseThrow());
+            assertTrue(auditArchive.findById(UUID.randomUUID()).isEmpty());
+        }
+
+        @Test
+        void shouldPreserveRecordContents() throws IOException {
+            AuditRecord original = auditRecord("ORDER-1", UUID.randomUUID(), PERIOD_START);
+            writeSegment(List.of(original));
+
+            AuditRecord archived = auditArchive.findByOrderId("ORDER-1").get(0);
+
+            assertEquals(original.getRecordId(), archived.getRecordId());
+            assertEquals(original.getAggregateType(), archived.getAggregateType());
+            assertEquals(original.getEventName(), archived.getEventName());
+            assertEquals(original.getEventTimestamp(), archived.getEventTimestamp());
+            assertEquals(original.getEventMetadata(), archived.getEventMetadata());
+            assertEquals(original.getPayload(), archived.getPayload());
+            assertEquals(original.getCreatedAt(), archived.getCreatedAt());
+            assertEquals(original.getOrderId(), archived.getOrderId());
+        }
+
+        @Test
+        void shouldFilterByTimestampWithinOverlappingSegments() throws IOException {
+            List<AuditRecord> records = new ArrayList<>();
+            for (int i = 0; i < 6; i++) {
+                records.add(auditRecord("ORDER-1", UUID.randomUUID(), PERIOD_START.plusHours(i)));
+            }
+            writeSegment(records);
+
+            assertEquals(
+                    3,
+                    auditArchive
+                            .findByEventTimestampBetween(
+                                    PERIOD_START.plusHours(1), PERIOD_START.plusHours(3))
+                            .size());
+            assertTrue(
+                    auditArchive
+                            .findByEventTimestampBetween(
+                                    PERIOD_END.plusDays(1), PERIOD_END.plusDays(2))
+                            .isEmpty());
+        }
+
+        @Test
+        void shouldVisitOrderIdRangeAcrossBlocks() throws IOException {
+            List<AuditRecord> records = new ArrayList<>();
+            for (int i = 0; i < 12; i++) {
+                records.add(
+                        auditRecord("ORDER-" + (char) ('A' + i), UUID.randomUUID(), PERIOD_START));
+            }
+            writeSegment(records);
+
+            List<String> visited = new ArrayList<>();
+            auditArchive.forEachInOrderIdRange(
+                    "ORDER-C", "ORDER-F", record -> visited.add(record.getOrderId()));
+
+            assertEquals(List.of("ORDER-C", "ORDER-D", "ORDER-E", "ORDER-F"), visited);
+        }
+
+        @Test
+        void shouldEnumerateOrderIdsAcrossSegmentsInOrder() throws IOException {
+            writeSegment(
+                    List.of(
+                            auditRecord("ORDER-A", UUID.randomUUID(), PERIOD_START),
+                            auditRecord("ORDER-D", UUID.randomUUID(), PERIOD_START),
+                            auditRecord("ORDER-E", UUID.randomUUID(), PERIOD_START)));
+            writeSegment(
+                    List.of(
+                            auditRecord("ORDER-B", UUID.randomUUID(), PERIOD_START),
+                            auditRecord("ORDER-D", UUID.randomUUID(), PERIOD_START),
+                            auditRecord("ORDER-F", UUID.randomUUID(), PERIOD_START)));
+
+            assertEquals(
+                    List.of("ORDER-A", "ORDER-B", "ORDER-D"),
+                    auditArchive.findOrderIdsAfter(null, 3));
+            assertEquals(
+                    List.of("ORDER-E", "ORDER-F"), auditArchive.findOrderIdsAfter("ORDER-D", 3));
+            assertTrue(auditArchive.findOrderIdsAfter("ORDER-F", 3).isEmpty());
+        }
+
+        @Test
+        void shouldReloadSegmentsFromDisk() throws IOException {
+            writeSegment(List.of(auditRecord("ORDER-1", UUID.randomUUID(), PERIOD_START)));
+
+            AuditArchive reloaded = new AuditArchive(directory.toString(), BLOCK_SIZE, false);
+            reloaded.loadSegments();
+
+            assertEquals(1, reloaded.getSegmentCount());
+            assertEquals(1, reloaded.getArchivedRecordCount());
+            assertEquals(1, reloaded.findByOrderId("ORDER-1").size());
+        }
+    }
+
+    @Nested
+    class sharedDirectoryTest {
+
+        @Test
+        void shouldPickUpSegmentsSealedByAnotherNodeOnRefresh() throws IOException {
+            AuditArchive writerNode = new AuditArchive(directory.toString(), BLOCK_SIZE, true);
+            writerNode.loadSegments();
+            AuditArchive readerNode = new AuditArchive(directory.toString(), BLOCK_SIZE, true);
+            readerNode.loadSegments();
+
+            try (AuditSegmentWriter writer = writerNode.openSegment(PERIOD_START, PERIOD_END)) {
+                writer.append(auditRecord("ORDER-1", UUID.randomUUID(), PERIOD_START));
+                writer.seal();
+            }
+
+            assertTrue(readerNode.findByOrderId("ORDER-1").isEmpty());
+            readerNode.refreshSegments();
+            readerNode.refreshSegments();
+
+            assertEquals(1, readerNode.getSegmentCount());
+            assertEquals(1, readerNode.findByOrderId("ORDER-1").size());
+        }
+
+        @Test
+        void shouldKeepRecentUnindexedSegmentThatAnotherNodeMayStillBeSealing()
+                throws IOException {
+            writeSegment(List.of(auditRecord("ORDER-1", UUID.randomUUID(), PERIOD_START)));
+            try (Stream<Path> files = Files.list(directory)) {
+                for (Path file : files.filter(f -> f.toString().endsWith(".idx")).toList()) {
+                    Files.delete(file);
+                }
+            }
+
+            AuditArchive reloaded = new AuditArchive(directory.toString(), BLOCK_SIZE, true);
+            reloaded.loadSegments();
+
+            assertEquals(0, reloaded.getSegmentCount());
+            try (Stream<Path> files = Files.list(directory)) {
+                assertEquals(1, files.count());
+            }
+        }
+    }
+
+    @Nested
+    class incompleteSegmentTest {
+
+        @Test
+        void shouldNotPublishUnsealedSegment() throws IOException {
+            try (AuditSegmentWriter writer = auditArchive.openSegment(PERIOD_START, PERIOD_END)) {
+                writer.append(auditRecord("ORDER-1", UUID.randomUUID(), PERIOD_START));
+            }
+
+            assertEquals(0, auditArchive.getSegmentCount());
+            assertTrue(auditArchive.findByOrderId("ORDER-1").isEmpty());
+            try (Stream<Path> files = Files.list(directory)) {
+                assertEquals(0, files.count());
+            }
+        }
+
+        @Test
+        void shouldNotWriteEmptySegment() throws IOException {
+            try (AuditSegmentWriter writer = auditArchive.openSegment(PERIOD_START, PERIOD_END)) {
+                writer.seal();
+            }
+
+            assertEquals(0, auditArchive.getSegmentCount());
+        }
+
+        @Test
+        void shouldDiscardSegmentWithoutIndexOnLoad() throws IOException {
+            writeSegment(List.of(auditRecord("ORDER-1", UUID.randomUUID(), PERIOD_START)));
+            try (Stream<Path> files = Files.list(directory)) {
+                for (Path file : files.filter(f -> f.toString().endsWith(".idx")).toList()) {
+                    Files.delete(file);
+                }
+            }
+
+            AuditArchive reloaded = new AuditArchive(directory.toString(), BLOCK_SIZE, false);
+            reloaded.loadSegments();
+
+            assertEquals(0, reloaded.getSegmentCount());
+            try (Stream<Path> files = Files.list(directory)) {
+                assertEquals(0, files.count());
+            }
+        }
+
+        @Test
+        void shouldRejectRecordOutsideSegmentPeriod() throws IOException {
+            try (AuditSegmentWriter writer = auditArchive.openSegment(PERIOD_START, PERIOD_END)) {
+                AuditRecord late = auditRecord("ORDER-1", UUID.randomUUID(), PERIOD_END);
+
+                assertThrows(IllegalArgumentException.class, () -> writer.append(late));
+            }
+        }
+    }
+
+    @Nested
+    class archivePeriodTest {
+
+        @Test
+        void shouldAlignWeeksToMonday() {
+            LocalDate sunday = LocalDate.of(2025, 1, 12);
+
+            assertEquals(LocalDate.of(2025, 1, 6), AuditArchivePeriod.WEEK.startOf(sunday));
+            assertEquals(
+                    LocalDate.of(2025, 1, 13),
+                    AuditArchivePeriod.WEEK.next(AuditArchivePeriod.WEEK.startOf(sunday)));
+            assertEquals(sunday, AuditArchivePeriod.DAY.startOf(sunday));
+            assertEquals(sunday.plusDays(1), AuditArchivePeriod.DAY.next(sunday));
+        }
+    }
+
+    private void writeSegment(List<AuditRecord> records) throws IOException {
+        try (AuditSegmentWriter writer = auditArchive.openSegment(PERIOD_START, PERIOD_END)) {
+            for (AuditRecord record : records) {
+                writer.append(record);
+            }
+            writer.seal();
+        }
+    }
+
+    private static AuditRecord auditRecord(
+            String orderId, UUID correlationId, LocalDateTime eventTimestamp) {
+        return new AuditRecord(
+                UUID.randomUUID(),
+                "Order",
+                orderId,
+                "OrderCreatedEvent",
+                eventTimestamp,
+                EventMetadata.of("Order Context", correlationId, "Scheduler"),
+                "{\"orderId\":\"" + orderId + "\"}",
+                eventTimestamp.plusSeconds(1),
+                orderId);
+    }
+}
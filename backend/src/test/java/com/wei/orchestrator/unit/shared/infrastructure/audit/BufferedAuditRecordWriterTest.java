@@ -0,0 +1,255 @@
+package com.wei.orchestrator.unit.shared.infrastructure.audit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+import com.wei.orchestrator.shared.application.audit.AuditProjection;
+import com.wei.orchestrator.shared.domain.model.AuditRecord;
+import com.wei.orchestrator.shared.domain.repository.AuditRecordRepository;
+import com.wei.orchestrator.shared.infrastructure.audit.AuditDurability;
+import com.wei.orchestrator.shared.infrastructure.audit.AuditWriterMetrics;
+import com.wei.orchestrator.shared.infrastructure.audit.BufferedAuditRecordWriter;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class BufferedAuditRecordWriterTest {
+
+    @Mock private AuditRecordRepository auditRecordRepository;
+    @Mock private PlatformTransactionManager transactionManager;
+    @Mock private AuditProjection auditProjection;
+
+    private BufferedAuditRecordWriter writer;
+
+    @AfterEach
+    void tearDown() {
+        if (writer != null) {
+            writer.shutdown();
+        }
+    }
+
+    private BufferedAuditRecordWriter createWriter(
+            AuditDurability durability, int batchSize, long flushIntervalMs, int capacity) {
+        writer =
+                new BufferedAuditRecordWriter(
+                        auditRecordRepository,
+                        List.of(auditProjection),
+                        transactionManager,
+                        durability,
+                        batchSize,
+                        flushIntervalMs,
+                        capacity,
+                        10,
+                        5000);
+        writer.start();
+        return writer;
+    }
+
+    @Nested
+    class synchronousDurabilityTest {
+
+        @Test
+        void shouldWriteOnCallerThread() {
+            createWriter(AuditDurability.SYNC, 100, 1000, 100);
+            AuditRecord auditRecord = mock(AuditRecord.class);
+
+            writer.write(auditRecord);
+
+            verify(auditRecordRepository).saveAll(List.of(auditRecord));
+            assertFalse(writer.isAsync());
+            assertEquals(1, writer.getMetrics().getWrittenCount());
+        }
+
+        @Test
+        void shouldApplyProjectionsToWrittenBatch() {
+            createWriter(AuditDurability.SYNC, 100, 1000, 100);
+            AuditRecord auditRecord = mock(AuditRecord.class);
+
+            writer.write(auditRecord);
+
+            verify(auditProjection).apply(List.of(auditRecord));
+        }
+
+        @Test
+        void shouldKeepAuditRecordWhenProjectionFails() {
+            createWriter(AuditDurability.SYNC, 100, 1000, 100);
+            doThrow(new IllegalStateException("Projection unavailable"))
+                    .when(auditProjection)
+                    .apply(anyList());
+
+            AuditRecord auditRecord = mock(AuditRecord.class);
+
+            writer.write(auditRecord);
+
+            verify(auditRecordRepository).saveAll(List.of(auditRecord));
+            assertEquals(1, writer.getMetrics().getWrittenCount());
+            assertEquals(0, writer.getMetrics().getFailedCount());
+            assertEquals(1, writer.getMetrics().getProjectionFailureCount());
+            assertEquals(1, writer.getMetrics().getProjectionBacklog());
+        }
+
+        @Test
+        void shouldReapplyFailedProjectionRecordsWithNextBatch() {
+            createWriter(AuditDurability.SYNC, 100, 1000, 100);
+            AuditRecord first = mock(AuditRecord.class);
+            AuditRecord second = mock(AuditRecord.class);
+            doThrow(new IllegalStateException("Projection unavailable"))
+                    .doNothing()
+                    .when(auditProjection)
+                    .apply(anyList());
+
+            writer.write(first);
+            writer.write(second);
+
+            verify(auditProjection).apply(List.of(first, second));
+            assertEquals(1, writer.getMetrics().getProjectionFailureCount());
+            assertEquals(0, writer.getMetrics().getProjectionBacklog());
+        }
+
+        @Test
+        void shouldKeepProjectionBacklogWhenNextWriteFails() {
+            createWriter(AuditDurability.SYNC, 100, 1000, 100);
+            AuditRecord first = mock(AuditRecord.class);
+            AuditRecord second = mock(AuditRecord.class);
+            doThrow(new IllegalStateException("Projection unavailable"))
+                    .when(auditProjection)
+                    .apply(List.of(first));
+            doNothing()
+                    .doThrow(new IllegalStateException("Database unavailable"))
+                    .when(auditRecordRepository)
+                    .saveAll(anyList());
+
+            writer.write(first);
+            writer.write(second);
+
+            assertEquals(1, writer.getMetrics().getFailedCount());
+            assertEquals(1, writer.getMetrics().getProjectionBacklog());
+        }
+
+        @Test
+        void shouldCountFailedWriteWithoutPropagating() {
+            createWriter(AuditDurability.SYNC, 100, 1000, 100);
+            doThrow(new IllegalStateException("Database unavailable"))
+                    .when(auditRecordRepository)
+                    .saveAll(anyList());
+
+            assertDoesNotThrow(() -> writer.write(mock(AuditRecord.class)));
+
+            assertEquals(1, writer.getMetrics().getFailedCount());
+        }
+    }
+
+    @Nested
+    class asynchronousDurabilityTest {
+
+        @Test
+        void shouldFlushWhenBatchIsFull() {
+            createWriter(AuditDurability.ASYNC, 3, 60000, 100);
+
+            for (int i = 0; i < 3; i++) {
+                writer.write(mock(AuditRecord.class));
+            }
+
+            verify(auditRecordRepository, timeout(2000))
+                    .saveAll(argThat(batch -> batch.size() == 3));
+        }
+
+        @Test
+        void shouldFlushPartialBatchAfterFlushInterval() {
+            createWriter(AuditDurability.ASYNC, 100, 50, 100);
+
+            writer.write(mock(AuditRecord.class));
+            writer.write(mock(AuditRecord.class));
+
+            verify(auditRecordRepository, timeout(2000))
+                    .saveAll(argThat(batch -> batch.size() == 2));
+        }
+
+        @Test
+        void shouldDrainBufferedRecordsOnShutdown() {
+            List<AuditRecord> written = new CopyOnWriteArrayList<>();
+            doAnswer(
+                            invocation -> {
+                                written.addAll(invocation.getArgument(0));
+                                return null;
+                            })
+                    .when(auditRecordRepository)
+                    .saveAll(anyList());
+            createWriter(AuditDurability.ASYNC, 100, 60000, 100);
+
+            for (int i = 0; i < 5; i++) {
+                writer.write(mock(AuditRecord.class));
+            }
+            writer.shutdown();
+
+            assertEquals(5, written.size());
+            assertEquals(0, writer.getMetrics().getBufferedRecords());
+        }
+
+        @Test
+        void shouldWriteSynchronouslyWhenBufferIsFull() throws InterruptedException {
+            CountDownLatch writerBlocked = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            doAnswer(
+                            invocation -> {
+                                if (Thread.currentThread().getName().equals("audit-writer")) {
+                                    writerBlocked.countDown();
+                                    release.await(5, TimeUnit.SECONDS);
+                                }
+                                return null;
+                            })
+                    .when(auditRecordRepository)
+                    .saveAll(anyList());
+            createWriter(AuditDurability.ASYNC, 1, 60000, 1);
+
+            writer.write(mock(AuditRecord.class));
+            assertTrue(writerBlocked.await(2, TimeUnit.SECONDS));
+            writer.write(mock(AuditRecord.class));
+            writer.write(mock(AuditRecord.class));
+
+            AuditWriterMetrics metrics = writer.getMetrics();
+            assertEquals(1, metrics.getSynchronousFallbackCount());
+            assertEquals(1, metrics.getBufferedRecords());
+
+            release.countDown();
+            writer.shutdown();
+            assertEquals(3, writer.getMetrics().getWrittenCount());
+        }
+
+        @Test
+        void shouldRetryFailedBatchOneRecordAtATime() {
+            AuditRecord poisoned = mock(AuditRecord.class);
+            doAnswer(
+                            invocation -> {
+                                List<AuditRecord> batch = invocation.getArgument(0);
+                                if (batch.contains(poisoned)) {
+                                    throw new IllegalStateException("Duplicate record");
+                                }
+                                return null;
+                            })
+                    .when(auditRecordRepository)
+                    .saveAll(anyList());
+            createWriter(AuditDurability.ASYNC, 3, 60000, 100);
+
+            writer.write(mock(AuditRecord.class));
+            writer.write(poisoned);
+            writer.write(mock(AuditRecord.class));
+            writer.shutdown();
+
+            AuditWriterMetrics metrics = writer.getMetrics();
+            assertEquals(2, metrics.getWrittenCount());
+            assertEquals(1, metrics.getFailedCount());
+        }
+    }
+}
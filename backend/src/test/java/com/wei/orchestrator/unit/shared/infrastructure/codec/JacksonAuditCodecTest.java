@@ -0,0 +1,220 @@
+package com.wei.orchestrator.unit.shared.infrastructure.codec;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wei.orchestrator.shared.domain.model.AuditRecord;
+import com.wei.orchestrator.shared.domain.model.valueobject.EventMetadata;
+import com.wei.orchestrator.shared.infrastructure.codec.AuditCodec;
+import com.wei.orchestrator.shared.infrastructure.codec.AuditCodecFormat;
+import com.wei.orchestrator.shared.infrastructure.codec.AuditCodecs;
+import com.wei.orchestrator.shared.infrastructure.codec.AuditCompression;
+import com.wei.orchestrator.shared.infrastructure.codec.JacksonAuditCodec;
+import com.wei.orchestrator.shared.infrastructure.json.AuditObjectMappers;
+import com.wei.orchestrator.shared.infrastructure.mapper.AuditRecordMapper;
+import com.wei.orchestrator.shared.infrastructure.persistence.AuditRecordEntity;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class JacksonAuditCodecTest {
+
+    private static final String PAYLOAD =
+            "{\"orderId\":\"ORDER-001\",\"lineItemIds\":[\"LINE-1\",\"LINE-2\"],"
+                    + "\"quantity\":3,\"price\":12.5,\"reason\":\"Stock déjà réservé\","
+                    + "\"occurredAt\":\"2025-01-01T08:00:00\",\"nested\":{\"flag\":true,"
+                    + "\"missing\":null}}";
+
+    private final ObjectMapper json = AuditObjectMappers.json();
+
+    @Nested
+    class roundTripTest {
+
+        @Test
+        void shouldRoundTripPayloadForEveryFormatAndCompression() throws Exception {
+            for (AuditCodecFormat format : AuditCodecFormat.values()) {
+                for (AuditCompression compression : AuditCompression.values()) {
+                    AuditCodec codec = new JacksonAuditCodec(format, compression, 0);
+
+                    byte[] encoded = codec.encodeJson(PAYLOAD);
+
+                    assertEquals(
+                            json.readTree(PAYLOAD),
+                            json.readTree(codec.decodeJson(encoded)),
+                            format + "/" + compression);
+                    assertEquals(
+                            json.readTree(PAYLOAD),
+                            json.readTree(
+                                    AuditCodecs.forEncoding(codec.getEncoding())
+                                            .decodeJson(encoded)),
+                            format + "/" + compression);
+                }
+            }
+        }
+
+        @Test
+        void shouldRoundTripEventMetadata() {
+            EventMetadata metadata =
+                    EventMetadata.of("Order Context", UUID.randomUUID(), "Scheduler", "job-1");
+            for (AuditCodecFormat format : AuditCodecFormat.values()) {
+                AuditCodec codec = new JacksonAuditCodec(format, AuditCompression.DEFLATE, 0);
+
+                EventMetadata decoded =
+                        codec.decodeValue(codec.encodeValue(metadata), EventMetadata.class);
+
+                assertEquals(metadata, decoded, format.name());
+            }
+        }
+
+        @Test
+        void shouldEncodeSmileSmallerThanJsonText() {
+            AuditCodec smile =
+                    new JacksonAuditCodec(AuditCodecFormat.SMILE, AuditCompression.NONE, 0);
+
+            assertTrue(
+                    smile.encodeJson(PAYLOAD).length
+                            < PAYLOAD.getBytes(StandardCharsets.UTF_8).length);
+        }
+
+        @Test
+        void shouldRejectUnknownEncoding() {
+            assertThrows(IllegalArgumentException.class, () -> AuditCodecs.forEncoding("avro"));
+        }
+    }
+
+    @Nested
+    class compressionTest {
+
+        @Test
+        void shouldCompressOnlyAboveThreshold() throws Exception {
+            String large = "{\"items\":[" + "\"SKU-000001\",".repeat(200) + "\"SKU-000001\"]}";
+            AuditCodec codec =
+                    new JacksonAuditCodec(AuditCodecFormat.SMILE, AuditCompression.DEFLATE, 256);
+            AuditCodec uncompressed =
+                    new JacksonAuditCodec(AuditCodecFormat.SMILE, AuditCompression.NONE, 0);
+
+            byte[] small = codec.encodeJson("{\"orderId\":\"ORDER-001\"}");
+            byte[] compressed = codec.encodeJson(large);
+
+            assertEquals(0, small[0]);
+            assertEquals(1, compressed[0]);
+            assertTrue(compressed.length < uncompressed.encodeJson(large).length);
+            assertEquals(json.readTree(large), json.readTree(decode(compressed)));
+        }
+
+        @Test
+        void shouldKeepRawBodyWhenCompressionDoesNotHelp() {
+            AuditCodec codec =
+                    new JacksonAuditCodec(AuditCodecFormat.CBOR, AuditCompression.DEFLATE, 0);
+
+            byte[] encoded = codec.encodeJson("{\"a\":1}");
+
+            assertEquals(0, encoded[0]);
+        }
+
+        private String decode(byte[] data) {
+            return AuditCodecs.forEncoding("smile").decodeJson(data);
+        }
+    }
+
+    @Nested
+    class mapperCompatibilityTest {
+
+        @Test
+        void shouldWriteBinaryColumnsOnly() {
+            AuditCodec codec =
+                    new JacksonAuditCodec(AuditCodecFormat.SMILE, AuditCompression.DEFLATE, 256);
+
+            AuditRecordEntity entity = AuditRecordMapper.toEntity(auditRecord(), codec);
+
+            assertEquals("smile", entity.getPayloadEncoding());
+            assertNotNull(entity.getPayloadData());
+            assertNotNull(entity.getMetadataData());
+            assertNull(entity.getPayload());
+            assertNull(entity.getEventMetadata());
+        }
+
+        @Test
+        void shouldReadBinaryRowsBackToDomain() throws Exception {
+            AuditRecord original = auditRecord();
+            AuditCodec codec =
+                    new JacksonAuditCodec(AuditCodecFormat.CBOR, AuditCompression.DEFLATE, 0);
+
+            AuditRecord restored =
+                    AuditRecordMapper.toDomain(AuditRecordMapper.toEntity(original, codec));
+
+            assertEquals(original.getEventMetadata(), restored.getEventMetadata());
+            assertEquals(
+                    json.readTree(original.getPayload()), json.readTree(restored.getPayload()));
+            assertEquals(original.getOrderId(), restored.getOrderId());
+        }
+
+        @Test
+        void shouldEncodePayloadValueWithoutRenderingJson() throws Exception {
+            Object payloadValue = json.readValue(PAYLOAD, Object.class);
+            LocalDateTime occurredAt = LocalDateTime.of(2025, 1, 1, 8, 0);
+            AuditRecord original =
+                    new AuditRecord(
+                            UUID.randomUUID(),
+                            "Order",
+                            "ORDER-001",
+                            "OrderReservedEvent",
+                            occurredAt,
+                            EventMetadata.of("Order Context", UUID.randomUUID(), "Scheduler"),
+                            () -> payloadValue,
+                            () -> {
+                                throw new AssertionError("Payload should not be rendered as JSON");
+                            },
+                            occurredAt.plusSeconds(1),
+                            "ORDER-001");
+            AuditCodec codec =
+                    new JacksonAuditCodec(AuditCodecFormat.SMILE, AuditCompression.DEFLATE, 0);
+
+            AuditRecord restored =
+                    AuditRecordMapper.toDomain(AuditRecordMapper.toEntity(original, codec));
+
+            assertEquals(payloadValue, restored.getPayloadValue());
+            assertEquals(json.readTree(PAYLOAD), json.readTree(restored.getPayload()));
+        }
+
+        @Test
+        void shouldReadLegacyJsonRows() {
+            UUID correlationId = UUID.randomUUID();
+            AuditRecordEntity legacy = new AuditRecordEntity();
+            legacy.setRecordId(UUID.randomUUID().toString());
+            legacy.setAggregateType("Order");
+            legacy.setAggregateId("ORDER-001");
+            legacy.setEventName("OrderReservedEvent");
+            legacy.setEventTimestamp(LocalDateTime.of(2025, 1, 1, 8, 0));
+            legacy.setEventMetadata(
+                    "{\n  \"context\" : \"Order Context\",\n  \"correlationId\" : \""
+                            + correlationId
+                            + "\",\n  \"triggerSource\" : \"Scheduler\"\n}");
+            legacy.setPayload("{\n  \"orderId\" : \"ORDER-001\"\n}");
+            legacy.setCreatedAt(LocalDateTime.of(2025, 1, 1, 8, 0, 1));
+
+            AuditRecord restored = AuditRecordMapper.toDomain(legacy);
+
+            assertEquals(correlationId, restored.getEventMetadata().getCorrelationId());
+            assertEquals("Order Context", restored.getEventMetadata().getContext());
+            assertEquals(legacy.getPayload(), restored.getPayload());
+            assertNull(restored.getPayloadValue());
+        }
+    }
+
+    private static AuditRecord auditRecord() {
+        LocalDateTime occurredAt = LocalDateTime.of(2025, 1, 1, 8, 0);
+        return new AuditRecord(
+                UUID.randomUUID(),
+                "Order",
+                "ORDER-001",
+                "OrderReservedEvent",
+                occurredAt,
+                EventMetadata.of("Order Context", UUID.randomUUID(), "Scheduler", "job-1"),
+                PAYLOAD,
+                occurredAt.plusSeconds(1),
+                "ORDER-001");
+    }
+}
@@ -0,0 +1,512 @@
+package com.wei.orchestrator.unit.shared.infrastructure.event;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.wei.orchestrator.shared.infrastructure.event.PartitionQueueMetrics;
+import com.wei.orchestrator.shared.infrastructure.event.PartitionedDomainEventDispatcher;
+import com.wei.orchestrator.shared.infrastructure.metrics.PipelineMeters;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class PartitionedDomainEventDispatcherTest {
+
+    private final PlatformTransactionManager transactionManager =
+            mock(PlatformTransactionManager.class);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private PartitionedDomainEventDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() {
+        if (dispatcher != null) {
+            dispatcher.shutdown();
+        }
+    }
+
+    @Nested
+    class asyncDispatchTest {
+
+        @Test
+        void shouldPreserveOrderWithinAggregate() throws InterruptedException {
+            dispatcher =
+                    new PartitionedDomainEventDispatcher(
+                            transactionManager, meterRegistry, true, 4, 100, 1000, 5000, 3, 10);
+            List<Integer> handled = new CopyOnWriteArrayList<>();
+            CountDownLatch done = new CountDownLatch(50);
+
+            for (int i = 0; i < 50; i++) {
+                int sequence = i;
+                dispatcher.dispatch(
+                        "ORDER-001",
+                        () -> {
+                            handled.add(sequence);
+                            done.countDown();
+                        });
+            }
+
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+            for (int i = 0; i < 50; i++) {
+                assertEquals(i, handled.get(i));
+            }
+        }
+
+        @Test
+        void shouldRunDifferentPartitionsInParallel() throws InterruptedException {
+            dispatcher =
+                    new PartitionedDomainEventDispatcher(
+                            transactionManager, meterRegistry, true, 4, 100, 1000, 5000, 3, 10);
+            String first = "ORDER-001";
+            String second = keyOnOtherPartition(first);
+            CountDownLatch bothStarted = new CountDownLatch(2);
+            CountDownLatch done = new CountDownLatch(2);
+
+            Runnable rendezvous =
+                    () -> {
+                        bothStarted.countDown();
+                        try {
+                            if (bothStarted.await(5, TimeUnit.SECONDS)) {
+                                done.countDown();
+                            }
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                    };
+            dispatcher.dispatch(first, rendezvous);
+            dispatcher.dispatch(second, rendezvous);
+
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+        }
+
+        @Test
+        void shouldKeepPartitionRunningAfterHandlerFailure() throws InterruptedException {
+            dispatcher =
+                    new PartitionedDomainEventDispatcher(
+                            transactionManager, meterRegistry, true, 2, 100, 1000, 5000, 3, 10);
+            CountDownLatch done = new CountDownLatch(1);
+
+            dispatcher.dispatch(
+                    "ORDER-001",
+                    () -> {
+                        throw new IllegalStateException("Order not found: ORDER-001");
+                    });
+            dispatcher.dispatch("ORDER-001", done::countDown);
+
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+            PartitionQueueMetrics metrics =
+                    dispatcher.getMetrics().get(dispatcher.partitionOf("ORDER-001"));
+            assertEquals(2, metrics.getDispatchedCount());
+            assertEquals(1, metrics.getFailedCount());
+            awaitCompleted(metrics.getPartition(), 2);
+        }
+
+        @Test
+        void shouldReportQueueDepthPerPartition() throws InterruptedException {
+            dispatcher =
+                    new PartitionedDomainEventDispatcher(
+                            transactionManager, meterRegistry, true, 2, 100, 1000, 5000, 3, 10);
+            CountDownLatch release = new CountDownLatch(1);
+            int partition = dispatcher.partitionOf("ORDER-001");
+
+            dispatcher.dispatch("ORDER-001", () -> awaitQuietly(release));
+            dispatcher.dispatch("ORDER-001", () -> {});
+            dispatcher.dispatch("ORDER-001", () -> {});
+
+            assertEquals(2, dispatcher.getMetrics().size());
+            assertTrue(dispatcher.getMetrics().get(partition).getQueueDepth() >= 1);
+            assertTrue(dispatcher.getMetrics().get(partition).getMaxQueueDepth() >= 1);
+
+            release.countDown();
+            awaitCompleted(partition, 3);
+            assertEquals(0, dispatcher.getMetrics().get(partition).getQueueDepth());
+        }
+
+        @Test
+        void shouldDeadLetterInsteadOfRunningInlineWhenOtherPartitionIsFull()
+                throws Exception {
+            dispatcher =
+                    new PartitionedDomainEventDispatcher(
+                            transactionManager, meterRegistry, true, 2, 1, 1000, 100, 3, 10);
+            String source = "ORDER-001";
+            String target = keyOnOtherPartition(source);
+            CountDownLatch release = new CountDownLatch(1);
+            List<String> handledOn = new CopyOnWriteArrayList<>();
+            CompletableFuture<CompletableFuture<Void>> handOff = new CompletableFuture<>();
+
+            dispatcher.dispatch(target, () -> awaitQuietly(release));
+            dispatcher.dispatch(target, () -> handledOn.add(Thread.currentThread().getName()));
+            dispatcher.dispatch(
+                    source,
+                    () ->
+                            handOff.complete(
+                                    dispatcher.dispatch(
+                                            target,
+                                            () ->
+                                                    handledOn.add(
+                                                            Thread.currentThread().getName()))));
+
+            CompletableFuture<Void> rejected = handOff.get(5, TimeUnit.SECONDS);
+            ExecutionException failure =
+                    assertThrows(ExecutionException.class, () -> rejected.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(RejectedExecutionException.class, failure.getCause());
+            assertTrue(handledOn.isEmpty());
+
+            release.countDown();
+            int partition = dispatcher.partitionOf(target);
+            awaitCompleted(partition, 2);
+            assertEquals(List.of("domain-event-" + partition), handledOn);
+            assertEquals(1, dispatcher.getMetrics().get(partition).getDeadLetteredCount());
+        }
+
+        @Test
+        void shouldDeadLetterWhenCallerWaitsTooLongForCapacity() {
+            dispatcher =
+                    new PartitionedDomainEventDispatcher(
+                            transactionManager, meterRegistry, true, 1, 1, 1000, 100, 3, 10);
+            CountDownLatch release = new CountDownLatch(1);
+
+            dispatcher.dispatch("ORDER-001", () -> awaitQuietly(release));
+            dispatcher.dispatch("ORDER-001", () -> {});
+            CompletableFuture<Void> rejected = dispatcher.dispatch("ORDER-001", () -> {});
+
+            assertTrue(rejected.isCompletedExceptionally());
+            release.countDown();
+        }
+
+        @Test
+        void shouldQueueOwnPartitionWorkBehindAlreadyQueuedEvents() throws InterruptedException {
+            dispatcher =
+                    new PartitionedDomainEventDispatcher(
+                            transactionManager, meterRegistry, true, 1, 1, 1000, 100, 3, 10);
+            CountDownLatch release = new CountDownLatch(1);
+            CountDownLatch done = new CountDownLatch(2);
+            List<String> handled = new CopyOnWriteArrayList<>();
+
+            dispatcher.dispatch(
+                    "ORDER-001",
+                    () -> {
+                        awaitQuietly(release);
+                        dispatcher.dispatch(
+                                "ORDER-001",
+                                () -> {
+                                    handled.add("raised");
+                                    done.countDown();
+                                });
+                    });
+            dispatcher.dispatch(
+                    "ORDER-001",
+                    () -> {
+                        handled.add("queued");
+                        done.countDown();
+                    });
+            release.countDown();
+
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+            assertEquals(List.of("queued", "raised"), handled);
+        }
+
+        @Test
+        void shouldRetryFailedHandlerInPlaceBeforeLaterEvents() throws Exception {
+            dispatcher =
+                    new PartitionedDomainEventDispatcher(
+                            transactionManager, meterRegistry, true, 1, 100, 1000, 100, 3, 10);
+            AtomicInteger attempts = new AtomicInteger();
+            List<String> handled = new CopyOnWriteArrayList<>();
+
+            CompletableFuture<Void> flaky =
+                    dispatcher.dispatch(
+                            "ORDER-001",
+                            () -> {
+                                if (attempts.incrementAndGet() == 1) {
+                                    throw new IllegalStateException("Deadlock detected");
+                                }
+                                handled.add("flaky");
+                            });
+            CompletableFuture<Void> next =
+                    dispatcher.dispatch("ORDER-001", () -> handled.add("next"));
+
+            flaky.get(5, TimeUnit.SECONDS);
+            next.get(5, TimeUnit.SECONDS);
+            assertEquals(2, attempts.get());
+            assertEquals(List.of("flaky", "next"), handled);
+            assertEquals(0, dispatcher.getMetrics().get(0).getFailedCount());
+        }
+
+        @Test
+        void shouldDeadLetterHandlerAfterMaxAttempts() {
+            dispatcher =
+                    new PartitionedDomainEventDispatcher(
+                            transactionManager, meterRegistry, true, 1, 100, 1000, 100, 2, 10);
+            AtomicInteger attempts = new AtomicInteger();
+
+            CompletableFuture<Void> failing =
+                    dispatcher.dispatch(
+                            "ORDER-001",
+                            () -> {
+                                attempts.incrementAndGet();
+                                throw new IllegalStateException("Order not found: ORDER-001");
+                            });
+
+            ExecutionException failure =
+                    assertThrows(ExecutionException.class, () -> failing.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(IllegalStateException.class, failure.getCause());
+            assertEquals(2, attempts.get());
+            assertEquals(1, dispatcher.getMetrics().get(0).getDeadLetteredCount());
+        }
+    }
+
+    @Nested
+    class captureTest {
+
+        @Test
+        void shouldCompleteCaptureOnlyAfterPartitionHandlersFinish() throws Exception {
+            dispatcher =
+                    new PartitionedDomainEventDispatcher(
+                            transactionManager, meterRegistry, true, 4, 100, 1000, 5000, 3, 10);
+            String first = "ORDER-001";
+            String second = keyOnOtherPartition(first);
+            Thread caller = Thread.currentThread();
+            List<Thread> handledOn = new CopyOnWriteArrayList<>();
+            CountDownLatch release = new CountDownLatch(1);
+
+            CompletableFuture<Void> captured =
+                    dispatcher.capture(
+                            () -> {
+                                dispatcher.dispatch(
+                                        first,
+                                        () -> {
+                                            awaitQuietly(release);
+                                            handledOn.add(Thread.currentThread());
+                                        });
+                                dispatcher.dispatch(
+                                        second, () -> handledOn.add(Thread.currentThread()));
+                            },
+                            (handlerId, handler) -> handler);
+
+            assertFalse(captured.isDone());
+            release.countDown();
+            captured.get(5, TimeUnit.SECONDS);
+            assertEquals(2, handledOn.size());
+            assertFalse(handledOn.contains(caller));
+        }
+
+        @Test
+        void shouldFailCaptureWhenAnyPartitionHandlerIsDeadLettered() {
+            dispatcher =
+                    new PartitionedDomainEventDispatcher(
+                            transactionManager, meterRegistry, true, 4, 100, 1000, 5000, 1, 10);
+
+            CompletableFuture<Void> captured =
+                    dispatcher.capture(
+                            () -> {
+                                dispatcher.dispatch("ORDER-001", () -> {});
+                                dispatcher.dispatch(
+                                        "ORDER-002",
+                                        () -> {
+                                            throw new IllegalStateException("WES unavailable");
+                                        });
+                            },
+                            (handlerId, handler) -> handler);
+
+            ExecutionException failure =
+                    assertThrows(
+                            ExecutionException.class, () -> captured.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(IllegalStateException.class, failure.getCause());
+        }
+
+        @Test
+        void shouldDecorateCapturedHandlersWithPerClassOccurrenceIds() throws Exception {
+            dispatcher =
+                    new PartitionedDomainEventDispatcher(
+                            transactionManager, meterRegistry, true, 4, 100, 1000, 5000, 3, 10);
+            List<String> handlerIds = new CopyOnWriteArrayList<>();
+            List<String> handled = new CopyOnWriteArrayList<>();
+
+            dispatcher
+                    .capture(
+                            () -> {
+                                dispatcher.dispatch("ORDER-001", () -> handled.add("first"));
+                                dispatcher.dispatch("ORDER-001", () -> handled.add("second"));
+                            },
+                            (handlerId, handler) -> {
+                                handlerIds.add(handlerId);
+                                return () -> {
+                                    handled.add(handlerId);
+                                    handler.run();
+                                };
+                            })
+                    .get(5, TimeUnit.SECONDS);
+
+            String handlerClass = getClass().getName();
+            assertEquals(List.of(handlerClass + "#0", handlerClass + "#1"), handlerIds);
+            assertEquals(
+                    List.of(handlerClass + "#0", "first", handlerClass + "#1", "second"), handled);
+        }
+
+        @Test
+        void shouldNotCaptureDispatchesOutsideThePublication() throws Exception {
+            dispatcher =
+                    new PartitionedDomainEventDispatcher(
+                            transactionManager, meterRegistry, true, 4, 100, 1000, 5000, 3, 10);
+            CountDownLatch release = new CountDownLatch(1);
+
+            CompletableFuture<Void> captured =
+                    dispatcher.capture(() -> {}, (handlerId, handler) -> handler);
+            CompletableFuture<Void> outside =
+                    dispatcher.dispatch("ORDER-001", () -> awaitQuietly(release));
+
+            captured.get(5, TimeUnit.SECONDS);
+            assertFalse(outside.isDone());
+            release.countDown();
+            outside.get(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Nested
+    class inlineDispatchTest {
+
+        @Test
+        void shouldRunOnCallerThreadWhenAsyncIsDisabled() {
+            dispatcher =
+                    new PartitionedDomainEventDispatcher(
+                            transactionManager, meterRegistry, false, 4, 100, 1000, 5000, 3, 10);
+            Thread caller = Thread.currentThread();
+            List<Thread> handledOn = new CopyOnWriteArrayList<>();
+
+            dispatcher.dispatch("ORDER-001", () -> handledOn.add(Thread.currentThread()));
+
+            assertEquals(List.of(caller), handledOn);
+            assertTrue(dispatcher.getMetrics().isEmpty());
+            verify(transactionManager).getTransaction(any());
+        }
+
+        @Test
+        void shouldReturnFailedCaptureWhenHandlerFailsInline() {
+            dispatcher =
+                    new PartitionedDomainEventDispatcher(
+                            transactionManager, meterRegistry, false, 4, 100, 1000, 5000, 3, 10);
+
+            CompletableFuture<Void> captured =
+                    dispatcher.capture(
+                            () ->
+                                    dispatcher.dispatch(
+                                            "ORDER-001",
+                                            () -> {
+                                                throw new IllegalStateException(
+                                                        "Order not found: ORDER-001");
+                                            }),
+                            (handlerId, handler) -> handler);
+
+            ExecutionException failure = assertThrows(ExecutionException.class, captured::get);
+            assertInstanceOf(IllegalStateException.class, failure.getCause());
+        }
+
+        @Test
+        void shouldPropagateHandlerFailureWhenAsyncIsDisabled() {
+            dispatcher =
+                    new PartitionedDomainEventDispatcher(
+                            transactionManager, meterRegistry, false, 4, 100, 1000, 5000, 3, 10);
+
+            assertThrows(
+                    IllegalStateException.class,
+                    () ->
+                            dispatcher.dispatch(
+                                    "ORDER-001",
+                                    () -> {
+                                        throw new IllegalStateException("Order not found");
+                                    }));
+        }
+
+        @Test
+        void shouldTimeHandlerExecutionByOutcome() {
+            dispatcher =
+                    new PartitionedDomainEventDispatcher(
+                            transactionManager, meterRegistry, false, 4, 100, 1000, 5000, 3, 10);
+
+            dispatcher.dispatch("ORDER-001", () -> {});
+            assertThrows(
+                    IllegalStateException.class,
+                    () ->
+                            dispatcher.dispatch(
+                                    "ORDER-002",
+                                    () -> {
+                                        throw new IllegalStateException("Order not found");
+                                    }));
+
+            String handler = "PartitionedDomainEventDispatcherTest$inlineDispatchTest";
+            assertEquals(
+                    1,
+                    meterRegistry
+                            .get(PipelineMeters.EVENT_DISPATCH)
+                            .tag("handler", handler)
+                            .tag(PipelineMeters.TAG_OUTCOME, PipelineMeters.SUCCESS)
+                            .timer()
+                            .count());
+            assertEquals(
+                    1,
+                    meterRegistry
+                            .get(PipelineMeters.EVENT_DISPATCH)
+                            .tag(PipelineMeters.TAG_OUTCOME, PipelineMeters.FAILURE)
+                            .tag(PipelineMeters.TAG_EXCEPTION, "IllegalStateException")
+                            .timer()
+                            .count());
+        }
+    }
+
+    @Test
+    void shouldRejectNonPositivePartitionCount() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () ->
+                        new PartitionedDomainEventDispatcher(
+                                transactionManager,
+                                meterRegistry,
+                                true,
+                                0,
+                                100,
+                                1000,
+                                5000,
+                                3,
+                                10));
+    }
+
+    private String keyOnOtherPartition(String key) {
+        int partition = dispatcher.partitionOf(key);
+        for (int i = 0; ; i++) {
+            String candidate = "ORDER-" + i;
+            if (dispatcher.partitionOf(candidate) != partition) {
+                return candidate;
+            }
+        }
+    }
+
+    private void awaitCompleted(int partition, long expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (dispatcher.getMetrics().get(partition).getCompletedCount()
+                        + dispatcher.getMetrics().get(partition).getFailedCount()
+                < expected) {
+            assertTrue(System.nanoTime() < deadline, "Partition did not drain in time");
+            Thread.sleep(10);
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
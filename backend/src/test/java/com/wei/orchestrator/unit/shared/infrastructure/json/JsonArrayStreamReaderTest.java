@@ -0,0 +1,123 @@
+package com.wei.orchestrator.unit.shared.infrastructure.json;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.wei.orchestrator.shared.infrastructure.json.JsonArrayStreamReader;
+import com.wei.orchestrator.wes.infrastructure.adapter.dto.WesInventoryDto;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class JsonArrayStreamReaderTest {
+
+    private final JsonArrayStreamReader<WesInventoryDto> reader =
+            new JsonArrayStreamReader<>(WesInventoryDto.class, "inventory");
+
+    @Test
+    void shouldStreamArrayElementsAndCollectScalarFields() throws IOException {
+        String json =
+                "{\"count\":2,\"meta\":{\"page\":1},\"inventory\":["
+                        + "{\"SKU\":\"SKU-001\",\"WAREHOUSE_ID\":\"WH001\",\"QUANTITY\":5},"
+                        + "null,"
+                        + "{\"SKU\":\"SKU-002\",\"WAREHOUSE_ID\":\"WH001\",\"QUANTITY\":7,"
+                        + "\"UNKNOWN\":[1,2,3]}],\"warehouse_id\":\"WH001\"}";
+        List<WesInventoryDto> streamed = new ArrayList<>();
+
+        JsonArrayStreamReader.Envelope envelope = reader.read(toStream(json), streamed::add);
+
+        assertEquals(2, envelope.getElementCount());
+        assertTrue(envelope.isArrayPresent());
+        assertEquals("2", envelope.getField("count"));
+        assertEquals("WH001", envelope.getField("warehouse_id"));
+        assertNull(envelope.getField("meta"));
+        assertEquals("SKU-001", streamed.get(0).getSku());
+        assertEquals(7, streamed.get(1).getQuantity());
+    }
+
+    @Test
+    void shouldReportMissingArray() throws IOException {
+        List<WesInventoryDto> streamed = new ArrayList<>();
+
+        JsonArrayStreamReader.Envelope envelope =
+                reader.read(toStream("{\"inventory\":null}"), streamed::add);
+
+        assertFalse(envelope.isArrayPresent());
+        assertEquals(0, envelope.getElementCount());
+        assertTrue(streamed.isEmpty());
+    }
+
+    @Test
+    void shouldReturnEmptyEnvelopeForEmptyBody() throws IOException {
+        JsonArrayStreamReader.Envelope envelope = reader.read(toStream(""), dto -> {});
+
+        assertFalse(envelope.isArrayPresent());
+        assertEquals(0, envelope.getElementCount());
+    }
+
+    @Test
+    void shouldRejectNonObjectBody() {
+        assertThrows(IOException.class, () -> reader.read(toStream("[]"), dto -> {}));
+    }
+
+    @Test
+    void shouldStreamElementsBeforeTrailingSuccessFlagAndReportItsOutcome() throws IOException {
+        JsonArrayStreamReader<WesInventoryDto> guarded =
+                new JsonArrayStreamReader<>(WesInventoryDto.class, "inventory", "success");
+        String json =
+                "{\"inventory\":[{\"SKU\":\"SKU-001\",\"WAREHOUSE_ID\":\"WH001\","
+                        + "\"QUANTITY\":5}],\"success\":";
+        List<WesInventoryDto> streamedBeforeFailure = new ArrayList<>();
+        List<WesInventoryDto> accepted = new ArrayList<>();
+
+        JsonArrayStreamReader.Envelope failed =
+                guarded.read(toStream(json + "false}"), streamedBeforeFailure::add);
+        JsonArrayStreamReader.Envelope succeeded =
+                guarded.read(toStream(json + "true}"), accepted::add);
+
+        assertFalse(failed.isSuccessful());
+        assertEquals(1, failed.getElementCount());
+        assertEquals(1, streamedBeforeFailure.size());
+        assertTrue(succeeded.isSuccessful());
+        assertEquals(1, succeeded.getElementCount());
+        assertEquals("SKU-001", accepted.get(0).getSku());
+    }
+
+    @Test
+    void shouldReportFailureWhenSuccessFlagIsMissing() throws IOException {
+        JsonArrayStreamReader<WesInventoryDto> guarded =
+                new JsonArrayStreamReader<>(WesInventoryDto.class, "inventory", "success");
+
+        JsonArrayStreamReader.Envelope envelope =
+                guarded.read(toStream("{\"inventory\":[{\"SKU\":\"SKU-001\"}]}"), dto -> {});
+
+        assertFalse(envelope.isSuccessful());
+        assertTrue(envelope.isArrayPresent());
+    }
+
+    @Test
+    void shouldSkipElementsWhenLeadingSuccessFlagIsFalse() throws IOException {
+        JsonArrayStreamReader<WesInventoryDto> guarded =
+                new JsonArrayStreamReader<>(WesInventoryDto.class, "inventory", "success");
+        List<WesInventoryDto> streamed = new ArrayList<>();
+
+        JsonArrayStreamReader.Envelope envelope =
+                guarded.read(
+                        toStream(
+                                "{\"success\":false,\"inventory\":[{\"SKU\":\"SKU-001\"}],"
+                                        + "\"message\":\"stale\"}"),
+                        streamed::add);
+
+        assertFalse(envelope.isSuccessful());
+        assertTrue(envelope.isArrayPresent());
+        assertEquals("stale", envelope.getField("message"));
+        assertTrue(streamed.isEmpty());
+    }
+
+    private InputStream toStream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,125 @@
+package com.wei.orchestrator.unit.shared.infrastructure.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.wei.orchestrator.shared.infrastructure.metrics.ConnectionPoolMetrics;
+import com.wei.orchestrator.shared.infrastructure.metrics.ConnectionPoolMetricsRecorder;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.PoolStats;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+class ConnectionPoolMetricsRecorderTest {
+
+    private final ConnectionPoolMetricsRecorder recorder = new ConnectionPoolMetricsRecorder();
+
+    @Test
+    void shouldAggregateWaitAndUsageTimes() {
+        IMetricsTracker tracker = recorder.create("orchestrator-pool", fixedPoolStats(3, 7, 2));
+
+        tracker.recordConnectionAcquiredNanos(2_000_000L);
+        tracker.recordConnectionAcquiredNanos(6_000_000L);
+        tracker.recordConnectionUsageMillis(10L);
+        tracker.recordConnectionUsageMillis(30L);
+        tracker.recordConnectionTimeout();
+
+        ConnectionPoolMetrics metrics = recorder.getMetrics("orchestrator-pool").orElseThrow();
+
+        assertEquals(2, metrics.getAcquisitionCount());
+        assertEquals(4.0, metrics.getAverageWaitMillis(), 0.0001);
+        assertEquals(6.0, metrics.getMaxWaitMillis(), 0.0001);
+        assertEquals(2, metrics.getUsageCount());
+        assertEquals(20.0, metrics.getAverageUsageMillis(), 0.0001);
+        assertEquals(30L, metrics.getMaxUsageMillis());
+        assertEquals(1, metrics.getTimeoutCount());
+        assertEquals(3, metrics.getActiveConnections());
+        assertEquals(7, metrics.getIdleConnections());
+        assertEquals(10, metrics.getTotalConnections());
+        assertEquals(2, metrics.getThreadsAwaitingConnection());
+    }
+
+    @Test
+    void shouldReportZeroAveragesBeforeAnyAcquisition() {
+        recorder.create("idle-pool", fixedPoolStats(0, 0, 0));
+
+        ConnectionPoolMetrics metrics = recorder.getMetrics("idle-pool").orElseThrow();
+
+        assertEquals(0, metrics.getAcquisitionCount());
+        assertEquals(0.0, metrics.getAverageWaitMillis());
+        assertEquals(0.0, metrics.getAverageUsageMillis());
+        assertEquals(1, recorder.getMetrics().size());
+    }
+
+    @Test
+    void shouldReturnEmptyForUnknownPool() {
+        assertTrue(recorder.getMetrics("unknown").isEmpty());
+    }
+
+    @Test
+    void shouldExposePoolsCreatedBeforeAndAfterBinding() {
+        recorder.create("orchestrator-pool", fixedPoolStats(3, 7, 2));
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        recorder.bindTo(meterRegistry);
+        IMetricsTracker tracker = recorder.create("order-source-1", fixedPoolStats(1, 0, 0));
+        tracker.recordConnectionTimeout();
+
+        assertEquals(
+                3.0,
+                meterRegistry
+                        .get("orchestrator.db.pool.active")
+                        .tag("pool", "orchestrator-pool")
+                        .gauge()
+                        .value());
+        assertEquals(
+                1.0,
+                meterRegistry
+                        .get("orchestrator.db.pool.timeouts")
+                        .tag("pool", "order-source-1")
+                        .functionCounter()
+                        .count());
+    }
+
+    @Test
+    void shouldKeepStandardHikariMetersAlongsidePoolMeters() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        recorder.bindTo(meterRegistry);
+        IMetricsTracker tracker = recorder.create("orchestrator-pool", fixedPoolStats(4, 1, 0));
+
+        tracker.recordConnectionAcquiredNanos(3_000_000L);
+        tracker.recordConnectionTimeout();
+
+        assertEquals(
+                4.0,
+                meterRegistry
+                        .get("hikaricp.connections.active")
+                        .tag("pool", "orchestrator-pool")
+                        .gauge()
+                        .value());
+        assertEquals(
+                1L,
+                meterRegistry
+                        .get("hikaricp.connections.acquire")
+                        .tag("pool", "orchestrator-pool")
+                        .timer()
+                        .count());
+        assertEquals(
+                1.0,
+                meterRegistry
+                        .get("hikaricp.connections.timeout")
+                        .tag("pool", "orchestrator-pool")
+                        .counter()
+                        .count());
+    }
+
+    private PoolStats fixedPoolStats(int active, int idle, int pending) {
+        return new PoolStats(0L) {
+            @Override
+            protected void update() {
+                this.activeConnections = active;
+                this.idleConnections = idle;
+                this.totalConnections = active + idle;
+                this.pendingThreads = pending;
+            }
+        };
+    }
+}
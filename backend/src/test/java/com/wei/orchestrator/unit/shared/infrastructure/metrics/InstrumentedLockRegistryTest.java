@@ -0,0 +1,97 @@
+package com.wei.orchestrator.unit.shared.infrastructure.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.wei.orchestrator.shared.infrastructure.metrics.InstrumentedLockRegistry;
+import com.wei.orchestrator.shared.infrastructure.metrics.PipelineMeters;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import org.junit.jupiter.api.Test;
+import org.springframework.integration.support.locks.DefaultLockRegistry;
+
+class InstrumentedLockRegistryTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final InstrumentedLockRegistry lockRegistry =
+            new InstrumentedLockRegistry(new DefaultLockRegistry(), meterRegistry);
+
+    @Test
+    void shouldShareUnderlyingLockAcrossObtainCalls() throws Exception {
+        Lock first = lockRegistry.obtain("order-observer-poll:observer-1");
+        Lock second = lockRegistry.obtain("order-observer-poll:observer-1");
+
+        assertNotSame(first, second);
+        first.lock();
+        try {
+            boolean acquiredElsewhere =
+                    CompletableFuture.supplyAsync(second::tryLock).get(1, TimeUnit.SECONDS);
+            assertFalse(acquiredElsewhere);
+        } finally {
+            first.unlock();
+        }
+    }
+
+    @Test
+    void shouldRecordWaitAndHoldTaggedByKeyPrefix() throws InterruptedException {
+        Lock lock = lockRegistry.obtain("order-observer-poll:observer-1");
+
+        assertTrue(lock.tryLock(1, TimeUnit.SECONDS));
+        lock.unlock();
+
+        assertEquals(
+                1,
+                meterRegistry
+                        .get(PipelineMeters.LOCK_WAIT)
+                        .tag("lock", "order-observer-poll")
+                        .tag(PipelineMeters.TAG_OUTCOME, "acquired")
+                        .timer()
+                        .count());
+        assertEquals(
+                1,
+                meterRegistry
+                        .get(PipelineMeters.LOCK_HELD)
+                        .tag("lock", "order-observer-poll")
+                        .timer()
+                        .count());
+    }
+
+    @Test
+    void shouldRecordContendedAttemptAsNotAcquired() throws Exception {
+        Lock lock = lockRegistry.obtain("order-fulfillment-initiation");
+        lock.lock();
+        try {
+            boolean acquiredElsewhere =
+                    CompletableFuture.supplyAsync(lock::tryLock).get(1, TimeUnit.SECONDS);
+            assertFalse(acquiredElsewhere);
+        } finally {
+            lock.unlock();
+        }
+
+        assertEquals(
+                1,
+                meterRegistry
+                        .get(PipelineMeters.LOCK_WAIT)
+                        .tag("lock", "order-fulfillment-initiation")
+                        .tag(PipelineMeters.TAG_OUTCOME, "not_acquired")
+                        .timer()
+                        .count());
+    }
+
+    @Test
+    void shouldStopHoldTimerOnlyAfterOutermostUnlock() {
+        Lock lock = lockRegistry.obtain("order-change-log");
+
+        lock.lock();
+        lock.lock();
+        lock.unlock();
+
+        assertTrue(meterRegistry.find(PipelineMeters.LOCK_HELD).timers().isEmpty());
+
+        lock.unlock();
+
+        assertEquals(1, meterRegistry.get(PipelineMeters.LOCK_HELD).timer().count());
+    }
+}
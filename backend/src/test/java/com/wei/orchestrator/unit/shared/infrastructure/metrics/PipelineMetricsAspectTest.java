@@ -0,0 +1,211 @@
+package com.wei.orchestrator.unit.shared.infrastructure.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.wei.orchestrator.shared.application.event.DomainEventDispatcher;
+import com.wei.orchestrator.shared.infrastructure.metrics.PipelineMeters;
+import com.wei.orchestrator.shared.infrastructure.metrics.PipelineMetricsAspect;
+import com.wei.orchestrator.wes.domain.model.valueobject.WesTaskId;
+import com.wei.orchestrator.wes.domain.port.WesPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+class PipelineMetricsAspectTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private <T> T instrument(T target) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.addAspect(new PipelineMetricsAspect(meterRegistry));
+        return factory.getProxy();
+    }
+
+    @Nested
+    class eventHandlerTest {
+
+        @Test
+        void shouldTimeSuccessfulHandlerByEventType() {
+            SampleHandler handler = instrument(new SampleHandler());
+
+            handler.onOrderEvent("ORDER-001");
+
+            assertEquals(
+                    1,
+                    meterRegistry
+                            .get(PipelineMeters.EVENT_HANDLER)
+                            .tag("handler", "SampleHandler.onOrderEvent")
+                            .tag("event", "String")
+                            .tag(PipelineMeters.TAG_OUTCOME, PipelineMeters.SUCCESS)
+                            .timer()
+                            .count());
+        }
+
+        @Test
+        void shouldTagFailedHandlerWithException() {
+            SampleHandler handler = instrument(new SampleHandler());
+
+            assertThrows(IllegalStateException.class, () -> handler.onOrderEvent(null));
+
+            assertEquals(
+                    1,
+                    meterRegistry
+                            .get(PipelineMeters.EVENT_HANDLER)
+                            .tag(PipelineMeters.TAG_OUTCOME, PipelineMeters.FAILURE)
+                            .tag(PipelineMeters.TAG_EXCEPTION, "IllegalStateException")
+                            .timer()
+                            .count());
+        }
+
+        @Test
+        void shouldTagHandlerThatOnlyDispatchesAsynchronously() {
+            DomainEventDispatcher dispatcher = mock(DomainEventDispatcher.class);
+            when(dispatcher.isAsync()).thenReturn(true);
+            DispatchingHandler handler = instrument(new DispatchingHandler(instrument(dispatcher)));
+
+            handler.onOrderEvent("ORDER-001");
+
+            assertEquals(
+                    1,
+                    meterRegistry
+                            .get(PipelineMeters.EVENT_HANDLER)
+                            .tag("handler", "DispatchingHandler.onOrderEvent")
+                            .tag(PipelineMeters.TAG_MODE, PipelineMeters.DISPATCHED)
+                            .timer()
+                            .count());
+        }
+
+        @Test
+        void shouldTagHandlerAsInlineWhenDispatcherRunsSynchronously() {
+            DomainEventDispatcher dispatcher = mock(DomainEventDispatcher.class);
+            DispatchingHandler handler = instrument(new DispatchingHandler(instrument(dispatcher)));
+
+            handler.onOrderEvent("ORDER-001");
+
+            assertEquals(
+                    1,
+                    meterRegistry
+                            .get(PipelineMeters.EVENT_HANDLER)
+                            .tag(PipelineMeters.TAG_MODE, PipelineMeters.INLINE)
+                            .timer()
+                            .count());
+        }
+    }
+
+    @Nested
+    class schedulerCycleTest {
+
+        @Test
+        void shouldTimeScheduledCycle() {
+            SampleHandler handler = instrument(new SampleHandler());
+
+            handler.cycle();
+            handler.cycle();
+
+            assertEquals(
+                    2,
+                    meterRegistry
+                            .get(PipelineMeters.SCHEDULER_CYCLE)
+                            .tag("scheduler", "SampleHandler.cycle")
+                            .timer()
+                            .count());
+        }
+
+        @Test
+        void shouldNotTimeUnannotatedMethods() {
+            SampleHandler handler = instrument(new SampleHandler());
+
+            handler.helper();
+
+            assertTrue(meterRegistry.getMeters().isEmpty());
+        }
+    }
+
+    @Nested
+    class portCallTest {
+
+        @Test
+        void shouldTimePortCallsByOperationAndOutcome() {
+            WesPort wesPort = mock(WesPort.class);
+            doThrow(new IllegalArgumentException("Unknown task"))
+                    .when(wesPort)
+                    .cancelTask(any());
+            WesPort instrumented = instrument(wesPort);
+
+            instrumented.pollAllTasks();
+            assertThrows(
+                    IllegalArgumentException.class,
+                    () -> instrumented.cancelTask(WesTaskId.of("TASK-001")));
+
+            assertEquals(
+                    1,
+                    meterRegistry
+                            .get(PipelineMeters.PORT_CALL)
+                            .tag("port", "WesPort")
+                            .tag("operation", "pollAllTasks")
+                            .tag(PipelineMeters.TAG_OUTCOME, PipelineMeters.SUCCESS)
+                            .timer()
+                            .count());
+            assertEquals(
+                    1,
+                    meterRegistry
+                            .get(PipelineMeters.PORT_CALL)
+                            .tag("operation", "cancelTask")
+                            .tag(PipelineMeters.TAG_OUTCOME, PipelineMeters.FAILURE)
+                            .tag(PipelineMeters.TAG_EXCEPTION, "IllegalArgumentException")
+                            .timer()
+                            .count());
+        }
+
+        @Test
+        void shouldNotTimeDelegationToAnotherAdapterOfTheSamePort() {
+            WesPort delegate = instrument(mock(WesPort.class));
+            WesPort outer = mock(WesPort.class);
+            when(outer.pollAllTasks()).thenAnswer(invocation -> delegate.pollAllTasks());
+            WesPort instrumented = instrument(outer);
+
+            instrumented.pollAllTasks();
+            instrumented.pollAllTasks();
+
+            assertEquals(
+                    2,
+                    meterRegistry
+                            .get(PipelineMeters.PORT_CALL)
+                            .tag("operation", "pollAllTasks")
+                            .timer()
+                            .count());
+        }
+    }
+
+    public static class DispatchingHandler {
+        private final DomainEventDispatcher dispatcher;
+
+        public DispatchingHandler(DomainEventDispatcher dispatcher) {
+            this.dispatcher = dispatcher;
+        }
+
+        @TransactionalEventListener
+        public void onOrderEvent(String orderId) {
+            dispatcher.dispatch(orderId, () -> {});
+        }
+    }
+
+    public static class SampleHandler {
+
+        @TransactionalEventListener
+        public void onOrderEvent(String orderId) {
+            if (orderId == null) {
+                throw new IllegalStateException("Order id is required");
+            }
+        }
+
+        @Scheduled(fixedDelay = 1000)
+        public void cycle() {}
+
+        public void helper() {}
+    }
+}
@@ -0,0 +1,93 @@
+package com.wei.orchestrator.unit.shared.infrastructure.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+import com.wei.orchestrator.shared.infrastructure.repository.AuditIndexBackfillChunk;
+import com.wei.orchestrator.shared.infrastructure.repository.AuditIndexBackfillRepository;
+import com.wei.orchestrator.shared.infrastructure.scheduler.AuditIndexBackfillWorker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class AuditIndexBackfillWorkerTest {
+
+    private static final int CHUNK_SIZE = 2;
+    private static final int MAX_CHUNKS_PER_CYCLE = 2;
+
+    @Mock private AuditIndexBackfillRepository backfillRepository;
+
+    private AuditIndexBackfillWorker backfillWorker;
+
+    @BeforeEach
+    void setUp() {
+        backfillWorker =
+                new AuditIndexBackfillWorker(backfillRepository, CHUNK_SIZE, MAX_CHUNKS_PER_CYCLE);
+    }
+
+    @Test
+    void shouldResumeFromCursorOfPreviousCycle() {
+        when(backfillRepository.backfillChunk(null, CHUNK_SIZE))
+                .thenReturn(new AuditIndexBackfillChunk(2, 2, "record-2"));
+        when(backfillRepository.backfillChunk("record-2", CHUNK_SIZE))
+                .thenReturn(new AuditIndexBackfillChunk(2, 2, "record-4"));
+        when(backfillRepository.backfillChunk("record-4", CHUNK_SIZE))
+                .thenReturn(new AuditIndexBackfillChunk(1, 1, "record-5"));
+
+        backfillWorker.backfill();
+
+        assertFalse(backfillWorker.isCompleted());
+        assertEquals(4, backfillWorker.getBackfilledCount());
+        verify(backfillRepository, never()).backfillChunk("record-4", CHUNK_SIZE);
+
+        backfillWorker.backfill();
+
+        assertTrue(backfillWorker.isCompleted());
+        assertEquals(5, backfillWorker.getBackfilledCount());
+    }
+
+    @Test
+    void shouldStopQueryingOnceCompleted() {
+        when(backfillRepository.backfillChunk(null, CHUNK_SIZE))
+                .thenReturn(new AuditIndexBackfillChunk(0, 0, null));
+
+        backfillWorker.backfill();
+        backfillWorker.backfill();
+
+        assertTrue(backfillWorker.isCompleted());
+        verify(backfillRepository, times(1)).backfillChunk(any(), anyInt());
+    }
+
+    @Test
+    void shouldAdvancePastRowsThatCannotBeResolved() {
+        when(backfillRepository.backfillChunk(null, CHUNK_SIZE))
+                .thenReturn(new AuditIndexBackfillChunk(2, 1, "record-2"));
+        when(backfillRepository.backfillChunk("record-2", CHUNK_SIZE))
+                .thenReturn(new AuditIndexBackfillChunk(0, 0, "record-2"));
+
+        backfillWorker.backfill();
+
+        assertTrue(backfillWorker.isCompleted());
+        assertEquals(1, backfillWorker.getBackfilledCount());
+    }
+
+    @Test
+    void shouldRetryFailedChunkNextCycle() {
+        when(backfillRepository.backfillChunk(null, CHUNK_SIZE))
+                .thenThrow(new IllegalStateException("Database unavailable"))
+                .thenReturn(new AuditIndexBackfillChunk(1, 1, "record-1"));
+
+        assertDoesNotThrow(() -> backfillWorker.backfill());
+        assertFalse(backfillWorker.isCompleted());
+
+        backfillWorker.backfill();
+
+        assertTrue(backfillWorker.isCompleted());
+        assertEquals(1, backfillWorker.getBackfilledCount());
+    }
+}
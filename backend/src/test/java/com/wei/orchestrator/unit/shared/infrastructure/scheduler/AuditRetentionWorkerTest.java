@@ -0,0 +1,174 @@
+package com.wei.orchestrator.unit.shared.infrastructure.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.wei.orchestrator.shared.domain.model.AuditRecord;
+import com.wei.orchestrator.shared.domain.model.valueobject.EventMetadata;
+import com.wei.orchestrator.shared.infrastructure.archive.AuditArchive;
+import com.wei.orchestrator.shared.infrastructure.archive.AuditArchivePeriod;
+import com.wei.orchestrator.shared.infrastructure.codec.AuditCodec;
+import com.wei.orchestrator.shared.infrastructure.codec.AuditCodecFormat;
+import com.wei.orchestrator.shared.infrastructure.codec.AuditCompression;
+import com.wei.orchestrator.shared.infrastructure.codec.JacksonAuditCodec;
+import com.wei.orchestrator.shared.infrastructure.mapper.AuditRecordMapper;
+import com.wei.orchestrator.shared.infrastructure.persistence.AuditRecordEntity;
+import com.wei.orchestrator.shared.infrastructure.repository.JpaAuditRecordRepository;
+import com.wei.orchestrator.shared.infrastructure.scheduler.AuditRetentionWorker;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.integration.support.locks.DefaultLockRegistry;
+import org.springframework.integration.support.locks.LockRegistry;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class AuditRetentionWorkerTest {
+
+    private static final int RETENTION_DAYS = 30;
+    private static final int PAGE_SIZE = 2;
+    private static final AuditCodec AUDIT_CODEC =
+            new JacksonAuditCodec(AuditCodecFormat.SMILE, AuditCompression.DEFLATE, 256);
+
+    @Mock private JpaAuditRecordRepository jpaAuditRecordRepository;
+
+    @Mock private PlatformTransactionManager transactionManager;
+
+    @Mock private LockRegistry contendedLockRegistry;
+
+    @Mock private Lock contendedLock;
+
+    @TempDir Path directory;
+
+    private AuditArchive auditArchive;
+
+    private final LocalDate expiredDay = LocalDate.now().minusDays(RETENTION_DAYS + 10);
+
+    @BeforeEach
+    void setUp() throws IOException {
+        auditArchive = new AuditArchive(directory.toString(), 16, true);
+        auditArchive.loadSegments();
+    }
+
+    @Test
+    void shouldArchiveExpiredPeriodsAndDeleteArchivedRows() {
+        LocalDateTime start = expiredDay.atStartOfDay();
+        LocalDateTime end = start.plusDays(1);
+        AuditRecordEntity first = entity("ORDER-1", start.plusHours(1));
+        AuditRecordEntity second = entity("ORDER-1", start.plusHours(2));
+        AuditRecordEntity third = entity("ORDER-2", start.plusHours(3));
+        when(jpaAuditRecordRepository.findOldestEventTimestamp())
+                .thenReturn(start.plusHours(1), LocalDateTime.now());
+        when(jpaAuditRecordRepository.findArchivable(start, end, PageRequest.of(0, PAGE_SIZE)))
+                .thenReturn(List.of(first, second));
+        when(jpaAuditRecordRepository.findArchivableAfter(
+                        start, end, second.getRecordId(), PageRequest.of(0, PAGE_SIZE)))
+                .thenReturn(List.of(third));
+
+        worker(true).archiveExpired();
+
+        verify(jpaAuditRecordRepository)
+                .deleteByRecordIds(
+                        List.of(first.getRecordId(), second.getRecordId(), third.getRecordId()));
+        assertEquals(3, auditArchive.getArchivedRecordCount());
+        assertEquals(2, auditArchive.findByOrderId("ORDER-1").size());
+    }
+
+    @Test
+    void shouldStopAtRetentionCutoff() {
+        when(jpaAuditRecordRepository.findOldestEventTimestamp())
+                .thenReturn(LocalDateTime.now().minusDays(RETENTION_DAYS - 1));
+
+        worker(true).archiveExpired();
+
+        verify(jpaAuditRecordRepository, never()).findArchivable(any(), any(), any());
+        assertEquals(0, auditArchive.getSegmentCount());
+    }
+
+    @Test
+    void shouldKeepRowsWhenSegmentCannotBeWritten() {
+        LocalDateTime start = expiredDay.atStartOfDay();
+        AuditRecordEntity outsidePeriod = entity("ORDER-1", start.plusDays(3));
+        when(jpaAuditRecordRepository.findOldestEventTimestamp()).thenReturn(start);
+        when(jpaAuditRecordRepository.findArchivable(eq(start), eq(start.plusDays(1)), any()))
+                .thenReturn(List.of(outsidePeriod));
+
+        worker(true).archiveExpired();
+
+        verify(jpaAuditRecordRepository, never()).deleteByRecordIds(anyCollection());
+        assertEquals(0, auditArchive.getSegmentCount());
+    }
+
+    @Test
+    void shouldDoNothingWhenDisabled() {
+        worker(false).archiveExpired();
+
+        verifyNoInteractions(jpaAuditRecordRepository);
+    }
+
+    @Test
+    void shouldSkipCycleWhenAnotherNodeHoldsTheLock() throws InterruptedException {
+        when(contendedLockRegistry.obtain("audit-retention")).thenReturn(contendedLock);
+        when(contendedLock.tryLock(1, TimeUnit.SECONDS)).thenReturn(false);
+
+        worker(true, contendedLockRegistry).archiveExpired();
+
+        verifyNoInteractions(jpaAuditRecordRepository);
+        verify(contendedLock, never()).unlock();
+    }
+
+    @Test
+    void shouldRejectEnabledRetentionOnNodeLocalArchive() {
+        auditArchive = new AuditArchive(directory.toString(), 16, false);
+
+        assertThrows(IllegalStateException.class, () -> worker(true));
+        assertDoesNotThrow(() -> worker(false));
+    }
+
+    private AuditRetentionWorker worker(boolean enabled) {
+        return worker(enabled, new DefaultLockRegistry());
+    }
+
+    private AuditRetentionWorker worker(boolean enabled, LockRegistry lockRegistry) {
+        return new AuditRetentionWorker(
+                jpaAuditRecordRepository,
+                auditArchive,
+                transactionManager,
+                lockRegistry,
+                enabled,
+                RETENTION_DAYS,
+                AuditArchivePeriod.DAY,
+                PAGE_SIZE,
+                3);
+    }
+
+    private static AuditRecordEntity entity(String orderId, LocalDateTime eventTimestamp) {
+        return AuditRecordMapper.toEntity(
+                new AuditRecord(
+                        UUID.randomUUID(),
+                        "Order",
+                        orderId,
+                        "OrderScheduledEvent",
+                        eventTimestamp,
+                        EventMetadata.of("Order Context", UUID.randomUUID(), "Scheduler"),
+                        "{}",
+                        eventTimestamp,
+                        orderId),
+                AUDIT_CODEC);
+    }
+}
@@ -0,0 +1,229 @@
+package com.wei.orchestrator.unit.shared.infrastructure.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.endsWith;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.wei.orchestrator.observation.infrastructure.scheduler.ObserverPartitioner;
+import com.wei.orchestrator.shared.application.OutboxApplicationService;
+import com.wei.orchestrator.shared.domain.model.OutboxMessage;
+import com.wei.orchestrator.shared.infrastructure.scheduler.OutboxRelayMetrics;
+import com.wei.orchestrator.shared.infrastructure.scheduler.OutboxRelayWorker;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayWorkerTest {
+
+    private static final int RELAY_WORKERS = 2;
+    private static final int BATCH_SIZE = 2;
+    private static final int MAX_BATCHES_PER_CYCLE = 3;
+
+    @Mock private OutboxApplicationService outboxApplicationService;
+    @Mock private ObserverPartitioner observerPartitioner;
+    @Mock private ExecutorService outboxRelayExecutor;
+
+    private OutboxRelayWorker outboxRelayWorker;
+
+    @BeforeEach
+    void setUp() {
+        outboxRelayWorker =
+                new OutboxRelayWorker(
+                        outboxApplicationService,
+                        observerPartitioner,
+                        outboxRelayExecutor,
+                        RELAY_WORKERS,
+                        BATCH_SIZE,
+                        MAX_BATCHES_PER_CYCLE,
+                        1000,
+                        60000);
+        lenient()
+                .doAnswer(
+                        invocation -> {
+                            invocation.<Runnable>getArgument(0).run();
+                            return null;
+                        })
+                .when(outboxRelayExecutor)
+                .execute(any());
+        lenient()
+                .when(outboxApplicationService.relayAll(any()))
+                .thenReturn(CompletableFuture.completedFuture(0));
+        lenient().when(observerPartitioner.getNodeId()).thenReturn("node-b");
+        lenient()
+                .when(observerPartitioner.getLiveNodeIds())
+                .thenReturn(List.of("node-a", "node-b"));
+    }
+
+    @Nested
+    class relayTest {
+
+        @Test
+        void shouldSkipClaimingWhenOutboxIsEmpty() {
+            when(outboxApplicationService.countOutstanding()).thenReturn(0L);
+
+            outboxRelayWorker.relay();
+
+            verify(outboxApplicationService).releaseStaleClaims(any());
+            verify(outboxApplicationService, never())
+                    .claimPending(anyInt(), anyInt(), anyInt(), anyString());
+            verifyNoInteractions(outboxRelayExecutor);
+        }
+
+        @Test
+        void shouldStartOneDrainPerRelayWorker() {
+            when(outboxApplicationService.countOutstanding()).thenReturn(1L);
+            when(outboxApplicationService.claimPending(
+                            eq(BATCH_SIZE), anyInt(), anyInt(), anyString()))
+                    .thenReturn(List.of(new OutboxMessage()));
+
+            outboxRelayWorker.relay();
+
+            verify(outboxRelayExecutor, times(RELAY_WORKERS)).execute(any());
+            verify(outboxApplicationService, times(RELAY_WORKERS))
+                    .claimPending(eq(BATCH_SIZE), anyInt(), anyInt(), anyString());
+            assertEquals(0, outboxRelayWorker.getMetrics().getActiveWorkers());
+        }
+
+        @Test
+        void shouldKeepClaimingFullBatchesUpToCycleLimit() {
+            when(outboxApplicationService.countOutstanding()).thenReturn(100L);
+            when(outboxApplicationService.claimPending(
+                            eq(BATCH_SIZE), anyInt(), anyInt(), anyString()))
+                    .thenReturn(List.of(new OutboxMessage(), new OutboxMessage()));
+
+            outboxRelayWorker.relay();
+
+            verify(outboxApplicationService, times(RELAY_WORKERS * MAX_BATCHES_PER_CYCLE))
+                    .relayAll(any());
+        }
+
+        @Test
+        void shouldUseDistinctClaimantPerDrain() {
+            when(outboxApplicationService.countOutstanding()).thenReturn(1L);
+            when(outboxApplicationService.claimPending(
+                            eq(BATCH_SIZE), anyInt(), anyInt(), anyString()))
+                    .thenReturn(Collections.emptyList());
+
+            outboxRelayWorker.relay();
+
+            verify(outboxApplicationService)
+                    .claimPending(eq(BATCH_SIZE), anyInt(), anyInt(), endsWith("-1"));
+            verify(outboxApplicationService)
+                    .claimPending(eq(BATCH_SIZE), anyInt(), anyInt(), endsWith("-2"));
+        }
+
+        @Test
+        void shouldGiveEachDrainItsOwnShardAcrossLiveNodes() {
+            when(outboxApplicationService.countOutstanding()).thenReturn(1L);
+            when(outboxApplicationService.claimPending(
+                            eq(BATCH_SIZE), anyInt(), anyInt(), anyString()))
+                    .thenReturn(Collections.emptyList());
+
+            outboxRelayWorker.relay();
+            outboxRelayWorker.relay();
+
+            verify(outboxApplicationService, times(2))
+                    .claimPending(eq(BATCH_SIZE), eq(2), eq(4), anyString());
+            verify(outboxApplicationService, times(2))
+                    .claimPending(eq(BATCH_SIZE), eq(3), eq(4), anyString());
+        }
+
+        @Test
+        void shouldClaimNodeLocalShardsBeforeJoiningMembership() {
+            when(observerPartitioner.getLiveNodeIds()).thenReturn(List.of("node-a"));
+            when(outboxApplicationService.countOutstanding()).thenReturn(1L);
+            when(outboxApplicationService.claimPending(
+                            eq(BATCH_SIZE), anyInt(), anyInt(), anyString()))
+                    .thenReturn(Collections.emptyList());
+
+            outboxRelayWorker.relay();
+
+            verify(outboxApplicationService)
+                    .claimPending(eq(BATCH_SIZE), eq(0), eq(RELAY_WORKERS), anyString());
+            verify(outboxApplicationService)
+                    .claimPending(eq(BATCH_SIZE), eq(1), eq(RELAY_WORKERS), anyString());
+        }
+
+        @Test
+        void shouldReleaseWorkerSlotWhenExecutorRejects() {
+            when(outboxApplicationService.countOutstanding()).thenReturn(1L);
+            doThrow(new RejectedExecutionException("full"))
+                    .when(outboxRelayExecutor)
+                    .execute(any());
+
+            outboxRelayWorker.relay();
+
+            assertEquals(0, outboxRelayWorker.getMetrics().getActiveWorkers());
+        }
+
+        @Test
+        void shouldReleaseWorkerSlotWhenDrainFails() {
+            when(outboxApplicationService.countOutstanding()).thenReturn(1L);
+            when(outboxApplicationService.claimPending(
+                            eq(BATCH_SIZE), anyInt(), anyInt(), anyString()))
+                    .thenThrow(new RuntimeException("database unavailable"));
+
+            outboxRelayWorker.relay();
+
+            assertEquals(0, outboxRelayWorker.getMetrics().getActiveWorkers());
+        }
+    }
+
+    @Nested
+    class getMetricsTest {
+
+        @Test
+        void shouldReportDepthAndRelayCounters() {
+            when(outboxApplicationService.countOutstanding()).thenReturn(0L);
+            when(outboxApplicationService.countFailed()).thenReturn(3L);
+            when(outboxApplicationService.getRelayedCount()).thenReturn(10L);
+            when(outboxApplicationService.getRetriedCount()).thenReturn(2L);
+            when(outboxApplicationService.getFailedCount()).thenReturn(1L);
+
+            outboxRelayWorker.relay();
+            OutboxRelayMetrics metrics = outboxRelayWorker.getMetrics();
+
+            assertEquals(0, metrics.getOutstanding());
+            assertEquals(3, metrics.getParked());
+            assertEquals(10, metrics.getRelayedCount());
+            assertEquals(2, metrics.getRetriedCount());
+            assertEquals(1, metrics.getFailedCount());
+        }
+    }
+
+    @Test
+    void shouldPurgeDispatchedMessagesOlderThanRetention() {
+        outboxRelayWorker.purge();
+
+        verify(outboxApplicationService).purgeDispatched(any());
+    }
+
+    @Test
+    void shouldRejectNonPositiveRelayWorkers() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () ->
+                        new OutboxRelayWorker(
+                                outboxApplicationService,
+                                observerPartitioner,
+                                outboxRelayExecutor,
+                                0,
+                                10,
+                                1,
+                                1000,
+                                1));
+    }
+}
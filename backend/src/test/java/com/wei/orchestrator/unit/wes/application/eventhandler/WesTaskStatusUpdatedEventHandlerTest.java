@@ -5,6 +5,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 import com.wei.orchestrator.observation.domain.event.WesTaskStatusUpdatedEvent;
+import com.wei.orchestrator.shared.application.event.DomainEventDispatcher;
 import com.wei.orchestrator.wes.application.PickingTaskApplicationService;
 import com.wei.orchestrator.wes.application.command.MarkTaskCanceledCommand;
 import com.wei.orchestrator.wes.application.command.MarkTaskCompletedCommand;
@@ -18,6 +19,7 @@ import com.wei.orchestrator.wes.domain.model.valueobject.WesTaskId;
 import com.wei.orchestrator.wes.domain.repository.PickingTaskRepository;
 import java.util.List;
 import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -33,8 +35,22 @@ class WesTaskStatusUpdatedEventHandlerTest {
 
     @Mock private PickingTaskRepository pickingTaskRepository;
 
+    @Mock private DomainEventDispatcher domainEventDispatcher;
+
     @InjectMocks private WesTaskStatusUpdatedEventHandler eventHandler;
 
+    @BeforeEach
+    void setUp() {
+        lenient()
+                .doAnswer(
+                        invocation -> {
+                            invocation.<Runnable>getArgument(1).run();
+                            return null;
+                        })
+                .when(domainEventDispatcher)
+                .dispatch(any(), any());
+    }
+
     @Nested
     class handleWesTaskStatusUpdatedTest {
 
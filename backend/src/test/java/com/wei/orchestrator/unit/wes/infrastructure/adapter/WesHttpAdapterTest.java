@@ -6,10 +6,17 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 import com.wei.orchestrator.wes.domain.exception.WesOperationException;
+import com.wei.orchestrator.wes.domain.exception.WesTimeoutException;
 import com.wei.orchestrator.wes.domain.model.valueobject.TaskStatus;
+import com.wei.orchestrator.wes.domain.model.valueobject.WesTaskChanges;
 import com.wei.orchestrator.wes.domain.model.valueobject.WesTaskId;
 import com.wei.orchestrator.wes.infrastructure.adapter.WesHttpAdapter;
+import com.wei.orchestrator.wes.infrastructure.adapter.dto.WesInventoryDto;
+import com.wei.orchestrator.wes.infrastructure.adapter.dto.WesInventoryResponse;
 import com.wei.orchestrator.wes.infrastructure.adapter.dto.WesTaskDto;
+import com.wei.orchestrator.wes.infrastructure.adapter.dto.WesTaskListResponse;
+import java.net.URI;
+import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -17,9 +24,13 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestTemplate;
 
 @ExtendWith(MockitoExtension.class)
@@ -219,6 +230,163 @@ class WesHttpAdapterTest {
         }
     }
 
+    @Nested
+    class PollTaskChangesTest {
+
+        @Test
+        void shouldRequestFullSnapshotWithoutCursor() {
+            WesTaskListResponse body =
+                    createTaskListResponse(
+                            "2026-01-01T10:00:00.000000",
+                            true,
+                            createWesTaskDto("WES-TASK-001", "PENDING"));
+
+            when(restTemplate.getForEntity(
+                            eq(URI.create(WES_BASE_URL + "/api/tasks/poll")),
+                            eq(WesTaskListResponse.class)))
+                    .thenReturn(new ResponseEntity<>(body, HttpStatus.OK));
+
+            WesTaskChanges changes = wesHttpAdapter.pollTaskChanges(null);
+
+            assertTrue(changes.isFullSnapshot());
+            assertEquals("2026-01-01T10:00:00.000000", changes.getCursor());
+            assertEquals(1, changes.getTasks().size());
+            assertEquals("SUBMITTED", changes.getTasks().get(0).getStatus());
+        }
+
+        @Test
+        void shouldRequestChangesSinceCursor() {
+            WesTaskListResponse body =
+                    createTaskListResponse(
+                            "2026-01-01T10:05:00.000000",
+                            false,
+                            createWesTaskDto("WES-TASK-002", "COMPLETED"));
+
+            when(restTemplate.getForEntity(
+                            eq(
+                                    URI.create(
+                                            WES_BASE_URL
+                                                    + "/api/tasks/poll"
+                                                    + "?since=2026-01-01T10:00:00.000000")),
+                            eq(WesTaskListResponse.class)))
+                    .thenReturn(new ResponseEntity<>(body, HttpStatus.OK));
+
+            WesTaskChanges changes =
+                    wesHttpAdapter.pollTaskChanges("2026-01-01T10:00:00.000000");
+
+            assertFalse(changes.isFullSnapshot());
+            assertEquals("2026-01-01T10:05:00.000000", changes.getCursor());
+            assertEquals("COMPLETED", changes.getTasks().get(0).getStatus());
+        }
+
+        @Test
+        void shouldTreatResponseWithoutFullFlagAsSnapshotOnlyWhenNoCursorWasSent() {
+            WesTaskListResponse body =
+                    createTaskListResponse(null, null, createWesTaskDto("WES-TASK-003", "PENDING"));
+
+            when(restTemplate.getForEntity(any(URI.class), eq(WesTaskListResponse.class)))
+                    .thenReturn(new ResponseEntity<>(body, HttpStatus.OK));
+
+            WesTaskChanges changes = wesHttpAdapter.pollTaskChanges(null);
+
+            assertTrue(changes.isFullSnapshot());
+            assertNull(changes.getCursor());
+        }
+
+        @Test
+        void shouldThrowWesOperationExceptionWhenEndpointNotFound() {
+            when(restTemplate.getForEntity(any(URI.class), eq(WesTaskListResponse.class)))
+                    .thenThrow(new HttpClientErrorException(HttpStatus.NOT_FOUND));
+
+            assertThrows(
+                    WesOperationException.class, () -> wesHttpAdapter.pollTaskChanges(null));
+        }
+    }
+
+    @Nested
+    class GetInventoryBySkuTest {
+
+        @Test
+        void shouldFetchInventoryForSkuInWarehouse() {
+            WesInventoryDto dto = new WesInventoryDto();
+            dto.setSku("SKU-001");
+            dto.setWarehouseId("WH-01");
+            dto.setQuantity(10);
+            WesInventoryResponse body = new WesInventoryResponse();
+            body.setInventory(List.of(dto));
+
+            when(restTemplate.getForEntity(
+                            eq(
+                                    URI.create(
+                                            WES_BASE_URL
+                                                    + "/api/inventory/SKU-001"
+                                                    + "?warehouse_id=WH-01")),
+                            eq(WesInventoryResponse.class)))
+                    .thenReturn(new ResponseEntity<>(body, HttpStatus.OK));
+
+            List<WesInventoryDto> inventory = wesHttpAdapter.getInventoryBySku("SKU-001", "WH-01");
+
+            assertEquals(1, inventory.size());
+            assertEquals(10, inventory.get(0).getQuantity().intValue());
+        }
+
+        @Test
+        void shouldReturnEmptyWhenWesHasNoInventoryForSku() {
+            when(restTemplate.getForEntity(any(URI.class), eq(WesInventoryResponse.class)))
+                    .thenThrow(
+                            HttpClientErrorException.create(
+                                    HttpStatus.NOT_FOUND, "Not Found", null, null, null));
+
+            assertTrue(wesHttpAdapter.getInventoryBySku("SKU-404", "WH-01").isEmpty());
+        }
+    }
+
+    @Nested
+    class StreamInventorySnapshotTest {
+
+        @Test
+        void shouldThrowWesOperationExceptionWhenInventoryEndpointNotFound() {
+            when(restTemplate.execute(
+                            eq(WES_BASE_URL + "/api/inventory"),
+                            eq(HttpMethod.GET),
+                            any(RequestCallback.class),
+                            any(ResponseExtractor.class)))
+                    .thenThrow(new HttpClientErrorException(HttpStatus.NOT_FOUND));
+
+            assertThrows(
+                    WesOperationException.class,
+                    () -> wesHttpAdapter.streamInventorySnapshot(dto -> {}));
+        }
+
+        @Test
+        void shouldThrowWesOperationExceptionWhenInventoryArrayIsMissing() {
+            when(restTemplate.execute(
+                            eq(WES_BASE_URL + "/api/inventory"),
+                            eq(HttpMethod.GET),
+                            any(RequestCallback.class),
+                            any(ResponseExtractor.class)))
+                    .thenReturn(null);
+
+            assertThrows(
+                    WesOperationException.class,
+                    () -> wesHttpAdapter.streamInventorySnapshot(dto -> {}));
+        }
+
+        @Test
+        void shouldThrowWesTimeoutExceptionWhenInventoryStreamFails() {
+            when(restTemplate.execute(
+                            eq(WES_BASE_URL + "/api/inventory"),
+                            eq(HttpMethod.GET),
+                            any(RequestCallback.class),
+                            any(ResponseExtractor.class)))
+                    .thenThrow(new ResourceAccessException("Connection reset"));
+
+            assertThrows(
+                    WesTimeoutException.class,
+                    () -> wesHttpAdapter.streamInventorySnapshot(dto -> {}));
+        }
+    }
+
     @Nested
     class StatusMappingRationaleTest {
 
@@ -283,6 +451,16 @@ class WesHttpAdapterTest {
         }
     }
 
+    private WesTaskListResponse createTaskListResponse(
+            String cursor, Boolean full, WesTaskDto... tasks) {
+        WesTaskListResponse response = new WesTaskListResponse();
+        response.setCount(tasks.length);
+        response.setTasks(List.of(tasks));
+        response.setCursor(cursor);
+        response.setFull(full);
+        return response;
+    }
+
     private WesTaskDto createWesTaskDto(String taskId, String status) {
         WesTaskDto dto = new WesTaskDto();
         dto.setTaskId(taskId);
@@ -100,6 +100,38 @@ async function initDatabase() {
     await connection.execute(`CREATE INDEX idx_order_items_order_id ON order_items(order_id)`);
     console.log('Indexes created');
 
+    console.log('Creating order_change_log table...');
+    try {
+      await connection.execute(`
+        CREATE TABLE order_change_log (
+          change_seq NUMBER(19) GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+          order_id VARCHAR2(36) NOT NULL,
+          change_type VARCHAR2(16) NOT NULL,
+          changed_at TIMESTAMP DEFAULT SYSTIMESTAMP NOT NULL
+        )
+      `);
+      console.log('Order_change_log table created');
+    } catch (err) {
+      if (err.errorNum === 955) {
+        console.log('Order_change_log table already exists');
+      } else {
+        throw err;
+      }
+    }
+
+    console.log('Creating order change log trigger...');
+    await connection.execute(`
+      CREATE OR REPLACE TRIGGER trg_orders_change_log
+      AFTER INSERT OR UPDATE OF status ON orders
+      FOR EACH ROW
+      WHEN (NEW.status = 'NEW')
+      BEGIN
+        INSERT INTO order_change_log (order_id, change_type)
+        VALUES (:NEW.order_id, CASE WHEN INSERTING THEN 'INSERT' ELSE 'UPDATE' END);
+      END;
+    `);
+    console.log('Order change log trigger created');
+
     console.log('Database initialization completed successfully!');
 
   } catch (err) {
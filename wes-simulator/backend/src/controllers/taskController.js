@@ -1,5 +1,7 @@
 const Task = require('../models/Task');
 
+const CURSOR_PATTERN = /^\d{4}-\d{2}-\d{2}T\d{2}:\d{2}:\d{2}\.\d{6}$/;
+
 const taskController = {
   async createTask(req, res) {
     try {
@@ -174,14 +176,27 @@ const taskController = {
 
   async pollTasks(req, res) {
     try {
+      const since = req.query.since;
+
+      if (since !== undefined && !CURSOR_PATTERN.test(since)) {
+        return res.status(400).json({
+          error: 'Invalid since cursor',
+          expectedFormat: 'YYYY-MM-DDTHH:MM:SS.ffffff'
+        });
+      }
+
       // Auto-progress tasks first
       await Task.autoProgressTasks();
 
-      // Return all non-completed tasks
-      const tasks = await Task.findAll({});
+      const cursor = await Task.currentCursor();
+
+      // Without a cursor return every task, otherwise only tasks changed since it
+      const tasks = since ? await Task.findChangedSince(since) : await Task.findAll({});
 
       res.json({
         count: tasks.length,
+        cursor,
+        full: !since,
         tasks
       });
     } catch (error) {
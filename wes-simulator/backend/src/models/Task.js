@@ -148,6 +148,46 @@ class Task {
     return result.rows;
   }
 
+  /**
+   * Capture the change-feed cursor (database time) before reading changes,
+   * so rows updated while the read is running are returned again next poll
+   */
+  static async currentCursor() {
+    const result = await db.execute(
+      `SELECT TO_CHAR(CAST(SYSTIMESTAMP AS TIMESTAMP), 'YYYY-MM-DD"T"HH24:MI:SS.FF6') AS feed_cursor FROM dual`,
+      {},
+      { outFormat: db.oracledb.OUT_FORMAT_OBJECT }
+    );
+
+    return result.rows[0].FEED_CURSOR;
+  }
+
+  static async findChangedSince(since) {
+    const sql = `
+      SELECT
+        task_id,
+        task_type,
+        order_id,
+        warehouse_id,
+        priority,
+        status,
+        created_at,
+        updated_at,
+        started_at,
+        estimated_completion_at,
+        completed_at
+      FROM wes_tasks
+      WHERE updated_at >= TO_TIMESTAMP(:since, 'YYYY-MM-DD"T"HH24:MI:SS.FF6')
+      ORDER BY updated_at ASC
+    `;
+
+    const result = await db.execute(sql, { since }, {
+      outFormat: db.oracledb.OUT_FORMAT_OBJECT
+    });
+
+    return result.rows;
+  }
+
   static async findById(taskId) {
     const taskSql = `
       SELECT
@@ -105,6 +105,7 @@ async function initDatabase() {
     console.log('Creating indexes...');
     await connection.execute(`CREATE INDEX idx_tasks_status ON wes_tasks(status)`);
     await connection.execute(`CREATE INDEX idx_tasks_created_at ON wes_tasks(created_at)`);
+    await connection.execute(`CREATE INDEX idx_tasks_updated_at ON wes_tasks(updated_at)`);
     await connection.execute(`CREATE INDEX idx_tasks_priority ON wes_tasks(priority)`);
     await connection.execute(`CREATE INDEX idx_task_items_task_id ON wes_task_items(task_id)`);
     await connection.execute(`CREATE INDEX idx_inventory_sku ON wes_inventory(sku)`);